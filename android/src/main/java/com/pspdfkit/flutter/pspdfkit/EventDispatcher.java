@@ -9,29 +9,78 @@
 
 package com.pspdfkit.flutter.pspdfkit;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.pspdfkit.document.PdfDocument;
+import com.pspdfkit.flutter.pspdfkit.api.PlatformEventBatch;
 import org.jetbrains.annotations.NotNull;
-import java.util.HashMap;
-import io.flutter.plugin.common.MethodChannel;
+
+import java.util.ArrayList;
 
 /**
  * Internal singleton class used to communicate between activities and the PSPDFKit Flutter plugin.
+ * <p>
+ * Events are queued and flushed once per frame as a single {@link PlatformEventBatch}, with the
+ * events in the order they were fired. Two batches are allocated once and take turns: one
+ * collects new events while the other is sent, then it is cleared and reused. Events that must
+ * arrive before the app may be suspended, like the activity pausing, flush the queue right away.
  */
 public class EventDispatcher {
 
+    private static final String EVENT_ACTIVITY_PAUSED = "activityPaused";
+    private static final String EVENT_FRAGMENT_ADDED = "fragmentAdded";
+    private static final String EVENT_DOCUMENT_LOADED = "documentLoaded";
+    private static final String EVENT_INSTANT_SYNC_STARTED = "instantSyncStarted";
+    private static final String EVENT_INSTANT_SYNC_FINISHED = "instantSyncFinished";
+    private static final String EVENT_INSTANT_SYNC_FAILED = "instantSyncFailed";
+    private static final String EVENT_INSTANT_AUTHENTICATION_FINISHED = "instantAuthenticationFinished";
+    private static final String EVENT_INSTANT_AUTHENTICATION_FAILED = "instantAuthenticationFailed";
+
+    /**
+     * No frames are rendered while no window is visible, so queued events are also flushed after
+     * this delay if no frame comes first.
+     */
+    private static final long MAX_FLUSH_DELAY_MS = 100;
+
     @Nullable
     private static EventDispatcher instance;
+
     /**
-     * A channel for sending events from Java to Flutter. This is set as soon as
-     * the plugin is registered.
+     * Sends the event batches to Flutter. This is set as soon as the plugin is registered.
      */
     @Nullable
-    private MethodChannel channel = null;
+    private PlatformEventSender platformEventSender;
+
+    /** The lists of a {@link PlatformEventBatch}, kept to append to them from Java. */
+    private static final class EventBuffer {
+        final ArrayList<String> types = new ArrayList<>();
+        final ArrayList<String> documentIds = new ArrayList<>();
+        final ArrayList<String> details = new ArrayList<>();
+        final PlatformEventBatch batch = new PlatformEventBatch(types, documentIds, details);
+
+        void clear() {
+            types.clear();
+            documentIds.clear();
+            details.clear();
+        }
+    }
 
-    @Nullable
-    private PspdfkitApiCallbacks pspdfkitApiCallbacks;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Guarded by this. Collects the events until the next flush.
+    private EventBuffer pendingEvents = new EventBuffer();
+    // Only used on the main thread while flushing.
+    private EventBuffer sendingEvents = new EventBuffer();
+    private boolean flushScheduled = false;
+
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flushEvents();
+    private final Runnable flushRunnable = this::flushEvents;
+    private final Runnable scheduleFrameRunnable = () ->
+            Choreographer.getInstance().postFrameCallback(frameCallback);
 
     @NonNull
     public static synchronized EventDispatcher getInstance() {
@@ -41,90 +90,98 @@ public class EventDispatcher {
         return instance;
     }
 
-    public void setChannel(@Nullable MethodChannel channel) {
-        this.channel = channel;
-    }
-
-    public void setPspdfkitApiCallbacks(@Nullable PspdfkitApiCallbacks pspdfkitApiCallbacks) {
-        this.pspdfkitApiCallbacks = pspdfkitApiCallbacks;
+    public void setPlatformEventSender(@Nullable PlatformEventSender platformEventSender) {
+        if (platformEventSender == null) {
+            // Deliver what is queued before the engine detaches.
+            flushEvents();
+        }
+        this.platformEventSender = platformEventSender;
     }
 
     public void notifyActivityOnPause() {
-        sendEvent("flutterPdfActivityOnPause");
-
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onActivityPaused();
-        }
+        sendEvent(EVENT_ACTIVITY_PAUSED, null, null);
+        // No more frames may be rendered once the activity is paused.
+        flushEvents();
     }
 
     public void notifyPdfFragmentAdded() {
-        sendEvent("flutterPdfFragmentAdded");
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onFragmentAttached();
-        }
+        sendEvent(EVENT_FRAGMENT_ADDED, null, null);
     }
 
     public void notifyInstantSyncStarted(String documentId) {
-        sendEvent("pspdfkitInstantSyncStarted", documentId);
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onSyncStarted(documentId);
-        }
+        sendEvent(EVENT_INSTANT_SYNC_STARTED, documentId, null);
     }
 
     public void notifyInstantSyncFinished(String documentId) {
-        sendEvent("pspdfkitInstantSyncFinished", documentId);
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onSyncFinished(documentId);
-        }
+        sendEvent(EVENT_INSTANT_SYNC_FINISHED, documentId, null);
     }
 
     public void notifyInstantSyncFailed(String documentId, String error) {
-        sendEvent("pspdfkitInstantSyncFailed",new HashMap<String, String>() {{
-            put("documentId", documentId);
-            put("error", error);
-        }});
-
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onSyncError(documentId, error);
-        }
+        sendEvent(EVENT_INSTANT_SYNC_FAILED, documentId, error);
     }
 
-    public void notifyInstantAuthenticationFinished(String documentId,String validJWT) {
-        sendEvent("pspdfkitInstantAuthenticationFinished", new HashMap<String, String>() {{
-            put("documentId", documentId);
-            put("jwt", validJWT);
-        }});
-
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onAuthenticationFinished(documentId, validJWT);
-        }
+    public void notifyInstantAuthenticationFinished(String documentId, String validJWT) {
+        sendEvent(EVENT_INSTANT_AUTHENTICATION_FINISHED, documentId, validJWT);
     }
 
     public void notifyInstantAuthenticationFailed(String documentId, String error) {
-        sendEvent("pspdfkitInstantAuthenticationFailed", new HashMap<String, String>() {{
-            put("documentId", documentId);
-            put("error", error);
-        }});
+        sendEvent(EVENT_INSTANT_AUTHENTICATION_FAILED, documentId, error);
+    }
 
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onAuthenticationFailed(documentId, error);
-        }
+    public void notifyDocumentLoaded(@NotNull PdfDocument document) {
+        sendEvent(EVENT_DOCUMENT_LOADED, document.getUid(), null);
     }
 
-    private void sendEvent(String eventName) {
-        sendEvent(eventName, null);
+    private void sendEvent(@NonNull String type, @Nullable String documentId, @Nullable String detail) {
+        synchronized (this) {
+            pendingEvents.types.add(type);
+            pendingEvents.documentIds.add(documentId);
+            pendingEvents.details.add(detail);
+            scheduleFlush();
+        }
     }
 
-    private void sendEvent(@NonNull final String method, @Nullable final Object arguments) {
-        if (channel != null) {
-            channel.invokeMethod(method, arguments, null);
+    // Must be called while holding the lock.
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        // Choreographer instances are bound to the thread they are used on.
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            scheduleFrameRunnable.run();
+        } else {
+            mainHandler.post(scheduleFrameRunnable);
         }
+        mainHandler.postDelayed(flushRunnable, MAX_FLUSH_DELAY_MS);
     }
 
-    public void notifyDocumentLoaded(@NotNull PdfDocument document) {
-        sendEvent("pspdfkitDocumentLoaded", document.getUid());
-        if (pspdfkitApiCallbacks != null) {
-            pspdfkitApiCallbacks.onDocumentLoaded(document.getUid());
+    /**
+     * Sends all queued events now instead of with the next frame. Called off the main thread, the
+     * events are sent by the next task of the main thread.
+     */
+    public void flushEvents() {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            mainHandler.postAtFrontOfQueue(flushRunnable);
+            return;
+        }
+        final EventBuffer events;
+        synchronized (this) {
+            if (!flushScheduled) {
+                return;
+            }
+            events = pendingEvents;
+            pendingEvents = sendingEvents;
+            sendingEvents = events;
+            flushScheduled = false;
+        }
+        mainHandler.removeCallbacks(scheduleFrameRunnable);
+        mainHandler.removeCallbacks(flushRunnable);
+        Choreographer.getInstance().removeFrameCallback(frameCallback);
+
+        if (platformEventSender != null) {
+            platformEventSender.send(events.batch);
         }
+        events.clear();
     }
 }
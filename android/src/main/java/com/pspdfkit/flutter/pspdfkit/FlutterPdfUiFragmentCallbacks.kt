@@ -30,6 +30,7 @@ import com.pspdfkit.flutter.pspdfkit.api.BookmarkManagerApi
 import com.pspdfkit.flutter.pspdfkit.document.FlutterPdfDocument
 import com.pspdfkit.flutter.pspdfkit.document.AnnotationManagerImpl
 import com.pspdfkit.flutter.pspdfkit.document.BookmarkManagerImpl
+import com.pspdfkit.flutter.pspdfkit.document.DocumentRegistry
 import com.pspdfkit.flutter.pspdfkit.util.MeasurementHelper
 import com.pspdfkit.listeners.DocumentListener
 import com.pspdfkit.ui.PdfFragment
@@ -104,10 +105,24 @@ class FlutterPdfUiFragmentCallbacks(
 
         // Set up document API for Flutter access FIRST - before sending callbacks
         try {
-            flutterPdfDocument = FlutterPdfDocument(document)
+            // Release the previous document when the view loads a new one
+            flutterPdfDocument?.let { DocumentRegistry.release(it.pdfDocument.uid) }
+            flutterPdfDocument = null
+            bookmarkManager?.dispose()
+
+            val loadedDocument = FlutterPdfDocument(
+                document,
+                binaryMessenger = binaryMessenger,
+                context = pdfFragment?.context?.applicationContext
+            )
+
+            // Register document instance for manager API access, held by this view. Fails if
+            // another view holds a different instance of the same document.
+            DocumentRegistry.register(document.uid, loadedDocument)
+            flutterPdfDocument = loadedDocument
 
-            // Register document instance for AnnotationManager access
-            FlutterPdfDocument.registerDocument(document.uid, flutterPdfDocument!!)
+            // Have the search index ready by the time the user searches
+            flutterPdfDocument?.startSearchIndexing()
 
             // Set up PdfDocumentApi
             PdfDocumentApi.setUp(binaryMessenger, flutterPdfDocument, document.uid)
@@ -192,12 +207,10 @@ class FlutterPdfUiFragmentCallbacks(
                 // Unregister the PdfFragment from the static registry
                 PSPDFKitView.unregisterPdfFragment(viewId)
 
-                // Cleanup document registration
+                // Release the references held by this view and its bookmark manager
                 flutterPdfDocument?.let { doc ->
-                    FlutterPdfDocument.unregisterDocument(doc.pdfDocument.uid)
+                    DocumentRegistry.release(doc.pdfDocument.uid)
                 }
-
-                // Cleanup bookmark manager to dispose RxJava subscriptions
                 bookmarkManager?.dispose()
                 bookmarkManager = null
 
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+package com.pspdfkit.flutter.pspdfkit
+
+import com.pspdfkit.flutter.pspdfkit.api.PlatformEventBatch
+import com.pspdfkit.flutter.pspdfkit.api.PlatformEventCallbacks
+
+/**
+ * Sends the event batches of [EventDispatcher] to the Flutter side. A separate class is used
+ * because the callback methods are not supported by Java.
+ * @param platformEventCallbacks The callbacks to send the batches with.
+ */
+class PlatformEventSender(private val platformEventCallbacks: PlatformEventCallbacks) {
+
+    private companion object {
+        // Shared by all batches, events are fire and forget.
+        val IGNORE_REPLY: (Result<Unit>) -> Unit = {}
+    }
+
+    /**
+     * Sends [batch] on the main thread. The batch is encoded before this method returns, so its
+     * lists can be cleared and reused right after.
+     */
+    fun send(batch: PlatformEventBatch) {
+        platformEventCallbacks.onEvents(batch, IGNORE_REPLY)
+    }
+}
@@ -31,12 +31,14 @@ import com.pspdfkit.flutter.pspdfkit.annotations.FlutterAnnotationPresetConfigur
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationMenuConfigurationData
 import com.pspdfkit.flutter.pspdfkit.api.AndroidPermissionStatus
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingMode
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingScope
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApi
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
 import com.pspdfkit.flutter.pspdfkit.events.FlutterAnalyticsClient
 import com.pspdfkit.flutter.pspdfkit.pdfgeneration.PdfPageAdaptor
 import com.pspdfkit.flutter.pspdfkit.util.DocumentJsonDataProvider
 import com.pspdfkit.flutter.pspdfkit.util.Preconditions
+import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper
 import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper.annotationTypeFromString
 import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper.processModeFromString
 import com.pspdfkit.flutter.pspdfkit.util.addFileSchemeIfMissing
@@ -562,6 +564,32 @@ class PspdfkitApiImpl(private var activityPluginBinding: ActivityPluginBinding?)
             })
     }
 
+    override fun processAnnotationsOnPages(
+        processingMode: AnnotationProcessingMode,
+        destinationPath: String,
+        scopes: List<AnnotationProcessingScope>,
+        callback: (Result<Boolean?>) -> Unit
+    ) {
+        checkNotNull(activityPluginBinding) { "ActivityPluginBinding is null" }
+        val document = Preconditions.requireDocumentNotNull(
+            activityPluginBinding?.activity as PdfActivity, "Pspdfkit.processAnnotationsOnPages()"
+        )
+        disposable = ProcessorHelper.processAnnotationsOnPages(document, processingMode, destinationPath, scopes)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { callback(Result.success(true)) },
+                { t ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "Error", "Error while processing annotations", t.message
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
     override fun importXfdf(xfdfString: String, callback: (Result<Boolean?>) -> Unit) {
         checkNotNull(activityPluginBinding) { "ActivityPluginBinding is null" }
         val document = Preconditions.requireDocumentNotNull(
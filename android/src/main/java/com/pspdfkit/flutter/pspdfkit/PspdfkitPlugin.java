@@ -24,7 +24,7 @@ import com.pspdfkit.document.PdfDocument;
 import com.pspdfkit.flutter.pspdfkit.api.AnalyticsEventsCallback;
 import com.pspdfkit.flutter.pspdfkit.api.HeadlessDocumentApi;
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApi;
-import com.pspdfkit.flutter.pspdfkit.api.NutrientApiCallbacks;
+import com.pspdfkit.flutter.pspdfkit.api.PlatformEventCallbacks;
 import com.pspdfkit.flutter.pspdfkit.document.HeadlessDocumentApiImpl;
 import com.pspdfkit.flutter.pspdfkit.events.FlutterAnalyticsClient;
 import com.pspdfkit.flutter.pspdfkit.util.MeasurementHelper;
@@ -79,7 +79,6 @@ public class PspdfkitPlugin
                 binding.getBinaryMessenger(),
                 "com.nutrient.global"
         );
-        eventDispatcher.setChannel(channel);
         // Register the view factory for the PSPDFKit widget provided by `PSPDFKitViewFactory`.
         binding
                 .getPlatformViewRegistry()
@@ -89,10 +88,10 @@ public class PspdfkitPlugin
                 );
         // Setup the PSPDFKit API.
         NutrientApi.Companion.setUp(binding.getBinaryMessenger(), pspdfkitApi, MESSAGE_CHANNEL_SUFFIX);
-        NutrientApiCallbacks pspdfkitFlutterApiCallbacks = new NutrientApiCallbacks(binding.getBinaryMessenger(), MESSAGE_CHANNEL_SUFFIX);
+        PlatformEventCallbacks platformEventCallbacks = new PlatformEventCallbacks(binding.getBinaryMessenger(), MESSAGE_CHANNEL_SUFFIX);
         AnalyticsEventsCallback callback = new AnalyticsEventsCallback(binding.getBinaryMessenger(), MESSAGE_CHANNEL_SUFFIX);
         pspdfkitApi.setAnalyticsEventClient(new FlutterAnalyticsClient(callback));
-        eventDispatcher.setPspdfkitApiCallbacks(new PspdfkitApiCallbacks(pspdfkitFlutterApiCallbacks));
+        eventDispatcher.setPlatformEventSender(new PlatformEventSender(platformEventCallbacks));
 
         // Setup the HeadlessDocumentApi - requires application context
         headlessDocumentApi = new HeadlessDocumentApiImpl(
@@ -114,7 +113,7 @@ public class PspdfkitPlugin
      */
     @Override
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
-        eventDispatcher.setChannel(null);
+        eventDispatcher.setPlatformEventSender(null);
         if (methodCallHandler != null) {
             methodCallHandler.dispose();
         }
@@ -19,15 +19,19 @@ import com.pspdfkit.flutter.pspdfkit.AnnotationConfigurationAdaptor.Companion.co
 import com.pspdfkit.flutter.pspdfkit.annotations.AnnotationUtils
 import com.pspdfkit.flutter.pspdfkit.annotations.FlutterAnnotationPresetConfiguration
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingMode
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingScope
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationTool
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationType
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldWriteError
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
 import com.pspdfkit.flutter.pspdfkit.api.NutrientEvent
 import com.pspdfkit.flutter.pspdfkit.api.NutrientViewControllerApi
 import com.pspdfkit.flutter.pspdfkit.api.PdfRect
 import com.pspdfkit.flutter.pspdfkit.events.FlutterEventsHelper
+import com.pspdfkit.flutter.pspdfkit.forms.FormValueWriter
 import com.pspdfkit.flutter.pspdfkit.util.DocumentJsonDataProvider
 import com.pspdfkit.flutter.pspdfkit.util.Preconditions.requireNotNullNotEmpty
+import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper
 import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper.annotationTypeFromString
 import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper.processModeFromString
 import com.pspdfkit.flutter.pspdfkit.util.areValidIndexes
@@ -514,6 +518,68 @@ class PspdfkitViewImpl : NutrientViewControllerApi {
             })
     }
 
+    override fun processAnnotationsOnPages(
+        processingMode: AnnotationProcessingMode,
+        destinationPath: String,
+        scopes: List<AnnotationProcessingScope>,
+        callback: (Result<Boolean>) -> Unit
+    ) {
+        val document = requireNotNull(pdfUiFragment?.pdfFragment?.document)
+        val outputPath = File(destinationPath)
+
+        if (outputPath.parentFile?.exists() != true && outputPath.parentFile?.mkdirs() != true) {
+            callback(
+                Result.failure(
+                    NutrientApiError(
+                        "Invalid output path",
+                        "Output path is invalid: $outputPath"
+                    )
+                )
+            )
+            return
+        }
+        disposable = ProcessorHelper.processAnnotationsOnPages(document, processingMode, destinationPath, scopes)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { callback(Result.success(true)) },
+                { t ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "Error while processing annotations",
+                                t.message ?: "",
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun setFormFieldValues(
+        values: Map<String, String>,
+        callback: (Result<List<FormFieldWriteError>>) -> Unit
+    ) {
+        val pdfFragment = requireNotNull(pdfUiFragment?.pdfFragment)
+        val document = requireNotNull(pdfFragment.document)
+        // Leave form editing, so the form editor doesn't follow every field of the batch.
+        pdfFragment.exitCurrentlyActiveMode()
+        // noinspection checkResult
+        FormValueWriter.setValues(document, values)
+            .subscribe(
+                { errors -> callback(Result.success(errors)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "Error while setting form field values",
+                                throwable.message ?: "",
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
     override fun importXfdf(xfdfString: String, callback: (Result<Boolean>) -> Unit) {
         val document = requireNotNull(pdfUiFragment?.pdfFragment?.document)
         val dataProvider = DocumentJsonDataProvider(xfdfString)
@@ -523,18 +523,33 @@ data class FormFieldData (
  */
 data class HeadlessDocumentOpenOptions (
   /** Password for encrypted documents. */
-  val password: String? = null
+  val password: String? = null,
+  /**
+   * Reads a local document file through memory mapping instead of streams,
+   * which speeds up random page access in very large documents. Only applies
+   * to file paths and is currently only supported on Android.
+   */
+  val memoryMapped: Boolean? = null,
+  /**
+   * Data to preload in the background after the document was opened.
+   * Currently only supported on Android.
+   */
+  val warmUp: DocumentWarmUpOptions? = null
 )
  {
   companion object {
     fun fromList(pigeonVar_list: List<Any?>): HeadlessDocumentOpenOptions {
       val password = pigeonVar_list[0] as String?
-      return HeadlessDocumentOpenOptions(password)
+      val memoryMapped = pigeonVar_list[1] as Boolean?
+      val warmUp = pigeonVar_list[2] as DocumentWarmUpOptions?
+      return HeadlessDocumentOpenOptions(password, memoryMapped, warmUp)
     }
   }
   fun toList(): List<Any?> {
     return listOf(
       password,
+      memoryMapped,
+      warmUp,
     )
   }
 }
@@ -850,389 +865,2021 @@ data class Bookmark (
     )
   }
 }
-private open class NutrientApiPigeonCodec : StandardMessageCodec() {
-  override fun readValueOfType(type: Byte, buffer: ByteBuffer): Any? {
-    return when (type) {
-      129.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AndroidPermissionStatus.ofRaw(it.toInt())
-        }
-      }
-      130.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AnnotationType.ofRaw(it.toInt())
-        }
-      }
-      131.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AnnotationTool.ofRaw(it.toInt())
-        }
-      }
-      132.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AnnotationToolVariant.ofRaw(it.toInt())
-        }
-      }
-      133.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AnnotationProcessingMode.ofRaw(it.toInt())
-        }
-      }
-      134.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          DocumentPermissions.ofRaw(it.toInt())
-        }
-      }
-      135.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          PdfVersion.ofRaw(it.toInt())
-        }
-      }
-      136.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          PdfFormFieldTypes.ofRaw(it.toInt())
-        }
-      }
-      137.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          NutrientEvent.ofRaw(it.toInt())
-        }
-      }
-      138.toByte() -> {
-        return (readValue(buffer) as Long?)?.let {
-          AnnotationMenuAction.ofRaw(it.toInt())
-        }
-      }
-      139.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          PdfRect.fromList(it)
-        }
-      }
-      140.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          PageInfo.fromList(it)
-        }
-      }
-      141.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          DocumentSaveOptions.fromList(it)
-        }
-      }
-      142.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          PdfFormOption.fromList(it)
-        }
-      }
-      143.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          FormFieldData.fromList(it)
-        }
-      }
-      144.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          HeadlessDocumentOpenOptions.fromList(it)
-        }
-      }
-      145.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          PointF.fromList(it)
-        }
-      }
-      146.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          AnnotationMenuConfigurationData.fromList(it)
-        }
-      }
-      147.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          AnnotationProperties.fromList(it)
-        }
-      }
-      148.toByte() -> {
-        return (readValue(buffer) as? List<Any?>)?.let {
-          Bookmark.fromList(it)
-        }
-      }
-      else -> super.readValueOfType(type, buffer)
+
+/**
+ * A document and the pages to take from it when merging documents.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentMergeSource (
+  /** Path to the PDF document (file path or content:// URI). */
+  val documentPath: String,
+  /**
+   * Pages to take from the document, e.g. `1-3,5,8-`. Page numbers are
+   * one-based and pages are added in the order listed. All pages when null.
+   */
+  val pageRanges: String? = null,
+  /** Password for encrypted documents. */
+  val password: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentMergeSource {
+      val documentPath = pigeonVar_list[0] as String
+      val pageRanges = pigeonVar_list[1] as String?
+      val password = pigeonVar_list[2] as String?
+      return DocumentMergeSource(documentPath, pageRanges, password)
     }
   }
-  override fun writeValue(stream: ByteArrayOutputStream, value: Any?)   {
-    when (value) {
-      is AndroidPermissionStatus -> {
-        stream.write(129)
-        writeValue(stream, value.raw)
-      }
-      is AnnotationType -> {
-        stream.write(130)
-        writeValue(stream, value.raw)
-      }
-      is AnnotationTool -> {
-        stream.write(131)
-        writeValue(stream, value.raw)
-      }
-      is AnnotationToolVariant -> {
-        stream.write(132)
-        writeValue(stream, value.raw)
-      }
-      is AnnotationProcessingMode -> {
-        stream.write(133)
-        writeValue(stream, value.raw)
-      }
-      is DocumentPermissions -> {
-        stream.write(134)
-        writeValue(stream, value.raw)
-      }
-      is PdfVersion -> {
-        stream.write(135)
-        writeValue(stream, value.raw)
-      }
-      is PdfFormFieldTypes -> {
-        stream.write(136)
-        writeValue(stream, value.raw)
-      }
-      is NutrientEvent -> {
-        stream.write(137)
-        writeValue(stream, value.raw)
-      }
-      is AnnotationMenuAction -> {
-        stream.write(138)
-        writeValue(stream, value.raw)
-      }
-      is PdfRect -> {
-        stream.write(139)
-        writeValue(stream, value.toList())
-      }
-      is PageInfo -> {
-        stream.write(140)
-        writeValue(stream, value.toList())
-      }
-      is DocumentSaveOptions -> {
-        stream.write(141)
-        writeValue(stream, value.toList())
-      }
-      is PdfFormOption -> {
-        stream.write(142)
-        writeValue(stream, value.toList())
-      }
-      is FormFieldData -> {
-        stream.write(143)
-        writeValue(stream, value.toList())
-      }
-      is HeadlessDocumentOpenOptions -> {
-        stream.write(144)
-        writeValue(stream, value.toList())
-      }
-      is PointF -> {
-        stream.write(145)
-        writeValue(stream, value.toList())
-      }
-      is AnnotationMenuConfigurationData -> {
-        stream.write(146)
-        writeValue(stream, value.toList())
-      }
-      is AnnotationProperties -> {
-        stream.write(147)
-        writeValue(stream, value.toList())
-      }
-      is Bookmark -> {
-        stream.write(148)
-        writeValue(stream, value.toList())
-      }
-      else -> super.writeValue(stream, value)
-    }
+  fun toList(): List<Any?> {
+    return listOf(
+      documentPath,
+      pageRanges,
+      password,
+    )
   }
 }
 
+/**
+ * A single output document produced when splitting a document.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentSplitTarget (
+  /** Pages to write to this output, e.g. `1-3,5`. Page numbers are one-based. */
+  val pageRanges: String,
+  /** Path where the output document will be written. */
+  val outputPath: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentSplitTarget {
+      val pageRanges = pigeonVar_list[0] as String
+      val outputPath = pigeonVar_list[1] as String
+      return DocumentSplitTarget(pageRanges, outputPath)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageRanges,
+      outputPath,
+    )
+  }
+}
 
 /**
- * The API for interacting with a PDF document.
+ * Limits annotation processing to a set of pages and annotation types.
  *
- * Generated interface from Pigeon that represents a handler of messages from Flutter.
+ * Generated class from Pigeon that represents data sent in messages.
  */
-interface NutrientApi {
-  fun getFrameworkVersion(callback: (Result<String?>) -> Unit)
-  fun setLicenseKey(licenseKey: String?, callback: (Result<Unit>) -> Unit)
-  fun setLicenseKeys(androidLicenseKey: String?, iOSLicenseKey: String?, webLicenseKey: String?, callback: (Result<Unit>) -> Unit)
-  fun present(document: String, configuration: Map<String, Any>?, callback: (Result<Boolean?>) -> Unit)
-  fun presentInstant(serverUrl: String, jwt: String, configuration: Map<String, Any>?, callback: (Result<Boolean?>) -> Unit)
-  fun setFormFieldValue(value: String, fullyQualifiedName: String, callback: (Result<Boolean?>) -> Unit)
-  fun getFormFieldValue(fullyQualifiedName: String, callback: (Result<String?>) -> Unit)
-  fun applyInstantJson(annotationsJson: String, callback: (Result<Boolean?>) -> Unit)
-  fun exportInstantJson(callback: (Result<String?>) -> Unit)
-  fun addAnnotation(annotation: String, attachment: String?, callback: (Result<Boolean?>) -> Unit)
-  fun removeAnnotation(annotation: String, callback: (Result<Boolean?>) -> Unit)
-  /**
-   * Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-   * The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-   * Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-   */
-  fun getAnnotationsJson(pageIndex: Long, type: String, callback: (Result<String?>) -> Unit)
+data class AnnotationProcessingScope (
+  /** Pages to process, e.g. `1-3,5,8-`. Page numbers are one-based. */
+  val pageRanges: String,
   /**
-   * Returns a JSON string containing all unsaved annotations in the presented document.
-   * The JSON string can be decoded to the appropriate type on the Dart side.
-   * Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+   * Annotation types to process on these pages. All annotation types are
+   * processed when null or when the list contains [AnnotationType.all].
+   * [AnnotationType.none] selects no annotations.
    */
-  fun getAllUnsavedAnnotationsJson(callback: (Result<String?>) -> Unit)
-  fun updateAnnotation(annotation: String, callback: (Result<Unit>) -> Unit)
-  fun processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, callback: (Result<Boolean?>) -> Unit)
-  fun importXfdf(xfdfString: String, callback: (Result<Boolean?>) -> Unit)
-  fun exportXfdf(xfdfPath: String, callback: (Result<Boolean?>) -> Unit)
-  fun save(callback: (Result<Boolean?>) -> Unit)
-  fun setDelayForSyncingLocalChanges(delay: Double, callback: (Result<Boolean?>) -> Unit)
-  fun setListenToServerChanges(listen: Boolean, callback: (Result<Boolean?>) -> Unit)
-  fun syncAnnotations(callback: (Result<Boolean?>) -> Unit)
-  fun checkAndroidWriteExternalStoragePermission(callback: (Result<Boolean?>) -> Unit)
-  fun requestAndroidWriteExternalStoragePermission(callback: (Result<AndroidPermissionStatus>) -> Unit)
-  fun openAndroidSettings(callback: (Result<Unit>) -> Unit)
-  fun setAnnotationPresetConfigurations(configurations: Map<String, Any?>, callback: (Result<Boolean?>) -> Unit)
-  fun getTemporaryDirectory(callback: (Result<String>) -> Unit)
-  fun setAuthorName(name: String, callback: (Result<Unit>) -> Unit)
-  fun getAuthorName(callback: (Result<String>) -> Unit)
+  val types: List<AnnotationType>? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): AnnotationProcessingScope {
+      val pageRanges = pigeonVar_list[0] as String
+      val types = pigeonVar_list[1] as List<AnnotationType>?
+      return AnnotationProcessingScope(pageRanges, types)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageRanges,
+      types,
+    )
+  }
+}
+
+/**
+ * The artifacts to produce with [PdfDocumentApi.exportArtifacts].
+ * An artifact is skipped when its path is null.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentExportRequest (
+  /** Path for a copy of the document with all annotations flattened. */
+  val flattenedPdfPath: String? = null,
+  /** Path for an XFDF file containing the annotations and form fields. */
+  val xfdfPath: String? = null,
+  /** Path for an Instant JSON snapshot of the document changes. */
+  val instantJsonPath: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentExportRequest {
+      val flattenedPdfPath = pigeonVar_list[0] as String?
+      val xfdfPath = pigeonVar_list[1] as String?
+      val instantJsonPath = pigeonVar_list[2] as String?
+      return DocumentExportRequest(flattenedPdfPath, xfdfPath, instantJsonPath)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      flattenedPdfPath,
+      xfdfPath,
+      instantJsonPath,
+    )
+  }
+}
+
+/**
+ * An artifact written by [PdfDocumentApi.exportArtifacts].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentExportResult (
+  /** The kind of artifact: `flattenedPdf`, `xfdf` or `instantJson`. */
+  val artifact: String,
+  /** Path the artifact was written to. */
+  val outputPath: String,
+  /** Time spent writing the artifact, in milliseconds. */
+  val durationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentExportResult {
+      val artifact = pigeonVar_list[0] as String
+      val outputPath = pigeonVar_list[1] as String
+      val durationMs = pigeonVar_list[2] as Long
+      return DocumentExportResult(artifact, outputPath, durationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      artifact,
+      outputPath,
+      durationMs,
+    )
+  }
+}
+
+/**
+ * Describes a pattern based redaction run by [PdfDocumentApi.redactPatterns].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class RedactionRequest (
+  /** Regular expressions to search for, e.g. `\d{3}-\d{2}-\d{4}` for SSNs. */
+  val patterns: List<String>,
+  /** Whether the patterns are case sensitive. Defaults to true. */
+  val caseSensitive: Boolean? = null,
+  /** Pages to scan, e.g. `1-3,5`. Page numbers are one-based. All pages when null. */
+  val pageRanges: String? = null,
   /**
-   * Generate PDF from Images, Template, and Patterns.
-   * [pages]: [NewPage]s to be added to the PDF.
-   * [outputPath]: The path to the output file.
-   * Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
+   * When set, the redactions are applied and the redacted document is written
+   * to this path, leaving the document itself unchanged. Otherwise the
+   * redaction annotations are only added.
    */
-  fun generatePdf(pages: List<Map<String, Any>>, outputPath: String, callback: (Result<String?>) -> Unit)
+  val outputPath: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): RedactionRequest {
+      val patterns = pigeonVar_list[0] as List<String>
+      val caseSensitive = pigeonVar_list[1] as Boolean?
+      val pageRanges = pigeonVar_list[2] as String?
+      val outputPath = pigeonVar_list[3] as String?
+      return RedactionRequest(patterns, caseSensitive, pageRanges, outputPath)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      patterns,
+      caseSensitive,
+      pageRanges,
+      outputPath,
+    )
+  }
+}
+
+/**
+ * Number of redaction matches found on a page.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class RedactionPageResult (
+  /** Zero-based page index. */
+  val pageIndex: Long,
+  /** Number of matches found on the page. */
+  val matchCount: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): RedactionPageResult {
+      val pageIndex = pigeonVar_list[0] as Long
+      val matchCount = pigeonVar_list[1] as Long
+      return RedactionPageResult(pageIndex, matchCount)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageIndex,
+      matchCount,
+    )
+  }
+}
+
+/**
+ * Result of [PdfDocumentApi.redactPatterns].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class RedactionResult (
+  /** Pages that contained at least one match, in page order. */
+  val pages: List<RedactionPageResult>,
+  /** Total number of matches across all pages. */
+  val totalMatches: Long,
+  /** Number of pages that were scanned. */
+  val pagesScanned: Long,
+  /** Total time spent scanning, redacting and writing, in milliseconds. */
+  val durationMs: Long,
+  /** Scan throughput in pages per second, excluding redacting and writing. */
+  val pagesPerSecond: Double
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): RedactionResult {
+      val pages = pigeonVar_list[0] as List<RedactionPageResult>
+      val totalMatches = pigeonVar_list[1] as Long
+      val pagesScanned = pigeonVar_list[2] as Long
+      val durationMs = pigeonVar_list[3] as Long
+      val pagesPerSecond = pigeonVar_list[4] as Double
+      return RedactionResult(pages, totalMatches, pagesScanned, durationMs, pagesPerSecond)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pages,
+      totalMatches,
+      pagesScanned,
+      durationMs,
+      pagesPerSecond,
+    )
+  }
+}
+
+/**
+ * Budget for the pool of resident headless documents. Null values keep the
+ * current setting.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentPoolConfiguration (
+  /** Maximum number of documents kept loaded at the same time. Defaults to 16. */
+  val maxResidentDocuments: Long? = null,
   /**
-   * Generates a PDF from HTML string.
-   *
-   * [html]: The HTML string to be converted to PDF.
-   * [outPutFile]: The path to the output file.
-   * Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
+   * Maximum estimated memory of loaded documents, based on their file size.
+   * Defaults to 256 MB, 0 disables the memory budget.
    */
-  fun generatePdfFromHtmlString(html: String, outPutFile: String, options: Map<String, Any>?, callback: (Result<String?>) -> Unit)
-  fun generatePdfFromHtmlUri(htmlUri: String, outPutFile: String, options: Map<String, Any>?, callback: (Result<String?>) -> Unit)
-  /** Configure Nutrient Analytics events. */
-  fun enableAnalyticsEvents(enable: Boolean)
+  val maxResidentBytes: Long? = null,
   /**
-   * Sets the annotation menu configuration for the global presenter.
-   * This configuration applies to all annotation menus in presented documents.
-   *
-   * @param configuration The annotation menu configuration to apply.
-   * @return True if the configuration was set successfully, false otherwise.
+   * Time after which an unused document is released, in milliseconds.
+   * Defaults to 5 minutes, 0 disables the idle timeout.
    */
-  fun setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, callback: (Result<Boolean?>) -> Unit)
+  val idleTimeoutMs: Long? = null,
+  /**
+   * Time after which an unused document is closed as if
+   * [PdfDocumentApi.closeDocument] was called, in milliseconds. Its ID
+   * becomes invalid. Pinned documents and documents with unsaved changes are
+   * never closed. Defaults to 0, which disables the close timeout.
+   */
+  val closeTimeoutMs: Long? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentPoolConfiguration {
+      val maxResidentDocuments = pigeonVar_list[0] as Long?
+      val maxResidentBytes = pigeonVar_list[1] as Long?
+      val idleTimeoutMs = pigeonVar_list[2] as Long?
+      val closeTimeoutMs = pigeonVar_list[3] as Long?
+      return DocumentPoolConfiguration(maxResidentDocuments, maxResidentBytes, idleTimeoutMs, closeTimeoutMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      maxResidentDocuments,
+      maxResidentBytes,
+      idleTimeoutMs,
+      closeTimeoutMs,
+    )
+  }
+}
 
+/**
+ * Gauges of the pool of headless documents.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentPoolStatistics (
+  /** Number of open headless documents, including released ones. */
+  val registeredDocuments: Long,
+  /** Number of loaded documents. Handles sharing a document count once. */
+  val residentDocuments: Long,
+  /** Number of pinned documents. */
+  val pinnedDocuments: Long,
+  /**
+   * Estimated memory of the loaded documents, based on their file or data
+   * size. Handles sharing a document count once.
+   */
+  val residentBytes: Long,
+  /** Number of handles released to stay within budget or after being idle. */
+  val evictions: Long,
+  /** Number of times a released document was reopened on access. */
+  val reopens: Long,
+  /** Number of documents closed after being unused for the close timeout. */
+  val closes: Long
+)
+ {
   companion object {
-    /** The codec used by NutrientApi. */
-    val codec: MessageCodec<Any?> by lazy {
-      NutrientApiPigeonCodec()
+    fun fromList(pigeonVar_list: List<Any?>): DocumentPoolStatistics {
+      val registeredDocuments = pigeonVar_list[0] as Long
+      val residentDocuments = pigeonVar_list[1] as Long
+      val pinnedDocuments = pigeonVar_list[2] as Long
+      val residentBytes = pigeonVar_list[3] as Long
+      val evictions = pigeonVar_list[4] as Long
+      val reopens = pigeonVar_list[5] as Long
+      val closes = pigeonVar_list[6] as Long
+      return DocumentPoolStatistics(registeredDocuments, residentDocuments, pinnedDocuments, residentBytes, evictions, reopens, closes)
     }
-    /** Sets up an instance of `NutrientApi` to handle messages through the `binaryMessenger`. */
-    @JvmOverloads
-    fun setUp(binaryMessenger: BinaryMessenger, api: NutrientApi?, messageChannelSuffix: String = "") {
-      val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.getFrameworkVersion{ result: Result<String?> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(wrapError(error))
-              } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val licenseKeyArg = args[0] as String?
-            api.setLicenseKey(licenseKeyArg) { result: Result<Unit> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(wrapError(error))
-              } else {
-                reply.reply(wrapResult(null))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val androidLicenseKeyArg = args[0] as String?
-            val iOSLicenseKeyArg = args[1] as String?
-            val webLicenseKeyArg = args[2] as String?
-            api.setLicenseKeys(androidLicenseKeyArg, iOSLicenseKeyArg, webLicenseKeyArg) { result: Result<Unit> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(wrapError(error))
-              } else {
-                reply.reply(wrapResult(null))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.present$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val documentArg = args[0] as String
-            val configurationArg = args[1] as Map<String, Any>?
-            api.present(documentArg, configurationArg) { result: Result<Boolean?> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(wrapError(error))
-              } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val serverUrlArg = args[0] as String
-            val jwtArg = args[1] as String
-            val configurationArg = args[2] as Map<String, Any>?
-            api.presentInstant(serverUrlArg, jwtArg, configurationArg) { result: Result<Boolean?> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(wrapError(error))
-              } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue$separatedMessageChannelSuffix", codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val valueArg = args[0] as String
-            val fullyQualifiedNameArg = args[1] as String
-            api.setFormFieldValue(valueArg, fullyQualifiedNameArg) { result: Result<Boolean?> ->
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      registeredDocuments,
+      residentDocuments,
+      pinnedDocuments,
+      residentBytes,
+      evictions,
+      reopens,
+      closes,
+    )
+  }
+}
+
+/**
+ * Data to preload in the background right after a headless document was
+ * opened, so the first call that needs it does not pay the loading cost.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentWarmUpOptions (
+  /** Preloads the form fields. */
+  val formFields: Boolean? = null,
+  /** Preloads the size, rotation and label of every page. */
+  val pageInfo: Boolean? = null,
+  /** Preloads the document outline and the bookmarks. */
+  val outline: Boolean? = null,
+  /** Preloads the annotations of every page. */
+  val annotations: Boolean? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentWarmUpOptions {
+      val formFields = pigeonVar_list[0] as Boolean?
+      val pageInfo = pigeonVar_list[1] as Boolean?
+      val outline = pigeonVar_list[2] as Boolean?
+      val annotations = pigeonVar_list[3] as Boolean?
+      return DocumentWarmUpOptions(formFields, pageInfo, outline, annotations)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      formFields,
+      pageInfo,
+      outline,
+      annotations,
+    )
+  }
+}
+
+/**
+ * Timing of a single warm-up phase.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class WarmUpPhaseTiming (
+  /** The phase: `formFields`, `pageInfo`, `outline` or `annotations`. */
+  val phase: String,
+  /** Time the phase took, in milliseconds. */
+  val durationMs: Long,
+  /** Error message if the phase failed, null otherwise. */
+  val error: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): WarmUpPhaseTiming {
+      val phase = pigeonVar_list[0] as String
+      val durationMs = pigeonVar_list[1] as Long
+      val error = pigeonVar_list[2] as String?
+      return WarmUpPhaseTiming(phase, durationMs, error)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      phase,
+      durationMs,
+      error,
+    )
+  }
+}
+
+/**
+ * Result of the warm-up requested with [DocumentWarmUpOptions].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentWarmUpResult (
+  /**
+   * The requested phases, in the order formFields, pageInfo, outline,
+   * annotations. Empty if no warm-up was requested.
+   */
+  val phases: List<WarmUpPhaseTiming>,
+  /**
+   * Wall clock time of the whole warm-up, in milliseconds. Phases run
+   * concurrently, so this can be less than the sum of the phases.
+   */
+  val totalDurationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentWarmUpResult {
+      val phases = pigeonVar_list[0] as List<WarmUpPhaseTiming>
+      val totalDurationMs = pigeonVar_list[1] as Long
+      return DocumentWarmUpResult(phases, totalDurationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      phases,
+      totalDurationMs,
+    )
+  }
+}
+
+/**
+ * A document to open with [HeadlessDocumentApi.openDocuments].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentOpenRequest (
+  /** Path to the PDF document (file path or content:// URI). */
+  val documentPath: String,
+  /** Optional settings like password for encrypted documents. */
+  val options: HeadlessDocumentOpenOptions? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentOpenRequest {
+      val documentPath = pigeonVar_list[0] as String
+      val options = pigeonVar_list[1] as HeadlessDocumentOpenOptions?
+      return DocumentOpenRequest(documentPath, options)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      documentPath,
+      options,
+    )
+  }
+}
+
+/**
+ * Outcome of opening one document of [HeadlessDocumentApi.openDocuments].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class DocumentOpenResult (
+  /** Index of the document in the requested list. */
+  val index: Long,
+  /** Path of the requested document. */
+  val documentPath: String,
+  /** Document ID for use with PdfDocumentApi, null if opening failed. */
+  val documentId: String? = null,
+  /** Error code if opening failed, e.g. `InvalidDocumentPath`. */
+  val errorCode: String? = null,
+  /** Error message if opening failed. */
+  val errorMessage: String? = null,
+  /**
+   * Time from starting to load the document until it was registered, in
+   * milliseconds.
+   */
+  val durationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): DocumentOpenResult {
+      val index = pigeonVar_list[0] as Long
+      val documentPath = pigeonVar_list[1] as String
+      val documentId = pigeonVar_list[2] as String?
+      val errorCode = pigeonVar_list[3] as String?
+      val errorMessage = pigeonVar_list[4] as String?
+      val durationMs = pigeonVar_list[5] as Long
+      return DocumentOpenResult(index, documentPath, documentId, errorCode, errorMessage, durationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      index,
+      documentPath,
+      documentId,
+      errorCode,
+      errorMessage,
+      durationMs,
+    )
+  }
+}
+
+/**
+ * Options for [PdfDocumentApi.renderPage].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class PageRenderOptions (
+  /** Image format: `png`, `jpeg` or `webp`. Defaults to `png`. */
+  val format: String? = null,
+  /** Compression quality from 0 to 100 for `jpeg` and `webp`. Defaults to 90. */
+  val quality: Long? = null,
+  /** Writes the image to this path instead of returning its bytes. */
+  val outputPath: String? = null,
+  /**
+   * Writes the image to a temporary file in the app cache directory instead
+   * of returning its bytes.
+   * Ignored if [outputPath] is set.
+   */
+  val asFile: Boolean? = null,
+  /** Whether annotations are rendered. Defaults to true. */
+  val renderAnnotations: Boolean? = null,
+  /** Page background color as ARGB integer. Defaults to the paper color. */
+  val backgroundColor: Long? = null,
+  /**
+   * Whether the rendered page may be served from and stored in the in-memory
+   * page cache. Defaults to true.
+   */
+  val useCache: Boolean? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): PageRenderOptions {
+      val format = pigeonVar_list[0] as String?
+      val quality = pigeonVar_list[1] as Long?
+      val outputPath = pigeonVar_list[2] as String?
+      val asFile = pigeonVar_list[3] as Boolean?
+      val renderAnnotations = pigeonVar_list[4] as Boolean?
+      val backgroundColor = pigeonVar_list[5] as Long?
+      val useCache = pigeonVar_list[6] as Boolean?
+      return PageRenderOptions(format, quality, outputPath, asFile, renderAnnotations, backgroundColor, useCache)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      format,
+      quality,
+      outputPath,
+      asFile,
+      renderAnnotations,
+      backgroundColor,
+      useCache,
+    )
+  }
+}
+
+/**
+ * A page image rendered by [PdfDocumentApi.renderPage].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class RenderedPage (
+  /** Zero-based index of the rendered page. */
+  val pageIndex: Long,
+  /** Width of the image in pixels. */
+  val width: Long,
+  /** Height of the image in pixels. */
+  val height: Long,
+  /** Image format of the encoded image. */
+  val format: String,
+  /** The encoded image, null if it was written to a file. */
+  val imageData: ByteArray? = null,
+  /** Path of the image file, null if the image bytes are returned. */
+  val filePath: String? = null,
+  /** Whether the page was served from the page cache without rendering. */
+  val fromCache: Boolean,
+  /** Time to render and encode the page, in milliseconds. */
+  val durationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): RenderedPage {
+      val pageIndex = pigeonVar_list[0] as Long
+      val width = pigeonVar_list[1] as Long
+      val height = pigeonVar_list[2] as Long
+      val format = pigeonVar_list[3] as String
+      val imageData = pigeonVar_list[4] as ByteArray?
+      val filePath = pigeonVar_list[5] as String?
+      val fromCache = pigeonVar_list[6] as Boolean
+      val durationMs = pigeonVar_list[7] as Long
+      return RenderedPage(pageIndex, width, height, format, imageData, filePath, fromCache, durationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageIndex,
+      width,
+      height,
+      format,
+      imageData,
+      filePath,
+      fromCache,
+      durationMs,
+    )
+  }
+}
+
+/**
+ * A page thumbnail from the thumbnail cache.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class ThumbnailResult (
+  /** Zero-based index of the page. */
+  val pageIndex: Long,
+  /**
+   * Path of the PNG image in the thumbnail cache. The file may be deleted when
+   * the cache is trimmed, copy it to keep it.
+   */
+  val filePath: String,
+  /** Width of the thumbnail in pixels. */
+  val width: Long,
+  /** Height of the thumbnail in pixels. */
+  val height: Long,
+  /** Whether the thumbnail was already cached on disk. */
+  val fromCache: Boolean
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): ThumbnailResult {
+      val pageIndex = pigeonVar_list[0] as Long
+      val filePath = pigeonVar_list[1] as String
+      val width = pigeonVar_list[2] as Long
+      val height = pigeonVar_list[3] as Long
+      val fromCache = pigeonVar_list[4] as Boolean
+      return ThumbnailResult(pageIndex, filePath, width, height, fromCache)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageIndex,
+      filePath,
+      width,
+      height,
+      fromCache,
+    )
+  }
+}
+
+/**
+ * The text of one page.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class PageText (
+  /** Zero-based index of the page. */
+  val pageIndex: Long,
+  /** The extracted text, in reading order. */
+  val text: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): PageText {
+      val pageIndex = pigeonVar_list[0] as Long
+      val text = pigeonVar_list[1] as String
+      return PageText(pageIndex, text)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageIndex,
+      text,
+    )
+  }
+}
+
+/**
+ * A group of consecutive pages sent by [PdfDocumentApi.extractAllText].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class PageTextChunk (
+  /** Zero-based index of the chunk. */
+  val chunkIndex: Long,
+  /** The pages of the chunk, in page order. */
+  val pages: List<PageText>
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): PageTextChunk {
+      val chunkIndex = pigeonVar_list[0] as Long
+      val pages = pigeonVar_list[1] as List<PageText>
+      return PageTextChunk(chunkIndex, pages)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      chunkIndex,
+      pages,
+    )
+  }
+}
+
+/**
+ * Totals of a finished [PdfDocumentApi.extractAllText] run.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class TextExtractionSummary (
+  /** Number of pages extracted. */
+  val pageCount: Long,
+  /** Number of chunks sent. */
+  val chunkCount: Long,
+  /** Total number of characters extracted. */
+  val characterCount: Long,
+  /** Time the extraction took, in milliseconds. */
+  val durationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): TextExtractionSummary {
+      val pageCount = pigeonVar_list[0] as Long
+      val chunkCount = pigeonVar_list[1] as Long
+      val characterCount = pigeonVar_list[2] as Long
+      val durationMs = pigeonVar_list[3] as Long
+      return TextExtractionSummary(pageCount, chunkCount, characterCount, durationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageCount,
+      chunkCount,
+      characterCount,
+      durationMs,
+    )
+  }
+}
+
+/**
+ * Options for [PdfDocumentApi.searchText].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class TextSearchOptions (
+  /** Whether letter case must match. Defaults to false. */
+  val caseSensitive: Boolean? = null,
+  /** Stops the search after this many hits. Unlimited by default. */
+  val maxResults: Long? = null,
+  /**
+   * Number of characters before and after a hit included in its preview.
+   * Defaults to 40.
+   */
+  val contextLength: Long? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): TextSearchOptions {
+      val caseSensitive = pigeonVar_list[0] as Boolean?
+      val maxResults = pigeonVar_list[1] as Long?
+      val contextLength = pigeonVar_list[2] as Long?
+      return TextSearchOptions(caseSensitive, maxResults, contextLength)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      caseSensitive,
+      maxResults,
+      contextLength,
+    )
+  }
+}
+
+/**
+ * One occurrence of the search query.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class TextSearchHit (
+  /** Offset of the hit in the page text, see [PdfDocumentApi.getPageText]. */
+  val offset: Long,
+  /** Length of the hit in characters. */
+  val length: Long,
+  /** The hit and the text around it, with line breaks replaced by spaces. */
+  val preview: String,
+  /** Offset of the hit in [preview]. */
+  val previewOffset: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): TextSearchHit {
+      val offset = pigeonVar_list[0] as Long
+      val length = pigeonVar_list[1] as Long
+      val preview = pigeonVar_list[2] as String
+      val previewOffset = pigeonVar_list[3] as Long
+      return TextSearchHit(offset, length, preview, previewOffset)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      offset,
+      length,
+      preview,
+      previewOffset,
+    )
+  }
+}
+
+/**
+ * The hits of [PdfDocumentApi.searchText] on one page.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class TextSearchPageResult (
+  /** Zero-based index of the page. */
+  val pageIndex: Long,
+  /** The hits on the page, in reading order. */
+  val hits: List<TextSearchHit>
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): TextSearchPageResult {
+      val pageIndex = pigeonVar_list[0] as Long
+      val hits = pigeonVar_list[1] as List<TextSearchHit>
+      return TextSearchPageResult(pageIndex, hits)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      pageIndex,
+      hits,
+    )
+  }
+}
+
+/**
+ * Totals of a finished [PdfDocumentApi.searchText] run.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class TextSearchSummary (
+  /** Number of hits found. */
+  val hitCount: Long,
+  /** Number of pages with hits. */
+  val pageCount: Long,
+  /** Whether hits were left out because of [TextSearchOptions.maxResults]. */
+  val truncated: Boolean,
+  /**
+   * Time the search took, including building the index if needed, in
+   * milliseconds.
+   */
+  val durationMs: Long
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): TextSearchSummary {
+      val hitCount = pigeonVar_list[0] as Long
+      val pageCount = pigeonVar_list[1] as Long
+      val truncated = pigeonVar_list[2] as Boolean
+      val durationMs = pigeonVar_list[3] as Long
+      return TextSearchSummary(hitCount, pageCount, truncated, durationMs)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      hitCount,
+      pageCount,
+      truncated,
+      durationMs,
+    )
+  }
+}
+
+/**
+ * A form field value that could not be set by a batch write.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormFieldWriteError (
+  /** Fully qualified name of the field. */
+  val fullyQualifiedName: String,
+  /** Error code, e.g. `FormFieldNotFound` or `InvalidValue`. */
+  val errorCode: String,
+  /** Description of the error. */
+  val message: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormFieldWriteError {
+      val fullyQualifiedName = pigeonVar_list[0] as String
+      val errorCode = pigeonVar_list[1] as String
+      val message = pigeonVar_list[2] as String
+      return FormFieldWriteError(fullyQualifiedName, errorCode, message)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fullyQualifiedName,
+      errorCode,
+      message,
+    )
+  }
+}
+
+/**
+ * The typed value of a form field.
+ *
+ * Only the members that apply to [type] are set.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormFieldValue (
+  /** Fully qualified name of the field. */
+  val fullyQualifiedName: String,
+  /** Type of the field. */
+  val type: PdfFormFieldTypes,
+  /** Text of a text field, or the custom text of an editable combo box. */
+  val text: String? = null,
+  /**
+   * Whether a checkbox is checked, or whether any button of a radio group is
+   * selected.
+   */
+  val isSelected: Boolean? = null,
+  /**
+   * Selected option indexes of a list or combo box, or the index of the
+   * selected button of a radio group.
+   */
+  val selectedIndexes: List<Long>? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormFieldValue {
+      val fullyQualifiedName = pigeonVar_list[0] as String
+      val type = pigeonVar_list[1] as PdfFormFieldTypes
+      val text = pigeonVar_list[2] as String?
+      val isSelected = pigeonVar_list[3] as Boolean?
+      val selectedIndexes = pigeonVar_list[4] as List<Long>?
+      return FormFieldValue(fullyQualifiedName, type, text, isSelected, selectedIndexes)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fullyQualifiedName,
+      type,
+      text,
+      isSelected,
+      selectedIndexes,
+    )
+  }
+}
+
+/**
+ * Describes a mail merge run with [HeadlessDocumentApi.mailMerge].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class MailMergeRequest (
+  /** Path to the PDF form used as template (file path or content:// URI). */
+  val templatePath: String,
+  /** Password of the template, if it is encrypted. */
+  val templatePassword: String? = null,
+  /**
+   * Path to the dataset, a CSV file with a header row or a JSON array of
+   * objects. Column names and object keys are fully qualified form field names.
+   */
+  val dataPath: String,
+  /**
+   * Format of the dataset, `csv` or `json`. Inferred from the extension of
+   * [dataPath] when null.
+   */
+  val dataFormat: String? = null,
+  /** Directory where the filled documents are written. Created if needed. */
+  val outputDirectory: String,
+  /**
+   * Name of each output file. `{row}` is replaced by the one-based row number
+   * and `{<column>}` by the value of that column. `row-{row}.pdf` when null.
+   */
+  val fileNamePattern: String? = null,
+  /** Whether to flatten the form fields of the outputs. */
+  val flatten: Boolean? = null,
+  /** Maximum number of rows processed at the same time. 4 when null. */
+  val maxConcurrency: Long? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): MailMergeRequest {
+      val templatePath = pigeonVar_list[0] as String
+      val templatePassword = pigeonVar_list[1] as String?
+      val dataPath = pigeonVar_list[2] as String
+      val dataFormat = pigeonVar_list[3] as String?
+      val outputDirectory = pigeonVar_list[4] as String
+      val fileNamePattern = pigeonVar_list[5] as String?
+      val flatten = pigeonVar_list[6] as Boolean?
+      val maxConcurrency = pigeonVar_list[7] as Long?
+      return MailMergeRequest(templatePath, templatePassword, dataPath, dataFormat, outputDirectory, fileNamePattern, flatten, maxConcurrency)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      templatePath,
+      templatePassword,
+      dataPath,
+      dataFormat,
+      outputDirectory,
+      fileNamePattern,
+      flatten,
+      maxConcurrency,
+    )
+  }
+}
+
+/**
+ * A dataset row that could not be written by a mail merge.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class MailMergeRowError (
+  /** Zero-based index of the row in the dataset, not counting the CSV header. */
+  val rowIndex: Long,
+  /** Error code, e.g. `InvalidValue` or `MailMergeError`. */
+  val errorCode: String,
+  /** Description of the error. */
+  val message: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): MailMergeRowError {
+      val rowIndex = pigeonVar_list[0] as Long
+      val errorCode = pigeonVar_list[1] as String
+      val message = pigeonVar_list[2] as String
+      return MailMergeRowError(rowIndex, errorCode, message)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      rowIndex,
+      errorCode,
+      message,
+    )
+  }
+}
+
+/**
+ * Outcome of [HeadlessDocumentApi.mailMerge].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class MailMergeResult (
+  /** Number of rows in the dataset. */
+  val rowCount: Long,
+  /** Path of the document written for each row, null for failed rows. */
+  val outputPaths: List<String?>,
+  /** Rows that failed, in row order. */
+  val errors: List<MailMergeRowError>,
+  /** Duration of the whole run in milliseconds. */
+  val durationMs: Long,
+  /** Number of rows processed per second. */
+  val rowsPerSecond: Double
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): MailMergeResult {
+      val rowCount = pigeonVar_list[0] as Long
+      val outputPaths = pigeonVar_list[1] as List<String?>
+      val errors = pigeonVar_list[2] as List<MailMergeRowError>
+      val durationMs = pigeonVar_list[3] as Long
+      val rowsPerSecond = pigeonVar_list[4] as Double
+      return MailMergeResult(rowCount, outputPaths, errors, durationMs, rowsPerSecond)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      rowCount,
+      outputPaths,
+      errors,
+      durationMs,
+      rowsPerSecond,
+    )
+  }
+}
+
+/**
+ * A validation rule for one form field, see [PdfDocumentApi.setFormValidationRules].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormValidationRule (
+  /** Fully qualified name of the validated field. */
+  val fullyQualifiedName: String,
+  /** Kind of rule: `required`, `pattern`, `range` or `equals`. */
+  val ruleType: String,
+  /** Regular expression the whole value must match, for `pattern` rules. */
+  val pattern: String? = null,
+  /** Smallest allowed number, for `range` rules. */
+  val minimum: Double? = null,
+  /** Largest allowed number, for `range` rules. */
+  val maximum: Double? = null,
+  /**
+   * Fully qualified name of the field the value must equal, for `equals`
+   * rules.
+   */
+  val otherFieldName: String? = null,
+  /**
+   * Message reported when the rule is violated. A default message is used
+   * when null.
+   */
+  val message: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormValidationRule {
+      val fullyQualifiedName = pigeonVar_list[0] as String
+      val ruleType = pigeonVar_list[1] as String
+      val pattern = pigeonVar_list[2] as String?
+      val minimum = pigeonVar_list[3] as Double?
+      val maximum = pigeonVar_list[4] as Double?
+      val otherFieldName = pigeonVar_list[5] as String?
+      val message = pigeonVar_list[6] as String?
+      return FormValidationRule(fullyQualifiedName, ruleType, pattern, minimum, maximum, otherFieldName, message)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fullyQualifiedName,
+      ruleType,
+      pattern,
+      minimum,
+      maximum,
+      otherFieldName,
+      message,
+    )
+  }
+}
+
+/**
+ * A violated [FormValidationRule].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormValidationViolation (
+  /** Fully qualified name of the invalid field. */
+  val fullyQualifiedName: String,
+  /** Kind of the violated rule. */
+  val ruleType: String,
+  /** Message of the violated rule. */
+  val message: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormValidationViolation {
+      val fullyQualifiedName = pigeonVar_list[0] as String
+      val ruleType = pigeonVar_list[1] as String
+      val message = pigeonVar_list[2] as String
+      return FormValidationViolation(fullyQualifiedName, ruleType, message)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fullyQualifiedName,
+      ruleType,
+      message,
+    )
+  }
+}
+
+/**
+ * Progress of a form data import or export, sent after every chunk.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormDataTransferProgress (
+  /** Number of fields processed so far. */
+  val fieldCount: Long,
+  /** Number of fields that could not be imported so far. */
+  val errorCount: Long,
+  /** Time since the transfer started, in milliseconds. */
+  val elapsedMs: Long,
+  /** Fields processed per second so far. */
+  val fieldsPerSecond: Double
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormDataTransferProgress {
+      val fieldCount = pigeonVar_list[0] as Long
+      val errorCount = pigeonVar_list[1] as Long
+      val elapsedMs = pigeonVar_list[2] as Long
+      val fieldsPerSecond = pigeonVar_list[3] as Double
+      return FormDataTransferProgress(fieldCount, errorCount, elapsedMs, fieldsPerSecond)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fieldCount,
+      errorCount,
+      elapsedMs,
+      fieldsPerSecond,
+    )
+  }
+}
+
+/**
+ * Outcome of [PdfDocumentApi.importFormData] and
+ * [PdfDocumentApi.exportFormData].
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class FormDataTransferResult (
+  /** Number of fields that were imported or exported, including failed ones. */
+  val fieldCount: Long,
+  /** The fields that could not be imported. Always empty for exports. */
+  val errors: List<FormFieldWriteError>,
+  /** Duration of the whole transfer, in milliseconds. */
+  val durationMs: Long,
+  /** Fields processed per second. */
+  val fieldsPerSecond: Double
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): FormDataTransferResult {
+      val fieldCount = pigeonVar_list[0] as Long
+      val errors = pigeonVar_list[1] as List<FormFieldWriteError>
+      val durationMs = pigeonVar_list[2] as Long
+      val fieldsPerSecond = pigeonVar_list[3] as Double
+      return FormDataTransferResult(fieldCount, errors, durationMs, fieldsPerSecond)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      fieldCount,
+      errors,
+      durationMs,
+      fieldsPerSecond,
+    )
+  }
+}
+
+/**
+ * Events of native PDF activities and Instant documents, in firing order.
+ *
+ * The events are stored column by column, the i-th event is described by
+ * the i-th entry of every list, so the sender can reuse the same lists for
+ * every batch.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class PlatformEventBatch (
+  /**
+   * Kind of every event: `activityPaused`, `fragmentAdded`,
+   * `documentLoaded`, `instantSyncStarted`, `instantSyncFinished`,
+   * `instantSyncFailed`, `instantAuthenticationFinished` or
+   * `instantAuthenticationFailed`.
+   */
+  val types: List<String>,
+  /** Document ID of every event, null for activity and fragment events. */
+  val documentIds: List<String?>,
+  /**
+   * Error message of failure events and JWT of
+   * `instantAuthenticationFinished` events, null for all other events.
+   */
+  val details: List<String?>
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): PlatformEventBatch {
+      val types = pigeonVar_list[0] as List<String>
+      val documentIds = pigeonVar_list[1] as List<String?>
+      val details = pigeonVar_list[2] as List<String?>
+      return PlatformEventBatch(types, documentIds, details)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      types,
+      documentIds,
+      details,
+    )
+  }
+}
+private open class NutrientApiPigeonCodec : StandardMessageCodec() {
+  override fun readValueOfType(type: Byte, buffer: ByteBuffer): Any? {
+    return when (type) {
+      129.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AndroidPermissionStatus.ofRaw(it.toInt())
+        }
+      }
+      130.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AnnotationType.ofRaw(it.toInt())
+        }
+      }
+      131.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AnnotationTool.ofRaw(it.toInt())
+        }
+      }
+      132.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AnnotationToolVariant.ofRaw(it.toInt())
+        }
+      }
+      133.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AnnotationProcessingMode.ofRaw(it.toInt())
+        }
+      }
+      134.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          DocumentPermissions.ofRaw(it.toInt())
+        }
+      }
+      135.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          PdfVersion.ofRaw(it.toInt())
+        }
+      }
+      136.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          PdfFormFieldTypes.ofRaw(it.toInt())
+        }
+      }
+      137.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          NutrientEvent.ofRaw(it.toInt())
+        }
+      }
+      138.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          AnnotationMenuAction.ofRaw(it.toInt())
+        }
+      }
+      139.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PdfRect.fromList(it)
+        }
+      }
+      140.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PageInfo.fromList(it)
+        }
+      }
+      141.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentSaveOptions.fromList(it)
+        }
+      }
+      142.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PdfFormOption.fromList(it)
+        }
+      }
+      143.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormFieldData.fromList(it)
+        }
+      }
+      144.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          HeadlessDocumentOpenOptions.fromList(it)
+        }
+      }
+      145.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PointF.fromList(it)
+        }
+      }
+      146.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          AnnotationMenuConfigurationData.fromList(it)
+        }
+      }
+      147.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          AnnotationProperties.fromList(it)
+        }
+      }
+      148.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          Bookmark.fromList(it)
+        }
+      }
+      149.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentMergeSource.fromList(it)
+        }
+      }
+      150.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentSplitTarget.fromList(it)
+        }
+      }
+      151.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          AnnotationProcessingScope.fromList(it)
+        }
+      }
+      152.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentExportRequest.fromList(it)
+        }
+      }
+      153.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentExportResult.fromList(it)
+        }
+      }
+      154.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          RedactionRequest.fromList(it)
+        }
+      }
+      155.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          RedactionPageResult.fromList(it)
+        }
+      }
+      156.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          RedactionResult.fromList(it)
+        }
+      }
+      157.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentPoolConfiguration.fromList(it)
+        }
+      }
+      158.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentPoolStatistics.fromList(it)
+        }
+      }
+      159.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentWarmUpOptions.fromList(it)
+        }
+      }
+      160.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          WarmUpPhaseTiming.fromList(it)
+        }
+      }
+      161.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentWarmUpResult.fromList(it)
+        }
+      }
+      162.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentOpenRequest.fromList(it)
+        }
+      }
+      163.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          DocumentOpenResult.fromList(it)
+        }
+      }
+      164.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PageRenderOptions.fromList(it)
+        }
+      }
+      165.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          RenderedPage.fromList(it)
+        }
+      }
+      166.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          ThumbnailResult.fromList(it)
+        }
+      }
+      167.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PageText.fromList(it)
+        }
+      }
+      168.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PageTextChunk.fromList(it)
+        }
+      }
+      169.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          TextExtractionSummary.fromList(it)
+        }
+      }
+      170.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          TextSearchOptions.fromList(it)
+        }
+      }
+      171.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          TextSearchHit.fromList(it)
+        }
+      }
+      172.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          TextSearchPageResult.fromList(it)
+        }
+      }
+      173.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          TextSearchSummary.fromList(it)
+        }
+      }
+      174.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormFieldWriteError.fromList(it)
+        }
+      }
+      175.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormFieldValue.fromList(it)
+        }
+      }
+      176.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          MailMergeRequest.fromList(it)
+        }
+      }
+      177.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          MailMergeRowError.fromList(it)
+        }
+      }
+      178.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          MailMergeResult.fromList(it)
+        }
+      }
+      179.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormValidationRule.fromList(it)
+        }
+      }
+      180.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormValidationViolation.fromList(it)
+        }
+      }
+      181.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormDataTransferProgress.fromList(it)
+        }
+      }
+      182.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          FormDataTransferResult.fromList(it)
+        }
+      }
+      183.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          PlatformEventBatch.fromList(it)
+        }
+      }
+      else -> super.readValueOfType(type, buffer)
+    }
+  }
+  override fun writeValue(stream: ByteArrayOutputStream, value: Any?)   {
+    when (value) {
+      is AndroidPermissionStatus -> {
+        stream.write(129)
+        writeValue(stream, value.raw)
+      }
+      is AnnotationType -> {
+        stream.write(130)
+        writeValue(stream, value.raw)
+      }
+      is AnnotationTool -> {
+        stream.write(131)
+        writeValue(stream, value.raw)
+      }
+      is AnnotationToolVariant -> {
+        stream.write(132)
+        writeValue(stream, value.raw)
+      }
+      is AnnotationProcessingMode -> {
+        stream.write(133)
+        writeValue(stream, value.raw)
+      }
+      is DocumentPermissions -> {
+        stream.write(134)
+        writeValue(stream, value.raw)
+      }
+      is PdfVersion -> {
+        stream.write(135)
+        writeValue(stream, value.raw)
+      }
+      is PdfFormFieldTypes -> {
+        stream.write(136)
+        writeValue(stream, value.raw)
+      }
+      is NutrientEvent -> {
+        stream.write(137)
+        writeValue(stream, value.raw)
+      }
+      is AnnotationMenuAction -> {
+        stream.write(138)
+        writeValue(stream, value.raw)
+      }
+      is PdfRect -> {
+        stream.write(139)
+        writeValue(stream, value.toList())
+      }
+      is PageInfo -> {
+        stream.write(140)
+        writeValue(stream, value.toList())
+      }
+      is DocumentSaveOptions -> {
+        stream.write(141)
+        writeValue(stream, value.toList())
+      }
+      is PdfFormOption -> {
+        stream.write(142)
+        writeValue(stream, value.toList())
+      }
+      is FormFieldData -> {
+        stream.write(143)
+        writeValue(stream, value.toList())
+      }
+      is HeadlessDocumentOpenOptions -> {
+        stream.write(144)
+        writeValue(stream, value.toList())
+      }
+      is PointF -> {
+        stream.write(145)
+        writeValue(stream, value.toList())
+      }
+      is AnnotationMenuConfigurationData -> {
+        stream.write(146)
+        writeValue(stream, value.toList())
+      }
+      is AnnotationProperties -> {
+        stream.write(147)
+        writeValue(stream, value.toList())
+      }
+      is Bookmark -> {
+        stream.write(148)
+        writeValue(stream, value.toList())
+      }
+      is DocumentMergeSource -> {
+        stream.write(149)
+        writeValue(stream, value.toList())
+      }
+      is DocumentSplitTarget -> {
+        stream.write(150)
+        writeValue(stream, value.toList())
+      }
+      is AnnotationProcessingScope -> {
+        stream.write(151)
+        writeValue(stream, value.toList())
+      }
+      is DocumentExportRequest -> {
+        stream.write(152)
+        writeValue(stream, value.toList())
+      }
+      is DocumentExportResult -> {
+        stream.write(153)
+        writeValue(stream, value.toList())
+      }
+      is RedactionRequest -> {
+        stream.write(154)
+        writeValue(stream, value.toList())
+      }
+      is RedactionPageResult -> {
+        stream.write(155)
+        writeValue(stream, value.toList())
+      }
+      is RedactionResult -> {
+        stream.write(156)
+        writeValue(stream, value.toList())
+      }
+      is DocumentPoolConfiguration -> {
+        stream.write(157)
+        writeValue(stream, value.toList())
+      }
+      is DocumentPoolStatistics -> {
+        stream.write(158)
+        writeValue(stream, value.toList())
+      }
+      is DocumentWarmUpOptions -> {
+        stream.write(159)
+        writeValue(stream, value.toList())
+      }
+      is WarmUpPhaseTiming -> {
+        stream.write(160)
+        writeValue(stream, value.toList())
+      }
+      is DocumentWarmUpResult -> {
+        stream.write(161)
+        writeValue(stream, value.toList())
+      }
+      is DocumentOpenRequest -> {
+        stream.write(162)
+        writeValue(stream, value.toList())
+      }
+      is DocumentOpenResult -> {
+        stream.write(163)
+        writeValue(stream, value.toList())
+      }
+      is PageRenderOptions -> {
+        stream.write(164)
+        writeValue(stream, value.toList())
+      }
+      is RenderedPage -> {
+        stream.write(165)
+        writeValue(stream, value.toList())
+      }
+      is ThumbnailResult -> {
+        stream.write(166)
+        writeValue(stream, value.toList())
+      }
+      is PageText -> {
+        stream.write(167)
+        writeValue(stream, value.toList())
+      }
+      is PageTextChunk -> {
+        stream.write(168)
+        writeValue(stream, value.toList())
+      }
+      is TextExtractionSummary -> {
+        stream.write(169)
+        writeValue(stream, value.toList())
+      }
+      is TextSearchOptions -> {
+        stream.write(170)
+        writeValue(stream, value.toList())
+      }
+      is TextSearchHit -> {
+        stream.write(171)
+        writeValue(stream, value.toList())
+      }
+      is TextSearchPageResult -> {
+        stream.write(172)
+        writeValue(stream, value.toList())
+      }
+      is TextSearchSummary -> {
+        stream.write(173)
+        writeValue(stream, value.toList())
+      }
+      is FormFieldWriteError -> {
+        stream.write(174)
+        writeValue(stream, value.toList())
+      }
+      is FormFieldValue -> {
+        stream.write(175)
+        writeValue(stream, value.toList())
+      }
+      is MailMergeRequest -> {
+        stream.write(176)
+        writeValue(stream, value.toList())
+      }
+      is MailMergeRowError -> {
+        stream.write(177)
+        writeValue(stream, value.toList())
+      }
+      is MailMergeResult -> {
+        stream.write(178)
+        writeValue(stream, value.toList())
+      }
+      is FormValidationRule -> {
+        stream.write(179)
+        writeValue(stream, value.toList())
+      }
+      is FormValidationViolation -> {
+        stream.write(180)
+        writeValue(stream, value.toList())
+      }
+      is FormDataTransferProgress -> {
+        stream.write(181)
+        writeValue(stream, value.toList())
+      }
+      is FormDataTransferResult -> {
+        stream.write(182)
+        writeValue(stream, value.toList())
+      }
+      is PlatformEventBatch -> {
+        stream.write(183)
+        writeValue(stream, value.toList())
+      }
+      else -> super.writeValue(stream, value)
+    }
+  }
+}
+
+
+/**
+ * The API for interacting with a PDF document.
+ *
+ * Generated interface from Pigeon that represents a handler of messages from Flutter.
+ */
+interface NutrientApi {
+  fun getFrameworkVersion(callback: (Result<String?>) -> Unit)
+  fun setLicenseKey(licenseKey: String?, callback: (Result<Unit>) -> Unit)
+  fun setLicenseKeys(androidLicenseKey: String?, iOSLicenseKey: String?, webLicenseKey: String?, callback: (Result<Unit>) -> Unit)
+  fun present(document: String, configuration: Map<String, Any>?, callback: (Result<Boolean?>) -> Unit)
+  fun presentInstant(serverUrl: String, jwt: String, configuration: Map<String, Any>?, callback: (Result<Boolean?>) -> Unit)
+  fun setFormFieldValue(value: String, fullyQualifiedName: String, callback: (Result<Boolean?>) -> Unit)
+  fun getFormFieldValue(fullyQualifiedName: String, callback: (Result<String?>) -> Unit)
+  fun applyInstantJson(annotationsJson: String, callback: (Result<Boolean?>) -> Unit)
+  fun exportInstantJson(callback: (Result<String?>) -> Unit)
+  fun addAnnotation(annotation: String, attachment: String?, callback: (Result<Boolean?>) -> Unit)
+  fun removeAnnotation(annotation: String, callback: (Result<Boolean?>) -> Unit)
+  /**
+   * Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+   * The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+   * Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+   */
+  fun getAnnotationsJson(pageIndex: Long, type: String, callback: (Result<String?>) -> Unit)
+  /**
+   * Returns a JSON string containing all unsaved annotations in the presented document.
+   * The JSON string can be decoded to the appropriate type on the Dart side.
+   * Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+   */
+  fun getAllUnsavedAnnotationsJson(callback: (Result<String?>) -> Unit)
+  fun updateAnnotation(annotation: String, callback: (Result<Unit>) -> Unit)
+  fun processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, callback: (Result<Boolean?>) -> Unit)
+  fun importXfdf(xfdfString: String, callback: (Result<Boolean?>) -> Unit)
+  fun exportXfdf(xfdfPath: String, callback: (Result<Boolean?>) -> Unit)
+  fun save(callback: (Result<Boolean?>) -> Unit)
+  fun setDelayForSyncingLocalChanges(delay: Double, callback: (Result<Boolean?>) -> Unit)
+  fun setListenToServerChanges(listen: Boolean, callback: (Result<Boolean?>) -> Unit)
+  fun syncAnnotations(callback: (Result<Boolean?>) -> Unit)
+  fun checkAndroidWriteExternalStoragePermission(callback: (Result<Boolean?>) -> Unit)
+  fun requestAndroidWriteExternalStoragePermission(callback: (Result<AndroidPermissionStatus>) -> Unit)
+  fun openAndroidSettings(callback: (Result<Unit>) -> Unit)
+  fun setAnnotationPresetConfigurations(configurations: Map<String, Any?>, callback: (Result<Boolean?>) -> Unit)
+  fun getTemporaryDirectory(callback: (Result<String>) -> Unit)
+  fun setAuthorName(name: String, callback: (Result<Unit>) -> Unit)
+  fun getAuthorName(callback: (Result<String>) -> Unit)
+  /**
+   * Generate PDF from Images, Template, and Patterns.
+   * [pages]: [NewPage]s to be added to the PDF.
+   * [outputPath]: The path to the output file.
+   * Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
+   */
+  fun generatePdf(pages: List<Map<String, Any>>, outputPath: String, callback: (Result<String?>) -> Unit)
+  /**
+   * Generates a PDF from HTML string.
+   *
+   * [html]: The HTML string to be converted to PDF.
+   * [outPutFile]: The path to the output file.
+   * Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
+   */
+  fun generatePdfFromHtmlString(html: String, outPutFile: String, options: Map<String, Any>?, callback: (Result<String?>) -> Unit)
+  fun generatePdfFromHtmlUri(htmlUri: String, outPutFile: String, options: Map<String, Any>?, callback: (Result<String?>) -> Unit)
+  /** Configure Nutrient Analytics events. */
+  fun enableAnalyticsEvents(enable: Boolean)
+  /**
+   * Sets the annotation menu configuration for the global presenter.
+   * This configuration applies to all annotation menus in presented documents.
+   *
+   * @param configuration The annotation menu configuration to apply.
+   * @return True if the configuration was set successfully, false otherwise.
+   */
+  fun setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, callback: (Result<Boolean?>) -> Unit)
+  /**
+   * Processes annotations only on the pages selected by [scopes] and stores
+   * the PDF at the given destination path. Pages outside of the scopes are
+   * copied unchanged, so the work scales with the number of pages processed.
+   *
+   * @param processingMode The processing mode (flatten, embed, remove, print)
+   * @param destinationPath The path where the processed PDF should be saved
+   * @param scopes The page ranges and annotation types to process
+   * @return true if processing succeeded, false otherwise
+   */
+  fun processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: List<AnnotationProcessingScope>, callback: (Result<Boolean?>) -> Unit)
+
+  companion object {
+    /** The codec used by NutrientApi. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+    /** Sets up an instance of `NutrientApi` to handle messages through the `binaryMessenger`. */
+    @JvmOverloads
+    fun setUp(binaryMessenger: BinaryMessenger, api: NutrientApi?, messageChannelSuffix: String = "") {
+      val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getFrameworkVersion{ result: Result<String?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val licenseKeyArg = args[0] as String?
+            api.setLicenseKey(licenseKeyArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val androidLicenseKeyArg = args[0] as String?
+            val iOSLicenseKeyArg = args[1] as String?
+            val webLicenseKeyArg = args[2] as String?
+            api.setLicenseKeys(androidLicenseKeyArg, iOSLicenseKeyArg, webLicenseKeyArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.present$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val documentArg = args[0] as String
+            val configurationArg = args[1] as Map<String, Any>?
+            api.present(documentArg, configurationArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val serverUrlArg = args[0] as String
+            val jwtArg = args[1] as String
+            val configurationArg = args[2] as Map<String, Any>?
+            api.presentInstant(serverUrlArg, jwtArg, configurationArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val valueArg = args[0] as String
+            val fullyQualifiedNameArg = args[1] as String
+            api.setFormFieldValue(valueArg, fullyQualifiedNameArg) { result: Result<Boolean?> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -1772,6 +3419,28 @@ interface NutrientApi {
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotationsOnPages$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val processingModeArg = args[0] as AnnotationProcessingMode
+            val destinationPathArg = args[1] as String
+            val scopesArg = args[2] as List<AnnotationProcessingScope>
+            api.processAnnotationsOnPages(processingModeArg, destinationPathArg, scopesArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 }
@@ -2125,6 +3794,26 @@ interface NutrientViewControllerApi {
    * [pageIndex] is zero-based.
    */
   fun convertPdfPointToViewPoint(pageIndex: Long, point: PointF, callback: (Result<PointF>) -> Unit)
+  /**
+   * Processes annotations only on the pages selected by [scopes] and stores
+   * the PDF at the given destination path. Pages outside of the scopes are
+   * copied unchanged, so the work scales with the number of pages processed.
+   *
+   * @param processingMode The processing mode (flatten, embed, remove, print)
+   * @param destinationPath The path where the processed PDF should be saved
+   * @param scopes The page ranges and annotation types to process
+   * @return true if processing succeeded, false otherwise
+   */
+  fun processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: List<AnnotationProcessingScope>, callback: (Result<Boolean>) -> Unit)
+  /**
+   * Sets the values of several form fields of the presented document at once.
+   *
+   * See [PdfDocumentApi.setFormFieldValues].
+   *
+   * @param values Values by fully qualified field name
+   * @return The fields that could not be set, empty if all were set
+   */
+  fun setFormFieldValues(values: Map<String, String>, callback: (Result<List<FormFieldWriteError>>) -> Unit)
 
   companion object {
     /** The codec used by NutrientViewControllerApi. */
@@ -2592,6 +4281,48 @@ interface NutrientViewControllerApi {
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotationsOnPages$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val processingModeArg = args[0] as AnnotationProcessingMode
+            val destinationPathArg = args[1] as String
+            val scopesArg = args[2] as List<AnnotationProcessingScope>
+            api.processAnnotationsOnPages(processingModeArg, destinationPathArg, scopesArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValues$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val valuesArg = args[0] as Map<String, String>
+            api.setFormFieldValues(valuesArg) { result: Result<List<FormFieldWriteError>> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 }
@@ -2871,6 +4602,256 @@ interface PdfDocumentApi {
    * @throws On iOS/Android
    */
   fun webHasUnsavedChanges(callback: (Result<Boolean>) -> Unit)
+  /**
+   * Processes annotations only on the pages selected by [scopes] and stores
+   * the PDF at the given destination path. Pages outside of the scopes are
+   * copied unchanged, so the work scales with the number of pages processed.
+   *
+   * @param processingMode The processing mode (flatten, embed, remove, print)
+   * @param destinationPath The path where the processed PDF should be saved
+   * @param scopes The page ranges and annotation types to process
+   * @return true if processing succeeded, false otherwise
+   */
+  fun processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: List<AnnotationProcessingScope>, callback: (Result<Boolean>) -> Unit)
+  /**
+   * Exports any combination of a flattened PDF, an XFDF file and an Instant
+   * JSON snapshot in a single call.
+   *
+   * The annotations are collected once and shared by the flattened PDF and
+   * the XFDF file. The Instant JSON snapshot collects them again, as the
+   * SDK formatter cannot take a list of annotations. All artifacts are
+   * written concurrently.
+   *
+   * @param request The artifacts to export and their output paths
+   * @return One result with timing per exported artifact, in request order
+   */
+  fun exportArtifacts(request: DocumentExportRequest, callback: (Result<List<DocumentExportResult>>) -> Unit)
+  /**
+   * Searches the page text for the given regular expressions and covers
+   * every match with a redaction annotation.
+   *
+   * Pages are scanned in parallel. When [RedactionRequest.outputPath] is
+   * set, the redactions are also applied and the redacted document is
+   * written to that path.
+   *
+   * @param request The patterns, pages and output of the redaction
+   * @return The matches per page and the scan throughput
+   */
+  fun redactPatterns(request: RedactionRequest, callback: (Result<RedactionResult>) -> Unit)
+  /**
+   * Waits for the warm-up requested in [HeadlessDocumentOpenOptions.warmUp]
+   * and returns the timing of each phase.
+   *
+   * @return The warm-up timings, with no phases if no warm-up was requested
+   */
+  fun getWarmUpResult(callback: (Result<DocumentWarmUpResult>) -> Unit)
+  /**
+   * Renders a page to an encoded image without a viewer.
+   *
+   * Rendered pages are kept in an in-memory cache, so rendering the same page
+   * at the same size again only encodes it. Different pages can be rendered
+   * concurrently.
+   *
+   * @param pageIndex Zero-based index of the page to render
+   * @param width Width of the image in pixels
+   * @param height Height of the image in pixels
+   * @param options Format, output and cache options
+   * @return The encoded image or the path of the image file
+   */
+  fun renderPage(pageIndex: Long, width: Long, height: Long, options: PageRenderOptions?, callback: (Result<RenderedPage>) -> Unit)
+  /**
+   * Returns a thumbnail of a page from the persistent thumbnail cache, rendering
+   * it first if needed.
+   *
+   * Thumbnails are rendered at the smallest size bucket of 64, 128, 256, 512,
+   * 1024 or 2048 pixels that is at least [maxSize], so the longer side of the
+   * thumbnail may be larger than requested.
+   *
+   * @param pageIndex Zero-based index of the page
+   * @param maxSize Minimum length of the longer side in pixels
+   * @return The cached thumbnail file and its size
+   */
+  fun getThumbnail(pageIndex: Long, maxSize: Long, callback: (Result<ThumbnailResult>) -> Unit)
+  /**
+   * Renders the thumbnails of the given pages into the thumbnail cache in the
+   * background. Completes once all thumbnails are cached.
+   *
+   * @param pageIndexes Zero-based indexes of the pages
+   * @param maxSize Minimum length of the longer side in pixels
+   */
+  fun prefetchThumbnails(pageIndexes: List<Long>, maxSize: Long, callback: (Result<Unit>) -> Unit)
+  /**
+   * Returns the text of a page.
+   *
+   * The text is cached until the document is saved.
+   *
+   * @param pageIndex Zero-based index of the page
+   * @return The text of the page
+   */
+  fun getPageText(pageIndex: Long, callback: (Result<String>) -> Unit)
+  /**
+   * Extracts the text of all pages.
+   *
+   * Up to [maxConcurrency] pages are extracted at the same time. The pages
+   * are sent in order, [pagesPerChunk] at a time, to
+   * [PageTextExtractionCallbacks.onPageTextChunk] on the channel suffixed with
+   * [extractionId]. All chunks are sent before this method completes.
+   *
+   * @param extractionId Message channel suffix for the chunk callbacks
+   * @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+   * @param pagesPerChunk Number of pages per chunk, defaults to 16
+   * @return Totals of the extraction
+   */
+  fun extractAllText(extractionId: String, maxConcurrency: Long?, pagesPerChunk: Long?, callback: (Result<TextExtractionSummary>) -> Unit)
+  /**
+   * Searches the text of all pages using the search index of the document.
+   *
+   * The index is stored on disk and reused for the same document file. Documents
+   * shown in a view start loading or building it in the background once they are
+   * loaded, other documents on their first search. The index is only updated
+   * when the document is saved in place, so unsaved changes are not found. The
+   * hits of each page are sent in page order to
+   * [TextSearchCallbacks.onPageResult] on the channel suffixed with [searchId].
+   * All pages are sent before this method completes.
+   *
+   * @param searchId Message channel suffix for the page callbacks
+   * @param query The text to search for
+   * @param options Optional search settings
+   * @return Totals of the search
+   */
+  fun searchText(searchId: String, query: String, options: TextSearchOptions?, callback: (Result<TextSearchSummary>) -> Unit)
+  /**
+   * Returns the form fields that changed since the previous call as a JSON string.
+   *
+   * Changes are collected from the first form field request on the document,
+   * so the first call after [getFormFieldsJson] returns the fields changed
+   * since then. The JSON has the same format as [getFormFieldsJson]. Removed
+   * fields are not included.
+   */
+  fun getDirtyFormFieldsJson(callback: (Result<String>) -> Unit)
+  /**
+   * Sets the values of several form fields at once.
+   *
+   * Values use the same format as [setFormFieldValue]. All fields are looked
+   * up in one pass over the form and the values are applied together, so
+   * the viewer refreshes once for the whole batch. Fields that cannot be set
+   * are skipped and reported.
+   *
+   * @param values Values by fully qualified field name
+   * @return The fields that could not be set, empty if all were set
+   */
+  fun setFormFieldValues(values: Map<String, String>, callback: (Result<List<FormFieldWriteError>>) -> Unit)
+  /**
+   * Returns the typed values of several form fields in one call.
+   *
+   * @param fullyQualifiedNames Names of the fields to read, or null for all fields
+   * @return The values in form order. Names without a matching field are left out.
+   */
+  fun getFormFieldValues(fullyQualifiedNames: List<String>?, callback: (Result<List<FormFieldValue>>) -> Unit)
+  /**
+   * Replaces the form validation rules of the document.
+   *
+   * Rules are checked natively. After this call every field is validated once,
+   * afterwards only fields changed since the previous validation are checked
+   * again. Pass an empty list to remove all rules.
+   *
+   * @param rules The rules, checked in this order
+   * @throws NutrientApiError if a field does not exist or a rule is invalid
+   */
+  fun setFormValidationRules(rules: List<FormValidationRule>, callback: (Result<Unit>) -> Unit)
+  /**
+   * Returns the violations of the form validation rules.
+   *
+   * Only fields whose value changed since the previous call are checked again,
+   * together with fields that must equal them, so calling this on every
+   * `formFieldValuesUpdated` event stays cheap.
+   *
+   * @return All current violations, in the order of the rules
+   */
+  fun validateFormFields(callback: (Result<List<FormValidationViolation>>) -> Unit)
+  /**
+   * Returns the JSON of the form fields in the subtree named by [prefix].
+   *
+   * Names are matched per dot separated segment, so `applicant.address`
+   * matches the field `applicant.address` and every field below it, but not
+   * `applicant.addressee`. An empty prefix matches all fields.
+   *
+   * @param prefix Fully qualified name of the subtree
+   * @return A JSON array of the fields, in form order
+   */
+  fun getFormFieldsJsonByPrefix(prefix: String, callback: (Result<String>) -> Unit)
+  /**
+   * Returns the typed values of the form fields in the subtree named by [prefix].
+   *
+   * @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+   * @return The values in form order
+   */
+  fun getFormFieldValuesByPrefix(prefix: String, callback: (Result<List<FormFieldValue>>) -> Unit)
+  /**
+   * Sets the values of several form fields in the subtree named by [prefix].
+   *
+   * Keys of [values] are names relative to [prefix], e.g. `street` for the
+   * field `applicant.address.street` when the prefix is `applicant.address`.
+   * Values use the format of [setFormFieldValue].
+   *
+   * @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+   * @param values Relative field names mapped to their new values
+   * @return The fields that could not be set, with fully qualified names
+   */
+  fun setFormFieldValuesByPrefix(prefix: String, values: Map<String, String>, callback: (Result<List<FormFieldWriteError>>) -> Unit)
+  /**
+   * Returns the JSON of all form fields without their widget annotations.
+   *
+   * Same as [getFormFieldsJson] without the `annotation` and `annotations`
+   * members, which hold the Instant JSON of the widget annotation and are the
+   * most expensive part of the serialization. Use
+   * [getFormFieldAnnotationsJson] to load them for single fields when needed.
+   *
+   * @return A JSON array of the fields, in form order
+   */
+  fun getLeanFormFieldsJson(callback: (Result<String>) -> Unit)
+  /**
+   * Returns the Instant JSON of the widget annotations of a form field.
+   *
+   * @param fullyQualifiedName Fully qualified name of the field
+   * @return A JSON array with one Instant JSON object per widget
+   * @throws NutrientApiError if there is no field with this name
+   */
+  fun getFormFieldAnnotationsJson(fullyQualifiedName: String, callback: (Result<String>) -> Unit)
+  /**
+   * Imports form field values from an XFDF or FDF file.
+   *
+   * The file is parsed as a stream in the background, annotations and other
+   * non-form data are ignored. Values are applied [chunkSize] fields at a
+   * time, each chunk in its own short main thread task, so a viewer stays
+   * responsive while a large form is filled. After every chunk, the
+   * progress is sent to [FormDataTransferCallbacks.onProgress] on the
+   * channel suffixed with [transferId]. Fields that cannot be set are
+   * reported in the result and do not stop the import.
+   *
+   * @param transferId Message channel suffix for the progress callbacks
+   * @param path Path of the XFDF or FDF file
+   * @param format `xfdf` or `fdf`, inferred from the file extension when null
+   * @param chunkSize Number of fields applied per main thread task, defaults to 250
+   * @return Totals and failed fields of the import
+   */
+  fun importFormData(transferId: String, path: String, format: String?, chunkSize: Long?, callback: (Result<FormDataTransferResult>) -> Unit)
+  /**
+   * Exports the values of all form fields to an XFDF or FDF file.
+   *
+   * Values are read and written [chunkSize] fields at a time in the
+   * background and streamed to the file, without building the whole
+   * document in memory. Annotations are not exported. After every chunk,
+   * the progress is sent to [FormDataTransferCallbacks.onProgress] on the
+   * channel suffixed with [transferId].
+   *
+   * @param transferId Message channel suffix for the progress callbacks
+   * @param path Path of the file to write, an existing file is replaced
+   * @param format `xfdf` or `fdf`, inferred from the file extension when null
+   * @param chunkSize Number of fields written per chunk, defaults to 250
+   * @return Totals of the export
+   */
+  fun exportFormData(transferId: String, path: String, format: String?, chunkSize: Long?, callback: (Result<FormDataTransferResult>) -> Unit)
 
   companion object {
     /** The codec used by PdfDocumentApi. */
@@ -2882,12 +4863,541 @@ interface PdfDocumentApi {
     fun setUp(binaryMessenger: BinaryMessenger, api: PdfDocumentApi?, messageChannelSuffix: String = "") {
       val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexArg = args[0] as Long
+            api.getPageInfo(pageIndexArg) { result: Result<PageInfo> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val optionsArg = args[0] as DocumentSaveOptions?
+            api.exportPdf(optionsArg) { result: Result<ByteArray> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val fieldNameArg = args[0] as String
+            api.getFormFieldJson(fieldNameArg) { result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getFormFieldsJson{ result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val valueArg = args[0] as String
+            val fullyQualifiedNameArg = args[1] as String
+            api.setFormFieldValue(valueArg, fullyQualifiedNameArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val fullyQualifiedNameArg = args[0] as String
+            api.getFormFieldValue(fullyQualifiedNameArg) { result: Result<String?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val annotationsJsonArg = args[0] as String
+            api.applyInstantJson(annotationsJsonArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.exportInstantJson{ result: Result<String?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val jsonAnnotationArg = args[0] as String
+            val attachmentArg = args[1]
+            api.addAnnotation(jsonAnnotationArg, attachmentArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val jsonAnnotationArg = args[0] as String
+            api.updateAnnotation(jsonAnnotationArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val jsonAnnotationArg = args[0] as String
+            api.removeAnnotation(jsonAnnotationArg) { result: Result<Boolean?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexArg = args[0] as Long
+            val typeArg = args[1] as String
+            api.getAnnotationsJson(pageIndexArg, typeArg) { result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getAllUnsavedAnnotationsJson{ result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val xfdfStringArg = args[0] as String
+            api.importXfdf(xfdfStringArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val xfdfPathArg = args[0] as String
+            api.exportXfdf(xfdfPathArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val outputPathArg = args[0] as String?
+            val optionsArg = args[1] as DocumentSaveOptions?
+            api.save(outputPathArg, optionsArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getPageCount{ result: Result<Long> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val typeArg = args[0] as AnnotationType
+            val processingModeArg = args[1] as AnnotationProcessingMode
+            val destinationPathArg = args[2] as String
+            api.processAnnotations(typeArg, processingModeArg, destinationPathArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.closeDocument{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.iOSHasDirtyAnnotations{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexArg = args[0] as Long
+            val annotationIdArg = args[1] as String
+            api.iOSGetAnnotationIsDirty(pageIndexArg, annotationIdArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexArg = args[0] as Long
+            val annotationIdArg = args[1] as String
+            val isDirtyArg = args[2] as Boolean
+            api.iOSSetAnnotationIsDirty(pageIndexArg, annotationIdArg, isDirtyArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.iOSClearNeedsSaveFlag{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.androidHasUnsavedAnnotationChanges{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.androidHasUnsavedFormChanges{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.androidHasUnsavedBookmarkChanges{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val bookmarkIdArg = args[0] as String
+            api.androidGetBookmarkIsDirty(bookmarkIdArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pageIndexArg = args[0] as Long
-            api.getPageInfo(pageIndexArg) { result: Result<PageInfo> ->
+            val bookmarkIdArg = args[0] as String
+            api.androidClearBookmarkDirtyState(bookmarkIdArg) { result: Result<Boolean> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -2902,12 +5412,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val optionsArg = args[0] as DocumentSaveOptions?
-            api.exportPdf(optionsArg) { result: Result<ByteArray> ->
+            val fullyQualifiedNameArg = args[0] as String
+            api.androidGetFormFieldIsDirty(fullyQualifiedNameArg) { result: Result<Boolean> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -2922,12 +5432,32 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.webHasUnsavedChanges{ result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotationsOnPages$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val fieldNameArg = args[0] as String
-            api.getFormFieldJson(fieldNameArg) { result: Result<String> ->
+            val processingModeArg = args[0] as AnnotationProcessingMode
+            val destinationPathArg = args[1] as String
+            val scopesArg = args[2] as List<AnnotationProcessingScope>
+            api.processAnnotationsOnPages(processingModeArg, destinationPathArg, scopesArg) { result: Result<Boolean> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -2942,10 +5472,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportArtifacts$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.getFormFieldsJson{ result: Result<String> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val requestArg = args[0] as DocumentExportRequest
+            api.exportArtifacts(requestArg) { result: Result<List<DocumentExportResult>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -2960,13 +5492,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.redactPatterns$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val valueArg = args[0] as String
-            val fullyQualifiedNameArg = args[1] as String
-            api.setFormFieldValue(valueArg, fullyQualifiedNameArg) { result: Result<Boolean?> ->
+            val requestArg = args[0] as RedactionRequest
+            api.redactPatterns(requestArg) { result: Result<RedactionResult> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -2981,12 +5512,33 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getWarmUpResult$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getWarmUpResult{ result: Result<DocumentWarmUpResult> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.renderPage$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val fullyQualifiedNameArg = args[0] as String
-            api.getFormFieldValue(fullyQualifiedNameArg) { result: Result<String?> ->
+            val pageIndexArg = args[0] as Long
+            val widthArg = args[1] as Long
+            val heightArg = args[2] as Long
+            val optionsArg = args[3] as PageRenderOptions?
+            api.renderPage(pageIndexArg, widthArg, heightArg, optionsArg) { result: Result<RenderedPage> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3001,12 +5553,13 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getThumbnail$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val annotationsJsonArg = args[0] as String
-            api.applyInstantJson(annotationsJsonArg) { result: Result<Boolean?> ->
+            val pageIndexArg = args[0] as Long
+            val maxSizeArg = args[1] as Long
+            api.getThumbnail(pageIndexArg, maxSizeArg) { result: Result<ThumbnailResult> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3021,10 +5574,32 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.prefetchThumbnails$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.exportInstantJson{ result: Result<String?> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexesArg = args[0] as List<Long>
+            val maxSizeArg = args[1] as Long
+            api.prefetchThumbnails(pageIndexesArg, maxSizeArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageText$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pageIndexArg = args[0] as Long
+            api.getPageText(pageIndexArg) { result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3039,13 +5614,14 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.extractAllText$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val jsonAnnotationArg = args[0] as String
-            val attachmentArg = args[1]
-            api.addAnnotation(jsonAnnotationArg, attachmentArg) { result: Result<Boolean?> ->
+            val extractionIdArg = args[0] as String
+            val maxConcurrencyArg = args[1] as Long?
+            val pagesPerChunkArg = args[2] as Long?
+            api.extractAllText(extractionIdArg, maxConcurrencyArg, pagesPerChunkArg) { result: Result<TextExtractionSummary> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3060,12 +5636,14 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.searchText$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val jsonAnnotationArg = args[0] as String
-            api.updateAnnotation(jsonAnnotationArg) { result: Result<Boolean?> ->
+            val searchIdArg = args[0] as String
+            val queryArg = args[1] as String
+            val optionsArg = args[2] as TextSearchOptions?
+            api.searchText(searchIdArg, queryArg, optionsArg) { result: Result<TextSearchSummary> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3080,12 +5658,30 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getDirtyFormFieldsJson$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            api.getDirtyFormFieldsJson{ result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValues$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val jsonAnnotationArg = args[0] as String
-            api.removeAnnotation(jsonAnnotationArg) { result: Result<Boolean?> ->
+            val valuesArg = args[0] as Map<String, String>
+            api.setFormFieldValues(valuesArg) { result: Result<List<FormFieldWriteError>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3100,13 +5696,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValues$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pageIndexArg = args[0] as Long
-            val typeArg = args[1] as String
-            api.getAnnotationsJson(pageIndexArg, typeArg) { result: Result<String> ->
+            val fullyQualifiedNamesArg = args[0] as List<String>?
+            api.getFormFieldValues(fullyQualifiedNamesArg) { result: Result<List<FormFieldValue>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3121,10 +5716,29 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormValidationRules$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val rulesArg = args[0] as List<FormValidationRule>
+            api.setFormValidationRules(rulesArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.validateFormFields$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { _, reply ->
-            api.getAllUnsavedAnnotationsJson{ result: Result<String> ->
+            api.validateFormFields{ result: Result<List<FormValidationViolation>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3139,12 +5753,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJsonByPrefix$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val xfdfStringArg = args[0] as String
-            api.importXfdf(xfdfStringArg) { result: Result<Boolean> ->
+            val prefixArg = args[0] as String
+            api.getFormFieldsJsonByPrefix(prefixArg) { result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3159,12 +5773,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValuesByPrefix$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val xfdfPathArg = args[0] as String
-            api.exportXfdf(xfdfPathArg) { result: Result<Boolean> ->
+            val prefixArg = args[0] as String
+            api.getFormFieldValuesByPrefix(prefixArg) { result: Result<List<FormFieldValue>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3179,13 +5793,13 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValuesByPrefix$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val outputPathArg = args[0] as String?
-            val optionsArg = args[1] as DocumentSaveOptions?
-            api.save(outputPathArg, optionsArg) { result: Result<Boolean> ->
+            val prefixArg = args[0] as String
+            val valuesArg = args[1] as Map<String, String>
+            api.setFormFieldValuesByPrefix(prefixArg, valuesArg) { result: Result<List<FormFieldWriteError>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3200,10 +5814,10 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getLeanFormFieldsJson$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { _, reply ->
-            api.getPageCount{ result: Result<Long> ->
+            api.getLeanFormFieldsJson{ result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3218,14 +5832,12 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldAnnotationsJson$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val typeArg = args[0] as AnnotationType
-            val processingModeArg = args[1] as AnnotationProcessingMode
-            val destinationPathArg = args[2] as String
-            api.processAnnotations(typeArg, processingModeArg, destinationPathArg) { result: Result<Boolean> ->
+            val fullyQualifiedNameArg = args[0] as String
+            api.getFormFieldAnnotationsJson(fullyQualifiedNameArg) { result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3240,10 +5852,38 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importFormData$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.closeDocument{ result: Result<Boolean> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val transferIdArg = args[0] as String
+            val pathArg = args[1] as String
+            val formatArg = args[2] as String?
+            val chunkSizeArg = args[3] as Long?
+            api.importFormData(transferIdArg, pathArg, formatArg, chunkSizeArg) { result: Result<FormDataTransferResult> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportFormData$separatedMessageChannelSuffix", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val transferIdArg = args[0] as String
+            val pathArg = args[1] as String
+            val formatArg = args[2] as String?
+            val chunkSizeArg = args[3] as Long?
+            api.exportFormData(transferIdArg, pathArg, formatArg, chunkSizeArg) { result: Result<FormDataTransferResult> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3257,11 +5897,175 @@ interface PdfDocumentApi {
           channel.setMessageHandler(null)
         }
       }
+    }
+  }
+}
+/**
+ * API for opening and managing PDF documents without displaying a viewer.
+ *
+ * This API enables programmatic access to PDF documents for operations like:
+ * - Reading and modifying annotations
+ * - Processing annotations (flatten, embed, remove)
+ * - Exporting/importing XFDF
+ * - Form field manipulation
+ *
+ * Documents opened through this API must be explicitly closed using
+ * [PdfDocumentApi.closeDocument] when no longer needed to free resources.
+ *
+ * **Usage Example**:
+ * ```dart
+ * final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
+ * // Use PdfDocumentApi with the documentId for operations
+ * final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
+ * await pdfDocumentApi.processAnnotations(
+ *   AnnotationType.all,
+ *   AnnotationProcessingMode.flatten,
+ *   '/path/to/output.pdf',
+ * );
+ * await pdfDocumentApi.closeDocument();
+ * ```
+ *
+ * Generated interface from Pigeon that represents a handler of messages from Flutter.
+ */
+interface HeadlessDocumentApi {
+  /**
+   * Opens a document from the given path without displaying a viewer.
+   *
+   * Returns a unique document ID that can be used to interact with the
+   * document via [PdfDocumentApi]. The document ID is used as a channel
+   * suffix to create isolated API instances for each document.
+   *
+   * @param documentPath Path to the PDF document (file path or content:// URI)
+   * @param options Optional settings like password for encrypted documents
+   * @return Unique document ID for use with PdfDocumentApi
+   * @throws NutrientApiError if the document cannot be opened
+   */
+  fun openDocument(documentPath: String, options: HeadlessDocumentOpenOptions?, callback: (Result<String>) -> Unit)
+  /**
+   * Merges pages from several documents into a single new document.
+   *
+   * Sources are opened and written in batches, so large merges never keep
+   * every input document open at the same time.
+   *
+   * @param sources The documents and page ranges to merge, in output order
+   * @param outputPath Path where the merged document will be written
+   * @return The number of pages written to the merged document
+   * @throws NutrientApiError if a source cannot be opened or a range is invalid
+   */
+  fun mergeDocuments(sources: List<DocumentMergeSource>, outputPath: String, callback: (Result<Long>) -> Unit)
+  /**
+   * Splits a document into several new documents, one per target.
+   *
+   * The source document is opened once and the targets are written in
+   * parallel, since each output is independent of the others.
+   *
+   * @param documentPath Path to the PDF document to split
+   * @param targets The page ranges and output paths to write
+   * @param options Optional settings like password for encrypted documents
+   * @return The output paths that were written, in the order of [targets]
+   * @throws NutrientApiError if the document cannot be opened or a range is invalid
+   */
+  fun splitDocument(documentPath: String, targets: List<DocumentSplitTarget>, options: HeadlessDocumentOpenOptions?, callback: (Result<List<String>>) -> Unit)
+  /**
+   * Configures the budget of the pool of resident headless documents.
+   *
+   * When the pool is over budget, the least recently used documents are
+   * released. A released document keeps its ID and is reopened
+   * transparently the next time it is used. Documents that stay unused for
+   * the close timeout are closed and their ID becomes invalid.
+   *
+   * @param configuration The new budget, null values keep the current setting
+   * @throws NutrientApiError if a value is out of range
+   */
+  fun configureDocumentPool(configuration: DocumentPoolConfiguration, callback: (Result<Unit>) -> Unit)
+  /** Returns gauges of the pool of resident headless documents. */
+  fun getDocumentPoolStatistics(callback: (Result<DocumentPoolStatistics>) -> Unit)
+  /**
+   * Pins a headless document so it is never released by the pool.
+   *
+   * Pins are counted, every call needs a matching [unpinDocument].
+   *
+   * @param documentId The ID returned by [openDocument]
+   * @throws NutrientApiError if no document with this ID is open
+   */
+  fun pinDocument(documentId: String, callback: (Result<Unit>) -> Unit)
+  /**
+   * Removes a pin added with [pinDocument].
+   *
+   * @param documentId The ID returned by [openDocument]
+   * @throws NutrientApiError if no document with this ID is open
+   */
+  fun unpinDocument(documentId: String, callback: (Result<Unit>) -> Unit)
+  /**
+   * Opens a document from bytes in memory without displaying a viewer.
+   *
+   * The bytes are read directly from memory, so a downloaded document does
+   * not have to be written to disk first. The returned document ID works
+   * like one returned by [openDocument].
+   *
+   * @param data The PDF document bytes
+   * @param options Optional settings like password for encrypted documents
+   * @return Unique document ID for use with PdfDocumentApi
+   * @throws NutrientApiError if the document cannot be opened
+   */
+  fun openDocumentFromBytes(data: ByteArray, options: HeadlessDocumentOpenOptions?, callback: (Result<String>) -> Unit)
+  /**
+   * Opens several documents without displaying a viewer.
+   *
+   * At most [maxConcurrency] documents are loaded at the same time. Each
+   * result is sent to [HeadlessDocumentOpenCallbacks.onDocumentOpened] on the
+   * channel suffixed with [batchId] as soon as its document is opened. A
+   * document that fails to open is reported in its result and does not
+   * affect the rest of the batch.
+   *
+   * @param batchId Message channel suffix for the per-document callbacks
+   * @param requests The documents to open
+   * @param maxConcurrency Maximum number of parallel loads, defaults to 4
+   * @return The results of all documents, in the order they completed
+   */
+  fun openDocuments(batchId: String, requests: List<DocumentOpenRequest>, maxConcurrency: Long?, callback: (Result<List<DocumentOpenResult>>) -> Unit)
+  /**
+   * Sets the maximum size of the persistent thumbnail cache, 64 MB by default.
+   * Least recently used thumbnails are deleted to stay within the limit.
+   *
+   * @param maxBytes Maximum total size of the cached thumbnails in bytes
+   */
+  fun configureThumbnailCache(maxBytes: Long, callback: (Result<Unit>) -> Unit)
+  /** Deletes all thumbnails from the persistent thumbnail cache. */
+  fun clearThumbnailCache(callback: (Result<Unit>) -> Unit)
+  /**
+   * Fills the template form once per dataset row and writes one document per row.
+   *
+   * The template is read once and every row works on its own copy-on-write
+   * document over the shared template bytes, so rows are processed in parallel.
+   * Values use the format of [PdfDocumentApi.setFormFieldValue]. Columns that
+   * match no form field are ignored, so they can be used in file names. A row
+   * with an invalid value is reported in [MailMergeResult.errors] and does not
+   * abort the run.
+   *
+   * @param request The template, dataset and output settings
+   * @return The written paths, the failed rows and the throughput
+   * @throws NutrientApiError if the template or the dataset cannot be read
+   */
+  fun mailMerge(request: MailMergeRequest, callback: (Result<MailMergeResult>) -> Unit)
+
+  companion object {
+    /** The codec used by HeadlessDocumentApi. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+    /** Sets up an instance of `HeadlessDocumentApi` to handle messages through the `binaryMessenger`. */
+    @JvmOverloads
+    fun setUp(binaryMessenger: BinaryMessenger, api: HeadlessDocumentApi?, messageChannelSuffix: String = "") {
+      val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.iOSHasDirtyAnnotations{ result: Result<Boolean> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val documentPathArg = args[0] as String
+            val optionsArg = args[1] as HeadlessDocumentOpenOptions?
+            api.openDocument(documentPathArg, optionsArg) { result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3276,13 +6080,13 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mergeDocuments$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pageIndexArg = args[0] as Long
-            val annotationIdArg = args[1] as String
-            api.iOSGetAnnotationIsDirty(pageIndexArg, annotationIdArg) { result: Result<Boolean> ->
+            val sourcesArg = args[0] as List<DocumentMergeSource>
+            val outputPathArg = args[1] as String
+            api.mergeDocuments(sourcesArg, outputPathArg) { result: Result<Long> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3297,14 +6101,14 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.splitDocument$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pageIndexArg = args[0] as Long
-            val annotationIdArg = args[1] as String
-            val isDirtyArg = args[2] as Boolean
-            api.iOSSetAnnotationIsDirty(pageIndexArg, annotationIdArg, isDirtyArg) { result: Result<Boolean> ->
+            val documentPathArg = args[0] as String
+            val targetsArg = args[1] as List<DocumentSplitTarget>
+            val optionsArg = args[2] as HeadlessDocumentOpenOptions?
+            api.splitDocument(documentPathArg, targetsArg, optionsArg) { result: Result<List<String>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3319,16 +6123,17 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureDocumentPool$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.iOSClearNeedsSaveFlag{ result: Result<Boolean> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val configurationArg = args[0] as DocumentPoolConfiguration
+            api.configureDocumentPool(configurationArg) { result: Result<Unit> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
               } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
+                reply.reply(wrapResult(null))
               }
             }
           }
@@ -3337,10 +6142,10 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.getDocumentPoolStatistics$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { _, reply ->
-            api.androidHasUnsavedAnnotationChanges{ result: Result<Boolean> ->
+            api.getDocumentPoolStatistics{ result: Result<DocumentPoolStatistics> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3355,16 +6160,17 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.pinDocument$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.androidHasUnsavedFormChanges{ result: Result<Boolean> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val documentIdArg = args[0] as String
+            api.pinDocument(documentIdArg) { result: Result<Unit> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
               } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
+                reply.reply(wrapResult(null))
               }
             }
           }
@@ -3373,16 +6179,17 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.unpinDocument$separatedMessageChannelSuffix", codec)
         if (api != null) {
-          channel.setMessageHandler { _, reply ->
-            api.androidHasUnsavedBookmarkChanges{ result: Result<Boolean> ->
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val documentIdArg = args[0] as String
+            api.unpinDocument(documentIdArg) { result: Result<Unit> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
               } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
+                reply.reply(wrapResult(null))
               }
             }
           }
@@ -3391,12 +6198,13 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocumentFromBytes$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val bookmarkIdArg = args[0] as String
-            api.androidGetBookmarkIsDirty(bookmarkIdArg) { result: Result<Boolean> ->
+            val dataArg = args[0] as ByteArray
+            val optionsArg = args[1] as HeadlessDocumentOpenOptions?
+            api.openDocumentFromBytes(dataArg, optionsArg) { result: Result<String> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3411,12 +6219,14 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocuments$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val bookmarkIdArg = args[0] as String
-            api.androidClearBookmarkDirtyState(bookmarkIdArg) { result: Result<Boolean> ->
+            val batchIdArg = args[0] as String
+            val requestsArg = args[1] as List<DocumentOpenRequest>
+            val maxConcurrencyArg = args[2] as Long?
+            api.openDocuments(batchIdArg, requestsArg, maxConcurrencyArg) { result: Result<List<DocumentOpenResult>> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -3431,18 +6241,17 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureThumbnailCache$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val fullyQualifiedNameArg = args[0] as String
-            api.androidGetFormFieldIsDirty(fullyQualifiedNameArg) { result: Result<Boolean> ->
+            val maxBytesArg = args[0] as Long
+            api.configureThumbnailCache(maxBytesArg) { result: Result<Unit> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
               } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
+                reply.reply(wrapResult(null))
               }
             }
           }
@@ -3451,16 +6260,15 @@ interface PdfDocumentApi {
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.clearThumbnailCache$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { _, reply ->
-            api.webHasUnsavedChanges{ result: Result<Boolean> ->
+            api.clearThumbnailCache{ result: Result<Unit> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
               } else {
-                val data = result.getOrNull()
-                reply.reply(wrapResult(data))
+                reply.reply(wrapResult(null))
               }
             }
           }
@@ -3468,68 +6276,13 @@ interface PdfDocumentApi {
           channel.setMessageHandler(null)
         }
       }
-    }
-  }
-}
-/**
- * API for opening and managing PDF documents without displaying a viewer.
- *
- * This API enables programmatic access to PDF documents for operations like:
- * - Reading and modifying annotations
- * - Processing annotations (flatten, embed, remove)
- * - Exporting/importing XFDF
- * - Form field manipulation
- *
- * Documents opened through this API must be explicitly closed using
- * [PdfDocumentApi.closeDocument] when no longer needed to free resources.
- *
- * **Usage Example**:
- * ```dart
- * final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
- * // Use PdfDocumentApi with the documentId for operations
- * final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
- * await pdfDocumentApi.processAnnotations(
- *   AnnotationType.all,
- *   AnnotationProcessingMode.flatten,
- *   '/path/to/output.pdf',
- * );
- * await pdfDocumentApi.closeDocument();
- * ```
- *
- * Generated interface from Pigeon that represents a handler of messages from Flutter.
- */
-interface HeadlessDocumentApi {
-  /**
-   * Opens a document from the given path without displaying a viewer.
-   *
-   * Returns a unique document ID that can be used to interact with the
-   * document via [PdfDocumentApi]. The document ID is used as a channel
-   * suffix to create isolated API instances for each document.
-   *
-   * @param documentPath Path to the PDF document (file path or content:// URI)
-   * @param options Optional settings like password for encrypted documents
-   * @return Unique document ID for use with PdfDocumentApi
-   * @throws NutrientApiError if the document cannot be opened
-   */
-  fun openDocument(documentPath: String, options: HeadlessDocumentOpenOptions?, callback: (Result<String>) -> Unit)
-
-  companion object {
-    /** The codec used by HeadlessDocumentApi. */
-    val codec: MessageCodec<Any?> by lazy {
-      NutrientApiPigeonCodec()
-    }
-    /** Sets up an instance of `HeadlessDocumentApi` to handle messages through the `binaryMessenger`. */
-    @JvmOverloads
-    fun setUp(binaryMessenger: BinaryMessenger, api: HeadlessDocumentApi?, messageChannelSuffix: String = "") {
-      val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument$separatedMessageChannelSuffix", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mailMerge$separatedMessageChannelSuffix", codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val documentPathArg = args[0] as String
-            val optionsArg = args[1] as HeadlessDocumentOpenOptions?
-            api.openDocument(documentPathArg, optionsArg) { result: Result<String> ->
+            val requestArg = args[0] as MailMergeRequest
+            api.mailMerge(requestArg) { result: Result<MailMergeResult> ->
               val error = result.exceptionOrNull()
               if (error != null) {
                 reply.reply(wrapError(error))
@@ -4246,3 +6999,160 @@ interface BookmarkManagerApi {
     }
   }
 }
+/**
+ * Progress of [HeadlessDocumentApi.openDocuments].
+ *
+ * Generated class from Pigeon that represents Flutter messages that can be called from Kotlin.
+ */
+class HeadlessDocumentOpenCallbacks(private val binaryMessenger: BinaryMessenger, private val messageChannelSuffix: String = "") {
+  companion object {
+    /** The codec used by HeadlessDocumentOpenCallbacks. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+  }
+  /** Called for every document of the batch once it was opened or failed to open. */
+  fun onDocumentOpened(resultArg: DocumentOpenResult, callback: (Result<Unit>) -> Unit)
+{
+    val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+    val channelName = "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentOpenCallbacks.onDocumentOpened$separatedMessageChannelSuffix"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(resultArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(NutrientApiError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+}
+/**
+ * Progress of [PdfDocumentApi.extractAllText].
+ *
+ * Generated class from Pigeon that represents Flutter messages that can be called from Kotlin.
+ */
+class PageTextExtractionCallbacks(private val binaryMessenger: BinaryMessenger, private val messageChannelSuffix: String = "") {
+  companion object {
+    /** The codec used by PageTextExtractionCallbacks. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+  }
+  /** Called for every chunk of extracted pages, in chunk order. */
+  fun onPageTextChunk(chunkArg: PageTextChunk, callback: (Result<Unit>) -> Unit)
+{
+    val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+    val channelName = "dev.flutter.pigeon.nutrient_flutter.PageTextExtractionCallbacks.onPageTextChunk$separatedMessageChannelSuffix"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(chunkArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(NutrientApiError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+}
+/**
+ * Results of [PdfDocumentApi.searchText].
+ *
+ * Generated class from Pigeon that represents Flutter messages that can be called from Kotlin.
+ */
+class TextSearchCallbacks(private val binaryMessenger: BinaryMessenger, private val messageChannelSuffix: String = "") {
+  companion object {
+    /** The codec used by TextSearchCallbacks. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+  }
+  /** Called for every page with hits, in page order. */
+  fun onPageResult(resultArg: TextSearchPageResult, callback: (Result<Unit>) -> Unit)
+{
+    val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+    val channelName = "dev.flutter.pigeon.nutrient_flutter.TextSearchCallbacks.onPageResult$separatedMessageChannelSuffix"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(resultArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(NutrientApiError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+}
+/**
+ * Progress of [PdfDocumentApi.importFormData] and
+ * [PdfDocumentApi.exportFormData].
+ *
+ * Generated class from Pigeon that represents Flutter messages that can be called from Kotlin.
+ */
+class FormDataTransferCallbacks(private val binaryMessenger: BinaryMessenger, private val messageChannelSuffix: String = "") {
+  companion object {
+    /** The codec used by FormDataTransferCallbacks. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+  }
+  /** Called after every chunk of fields. */
+  fun onProgress(progressArg: FormDataTransferProgress, callback: (Result<Unit>) -> Unit)
+{
+    val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+    val channelName = "dev.flutter.pigeon.nutrient_flutter.FormDataTransferCallbacks.onProgress$separatedMessageChannelSuffix"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(progressArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(NutrientApiError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+}
+/**
+ * Events of native PDF activities and Instant documents on Android,
+ * batched once per frame.
+ *
+ * Generated class from Pigeon that represents Flutter messages that can be called from Kotlin.
+ */
+class PlatformEventCallbacks(private val binaryMessenger: BinaryMessenger, private val messageChannelSuffix: String = "") {
+  companion object {
+    /** The codec used by PlatformEventCallbacks. */
+    val codec: MessageCodec<Any?> by lazy {
+      NutrientApiPigeonCodec()
+    }
+  }
+  /** Called with all events fired since the previous batch. */
+  fun onEvents(batchArg: PlatformEventBatch, callback: (Result<Unit>) -> Unit)
+{
+    val separatedMessageChannelSuffix = if (messageChannelSuffix.isNotEmpty()) ".$messageChannelSuffix" else ""
+    val channelName = "dev.flutter.pigeon.nutrient_flutter.PlatformEventCallbacks.onEvents$separatedMessageChannelSuffix"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(batchArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(NutrientApiError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+}
@@ -32,17 +32,25 @@ class BookmarkManagerImpl : BookmarkManagerApi {
         private const val TAG = "BookmarkManagerImpl"
     }
 
+    @Volatile
     private var documentId: String? = null
     private val disposables = CompositeDisposable()
 
     private val pdfDocument: PdfDocument?
         get() {
             val docId = documentId ?: return null
-            return FlutterPdfDocument.documentInstances[docId]?.pdfDocument
+            return DocumentRegistry[docId]?.pdfDocument
         }
 
+    /**
+     * Binds this manager to a document and takes a reference on it in [DocumentRegistry], so the
+     * document stays open until [dispose] is called.
+     */
+    @Synchronized
     override fun initialize(documentId: String) {
-        this.documentId = documentId
+        if (this.documentId == documentId) return
+        this.documentId?.let { DocumentRegistry.release(it) }
+        this.documentId = if (DocumentRegistry.acquire(documentId) != null) documentId else null
         Log.d(TAG, "Initialized BookmarkManager for document: $documentId")
     }
 
@@ -270,10 +278,12 @@ class BookmarkManagerImpl : BookmarkManagerApi {
     }
 
     /**
-     * Clean up resources.
+     * Clean up resources and release the reference on the document.
      */
+    @Synchronized
     fun dispose() {
         disposables.clear()
+        documentId?.let { DocumentRegistry.release(it) }
         documentId = null
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.os.SystemClock
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.AnnotationType
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.formatters.DocumentJsonFormatter
+import com.pspdfkit.document.formatters.XfdfFormatter
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.flutter.pspdfkit.api.DocumentExportRequest
+import com.pspdfkit.flutter.pspdfkit.api.DocumentExportResult
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.io.FileOutputStream
+import java.util.EnumSet
+
+/**
+ * Writes a flattened PDF, an XFDF file and an Instant JSON snapshot of a document in one pass.
+ *
+ * The annotations of the document are collected once and shared by the flattening task and the
+ * XFDF writer. The Instant JSON formatter of the SDK always collects the annotations itself.
+ * Each requested artifact is then written concurrently on the IO scheduler.
+ */
+object DocumentArtifactExporter {
+
+    const val ARTIFACT_FLATTENED_PDF = "flattenedPdf"
+    const val ARTIFACT_XFDF = "xfdf"
+    const val ARTIFACT_INSTANT_JSON = "instantJson"
+
+    /**
+     * Exports the artifacts selected by [request]. The returned results are in the order
+     * flattened PDF, XFDF, Instant JSON, skipping artifacts that were not requested.
+     */
+    @JvmStatic
+    fun exportArtifacts(
+        document: PdfDocument,
+        request: DocumentExportRequest
+    ): Single<List<DocumentExportResult>> {
+        if (request.flattenedPdfPath == null && request.xfdfPath == null && request.instantJsonPath == null) {
+            return Single.error(IllegalArgumentException("At least one export artifact path is required."))
+        }
+        val needsAnnotations = request.flattenedPdfPath != null || request.xfdfPath != null
+        val annotations: Single<List<Annotation>> = if (needsAnnotations) {
+            document.annotationProvider
+                .getAllAnnotationsOfTypeAsync(EnumSet.allOf(AnnotationType::class.java))
+                .toList()
+        } else {
+            Single.just(emptyList())
+        }
+
+        return annotations
+            .subscribeOn(Schedulers.io())
+            .flatMap { annotationList ->
+                val exports = mutableListOf<Single<DocumentExportResult>>()
+                request.flattenedPdfPath?.let { path ->
+                    exports.add(timed(ARTIFACT_FLATTENED_PDF, path, flattenedPdf(document, annotationList, path)))
+                }
+                request.xfdfPath?.let { path ->
+                    exports.add(timed(ARTIFACT_XFDF, path, xfdf(document, annotationList, path)))
+                }
+                request.instantJsonPath?.let { path ->
+                    exports.add(timed(ARTIFACT_INSTANT_JSON, path, instantJson(document, path)))
+                }
+                Single.zip(exports) { results -> results.map { it as DocumentExportResult } }
+            }
+    }
+
+    private fun flattenedPdf(document: PdfDocument, annotations: List<Annotation>, path: String): Completable {
+        val task = PdfProcessorTask.fromDocument(document)
+            .changeAnnotations(annotations, PdfProcessorTask.AnnotationProcessingMode.FLATTEN)
+        return PdfProcessor.processDocumentAsync(task, File(path)).ignoreElements()
+    }
+
+    private fun xfdf(document: PdfDocument, annotations: List<Annotation>, path: String): Completable {
+        return Completable.using(
+            { FileOutputStream(path) },
+            { outputStream ->
+                XfdfFormatter.writeXfdfAsync(document, annotations, document.formProvider.formFields, outputStream)
+            },
+            { outputStream -> outputStream.close() }
+        )
+    }
+
+    /**
+     * [DocumentJsonFormatter] cannot take a list of annotations, so Instant JSON exports read the
+     * annotations of the document again instead of using the shared list.
+     */
+    private fun instantJson(document: PdfDocument, path: String): Completable {
+        return Completable.using(
+            { FileOutputStream(path) },
+            { outputStream -> DocumentJsonFormatter.exportDocumentJsonAsync(document, outputStream) },
+            { outputStream -> outputStream.close() }
+        )
+    }
+
+    /** Runs [work] on its own IO thread and measures how long it took to complete. */
+    private fun timed(artifact: String, path: String, work: Completable): Single<DocumentExportResult> {
+        return Single.defer {
+            val start = SystemClock.elapsedRealtime()
+            work.toSingle {
+                DocumentExportResult(artifact, path, SystemClock.elapsedRealtime() - start)
+            }
+        }.subscribeOn(Schedulers.io())
+    }
+}
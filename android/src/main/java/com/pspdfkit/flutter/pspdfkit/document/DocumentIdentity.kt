@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import com.pspdfkit.document.PdfDocument
+import java.io.File
+import java.security.MessageDigest
+
+/** Names on-disk cache entries after the document they were created from. */
+object DocumentIdentity {
+
+    /**
+     * Identifies the document content: a hash of the UID, plus modification time and size for
+     * local files. Starts with [uidHash] followed by a dash, so all entries of a document can
+     * be found by prefix.
+     *
+     * The key does not look at the file content. A file that is replaced outside of this plugin
+     * with the same modification time and size keeps its key, so entries created from the old
+     * content are reused for it.
+     */
+    @JvmStatic
+    fun key(document: PdfDocument): String {
+        val file = document.documentSource.fileUri
+            ?.takeIf { it.scheme == null || it.scheme == "file" }
+            ?.path
+            ?.let { File(it) }
+        val stamp = if (file != null && file.isFile) "${file.lastModified()}_${file.length()}" else "0"
+        return "${uidHash(document)}-$stamp"
+    }
+
+    /** SHA-1 of the document UID, safe to use in file names. */
+    @JvmStatic
+    fun uidHash(document: PdfDocument): String {
+        val digest = MessageDigest.getInstance("SHA-1").digest(document.uid.toByteArray())
+        return digest.joinToString("") { "%02x".format(it) }
+    }
+}
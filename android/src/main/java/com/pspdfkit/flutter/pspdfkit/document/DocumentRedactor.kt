@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.graphics.RectF
+import android.net.Uri
+import android.os.SystemClock
+import com.pspdfkit.annotations.RedactionAnnotation
+import com.pspdfkit.document.DocumentSource
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.flutter.pspdfkit.api.RedactionPageResult
+import com.pspdfkit.flutter.pspdfkit.api.RedactionRequest
+import com.pspdfkit.flutter.pspdfkit.api.RedactionResult
+import com.pspdfkit.flutter.pspdfkit.util.PageRangeHelper
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.util.regex.Pattern
+
+/**
+ * Finds text matching a set of regular expressions and covers it with redaction annotations.
+ *
+ * Page text is extracted once per page and matched against every pattern in parallel on the
+ * computation scheduler. Each pattern is compiled on its own, so backreferences and group names
+ * keep their meaning. Without an output path, the redaction annotations are added to the document
+ * in page order. With an output path, the document is left unchanged: the annotations are added
+ * to a temporary copy, which is then written with [PdfProcessorTask.applyRedactions].
+ */
+object DocumentRedactor {
+
+    private class PageMatches(val pageIndex: Int, val matches: List<List<RectF>>)
+
+    @JvmStatic
+    fun redactPatterns(context: Context?, document: PdfDocument, request: RedactionRequest): Single<RedactionResult> {
+        return Single.defer {
+            require(request.patterns.isNotEmpty()) { "At least one redaction pattern is required." }
+            val outputPath = request.outputPath
+            check(outputPath == null || context != null) { "No context available to write the redacted document." }
+            val start = SystemClock.elapsedRealtime()
+            val flags = if (request.caseSensitive == false) Pattern.CASE_INSENSITIVE or Pattern.UNICODE_CASE else 0
+            val patterns = request.patterns.map { Pattern.compile(it, flags) }
+            val pageIndexes = PageRangeHelper.parsePageRanges(request.pageRanges, document.pageCount).distinct()
+            var scanDurationMs = 0L
+
+            Flowable.fromIterable(pageIndexes)
+                .parallel()
+                .runOn(Schedulers.computation())
+                .map { pageIndex -> findMatches(document, pageIndex, patterns) }
+                .sequential()
+                .filter { it.matches.isNotEmpty() }
+                .toSortedList { first, second -> first.pageIndex.compareTo(second.pageIndex) }
+                .doOnSuccess { scanDurationMs = SystemClock.elapsedRealtime() - start }
+                .observeOn(Schedulers.io())
+                .flatMap { pages ->
+                    val redact = if (outputPath == null || context == null) {
+                        addRedactions(document, pages)
+                    } else {
+                        writeRedactedCopy(context, document, pages, File(outputPath))
+                    }
+                    redact.toSingle {
+                        RedactionResult(
+                            pages = pages.map { RedactionPageResult(it.pageIndex.toLong(), it.matches.size.toLong()) },
+                            totalMatches = pages.sumOf { it.matches.size }.toLong(),
+                            pagesScanned = pageIndexes.size.toLong(),
+                            durationMs = SystemClock.elapsedRealtime() - start,
+                            pagesPerSecond = pageIndexes.size * 1000.0 / scanDurationMs.coerceAtLeast(1)
+                        )
+                    }
+                }
+        }.subscribeOn(Schedulers.io())
+    }
+
+    /** Returns the text rects of every match on the page, with overlapping matches merged. */
+    private fun findMatches(document: PdfDocument, pageIndex: Int, patterns: List<Pattern>): PageMatches {
+        val text = document.getPageText(pageIndex)
+        val ranges = mutableListOf<Pair<Int, Int>>()
+        for (pattern in patterns) {
+            val matcher = pattern.matcher(text)
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) ranges.add(matcher.start() to matcher.end())
+            }
+        }
+        ranges.sortBy { it.first }
+        val matches = mutableListOf<List<RectF>>()
+        var index = 0
+        while (index < ranges.size) {
+            val matchStart = ranges[index].first
+            var matchEnd = ranges[index].second
+            // Text matched by several patterns is redacted once.
+            while (++index < ranges.size && ranges[index].first < matchEnd) {
+                matchEnd = maxOf(matchEnd, ranges[index].second)
+            }
+            val rects = document.getPageTextRects(pageIndex, matchStart, matchEnd - matchStart)
+            if (rects.isNotEmpty()) {
+                matches.add(rects)
+            }
+        }
+        return PageMatches(pageIndex, matches)
+    }
+
+    private fun addRedactions(document: PdfDocument, pages: List<PageMatches>): Completable {
+        return Completable.fromAction {
+            for (page in pages) {
+                for (rects in page.matches) {
+                    document.annotationProvider.addAnnotationToPage(RedactionAnnotation(page.pageIndex, rects))
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes [document] with [pages] redacted to [outputFile]. The redaction annotations are added
+     * to a temporary copy of the document, so [document] itself is not modified. This takes two
+     * processor runs, one for the copy and one to apply the redactions, because a processor task
+     * cannot add annotations itself.
+     */
+    private fun writeRedactedCopy(
+        context: Context,
+        document: PdfDocument,
+        pages: List<PageMatches>,
+        outputFile: File
+    ): Completable {
+        return Completable.using(
+            { File.createTempFile("nutrient_redaction", ".pdf", context.cacheDir) },
+            { copyFile ->
+                PdfProcessor.processDocumentAsync(PdfProcessorTask.fromDocument(document), copyFile)
+                    .ignoreElements()
+                    .andThen(Single.fromCallable { openCopy(context, document, copyFile) })
+                    .flatMapCompletable { copy ->
+                        addRedactions(copy, pages).andThen(
+                            Completable.defer {
+                                val task = PdfProcessorTask.fromDocument(copy).applyRedactions()
+                                PdfProcessor.processDocumentAsync(task, outputFile).ignoreElements()
+                            }
+                        )
+                    }
+            },
+            { copyFile -> copyFile.delete() }
+        )
+    }
+
+    /** Opens [copyFile], which keeps the encryption of [document] and so also its password. */
+    private fun openCopy(context: Context, document: PdfDocument, copyFile: File): PdfDocument {
+        val password = document.documentSource.password
+        val source = if (password != null) {
+            DocumentSource(Uri.fromFile(copyFile), password)
+        } else {
+            DocumentSource(Uri.fromFile(copyFile))
+        }
+        return PdfDocumentLoader.openDocument(context, source)
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Thread-safe registry of the documents exposed to Flutter, keyed by document ID.
+ *
+ * A document can be shared by several holders: the view or headless handle that opened it and
+ * the manager APIs (e.g. [BookmarkManagerImpl]) that look it up by ID. Every holder takes a
+ * reference with [register] or [acquire] and gives it back with [release]. The document is
+ * closed through [FlutterPdfDocument.onLastHolderReleased] once the last reference is released.
+ *
+ * Lookups and reference counting never take a lock: entries live in a [ConcurrentHashMap] and
+ * the reference count is updated with compare-and-set.
+ */
+object DocumentRegistry {
+
+    private class Entry(val document: FlutterPdfDocument) {
+        private val holders = AtomicInteger(1)
+
+        /** Takes a reference, unless the entry was already released by its last holder. */
+        fun retain(): Boolean {
+            while (true) {
+                val count = holders.get()
+                if (count == 0) return false
+                if (holders.compareAndSet(count, count + 1)) return true
+            }
+        }
+
+        /** Drops a reference. @return true if this was the last one */
+        fun release(): Boolean {
+            while (true) {
+                val count = holders.get()
+                if (count == 0) return false
+                if (holders.compareAndSet(count, count - 1)) return count == 1
+            }
+        }
+
+        val holderCount: Int
+            get() = holders.get()
+    }
+
+    private val entries = ConcurrentHashMap<String, Entry>()
+
+    /**
+     * Registers [document] under [documentId] on behalf of the holder that opened it. Registering
+     * the same document again takes another reference.
+     *
+     * @throws IllegalStateException if a different document is registered under [documentId].
+     * Replacing it would drop the references of its holders, whose later releases would then
+     * close the new document.
+     */
+    @JvmStatic
+    fun register(documentId: String, document: FlutterPdfDocument) {
+        while (true) {
+            val existing = entries.putIfAbsent(documentId, Entry(document)) ?: return
+            if (existing.document === document) {
+                if (existing.retain()) return
+            } else {
+                check(existing.holderCount == 0) {
+                    "Document ID $documentId is already registered for another document."
+                }
+            }
+            // The existing entry was released by its last holder and is about to be removed.
+            if (entries.replace(documentId, existing, Entry(document))) return
+        }
+    }
+
+    /**
+     * Takes a reference to the document registered under [documentId].
+     *
+     * @return the document, or null if no open document is registered under this ID
+     */
+    @JvmStatic
+    fun acquire(documentId: String): FlutterPdfDocument? {
+        val entry = entries[documentId] ?: return null
+        return if (entry.retain()) entry.document else null
+    }
+
+    /**
+     * Returns the document registered under [documentId] without taking a reference. Only use
+     * this from code that already holds a reference.
+     */
+    @JvmStatic
+    operator fun get(documentId: String): FlutterPdfDocument? {
+        return entries[documentId]?.document
+    }
+
+    /**
+     * Releases one reference to the document registered under [documentId] and closes the
+     * document when it was the last one.
+     *
+     * @return true if the document was closed
+     */
+    @JvmStatic
+    fun release(documentId: String): Boolean {
+        val entry = entries[documentId] ?: return false
+        if (!entry.release()) return false
+        entries.remove(documentId, entry)
+        entry.document.onLastHolderReleased()
+        return true
+    }
+
+    /** Returns the number of references held on the document, 0 if it is not registered. */
+    @JvmStatic
+    fun holderCount(documentId: String): Int {
+        return entries[documentId]?.holderCount ?: 0
+    }
+}
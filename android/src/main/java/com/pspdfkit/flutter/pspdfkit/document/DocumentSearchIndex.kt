@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchHit
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchPageResult
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.IOException
+import java.util.BitSet
+
+/**
+ * A full-text search index over the pages of one document.
+ *
+ * The index maps every trigram of the lower-cased page texts to the set of pages containing it.
+ * A search only scans the pages that contain all trigrams of the query, so repeated searches in
+ * large documents don't touch most pages. Pages can be replaced one at a time when their text
+ * changes.
+ *
+ * Folded texts have the same length as the original, so offsets found in them apply to the
+ * original text.
+ */
+class DocumentSearchIndex {
+
+    companion object {
+        private const val MAGIC = 0x4e534958 // "NSIX"
+        private const val VERSION = 1
+        private const val POSTING_LIST = 0
+        private const val POSTING_BITS = 1
+
+        /**
+         * Reads an index written by [writeTo]. Fails with an [IOException] if the data was
+         * written by an incompatible version.
+         */
+        @JvmStatic
+        @Throws(IOException::class)
+        fun readFrom(input: DataInputStream): DocumentSearchIndex {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw IOException("Unsupported search index format.")
+            }
+            val index = DocumentSearchIndex()
+            repeat(input.readInt()) {
+                val bytes = ByteArray(input.readInt())
+                input.readFully(bytes)
+                val text = String(bytes, Charsets.UTF_8)
+                index.pages.add(text)
+                index.foldedPages.add(fold(text, ignoreCase = true))
+            }
+            repeat(input.readInt()) {
+                val trigram = input.readLong()
+                val pageSet = when (input.readByte().toInt()) {
+                    POSTING_LIST -> BitSet().apply { repeat(input.readInt()) { set(input.readInt()) } }
+                    POSTING_BITS -> BitSet.valueOf(ByteArray(input.readInt()).also { input.readFully(it) })
+                    else -> throw IOException("Corrupt search index.")
+                }
+                index.postings[trigram] = pageSet
+            }
+            return index
+        }
+
+        /** Maps whitespace to spaces and, if [ignoreCase], letters to lower case, char by char. */
+        private fun fold(text: String, ignoreCase: Boolean): String {
+            val chars = CharArray(text.length)
+            for (i in text.indices) {
+                val c = text[i]
+                chars[i] = when {
+                    Character.isWhitespace(c) -> ' '
+                    ignoreCase -> Character.toLowerCase(c)
+                    else -> c
+                }
+            }
+            return String(chars)
+        }
+
+        private fun trigram(text: String, start: Int): Long {
+            return (text[start].code.toLong() shl 32) or
+                (text[start + 1].code.toLong() shl 16) or
+                text[start + 2].code.toLong()
+        }
+    }
+
+    private val pages = ArrayList<String>()
+    private val foldedPages = ArrayList<String>()
+    private val postings = HashMap<Long, BitSet>()
+
+    val pageCount: Int
+        @Synchronized get() = pages.size
+
+    @Synchronized
+    fun getPageText(pageIndex: Int): String? = pages.getOrNull(pageIndex)
+
+    /** Replaces the text of [pageIndex], growing the index if needed. */
+    @Synchronized
+    fun setPageText(pageIndex: Int, text: String) {
+        while (pages.size <= pageIndex) {
+            pages.add("")
+            foldedPages.add("")
+        }
+        if (pages[pageIndex] == text) return
+        removePostings(pageIndex)
+        pages[pageIndex] = text
+        foldedPages[pageIndex] = fold(text, ignoreCase = true)
+        addPostings(pageIndex)
+    }
+
+    /** Drops the pages from [pageCount] on, e.g. after pages were removed from the document. */
+    @Synchronized
+    fun truncate(pageCount: Int) {
+        while (pages.size > pageCount) {
+            removePostings(pages.size - 1)
+            pages.removeAt(pages.size - 1)
+            foldedPages.removeAt(foldedPages.size - 1)
+        }
+    }
+
+    /**
+     * Finds [query] in all pages. Pages are searched lazily in page order while the sequence is
+     * iterated, and only pages with hits are returned. Stops after [maxResults] hits.
+     */
+    fun search(
+        query: String,
+        caseSensitive: Boolean,
+        maxResults: Long,
+        contextLength: Int
+    ): Sequence<TextSearchPageResult> {
+        if (query.isEmpty()) return emptySequence()
+        val foldedQuery = fold(query, ignoreCase = true)
+        val candidates = synchronized(this) { candidatePages(foldedQuery) }
+        return sequence {
+            var remaining = maxResults
+            var pageIndex = candidates.nextSetBit(0)
+            while (pageIndex >= 0 && remaining > 0) {
+                val hits = findHits(pageIndex, query, caseSensitive, remaining, contextLength)
+                if (hits.isNotEmpty()) {
+                    remaining -= hits.size
+                    yield(TextSearchPageResult(pageIndex.toLong(), hits))
+                }
+                pageIndex = candidates.nextSetBit(pageIndex + 1)
+            }
+        }
+    }
+
+    @Synchronized
+    @Throws(IOException::class)
+    fun writeTo(output: DataOutputStream) {
+        output.writeInt(MAGIC)
+        output.writeInt(VERSION)
+        output.writeInt(pages.size)
+        for (text in pages) {
+            val bytes = text.toByteArray(Charsets.UTF_8)
+            output.writeInt(bytes.size)
+            output.write(bytes)
+        }
+        output.writeInt(postings.size)
+        for ((trigram, pageSet) in postings) {
+            output.writeLong(trigram)
+            // Rare trigrams are smaller as a list of pages, common ones as a bit set.
+            val bits = pageSet.toByteArray()
+            val cardinality = pageSet.cardinality()
+            if (cardinality * 4 < bits.size) {
+                output.writeByte(POSTING_LIST)
+                output.writeInt(cardinality)
+                var pageIndex = pageSet.nextSetBit(0)
+                while (pageIndex >= 0) {
+                    output.writeInt(pageIndex)
+                    pageIndex = pageSet.nextSetBit(pageIndex + 1)
+                }
+            } else {
+                output.writeByte(POSTING_BITS)
+                output.writeInt(bits.size)
+                output.write(bits)
+            }
+        }
+    }
+
+    private fun candidatePages(foldedQuery: String): BitSet {
+        val candidates = BitSet(pages.size)
+        if (foldedQuery.length < 3) {
+            // Too short for trigrams, every page with text is a candidate.
+            pages.forEachIndexed { index, text -> if (text.isNotEmpty()) candidates.set(index) }
+            return candidates
+        }
+        for (i in 0..foldedQuery.length - 3) {
+            val pageSet = postings[trigram(foldedQuery, i)] ?: return BitSet()
+            if (i == 0) candidates.or(pageSet) else candidates.and(pageSet)
+        }
+        return candidates
+    }
+
+    private fun findHits(
+        pageIndex: Int,
+        query: String,
+        caseSensitive: Boolean,
+        maxHits: Long,
+        contextLength: Int
+    ): List<TextSearchHit> {
+        val (text, haystack) = synchronized(this) {
+            val text = pages.getOrNull(pageIndex) ?: return emptyList()
+            text to if (caseSensitive) fold(text, ignoreCase = false) else foldedPages[pageIndex]
+        }
+        val needle = fold(query, ignoreCase = !caseSensitive)
+        val hits = ArrayList<TextSearchHit>()
+        var offset = haystack.indexOf(needle)
+        while (offset >= 0 && hits.size < maxHits) {
+            val previewStart = (offset - contextLength).coerceAtLeast(0)
+            val previewEnd = (offset + needle.length + contextLength).coerceAtMost(text.length)
+            val preview = fold(text.substring(previewStart, previewEnd), ignoreCase = false)
+            hits.add(TextSearchHit(offset.toLong(), needle.length.toLong(), preview, (offset - previewStart).toLong()))
+            offset = haystack.indexOf(needle, offset + needle.length)
+        }
+        return hits
+    }
+
+    private fun addPostings(pageIndex: Int) {
+        val text = foldedPages[pageIndex]
+        for (i in 0..text.length - 3) {
+            postings.getOrPut(trigram(text, i)) { BitSet() }.set(pageIndex)
+        }
+    }
+
+    private fun removePostings(pageIndex: Int) {
+        val text = foldedPages[pageIndex]
+        for (i in 0..text.length - 3) {
+            val key = trigram(text, i)
+            val pageSet = postings[key] ?: continue
+            pageSet.clear(pageIndex)
+            if (pageSet.isEmpty) postings.remove(key)
+        }
+    }
+}
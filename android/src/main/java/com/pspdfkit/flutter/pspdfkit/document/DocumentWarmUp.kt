@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.os.SystemClock
+import android.util.Log
+import com.pspdfkit.annotations.AnnotationType
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.DocumentWarmUpOptions
+import com.pspdfkit.flutter.pspdfkit.api.DocumentWarmUpResult
+import com.pspdfkit.flutter.pspdfkit.api.WarmUpPhaseTiming
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.util.EnumSet
+
+/**
+ * Preloads document data right after a headless document was opened.
+ *
+ * Each requested phase runs on its own IO thread, so loading the form fields does not wait for
+ * the annotations and vice versa. The SDK caches what the phases load, the first call from Dart
+ * that needs the data then returns without parsing it. A failing phase is reported in its
+ * [WarmUpPhaseTiming] and does not affect the other phases or the document.
+ */
+object DocumentWarmUp {
+
+    private const val TAG = "DocumentWarmUp"
+
+    const val PHASE_FORM_FIELDS = "formFields"
+    const val PHASE_PAGE_INFO = "pageInfo"
+    const val PHASE_OUTLINE = "outline"
+    const val PHASE_ANNOTATIONS = "annotations"
+
+    /** Result for documents that were opened without warm-up. */
+    val EMPTY_RESULT = DocumentWarmUpResult(emptyList(), 0)
+
+    /** Whether [options] requests at least one phase. */
+    @JvmStatic
+    fun isRequested(options: DocumentWarmUpOptions?): Boolean {
+        return options != null && (options.formFields == true || options.pageInfo == true ||
+            options.outline == true || options.annotations == true)
+    }
+
+    /**
+     * Runs the phases selected by [options]. The returned timings are in the order form fields,
+     * page info, outline, annotations, skipping phases that were not requested. The returned
+     * [Single] never fails.
+     */
+    @JvmStatic
+    fun warmUp(document: PdfDocument, options: DocumentWarmUpOptions): Single<DocumentWarmUpResult> {
+        val phases = mutableListOf<Single<WarmUpPhaseTiming>>()
+        if (options.formFields == true) {
+            phases.add(timed(PHASE_FORM_FIELDS, Completable.fromAction { document.formProvider.formFields }))
+        }
+        if (options.pageInfo == true) {
+            phases.add(timed(PHASE_PAGE_INFO, pageInfo(document)))
+        }
+        if (options.outline == true) {
+            phases.add(timed(PHASE_OUTLINE, outline(document)))
+        }
+        if (options.annotations == true) {
+            phases.add(
+                timed(
+                    PHASE_ANNOTATIONS,
+                    document.annotationProvider
+                        .getAllAnnotationsOfTypeAsync(EnumSet.allOf(AnnotationType::class.java))
+                        .ignoreElements()
+                )
+            )
+        }
+        if (phases.isEmpty()) {
+            return Single.just(EMPTY_RESULT)
+        }
+        return Single.defer {
+            val start = SystemClock.elapsedRealtime()
+            Single.zip(phases) { results ->
+                DocumentWarmUpResult(
+                    results.map { it as WarmUpPhaseTiming },
+                    SystemClock.elapsedRealtime() - start
+                )
+            }
+        }
+    }
+
+    private fun pageInfo(document: PdfDocument): Completable {
+        return Completable.fromAction {
+            for (pageIndex in 0 until document.pageCount) {
+                document.getPageSize(pageIndex)
+                document.getPageRotation(pageIndex)
+                document.getPageLabel(pageIndex, true)
+            }
+        }
+    }
+
+    private fun outline(document: PdfDocument): Completable {
+        return Completable.fromAction {
+            document.outline
+            document.bookmarkProvider.bookmarks
+        }
+    }
+
+    /** Runs [work] on its own IO thread and measures it, turning a failure into an error timing. */
+    private fun timed(phase: String, work: Completable): Single<WarmUpPhaseTiming> {
+        return Single.defer {
+            val start = SystemClock.elapsedRealtime()
+            work.toSingle { WarmUpPhaseTiming(phase, SystemClock.elapsedRealtime() - start) }
+                .onErrorReturn { throwable ->
+                    Log.w(TAG, "Warm-up phase $phase failed", throwable)
+                    WarmUpPhaseTiming(phase, SystemClock.elapsedRealtime() - start, throwable.message ?: throwable.toString())
+                }
+        }.subscribeOn(Schedulers.io())
+    }
+}
@@ -9,6 +9,9 @@
 
 package com.pspdfkit.flutter.pspdfkit.document
 
+import android.content.Context
+import android.os.Looper
+import android.os.SystemClock
 import com.pspdfkit.document.PdfDocument
 import com.pspdfkit.document.formatters.DocumentJsonFormatter
 import com.pspdfkit.document.formatters.XfdfFormatter
@@ -16,25 +19,61 @@ import com.pspdfkit.document.processor.PdfProcessor
 import com.pspdfkit.document.processor.PdfProcessorTask
 import com.pspdfkit.flutter.pspdfkit.AnnotationTypeAdapter
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingMode
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingScope
 import com.pspdfkit.flutter.pspdfkit.api.AnnotationType
+import com.pspdfkit.flutter.pspdfkit.api.DocumentExportRequest
+import com.pspdfkit.flutter.pspdfkit.api.DocumentExportResult
 import com.pspdfkit.flutter.pspdfkit.api.DocumentSaveOptions
+import com.pspdfkit.flutter.pspdfkit.api.DocumentWarmUpOptions
+import com.pspdfkit.flutter.pspdfkit.api.DocumentWarmUpResult
+import com.pspdfkit.flutter.pspdfkit.api.FormDataTransferCallbacks
+import com.pspdfkit.flutter.pspdfkit.api.FormDataTransferProgress
+import com.pspdfkit.flutter.pspdfkit.api.FormDataTransferResult
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldValue
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldWriteError
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationRule
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationViolation
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
 import com.pspdfkit.flutter.pspdfkit.api.PageInfo
+import com.pspdfkit.flutter.pspdfkit.api.PageRenderOptions
+import com.pspdfkit.flutter.pspdfkit.api.PageTextChunk
+import com.pspdfkit.flutter.pspdfkit.api.PageTextExtractionCallbacks
 import com.pspdfkit.flutter.pspdfkit.api.PdfDocumentApi
 import com.pspdfkit.flutter.pspdfkit.api.PdfVersion
+import com.pspdfkit.flutter.pspdfkit.api.RedactionRequest
+import com.pspdfkit.flutter.pspdfkit.api.RedactionResult
+import com.pspdfkit.flutter.pspdfkit.api.RenderedPage
+import com.pspdfkit.flutter.pspdfkit.api.TextExtractionSummary
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchCallbacks
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchOptions
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchPageResult
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchSummary
+import com.pspdfkit.flutter.pspdfkit.api.ThumbnailResult
+import com.pspdfkit.flutter.pspdfkit.forms.FormDataFormat
+import com.pspdfkit.flutter.pspdfkit.forms.FormDataTransfer
+import com.pspdfkit.flutter.pspdfkit.forms.FormFieldTrie
 import com.pspdfkit.flutter.pspdfkit.forms.FormHelper
+import com.pspdfkit.flutter.pspdfkit.forms.FormMetadataCache
+import com.pspdfkit.flutter.pspdfkit.forms.FormValidator
+import com.pspdfkit.flutter.pspdfkit.forms.FormValueWriter
 import com.pspdfkit.flutter.pspdfkit.util.DocumentJsonDataProvider
 import com.pspdfkit.flutter.pspdfkit.util.Preconditions.requireNotNullNotEmpty
 import com.pspdfkit.flutter.pspdfkit.util.ProcessorHelper
 import com.pspdfkit.flutter.pspdfkit.util.areValidIndexes
 import com.pspdfkit.forms.ChoiceFormElement
 import com.pspdfkit.forms.EditableButtonFormElement
+import com.pspdfkit.forms.FormField
 import com.pspdfkit.forms.SignatureFormElement
 import com.pspdfkit.forms.TextFormElement
 import io.flutter.plugin.common.BinaryMessenger
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
 import kotlinx.coroutines.runBlocking
+import io.reactivex.rxjava3.disposables.CompositeDisposable
 import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.observers.DisposableSingleObserver
 import io.reactivex.rxjava3.schedulers.Schedulers
 import io.reactivex.rxjava3.subscribers.DisposableSubscriber
 import kotlinx.serialization.json.Json
@@ -47,27 +86,203 @@ import java.io.File
 import java.io.FileOutputStream
 import java.nio.charset.StandardCharsets
 import java.util.EnumSet
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.regex.PatternSyntaxException
 
 class FlutterPdfDocument(
-    val pdfDocument: PdfDocument,
+    pdfDocument: PdfDocument,
     val documentId: String? = null,
-    private val binaryMessenger: BinaryMessenger? = null
+    private val binaryMessenger: BinaryMessenger? = null,
+    private val documentLoader: (() -> PdfDocument)? = null,
+    private val context: Context? = null
 ) : PdfDocumentApi {
 
-    companion object {
-        // Registry to track document instances by their IDs
-        val documentInstances = mutableMapOf<String, FlutterPdfDocument>()
+    @Volatile
+    private var residentDocument: PdfDocument? = pdfDocument
 
-        fun registerDocument(documentId: String, document: FlutterPdfDocument) {
-            documentInstances[documentId] = document
+    private val handleReleased = AtomicBoolean(false)
+
+    /**
+     * The wrapped document. Calls from Flutter only arrive once an evicted headless document was
+     * reopened with [loadDocument], see [ResidentDocumentMessenger]. Background work that finds
+     * the document evicted reopens it with [documentLoader] on its own thread.
+     */
+    val pdfDocument: PdfDocument
+        get() {
+            val document = residentDocument ?: reopenDocument()
+            documentId?.let { HeadlessDocumentPool.touch(it) }
+            return document
         }
 
-        fun unregisterDocument(documentId: String) {
-            documentInstances.remove(documentId)
+    /** Whether the native document is currently loaded. */
+    val isResident: Boolean
+        get() = residentDocument != null
+
+    /** The loaded native document, null while evicted. Unlike [pdfDocument], never reopens it. */
+    internal val nativeDocument: PdfDocument?
+        get() = residentDocument
+
+    // Shared by all calls that arrive while the document is being reopened. Main thread only.
+    private var reopening: Single<PdfDocument>? = null
+
+    /**
+     * Emits the native document on the main thread, reopening an evicted document on the IO
+     * scheduler first. Must be called on the main thread.
+     */
+    internal fun loadDocument(): Single<PdfDocument> {
+        residentDocument?.let { return Single.just(it) }
+        reopening?.let { return it }
+        val loader = documentLoader
+            ?: return Single.error(IllegalStateException("Document $documentId was released and cannot be reopened."))
+        return Single.fromCallable { loader() }
+            .subscribeOn(Schedulers.io())
+            .observeOn(AndroidSchedulers.mainThread())
+            .map { document -> onReopened(document) }
+            .doFinally { reopening = null }
+            .cache()
+            .also { reopening = it }
+    }
+
+    private fun reopenDocument(): PdfDocument {
+        // Loading a document can take seconds, which must never block the main thread.
+        check(Looper.myLooper() != Looper.getMainLooper()) {
+            "Document $documentId was evicted and must be reopened with loadDocument()."
         }
+        val loader = checkNotNull(documentLoader) { "Document $documentId was released and cannot be reopened." }
+        return residentDocument ?: onReopened(loader())
+    }
+
+    /** Keeps [document] unless another thread reopened the document first, and returns the kept one. */
+    private fun onReopened(document: PdfDocument): PdfDocument {
+        val kept = synchronized(this) {
+            residentDocument ?: document.also { residentDocument = it }
+        }
+        val documentId = documentId
+        if (kept === document && documentId != null) {
+            // The pool only evicts documents on the main thread.
+            AndroidSchedulers.mainThread().scheduleDirect { HeadlessDocumentPool.onReopened(documentId) }
+        }
+        return kept
+    }
+
+    /**
+     * Whether the native document may be released now. Documents that cannot be reopened, have
+     * unsaved changes, have a running operation or are shared with another holder like a
+     * bookmark manager, which may access the document at any time, are kept.
+     */
+    internal fun canEvict(): Boolean {
+        val document = residentDocument ?: return false
+        return documentLoader != null && !document.wasModified() && !isBusy() &&
+            (documentId == null || DocumentRegistry.holderCount(documentId) <= 1)
+    }
+
+    /**
+     * Releases the native document so it can be garbage collected, see [canEvict].
+     * Must be called on the main thread.
+     *
+     * @return true if the document was released
+     */
+    internal fun evict(): Boolean {
+        if (!canEvict()) return false
+        // The next search loads or builds the index again.
+        searchIndexDisposable?.dispose()
+        residentDocument = null
+        return true
+    }
+
+    /**
+     * Whether the handle may be closed by the pool. Handles with unsaved changes, a running
+     * operation or another holder are kept.
+     */
+    internal fun canClose(): Boolean {
+        if (documentId == null || isBusy() || DocumentRegistry.holderCount(documentId) != 1) return false
+        return residentDocument?.wasModified() != true
+    }
+
+    /**
+     * Closes the headless handle as if Flutter had called [closeDocument]: the document is
+     * unregistered and its message channel is torn down. Must be called on the main thread.
+     */
+    internal fun close() {
+        dispose()
+        // Release the reference held by the headless handle. The document is only closed
+        // once no view or manager API holds it anymore, see onLastHolderReleased().
+        if (documentId != null && handleReleased.compareAndSet(false, true)) {
+            DocumentRegistry.release(documentId)
+        }
+    }
+
+    private fun isBusy(): Boolean {
+        return disposable?.isDisposed == false || warmUpDisposable?.isDisposed == false ||
+            textExtractions.size() > 0 || formDataTransfers.size() > 0 || pageOperations.size() > 0
     }
 
     private var disposable: Disposable? = null
+
+    @Volatile
+    private var warmUp: Single<DocumentWarmUpResult>? = null
+    private var warmUpDisposable: Disposable? = null
+
+    // Running extractAllText() and searchText() calls, each removes itself once it terminates.
+    private val textExtractions = CompositeDisposable()
+
+    // Running page renders, thumbnail and page text reads, see track().
+    private val pageOperations = CompositeDisposable()
+
+    // Not part of isBusy(), indexing must not keep an idle document resident. Evicting or
+    // closing the document cancels it instead.
+    private var searchIndexDisposable: Disposable? = null
+
+    // Running importFormData() and exportFormData() calls, each removes itself once it terminates.
+    private val formDataTransfers = CompositeDisposable()
+
+    private var formMetadataCache: FormMetadataCache? = null
+
+    /** The form field metadata of the current native document, created on first use. */
+    private val formMetadata: FormMetadataCache
+        @Synchronized get() {
+            val document = pdfDocument
+            formMetadataCache?.let { if (it.document === document) return it else it.release() }
+            return FormMetadataCache(document).also { formMetadataCache = it }
+        }
+
+    private var formFieldTrie: FormFieldTrie? = null
+
+    private var formFieldTrieDocument: PdfDocument? = null
+
+    private var formValidationRules: List<FormValidationRule> = emptyList()
+
+    private var formValidatorInstance: FormValidator? = null
+
+    /** The validator of the current native document, null if no rules are set. */
+    private val formValidator: FormValidator?
+        @Synchronized get() {
+            if (formValidationRules.isEmpty()) return null
+            val document = pdfDocument
+            formValidatorInstance?.let { if (it.document === document) return it else it.release() }
+            return FormValidator(document, formValidationRules).also { formValidatorInstance = it }
+        }
+
+    /**
+     * Starts preloading the data selected by [options] in the background. The result is kept
+     * for [getWarmUpResult].
+     */
+    internal fun startWarmUp(options: DocumentWarmUpOptions) {
+        val result = DocumentWarmUp.warmUp(pdfDocument, options).cache()
+        warmUp = result
+        warmUpDisposable = result.subscribe()
+    }
+
+    /** Loads or builds the search index of the document in the background, see [searchText]. */
+    internal fun startSearchIndexing() {
+        val context = context ?: return
+        searchIndexDisposable?.dispose()
+        searchIndexDisposable = SearchIndexService.index(context, pdfDocument)
+            .ignoreElement()
+            .onErrorComplete()
+            .subscribe()
+    }
+
     private val documentPermissionsMap = mapOf(
         "print" to com.pspdfkit.document.DocumentPermissions.PRINTING,
         "modification" to com.pspdfkit.document.DocumentPermissions.MODIFICATION,
@@ -126,14 +341,12 @@ class FlutterPdfDocument(
 
     override fun getFormFieldJson(fieldName: String, callback: (Result<String>) -> Unit) {
         try {
-            val formField = pdfDocument.formProvider.getFormFieldWithFullyQualifiedName(fieldName)
-            if (formField == null) {
+            val formFieldJson = formMetadata.fieldJson(fieldName)
+            if (formFieldJson == null) {
                 callback(Result.failure(Exception("Form field not found")))
                 return
             }
-            val formFieldData = FormHelper.formFieldPropertiesToMap(listOf(formField))
-            val jsonObject = JSONObject(formFieldData.first())
-            callback(Result.success(jsonObject.toString()))
+            callback(Result.success(formFieldJson))
         } catch (e: Exception) {
             callback(Result.failure(e))
         }
@@ -141,13 +354,49 @@ class FlutterPdfDocument(
 
     override fun getFormFieldsJson(callback: (Result<String>) -> Unit) {
         try {
-            val formFields = pdfDocument.formProvider.formFields
-            val formFieldData = FormHelper.formFieldPropertiesToMap(formFields)
-            val jsonArray = JSONArray()
-            for (field in formFieldData) {
-                jsonArray.put(JSONObject(field))
-            }
-            callback(Result.success(jsonArray.toString()))
+            callback(Result.success(formMetadata.allFieldsJson()))
+        } catch (e: Exception) {
+            callback(Result.failure(e))
+        }
+    }
+
+    override fun getLeanFormFieldsJson(callback: (Result<String>) -> Unit) {
+        // noinspection checkResult
+        Single.fromCallable { formMetadata.allFieldsJson(includeAnnotations = false) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { json -> callback(Result.success(json)) },
+                { throwable ->
+                    callback(Result.failure(NutrientApiError("Error while reading form fields", throwable.message ?: "")))
+                }
+            )
+    }
+
+    override fun getFormFieldAnnotationsJson(fullyQualifiedName: String, callback: (Result<String>) -> Unit) {
+        // noinspection checkResult
+        pdfDocument.formProvider.getFormElementWithNameAsync(fullyQualifiedName)
+            .map { formElement -> FormHelper.widgetAnnotationsJson(formElement.formField) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { json -> callback(Result.success(json)) },
+                { throwable ->
+                    callback(Result.failure(NutrientApiError("Error while reading form field annotations", throwable.message ?: "")))
+                },
+                {
+                    callback(
+                        Result.failure(
+                            NutrientApiError("FormFieldNotFound", "Form field with name $fullyQualifiedName not found.")
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun getDirtyFormFieldsJson(callback: (Result<String>) -> Unit) {
+        try {
+            callback(Result.success(formMetadata.takeChangedFieldsJson()))
         } catch (e: Exception) {
             callback(Result.failure(e))
         }
@@ -243,6 +492,159 @@ class FlutterPdfDocument(
             { callback(Result.failure(NutrientApiError("Form element not found", ""))) }
     }
 
+    override fun setFormFieldValues(
+        values: Map<String, String>,
+        callback: (Result<List<FormFieldWriteError>>) -> Unit
+    ) {
+        // noinspection checkResult
+        FormValueWriter.setValues(pdfDocument, values)
+            .subscribe(
+                { errors -> callback(Result.success(errors)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "Error while setting form field values",
+                                throwable.message ?: "",
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun getFormFieldValues(
+        fullyQualifiedNames: List<String>?,
+        callback: (Result<List<FormFieldValue>>) -> Unit
+    ) {
+        val names = fullyQualifiedNames?.toSet()
+        // noinspection checkResult
+        Single.fromCallable { FormHelper.formFieldValues(pdfDocument.formProvider.formFields, names) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { values -> callback(Result.success(values)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "Error while reading form field values",
+                                throwable.message ?: "",
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun getFormFieldsJsonByPrefix(prefix: String, callback: (Result<String>) -> Unit) {
+        // noinspection checkResult
+        Single.fromCallable { formMetadata.fieldsJson(formFieldsWithPrefix(prefix)) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { json -> callback(Result.success(json)) },
+                { throwable ->
+                    callback(Result.failure(NutrientApiError("Error while reading form fields", throwable.message ?: "")))
+                }
+            )
+    }
+
+    override fun getFormFieldValuesByPrefix(prefix: String, callback: (Result<List<FormFieldValue>>) -> Unit) {
+        // noinspection checkResult
+        Single.fromCallable { FormHelper.formFieldValues(formFieldsWithPrefix(prefix), null) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { values -> callback(Result.success(values)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError("Error while reading form field values", throwable.message ?: "")
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun setFormFieldValuesByPrefix(
+        prefix: String,
+        values: Map<String, String>,
+        callback: (Result<List<FormFieldWriteError>>) -> Unit
+    ) {
+        val qualifiedValues = values.mapKeys { (name, _) -> FormFieldTrie.qualify(prefix, name) }
+        // noinspection checkResult
+        Single.fromCallable { formFieldsWithPrefix(prefix) }
+            .subscribeOn(Schedulers.computation())
+            .flatMap { formFields -> FormValueWriter.setValues(formFields, qualifiedValues) }
+            .subscribe(
+                { errors -> callback(Result.success(errors)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError("Error while setting form field values", throwable.message ?: "")
+                        )
+                    )
+                }
+            )
+    }
+
+    /**
+     * Returns the fields named [prefix] or below it, using a name trie of the current form. The
+     * trie is rebuilt when the document was reloaded or its number of fields changed.
+     */
+    @Synchronized
+    private fun formFieldsWithPrefix(prefix: String): List<FormField> {
+        val document = pdfDocument
+        val formFields = document.formProvider.formFields
+        val trie = formFieldTrie?.takeIf { formFieldTrieDocument === document && it.size == formFields.size }
+            ?: FormFieldTrie.build(formFields).also {
+                formFieldTrie = it
+                formFieldTrieDocument = document
+            }
+        return trie.withPrefix(prefix)
+    }
+
+    override fun setFormValidationRules(rules: List<FormValidationRule>, callback: (Result<Unit>) -> Unit) {
+        // noinspection checkResult
+        Completable.fromAction { replaceFormValidator(rules) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { callback(Result.success(Unit)) },
+                { throwable -> callback(Result.failure(formValidationError(throwable))) }
+            )
+    }
+
+    override fun validateFormFields(callback: (Result<List<FormValidationViolation>>) -> Unit) {
+        try {
+            callback(Result.success(formValidator?.validate() ?: emptyList()))
+        } catch (e: Exception) {
+            callback(Result.failure(formValidationError(e)))
+        }
+    }
+
+    @Synchronized
+    private fun replaceFormValidator(rules: List<FormValidationRule>) {
+        // The new validator is built first, so invalid rules keep the previous ones in place.
+        val validator = if (rules.isEmpty()) null else FormValidator(pdfDocument, rules)
+        formValidatorInstance?.release()
+        formValidatorInstance = validator
+        formValidationRules = rules
+    }
+
+    private fun formValidationError(throwable: Throwable): NutrientApiError {
+        return if (throwable is IllegalArgumentException) {
+            NutrientApiError("InvalidArgument", throwable.message ?: "Invalid form validation rule.")
+        } else {
+            NutrientApiError(
+                "FormValidationError",
+                "Failed to validate form fields: ${throwable.message}",
+                throwable.stackTraceToString()
+            )
+        }
+    }
+
     override fun getFormFieldValue(
         fullyQualifiedName: String,
         callback: (Result<String?>) -> Unit
@@ -808,17 +1210,30 @@ class FlutterPdfDocument(
             }
         } else {
             // Save in place
+            val document = pdfDocument
             val saveAsync = if (options != null) {
-                pdfDocument.saveIfModifiedAsync(convertDocumentSaveOptions(options))
+                document.saveIfModifiedAsync(convertDocumentSaveOptions(options))
             } else {
-                pdfDocument.saveIfModifiedAsync()
+                document.saveIfModifiedAsync()
             }
             // noinspection checkResult
             saveAsync
                 .subscribeOn(Schedulers.io())
+                // Thumbnails extracted before the save are outdated now. Deleting them touches
+                // the disk, so it is done before replying instead of on the main thread.
+                .flatMap { saved ->
+                    Completable.fromAction { ThumbnailService.invalidate(document) }
+                        .subscribeOn(Schedulers.io())
+                        .toSingleDefault(saved)
+                }
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(
                     {
+                        PageTextExtractor.invalidate(document)
+                        context?.let {
+                            // noinspection checkResult
+                            SearchIndexService.update(it, document).onErrorComplete().subscribe()
+                        }
                         callback(Result.success(true))
                     }
                 ) { throwable ->
@@ -850,37 +1265,7 @@ class FlutterPdfDocument(
     ) {
         try {
             // Convert Flutter annotation type to native annotation type
-            val annotationType = when (type) {
-                AnnotationType.ALL -> com.pspdfkit.annotations.AnnotationType.NONE // Will use changeAllAnnotations
-                AnnotationType.NONE -> com.pspdfkit.annotations.AnnotationType.NONE
-                AnnotationType.UNDEFINED -> com.pspdfkit.annotations.AnnotationType.NONE
-                AnnotationType.LINK -> com.pspdfkit.annotations.AnnotationType.LINK
-                AnnotationType.HIGHLIGHT -> com.pspdfkit.annotations.AnnotationType.HIGHLIGHT
-                AnnotationType.STRIKEOUT -> com.pspdfkit.annotations.AnnotationType.STRIKEOUT
-                AnnotationType.UNDERLINE -> com.pspdfkit.annotations.AnnotationType.UNDERLINE
-                AnnotationType.SQUIGGLY -> com.pspdfkit.annotations.AnnotationType.SQUIGGLY
-                AnnotationType.FREE_TEXT -> com.pspdfkit.annotations.AnnotationType.FREETEXT
-                AnnotationType.INK -> com.pspdfkit.annotations.AnnotationType.INK
-                AnnotationType.SQUARE -> com.pspdfkit.annotations.AnnotationType.SQUARE
-                AnnotationType.CIRCLE -> com.pspdfkit.annotations.AnnotationType.CIRCLE
-                AnnotationType.LINE -> com.pspdfkit.annotations.AnnotationType.LINE
-                AnnotationType.NOTE -> com.pspdfkit.annotations.AnnotationType.NOTE
-                AnnotationType.STAMP -> com.pspdfkit.annotations.AnnotationType.STAMP
-                AnnotationType.CARET -> com.pspdfkit.annotations.AnnotationType.CARET
-                AnnotationType.MEDIA -> com.pspdfkit.annotations.AnnotationType.RICHMEDIA
-                AnnotationType.SCREEN -> com.pspdfkit.annotations.AnnotationType.SCREEN
-                AnnotationType.WIDGET -> com.pspdfkit.annotations.AnnotationType.WIDGET
-                AnnotationType.FILE -> com.pspdfkit.annotations.AnnotationType.FILE
-                AnnotationType.SOUND -> com.pspdfkit.annotations.AnnotationType.SOUND
-                AnnotationType.POLYGON -> com.pspdfkit.annotations.AnnotationType.POLYGON
-                AnnotationType.POLYLINE -> com.pspdfkit.annotations.AnnotationType.POLYLINE
-                AnnotationType.POPUP -> com.pspdfkit.annotations.AnnotationType.POPUP
-                AnnotationType.WATERMARK -> com.pspdfkit.annotations.AnnotationType.WATERMARK
-                AnnotationType.TRAP_NET -> com.pspdfkit.annotations.AnnotationType.TRAPNET
-                AnnotationType.TYPE3D -> com.pspdfkit.annotations.AnnotationType.TYPE3D
-                AnnotationType.REDACT -> com.pspdfkit.annotations.AnnotationType.REDACT
-                AnnotationType.IMAGE -> com.pspdfkit.annotations.AnnotationType.STAMP
-            }
+            val annotationType = ProcessorHelper.nativeAnnotationType(type)
 
             // Convert processing mode
             val annotationProcessingMode = ProcessorHelper.processModeFromString(processingMode.name.lowercase())
@@ -931,22 +1316,432 @@ class FlutterPdfDocument(
         }
     }
 
-    override fun closeDocument(callback: (Result<Boolean>) -> Unit) {
-        try {
-            // Dispose of any pending operations
-            dispose()
+    override fun processAnnotationsOnPages(
+        processingMode: AnnotationProcessingMode,
+        destinationPath: String,
+        scopes: List<AnnotationProcessingScope>,
+        callback: (Result<Boolean>) -> Unit
+    ) {
+        disposable = ProcessorHelper.processAnnotationsOnPages(pdfDocument, processingMode, destinationPath, scopes)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { callback(Result.success(true)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "AnnotationProcessingError",
+                                "Failed to process annotations: ${throwable.message}",
+                                throwable.stackTraceToString()
+                            )
+                        )
+                    )
+                }
+            )
+    }
 
-            // Clean up for headless documents: unregister from registry and message channels
-            if (documentId != null) {
-                // Unregister from document registry
-                unregisterDocument(documentId)
+    override fun exportArtifacts(
+        request: DocumentExportRequest,
+        callback: (Result<List<DocumentExportResult>>) -> Unit
+    ) {
+        disposable = DocumentArtifactExporter.exportArtifacts(pdfDocument, request)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { results -> callback(Result.success(results)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "ExportError",
+                                "Failed to export document artifacts: ${throwable.message}",
+                                throwable.stackTraceToString()
+                            )
+                        )
+                    )
+                }
+            )
+    }
 
-                // Clean up the PdfDocumentApi message channel
-                if (binaryMessenger != null) {
-                    PdfDocumentApi.setUp(binaryMessenger, null, documentId)
+    override fun redactPatterns(
+        request: RedactionRequest,
+        callback: (Result<RedactionResult>) -> Unit
+    ) {
+        disposable = DocumentRedactor.redactPatterns(context, pdfDocument, request)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { result -> callback(Result.success(result)) },
+                { throwable ->
+                    val error = when (throwable) {
+                        is PatternSyntaxException -> NutrientApiError(
+                            "InvalidPattern",
+                            "Invalid redaction pattern: ${throwable.description}",
+                            throwable.pattern
+                        )
+                        is IllegalArgumentException -> NutrientApiError(
+                            "InvalidArgument",
+                            throwable.message ?: "Invalid redaction request.",
+                            null
+                        )
+                        else -> NutrientApiError(
+                            "RedactionError",
+                            "Failed to redact document: ${throwable.message}",
+                            throwable.stackTraceToString()
+                        )
+                    }
+                    callback(Result.failure(error))
                 }
+            )
+    }
+
+    override fun getWarmUpResult(callback: (Result<DocumentWarmUpResult>) -> Unit) {
+        val result = warmUp
+        if (result == null) {
+            callback(Result.success(DocumentWarmUp.EMPTY_RESULT))
+            return
+        }
+        // Not stored in disposable: waiting for the warm-up must not cancel other operations.
+        // noinspection checkResult
+        result
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribe(
+                { warmUpResult -> callback(Result.success(warmUpResult)) },
+                { throwable ->
+                    callback(
+                        Result.failure(
+                            NutrientApiError(
+                                "WarmUpError",
+                                "Failed to warm up document: ${throwable.message}",
+                                throwable.stackTraceToString()
+                            )
+                        )
+                    )
+                }
+            )
+    }
+
+    override fun renderPage(
+        pageIndex: Long,
+        width: Long,
+        height: Long,
+        options: PageRenderOptions?,
+        callback: (Result<RenderedPage>) -> Unit
+    ) {
+        if (context == null) {
+            callback(Result.failure(NutrientApiError("RenderError", "No context available to render pages.")))
+            return
+        }
+        // Not stored in disposable: thumbnail grids render many pages concurrently.
+        track(
+            PageRenderer.renderPage(context, pdfDocument, pageIndex, width, height, options),
+            { renderedPage -> callback(Result.success(renderedPage)) },
+            { throwable ->
+                val error = if (throwable is IllegalArgumentException) {
+                    NutrientApiError("InvalidArgument", throwable.message ?: "Invalid render request.")
+                } else {
+                    NutrientApiError(
+                        "RenderError",
+                        "Failed to render page $pageIndex: ${throwable.message}",
+                        throwable.stackTraceToString()
+                    )
+                }
+                callback(Result.failure(error))
             }
+        )
+    }
+
+    override fun getThumbnail(
+        pageIndex: Long,
+        maxSize: Long,
+        callback: (Result<ThumbnailResult>) -> Unit
+    ) {
+        if (context == null) {
+            callback(Result.failure(NutrientApiError("RenderError", "No context available to render thumbnails.")))
+            return
+        }
+        track(
+            ThumbnailService.getThumbnail(context, pdfDocument, pageIndex, maxSize),
+            { thumbnail -> callback(Result.success(thumbnail)) },
+            { throwable -> callback(Result.failure(thumbnailError(throwable))) }
+        )
+    }
+
+    override fun prefetchThumbnails(
+        pageIndexes: List<Long>,
+        maxSize: Long,
+        callback: (Result<Unit>) -> Unit
+    ) {
+        if (context == null) {
+            callback(Result.failure(NutrientApiError("RenderError", "No context available to render thumbnails.")))
+            return
+        }
+        track(
+            ThumbnailService.prefetch(context, pdfDocument, pageIndexes, maxSize).toSingleDefault(Unit),
+            { callback(Result.success(Unit)) },
+            { throwable -> callback(Result.failure(thumbnailError(throwable))) }
+        )
+    }
+
+    private fun thumbnailError(throwable: Throwable): NutrientApiError {
+        return if (throwable is IllegalArgumentException) {
+            NutrientApiError("InvalidArgument", throwable.message ?: "Invalid thumbnail request.")
+        } else {
+            NutrientApiError(
+                "RenderError",
+                "Failed to render thumbnail: ${throwable.message}",
+                throwable.stackTraceToString()
+            )
+        }
+    }
+
+    override fun getPageText(pageIndex: Long, callback: (Result<String>) -> Unit) {
+        track(
+            PageTextExtractor.getPageText(pdfDocument, pageIndex),
+            { text -> callback(Result.success(text)) },
+            { throwable -> callback(Result.failure(textExtractionError(throwable))) }
+        )
+    }
+
+    /**
+     * Subscribes to [operation] and delivers its result on the main thread. The operation is
+     * part of [pageOperations] until it terminates, so the pool does not evict the document
+     * while it runs.
+     */
+    private fun <T : Any> track(operation: Single<T>, success: (T) -> Unit, failure: (Throwable) -> Unit) {
+        operation
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribeWith(object : DisposableSingleObserver<T>() {
+                override fun onSuccess(value: T) {
+                    pageOperations.delete(this)
+                    success(value)
+                }
+
+                override fun onError(throwable: Throwable) {
+                    pageOperations.delete(this)
+                    failure(throwable)
+                }
+            })
+            .also { pageOperations.add(it) }
+    }
 
+    override fun extractAllText(
+        extractionId: String,
+        maxConcurrency: Long?,
+        pagesPerChunk: Long?,
+        callback: (Result<TextExtractionSummary>) -> Unit
+    ) {
+        if (binaryMessenger == null) {
+            callback(
+                Result.failure(
+                    NutrientApiError("TextExtractionError", "No message channel available to send the extracted text.")
+                )
+            )
+            return
+        }
+        val callbacks = PageTextExtractionCallbacks(binaryMessenger, extractionId)
+        val start = SystemClock.elapsedRealtime()
+        PageTextExtractor.extractAll(
+            pdfDocument,
+            maxConcurrency ?: PageTextExtractor.DEFAULT_CONCURRENCY,
+            pagesPerChunk ?: PageTextExtractor.DEFAULT_PAGES_PER_CHUNK
+        )
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribeWith(object : DisposableSubscriber<PageTextChunk>() {
+                private var pageCount = 0L
+                private var chunkCount = 0L
+                private var characterCount = 0L
+
+                override fun onNext(chunk: PageTextChunk) {
+                    pageCount += chunk.pages.size
+                    chunkCount++
+                    characterCount += chunk.pages.sumOf { it.text.length.toLong() }
+                    // Sent on the main thread before the reply, so all chunks arrive first.
+                    callbacks.onPageTextChunk(chunk) {}
+                }
+
+                override fun onError(throwable: Throwable) {
+                    textExtractions.delete(this)
+                    callback(Result.failure(textExtractionError(throwable)))
+                }
+
+                override fun onComplete() {
+                    textExtractions.delete(this)
+                    val duration = SystemClock.elapsedRealtime() - start
+                    callback(Result.success(TextExtractionSummary(pageCount, chunkCount, characterCount, duration)))
+                }
+            })
+            .also { textExtractions.add(it) }
+    }
+
+    override fun searchText(
+        searchId: String,
+        query: String,
+        options: TextSearchOptions?,
+        callback: (Result<TextSearchSummary>) -> Unit
+    ) {
+        if (context == null || binaryMessenger == null) {
+            callback(Result.failure(NutrientApiError("SearchError", "Text search is not available for this document.")))
+            return
+        }
+        val callbacks = TextSearchCallbacks(binaryMessenger, searchId)
+        val start = SystemClock.elapsedRealtime()
+        val maxResults = options?.maxResults?.takeIf { it in 1 until Long.MAX_VALUE }
+        // One hit more than requested tells whether hits were left out.
+        val searchOptions = if (maxResults != null) options?.copy(maxResults = maxResults + 1) else options
+        SearchIndexService.search(context, pdfDocument, query, searchOptions)
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribeWith(object : DisposableSubscriber<TextSearchPageResult>() {
+                private var hitCount = 0L
+                private var pageCount = 0L
+                private var truncated = false
+
+                override fun onNext(result: TextSearchPageResult) {
+                    var page = result
+                    if (maxResults != null && hitCount + page.hits.size > maxResults) {
+                        truncated = true
+                        page = page.copy(hits = page.hits.take((maxResults - hitCount).toInt()))
+                        if (page.hits.isEmpty()) return
+                    }
+                    hitCount += page.hits.size
+                    pageCount++
+                    // Sent on the main thread before the reply, so all pages arrive first.
+                    callbacks.onPageResult(page) {}
+                }
+
+                override fun onError(throwable: Throwable) {
+                    textExtractions.delete(this)
+                    val error = if (throwable is IllegalArgumentException) {
+                        NutrientApiError("InvalidArgument", throwable.message ?: "Invalid search request.")
+                    } else {
+                        NutrientApiError(
+                            "SearchError",
+                            "Failed to search document: ${throwable.message}",
+                            throwable.stackTraceToString()
+                        )
+                    }
+                    callback(Result.failure(error))
+                }
+
+                override fun onComplete() {
+                    textExtractions.delete(this)
+                    val duration = SystemClock.elapsedRealtime() - start
+                    callback(Result.success(TextSearchSummary(hitCount, pageCount, truncated, duration)))
+                }
+            })
+            .also { textExtractions.add(it) }
+    }
+
+    override fun importFormData(
+        transferId: String,
+        path: String,
+        format: String?,
+        chunkSize: Long?,
+        callback: (Result<FormDataTransferResult>) -> Unit
+    ) {
+        transferFormData(transferId, path, format, chunkSize, callback) { file, resolvedFormat, size ->
+            FormDataTransfer.importFormData(pdfDocument, file, resolvedFormat, size)
+        }
+    }
+
+    override fun exportFormData(
+        transferId: String,
+        path: String,
+        format: String?,
+        chunkSize: Long?,
+        callback: (Result<FormDataTransferResult>) -> Unit
+    ) {
+        transferFormData(transferId, path, format, chunkSize, callback) { file, resolvedFormat, size ->
+            FormDataTransfer.exportFormData(pdfDocument, file, resolvedFormat, size)
+        }
+    }
+
+    /** Runs an import or export created by [transfer] and reports its progress after every chunk. */
+    private fun transferFormData(
+        transferId: String,
+        path: String,
+        format: String?,
+        chunkSize: Long?,
+        callback: (Result<FormDataTransferResult>) -> Unit,
+        transfer: (File, String, Int) -> Flowable<FormDataTransfer.Chunk>
+    ) {
+        if (binaryMessenger == null) {
+            callback(
+                Result.failure(
+                    NutrientApiError("FormDataError", "No message channel available to send the transfer progress.")
+                )
+            )
+            return
+        }
+        val size = chunkSize ?: FormDataTransfer.DEFAULT_CHUNK_SIZE
+        val resolvedFormat = try {
+            require(size >= 1) { "chunkSize must be at least 1." }
+            FormDataFormat.resolve(format, path)
+        } catch (e: IllegalArgumentException) {
+            callback(Result.failure(formDataError(e)))
+            return
+        }
+        val callbacks = FormDataTransferCallbacks(binaryMessenger, transferId)
+        val start = SystemClock.elapsedRealtime()
+        transfer(File(path), resolvedFormat, size.coerceAtMost(Int.MAX_VALUE.toLong()).toInt())
+            .observeOn(AndroidSchedulers.mainThread())
+            .subscribeWith(object : DisposableSubscriber<FormDataTransfer.Chunk>() {
+                private var fieldCount = 0L
+                private val errors = ArrayList<FormFieldWriteError>()
+
+                override fun onNext(chunk: FormDataTransfer.Chunk) {
+                    fieldCount += chunk.fieldCount
+                    errors.addAll(chunk.errors)
+                    val elapsed = SystemClock.elapsedRealtime() - start
+                    // Sent on the main thread before the reply, so all progress arrives first.
+                    callbacks.onProgress(
+                        FormDataTransferProgress(fieldCount, errors.size.toLong(), elapsed, fieldsPerSecond(elapsed))
+                    ) {}
+                }
+
+                override fun onError(throwable: Throwable) {
+                    formDataTransfers.delete(this)
+                    callback(Result.failure(formDataError(throwable)))
+                }
+
+                override fun onComplete() {
+                    formDataTransfers.delete(this)
+                    val duration = SystemClock.elapsedRealtime() - start
+                    callback(Result.success(FormDataTransferResult(fieldCount, errors, duration, fieldsPerSecond(duration))))
+                }
+
+                private fun fieldsPerSecond(elapsed: Long): Double {
+                    return fieldCount * 1000.0 / elapsed.coerceAtLeast(1)
+                }
+            })
+            .also { formDataTransfers.add(it) }
+    }
+
+    private fun formDataError(throwable: Throwable): NutrientApiError {
+        return if (throwable is IllegalArgumentException) {
+            NutrientApiError("InvalidArgument", throwable.message ?: "Invalid form data request.")
+        } else {
+            NutrientApiError(
+                "FormDataError",
+                "Failed to transfer form data: ${throwable.message}",
+                throwable.stackTraceToString()
+            )
+        }
+    }
+
+    private fun textExtractionError(throwable: Throwable): NutrientApiError {
+        return if (throwable is IllegalArgumentException) {
+            NutrientApiError("InvalidArgument", throwable.message ?: "Invalid text extraction request.")
+        } else {
+            NutrientApiError(
+                "TextExtractionError",
+                "Failed to extract text: ${throwable.message}",
+                throwable.stackTraceToString()
+            )
+        }
+    }
+
+    override fun closeDocument(callback: (Result<Boolean>) -> Unit) {
+        try {
+            close()
             callback(Result.success(true))
         } catch (e: Exception) {
             callback(
@@ -963,6 +1758,33 @@ class FlutterPdfDocument(
 
     fun dispose() {
         disposable?.dispose()
+        warmUpDisposable?.dispose()
+        searchIndexDisposable?.dispose()
+        textExtractions.clear()
+        pageOperations.clear()
+        formDataTransfers.clear()
+    }
+
+    /**
+     * Called by [DocumentRegistry] once the last holder released this document. Cleans up the
+     * pool entry and message channel of headless documents.
+     */
+    internal fun onLastHolderReleased() {
+        dispose()
+        synchronized(this) {
+            formMetadataCache?.release()
+            formMetadataCache = null
+            formValidatorInstance?.release()
+            formValidatorInstance = null
+            formFieldTrie = null
+            formFieldTrieDocument = null
+        }
+        if (documentId != null) {
+            HeadlessDocumentPool.remove(documentId)
+            if (binaryMessenger != null) {
+                PdfDocumentApi.setUp(binaryMessenger, null, documentId)
+            }
+        }
     }
 
     private fun convertDocumentSaveOptions(options: DocumentSaveOptions): com.pspdfkit.document.DocumentSaveOptions {
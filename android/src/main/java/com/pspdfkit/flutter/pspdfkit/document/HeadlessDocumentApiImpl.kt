@@ -10,17 +10,35 @@
 package com.pspdfkit.flutter.pspdfkit.document
 
 import android.content.Context
-import android.net.Uri
+import android.os.SystemClock
 import com.pspdfkit.document.DocumentSource
+import com.pspdfkit.document.PdfDocument
 import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.flutter.pspdfkit.api.DocumentMergeSource
+import com.pspdfkit.flutter.pspdfkit.api.DocumentOpenRequest
+import com.pspdfkit.flutter.pspdfkit.api.DocumentOpenResult
+import com.pspdfkit.flutter.pspdfkit.api.DocumentPoolConfiguration
+import com.pspdfkit.flutter.pspdfkit.api.DocumentPoolStatistics
+import com.pspdfkit.flutter.pspdfkit.api.DocumentSplitTarget
+import com.pspdfkit.flutter.pspdfkit.api.DocumentWarmUpOptions
 import com.pspdfkit.flutter.pspdfkit.api.HeadlessDocumentApi
+import com.pspdfkit.flutter.pspdfkit.api.HeadlessDocumentOpenCallbacks
 import com.pspdfkit.flutter.pspdfkit.api.HeadlessDocumentOpenOptions
+import com.pspdfkit.flutter.pspdfkit.api.MailMergeRequest
+import com.pspdfkit.flutter.pspdfkit.api.MailMergeResult
 import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
 import com.pspdfkit.flutter.pspdfkit.api.PdfDocumentApi
+import com.pspdfkit.flutter.pspdfkit.util.ByteBufferDataProvider
+import com.pspdfkit.flutter.pspdfkit.util.documentSourceFromPath
 import io.flutter.plugin.common.BinaryMessenger
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
-import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.disposables.CompositeDisposable
+import io.reactivex.rxjava3.observers.DisposableSingleObserver
 import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
 import java.util.UUID
 
 /**
@@ -39,7 +57,18 @@ class HeadlessDocumentApiImpl(
     private val binaryMessenger: BinaryMessenger
 ) : HeadlessDocumentApi {
 
-    private var disposable: Disposable? = null
+    private val disposables = CompositeDisposable()
+
+    private val documentProcessor = HeadlessDocumentProcessor(context)
+
+    private val mailMergeProcessor = MailMergeProcessor(context)
+
+    private val documentCache = HeadlessDocumentCache(context)
+
+    companion object {
+        /** Number of documents [openDocuments] loads in parallel if no limit is given. */
+        const val DEFAULT_BATCH_CONCURRENCY = 4L
+    }
 
     /**
      * Opens a document from the given path without displaying a viewer.
@@ -49,6 +78,9 @@ class HeadlessDocumentApiImpl(
      * the document ID as a channel suffix, allowing Flutter to communicate with this
      * specific document instance.
      *
+     * Opening a local file that is already open or still loading reuses the parsed document
+     * (see [HeadlessDocumentCache]), but still returns a new document ID.
+     *
      * @param documentPath Path to the PDF document (file path or content:// URI)
      * @param options Optional settings like password for encrypted documents
      * @param callback Callback with Result containing the unique document ID or error
@@ -58,74 +90,331 @@ class HeadlessDocumentApiImpl(
         options: HeadlessDocumentOpenOptions?,
         callback: (Result<String>) -> Unit
     ) {
-        try {
-            // Parse the document path as URI
-            // If the path is a plain file path (starts with /), convert it to a file:// URI
-            val documentUri = if (documentPath.startsWith("/")) {
-                Uri.fromFile(java.io.File(documentPath))
-            } else {
-                Uri.parse(documentPath)
-            }
+        track(
+            openFromPath(documentPath, options),
+            { documentId -> callback(Result.success(documentId)) },
+            { throwable -> callback(Result.failure(throwable)) }
+        )
+    }
 
-            // Create document source with optional password
-            val documentSource = if (options?.password != null) {
-                DocumentSource(documentUri, options.password)
-            } else {
-                DocumentSource(documentUri)
-            }
+    /**
+     * Opens a document from bytes that are already in memory, e.g. a finished download,
+     * without writing them to disk first.
+     *
+     * The bytes are wrapped by a [ByteBufferDataProvider] without copying them, and the
+     * document is registered like a document opened with [openDocument]. As evicting it would
+     * not free the bytes, the pool keeps the document resident until it is closed.
+     *
+     * @param data The PDF document bytes
+     * @param options Optional settings like password for encrypted documents
+     * @param callback Callback with Result containing the unique document ID or error
+     */
+    override fun openDocumentFromBytes(
+        data: ByteArray,
+        options: HeadlessDocumentOpenOptions?,
+        callback: (Result<String>) -> Unit
+    ) {
+        if (data.isEmpty()) {
+            callback(Result.failure(NutrientApiError("InvalidArgument", "Document data is empty.")))
+            return
+        }
+        val dataProvider = ByteBufferDataProvider(data)
+        val documentSource = if (options?.password != null) {
+            DocumentSource(dataProvider, options.password)
+        } else {
+            DocumentSource(dataProvider)
+        }
+        track(
+            openAndRegister(
+                PdfDocumentLoader.openDocumentAsync(context, documentSource),
+                // The bytes stay in memory for as long as the document is open, so releasing only
+                // the parsed document would not free their memory.
+                null,
+                { data.size.toLong() },
+                options?.warmUp
+            ),
+            { documentId -> callback(Result.success(documentId)) },
+            { throwable -> callback(Result.failure(throwable)) }
+        )
+    }
 
-            // Load document asynchronously
-            disposable = PdfDocumentLoader.openDocumentAsync(context, documentSource)
-                .subscribeOn(Schedulers.io())
+    /**
+     * Opens several documents, loading at most [maxConcurrency] of them at the same time.
+     *
+     * Every result is sent to [HeadlessDocumentOpenCallbacks] on the [batchId] channel as soon
+     * as its document completed, and all results are returned once the batch is done. Documents
+     * that fail to open are reported in their result, they never abort the batch.
+     *
+     * @param batchId Message channel suffix of the [HeadlessDocumentOpenCallbacks] for this batch
+     * @param requests The documents to open
+     * @param maxConcurrency Maximum number of parallel loads, [DEFAULT_BATCH_CONCURRENCY] if null
+     * @param callback Callback with the results of all documents in completion order
+     */
+    override fun openDocuments(
+        batchId: String,
+        requests: List<DocumentOpenRequest>,
+        maxConcurrency: Long?,
+        callback: (Result<List<DocumentOpenResult>>) -> Unit
+    ) {
+        val concurrency = maxConcurrency ?: DEFAULT_BATCH_CONCURRENCY
+        if (concurrency < 1) {
+            callback(Result.failure(NutrientApiError("InvalidArgument", "maxConcurrency must be at least 1.")))
+            return
+        }
+        val openCallbacks = HeadlessDocumentOpenCallbacks(binaryMessenger, batchId)
+        track(
+            Flowable.range(0, requests.size)
+                .flatMapSingle({ index -> openForBatch(index, requests[index]) }, false, concurrency.toInt())
                 .observeOn(AndroidSchedulers.mainThread())
-                .subscribe(
-                    { pdfDocument ->
-                        // Generate unique document ID
-                        val documentId = UUID.randomUUID().toString()
-
-                        // Create FlutterPdfDocument wrapper with documentId and binaryMessenger
-                        // for proper cleanup in closeDocument
-                        val flutterPdfDocument = FlutterPdfDocument(pdfDocument, documentId, binaryMessenger)
-
-                        // Register document in the global registry
-                        FlutterPdfDocument.registerDocument(documentId, flutterPdfDocument)
-
-                        // Setup PdfDocumentApi channel with documentId as suffix
-                        PdfDocumentApi.setUp(binaryMessenger, flutterPdfDocument, documentId)
-
-                        // Return document ID to Flutter
-                        callback(Result.success(documentId))
-                    },
-                    { throwable ->
-                        callback(
-                            Result.failure(
-                                NutrientApiError(
-                                    "DocumentOpenError",
-                                    "Failed to open document: ${throwable.message}",
-                                    throwable.stackTraceToString()
-                                )
-                            )
+                .doOnNext { result -> openCallbacks.onDocumentOpened(result) {} }
+                .toList(),
+            { results -> callback(Result.success(results)) },
+            { throwable ->
+                callback(
+                    Result.failure(
+                        NutrientApiError(
+                            "BatchOpenError",
+                            "Failed to open documents: ${throwable.message}",
+                            throwable.stackTraceToString()
                         )
-                    }
+                    )
                 )
+            }
+        )
+    }
+
+    /**
+     * Subscribes to [single] and keeps the subscription in [disposables] only until it
+     * terminates, so finished operations are not retained for the lifetime of this API.
+     */
+    private fun <T : Any> track(single: Single<T>, success: (T) -> Unit, failure: (Throwable) -> Unit) {
+        val observer = object : DisposableSingleObserver<T>() {
+            override fun onSuccess(value: T) {
+                disposables.delete(this)
+                success(value)
+            }
+
+            override fun onError(e: Throwable) {
+                disposables.delete(this)
+                failure(e)
+            }
+        }
+        disposables.add(observer)
+        single.subscribe(observer)
+    }
+
+    /** Opens one document of a batch, turning a failure into an error result. */
+    private fun openForBatch(index: Int, request: DocumentOpenRequest): Single<DocumentOpenResult> {
+        return Single.defer {
+            val start = SystemClock.elapsedRealtime()
+            openFromPath(request.documentPath, request.options)
+                .map { documentId ->
+                    DocumentOpenResult(
+                        index.toLong(),
+                        request.documentPath,
+                        documentId = documentId,
+                        durationMs = SystemClock.elapsedRealtime() - start
+                    )
+                }
+                .onErrorReturn { throwable ->
+                    val error = throwable as? NutrientApiError
+                    DocumentOpenResult(
+                        index.toLong(),
+                        request.documentPath,
+                        errorCode = error?.code ?: "DocumentOpenError",
+                        errorMessage = throwable.message,
+                        durationMs = SystemClock.elapsedRealtime() - start
+                    )
+                }
+        }
+    }
+
+    /**
+     * Loads the document at [documentPath] through [documentCache] and registers it.
+     * Fails with an `InvalidDocumentPath` or `DocumentOpenError` [NutrientApiError].
+     */
+    private fun openFromPath(documentPath: String, options: HeadlessDocumentOpenOptions?): Single<String> {
+        val password = options?.password
+        val memoryMapped = options?.memoryMapped == true
+        val documentSource = try {
+            documentSourceFromPath(documentPath, password, memoryMapped)
         } catch (e: Exception) {
-            callback(
-                Result.failure(
+            return Single.error(
+                NutrientApiError(
+                    "InvalidDocumentPath",
+                    "Invalid document path: ${e.message}",
+                    e.stackTraceToString()
+                )
+            )
+        }
+        return openAndRegister(
+            documentCache.open(documentPath, documentSource, password, memoryMapped),
+            { documentCache.open(documentPath, documentSource, password, memoryMapped).blockingGet() },
+            { documentSizeBytes(documentPath) },
+            options?.warmUp
+        )
+    }
+
+    /**
+     * Loads [load] on the IO scheduler and registers the loaded document with a unique
+     * document ID, which the returned [Single] emits on the main thread.
+     *
+     * A FlutterPdfDocument is registered in [DocumentRegistry] and [HeadlessDocumentPool], and
+     * a PdfDocumentApi channel is set up using the document ID as a channel suffix. Every call
+     * gets its own document ID, even when [load] emits a document that is already open.
+     *
+     * @param reload Loads the document again after it was evicted from the pool, null if it
+     * must stay resident
+     * @param sizeBytes Size of the document for [HeadlessDocumentPool], computed on the IO scheduler
+     * @param warmUp Data to preload in the background once the document is registered
+     */
+    private fun openAndRegister(
+        load: Single<PdfDocument>,
+        reload: (() -> PdfDocument)?,
+        sizeBytes: () -> Long,
+        warmUp: DocumentWarmUpOptions?
+    ): Single<String> {
+        return load.map { pdfDocument -> pdfDocument to sizeBytes() }
+            .subscribeOn(Schedulers.io())
+            .observeOn(AndroidSchedulers.mainThread())
+            .onErrorResumeNext { throwable ->
+                Single.error(
                     NutrientApiError(
-                        "InvalidDocumentPath",
-                        "Invalid document path: ${e.message}",
-                        e.stackTraceToString()
+                        "DocumentOpenError",
+                        "Failed to open document: ${throwable.message}",
+                        throwable.stackTraceToString()
                     )
                 )
-            )
+            }
+            .map { (pdfDocument, documentSize) ->
+                // Generate unique document ID
+                val documentId = UUID.randomUUID().toString()
+
+                // Create FlutterPdfDocument wrapper with documentId and binaryMessenger
+                // for proper cleanup in closeDocument
+                val flutterPdfDocument = FlutterPdfDocument(pdfDocument, documentId, binaryMessenger, reload, context)
+
+                // Register document in the global registry and the resident document pool
+                DocumentRegistry.register(documentId, flutterPdfDocument)
+                HeadlessDocumentPool.register(documentId, flutterPdfDocument, documentSize)
+
+                // Setup PdfDocumentApi channel with documentId as suffix. Calls on an evicted
+                // document wait until it was reopened in the background.
+                PdfDocumentApi.setUp(
+                    ResidentDocumentMessenger(binaryMessenger, flutterPdfDocument),
+                    flutterPdfDocument,
+                    documentId
+                )
+
+                // Preloading starts after the ID is known, so it never delays the open
+                if (warmUp != null && DocumentWarmUp.isRequested(warmUp)) {
+                    flutterPdfDocument.startWarmUp(warmUp)
+                }
+
+                documentId
+            }
+    }
+
+    override fun mergeDocuments(
+        sources: List<DocumentMergeSource>,
+        outputPath: String,
+        callback: (Result<Long>) -> Unit
+    ) {
+        documentProcessor.mergeDocuments(sources, outputPath, callback)
+    }
+
+    override fun splitDocument(
+        documentPath: String,
+        targets: List<DocumentSplitTarget>,
+        options: HeadlessDocumentOpenOptions?,
+        callback: (Result<List<String>>) -> Unit
+    ) {
+        documentProcessor.splitDocument(documentPath, targets, options, callback)
+    }
+
+    override fun configureDocumentPool(
+        configuration: DocumentPoolConfiguration,
+        callback: (Result<Unit>) -> Unit
+    ) {
+        try {
+            HeadlessDocumentPool.configure(configuration)
+            callback(Result.success(Unit))
+        } catch (e: IllegalArgumentException) {
+            callback(Result.failure(NutrientApiError("InvalidArgument", e.message ?: "Invalid pool configuration.")))
         }
     }
 
+    override fun getDocumentPoolStatistics(callback: (Result<DocumentPoolStatistics>) -> Unit) {
+        callback(Result.success(HeadlessDocumentPool.statistics()))
+    }
+
+    override fun pinDocument(documentId: String, callback: (Result<Unit>) -> Unit) {
+        if (HeadlessDocumentPool.pin(documentId)) {
+            callback(Result.success(Unit))
+        } else {
+            callback(Result.failure(documentNotFound(documentId)))
+        }
+    }
+
+    override fun unpinDocument(documentId: String, callback: (Result<Unit>) -> Unit) {
+        if (HeadlessDocumentPool.unpin(documentId)) {
+            callback(Result.success(Unit))
+        } else {
+            callback(Result.failure(documentNotFound(documentId)))
+        }
+    }
+
+    override fun configureThumbnailCache(maxBytes: Long, callback: (Result<Unit>) -> Unit) {
+        try {
+            ThumbnailService.configure(context, maxBytes)
+            callback(Result.success(Unit))
+        } catch (e: IllegalArgumentException) {
+            callback(Result.failure(NutrientApiError("InvalidArgument", e.message ?: "Invalid thumbnail cache size.")))
+        }
+    }
+
+    override fun clearThumbnailCache(callback: (Result<Unit>) -> Unit) {
+        track(
+            Completable.fromAction { ThumbnailService.clear(context) }
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .toSingleDefault(Unit),
+            { callback(Result.success(Unit)) },
+            { throwable ->
+                callback(
+                    Result.failure(
+                        NutrientApiError(
+                            "ThumbnailCacheError",
+                            "Failed to clear thumbnail cache: ${throwable.message}",
+                            throwable.stackTraceToString()
+                        )
+                    )
+                )
+            }
+        )
+    }
+
+    override fun mailMerge(request: MailMergeRequest, callback: (Result<MailMergeResult>) -> Unit) {
+        mailMergeProcessor.mailMerge(request, callback)
+    }
+
+    private fun documentNotFound(documentId: String): NutrientApiError {
+        return NutrientApiError("DocumentNotFound", "No headless document with ID $documentId is open.")
+    }
+
+    /** Estimates the memory cost of a document from its file size, 0 for content URIs. */
+    private fun documentSizeBytes(documentPath: String): Long {
+        return if (documentPath.startsWith("/")) File(documentPath).length() else 0L
+    }
+
     /**
      * Disposes of all resources held by this API implementation.
      * This should be called when the API is no longer needed.
      */
     fun dispose() {
-        disposable?.dispose()
+        disposables.clear()
+        documentProcessor.dispose()
+        mailMergeProcessor.dispose()
+        documentCache.clear()
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import com.pspdfkit.document.DocumentSource
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import io.reactivex.rxjava3.core.Single
+import java.io.File
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Deduplicates headless opens of the same local file.
+ *
+ * Opens are keyed by canonical path, file size and modification time, so a file that changed
+ * on disk is parsed again. Concurrent opens of the same file share one in-flight load, and
+ * later opens reuse the already parsed [PdfDocument] for as long as any handle still holds it.
+ * Parsed documents are only weakly referenced here, closing or evicting every handle of a
+ * document still releases it.
+ *
+ * Content URIs have no stable identity and are always loaded.
+ *
+ * @param context Android application context for document loading
+ */
+class HeadlessDocumentCache(private val context: Context) {
+
+    private data class OpenKey(
+        val canonicalPath: String,
+        val size: Long,
+        val lastModified: Long,
+        val password: String?,
+        val memoryMapped: Boolean
+    )
+
+    private val inFlight = ConcurrentHashMap<OpenKey, Single<PdfDocument>>()
+    private val parsed = ConcurrentHashMap<OpenKey, WeakReference<PdfDocument>>()
+
+    /**
+     * Returns a [Single] emitting the parsed document for [documentPath], loading it from
+     * [documentSource] only if it is neither loading nor loaded already.
+     */
+    fun open(
+        documentPath: String,
+        documentSource: DocumentSource,
+        password: String?,
+        memoryMapped: Boolean
+    ): Single<PdfDocument> {
+        val key = openKey(documentPath, password, memoryMapped)
+            ?: return PdfDocumentLoader.openDocumentAsync(context, documentSource)
+        parsed[key]?.get()?.let { return Single.just(it) }
+        purgeCollected()
+        return inFlight.computeIfAbsent(key) {
+            PdfDocumentLoader.openDocumentAsync(context, documentSource)
+                .doOnSuccess { document -> parsed[key] = WeakReference(document) }
+                .doFinally { inFlight.remove(key) }
+                .cache()
+        }
+    }
+
+    /** Forgets all cached documents. Documents that are still open stay open. */
+    fun clear() {
+        inFlight.clear()
+        parsed.clear()
+    }
+
+    private fun openKey(documentPath: String, password: String?, memoryMapped: Boolean): OpenKey? {
+        if (!documentPath.startsWith("/")) return null
+        val file = File(documentPath).canonicalFile
+        if (!file.isFile) return null
+        return OpenKey(file.path, file.length(), file.lastModified(), password, memoryMapped)
+    }
+
+    private fun purgeCollected() {
+        parsed.entries.removeIf { it.value.get() == null }
+    }
+}
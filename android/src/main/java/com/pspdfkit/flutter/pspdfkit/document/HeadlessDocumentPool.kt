@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.os.SystemClock
+import android.util.Log
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.DocumentPoolConfiguration
+import com.pspdfkit.flutter.pspdfkit.api.DocumentPoolStatistics
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Keeps the number of resident headless documents within a budget.
+ *
+ * Every headless document opened through [HeadlessDocumentApiImpl] is tracked here with the time
+ * it was last used. When the pool exceeds its document count or memory budget, or a document has
+ * not been used for the idle timeout, the least recently used documents are evicted: the native
+ * document is released, while the document ID and its `PdfDocumentApi` channel stay valid. The
+ * next call on an evicted document reopens it in the background (see
+ * [FlutterPdfDocument.loadDocument]). If a close timeout is configured, handles that are not used
+ * for that long are closed like [FlutterPdfDocument.closeDocument] does, which also frees handles
+ * whose Dart side is gone. Closing is off by default, as it invalidates the document ID.
+ *
+ * Pinned documents, documents with unsaved changes and documents with a running operation are
+ * never evicted or closed. Documents opened from bytes are never evicted, as their bytes would
+ * stay in memory. Memory use is estimated from the size of the document file or data. Handles that
+ * share one native document count once, and a shared document is only evicted together with all
+ * of its handles, as nothing would be freed otherwise.
+ *
+ * Documents are only evicted and closed on the main thread, where the calls from Flutter are
+ * handled, so a call never finds its document evicted.
+ */
+object HeadlessDocumentPool {
+
+    private const val TAG = "HeadlessDocumentPool"
+
+    private const val DEFAULT_MAX_RESIDENT_DOCUMENTS = 16L
+    private const val DEFAULT_MAX_RESIDENT_BYTES = 256L * 1024 * 1024
+    private const val DEFAULT_IDLE_TIMEOUT_MS = 5L * 60 * 1000
+    // Closing invalidates the document ID, so it is opt-in.
+    private const val DEFAULT_CLOSE_TIMEOUT_MS = 0L
+    private const val IDLE_SWEEP_INTERVAL_MS = 30L * 1000
+
+    private class Entry(val documentId: String, val document: FlutterPdfDocument, val sizeBytes: Long) {
+        var pinCount = 0
+
+        @Volatile
+        var lastAccess = SystemClock.elapsedRealtime()
+    }
+
+    /** The handles of one resident native document. */
+    private class ResidentGroup(val entries: List<Entry>) {
+        val sizeBytes = entries.maxOf { it.sizeBytes }
+        val lastAccess = entries.maxOf { it.lastAccess }
+    }
+
+    // Concurrent so that touch(), which runs on every document access, never takes the pool lock.
+    // Structural changes and evictions are serialized by @Synchronized.
+    private val entries = ConcurrentHashMap<String, Entry>()
+
+    private var maxResidentDocuments = DEFAULT_MAX_RESIDENT_DOCUMENTS
+    private var maxResidentBytes = DEFAULT_MAX_RESIDENT_BYTES
+    private var idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS
+    private var closeTimeoutMs = DEFAULT_CLOSE_TIMEOUT_MS
+    private var evictions = 0L
+    private var reopens = 0L
+    private var closes = 0L
+    private var idleSweep: Disposable? = null
+
+    /**
+     * Adds a newly opened document to the pool and evicts other documents if the pool is now
+     * over budget.
+     *
+     * @param sizeBytes Estimated memory cost of the document, usually the file size
+     */
+    @Synchronized
+    fun register(documentId: String, document: FlutterPdfDocument, sizeBytes: Long) {
+        entries[documentId] = Entry(documentId, document, sizeBytes)
+        trim(documentId)
+        updateIdleSweep()
+    }
+
+    @Synchronized
+    fun remove(documentId: String) {
+        entries.remove(documentId)
+        updateIdleSweep()
+    }
+
+    /** Marks the document as most recently used. */
+    fun touch(documentId: String) {
+        entries[documentId]?.lastAccess = SystemClock.elapsedRealtime()
+    }
+
+    /**
+     * Called on the main thread after an evicted document was reopened, which may push the pool
+     * over budget.
+     */
+    @Synchronized
+    fun onReopened(documentId: String) {
+        if (!entries.containsKey(documentId)) return
+        reopens++
+        touch(documentId)
+        trim(documentId)
+    }
+
+    /**
+     * Pins the document so it is never evicted. Pins are counted, every [pin] needs a
+     * matching [unpin].
+     *
+     * @return false if no headless document with this ID is open
+     */
+    @Synchronized
+    fun pin(documentId: String): Boolean {
+        val entry = entries[documentId] ?: return false
+        entry.pinCount++
+        return true
+    }
+
+    /** @return false if no headless document with this ID is open */
+    @Synchronized
+    fun unpin(documentId: String): Boolean {
+        val entry = entries[documentId] ?: return false
+        if (entry.pinCount > 0) {
+            entry.pinCount--
+        }
+        if (entry.pinCount == 0) {
+            trim(null)
+        }
+        return true
+    }
+
+    /** Applies the non-null values of [configuration] and trims the pool to the new budget. */
+    @Synchronized
+    fun configure(configuration: DocumentPoolConfiguration) {
+        configuration.maxResidentDocuments?.let {
+            require(it >= 1) { "maxResidentDocuments must be at least 1." }
+        }
+        configuration.maxResidentBytes?.let {
+            require(it >= 0) { "maxResidentBytes must not be negative." }
+        }
+        configuration.idleTimeoutMs?.let {
+            require(it >= 0) { "idleTimeoutMs must not be negative." }
+        }
+        configuration.closeTimeoutMs?.let {
+            require(it >= 0) { "closeTimeoutMs must not be negative." }
+        }
+        configuration.maxResidentDocuments?.let { maxResidentDocuments = it }
+        configuration.maxResidentBytes?.let { maxResidentBytes = it }
+        configuration.idleTimeoutMs?.let { idleTimeoutMs = it }
+        configuration.closeTimeoutMs?.let { closeTimeoutMs = it }
+        trim(null)
+        updateIdleSweep()
+    }
+
+    @Synchronized
+    fun statistics(): DocumentPoolStatistics {
+        val groups = residentGroups()
+        return DocumentPoolStatistics(
+            registeredDocuments = entries.size.toLong(),
+            residentDocuments = groups.size.toLong(),
+            pinnedDocuments = entries.values.count { it.pinCount > 0 }.toLong(),
+            residentBytes = groups.sumOf { it.sizeBytes },
+            evictions = evictions,
+            reopens = reopens,
+            closes = closes
+        )
+    }
+
+    /** Groups the handles of resident documents by their native document. */
+    private fun residentGroups(): List<ResidentGroup> {
+        val groups = IdentityHashMap<PdfDocument, MutableList<Entry>>()
+        for (entry in entries.values) {
+            val nativeDocument = entry.document.nativeDocument ?: continue
+            groups.getOrPut(nativeDocument) { mutableListOf() }.add(entry)
+        }
+        return groups.values.map { ResidentGroup(it) }
+    }
+
+    /**
+     * Evicts least recently used documents until the pool is within budget. [keepDocumentId]
+     * is the document that is about to be used and is never evicted here.
+     */
+    private fun trim(keepDocumentId: String?) {
+        val groups = residentGroups()
+        var residentCount = groups.size.toLong()
+        var residentBytes = groups.sumOf { it.sizeBytes }
+        if (!isOverBudget(residentCount, residentBytes)) return
+        val candidates = groups.sortedBy { it.lastAccess }.iterator()
+        while (isOverBudget(residentCount, residentBytes) && candidates.hasNext()) {
+            val group = candidates.next()
+            if (group.entries.none { it.documentId == keepDocumentId } && evict(group)) {
+                residentCount--
+                residentBytes -= group.sizeBytes
+            }
+        }
+    }
+
+    private fun isOverBudget(residentCount: Long, residentBytes: Long): Boolean {
+        return residentCount > maxResidentDocuments ||
+            (maxResidentBytes > 0 && residentBytes > maxResidentBytes)
+    }
+
+    @Synchronized
+    private fun sweepIdle() {
+        val now = SystemClock.elapsedRealtime()
+        if (closeTimeoutMs > 0) {
+            val expired = entries.values.filter {
+                now - it.lastAccess >= closeTimeoutMs && it.pinCount == 0 && it.document.canClose()
+            }
+            for (entry in expired) {
+                // Removes the entry from the pool, see FlutterPdfDocument.onLastHolderReleased().
+                entry.document.close()
+                closes++
+                Log.d(TAG, "Closed unused headless document ${entry.documentId}")
+            }
+        }
+        if (idleTimeoutMs > 0) {
+            for (group in residentGroups()) {
+                if (now - group.lastAccess >= idleTimeoutMs) {
+                    evict(group)
+                }
+            }
+        }
+    }
+
+    /** Evicts all handles of [group], or none of them if any must stay resident. */
+    private fun evict(group: ResidentGroup): Boolean {
+        if (group.entries.any { it.pinCount > 0 || !it.document.canEvict() }) {
+            return false
+        }
+        group.entries.forEach { it.document.evict() }
+        // Counts handles like registeredDocuments, not native documents.
+        evictions += group.entries.size
+        Log.d(TAG, "Evicted headless document ${group.entries.joinToString { it.documentId }}")
+        return true
+    }
+
+    /** Runs the idle sweep only while there are documents to sweep and a timeout is set. */
+    private fun updateIdleSweep() {
+        val shouldRun = entries.isNotEmpty() && (idleTimeoutMs > 0 || closeTimeoutMs > 0)
+        if (shouldRun && idleSweep == null) {
+            idleSweep = Flowable.interval(IDLE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS, Schedulers.computation())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe { sweepIdle() }
+        } else if (!shouldRun) {
+            idleSweep?.dispose()
+            idleSweep = null
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.net.Uri
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.NewPage
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.flutter.pspdfkit.api.DocumentMergeSource
+import com.pspdfkit.flutter.pspdfkit.api.DocumentSplitTarget
+import com.pspdfkit.flutter.pspdfkit.api.HeadlessDocumentOpenOptions
+import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
+import com.pspdfkit.flutter.pspdfkit.util.PageRangeHelper
+import com.pspdfkit.flutter.pspdfkit.util.documentSourceFromPath
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.disposables.CompositeDisposable
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+
+/**
+ * Page level merge and split operations for headless documents, built on [PdfProcessorTask].
+ *
+ * Merging opens the sources in batches of [MERGE_BATCH_SIZE] and writes each batch to its own
+ * part, so only a bounded number of input documents is open at any time. The parts are then
+ * joined in a single pass.
+ * Splitting opens the source once and writes the independent outputs in parallel.
+ *
+ * @param context Android application context for document loading
+ */
+class HeadlessDocumentProcessor(private val context: Context) {
+
+    private val disposables = CompositeDisposable()
+
+    /**
+     * Merges the pages selected by each [DocumentMergeSource] into a new document at [outputPath].
+     * The page ranges of each source are validated when its batch opens it. Pages are written in the
+     * order of [sources] and, within a source, in the order of its page ranges. No output is left
+     * behind on failure.
+     *
+     * @param callback Callback with the number of pages written to the merged document
+     */
+    fun mergeDocuments(
+        sources: List<DocumentMergeSource>,
+        outputPath: String,
+        callback: (Result<Long>) -> Unit
+    ) {
+        if (sources.isEmpty()) {
+            callback(
+                Result.failure(
+                    NutrientApiError("InvalidArgument", "At least one source document is required to merge.")
+                )
+            )
+            return
+        }
+        disposables.add(
+            Single.fromCallable { merge(sources, File(outputPath)) }
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                    { pageCount -> callback(Result.success(pageCount.toLong())) },
+                    { throwable -> callback(Result.failure(processingError("DocumentMergeError", throwable))) }
+                )
+        )
+    }
+
+    /**
+     * Splits the document at [documentPath] into one new document per [DocumentSplitTarget].
+     * All page ranges are validated before anything is written. Pages of each output keep
+     * their order from the source document.
+     *
+     * @param callback Callback with the written output paths, in the order of [targets]
+     */
+    fun splitDocument(
+        documentPath: String,
+        targets: List<DocumentSplitTarget>,
+        options: HeadlessDocumentOpenOptions?,
+        callback: (Result<List<String>>) -> Unit
+    ) {
+        if (targets.isEmpty()) {
+            callback(
+                Result.failure(
+                    NutrientApiError("InvalidArgument", "At least one split target is required.")
+                )
+            )
+            return
+        }
+        val documentSource = try {
+            documentSourceFromPath(documentPath, options?.password, options?.memoryMapped == true)
+        } catch (e: Exception) {
+            callback(
+                Result.failure(
+                    NutrientApiError(
+                        "InvalidDocumentPath",
+                        "Invalid document path: ${e.message}",
+                        e.stackTraceToString()
+                    )
+                )
+            )
+            return
+        }
+        disposables.add(
+            PdfDocumentLoader.openDocumentAsync(context, documentSource)
+                .subscribeOn(Schedulers.io())
+                .flatMapCompletable { document ->
+                    val tasks = targets.map { target -> splitTask(document, target) to File(target.outputPath) }
+                    Flowable.fromIterable(tasks)
+                        .flatMapCompletable({ (task, outputFile) ->
+                            PdfProcessor.processDocumentAsync(task, outputFile)
+                                .subscribeOn(Schedulers.io())
+                                .ignoreElements()
+                        }, false, MAX_PARALLEL_OUTPUTS)
+                }
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                    { callback(Result.success(targets.map { it.outputPath })) },
+                    { throwable -> callback(Result.failure(processingError("DocumentSplitError", throwable))) }
+                )
+        )
+    }
+
+    /**
+     * Cancels all running merge and split operations.
+     */
+    fun dispose() {
+        disposables.clear()
+    }
+
+    private fun merge(sources: List<DocumentMergeSource>, outputFile: File): Int {
+        val batches = sources.chunked(MERGE_BATCH_SIZE)
+        if (batches.size == 1) {
+            return writeBatch(batches.single(), outputFile)
+        }
+        // Each batch is written to its own part and the parts are joined in a single pass at the
+        // end, so every page is processed at most twice however many sources there are.
+        val partFiles = mutableListOf<File>()
+        var succeeded = false
+        try {
+            var pageCount = 0
+            for (batch in batches) {
+                val partFile = File.createTempFile("nutrient_merge", ".pdf", context.cacheDir)
+                partFiles.add(partFile)
+                pageCount += writeBatch(batch, partFile)
+            }
+            val task = PdfProcessorTask.empty()
+            var pageIndex = 0
+            for (partFile in partFiles) {
+                val part = PdfDocumentLoader.openDocument(context, Uri.fromFile(partFile))
+                for (partPageIndex in 0 until part.pageCount) {
+                    task.addNewPage(NewPage.fromPage(part, partPageIndex).build(), pageIndex++)
+                }
+            }
+            PdfProcessor.processDocumentAsync(task, outputFile).ignoreElements().blockingAwait()
+            succeeded = true
+            return pageCount
+        } finally {
+            partFiles.forEach { it.delete() }
+            if (!succeeded) {
+                // Leave no partially written output behind.
+                outputFile.delete()
+            }
+        }
+    }
+
+    /**
+     * Writes the selected pages of [batch] to [file]. The page ranges of each source are
+     * validated when the source is opened. [file] is deleted if the batch can't be written.
+     */
+    private fun writeBatch(batch: List<DocumentMergeSource>, file: File): Int {
+        val task = PdfProcessorTask.empty()
+        var pageCount = 0
+        try {
+            for (source in batch) {
+                val document = openSource(source)
+                for (pageIndex in pageIndexes(source.pageRanges, document.pageCount)) {
+                    task.addNewPage(NewPage.fromPage(document, pageIndex).build(), pageCount++)
+                }
+            }
+            PdfProcessor.processDocumentAsync(task, file).ignoreElements().blockingAwait()
+        } catch (e: Exception) {
+            file.delete()
+            throw e
+        }
+        return pageCount
+    }
+
+    private fun openSource(source: DocumentMergeSource): PdfDocument {
+        return PdfDocumentLoader.openDocument(
+            context,
+            documentSourceFromPath(source.documentPath, source.password)
+        )
+    }
+
+    private fun splitTask(document: PdfDocument, target: DocumentSplitTarget): PdfProcessorTask {
+        val pagesToKeep = pageIndexes(target.pageRanges, document.pageCount).toHashSet()
+        return PdfProcessorTask.fromDocument(document).keepPages(pagesToKeep)
+    }
+
+    private fun pageIndexes(pageRanges: String?, pageCount: Int): List<Int> {
+        return try {
+            PageRangeHelper.parsePageRanges(pageRanges, pageCount)
+        } catch (e: IllegalArgumentException) {
+            throw PageRangeException(e.message ?: "Invalid page range.")
+        }
+    }
+
+    private fun processingError(code: String, throwable: Throwable): NutrientApiError {
+        return if (throwable is PageRangeException) {
+            NutrientApiError("InvalidPageRange", throwable.message ?: "Invalid page range.", null)
+        } else {
+            NutrientApiError(code, "Failed to process document: ${throwable.message}", throwable.stackTraceToString())
+        }
+    }
+
+    /** Raised for page ranges that don't fit their document, so they can be told apart from SDK errors. */
+    private class PageRangeException(message: String) : Exception(message)
+
+    companion object {
+        /** Maximum number of source documents that are open at the same time while merging. */
+        private const val MERGE_BATCH_SIZE = 8
+
+        /** Maximum number of split outputs that are written concurrently. */
+        private val MAX_PARALLEL_OUTPUTS = Runtime.getRuntime().availableProcessors().coerceIn(1, 4)
+    }
+}
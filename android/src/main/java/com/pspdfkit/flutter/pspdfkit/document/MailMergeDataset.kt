@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import org.json.JSONArray
+import org.json.JSONException
+import org.json.JSONObject
+import java.io.Reader
+
+/**
+ * The rows of a mail merge dataset. Every row maps column names to values in the string format
+ * of `setFormFieldValue`.
+ */
+class MailMergeDataset(val rows: List<Map<String, String>>) {
+
+    companion object {
+        const val FORMAT_CSV = "csv"
+        const val FORMAT_JSON = "json"
+
+        /**
+         * Reads a dataset in [format] from [reader]. Fails with an [IllegalArgumentException] for
+         * an unknown format or malformed data.
+         */
+        @JvmStatic
+        fun read(reader: Reader, format: String): MailMergeDataset {
+            val text = reader.readText().removePrefix("\uFEFF")
+            return when (format.lowercase()) {
+                FORMAT_CSV -> fromCsv(text)
+                FORMAT_JSON -> fromJson(text)
+                else -> throw IllegalArgumentException("Unsupported dataset format \"$format\", use csv or json.")
+            }
+        }
+
+        /** Parses RFC 4180 CSV. The first record holds the column names, blank lines are skipped. */
+        private fun fromCsv(text: String): MailMergeDataset {
+            val records = parseCsv(text)
+            require(records.isNotEmpty()) { "The CSV dataset has no header row." }
+            val header = records.first()
+            val rows = records.drop(1).mapIndexed { rowIndex, record ->
+                require(record.size <= header.size) {
+                    "Row $rowIndex has ${record.size} values but the header only has ${header.size} columns."
+                }
+                val row = LinkedHashMap<String, String>(record.size)
+                record.forEachIndexed { column, value -> row[header[column]] = value }
+                row
+            }
+            return MailMergeDataset(rows)
+        }
+
+        private fun parseCsv(text: String): List<List<String>> {
+            val records = ArrayList<List<String>>()
+            var record = ArrayList<String>()
+            val field = StringBuilder()
+            var quoted = false
+            var fieldStarted = false
+            var i = 0
+            fun endRecord() {
+                if (fieldStarted || record.isNotEmpty()) {
+                    record.add(field.toString())
+                    records.add(record)
+                }
+                record = ArrayList()
+                field.setLength(0)
+                fieldStarted = false
+            }
+            while (i < text.length) {
+                val c = text[i]
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < text.length && text[i + 1] == '"') {
+                            field.append('"')
+                            i++
+                        } else {
+                            quoted = false
+                        }
+                    } else {
+                        field.append(c)
+                    }
+                } else {
+                    when (c) {
+                        '"' -> {
+                            quoted = true
+                            fieldStarted = true
+                        }
+                        ',' -> {
+                            record.add(field.toString())
+                            field.setLength(0)
+                            fieldStarted = true
+                        }
+                        '\r' -> if (i + 1 >= text.length || text[i + 1] != '\n') endRecord()
+                        '\n' -> endRecord()
+                        else -> {
+                            field.append(c)
+                            fieldStarted = true
+                        }
+                    }
+                }
+                i++
+            }
+            require(!quoted) { "The CSV dataset ends inside a quoted value." }
+            endRecord()
+            return records
+        }
+
+        /**
+         * Parses a JSON array of objects. Booleans become "selected" or "deselected", arrays of
+         * option indexes are joined with commas and null values are skipped.
+         */
+        private fun fromJson(text: String): MailMergeDataset {
+            val array = try {
+                JSONArray(text)
+            } catch (e: JSONException) {
+                throw IllegalArgumentException("The JSON dataset is not an array of objects: ${e.message}", e)
+            }
+            val rows = (0 until array.length()).map { rowIndex ->
+                val item = array.optJSONObject(rowIndex)
+                    ?: throw IllegalArgumentException("Row $rowIndex of the JSON dataset is not an object.")
+                val row = LinkedHashMap<String, String>(item.length())
+                for (key in item.keys()) {
+                    jsonValue(item.get(key))?.let { row[key] = it }
+                }
+                row
+            }
+            return MailMergeDataset(rows)
+        }
+
+        private fun jsonValue(value: Any): String? {
+            return when (value) {
+                JSONObject.NULL -> null
+                is Boolean -> if (value) "selected" else "deselected"
+                is JSONArray -> (0 until value.length()).joinToString(",") { value.get(it).toString() }
+                is JSONObject -> throw IllegalArgumentException("Nested objects are not supported as form values.")
+                else -> value.toString()
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.net.Uri
+import android.os.SystemClock
+import com.pspdfkit.annotations.AnnotationType
+import com.pspdfkit.document.DocumentSource
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.document.PdfDocumentLoader
+import com.pspdfkit.document.processor.PdfProcessor
+import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.flutter.pspdfkit.api.MailMergeRequest
+import com.pspdfkit.flutter.pspdfkit.api.MailMergeResult
+import com.pspdfkit.flutter.pspdfkit.api.MailMergeRowError
+import com.pspdfkit.flutter.pspdfkit.api.NutrientApiError
+import com.pspdfkit.flutter.pspdfkit.forms.FormValueWriter
+import com.pspdfkit.flutter.pspdfkit.util.ByteBufferDataProvider
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.disposables.CompositeDisposable
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.io.InputStream
+
+/**
+ * Fills a PDF form template once per row of a dataset and writes every filled copy with
+ * [PdfProcessor].
+ *
+ * The template file is read into memory once. Every row opens its own document over the shared,
+ * read-only template bytes, so form changes of a row live only in its document and the template
+ * is never parsed from disk again. Rows are processed in parallel on the IO scheduler, with at
+ * most [MailMergeRequest.maxConcurrency] rows in flight.
+ *
+ * @param context Android application context for document loading
+ */
+class MailMergeProcessor(private val context: Context) {
+
+    companion object {
+        /** Number of rows processed in parallel if no limit is given. */
+        const val DEFAULT_CONCURRENCY = 4L
+        const val DEFAULT_FILE_NAME_PATTERN = "row-{row}.pdf"
+
+        private val PLACEHOLDER = Regex("\\{([^{}]+)\\}")
+        private val UNSAFE_FILE_NAME_CHARACTERS = Regex("[\\\\/:*?\"<>|\\x00-\\x1f]")
+    }
+
+    /** The parsed inputs of a run, shared by all rows. */
+    private class MailMergeJob(
+        val templateBytes: ByteArray,
+        val templatePassword: String?,
+        val fieldNames: Set<String>,
+        val rows: List<Map<String, String>>,
+        val outputFiles: List<File?>,
+        val flatten: Boolean
+    )
+
+    private class RowOutcome(val rowIndex: Int, val outputPath: String?, val error: MailMergeRowError?)
+
+    private class RowException(val code: String, message: String) : Exception(message)
+
+    private val disposables = CompositeDisposable()
+
+    /**
+     * Runs the mail merge described by [request].
+     *
+     * @param callback Callback with the written paths, the failed rows and the throughput
+     */
+    fun mailMerge(request: MailMergeRequest, callback: (Result<MailMergeResult>) -> Unit) {
+        val maxConcurrency = request.maxConcurrency ?: DEFAULT_CONCURRENCY
+        if (maxConcurrency < 1) {
+            callback(Result.failure(NutrientApiError("InvalidArgument", "maxConcurrency must be at least 1.")))
+            return
+        }
+        val startTime = SystemClock.elapsedRealtime()
+        disposables.add(
+            Single.fromCallable { prepare(request) }
+                .subscribeOn(Schedulers.io())
+                .flatMap { job ->
+                    Flowable.range(0, job.rows.size)
+                        .flatMapSingle(
+                            { rowIndex -> Single.fromCallable { writeRow(job, rowIndex) }.subscribeOn(Schedulers.io()) },
+                            false,
+                            maxConcurrency.coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+                        )
+                        .toList()
+                        .map { outcomes -> result(job.rows.size, outcomes, SystemClock.elapsedRealtime() - startTime) }
+                }
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                    { result -> callback(Result.success(result)) },
+                    { throwable -> callback(Result.failure(mailMergeError(throwable))) }
+                )
+        )
+    }
+
+    /**
+     * Cancels all running mail merges.
+     */
+    fun dispose() {
+        disposables.clear()
+    }
+
+    /** Reads the template and the dataset and resolves the output file of every row. */
+    private fun prepare(request: MailMergeRequest): MailMergeJob {
+        val templateBytes = openInputStream(request.templatePath).use { it.readBytes() }
+        require(templateBytes.isNotEmpty()) { "The template document is empty." }
+        // Opening the template once checks the password and collects the fields rows may fill.
+        val template = openTemplate(templateBytes, request.templatePassword)
+        val fieldNames = template.formProvider.formFields.mapTo(HashSet()) { it.fullyQualifiedName }
+
+        val format = request.dataFormat ?: request.dataPath.substringAfterLast('.', "").lowercase()
+        val dataset = openInputStream(request.dataPath).reader().use { MailMergeDataset.read(it, format) }
+
+        val outputDirectory = File(request.outputDirectory)
+        require(outputDirectory.isDirectory || outputDirectory.mkdirs()) {
+            "The output directory ${request.outputDirectory} cannot be created."
+        }
+        val pattern = request.fileNamePattern ?: DEFAULT_FILE_NAME_PATTERN
+        val usedNames = HashSet<String>()
+        val outputFiles = dataset.rows.mapIndexed { rowIndex, row ->
+            // Rows mapping to an empty or an already used name fail instead of overwriting others.
+            fileName(pattern, rowIndex, row).takeIf { it.isNotBlank() && usedNames.add(it) }
+                ?.let { File(outputDirectory, it) }
+        }
+        return MailMergeJob(
+            templateBytes,
+            request.templatePassword,
+            fieldNames,
+            dataset.rows,
+            outputFiles,
+            request.flatten == true
+        )
+    }
+
+    private fun writeRow(job: MailMergeJob, rowIndex: Int): RowOutcome {
+        val outputFile = job.outputFiles[rowIndex]
+        try {
+            if (outputFile == null) {
+                throw RowException("DuplicateOutputPath", "The file name of row $rowIndex is empty or used by an earlier row.")
+            }
+            val document = openTemplate(job.templateBytes, job.templatePassword)
+            val values = job.rows[rowIndex].filterKeys { it in job.fieldNames }
+            val errors = FormValueWriter.fill(document, values)
+            if (errors.isNotEmpty()) {
+                throw RowException(
+                    errors.first().errorCode,
+                    errors.joinToString("; ") { "${it.fullyQualifiedName}: ${it.message}" }
+                )
+            }
+            val task = PdfProcessorTask.fromDocument(document)
+            if (job.flatten) {
+                task.changeAnnotationsOfType(AnnotationType.WIDGET, PdfProcessorTask.AnnotationProcessingMode.FLATTEN)
+            }
+            PdfProcessor.processDocumentAsync(task, outputFile).ignoreElements().blockingAwait()
+            return RowOutcome(rowIndex, outputFile.absolutePath, null)
+        } catch (e: Exception) {
+            outputFile?.delete()
+            val error = if (e is RowException) {
+                MailMergeRowError(rowIndex.toLong(), e.code, e.message ?: "")
+            } else {
+                MailMergeRowError(rowIndex.toLong(), "MailMergeError", "Failed to write row $rowIndex: ${e.message}")
+            }
+            return RowOutcome(rowIndex, null, error)
+        }
+    }
+
+    private fun result(rowCount: Int, outcomes: List<RowOutcome>, durationMs: Long): MailMergeResult {
+        val outputPaths = arrayOfNulls<String>(rowCount)
+        val errors = ArrayList<MailMergeRowError>()
+        for (outcome in outcomes.sortedBy { it.rowIndex }) {
+            outputPaths[outcome.rowIndex] = outcome.outputPath
+            outcome.error?.let { errors.add(it) }
+        }
+        val rowsPerSecond = rowCount * 1000.0 / durationMs.coerceAtLeast(1)
+        return MailMergeResult(rowCount.toLong(), outputPaths.toList(), errors, durationMs, rowsPerSecond)
+    }
+
+    /** Replaces `{row}` by the one-based row number and `{<column>}` by the value of the column. */
+    private fun fileName(pattern: String, rowIndex: Int, row: Map<String, String>): String {
+        return PLACEHOLDER.replace(pattern) { match ->
+            val value = if (match.groupValues[1] == "row") (rowIndex + 1).toString() else row[match.groupValues[1]]
+            value?.replace(UNSAFE_FILE_NAME_CHARACTERS, "_") ?: ""
+        }
+    }
+
+    private fun openTemplate(templateBytes: ByteArray, password: String?): PdfDocument {
+        val dataProvider = ByteBufferDataProvider(templateBytes)
+        val documentSource = if (password != null) {
+            DocumentSource(dataProvider, password)
+        } else {
+            DocumentSource(dataProvider)
+        }
+        return PdfDocumentLoader.openDocument(context, documentSource)
+    }
+
+    private fun openInputStream(path: String): InputStream {
+        return if (path.startsWith("/")) {
+            File(path).inputStream()
+        } else {
+            context.contentResolver.openInputStream(Uri.parse(path))
+                ?: throw IllegalArgumentException("Cannot open $path.")
+        }
+    }
+
+    private fun mailMergeError(throwable: Throwable): NutrientApiError {
+        return if (throwable is IllegalArgumentException) {
+            NutrientApiError("InvalidArgument", throwable.message ?: "Invalid mail merge request.", null)
+        } else {
+            NutrientApiError("MailMergeError", "Mail merge failed: ${throwable.message}", throwable.stackTraceToString())
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.os.Build
+import android.os.SystemClock
+import android.util.LruCache
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.AnnotationProvider
+import com.pspdfkit.annotations.AnnotationType
+import com.pspdfkit.configuration.rendering.PageRenderConfiguration
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.PageRenderOptions
+import com.pspdfkit.flutter.pspdfkit.api.RenderedPage
+import com.pspdfkit.flutter.pspdfkit.util.BitmapPool
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.OutputStream
+import java.util.EnumSet
+import java.util.WeakHashMap
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Renders pages of a document to encoded images.
+ *
+ * Rendered bitmaps are kept in an LRU cache shared by all documents and sized to an eighth of
+ * the heap. Bitmaps that leave the cache go to [BitmapPool] and are reused for the next render
+ * of a similar size. Concurrent requests for the same page share one render, different pages are
+ * rendered in parallel on the computation scheduler.
+ *
+ * Cached pages of a document are invalidated when one of its annotations changes.
+ */
+object PageRenderer {
+
+    const val FORMAT_PNG = "png"
+    const val FORMAT_JPEG = "jpeg"
+    const val FORMAT_WEBP = "webp"
+
+    private const val DEFAULT_QUALITY = 90L
+    private const val MAX_DIMENSION = 8192L
+
+    /** How a render request wants its page encoded. */
+    private class EncodeRequest(
+        val key: RenderKey,
+        val format: String,
+        val quality: Int,
+        val options: PageRenderOptions?,
+        val start: Long
+    )
+
+    private data class RenderKey(
+        val documentUid: String,
+        val pageIndex: Int,
+        val width: Int,
+        val height: Int,
+        val renderAnnotations: Boolean,
+        val backgroundColor: Long?
+    )
+
+    /**
+     * A cached bitmap. Once [released] is set the bitmap belongs to [BitmapPool] and may be
+     * overwritten, so readers check it while holding the lock of the page.
+     */
+    private class CachedPage(val bitmap: Bitmap) {
+        var released = false
+    }
+
+    private val cache = object : LruCache<RenderKey, CachedPage>(
+        (Runtime.getRuntime().maxMemory() / 8).coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+    ) {
+        override fun sizeOf(key: RenderKey, value: CachedPage): Int = value.bitmap.allocationByteCount
+
+        override fun entryRemoved(evicted: Boolean, key: RenderKey, oldValue: CachedPage, newValue: CachedPage?) {
+            if (oldValue === newValue) return
+            synchronized(oldValue) {
+                oldValue.released = true
+                BitmapPool.release(oldValue.bitmap)
+            }
+        }
+    }
+
+    private val inFlight = ConcurrentHashMap<RenderKey, Single<CachedPage>>()
+
+    // Documents whose annotation changes invalidate their cached pages.
+    private val observedDocuments = WeakHashMap<PdfDocument, AnnotationProvider.OnAnnotationUpdatedListener>()
+
+    /**
+     * Renders [pageIndex] of [document] at [width] x [height] pixels and encodes it as selected
+     * by [options]. Fails with an [IllegalArgumentException] for invalid arguments.
+     */
+    @JvmStatic
+    fun renderPage(
+        context: Context,
+        document: PdfDocument,
+        pageIndex: Long,
+        width: Long,
+        height: Long,
+        options: PageRenderOptions?
+    ): Single<RenderedPage> {
+        return Single.defer {
+            require(pageIndex in 0 until document.pageCount) { "Page index $pageIndex is out of bounds." }
+            require(width in 1..MAX_DIMENSION && height in 1..MAX_DIMENSION) {
+                "Width and height must be between 1 and $MAX_DIMENSION pixels."
+            }
+            val format = options?.format ?: FORMAT_PNG
+            require(format == FORMAT_PNG || format == FORMAT_JPEG || format == FORMAT_WEBP) {
+                "Unsupported image format: $format."
+            }
+            val quality = options?.quality ?: DEFAULT_QUALITY
+            require(quality in 0..100) { "quality must be between 0 and 100." }
+
+            val start = SystemClock.elapsedRealtime()
+            val key = RenderKey(
+                document.uid,
+                pageIndex.toInt(),
+                width.toInt(),
+                height.toInt(),
+                options?.renderAnnotations != false,
+                options?.backgroundColor
+            )
+            val request = EncodeRequest(key, format, quality.toInt(), options, start)
+            // Pages larger than a quarter of the cache would only displace it.
+            val cacheable = options?.useCache != false && width * height * 4 <= cache.maxSize() / 4
+            if (!cacheable) {
+                return@defer Single.fromCallable { renderUncached(context, document, request) }
+            }
+            cache.get(key)?.let { cachedPage ->
+                encodeCached(context, cachedPage, request, fromCache = true)?.let { return@defer Single.just(it) }
+            }
+            renderShared(context, document, key)
+                // Callers sharing a render encode in parallel instead of one after another.
+                .observeOn(Schedulers.computation())
+                .map { renderedPage ->
+                    // Rendered again if the page was evicted before it could be encoded.
+                    encodeCached(context, renderedPage, request, fromCache = false)
+                        ?: renderUncached(context, document, request)
+                }
+        }.subscribeOn(Schedulers.computation())
+    }
+
+    /** Drops the cached pages of the document with [documentUid], or only [pageIndex] if given. */
+    @JvmStatic
+    fun invalidate(documentUid: String, pageIndex: Int? = null) {
+        for (key in cache.snapshot().keys) {
+            if (key.documentUid == documentUid && (pageIndex == null || key.pageIndex == pageIndex)) {
+                cache.remove(key)
+            }
+        }
+    }
+
+    /** Renders [key] once for all concurrent callers and stores the result in the cache. */
+    private fun renderShared(context: Context, document: PdfDocument, key: RenderKey): Single<CachedPage> {
+        observe(document)
+        return inFlight.computeIfAbsent(key) {
+            Single.fromCallable { CachedPage(render(context, document, key)) }
+                .doOnSuccess { page -> cache.put(key, page) }
+                .doFinally { inFlight.remove(key) }
+                .cache()
+        }
+    }
+
+    private fun renderUncached(context: Context, document: PdfDocument, request: EncodeRequest): RenderedPage {
+        val bitmap = render(context, document, request.key)
+        try {
+            return encode(context, bitmap, request, fromCache = false)
+        } finally {
+            BitmapPool.release(bitmap)
+        }
+    }
+
+    private fun render(context: Context, document: PdfDocument, key: RenderKey): Bitmap {
+        val bitmap = BitmapPool.acquire(key.width, key.height)
+        val configuration = PageRenderConfiguration.Builder().reuseBitmap(bitmap)
+        key.backgroundColor?.let { configuration.paperColor(it.toInt()) }
+        if (!key.renderAnnotations) {
+            configuration.excludedAnnotationTypes(EnumSet.allOf(AnnotationType::class.java).toList())
+        }
+        val rendered = try {
+            document.renderPageToBitmap(context, key.pageIndex, key.width, key.height, configuration.build())
+        } catch (e: Exception) {
+            BitmapPool.release(bitmap)
+            throw e
+        }
+        if (rendered !== bitmap) {
+            BitmapPool.release(bitmap)
+        }
+        return rendered
+    }
+
+    /** Encodes a cached page, or returns null if the page was evicted in the meantime. */
+    private fun encodeCached(
+        context: Context,
+        page: CachedPage,
+        request: EncodeRequest,
+        fromCache: Boolean
+    ): RenderedPage? {
+        synchronized(page) {
+            if (page.released) return null
+            return encode(context, page.bitmap, request, fromCache)
+        }
+    }
+
+    private fun encode(context: Context, bitmap: Bitmap, request: EncodeRequest, fromCache: Boolean): RenderedPage {
+        val key = request.key
+        val format = request.format
+        // Temporary files go to the app cache directory, which the system clears when space runs low.
+        val outputFile = request.options?.outputPath?.let { File(it) }
+            ?: if (request.options?.asFile == true) {
+                File.createTempFile("page-${key.pageIndex}-", ".$format", context.cacheDir)
+            } else {
+                null
+            }
+        val imageData = if (outputFile != null) {
+            FileOutputStream(outputFile).use { compress(bitmap, format, request.quality, it) }
+            null
+        } else {
+            ByteArrayOutputStream().also { compress(bitmap, format, request.quality, it) }.toByteArray()
+        }
+        return RenderedPage(
+            key.pageIndex.toLong(),
+            key.width.toLong(),
+            key.height.toLong(),
+            format,
+            imageData,
+            outputFile?.absolutePath,
+            fromCache,
+            SystemClock.elapsedRealtime() - request.start
+        )
+    }
+
+    private fun compress(bitmap: Bitmap, format: String, quality: Int, outputStream: OutputStream) {
+        val compressFormat = when (format) {
+            FORMAT_JPEG -> Bitmap.CompressFormat.JPEG
+            FORMAT_WEBP -> if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+                Bitmap.CompressFormat.WEBP_LOSSY
+            } else {
+                @Suppress("DEPRECATION")
+                Bitmap.CompressFormat.WEBP
+            }
+            else -> Bitmap.CompressFormat.PNG
+        }
+        check(bitmap.compress(compressFormat, quality, outputStream)) { "Failed to encode page ${format.uppercase()}." }
+    }
+
+    /** Invalidates the cached pages of [document] whenever one of its annotations changes. */
+    private fun observe(document: PdfDocument) {
+        synchronized(observedDocuments) {
+            if (observedDocuments.containsKey(document)) return
+            val documentUid = document.uid
+            val listener = object : AnnotationProvider.OnAnnotationUpdatedListener {
+                override fun onAnnotationCreated(annotation: Annotation) {
+                    invalidate(documentUid, annotation.pageIndex)
+                }
+
+                override fun onAnnotationUpdated(annotation: Annotation) {
+                    invalidate(documentUid, annotation.pageIndex)
+                }
+
+                override fun onAnnotationRemoved(annotation: Annotation) {
+                    invalidate(documentUid, annotation.pageIndex)
+                }
+
+                override fun onAnnotationZOrderChanged(
+                    pageIndex: Int,
+                    oldOrder: List<Annotation>,
+                    newOrder: List<Annotation>
+                ) {
+                    invalidate(documentUid, pageIndex)
+                }
+            }
+            document.annotationProvider.addOnAnnotationUpdatedListener(listener)
+            observedDocuments[document] = listener
+        }
+    }
+}
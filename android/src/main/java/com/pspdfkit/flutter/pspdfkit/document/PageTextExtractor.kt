@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.AnnotationProvider
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.PageText
+import com.pspdfkit.flutter.pspdfkit.api.PageTextChunk
+import com.pspdfkit.forms.FormElement
+import com.pspdfkit.forms.FormField
+import com.pspdfkit.forms.FormListeners
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.util.WeakHashMap
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Extracts and caches the text of document pages.
+ *
+ * The text of every page is kept per document instance and is released together with the
+ * document. It is dropped whenever an annotation or form field of the document changes, which
+ * covers annotation and form edits, XFDF and Instant JSON imports and redaction annotations, and
+ * when [invalidate] is called, e.g. after the document was saved. Full document extraction
+ * runs a bounded number of pages in parallel on the IO scheduler and emits them in page order,
+ * grouped in chunks.
+ */
+object PageTextExtractor {
+
+    const val DEFAULT_CONCURRENCY = 4L
+    const val DEFAULT_PAGES_PER_CHUNK = 16L
+
+    /**
+     * The cached pages of a document. Text extracted while the document changed is not cached,
+     * as it may be outdated.
+     */
+    private class DocumentText(document: PdfDocument) {
+        val pages = ConcurrentHashMap<Int, String>()
+
+        // Incremented with every change of the document.
+        @Volatile
+        var modificationStamp = 0L
+            private set
+
+        private val formFieldListener = object : FormListeners.OnFormFieldUpdatedListener {
+            override fun onFormFieldUpdated(formField: FormField) {
+                invalidate()
+            }
+
+            override fun onFormFieldReset(formField: FormField, formElement: FormElement) {
+                invalidate()
+            }
+        }
+
+        private val annotationListener = object : AnnotationProvider.OnAnnotationUpdatedListener {
+            override fun onAnnotationCreated(annotation: Annotation) {
+                invalidate()
+            }
+
+            override fun onAnnotationUpdated(annotation: Annotation) {
+                invalidate()
+            }
+
+            override fun onAnnotationRemoved(annotation: Annotation) {
+                invalidate()
+            }
+
+            override fun onAnnotationZOrderChanged(pageIndex: Int, oldOrder: List<Annotation>, newOrder: List<Annotation>) {}
+        }
+
+        init {
+            // The listeners only reference this object, so the document can still be released.
+            document.formProvider.addOnFormFieldUpdatedListener(formFieldListener)
+            document.annotationProvider.addOnAnnotationUpdatedListener(annotationListener)
+        }
+
+        @Synchronized
+        fun invalidate() {
+            modificationStamp++
+            pages.clear()
+        }
+
+        @Synchronized
+        fun put(pageIndex: Int, text: String, stamp: Long) {
+            if (stamp == modificationStamp) pages[pageIndex] = text
+        }
+    }
+
+    private val cache = WeakHashMap<PdfDocument, DocumentText>()
+
+    /**
+     * Returns the text of [pageIndex], extracting it if it is not cached. Fails with an
+     * [IllegalArgumentException] for an invalid page index.
+     */
+    @JvmStatic
+    fun getPageText(document: PdfDocument, pageIndex: Long): Single<String> {
+        return Single.fromCallable {
+            require(pageIndex in 0 until document.pageCount) { "Page index $pageIndex is out of bounds." }
+            pageText(document, pageIndex.toInt())
+        }.subscribeOn(Schedulers.io())
+    }
+
+    /**
+     * Emits the text of all pages in page order, [pagesPerChunk] pages at a time, extracting up
+     * to [maxConcurrency] pages in parallel. Fails with an [IllegalArgumentException] for invalid
+     * arguments.
+     */
+    @JvmStatic
+    fun extractAll(document: PdfDocument, maxConcurrency: Long, pagesPerChunk: Long): Flowable<PageTextChunk> {
+        return Flowable.defer {
+            require(maxConcurrency >= 1) { "maxConcurrency must be at least 1." }
+            require(pagesPerChunk >= 1) { "pagesPerChunk must be at least 1." }
+            var chunkIndex = 0L
+            Flowable.range(0, document.pageCount)
+                .concatMapEager(
+                    { pageIndex ->
+                        Flowable.fromCallable { PageText(pageIndex.toLong(), pageText(document, pageIndex)) }
+                            .subscribeOn(Schedulers.io())
+                    },
+                    maxConcurrency.coerceAtMost(Int.MAX_VALUE.toLong()).toInt(),
+                    1
+                )
+                .buffer(pagesPerChunk.coerceAtMost(Int.MAX_VALUE.toLong()).toInt())
+                .map { pages -> PageTextChunk(chunkIndex++, pages) }
+        }
+    }
+
+    /** Drops the cached text of [document], e.g. after it was saved. */
+    @JvmStatic
+    fun invalidate(document: PdfDocument) {
+        synchronized(cache) { cache[document] }?.invalidate()
+    }
+
+    private fun pageText(document: PdfDocument, pageIndex: Int): String {
+        val documentText = synchronized(cache) { cache.getOrPut(document) { DocumentText(document) } }
+        documentText.pages[pageIndex]?.let { return it }
+        val stamp = documentText.modificationStamp
+        return document.getPageText(pageIndex).also { documentText.put(pageIndex, it, stamp) }
+    }
+}
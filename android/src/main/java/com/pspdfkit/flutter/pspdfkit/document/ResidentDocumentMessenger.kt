@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import com.pspdfkit.flutter.pspdfkit.api.PdfDocumentApi
+import io.flutter.plugin.common.BinaryMessenger
+import java.nio.ByteBuffer
+
+/**
+ * Delivers the messages of the `PdfDocumentApi` channel of a headless document only while the
+ * document is resident.
+ *
+ * A message for a document that was evicted by [HeadlessDocumentPool] waits until
+ * [FlutterPdfDocument.loadDocument] reopened the document in the background, so no handler ever
+ * loads a document on the main thread. Messages that arrive while the document is reopened are
+ * delivered in the order they arrived.
+ */
+internal class ResidentDocumentMessenger(
+    private val messenger: BinaryMessenger,
+    private val document: FlutterPdfDocument
+) : BinaryMessenger {
+
+    override fun send(channel: String, message: ByteBuffer?) {
+        messenger.send(channel, message)
+    }
+
+    override fun send(channel: String, message: ByteBuffer?, callback: BinaryMessenger.BinaryReply?) {
+        messenger.send(channel, message, callback)
+    }
+
+    override fun setMessageHandler(channel: String, handler: BinaryMessenger.BinaryMessageHandler?) {
+        messenger.setMessageHandler(channel, handler?.let { residentHandler(it) })
+    }
+
+    private fun residentHandler(handler: BinaryMessenger.BinaryMessageHandler): BinaryMessenger.BinaryMessageHandler {
+        return BinaryMessenger.BinaryMessageHandler { message, reply ->
+            if (document.isResident) {
+                handler.onMessage(message, reply)
+                return@BinaryMessageHandler
+            }
+            // The engine may reuse the message buffer once this call returns.
+            val copy = message?.let { ByteBuffer.allocateDirect(it.remaining()).put(it).apply { flip() } }
+            // noinspection checkResult
+            document.loadDocument().subscribe(
+                { handler.onMessage(copy, reply) },
+                { throwable ->
+                    val error = listOf(
+                        "DocumentOpenError",
+                        "Failed to reopen document: ${throwable.message}",
+                        throwable.stackTraceToString()
+                    )
+                    reply.reply(PdfDocumentApi.codec.encodeMessage(error))
+                }
+            )
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.util.Log
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchOptions
+import com.pspdfkit.flutter.pspdfkit.api.TextSearchPageResult
+import com.pspdfkit.flutter.pspdfkit.util.DiskLruCache
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.util.WeakHashMap
+
+/**
+ * Builds, stores and searches the [DocumentSearchIndex] of documents.
+ *
+ * Indexes are kept in memory per document instance and written to a [DiskLruCache] in the app
+ * cache directory, named after the [DocumentIdentity] of the document. Opening the same file
+ * again loads the stored index instead of extracting the text of every page. After a document
+ * was saved, [update] only re-indexes the pages whose text changed.
+ */
+object SearchIndexService {
+
+    const val DEFAULT_CONTEXT_LENGTH = 40L
+
+    private const val LOG_TAG = "SearchIndexService"
+    private const val DIRECTORY_NAME = "nutrient_search_index"
+    private const val MAX_BYTES = 128L * 1024 * 1024
+    private const val MAX_CONTEXT_LENGTH = 500L
+    private const val INDEXING_CONCURRENCY = 2L
+    private const val INDEXING_PAGES_PER_CHUNK = 32L
+
+    /**
+     * The index of one document. [loading] is only set while the index is loaded or built, so
+     * the entry does not keep the document alive afterwards.
+     */
+    private class Entry {
+        var index: DocumentSearchIndex? = null
+        var loading: Single<DocumentSearchIndex>? = null
+    }
+
+    private val entries = WeakHashMap<PdfDocument, Entry>()
+
+    @Volatile
+    private var diskCache: DiskLruCache? = null
+
+    /**
+     * Returns the index of [document], loading it from disk or building it in the background
+     * on first use. Concurrent callers share one build, which is cancelled once all of them
+     * were disposed.
+     */
+    @JvmStatic
+    fun index(context: Context, document: PdfDocument): Single<DocumentSearchIndex> {
+        return Single.defer {
+            synchronized(entries) {
+                val entry = entries.getOrPut(document) { Entry() }
+                entry.index?.let { return@defer Single.just(it) }
+                entry.loading ?: loadOrBuild(context, document)
+                    .doOnSuccess { index ->
+                        synchronized(entries) {
+                            entry.index = index
+                            entry.loading = null
+                        }
+                    }
+                    .doOnError { synchronized(entries) { entry.loading = null } }
+                    .doOnDispose { synchronized(entries) { entry.loading = null } }
+                    .toObservable()
+                    .share()
+                    .singleOrError()
+                    .also { entry.loading = it }
+            }
+        }
+    }
+
+    /**
+     * Emits the pages of [document] containing [query] in page order. Fails with an
+     * [IllegalArgumentException] for invalid arguments.
+     */
+    @JvmStatic
+    fun search(
+        context: Context,
+        document: PdfDocument,
+        query: String,
+        options: TextSearchOptions?
+    ): Flowable<TextSearchPageResult> {
+        return Flowable.defer {
+            require(query.isNotEmpty()) { "The search query must not be empty." }
+            val maxResults = options?.maxResults ?: Long.MAX_VALUE
+            require(maxResults >= 1) { "maxResults must be at least 1." }
+            val contextLength = options?.contextLength ?: DEFAULT_CONTEXT_LENGTH
+            require(contextLength in 0..MAX_CONTEXT_LENGTH) {
+                "contextLength must be between 0 and $MAX_CONTEXT_LENGTH."
+            }
+            index(context, document).flatMapPublisher { index ->
+                val results = index.search(query, options?.caseSensitive == true, maxResults, contextLength.toInt())
+                Flowable.fromIterable(results.asIterable())
+            }
+        }.subscribeOn(Schedulers.io())
+    }
+
+    /**
+     * Brings a loaded index of [document] up to date after its content changed, e.g. after it
+     * was saved. Only pages whose text differs from the index are re-indexed. Does nothing if
+     * the document was never indexed.
+     */
+    @JvmStatic
+    fun update(context: Context, document: PdfDocument): Completable {
+        return Completable.defer {
+            val index = synchronized(entries) { entries[document]?.index } ?: return@defer Completable.complete()
+            PageTextExtractor.extractAll(document, INDEXING_CONCURRENCY, INDEXING_PAGES_PER_CHUNK)
+                .doOnNext { chunk ->
+                    chunk.pages.forEach { page -> index.setPageText(page.pageIndex.toInt(), page.text) }
+                }
+                .ignoreElements()
+                .doOnComplete {
+                    index.truncate(document.pageCount)
+                    store(context, document, index)
+                }
+        }.subscribeOn(Schedulers.io())
+    }
+
+    private fun loadOrBuild(context: Context, document: PdfDocument): Single<DocumentSearchIndex> {
+        return Single.defer {
+            val cache = diskCache(context)
+            val name = "${DocumentIdentity.key(document)}.idx"
+            cache.get(name)?.let { file ->
+                try {
+                    return@defer Single.just(read(file))
+                } catch (e: IOException) {
+                    Log.w(LOG_TAG, "Discarding unreadable search index ${file.name}", e)
+                }
+            }
+            val index = DocumentSearchIndex()
+            PageTextExtractor.extractAll(document, INDEXING_CONCURRENCY, INDEXING_PAGES_PER_CHUNK)
+                .doOnNext { chunk ->
+                    chunk.pages.forEach { page -> index.setPageText(page.pageIndex.toInt(), page.text) }
+                }
+                .ignoreElements()
+                .toSingle {
+                    store(context, document, index)
+                    index
+                }
+        }.subscribeOn(Schedulers.io())
+    }
+
+    private fun read(file: File): DocumentSearchIndex {
+        return DataInputStream(BufferedInputStream(file.inputStream())).use { DocumentSearchIndex.readFrom(it) }
+    }
+
+    /** Writes [index] under the current identity of [document], replacing older versions. */
+    private fun store(context: Context, document: PdfDocument, index: DocumentSearchIndex) {
+        val cache = diskCache(context)
+        val tempFile = cache.createTempFile()
+        try {
+            DataOutputStream(BufferedOutputStream(tempFile.outputStream())).use { index.writeTo(it) }
+            cache.removeWithPrefix("${DocumentIdentity.uidHash(document)}-")
+            cache.put("${DocumentIdentity.key(document)}.idx", tempFile)
+        } catch (e: Exception) {
+            // The index stays usable in memory, it is rebuilt next time the document is opened.
+            tempFile.delete()
+            Log.w(LOG_TAG, "Failed to store search index", e)
+        }
+    }
+
+    private fun diskCache(context: Context): DiskLruCache {
+        diskCache?.let { return it }
+        synchronized(this) {
+            return diskCache ?: DiskLruCache(File(context.cacheDir, DIRECTORY_NAME), MAX_BYTES)
+                .also { diskCache = it }
+        }
+    }
+}
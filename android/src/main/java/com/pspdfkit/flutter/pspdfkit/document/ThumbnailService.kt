@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import android.content.Context
+import android.graphics.BitmapFactory
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.PageRenderOptions
+import com.pspdfkit.flutter.pspdfkit.api.ThumbnailResult
+import com.pspdfkit.flutter.pspdfkit.util.DiskLruCache
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.roundToLong
+
+/**
+ * Persistent page thumbnails that survive app restarts.
+ *
+ * Thumbnails are PNG files in the app cache directory, named after the document identity (its
+ * UID and, for local files, the file's modification time and size), the page and the size
+ * bucket. A document that changed on disk therefore never hits stale thumbnails. The directory
+ * is a [DiskLruCache] capped at [DEFAULT_MAX_BYTES] by default.
+ *
+ * Thumbnails are rendered by [PageRenderer], concurrent requests for the same thumbnail share
+ * one render.
+ */
+object ThumbnailService {
+
+    const val DEFAULT_MAX_BYTES = 64L * 1024 * 1024
+
+    private const val DIRECTORY_NAME = "nutrient_thumbnails"
+    private const val PREFETCH_CONCURRENCY = 2
+
+    private val SIZE_BUCKETS = longArrayOf(64, 128, 256, 512, 1024, 2048)
+
+    @Volatile
+    private var diskCache: DiskLruCache? = null
+    private var maxBytes = DEFAULT_MAX_BYTES
+
+    private val inFlight = ConcurrentHashMap<String, Single<ThumbnailResult>>()
+
+    /**
+     * Returns the thumbnail of [pageIndex] with a longer side of at least [maxSize] pixels,
+     * rendering it into the cache if needed. Fails with an [IllegalArgumentException] for
+     * invalid arguments.
+     */
+    @JvmStatic
+    fun getThumbnail(context: Context, document: PdfDocument, pageIndex: Long, maxSize: Long): Single<ThumbnailResult> {
+        return Single.defer {
+            require(pageIndex in 0 until document.pageCount) { "Page index $pageIndex is out of bounds." }
+            val bucket = SIZE_BUCKETS.firstOrNull { it >= maxSize }
+            require(maxSize > 0 && bucket != null) { "maxSize must be between 1 and ${SIZE_BUCKETS.last()}." }
+            val cache = diskCache(context)
+            val name = "${DocumentIdentity.key(document)}-$pageIndex-$bucket.png"
+            cache.get(name)?.let { return@defer Single.just(cachedThumbnail(pageIndex, it)) }
+            inFlight.computeIfAbsent(name) {
+                render(context, document, cache, name, pageIndex, bucket)
+                    .doFinally { inFlight.remove(name) }
+                    .cache()
+            }
+        }.subscribeOn(Schedulers.io())
+    }
+
+    /** Renders the thumbnails of [pageIndexes] into the cache, a few pages at a time. */
+    @JvmStatic
+    fun prefetch(context: Context, document: PdfDocument, pageIndexes: List<Long>, maxSize: Long): Completable {
+        return Flowable.fromIterable(pageIndexes.distinct())
+            .flatMapSingle({ pageIndex -> getThumbnail(context, document, pageIndex, maxSize) }, false, PREFETCH_CONCURRENCY)
+            .ignoreElements()
+    }
+
+    /** Deletes the cached thumbnails of [document], e.g. after it was saved. */
+    @JvmStatic
+    fun invalidate(document: PdfDocument) {
+        diskCache?.removeWithPrefix("${DocumentIdentity.uidHash(document)}-")
+    }
+
+    @JvmStatic
+    fun configure(context: Context, maxBytes: Long) {
+        require(maxBytes >= 0) { "maxBytes must not be negative." }
+        synchronized(this) { this.maxBytes = maxBytes }
+        diskCache(context).maxBytes = maxBytes
+    }
+
+    @JvmStatic
+    fun clear(context: Context) {
+        diskCache(context).clear()
+    }
+
+    private fun render(
+        context: Context,
+        document: PdfDocument,
+        cache: DiskLruCache,
+        name: String,
+        pageIndex: Long,
+        bucket: Long
+    ): Single<ThumbnailResult> {
+        val pageSize = document.getPageSize(pageIndex.toInt())
+        val scale = bucket / maxOf(pageSize.width, pageSize.height)
+        val width = (pageSize.width * scale).roundToLong().coerceAtLeast(1)
+        val height = (pageSize.height * scale).roundToLong().coerceAtLeast(1)
+        val tempFile = cache.createTempFile()
+        val options = PageRenderOptions(format = PageRenderer.FORMAT_PNG, outputPath = tempFile.path, useCache = false)
+        return PageRenderer.renderPage(context, document, pageIndex, width, height, options)
+            .map { renderedPage ->
+                val file = cache.put(name, tempFile)
+                ThumbnailResult(pageIndex, file.absolutePath, renderedPage.width, renderedPage.height, false)
+            }
+            .doOnError { tempFile.delete() }
+    }
+
+    private fun cachedThumbnail(pageIndex: Long, file: File): ThumbnailResult {
+        val bounds = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+        BitmapFactory.decodeFile(file.path, bounds)
+        return ThumbnailResult(pageIndex, file.absolutePath, bounds.outWidth.toLong(), bounds.outHeight.toLong(), true)
+    }
+
+    private fun diskCache(context: Context): DiskLruCache {
+        diskCache?.let { return it }
+        synchronized(this) {
+            return diskCache ?: DiskLruCache(File(context.cacheDir, DIRECTORY_NAME), maxBytes)
+                .also { diskCache = it }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import java.io.BufferedInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.nio.charset.StandardCharsets
+
+/**
+ * Reads the field dictionaries of an FDF file with a streaming tokenizer.
+ *
+ * Every dictionary with a `/T` and a `/V` entry is a field, the `/T` of enclosing `/Kids`
+ * dictionaries are its parents. Parents must name themselves before their `/Kids`, as all
+ * common writers do. Indirect object references for values are not supported.
+ */
+class FdfFormDataReader(input: InputStream) : FormDataReader {
+
+    private enum class TokenType { DICT_START, DICT_END, ARRAY_START, ARRAY_END, STRING, NAME, OTHER, EOF }
+
+    private class Token(val type: TokenType, val text: String = "")
+
+    /** An open dictionary or array, with the dictionary key it is the value of. */
+    private class Container(val isDictionary: Boolean, val key: String?) {
+        var pendingKey: String? = null
+        var name: String? = null
+        var values: MutableList<String>? = null
+        var isState = false
+    }
+
+    private val input = BufferedInputStream(input)
+    private val containers = ArrayList<Container>()
+    private var peeked = -2
+
+    override fun next(): FormDataEntry? {
+        while (true) {
+            val token = nextToken()
+            val top = containers.lastOrNull()
+            when (token.type) {
+                TokenType.EOF -> return null
+                TokenType.DICT_START, TokenType.ARRAY_START -> {
+                    val key = if (top?.isDictionary == true) top.pendingKey.also { top.pendingKey = null } else top?.key
+                    val container = Container(token.type == TokenType.DICT_START, key)
+                    if (!container.isDictionary && key == "V") container.values = ArrayList()
+                    containers.add(container)
+                }
+                TokenType.ARRAY_END -> {
+                    val array = containers.removeLastOrNull()
+                    if (array?.values != null) {
+                        containers.lastOrNull()?.let {
+                            it.values = array.values
+                            it.isState = array.isState
+                        }
+                    }
+                }
+                TokenType.DICT_END -> {
+                    val dictionary = containers.removeLastOrNull() ?: continue
+                    val name = dictionary.name
+                    val values = dictionary.values
+                    if (name != null && values != null) {
+                        val parents = containers.mapNotNull { it.name }
+                        val fullyQualifiedName = (parents + name).joinToString(".")
+                        return FormDataEntry(fullyQualifiedName, values, dictionary.isState)
+                    }
+                }
+                else -> if (top != null) value(top, token)
+            }
+        }
+    }
+
+    override fun close() {
+        input.close()
+    }
+
+    private fun value(container: Container, token: Token) {
+        if (!container.isDictionary) {
+            // Only the elements of value arrays are of interest.
+            if (token.type == TokenType.STRING || token.type == TokenType.NAME) {
+                container.values?.add(token.text)
+                if (token.type == TokenType.NAME) container.isState = true
+            }
+            return
+        }
+        val key = container.pendingKey
+        if (key == null) {
+            // Keys are names, other tokens are leftovers like the "0 R" of references.
+            if (token.type == TokenType.NAME) container.pendingKey = token.text
+            return
+        }
+        container.pendingKey = null
+        when (key) {
+            "T" -> if (token.type == TokenType.STRING) container.name = token.text
+            "V" -> {
+                container.values = mutableListOf(token.text)
+                container.isState = token.type == TokenType.NAME
+            }
+        }
+    }
+
+    private fun read(): Int {
+        if (peeked != -2) {
+            return peeked.also { peeked = -2 }
+        }
+        return input.read()
+    }
+
+    private fun peek(): Int {
+        if (peeked == -2) peeked = input.read()
+        return peeked
+    }
+
+    private fun nextToken(): Token {
+        var c = read()
+        while (true) {
+            when {
+                c == -1 -> return Token(TokenType.EOF)
+                isWhitespace(c) -> c = read()
+                c == '%'.code -> {
+                    while (c != -1 && c != '\n'.code && c != '\r'.code) c = read()
+                }
+                else -> break
+            }
+        }
+        return when (c) {
+            '<'.code -> if (peek() == '<'.code) {
+                read()
+                Token(TokenType.DICT_START)
+            } else {
+                Token(TokenType.STRING, hexString())
+            }
+            '>'.code -> if (peek() == '>'.code) {
+                read()
+                Token(TokenType.DICT_END)
+            } else {
+                Token(TokenType.OTHER, ">")
+            }
+            '['.code -> Token(TokenType.ARRAY_START)
+            ']'.code -> Token(TokenType.ARRAY_END)
+            '('.code -> Token(TokenType.STRING, literalString())
+            '/'.code -> Token(TokenType.NAME, name())
+            else -> {
+                val text = StringBuilder().append(c.toChar())
+                while (peek() != -1 && isRegular(peek())) text.append(read().toChar())
+                Token(TokenType.OTHER, text.toString())
+            }
+        }
+    }
+
+    private fun literalString(): String {
+        val bytes = ByteArrayOutputStream()
+        var depth = 1
+        while (true) {
+            var c = read()
+            require(c != -1) { "The FDF file ends inside a string." }
+            when (c) {
+                '('.code -> depth++
+                ')'.code -> if (--depth == 0) return decode(bytes.toByteArray())
+                '\r'.code -> {
+                    // End of line markers within strings are read as a single line feed.
+                    if (peek() == '\n'.code) read()
+                    c = '\n'.code
+                }
+                '\\'.code -> c = escape() ?: continue
+            }
+            bytes.write(c)
+        }
+    }
+
+    /** Reads the escape sequence after a backslash. Returns null for escaped line breaks. */
+    private fun escape(): Int? {
+        val c = read()
+        return when (c) {
+            'n'.code -> '\n'.code
+            'r'.code -> '\r'.code
+            't'.code -> '\t'.code
+            'b'.code -> '\b'.code
+            'f'.code -> 0x0c
+            '\r'.code -> {
+                if (peek() == '\n'.code) read()
+                null
+            }
+            '\n'.code -> null
+            in '0'.code..'7'.code -> {
+                var octal = c - '0'.code
+                repeat(2) {
+                    if (peek() in '0'.code..'7'.code) octal = octal * 8 + (read() - '0'.code)
+                }
+                octal and 0xff
+            }
+            -1 -> throw IllegalArgumentException("The FDF file ends inside a string.")
+            else -> c
+        }
+    }
+
+    private fun hexString(): String {
+        val bytes = ByteArrayOutputStream()
+        var high = -1
+        while (true) {
+            val c = read()
+            require(c != -1) { "The FDF file ends inside a hex string." }
+            if (c == '>'.code) break
+            val digit = Character.digit(c, 16)
+            if (digit < 0) continue
+            if (high < 0) {
+                high = digit
+            } else {
+                bytes.write(high * 16 + digit)
+                high = -1
+            }
+        }
+        // A missing last digit is zero.
+        if (high >= 0) bytes.write(high * 16)
+        return decode(bytes.toByteArray())
+    }
+
+    private fun name(): String {
+        val bytes = ByteArrayOutputStream()
+        while (peek() != -1 && isRegular(peek())) {
+            val c = read()
+            if (c == '#'.code) {
+                val high = Character.digit(read(), 16)
+                val low = Character.digit(read(), 16)
+                require(high >= 0 && low >= 0) { "The FDF file contains an invalid name escape." }
+                bytes.write(high * 16 + low)
+            } else {
+                bytes.write(c)
+            }
+        }
+        return String(bytes.toByteArray(), StandardCharsets.UTF_8)
+    }
+
+    /** Decodes UTF-16BE and UTF-8 strings with a byte order mark, and PDFDocEncoding otherwise. */
+    private fun decode(bytes: ByteArray): String {
+        return when {
+            bytes.size >= 2 && bytes[0] == 0xfe.toByte() && bytes[1] == 0xff.toByte() ->
+                String(bytes, 2, bytes.size - 2, StandardCharsets.UTF_16BE)
+            bytes.size >= 3 && bytes[0] == 0xef.toByte() && bytes[1] == 0xbb.toByte() && bytes[2] == 0xbf.toByte() ->
+                String(bytes, 3, bytes.size - 3, StandardCharsets.UTF_8)
+            // Latin-1 matches PDFDocEncoding for all printable characters used in practice.
+            else -> String(bytes, StandardCharsets.ISO_8859_1)
+        }
+    }
+
+    private fun isWhitespace(c: Int): Boolean {
+        return c == 0 || c == 9 || c == 10 || c == 12 || c == 13 || c == 32
+    }
+
+    private fun isRegular(c: Int): Boolean {
+        return !isWhitespace(c) && c.toChar() !in "()<>[]{}/%"
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import java.io.OutputStream
+import java.nio.charset.StandardCharsets
+
+/**
+ * Streams field values as the `/Fields` array of an FDF file. Parents are written as fields
+ * with `/Kids`, button states as names and all other values as strings.
+ */
+class FdfFormDataWriter(private val output: OutputStream) : FormDataWriter() {
+
+    init {
+        // The comment with non-ASCII bytes marks the file as binary, as in PDF files.
+        write("%FDF-1.2\n%âãÏÓ\n1 0 obj\n<< /FDF << /Fields [\n")
+    }
+
+    override fun beginParent(partialName: String) {
+        write("<< /T ${string(partialName)} /Kids [\n")
+    }
+
+    override fun endParent() {
+        write("] >>\n")
+    }
+
+    override fun writeField(partialName: String, entry: FormDataEntry) {
+        val values = entry.values.map { if (entry.isState) name(it) else string(it) }
+        val value = if (values.size == 1) values.first() else values.joinToString(" ", "[", "]")
+        write("<< /T ${string(partialName)} /V $value >>\n")
+    }
+
+    override fun writeEnd() {
+        write("] >> >>\nendobj\ntrailer\n<< /Root 1 0 R >>\n%%EOF\n")
+        output.flush()
+    }
+
+    override fun close() {
+        output.close()
+    }
+
+    private fun write(text: String) {
+        output.write(text.toByteArray(StandardCharsets.ISO_8859_1))
+    }
+
+    /** Writes ASCII text as a literal string and all other text as a UTF-16BE hex string. */
+    private fun string(value: String): String {
+        if (value.any { it.code > 0x7e }) {
+            val bytes = value.toByteArray(StandardCharsets.UTF_16BE)
+            return bytes.joinToString("", "<FEFF", ">") { "%02X".format(it.toInt() and 0xff) }
+        }
+        val builder = StringBuilder(value.length + 2).append('(')
+        for (c in value) {
+            when (c) {
+                '(', ')', '\\' -> builder.append('\\').append(c)
+                '\r' -> builder.append("\\r")
+                '\n' -> builder.append("\\n")
+                else -> builder.append(c)
+            }
+        }
+        return builder.append(')').toString()
+    }
+
+    private fun name(value: String): String {
+        val builder = StringBuilder(value.length + 1).append('/')
+        for (byte in value.toByteArray(StandardCharsets.UTF_8)) {
+            val code = byte.toInt() and 0xff
+            if (code in 0x21..0x7e && code.toChar() !in "#/%()<>[]{}") {
+                builder.append(code.toChar())
+            } else {
+                builder.append('#').append("%02X".format(code))
+            }
+        }
+        return builder.toString()
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import java.io.Closeable
+import java.io.InputStream
+import java.io.OutputStream
+
+/**
+ * The value of one form field in an XFDF or FDF file.
+ *
+ * @param values The values of the field, several for multi-select choice fields
+ * @param isState Whether the values are button states like `Yes` or `Off`, which FDF writes as
+ * names instead of strings
+ */
+class FormDataEntry(val fullyQualifiedName: String, val values: List<String>, val isState: Boolean = false)
+
+/** Reads the field values of a form data file one at a time, without loading the whole file. */
+interface FormDataReader : Closeable {
+    /** Returns the next field that has a value, or null at the end of the file. */
+    fun next(): FormDataEntry?
+}
+
+/**
+ * Streams field values to a form data file.
+ *
+ * Both XFDF and FDF nest fields below their parents, e.g. `address.city` is written as a field
+ * `city` inside a field `address`. Parents that are still open are reused by the next field, so
+ * pass fields with the same parent one after another, like [FormFieldTrie.inTreeOrder] orders
+ * them, to write every parent only once.
+ */
+abstract class FormDataWriter : Closeable {
+
+    private val openParents = ArrayList<String>()
+
+    /** Writes [entry], opening and closing its parents as needed. */
+    fun write(entry: FormDataEntry) {
+        val segments = entry.fullyQualifiedName.split('.')
+        val parents = segments.subList(0, segments.size - 1)
+        var shared = 0
+        while (shared < openParents.size && shared < parents.size && openParents[shared] == parents[shared]) {
+            shared++
+        }
+        while (openParents.size > shared) {
+            openParents.removeAt(openParents.size - 1)
+            endParent()
+        }
+        for (parent in parents.subList(shared, parents.size)) {
+            openParents.add(parent)
+            beginParent(parent)
+        }
+        writeField(segments.last(), entry)
+    }
+
+    /** Closes all open parents and writes the end of the file. Call once after all fields. */
+    fun finish() {
+        while (openParents.isNotEmpty()) {
+            openParents.removeAt(openParents.size - 1)
+            endParent()
+        }
+        writeEnd()
+    }
+
+    protected abstract fun beginParent(partialName: String)
+
+    protected abstract fun endParent()
+
+    protected abstract fun writeField(partialName: String, entry: FormDataEntry)
+
+    protected abstract fun writeEnd()
+}
+
+/** The supported form data formats. */
+object FormDataFormat {
+    const val XFDF = "xfdf"
+    const val FDF = "fdf"
+
+    /**
+     * Returns [format] in lower case, or the extension of [path] if [format] is null. Fails with
+     * an [IllegalArgumentException] for formats other than XFDF and FDF.
+     */
+    @JvmStatic
+    fun resolve(format: String?, path: String): String {
+        val resolved = (format ?: path.substringAfterLast('.', "")).lowercase()
+        require(resolved == XFDF || resolved == FDF) {
+            "Unsupported form data format \"$resolved\", use xfdf or fdf."
+        }
+        return resolved
+    }
+
+    @JvmStatic
+    fun reader(format: String, input: InputStream): FormDataReader {
+        return if (format == XFDF) XfdfFormDataReader(input) else FdfFormDataReader(input)
+    }
+
+    @JvmStatic
+    fun writer(format: String, output: OutputStream): FormDataWriter {
+        return if (format == XFDF) XfdfFormDataWriter(output) else FdfFormDataWriter(output)
+    }
+}
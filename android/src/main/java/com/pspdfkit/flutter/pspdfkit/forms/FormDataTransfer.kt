@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldWriteError
+import com.pspdfkit.forms.CheckBoxFormField
+import com.pspdfkit.forms.ChoiceFormElement
+import com.pspdfkit.forms.ComboBoxFormField
+import com.pspdfkit.forms.FormField
+import com.pspdfkit.forms.FormOption
+import com.pspdfkit.forms.ListBoxFormField
+import com.pspdfkit.forms.RadioButtonFormField
+import com.pspdfkit.forms.TextFormField
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
+
+/**
+ * Imports and exports the form field values of a document as XFDF or FDF files.
+ *
+ * Files are streamed, only one chunk of fields is held in memory at a time. Imports parse and
+ * resolve every chunk in the background and then apply it in one short main thread task, so a
+ * viewer keeps drawing frames between chunks. Selected buttons are written as their export
+ * value, falling back to `Yes` for check boxes and to the index of the button for radio groups
+ * without export values. Unselected buttons are written as `Off` and choice fields as the values
+ * of their selected options. Imports match button values against the export values first.
+ */
+object FormDataTransfer {
+
+    /** Number of fields per chunk if no chunk size is given. */
+    const val DEFAULT_CHUNK_SIZE = 250L
+
+    private const val STATE_ON = "Yes"
+    private const val STATE_OFF = "Off"
+
+    /** The outcome of one chunk of fields. */
+    class Chunk(val fieldCount: Int, val errors: List<FormFieldWriteError>)
+
+    /** A resolved value, applied on the main thread. */
+    private class PendingValue(val fullyQualifiedName: String, val apply: () -> Unit)
+
+    /**
+     * Imports the field values of [file] in [format] into [document], [chunkSize] fields at a
+     * time. Emits every chunk on the main thread after it was applied.
+     */
+    @JvmStatic
+    fun importFormData(document: PdfDocument, file: File, format: String, chunkSize: Int): Flowable<Chunk> {
+        return Single.fromCallable { document.formProvider.formFields.associateBy { it.fullyQualifiedName } }
+            .subscribeOn(Schedulers.io())
+            .flatMapPublisher { fields ->
+                Flowable.using(
+                    { FormDataFormat.reader(format, file.inputStream()) },
+                    { reader ->
+                        Flowable.generate<FormDataEntry> { emitter ->
+                            val entry = reader.next()
+                            if (entry != null) emitter.onNext(entry) else emitter.onComplete()
+                        }
+                    },
+                    { reader -> reader.close() }
+                )
+                    // Also parses the chunks requested by the main thread in the background.
+                    .subscribeOn(Schedulers.io())
+                    .buffer(chunkSize)
+                    .map { entries -> resolve(fields, entries) }
+                    .observeOn(AndroidSchedulers.mainThread())
+                    .map { (values, errors) -> apply(values, errors) }
+            }
+    }
+
+    /**
+     * Exports the values of all fields of [document] to [file] in [format], [chunkSize] fields at
+     * a time. Emits every chunk after it was written. The file is deleted if the export fails.
+     */
+    @JvmStatic
+    fun exportFormData(document: PdfDocument, file: File, format: String, chunkSize: Int): Flowable<Chunk> {
+        return Single.fromCallable { FormFieldTrie.build(document.formProvider.formFields).inTreeOrder() }
+            .subscribeOn(Schedulers.io())
+            .flatMapPublisher { fields ->
+                Flowable.using(
+                    { FormDataFormat.writer(format, file.outputStream().buffered()) },
+                    { writer ->
+                        Flowable.fromIterable(fields)
+                            .buffer(chunkSize)
+                            .map { chunk ->
+                                val entries = chunk.mapNotNull { entry(it) }
+                                entries.forEach { writer.write(it) }
+                                Chunk(entries.size, emptyList())
+                            }
+                            .concatWith(Completable.fromAction { writer.finish() })
+                    },
+                    { writer -> writer.close() }
+                )
+                    .subscribeOn(Schedulers.io())
+            }
+            .doOnError { file.delete() }
+    }
+
+    /** Returns the value of [formField], or null for fields without a value like signatures. */
+    private fun entry(formField: FormField): FormDataEntry? {
+        val name = formField.fullyQualifiedName
+        return when (formField) {
+            is TextFormField -> FormDataEntry(name, listOf(formField.formElement.text ?: ""))
+            is CheckBoxFormField -> {
+                val selectedIndex = formField.formElements.indexOfFirst { it.isSelected }
+                val value = if (selectedIndex >= 0) exportValue(formField.options, selectedIndex) ?: STATE_ON else STATE_OFF
+                FormDataEntry(name, listOf(value), isState = true)
+            }
+            is RadioButtonFormField -> {
+                val selectedIndex = formField.formElements.indexOfFirst { it.isSelected }
+                val value = if (selectedIndex >= 0) {
+                    exportValue(formField.options, selectedIndex) ?: selectedIndex.toString()
+                } else {
+                    STATE_OFF
+                }
+                FormDataEntry(name, listOf(value), isState = true)
+            }
+            is ComboBoxFormField -> {
+                val customText = formField.formElement.customText
+                if (!customText.isNullOrEmpty()) {
+                    FormDataEntry(name, listOf(customText))
+                } else {
+                    FormDataEntry(name, selectedOptionValues(formField.formElement))
+                }
+            }
+            is ListBoxFormField -> FormDataEntry(name, selectedOptionValues(formField.formElement))
+            else -> null
+        }
+    }
+
+    /** Returns the export value of the button at [index], or null if it has none. */
+    private fun exportValue(options: List<FormOption>, index: Int): String? {
+        return options.getOrNull(index)?.value?.takeIf { it.isNotEmpty() }
+    }
+
+    private fun selectedOptionValues(formElement: ChoiceFormElement): List<String> {
+        val options = formElement.options
+        return formElement.selectedIndexes.mapNotNull { options.getOrNull(it)?.value }
+    }
+
+    /** Converts [entries] to values of [fields] in the background, reporting those that cannot be set. */
+    private fun resolve(
+        fields: Map<String, FormField>,
+        entries: List<FormDataEntry>
+    ): Pair<List<PendingValue>, List<FormFieldWriteError>> {
+        val values = ArrayList<PendingValue>(entries.size)
+        val errors = ArrayList<FormFieldWriteError>()
+        for (entry in entries) {
+            val name = entry.fullyQualifiedName
+            val formField = fields[name]
+            if (formField == null) {
+                errors.add(FormFieldWriteError(name, FormValueWriter.ERROR_NOT_FOUND, "Form element with name $name not found."))
+                continue
+            }
+            try {
+                values.add(PendingValue(name, pendingValue(formField, entry.values)))
+            } catch (e: IllegalArgumentException) {
+                errors.add(FormFieldWriteError(name, FormValueWriter.ERROR_INVALID_VALUE, e.message ?: ""))
+            } catch (e: UnsupportedOperationException) {
+                errors.add(FormFieldWriteError(name, FormValueWriter.ERROR_UNSUPPORTED, e.message ?: ""))
+            }
+        }
+        return values to errors
+    }
+
+    private fun pendingValue(formField: FormField, values: List<String>): () -> Unit {
+        val value = values.firstOrNull() ?: ""
+        return when (formField) {
+            is TextFormField -> {
+                { formField.formElement.setText(value) }
+            }
+            is CheckBoxFormField -> if (isOff(value)) {
+                { formField.formElements.forEach { if (it.isSelected) it.deselect() } }
+            } else {
+                // Any other state, like the common `Yes`, checks the first box.
+                val button = formField.formElements.getOrNull(formField.options.indexOfFirst { it.value == value })
+                    ?: formField.formElement
+                ({ button.select() })
+            }
+            is RadioButtonFormField -> if (isOff(value)) {
+                { formField.formElements.forEach { if (it.isSelected) it.deselect() } }
+            } else {
+                val button = formField.formElements.getOrNull(formField.options.indexOfFirst { it.value == value })
+                    ?: value.toIntOrNull()?.let { formField.formElements.getOrNull(it) }
+                    ?: throw IllegalArgumentException("Value must be Off, the export value or the index of a radio button.")
+                ({ button.select() })
+            }
+            is ComboBoxFormField -> {
+                val indexes = optionIndexes(formField.formElement, values)
+                when {
+                    indexes != null -> ({ formField.formElement.selectedIndexes = indexes })
+                    // Values that are no option are custom text of editable combo boxes.
+                    values.size == 1 && formField.formElement.isEditable -> ({ formField.formElement.setCustomText(value) })
+                    else -> throw IllegalArgumentException("Value must be one of the options of the combo box.")
+                }
+            }
+            is ListBoxFormField -> {
+                val indexes = optionIndexes(formField.formElement, values)
+                    ?: throw IllegalArgumentException("Values must be options of the list box.")
+                ({ formField.formElement.selectedIndexes = indexes })
+            }
+            else -> throw UnsupportedOperationException("Only text, button and choice fields can be imported.")
+        }
+    }
+
+    private fun isOff(value: String): Boolean {
+        return value.isEmpty() || value.equals(STATE_OFF, ignoreCase = true)
+    }
+
+    /** Maps [values] to option indexes, by option value first and label second. Null if any is no option. */
+    private fun optionIndexes(formElement: ChoiceFormElement, values: List<String>): List<Int>? {
+        val options = formElement.options
+        return values.filter { it.isNotEmpty() }.map { value ->
+            options.indexOfFirst { it.value == value }.takeIf { it >= 0 }
+                ?: options.indexOfFirst { it.label == value }.takeIf { it >= 0 }
+                ?: return null
+        }
+    }
+
+    private fun apply(values: List<PendingValue>, errors: List<FormFieldWriteError>): Chunk {
+        val allErrors = ArrayList(errors)
+        for (value in values) {
+            try {
+                value.apply()
+            } catch (e: Exception) {
+                allErrors.add(FormFieldWriteError(value.fullyQualifiedName, FormValueWriter.ERROR_INVALID_VALUE, e.message ?: ""))
+            }
+        }
+        return Chunk(values.size + errors.size, allErrors)
+    }
+}
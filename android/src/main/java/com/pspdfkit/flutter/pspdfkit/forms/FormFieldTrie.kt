@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.forms.FormField
+
+/**
+ * A trie over the dot separated segments of fully qualified form field names.
+ *
+ * Looking up the fields below a name only walks the segments of that name and the subtree
+ * below it, so loading one section of a large form does not iterate every field. The trie is
+ * immutable, build a new one when fields are added or removed.
+ */
+class FormFieldTrie private constructor(val size: Int) {
+
+    companion object {
+        /** Builds the trie of [formFields], remembering their order. */
+        @JvmStatic
+        fun build(formFields: List<FormField>): FormFieldTrie {
+            val trie = FormFieldTrie(formFields.size)
+            formFields.forEachIndexed { order, formField ->
+                var node = trie.root
+                for (segment in formField.fullyQualifiedName.split('.')) {
+                    node = node.children.getOrPut(segment) { Node() }
+                }
+                node.field = formField
+                node.order = order
+            }
+            return trie
+        }
+
+        /** Returns the fully qualified name of [relativeName] below [prefix]. */
+        @JvmStatic
+        fun qualify(prefix: String, relativeName: String): String {
+            return if (prefix.isEmpty()) relativeName else "$prefix.$relativeName"
+        }
+    }
+
+    private class Node {
+        // Children in the order their first field appears in the form.
+        val children = LinkedHashMap<String, Node>()
+        var field: FormField? = null
+        var order = -1
+    }
+
+    private val root = Node()
+
+    /**
+     * Returns the field named [prefix] and all fields below it, in form order. An empty prefix
+     * returns all fields.
+     */
+    fun withPrefix(prefix: String): List<FormField> {
+        var node = root
+        if (prefix.isNotEmpty()) {
+            for (segment in prefix.split('.')) {
+                node = node.children[segment] ?: return emptyList()
+            }
+        }
+        val nodes = ArrayList<Node>()
+        val pending = ArrayDeque<Node>()
+        pending.add(node)
+        while (pending.isNotEmpty()) {
+            val next = pending.removeLast()
+            if (next.field != null) nodes.add(next)
+            pending.addAll(next.children.values)
+        }
+        nodes.sortBy { it.order }
+        return nodes.map { it.field!! }
+    }
+
+    /**
+     * Returns all fields ordered so that fields sharing a parent name are adjacent. Parents keep
+     * the form order of their first field, which is what hierarchical formats like XFDF need to
+     * write every parent only once.
+     */
+    fun inTreeOrder(): List<FormField> {
+        val fields = ArrayList<FormField>(size)
+        val pending = ArrayDeque<Node>()
+        pending.add(root)
+        while (pending.isNotEmpty()) {
+            val next = pending.removeLast()
+            next.field?.let { fields.add(it) }
+            // Pushed in reverse so the first child is visited first.
+            next.children.values.reversed().forEach { pending.add(it) }
+        }
+        return fields
+    }
+}
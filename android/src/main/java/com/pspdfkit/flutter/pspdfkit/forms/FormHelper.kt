@@ -1,6 +1,7 @@
 package com.pspdfkit.flutter.pspdfkit.forms
 
 import com.pspdfkit.flutter.pspdfkit.api.FormFieldData
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldValue
 import com.pspdfkit.flutter.pspdfkit.api.PdfFormFieldTypes
 import com.pspdfkit.forms.CheckBoxFormField
 import com.pspdfkit.forms.ComboBoxFormField
@@ -23,11 +24,20 @@ object FormHelper {
         FormType.UNDEFINED to PdfFormFieldTypes.UNKNOWN
     )
 
+    /**
+     * Returns the properties of [formFields]. Without [includeAnnotations] the Instant JSON of the
+     * widget annotations is left out, which is most of the serialization cost of a field.
+     */
     @JvmStatic
-    fun formFieldPropertiesToMap(formFields: List<FormField>): List<Map<String, Any>> {
+    @JvmOverloads
+    fun formFieldPropertiesToMap(
+        formFields: List<FormField>,
+        includeAnnotations: Boolean = true
+    ): List<Map<String, Any>> {
         val formFieldsList: MutableList<Map<String, Any>> = mutableListOf()
         // Extract the common form fields properties.
         for (formField in formFields) {
+            val annotationJson = if (includeAnnotations) widgetAnnotationJson(formField) else null
             val formFieldsMap: MutableMap<String, Any> = mutableMapOf()
             formFieldsMap["name"] = formField.name
             formFieldsMap["fullyQualifiedName"] = formField.fullyQualifiedName
@@ -38,16 +48,17 @@ object FormHelper {
             formFieldsMap["isNoExport"] = !formField.isExported
             formFieldsMap["alternateFieldName"] = formField.alternateFieldName
             formFieldsMap["mappingName"] = formField.mappingName
-            formFieldsMap["annotation"] = formField.formElement.annotation.toInstantJson()
+            annotationJson?.let { formFieldsMap["annotation"] = it }
 
             // Extract the specific form field properties.
-            formFieldsMap.putAll(getSpecificFormFieldProperties(formField, formFieldsMap))
+            formFieldsMap.putAll(getSpecificFormFieldProperties(formField, formFieldsMap, annotationJson))
             formFieldsList.add(formFieldsMap)
         }
         return formFieldsList
     }
 
-    fun formFieldsToFormFieldData(formFields: List<FormField>):List<FormFieldData> {
+    @JvmOverloads
+    fun formFieldsToFormFieldData(formFields: List<FormField>, includeAnnotations: Boolean = true): List<FormFieldData> {
         val formFieldsList: MutableList<FormFieldData> = mutableListOf()
         // Extract the common form fields properties.
         for (formField in formFields) {
@@ -60,17 +71,71 @@ object FormHelper {
                 isReadOnly = formField.isReadOnly,
                 isExported = formField.isExported,
                 alternativeFieldName = formField.alternateFieldName,
-                annotations = formField.formElement.annotation.toInstantJson(),
+                annotations = if (includeAnnotations) widgetAnnotationJson(formField) else null,
             )
             formFieldsList.add(formFieldData)
         }
         return formFieldsList
     }
 
+    /**
+     * Returns the typed values of [formFields], or only of the fields named in [names] if given,
+     * in one iteration.
+     */
+    @JvmStatic
+    fun formFieldValues(formFields: List<FormField>, names: Set<String>?): List<FormFieldValue> {
+        val values: MutableList<FormFieldValue> = mutableListOf()
+        for (formField in formFields) {
+            val name = formField.fullyQualifiedName
+            if (names != null && name !in names) continue
+            val type = formFieldTypeMap[formField.type] ?: PdfFormFieldTypes.UNKNOWN
+            val value = when (formField) {
+                is TextFormField -> FormFieldValue(name, type, text = formField.formElement.text ?: "")
+                is CheckBoxFormField -> FormFieldValue(name, type, isSelected = formField.formElement.isSelected)
+                is RadioButtonFormField -> {
+                    val selectedIndex = formField.formElements.indexOfFirst { it.isSelected }
+                    FormFieldValue(
+                        name,
+                        type,
+                        isSelected = selectedIndex >= 0,
+                        selectedIndexes = if (selectedIndex >= 0) listOf(selectedIndex.toLong()) else emptyList()
+                    )
+                }
+                is ComboBoxFormField -> FormFieldValue(
+                    name,
+                    type,
+                    text = formField.formElement.customText,
+                    selectedIndexes = formField.formElement.selectedIndexes.map { it.toLong() }
+                )
+                is ListBoxFormField -> FormFieldValue(
+                    name,
+                    type,
+                    selectedIndexes = formField.formElement.selectedIndexes.map { it.toLong() }
+                )
+                else -> FormFieldValue(name, type)
+            }
+            values.add(value)
+        }
+        return values
+    }
+
+    /** Returns the Instant JSON of the widget annotation of the first element of [formField]. */
+    @JvmStatic
+    fun widgetAnnotationJson(formField: FormField): String {
+        return formField.formElement.annotation.toInstantJson()
+    }
+
+    /** Returns a JSON array with the Instant JSON of the widget annotations of all elements of [formField]. */
+    @JvmStatic
+    fun widgetAnnotationsJson(formField: FormField): String {
+        return formField.formElements.joinToString(",", "[", "]") { it.annotation.toInstantJson() }
+    }
+
     @JvmStatic
     private fun getSpecificFormFieldProperties(
         formField: FormField,
-        map: MutableMap<String, Any>
+        map: MutableMap<String, Any>,
+        annotationJson: String?
     ): Map<String, Any> {
 
         when (formField.type) {
@@ -84,7 +149,8 @@ object FormHelper {
                 map["isFileSelect"] = textFormField.formElement.isFileSelect
                 map["isSpellCheckEnabled"] = textFormField.formElement.isSpellCheckEnabled
                 map["isScrollEnabled"] = textFormField.formElement.isScrollEnabled
-                map["annotations"] = textFormField.formElement.annotation.toInstantJson()
+                // Same widget as "annotation", serialized only once.
+                annotationJson?.let { map["annotations"] = it }
             }
 
             FormType.CHECKBOX -> {
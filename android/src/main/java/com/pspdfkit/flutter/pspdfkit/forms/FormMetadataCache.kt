@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.annotations.Annotation
+import com.pspdfkit.annotations.AnnotationProvider
+import com.pspdfkit.annotations.WidgetAnnotation
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.forms.FormElement
+import com.pspdfkit.forms.FormField
+import com.pspdfkit.forms.FormListeners
+import com.pspdfkit.forms.FormType
+import org.json.JSONObject
+
+/**
+ * Keeps the JSON metadata of the form fields of [document], as built by
+ * [FormHelper.formFieldPropertiesToMap].
+ *
+ * Fields are cached in their lean form, without widget annotations. The Instant JSON of the
+ * widget annotation, by far the most expensive part, is only serialized the first time the full
+ * JSON of a field is requested. Each field is only serialized again after a form or widget
+ * annotation listener reported a change to it. Changed fields are also collected until they are
+ * taken with [takeChangedFieldsJson], so callers can sync only the fields that changed.
+ *
+ * Call [release] once the cache is no longer used to remove the listeners.
+ */
+class FormMetadataCache(val document: PdfDocument) {
+
+    private class Entry(val formField: FormField, val leanJson: String) {
+        var annotationJson: String? = null
+    }
+
+    // Fully qualified name to field entry, in the order of the form provider after refresh().
+    private val fields = LinkedHashMap<String, Entry>()
+    private val staleFields = HashSet<String>()
+    private val changedFields = LinkedHashSet<String>()
+
+    // False after fieldsJson() added fields, which may be out of form order.
+    private var inFormOrder = true
+
+    private val formFieldListener = object : FormListeners.OnFormFieldUpdatedListener {
+        override fun onFormFieldUpdated(formField: FormField) {
+            markChanged(formField.fullyQualifiedName)
+        }
+
+        override fun onFormFieldReset(formField: FormField, formElement: FormElement) {
+            markChanged(formField.fullyQualifiedName)
+        }
+    }
+
+    private val annotationListener = object : AnnotationProvider.OnAnnotationUpdatedListener {
+        override fun onAnnotationCreated(annotation: Annotation) {
+            onWidgetChanged(annotation)
+        }
+
+        override fun onAnnotationUpdated(annotation: Annotation) {
+            onWidgetChanged(annotation)
+        }
+
+        override fun onAnnotationRemoved(annotation: Annotation) {
+            onWidgetChanged(annotation)
+        }
+
+        override fun onAnnotationZOrderChanged(pageIndex: Int, oldOrder: List<Annotation>, newOrder: List<Annotation>) {}
+    }
+
+    init {
+        document.formProvider.addOnFormFieldUpdatedListener(formFieldListener)
+        document.annotationProvider.addOnAnnotationUpdatedListener(annotationListener)
+    }
+
+    /** Returns the JSON array of all form fields, without widget annotations unless [includeAnnotations]. */
+    @Synchronized
+    @JvmOverloads
+    fun allFieldsJson(includeAnnotations: Boolean = true): String {
+        refresh()
+        return fields.values.joinToString(",", "[", "]") { json(it, includeAnnotations) }
+    }
+
+    /** Returns the JSON object of the field named [fullyQualifiedName], or null if there is none. */
+    @Synchronized
+    fun fieldJson(fullyQualifiedName: String): String? {
+        refresh()
+        return fields[fullyQualifiedName]?.let { json(it, includeAnnotations = true) }
+    }
+
+    /**
+     * Returns the JSON array of [formFields]. Only these fields are serialized if they are not
+     * cached yet or changed, the rest of the form is not looked at.
+     */
+    @Synchronized
+    fun fieldsJson(formFields: List<FormField>): String {
+        return formFields.joinToString(",", "[", "]") { formField ->
+            val name = formField.fullyQualifiedName
+            val cached = fields[name]
+            val entry = if (cached != null && name !in staleFields) {
+                cached
+            } else {
+                if (cached == null) inFormOrder = false
+                staleFields.remove(name)
+                entry(formField).also { fields[name] = it }
+            }
+            json(entry, includeAnnotations = true)
+        }
+    }
+
+    /**
+     * Returns the JSON array of the fields that changed since the cache was created or since the
+     * previous call, and starts collecting changes anew. Removed fields are left out.
+     */
+    @Synchronized
+    fun takeChangedFieldsJson(): String {
+        refresh()
+        val json = changedFields.mapNotNull { fields[it] }.joinToString(",", "[", "]") {
+            json(it, includeAnnotations = true)
+        }
+        changedFields.clear()
+        return json
+    }
+
+    fun release() {
+        document.formProvider.removeOnFormFieldUpdatedListener(formFieldListener)
+        document.annotationProvider.removeOnAnnotationUpdatedListener(annotationListener)
+    }
+
+    @Synchronized
+    private fun markChanged(fullyQualifiedName: String) {
+        staleFields.add(fullyQualifiedName)
+        changedFields.add(fullyQualifiedName)
+    }
+
+    private fun onWidgetChanged(annotation: Annotation) {
+        if (annotation !is WidgetAnnotation) return
+        annotation.formElement?.formField?.let { markChanged(it.fullyQualifiedName) }
+    }
+
+    private fun entry(formField: FormField): Entry {
+        val properties = FormHelper.formFieldPropertiesToMap(listOf(formField), includeAnnotations = false).first()
+        return Entry(formField, JSONObject(properties).toString())
+    }
+
+    /**
+     * Returns the JSON of [entry]. The widget annotation members are appended to the cached lean
+     * JSON object, so adding them does not serialize the other properties again.
+     */
+    private fun json(entry: Entry, includeAnnotations: Boolean): String {
+        if (!includeAnnotations) return entry.leanJson
+        val annotationJson = entry.annotationJson
+            ?: FormHelper.widgetAnnotationJson(entry.formField).also { entry.annotationJson = it }
+        val quoted = JSONObject.quote(annotationJson)
+        val members = if (entry.formField.type == FormType.TEXT) {
+            "\"annotation\":$quoted,\"annotations\":$quoted"
+        } else {
+            "\"annotation\":$quoted"
+        }
+        return entry.leanJson.dropLast(1) + "," + members + "}"
+    }
+
+    /** Serializes new and stale fields and drops removed ones, keeping the form provider order. */
+    private fun refresh() {
+        val formFields = document.formProvider.formFields
+        val unchanged = staleFields.isEmpty() && inFormOrder && formFields.size == fields.size &&
+            formFields.all { fields.containsKey(it.fullyQualifiedName) }
+        if (unchanged) return
+
+        val updated = LinkedHashMap<String, Entry>(formFields.size)
+        for (formField in formFields) {
+            val name = formField.fullyQualifiedName
+            val cached = fields[name]
+            updated[name] = if (cached != null && name !in staleFields) cached else entry(formField)
+        }
+        fields.clear()
+        fields.putAll(updated)
+        staleFields.clear()
+        inFormOrder = true
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldValue
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationRule
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationViolation
+import com.pspdfkit.forms.FormElement
+import com.pspdfkit.forms.FormField
+import com.pspdfkit.forms.FormListeners
+import java.util.regex.Pattern
+
+/**
+ * Checks [FormValidationRule]s against the form fields of [document].
+ *
+ * The fields named by the rules are resolved once. A form listener marks fields as dirty when
+ * their value changes, and [validate] only checks the rules of dirty fields and of the fields
+ * that must equal them, reusing the earlier results of all other rules. Validating after a
+ * keystroke therefore only reads the value of the edited field and its dependents.
+ *
+ * Call [release] once the validator is no longer used to remove the listener.
+ */
+class FormValidator(val document: PdfDocument, rules: List<FormValidationRule>) {
+
+    companion object {
+        const val RULE_REQUIRED = "required"
+        const val RULE_PATTERN = "pattern"
+        const val RULE_RANGE = "range"
+        const val RULE_EQUALS = "equals"
+    }
+
+    private class CompiledRule(val rule: FormValidationRule, val pattern: Pattern?)
+
+    private val fields: Map<String, FormField>
+    private val rules: List<CompiledRule>
+
+    // Field name to the indexes of its rules.
+    private val rulesByField = HashMap<String, MutableList<Int>>()
+
+    // Field name to the fields with an equals rule comparing against it.
+    private val dependents = HashMap<String, MutableSet<String>>()
+
+    // Result of every rule, by rule index.
+    private val ruleViolations: Array<FormValidationViolation?>
+    private val dirtyFields = HashSet<String>()
+
+    private val formFieldListener = object : FormListeners.OnFormFieldUpdatedListener {
+        override fun onFormFieldUpdated(formField: FormField) {
+            markDirty(formField.fullyQualifiedName)
+        }
+
+        override fun onFormFieldReset(formField: FormField, formElement: FormElement) {
+            markDirty(formField.fullyQualifiedName)
+        }
+    }
+
+    init {
+        val names = rules.flatMapTo(HashSet()) { listOfNotNull(it.fullyQualifiedName, it.otherFieldName) }
+        fields = document.formProvider.formFields
+            .filter { it.fullyQualifiedName in names }
+            .associateBy { it.fullyQualifiedName }
+        this.rules = rules.map { compile(it) }
+        rules.forEachIndexed { index, rule ->
+            rulesByField.getOrPut(rule.fullyQualifiedName) { ArrayList() }.add(index)
+            if (rule.ruleType == RULE_EQUALS) {
+                dependents.getOrPut(rule.otherFieldName!!) { HashSet() }.add(rule.fullyQualifiedName)
+            }
+        }
+        ruleViolations = arrayOfNulls(rules.size)
+        dirtyFields.addAll(rulesByField.keys)
+        document.formProvider.addOnFormFieldUpdatedListener(formFieldListener)
+    }
+
+    /** Checks the rules of all dirty fields and returns all violations, in rule order. */
+    @Synchronized
+    fun validate(): List<FormValidationViolation> {
+        if (dirtyFields.isNotEmpty()) {
+            // Values are read at most once per validation, also when several rules use them.
+            val values = HashMap<String, FormFieldValue>()
+            for (name in dirtyFields) {
+                rulesByField[name]?.forEach { index -> ruleViolations[index] = check(rules[index], values) }
+            }
+            dirtyFields.clear()
+        }
+        return ruleViolations.filterNotNull()
+    }
+
+    fun release() {
+        document.formProvider.removeOnFormFieldUpdatedListener(formFieldListener)
+    }
+
+    @Synchronized
+    private fun markDirty(fullyQualifiedName: String) {
+        if (fullyQualifiedName in rulesByField) dirtyFields.add(fullyQualifiedName)
+        dependents[fullyQualifiedName]?.let { dirtyFields.addAll(it) }
+    }
+
+    /** Fails with an [IllegalArgumentException] if [rule] is invalid or names an unknown field. */
+    private fun compile(rule: FormValidationRule): CompiledRule {
+        require(rule.fullyQualifiedName in fields) { "No form field named ${rule.fullyQualifiedName}." }
+        val pattern = when (rule.ruleType) {
+            RULE_REQUIRED -> null
+            RULE_PATTERN -> Pattern.compile(
+                requireNotNull(rule.pattern) { "The pattern rule of ${rule.fullyQualifiedName} has no pattern." }
+            )
+            RULE_RANGE -> {
+                require(rule.minimum != null || rule.maximum != null) {
+                    "The range rule of ${rule.fullyQualifiedName} has neither a minimum nor a maximum."
+                }
+                require(rule.minimum == null || rule.maximum == null || rule.minimum <= rule.maximum) {
+                    "The minimum of the range rule of ${rule.fullyQualifiedName} is larger than its maximum."
+                }
+                null
+            }
+            RULE_EQUALS -> {
+                val other = requireNotNull(rule.otherFieldName) {
+                    "The equals rule of ${rule.fullyQualifiedName} has no otherFieldName."
+                }
+                require(other in fields) { "No form field named $other." }
+                null
+            }
+            else -> throw IllegalArgumentException(
+                "Unknown rule type \"${rule.ruleType}\", use required, pattern, range or equals."
+            )
+        }
+        return CompiledRule(rule, pattern)
+    }
+
+    private fun check(compiled: CompiledRule, values: MutableMap<String, FormFieldValue>): FormValidationViolation? {
+        val rule = compiled.rule
+        val value = value(rule.fullyQualifiedName, values)
+        val text = value.text ?: ""
+        // Format rules ignore empty values, combine them with a required rule to reject those.
+        val message = when (rule.ruleType) {
+            RULE_REQUIRED -> "This field is required.".takeIf { isEmpty(value) }
+            RULE_PATTERN -> "The value has an invalid format."
+                .takeIf { text.isNotEmpty() && !compiled.pattern!!.matcher(text).matches() }
+            RULE_RANGE -> if (text.isEmpty()) null else rangeMessage(rule, text.trim().toDoubleOrNull())
+            RULE_EQUALS -> "The value must match ${rule.otherFieldName}."
+                .takeIf { !sameValue(value, value(rule.otherFieldName!!, values)) }
+            else -> null
+        } ?: return null
+        return FormValidationViolation(rule.fullyQualifiedName, rule.ruleType, rule.message ?: message)
+    }
+
+    private fun rangeMessage(rule: FormValidationRule, number: Double?): String? {
+        val minimum = rule.minimum
+        val maximum = rule.maximum
+        return when {
+            number == null -> "The value must be a number."
+            minimum != null && number < minimum -> "The value must be at least $minimum."
+            maximum != null && number > maximum -> "The value must be at most $maximum."
+            else -> null
+        }
+    }
+
+    private fun value(fullyQualifiedName: String, values: MutableMap<String, FormFieldValue>): FormFieldValue {
+        return values.getOrPut(fullyQualifiedName) {
+            FormHelper.formFieldValues(listOf(fields.getValue(fullyQualifiedName)), null).first()
+        }
+    }
+
+    private fun isEmpty(value: FormFieldValue): Boolean {
+        return value.text.isNullOrEmpty() && value.isSelected != true && value.selectedIndexes.isNullOrEmpty()
+    }
+
+    private fun sameValue(value: FormFieldValue, other: FormFieldValue): Boolean {
+        return (value.text ?: "") == (other.text ?: "") &&
+            (value.isSelected == true) == (other.isSelected == true) &&
+            (value.selectedIndexes ?: emptyList()) == (other.selectedIndexes ?: emptyList())
+    }
+}
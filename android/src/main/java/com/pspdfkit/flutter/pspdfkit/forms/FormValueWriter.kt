@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.FormFieldWriteError
+import com.pspdfkit.flutter.pspdfkit.util.areValidIndexes
+import com.pspdfkit.forms.ChoiceFormElement
+import com.pspdfkit.forms.EditableButtonFormElement
+import com.pspdfkit.forms.FormElement
+import com.pspdfkit.forms.FormField
+import com.pspdfkit.forms.SignatureFormElement
+import com.pspdfkit.forms.TextFormElement
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+
+/**
+ * Sets the values of many form fields at once.
+ *
+ * Values use the string format of `setFormFieldValue`: the text for text fields, "selected" or
+ * "deselected" for buttons and comma separated option indexes for choice fields. All fields are
+ * looked up in a single pass over the form provider in the background, then all values are
+ * applied in one main thread task, so a viewer only redraws once for the whole batch.
+ */
+object FormValueWriter {
+
+    const val ERROR_NOT_FOUND = "FormFieldNotFound"
+    const val ERROR_INVALID_VALUE = "InvalidValue"
+    const val ERROR_UNSUPPORTED = "UnsupportedFormElement"
+
+    /**
+     * Applies [values], keyed by fully qualified field name, to [document]. Emits the fields that
+     * could not be set, on the main thread.
+     */
+    @JvmStatic
+    fun setValues(document: PdfDocument, values: Map<String, String>): Single<List<FormFieldWriteError>> {
+        return Single.fromCallable { resolve(document, values.keys) }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .map { elements -> apply(elements, values) }
+    }
+
+    /**
+     * Applies [values] like [setValues], to fields that were already looked up, e.g. in a
+     * [FormFieldTrie]. Names of [values] that are not in [formFields] are reported as not found.
+     */
+    @JvmStatic
+    fun setValues(formFields: List<FormField>, values: Map<String, String>): Single<List<FormFieldWriteError>> {
+        return Single.fromCallable { formFields.associate { it.fullyQualifiedName to it.formElement } }
+            .subscribeOn(Schedulers.computation())
+            .observeOn(AndroidSchedulers.mainThread())
+            .map { elements -> apply(elements, values) }
+    }
+
+    /**
+     * Applies [values] to [document] on the calling thread and returns the fields that could not
+     * be set. Only use this for documents that are not shown in a viewer, e.g. documents filled
+     * in the background.
+     */
+    @JvmStatic
+    fun fill(document: PdfDocument, values: Map<String, String>): List<FormFieldWriteError> {
+        if (values.isEmpty()) return emptyList()
+        return apply(resolve(document, values.keys), values)
+    }
+
+    /** Finds the form elements of [names] with one iteration over the form fields. */
+    private fun resolve(document: PdfDocument, names: Set<String>): Map<String, FormElement> {
+        val elements = HashMap<String, FormElement>(names.size)
+        for (formField in document.formProvider.formFields) {
+            if (formField.fullyQualifiedName in names) {
+                elements[formField.fullyQualifiedName] = formField.formElement
+                if (elements.size == names.size) break
+            }
+        }
+        return elements
+    }
+
+    private fun apply(elements: Map<String, FormElement>, values: Map<String, String>): List<FormFieldWriteError> {
+        val errors = ArrayList<FormFieldWriteError>()
+        for ((name, value) in values) {
+            val formElement = elements[name]
+            if (formElement == null) {
+                errors.add(FormFieldWriteError(name, ERROR_NOT_FOUND, "Form element with name $name not found."))
+                continue
+            }
+            applyValue(formElement, value)?.let { (code, message) ->
+                errors.add(FormFieldWriteError(name, code, message))
+            }
+        }
+        return errors
+    }
+
+    /** Applies [value] to [formElement] and returns the error code and message if it failed. */
+    private fun applyValue(formElement: FormElement, value: String): Pair<String, String>? {
+        when (formElement) {
+            is TextFormElement -> formElement.setText(value)
+            is EditableButtonFormElement -> when (value) {
+                "selected" -> formElement.select()
+                "deselected" -> formElement.deselect()
+                else -> return ERROR_INVALID_VALUE to "Value must be either \"selected\" or \"deselected\"."
+            }
+            is ChoiceFormElement -> {
+                val selectedIndexes = ArrayList<Int>()
+                if (!areValidIndexes(value, selectedIndexes)) {
+                    return ERROR_INVALID_VALUE to "Value must be a list of option indexes (e.g.: \"1, 3, 5\")."
+                }
+                formElement.selectedIndexes = selectedIndexes
+            }
+            is SignatureFormElement -> return ERROR_UNSUPPORTED to "Signature form elements cannot be set programmatically."
+            else -> return ERROR_UNSUPPORTED to
+                "Form element is not a text, editable button, choice, or signature form element."
+        }
+        return null
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import android.util.Xml
+import org.xmlpull.v1.XmlPullParser
+import java.io.InputStream
+
+/**
+ * Reads the `<fields>` of an XFDF file with a pull parser. Nested `<field>` elements are joined
+ * to fully qualified names, annotations and rich text values are skipped.
+ *
+ * @param parser The pull parser to use, the platform parser by default
+ */
+class XfdfFormDataReader(
+    private val input: InputStream,
+    parser: XmlPullParser = Xml.newPullParser()
+) : FormDataReader {
+
+    private class OpenField(val name: String) {
+        val values = ArrayList<String>()
+    }
+
+    private val parser: XmlPullParser = parser.apply {
+        setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, false)
+        setInput(input, null)
+    }
+
+    private val openFields = ArrayList<OpenField>()
+
+    override fun next(): FormDataEntry? {
+        while (true) {
+            when (parser.next()) {
+                XmlPullParser.END_DOCUMENT -> return null
+                XmlPullParser.START_TAG -> when (parser.name) {
+                    "field" -> openFields.add(OpenField(parser.getAttributeValue(null, "name") ?: ""))
+                    "value" -> openFields.lastOrNull()?.values?.add(parser.nextText())
+                    "annots", "value-richtext" -> skip()
+                }
+                XmlPullParser.END_TAG -> if (parser.name == "field" && openFields.isNotEmpty()) {
+                    val name = openFields.joinToString(".") { it.name }
+                    val field = openFields.removeAt(openFields.size - 1)
+                    // Parents only group their children and have no value of their own.
+                    if (field.values.isNotEmpty()) {
+                        return FormDataEntry(name, field.values)
+                    }
+                }
+            }
+        }
+    }
+
+    override fun close() {
+        input.close()
+    }
+
+    /** Skips the element the parser is on, including all of its children. */
+    private fun skip() {
+        var depth = 1
+        while (depth > 0) {
+            when (parser.next()) {
+                XmlPullParser.START_TAG -> depth++
+                XmlPullParser.END_TAG -> depth--
+                XmlPullParser.END_DOCUMENT -> return
+            }
+        }
+    }
+}
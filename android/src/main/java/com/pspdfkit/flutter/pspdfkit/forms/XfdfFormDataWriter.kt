@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import android.util.Xml
+import org.xmlpull.v1.XmlSerializer
+import java.io.OutputStream
+
+/**
+ * Streams field values as the `<fields>` of an XFDF file, in UTF-8.
+ *
+ * @param serializer The serializer to use, the platform serializer by default
+ */
+class XfdfFormDataWriter(
+    private val output: OutputStream,
+    serializer: XmlSerializer = Xml.newSerializer()
+) : FormDataWriter() {
+
+    companion object {
+        private const val NAMESPACE = "http://ns.adobe.com/xfdf/"
+    }
+
+    private val serializer: XmlSerializer = serializer.apply {
+        setOutput(output, "UTF-8")
+        startDocument("UTF-8", null)
+        setPrefix("", NAMESPACE)
+        startTag(NAMESPACE, "xfdf")
+        startTag(NAMESPACE, "fields")
+    }
+
+    override fun beginParent(partialName: String) {
+        serializer.startTag(NAMESPACE, "field").attribute(null, "name", partialName)
+    }
+
+    override fun endParent() {
+        serializer.endTag(NAMESPACE, "field")
+    }
+
+    override fun writeField(partialName: String, entry: FormDataEntry) {
+        serializer.startTag(NAMESPACE, "field").attribute(null, "name", partialName)
+        for (value in entry.values) {
+            serializer.startTag(NAMESPACE, "value").text(value).endTag(NAMESPACE, "value")
+        }
+        serializer.endTag(NAMESPACE, "field")
+    }
+
+    override fun writeEnd() {
+        serializer.endTag(NAMESPACE, "fields")
+        serializer.endTag(NAMESPACE, "xfdf")
+        serializer.endDocument()
+    }
+
+    override fun close() {
+        output.close()
+    }
+}
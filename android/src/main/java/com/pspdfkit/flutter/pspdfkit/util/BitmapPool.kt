@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import android.graphics.Bitmap
+import android.graphics.Color
+
+/**
+ * Recycles ARGB_8888 bitmaps between page renders, so rendering a thumbnail grid does not
+ * allocate a new bitmap for every page.
+ *
+ * Released bitmaps are grouped in power of two buckets of their allocation size. [acquire]
+ * takes a bitmap that is large enough from the matching or the next larger bucket and
+ * reconfigures it to the requested dimensions.
+ */
+object BitmapPool {
+
+    private const val MAX_POOLED_BYTES = 32L * 1024 * 1024
+    private const val BYTES_PER_PIXEL = 4
+
+    private val buckets = HashMap<Int, ArrayDeque<Bitmap>>()
+    private var pooledBytes = 0L
+
+    /** Returns a cleared, mutable bitmap with the given dimensions, reusing a pooled one if possible. */
+    fun acquire(width: Int, height: Int): Bitmap {
+        val requiredBytes = width.toLong() * height * BYTES_PER_PIXEL
+        val pooled = take(requiredBytes)
+        if (pooled != null) {
+            pooled.reconfigure(width, height, Bitmap.Config.ARGB_8888)
+            pooled.eraseColor(Color.TRANSPARENT)
+            return pooled
+        }
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+    }
+
+    /**
+     * Returns [bitmap] to the pool. The caller must not use the bitmap afterwards. Bitmaps that
+     * don't fit in the pool are left to the garbage collector.
+     */
+    @Synchronized
+    fun release(bitmap: Bitmap) {
+        if (bitmap.isRecycled || !bitmap.isMutable || bitmap.config != Bitmap.Config.ARGB_8888) {
+            return
+        }
+        val size = bitmap.allocationByteCount.toLong()
+        if (pooledBytes + size > MAX_POOLED_BYTES) {
+            return
+        }
+        buckets.getOrPut(bucketOf(size)) { ArrayDeque() }.addLast(bitmap)
+        pooledBytes += size
+    }
+
+    /** Drops all pooled bitmaps, e.g. when the system is low on memory. */
+    @Synchronized
+    fun clear() {
+        buckets.clear()
+        pooledBytes = 0
+    }
+
+    @Synchronized
+    private fun take(requiredBytes: Long): Bitmap? {
+        val bucket = bucketOf(requiredBytes)
+        // Bitmaps in the matching bucket may be slightly too small, any in the next one fits.
+        for (candidateBucket in bucket..bucket + 1) {
+            val bitmaps = buckets[candidateBucket] ?: continue
+            val iterator = bitmaps.iterator()
+            while (iterator.hasNext()) {
+                val bitmap = iterator.next()
+                if (bitmap.allocationByteCount >= requiredBytes) {
+                    iterator.remove()
+                    pooledBytes -= bitmap.allocationByteCount
+                    return bitmap
+                }
+            }
+        }
+        return null
+    }
+
+    /** Index of the smallest power of two that is at least [bytes]. */
+    private fun bucketOf(bytes: Long): Int {
+        return 64 - java.lang.Long.numberOfLeadingZeros(maxOf(bytes, 1L) - 1)
+    }
+}
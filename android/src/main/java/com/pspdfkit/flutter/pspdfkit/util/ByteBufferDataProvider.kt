@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import com.pspdfkit.document.providers.DataProvider
+import java.nio.ByteBuffer
+import java.util.UUID
+
+/**
+ * A random access data provider over a [ByteBuffer], used to open documents that are already in
+ * memory without writing them to disk.
+ *
+ * The buffer is wrapped, not copied. Unlike [BinaryDataProvider] the UID is not derived from the
+ * content, so creating the provider is constant time regardless of the document size. Two
+ * providers over the same bytes are treated as different documents.
+ */
+open class ByteBufferDataProvider(
+    buffer: ByteBuffer,
+    private val uid: String = "memory-${UUID.randomUUID()}",
+    private val title: String? = null
+) : DataProvider {
+
+    constructor(data: ByteArray) : this(ByteBuffer.wrap(data))
+
+    // Read only view, so reads never move the position of the buffer passed in.
+    private val buffer: ByteBuffer = buffer.asReadOnlyBuffer()
+
+    override fun read(size: Long, offset: Long): ByteArray {
+        val available = buffer.capacity() - offset
+        if (available <= 0) {
+            return ByteArray(0)
+        }
+        val result = ByteArray(minOf(size, available).toInt())
+        // Duplicates share the content but have their own position, so concurrent reads are safe.
+        val view = buffer.duplicate()
+        view.position(offset.toInt())
+        view.get(result)
+        return result
+    }
+
+    override fun getSize(): Long {
+        return buffer.capacity().toLong()
+    }
+
+    override fun getUid(): String {
+        return uid
+    }
+
+    override fun getTitle(): String? {
+        return title
+    }
+
+    override fun release() {
+        // Nothing to release, the buffer is freed with the provider.
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import java.io.File
+
+/**
+ * A size capped cache of files in a directory, evicting the least recently used files first.
+ *
+ * The recency order is kept in memory and rebuilt from the file modification times when the
+ * cache is first used, so it survives app restarts. Files are added by moving a finished
+ * temporary file into place, so readers never see a partially written entry.
+ *
+ * @param directory Directory holding the cached files, created if needed
+ * @param maxBytes Maximum total size of the cached files
+ */
+class DiskLruCache(private val directory: File, maxBytes: Long) {
+
+    // File name to size, in access order.
+    private val entries = LinkedHashMap<String, Long>(16, 0.75f, true)
+    private var totalBytes = 0L
+    private var loaded = false
+
+    var maxBytes: Long = maxBytes
+        @Synchronized get
+
+        @Synchronized set(value) {
+            require(value >= 0) { "maxBytes must not be negative." }
+            field = value
+            if (loaded) trim()
+        }
+
+    /** Returns the cached file for [name] and marks it as most recently used, or null. */
+    @Synchronized
+    fun get(name: String): File? {
+        load()
+        if (entries[name] == null) return null
+        val file = File(directory, name)
+        if (!file.isFile) {
+            remove(name)
+            return null
+        }
+        // Persists the recency for the next app start.
+        file.setLastModified(System.currentTimeMillis())
+        return file
+    }
+
+    /** Creates a temporary file in the cache directory to be passed to [put]. */
+    @Synchronized
+    fun createTempFile(): File {
+        load()
+        directory.mkdirs()
+        return File.createTempFile("pending-", ".tmp", directory)
+    }
+
+    /**
+     * Moves [source] into the cache as [name], replacing an existing entry, and trims the cache.
+     * The new entry is kept even if it alone exceeds [maxBytes], so the returned file exists
+     * until the next change of the cache.
+     */
+    @Synchronized
+    fun put(name: String, source: File): File {
+        load()
+        val file = File(directory, name)
+        remove(name)
+        check(source.renameTo(file)) { "Failed to move ${source.path} into the cache." }
+        val size = file.length()
+        entries[name] = size
+        totalBytes += size
+        trim(keep = name)
+        return file
+    }
+
+    /** Deletes all entries whose name starts with [prefix]. */
+    @Synchronized
+    fun removeWithPrefix(prefix: String) {
+        load()
+        entries.keys.filter { it.startsWith(prefix) }.forEach { remove(it) }
+    }
+
+    @Synchronized
+    fun clear() {
+        load()
+        entries.keys.toList().forEach { remove(it) }
+    }
+
+    @Synchronized
+    fun size(): Long {
+        load()
+        return totalBytes
+    }
+
+    private fun remove(name: String) {
+        val size = entries.remove(name) ?: return
+        totalBytes -= size
+        File(directory, name).delete()
+    }
+
+    /** Evicts the least recently used entries other than [keep] until the cache fits. */
+    private fun trim(keep: String? = null) {
+        val iterator = entries.entries.iterator()
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            val (name, size) = iterator.next()
+            if (name == keep) continue
+            iterator.remove()
+            totalBytes -= size
+            File(directory, name).delete()
+        }
+    }
+
+    private fun load() {
+        if (loaded) return
+        loaded = true
+        val files = directory.listFiles() ?: return
+        for (file in files.sortedBy { it.lastModified() }) {
+            if (file.name.startsWith("pending-")) {
+                // Left over from a write that was interrupted.
+                file.delete()
+                continue
+            }
+            entries[file.name] = file.length()
+            totalBytes += file.length()
+        }
+        trim()
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import com.pspdfkit.document.providers.DataProvider
+import java.io.File
+import java.io.FileNotFoundException
+import java.io.RandomAccessFile
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * A data provider that reads a local file through memory mapping.
+ *
+ * Reads at arbitrary offsets are plain memory copies served from the page cache, instead of the
+ * seek and read calls of a stream based provider. This pays off for large scanned documents
+ * where pages are accessed in random order.
+ *
+ * A single [MappedByteBuffer] is limited to 2 GB, so the file is mapped in windows of
+ * [WINDOW_SIZE] bytes. Windows are mapped lazily on first access and reads that cross a window
+ * boundary are stitched together.
+ */
+class MemoryMappedDataProvider(private val file: File) : DataProvider {
+
+    private val size: Long = file.length()
+    private val windows = AtomicReferenceArray<MappedByteBuffer>(((size + WINDOW_SIZE - 1) / WINDOW_SIZE).toInt())
+    private val uid = "mmap-${file.absolutePath}-${file.lastModified()}-$size"
+
+    // Only needed while mapping windows. Reopened if the document is loaded again after release().
+    private var channel: FileChannel? = null
+
+    init {
+        if (!file.isFile) {
+            throw FileNotFoundException("Document file not found: ${file.path}")
+        }
+    }
+
+    override fun read(size: Long, offset: Long): ByteArray {
+        val length = minOf(size, this.size - offset)
+        if (length <= 0) {
+            return ByteArray(0)
+        }
+        val result = ByteArray(length.toInt())
+        var copied = 0
+        while (copied < result.size) {
+            val position = offset + copied
+            val windowIndex = (position / WINDOW_SIZE).toInt()
+            val windowOffset = (position % WINDOW_SIZE).toInt()
+            // Duplicates have their own position, so concurrent reads don't interfere.
+            val view = window(windowIndex).duplicate()
+            view.position(windowOffset)
+            val count = minOf(result.size - copied, view.remaining())
+            view.get(result, copied, count)
+            copied += count
+        }
+        return result
+    }
+
+    private fun window(index: Int): MappedByteBuffer {
+        windows.get(index)?.let { return it }
+        synchronized(this) {
+            windows.get(index)?.let { return it }
+            val fileChannel = channel ?: RandomAccessFile(file, "r").channel.also { channel = it }
+            val start = index.toLong() * WINDOW_SIZE
+            val window = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, minOf(WINDOW_SIZE, size - start))
+            windows.set(index, window)
+            return window
+        }
+    }
+
+    override fun getSize(): Long {
+        return size
+    }
+
+    override fun getUid(): String {
+        return uid
+    }
+
+    override fun getTitle(): String? {
+        return file.nameWithoutExtension
+    }
+
+    @Synchronized
+    override fun release() {
+        // Dropped windows are unmapped once they are garbage collected.
+        for (index in 0 until windows.length()) {
+            windows.set(index, null)
+        }
+        channel?.close()
+        channel = null
+    }
+
+    companion object {
+        /** Size of a mapped window, 1 GB keeps every window well below the 2 GB mapping limit. */
+        const val WINDOW_SIZE = 1L shl 30
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+/**
+ * Parses page range specs used by the headless processing APIs.
+ *
+ * A spec is a comma separated list of one-based page numbers and ranges, e.g. `1-3,5,8-`.
+ * An open-ended range such as `8-` runs to the last page of the document.
+ */
+object PageRangeHelper {
+
+    /**
+     * Returns the zero-based page indexes described by [spec], in the order they are listed.
+     * A null or blank [spec] selects every page of the document.
+     *
+     * @throws IllegalArgumentException if the spec is malformed or points outside the document.
+     */
+    @JvmStatic
+    fun parsePageRanges(spec: String?, pageCount: Int): List<Int> {
+        if (spec.isNullOrBlank()) {
+            return List(pageCount) { it }
+        }
+        val pageIndexes = mutableListOf<Int>()
+        for (part in spec.split(",")) {
+            val range = part.trim()
+            if (range.isEmpty()) continue
+            val separator = range.indexOf('-')
+            val first: Int
+            val last: Int
+            if (separator == -1) {
+                first = parsePageNumber(range, spec)
+                last = first
+            } else {
+                first = parsePageNumber(range.substring(0, separator).trim(), spec)
+                val end = range.substring(separator + 1).trim()
+                last = if (end.isEmpty()) pageCount else parsePageNumber(end, spec)
+            }
+            require(first in 1..pageCount && last in first..pageCount) {
+                "Page range '$range' is outside of the document (1-$pageCount)."
+            }
+            for (pageNumber in first..last) {
+                pageIndexes.add(pageNumber - 1)
+            }
+        }
+        require(pageIndexes.isNotEmpty()) { "Page range '$spec' does not select any pages." }
+        return pageIndexes
+    }
+
+    private fun parsePageNumber(value: String, spec: String): Int {
+        return value.toIntOrNull() ?: throw IllegalArgumentException("Invalid page range '$spec'.")
+    }
+}
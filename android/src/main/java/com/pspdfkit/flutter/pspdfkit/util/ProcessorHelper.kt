@@ -1,10 +1,20 @@
 package com.pspdfkit.flutter.pspdfkit.util
 
+import com.pspdfkit.annotations.Annotation
 import com.pspdfkit.annotations.AnnotationType
 import com.pspdfkit.document.DocumentPermissions
 import com.pspdfkit.document.DocumentSaveOptions
+import com.pspdfkit.document.PdfDocument
 import com.pspdfkit.document.PdfVersion
+import com.pspdfkit.document.processor.PdfProcessor
 import com.pspdfkit.document.processor.PdfProcessorTask
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingMode
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationProcessingScope
+import com.pspdfkit.flutter.pspdfkit.api.AnnotationType as FlutterAnnotationType
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.io.File
 import java.util.EnumSet
 
 object ProcessorHelper {
@@ -123,4 +133,96 @@ object ProcessorHelper {
         }
     }
 
+    /**
+     * Converts the Flutter [FlutterAnnotationType] to the native [AnnotationType].
+     * [FlutterAnnotationType.ALL] maps to [AnnotationType.NONE]; callers process all annotations in that case.
+     */
+    @JvmStatic
+    fun nativeAnnotationType(type: FlutterAnnotationType): AnnotationType {
+        return when (type) {
+            FlutterAnnotationType.ALL -> AnnotationType.NONE
+            FlutterAnnotationType.NONE -> AnnotationType.NONE
+            FlutterAnnotationType.UNDEFINED -> AnnotationType.NONE
+            FlutterAnnotationType.LINK -> AnnotationType.LINK
+            FlutterAnnotationType.HIGHLIGHT -> AnnotationType.HIGHLIGHT
+            FlutterAnnotationType.STRIKEOUT -> AnnotationType.STRIKEOUT
+            FlutterAnnotationType.UNDERLINE -> AnnotationType.UNDERLINE
+            FlutterAnnotationType.SQUIGGLY -> AnnotationType.SQUIGGLY
+            FlutterAnnotationType.FREE_TEXT -> AnnotationType.FREETEXT
+            FlutterAnnotationType.INK -> AnnotationType.INK
+            FlutterAnnotationType.SQUARE -> AnnotationType.SQUARE
+            FlutterAnnotationType.CIRCLE -> AnnotationType.CIRCLE
+            FlutterAnnotationType.LINE -> AnnotationType.LINE
+            FlutterAnnotationType.NOTE -> AnnotationType.NOTE
+            FlutterAnnotationType.STAMP -> AnnotationType.STAMP
+            FlutterAnnotationType.CARET -> AnnotationType.CARET
+            FlutterAnnotationType.MEDIA -> AnnotationType.RICHMEDIA
+            FlutterAnnotationType.SCREEN -> AnnotationType.SCREEN
+            FlutterAnnotationType.WIDGET -> AnnotationType.WIDGET
+            FlutterAnnotationType.FILE -> AnnotationType.FILE
+            FlutterAnnotationType.SOUND -> AnnotationType.SOUND
+            FlutterAnnotationType.POLYGON -> AnnotationType.POLYGON
+            FlutterAnnotationType.POLYLINE -> AnnotationType.POLYLINE
+            FlutterAnnotationType.POPUP -> AnnotationType.POPUP
+            FlutterAnnotationType.WATERMARK -> AnnotationType.WATERMARK
+            FlutterAnnotationType.TRAP_NET -> AnnotationType.TRAPNET
+            FlutterAnnotationType.TYPE3D -> AnnotationType.TYPE3D
+            FlutterAnnotationType.REDACT -> AnnotationType.REDACT
+            FlutterAnnotationType.IMAGE -> AnnotationType.STAMP
+        }
+    }
+
+    /**
+     * Creates a task that only processes the annotations on the pages selected by [scopes].
+     * Annotations are collected from the selected pages only, so the work scales with the number of
+     * pages processed rather than the document size. All other pages are copied unchanged.
+     *
+     * This reads from the annotation provider and must not be called on the main thread.
+     */
+    @JvmStatic
+    fun pageScopedTask(
+        document: PdfDocument,
+        scopes: List<AnnotationProcessingScope>,
+        processingMode: PdfProcessorTask.AnnotationProcessingMode
+    ): PdfProcessorTask {
+        require(scopes.isNotEmpty()) { "At least one processing scope is required." }
+        // Overlapping scopes may select the same annotation more than once.
+        val annotations = LinkedHashSet<Annotation>()
+        for (scope in scopes) {
+            val types = scope.types
+            val annotationTypes = if (types == null || types.contains(FlutterAnnotationType.ALL)) {
+                null
+            } else {
+                // NONE selects no annotations, so a scope of only NONE leaves its pages unchanged.
+                types.filter { it != FlutterAnnotationType.NONE && it != FlutterAnnotationType.UNDEFINED }
+                    .mapTo(EnumSet.noneOf(AnnotationType::class.java)) { nativeAnnotationType(it) }
+            }
+            if (annotationTypes?.isEmpty() == true) continue
+            for (pageIndex in PageRangeHelper.parsePageRanges(scope.pageRanges, document.pageCount)) {
+                document.annotationProvider.getAnnotations(pageIndex)
+                    .filterTo(annotations) { annotationTypes == null || annotationTypes.contains(it.type) }
+            }
+        }
+        return PdfProcessorTask.fromDocument(document)
+            .changeAnnotations(annotations.toList(), processingMode)
+    }
+
+    /**
+     * Processes the annotations selected by [scopes] and writes the result to [destinationPath].
+     * Collecting the annotations and writing the document both run on the IO scheduler.
+     */
+    @JvmStatic
+    fun processAnnotationsOnPages(
+        document: PdfDocument,
+        processingMode: AnnotationProcessingMode,
+        destinationPath: String,
+        scopes: List<AnnotationProcessingScope>
+    ): Completable {
+        return Single.fromCallable {
+            pageScopedTask(document, scopes, processModeFromString(processingMode.name.lowercase()))
+        }.flatMapCompletable { task ->
+            PdfProcessor.processDocumentAsync(task, File(destinationPath)).ignoreElements()
+        }.subscribeOn(Schedulers.io())
+    }
+
 }
\ No newline at end of file
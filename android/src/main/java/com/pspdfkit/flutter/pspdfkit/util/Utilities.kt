@@ -2,12 +2,44 @@
 package com.pspdfkit.flutter.pspdfkit.util
 
 import android.net.Uri
+import com.pspdfkit.document.DocumentSource
+import java.io.File
 import java.lang.NumberFormatException
 import java.util.Locale
 import androidx.core.net.toUri
 
 private const val FILE_SCHEME = "file:///"
 
+/**
+ * Creates a [DocumentSource] for a headless document path. Plain file paths (starting with `/`)
+ * are converted to `file://` URIs, anything else is parsed as a URI (e.g. `content://`).
+ * With [memoryMapped], plain file paths are read through a [MemoryMappedDataProvider] instead.
+ */
+fun documentSourceFromPath(
+    documentPath: String,
+    password: String?,
+    memoryMapped: Boolean = false
+): DocumentSource {
+    if (memoryMapped && documentPath.startsWith("/")) {
+        val dataProvider = MemoryMappedDataProvider(File(documentPath))
+        return if (password != null) {
+            DocumentSource(dataProvider, password)
+        } else {
+            DocumentSource(dataProvider)
+        }
+    }
+    val documentUri = if (documentPath.startsWith("/")) {
+        Uri.fromFile(File(documentPath))
+    } else {
+        Uri.parse(documentPath)
+    }
+    return if (password != null) {
+        DocumentSource(documentUri, password)
+    } else {
+        DocumentSource(documentUri)
+    }
+}
+
 /**
  * Adds file scheme [FILE_SCHEME] to a provided [documentPath] in case
  * it was missing. E.g: `/sdcard/Download/Document.pdf` becomes
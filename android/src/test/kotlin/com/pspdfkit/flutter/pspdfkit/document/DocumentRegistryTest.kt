@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.verify
+import java.util.UUID
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+internal class DocumentRegistryTest {
+
+    private val documentId = UUID.randomUUID().toString()
+
+    @Test
+    fun register_sameDocumentTakesAnotherReference() {
+        val document = mock(FlutterPdfDocument::class.java)
+        DocumentRegistry.register(documentId, document)
+        DocumentRegistry.register(documentId, document)
+
+        assertEquals(2, DocumentRegistry.holderCount(documentId))
+        assertFalse(DocumentRegistry.release(documentId))
+        assertTrue(DocumentRegistry.release(documentId))
+        verify(document).onLastHolderReleased()
+    }
+
+    @Test
+    fun register_rejectsDifferentDocumentWhileHeld() {
+        val document = mock(FlutterPdfDocument::class.java)
+        DocumentRegistry.register(documentId, document)
+
+        assertFailsWith<IllegalStateException> {
+            DocumentRegistry.register(documentId, mock(FlutterPdfDocument::class.java))
+        }
+        assertSame(document, DocumentRegistry[documentId])
+        assertEquals(1, DocumentRegistry.holderCount(documentId))
+        verify(document, never()).onLastHolderReleased()
+
+        DocumentRegistry.release(documentId)
+    }
+
+    @Test
+    fun register_acceptsDifferentDocumentAfterRelease() {
+        val document = mock(FlutterPdfDocument::class.java)
+        DocumentRegistry.register(documentId, document)
+        DocumentRegistry.release(documentId)
+
+        val reloaded = mock(FlutterPdfDocument::class.java)
+        DocumentRegistry.register(documentId, reloaded)
+
+        assertSame(reloaded, DocumentRegistry[documentId])
+        assertTrue(DocumentRegistry.release(documentId))
+        verify(reloaded).onLastHolderReleased()
+    }
+
+    @Test
+    fun acquire_failsOnceLastHolderReleased() {
+        val document = mock(FlutterPdfDocument::class.java)
+        DocumentRegistry.register(documentId, document)
+
+        assertSame(document, DocumentRegistry.acquire(documentId))
+        DocumentRegistry.release(documentId)
+        DocumentRegistry.release(documentId)
+
+        assertEquals(null, DocumentRegistry.acquire(documentId))
+        assertEquals(0, DocumentRegistry.holderCount(documentId))
+    }
+}
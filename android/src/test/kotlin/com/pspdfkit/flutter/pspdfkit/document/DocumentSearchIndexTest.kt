@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.IOException
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+internal class DocumentSearchIndexTest {
+
+    @Test
+    fun search_findsHitsInPageOrder() {
+        val index = index("The warranty ends.", "No match here.", "Warranty and WARRANTY.")
+
+        val results = index.search("warranty", caseSensitive = false, maxResults = Long.MAX_VALUE, contextLength = 4).toList()
+
+        assertEquals(listOf(0L, 2L), results.map { it.pageIndex })
+        assertEquals(listOf(0L, 13L), results[1].hits.map { it.offset })
+        assertEquals("The warranty end", results[0].hits[0].preview)
+        assertEquals(4L, results[0].hits[0].previewOffset)
+    }
+
+    @Test
+    fun search_matchesCaseWhenCaseSensitive() {
+        val index = index("Warranty and WARRANTY.")
+
+        val results = index.search("WARRANTY", caseSensitive = true, maxResults = Long.MAX_VALUE, contextLength = 0).toList()
+
+        assertEquals(listOf(13L), results.single().hits.map { it.offset })
+    }
+
+    @Test
+    fun search_stopsAfterMaxResults() {
+        val index = index("ab ab", "ab", "ab")
+
+        val results = index.search("ab", caseSensitive = false, maxResults = 3, contextLength = 0).toList()
+
+        assertEquals(listOf(0L, 1L), results.map { it.pageIndex })
+        assertEquals(3, results.sumOf { it.hits.size })
+    }
+
+    @Test
+    fun setPageText_replacesIndexedText() {
+        val index = index("old text", "other")
+
+        index.setPageText(0, "new text")
+        index.truncate(1)
+
+        assertTrue(index.search("old", caseSensitive = false, maxResults = 10, contextLength = 0).none())
+        assertEquals(1, index.search("new", caseSensitive = false, maxResults = 10, contextLength = 0).count())
+        assertEquals(1, index.pageCount)
+    }
+
+    @Test
+    fun writeTo_roundTripsPagesAndPostings() {
+        // Text on the last page only is stored as a list of pages, text on all pages as a bit set.
+        val pages = List(40) { if (it == 39) "rare common" else "common Ünïcode €" }
+        val index = index(*pages.toTypedArray())
+
+        val restored = DocumentSearchIndex.readFrom(DataInputStream(ByteArrayInputStream(bytes(index))))
+
+        assertEquals(index.pageCount, restored.pageCount)
+        for (pageIndex in pages.indices) {
+            assertEquals(pages[pageIndex], restored.getPageText(pageIndex))
+        }
+        for (query in listOf("rare", "common", "ünïcode €")) {
+            assertEquals(
+                index.search(query, caseSensitive = false, maxResults = 100, contextLength = 5).toList(),
+                restored.search(query, caseSensitive = false, maxResults = 100, contextLength = 5).toList()
+            )
+        }
+    }
+
+    @Test
+    fun readFrom_rejectsOtherFormats() {
+        val bytes = bytes(index("text"))
+        // Changes the version that follows the magic number.
+        bytes[7] = 99
+
+        assertFailsWith<IOException> { DocumentSearchIndex.readFrom(DataInputStream(ByteArrayInputStream(bytes))) }
+        assertFailsWith<IOException> {
+            DocumentSearchIndex.readFrom(DataInputStream(ByteArrayInputStream(byteArrayOf(1, 2, 3, 4, 0, 0, 0, 1))))
+        }
+    }
+
+    private fun index(vararg pages: String): DocumentSearchIndex {
+        return DocumentSearchIndex().apply { pages.forEachIndexed { pageIndex, text -> setPageText(pageIndex, text) } }
+    }
+
+    private fun bytes(index: DocumentSearchIndex): ByteArray {
+        val output = ByteArrayOutputStream()
+        DataOutputStream(output).use { index.writeTo(it) }
+        return output.toByteArray()
+    }
+}
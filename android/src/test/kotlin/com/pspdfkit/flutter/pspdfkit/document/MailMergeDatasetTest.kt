@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.document
+
+import java.io.StringReader
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+internal class MailMergeDatasetTest {
+
+    @Test
+    fun read_csvMapsHeaderToValues() {
+        val dataset = read("name,city\nAda,London\nGrace,Arlington\n")
+
+        assertEquals(
+            listOf(mapOf("name" to "Ada", "city" to "London"), mapOf("name" to "Grace", "city" to "Arlington")),
+            dataset.rows
+        )
+    }
+
+    @Test
+    fun read_csvUnquotesQuotedValues() {
+        val dataset = read("name,address\n\"Lovelace, Ada\",\"12 \"\"Main\"\" St\nLondon\"\n")
+
+        assertEquals(mapOf("name" to "Lovelace, Ada", "address" to "12 \"Main\" St\nLondon"), dataset.rows.single())
+    }
+
+    @Test
+    fun read_csvKeepsEmptyValues() {
+        val dataset = read("a,b,c\n,\"\",x\n")
+
+        assertEquals(mapOf("a" to "", "b" to "", "c" to "x"), dataset.rows.single())
+    }
+
+    @Test
+    fun read_csvAcceptsCrLfAndSkipsBlankLines() {
+        val dataset = read("\uFEFFname\r\nAda\r\n\r\nGrace")
+
+        assertEquals(listOf(mapOf("name" to "Ada"), mapOf("name" to "Grace")), dataset.rows)
+    }
+
+    @Test
+    fun read_csvAllowsShortRows() {
+        val dataset = read("a,b\n1\n")
+
+        assertEquals(mapOf("a" to "1"), dataset.rows.single())
+    }
+
+    @Test
+    fun read_csvRejectsMalformedData() {
+        assertFailsWith<IllegalArgumentException> { read("") }
+        assertFailsWith<IllegalArgumentException> { read("a\n1,2\n") }
+        assertFailsWith<IllegalArgumentException> { read("a\n\"unterminated\n") }
+    }
+
+    @Test
+    fun read_jsonConvertsValues() {
+        val json = """[{"name": "Ada", "member": true, "guest": false, "choices": [0, 2], "age": 36, "note": null}]"""
+
+        val dataset = MailMergeDataset.read(StringReader(json), MailMergeDataset.FORMAT_JSON)
+
+        assertEquals(
+            mapOf("name" to "Ada", "member" to "selected", "guest" to "deselected", "choices" to "0,2", "age" to "36"),
+            dataset.rows.single()
+        )
+    }
+
+    @Test
+    fun read_rejectsUnknownFormatsAndMalformedJson() {
+        assertFailsWith<IllegalArgumentException> { MailMergeDataset.read(StringReader("a"), "xlsx") }
+        assertFailsWith<IllegalArgumentException> { MailMergeDataset.read(StringReader("{}"), "json") }
+        assertFailsWith<IllegalArgumentException> { MailMergeDataset.read(StringReader("[1]"), "json") }
+        assertFailsWith<IllegalArgumentException> {
+            MailMergeDataset.read(StringReader("""[{"a": {"b": 1}}]"""), "json")
+        }
+    }
+
+    private fun read(csv: String): MailMergeDataset {
+        return MailMergeDataset.read(StringReader(csv), MailMergeDataset.FORMAT_CSV)
+    }
+}
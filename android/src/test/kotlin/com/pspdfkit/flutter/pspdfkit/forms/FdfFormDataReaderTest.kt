@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import java.nio.charset.StandardCharsets
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+internal class FdfFormDataReaderTest {
+
+    @Test
+    fun next_readsNestedKidsAsQualifiedNames() {
+        val entries = read(
+            """
+            %FDF-1.2
+            1 0 obj
+            << /FDF << /Fields [
+            << /T (address) /Kids [
+              << /T (street) /Kids [ << /T (name) /V (Main St) >> ] >>
+              << /T (city) /V (Berlin) >>
+            ] >>
+            << /T (total) /V (12) >>
+            ] >> >>
+            endobj
+            trailer
+            << /Root 1 0 R >>
+            %%EOF
+            """.trimIndent()
+        )
+
+        assertEquals(
+            listOf(
+                "address.street.name" to listOf("Main St"),
+                "address.city" to listOf("Berlin"),
+                "total" to listOf("12")
+            ),
+            entries.map { it.fullyQualifiedName to it.values }
+        )
+    }
+
+    @Test
+    fun next_readsLiteralStringEscapes() {
+        val entry = read("<< /T (a\\(b\\)) /V (x\\\\y\\n\\t\\053(nested)\\\nend) >>").single()
+
+        assertEquals("a(b)", entry.fullyQualifiedName)
+        assertEquals("x\\y\n\t+(nested)end", entry.values.single())
+    }
+
+    @Test
+    fun next_readsHexStrings() {
+        val entries = read("<< /T <6E 61 6D65> /V <48656C6C6F> >> << /T (odd) /V <414> >>")
+
+        assertEquals("name", entries[0].fullyQualifiedName)
+        assertEquals("Hello", entries[0].values.single())
+        // A missing last digit is zero.
+        assertEquals("A@", entries[1].values.single())
+    }
+
+    @Test
+    fun next_decodesUtf16AndPdfDocEncoding() {
+        val entries = read("<< /T (city) /V <FEFF004B00F6006C006E> >> << /T (cafe) /V (caf\\351) >>")
+
+        assertEquals("Köln", entries[0].values.single())
+        assertEquals("café", entries[1].values.single())
+    }
+
+    @Test
+    fun next_readsNamesAsStates() {
+        val entries = read("<< /T (agree) /V /Choice#202 >> << /T (colors) /V [(red) (blue)] >>")
+
+        assertEquals(listOf("Choice 2"), entries[0].values)
+        assertTrue(entries[0].isState)
+        assertEquals(listOf("red", "blue"), entries[1].values)
+        assertFalse(entries[1].isState)
+    }
+
+    @Test
+    fun next_skipsFieldsWithoutValue() {
+        val entries = read("<< /T (signature) >> << /V (orphan) >> << /T (name) /V (Ada) % comment\n >>")
+
+        assertEquals(listOf("name"), entries.map { it.fullyQualifiedName })
+    }
+
+    @Test
+    fun next_rejectsUnterminatedStrings() {
+        assertFailsWith<IllegalArgumentException> { read("<< /T (name) /V (open") }
+        assertFailsWith<IllegalArgumentException> { read("<< /T (name) /V <4142") }
+    }
+
+    private fun read(fdf: String): List<FormDataEntry> {
+        FdfFormDataReader(fdf.byteInputStream(StandardCharsets.ISO_8859_1)).use { reader ->
+            return generateSequence { reader.next() }.toList()
+        }
+    }
+}
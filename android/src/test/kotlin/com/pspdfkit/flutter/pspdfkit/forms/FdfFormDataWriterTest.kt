@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+internal class FdfFormDataWriterTest {
+
+    @Test
+    fun write_nestsFieldsBelowTheirParents() {
+        val fdf = write(
+            FormDataEntry("address.city", listOf("Berlin")),
+            FormDataEntry("address.zip", listOf("10115")),
+            FormDataEntry("total", listOf("12"))
+        )
+
+        assertEquals(
+            "%FDF-1.2\n%âãÏÓ\n1 0 obj\n<< /FDF << /Fields [\n" +
+                "<< /T (address) /Kids [\n" +
+                "<< /T (city) /V (Berlin) >>\n" +
+                "<< /T (zip) /V (10115) >>\n" +
+                "] >>\n" +
+                "<< /T (total) /V (12) >>\n" +
+                "] >> >>\nendobj\ntrailer\n<< /Root 1 0 R >>\n%%EOF\n",
+            fdf
+        )
+    }
+
+    @Test
+    fun write_escapesStringsAndNames() {
+        val fdf = write(
+            FormDataEntry("note", listOf("a(b)\\c\r\n")),
+            FormDataEntry("city", listOf("Köln")),
+            FormDataEntry("agree", listOf("Choice 2/#"), isState = true),
+            FormDataEntry("colors", listOf("red", "blue"))
+        )
+
+        assertTrue("<< /T (note) /V (a\\(b\\)\\\\c\\r\\n) >>" in fdf)
+        assertTrue("<< /T (city) /V <FEFF004B00F6006C006E> >>" in fdf)
+        assertTrue("<< /T (agree) /V /Choice#202#2F#23 >>" in fdf)
+        assertTrue("<< /T (colors) /V [(red) (blue)] >>" in fdf)
+    }
+
+    @Test
+    fun write_roundTripsThroughReader() {
+        val entries = listOf(
+            FormDataEntry("form.note", listOf("a(b)\\c\r\n\t")),
+            FormDataEntry("form.city", listOf("Köln €")),
+            FormDataEntry("agree", listOf("Choice 2"), isState = true),
+            FormDataEntry("colors", listOf("red", "blue"))
+        )
+
+        val read = FdfFormDataReader(write(*entries.toTypedArray()).byteInputStream(StandardCharsets.ISO_8859_1))
+            .use { reader -> generateSequence { reader.next() }.toList() }
+
+        assertEquals(
+            entries.map { Triple(it.fullyQualifiedName, it.values, it.isState) },
+            read.map { Triple(it.fullyQualifiedName, it.values, it.isState) }
+        )
+    }
+
+    private fun write(vararg entries: FormDataEntry): String {
+        val output = ByteArrayOutputStream()
+        FdfFormDataWriter(output).use { writer ->
+            entries.forEach { writer.write(it) }
+            writer.finish()
+        }
+        return String(output.toByteArray(), StandardCharsets.ISO_8859_1)
+    }
+}
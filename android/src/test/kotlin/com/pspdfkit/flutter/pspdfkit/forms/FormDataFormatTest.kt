@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import org.kxml2.io.KXmlParser
+import java.io.ByteArrayOutputStream
+import java.nio.charset.StandardCharsets
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+internal class FormDataFormatTest {
+
+    /** Records the calls of [FormDataWriter] to its subclasses. */
+    private class RecordingWriter : FormDataWriter() {
+        val calls = ArrayList<String>()
+
+        override fun beginParent(partialName: String) {
+            calls.add("begin $partialName")
+        }
+
+        override fun endParent() {
+            calls.add("end")
+        }
+
+        override fun writeField(partialName: String, entry: FormDataEntry) {
+            calls.add("field $partialName")
+        }
+
+        override fun writeEnd() {
+            calls.add("finish")
+        }
+
+        override fun close() {}
+    }
+
+    @Test
+    fun write_opensEveryParentOnceForAdjacentFields() {
+        val writer = RecordingWriter()
+
+        for (name in listOf("a.b.x", "a.b.y", "a.c", "d", "a.e")) {
+            writer.write(FormDataEntry(name, listOf("")))
+        }
+        writer.finish()
+
+        assertEquals(
+            listOf(
+                "begin a", "begin b", "field x", "field y", "end",
+                "field c", "end",
+                "field d",
+                "begin a", "field e",
+                "end", "finish"
+            ),
+            writer.calls
+        )
+    }
+
+    @Test
+    fun resolve_usesFormatOrFileExtension() {
+        assertEquals(FormDataFormat.XFDF, FormDataFormat.resolve(null, "/data/form.XFDF"))
+        assertEquals(FormDataFormat.FDF, FormDataFormat.resolve("FDF", "/data/form.txt"))
+        assertFailsWith<IllegalArgumentException> { FormDataFormat.resolve(null, "/data/form.pdf") }
+        assertFailsWith<IllegalArgumentException> { FormDataFormat.resolve(null, "/data/form") }
+    }
+
+    @Test
+    fun xfdfConvertsToFdf() {
+        val xfdf = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xfdf xmlns="http://ns.adobe.com/xfdf/">
+              <fields>
+                <field name="address">
+                  <field name="city"><value>Köln</value></field>
+                  <field name="street"><value>Main St (rear)</value></field>
+                </field>
+                <field name="colors"><value>red</value><value>blue</value></field>
+              </fields>
+            </xfdf>
+        """.trimIndent()
+
+        val entries = XfdfFormDataReader(xfdf.byteInputStream(), KXmlParser())
+            .use { reader -> generateSequence { reader.next() }.toList() }
+        val output = ByteArrayOutputStream()
+        FormDataFormat.writer(FormDataFormat.FDF, output).use { writer ->
+            entries.forEach { writer.write(it) }
+            writer.finish()
+        }
+        val fdf = String(output.toByteArray(), StandardCharsets.ISO_8859_1)
+        val converted = FormDataFormat.reader(FormDataFormat.FDF, fdf.byteInputStream(StandardCharsets.ISO_8859_1))
+            .use { reader -> generateSequence { reader.next() }.toList() }
+
+        assertEquals(
+            listOf(
+                "address.city" to listOf("Köln"),
+                "address.street" to listOf("Main St (rear)"),
+                "colors" to listOf("red", "blue")
+            ),
+            converted.map { it.fullyQualifiedName to it.values }
+        )
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.forms.FormField
+import org.mockito.Mockito.`when`
+import org.mockito.Mockito.mock
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+internal class FormFieldTrieTest {
+
+    private val trie = FormFieldTrie.build(
+        fields(
+            "customer.name",
+            "total",
+            "customer.address.street",
+            "customer.address.city",
+            "items.0.price",
+            "customer.name.first",
+            "items.1.price"
+        )
+    )
+
+    @Test
+    fun withPrefix_returnsFieldAndDescendantsInFormOrder() {
+        assertEquals(
+            listOf("customer.name", "customer.address.street", "customer.address.city", "customer.name.first"),
+            names(trie.withPrefix("customer"))
+        )
+        assertEquals(listOf("customer.name", "customer.name.first"), names(trie.withPrefix("customer.name")))
+        assertEquals(listOf("total"), names(trie.withPrefix("total")))
+    }
+
+    @Test
+    fun withPrefix_matchesWholeSegmentsOnly() {
+        assertTrue(trie.withPrefix("cust").isEmpty())
+        assertTrue(trie.withPrefix("customer.address.zip").isEmpty())
+    }
+
+    @Test
+    fun withPrefix_emptyPrefixReturnsAllFields() {
+        assertEquals(7, trie.size)
+        assertEquals(
+            listOf(
+                "customer.name",
+                "total",
+                "customer.address.street",
+                "customer.address.city",
+                "items.0.price",
+                "customer.name.first",
+                "items.1.price"
+            ),
+            names(trie.withPrefix(""))
+        )
+    }
+
+    @Test
+    fun inTreeOrder_groupsFieldsByParent() {
+        assertEquals(
+            listOf(
+                "customer.name",
+                "customer.name.first",
+                "customer.address.street",
+                "customer.address.city",
+                "total",
+                "items.0.price",
+                "items.1.price"
+            ),
+            names(trie.inTreeOrder())
+        )
+    }
+
+    @Test
+    fun qualify_joinsPrefixAndName() {
+        assertEquals("name", FormFieldTrie.qualify("", "name"))
+        assertEquals("customer.name", FormFieldTrie.qualify("customer", "name"))
+    }
+
+    private fun fields(vararg names: String): List<FormField> {
+        return names.map { name ->
+            mock(FormField::class.java).also { `when`(it.fullyQualifiedName).thenReturn(name) }
+        }
+    }
+
+    private fun names(formFields: List<FormField>): List<String> = formFields.map { it.fullyQualifiedName }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import com.pspdfkit.document.PdfDocument
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationRule
+import com.pspdfkit.flutter.pspdfkit.api.FormValidationViolation
+import com.pspdfkit.forms.FormListeners
+import com.pspdfkit.forms.FormProvider
+import com.pspdfkit.forms.FormType
+import com.pspdfkit.forms.TextFormElement
+import com.pspdfkit.forms.TextFormField
+import org.mockito.Mockito.`when`
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.mockingDetails
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+internal class FormValidatorTest {
+
+    private val texts = HashMap<String, String>()
+    private val elements = HashMap<String, TextFormElement>()
+    private val formFields = HashMap<String, TextFormField>()
+    private val formProvider = mock(FormProvider::class.java)
+    private val document = mock(PdfDocument::class.java).also {
+        `when`(it.formProvider).thenReturn(formProvider)
+    }
+
+    @Test
+    fun validate_reportsViolationsInRuleOrder() {
+        fields("name" to "", "email" to "ada@", "age" to "12")
+
+        val violations = validator(
+            FormValidationRule("name", FormValidator.RULE_REQUIRED),
+            FormValidationRule("email", FormValidator.RULE_PATTERN, pattern = "[^@]+@[^@]+"),
+            FormValidationRule("age", FormValidator.RULE_RANGE, minimum = 18.0, message = "Adults only.")
+        ).validate()
+
+        assertEquals(
+            listOf(
+                FormValidationViolation("name", FormValidator.RULE_REQUIRED, "This field is required."),
+                FormValidationViolation("email", FormValidator.RULE_PATTERN, "The value has an invalid format."),
+                FormValidationViolation("age", FormValidator.RULE_RANGE, "Adults only.")
+            ),
+            violations
+        )
+    }
+
+    @Test
+    fun validate_formatRulesIgnoreEmptyValues() {
+        fields("email" to "", "age" to "")
+
+        val violations = validator(
+            FormValidationRule("email", FormValidator.RULE_PATTERN, pattern = "[^@]+@[^@]+"),
+            FormValidationRule("age", FormValidator.RULE_RANGE, minimum = 0.0, maximum = 120.0)
+        ).validate()
+
+        assertTrue(violations.isEmpty())
+    }
+
+    @Test
+    fun validate_rangeRejectsNonNumbers() {
+        fields("age" to "old")
+
+        val violations = validator(FormValidationRule("age", FormValidator.RULE_RANGE, maximum = 120.0)).validate()
+
+        assertEquals("The value must be a number.", violations.single().message)
+    }
+
+    @Test
+    fun validate_onlyRechecksChangedFields() {
+        fields("name" to "", "city" to "")
+        val validator = validator(
+            FormValidationRule("name", FormValidator.RULE_REQUIRED),
+            FormValidationRule("city", FormValidator.RULE_REQUIRED)
+        )
+        assertEquals(2, validator.validate().size)
+
+        texts["name"] = "Ada"
+        texts["city"] = "London"
+        listener().onFormFieldUpdated(formFields.getValue("name"))
+
+        // The city was not reported as changed, so its earlier result is reused.
+        assertEquals(listOf("city"), validator.validate().map { it.fullyQualifiedName })
+        verify(elements.getValue("name"), times(2)).text
+        verify(elements.getValue("city"), times(1)).text
+    }
+
+    @Test
+    fun validate_rechecksEqualsRuleWhenOtherFieldChanges() {
+        fields("password" to "secret", "confirmation" to "secret")
+        val validator = validator(
+            FormValidationRule("confirmation", FormValidator.RULE_EQUALS, otherFieldName = "password")
+        )
+        assertTrue(validator.validate().isEmpty())
+
+        texts["password"] = "changed"
+        listener().onFormFieldUpdated(formFields.getValue("password"))
+
+        assertEquals("The value must match password.", validator.validate().single().message)
+    }
+
+    @Test
+    fun init_rejectsInvalidRules() {
+        fields("age" to "")
+
+        assertFailsWith<IllegalArgumentException> { validator(FormValidationRule("missing", FormValidator.RULE_REQUIRED)) }
+        assertFailsWith<IllegalArgumentException> { validator(FormValidationRule("age", "unknown")) }
+        assertFailsWith<IllegalArgumentException> { validator(FormValidationRule("age", FormValidator.RULE_PATTERN)) }
+        assertFailsWith<IllegalArgumentException> { validator(FormValidationRule("age", FormValidator.RULE_RANGE)) }
+        assertFailsWith<IllegalArgumentException> {
+            validator(FormValidationRule("age", FormValidator.RULE_RANGE, minimum = 2.0, maximum = 1.0))
+        }
+        assertFailsWith<IllegalArgumentException> {
+            validator(FormValidationRule("age", FormValidator.RULE_EQUALS, otherFieldName = "missing"))
+        }
+    }
+
+    private fun fields(vararg values: Pair<String, String>) {
+        for ((name, text) in values) {
+            texts[name] = text
+            val element = mock(TextFormElement::class.java)
+            `when`(element.text).thenAnswer { texts[name] }
+            val formField = mock(TextFormField::class.java)
+            `when`(formField.fullyQualifiedName).thenReturn(name)
+            `when`(formField.type).thenReturn(FormType.TEXT)
+            `when`(formField.formElement).thenReturn(element)
+            elements[name] = element
+            formFields[name] = formField
+        }
+        `when`(formProvider.formFields).thenReturn(formFields.values.toList())
+    }
+
+    private fun validator(vararg rules: FormValidationRule): FormValidator {
+        return FormValidator(document, rules.toList())
+    }
+
+    /** Returns the listener the validator registered on the form provider. */
+    private fun listener(): FormListeners.OnFormFieldUpdatedListener {
+        return mockingDetails(formProvider).invocations
+            .last { it.method.name == "addOnFormFieldUpdatedListener" }
+            .getArgument(0)
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import org.kxml2.io.KXmlParser
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+internal class XfdfFormDataReaderTest {
+
+    @Test
+    fun next_readsNestedFieldsAsQualifiedNames() {
+        val entries = read(
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xfdf xmlns="http://ns.adobe.com/xfdf/" xml:space="preserve">
+              <fields>
+                <field name="address">
+                  <field name="street"><field name="name"><value>Main St</value></field></field>
+                  <field name="city"><value>Köln</value></field>
+                </field>
+                <field name="total"><value>12</value></field>
+              </fields>
+            </xfdf>
+            """.trimIndent()
+        )
+
+        assertEquals(
+            listOf(
+                "address.street.name" to listOf("Main St"),
+                "address.city" to listOf("Köln"),
+                "total" to listOf("12")
+            ),
+            entries.map { it.fullyQualifiedName to it.values }
+        )
+    }
+
+    @Test
+    fun next_readsMultipleValuesAndEntities() {
+        val entries = read(
+            """
+            <xfdf xmlns="http://ns.adobe.com/xfdf/">
+              <fields>
+                <field name="colors"><value>red</value><value>blue</value></field>
+                <field name="note"><value>a &lt; b &amp; c</value></field>
+              </fields>
+            </xfdf>
+            """.trimIndent()
+        )
+
+        assertEquals(listOf("red", "blue"), entries[0].values)
+        assertEquals(listOf("a < b & c"), entries[1].values)
+    }
+
+    @Test
+    fun next_skipsAnnotationsRichTextAndEmptyFields() {
+        val entries = read(
+            """
+            <xfdf xmlns="http://ns.adobe.com/xfdf/">
+              <annots>
+                <text page="0"><contents>Not a field</contents></text>
+                <field name="inside-annots"><value>ignored</value></field>
+              </annots>
+              <fields>
+                <field name="note">
+                  <value-richtext><body><p>Rich</p></body></value-richtext>
+                  <value>Plain</value>
+                </field>
+                <field name="empty"></field>
+              </fields>
+            </xfdf>
+            """.trimIndent()
+        )
+
+        assertEquals(listOf("note" to listOf("Plain")), entries.map { it.fullyQualifiedName to it.values })
+    }
+
+    private fun read(xfdf: String): List<FormDataEntry> {
+        XfdfFormDataReader(xfdf.byteInputStream(), KXmlParser()).use { reader ->
+            return generateSequence { reader.next() }.toList()
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.forms
+
+import org.kxml2.io.KXmlParser
+import org.kxml2.io.KXmlSerializer
+import java.io.ByteArrayOutputStream
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+internal class XfdfFormDataWriterTest {
+
+    @Test
+    fun write_nestsFieldsBelowTheirParents() {
+        val xfdf = write(
+            FormDataEntry("address.city", listOf("Berlin")),
+            FormDataEntry("address.zip", listOf("10115")),
+            FormDataEntry("total", listOf("12"))
+        )
+
+        assertTrue("<xfdf xmlns=\"http://ns.adobe.com/xfdf/\"><fields>" in xfdf)
+        assertTrue(
+            "<field name=\"address\"><field name=\"city\"><value>Berlin</value></field>" +
+                "<field name=\"zip\"><value>10115</value></field></field>" +
+                "<field name=\"total\"><value>12</value></field></fields></xfdf>" in xfdf
+        )
+    }
+
+    @Test
+    fun write_roundTripsThroughReader() {
+        val entries = listOf(
+            FormDataEntry("form.note", listOf("a < b & \"c\"")),
+            FormDataEntry("form.city", listOf("Köln €")),
+            FormDataEntry("colors", listOf("red", "blue"))
+        )
+
+        val read = XfdfFormDataReader(write(*entries.toTypedArray()).byteInputStream(), KXmlParser())
+            .use { reader -> generateSequence { reader.next() }.toList() }
+
+        assertEquals(
+            entries.map { it.fullyQualifiedName to it.values },
+            read.map { it.fullyQualifiedName to it.values }
+        )
+    }
+
+    private fun write(vararg entries: FormDataEntry): String {
+        val output = ByteArrayOutputStream()
+        XfdfFormDataWriter(output, KXmlSerializer()).use { writer ->
+            entries.forEach { writer.write(it) }
+            writer.finish()
+        }
+        return output.toString("UTF-8")
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import java.io.File
+import java.nio.file.Files
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+internal class DiskLruCacheTest {
+
+    private lateinit var directory: File
+
+    @BeforeTest
+    fun setUp() {
+        directory = Files.createTempDirectory("disk-lru-cache").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun put_movesFileIntoCache() {
+        val cache = DiskLruCache(directory, 100)
+        val source = pending(cache, 10)
+
+        val file = cache.put("a", source)
+
+        assertTrue(file.isFile)
+        assertFalse(source.exists())
+        assertEquals(file, cache.get("a"))
+        assertEquals(10, cache.size())
+    }
+
+    @Test
+    fun put_replacesExistingEntry() {
+        val cache = DiskLruCache(directory, 100)
+        cache.put("a", pending(cache, 10))
+        cache.put("a", pending(cache, 30))
+
+        assertEquals(30, cache.size())
+        assertEquals(30, cache.get("a")?.length())
+    }
+
+    @Test
+    fun put_evictsLeastRecentlyUsedEntries() {
+        val cache = DiskLruCache(directory, 30)
+        cache.put("a", pending(cache, 10))
+        cache.put("b", pending(cache, 10))
+        cache.put("c", pending(cache, 10))
+        // Makes b the least recently used entry.
+        cache.get("a")
+
+        cache.put("d", pending(cache, 10))
+
+        assertNull(cache.get("b"))
+        assertNotNull(cache.get("a"))
+        assertNotNull(cache.get("c"))
+        assertNotNull(cache.get("d"))
+        assertEquals(30, cache.size())
+    }
+
+    @Test
+    fun put_keepsNewEntryLargerThanCache() {
+        val cache = DiskLruCache(directory, 0)
+
+        val file = cache.put("a", pending(cache, 10))
+
+        assertTrue(file.isFile)
+        assertEquals(10, cache.size())
+
+        // The next entry evicts the previous one.
+        cache.put("b", pending(cache, 10))
+        assertFalse(file.exists())
+        assertEquals(10, cache.size())
+    }
+
+    @Test
+    fun maxBytes_trimsWhenLowered() {
+        val cache = DiskLruCache(directory, 100)
+        cache.put("a", pending(cache, 10))
+        cache.put("b", pending(cache, 10))
+
+        cache.maxBytes = 10
+
+        assertNull(cache.get("a"))
+        assertNotNull(cache.get("b"))
+    }
+
+    @Test
+    fun removeWithPrefix_deletesMatchingEntries() {
+        val cache = DiskLruCache(directory, 100)
+        cache.put("doc1-0", pending(cache, 10))
+        cache.put("doc1-1", pending(cache, 10))
+        cache.put("doc2-0", pending(cache, 10))
+
+        cache.removeWithPrefix("doc1-")
+
+        assertNull(cache.get("doc1-0"))
+        assertNull(cache.get("doc1-1"))
+        assertNotNull(cache.get("doc2-0"))
+        assertEquals(10, cache.size())
+    }
+
+    @Test
+    fun get_dropsEntryWhoseFileWasDeleted() {
+        val cache = DiskLruCache(directory, 100)
+        cache.put("a", pending(cache, 10)).delete()
+
+        assertNull(cache.get("a"))
+        assertEquals(0, cache.size())
+    }
+
+    @Test
+    fun load_restoresRecencyFromModificationTimes() {
+        val cache = DiskLruCache(directory, 100)
+        cache.put("a", pending(cache, 10)).setLastModified(3_000_000)
+        cache.put("b", pending(cache, 10)).setLastModified(1_000_000)
+        cache.put("c", pending(cache, 10)).setLastModified(2_000_000)
+        // Left over from an interrupted write.
+        val leftover = pending(cache, 10)
+
+        val reloaded = DiskLruCache(directory, 20)
+
+        assertEquals(20, reloaded.size())
+        assertFalse(leftover.exists())
+        assertNull(reloaded.get("b"))
+        assertNotNull(reloaded.get("a"))
+        assertNotNull(reloaded.get("c"))
+    }
+
+    private fun pending(cache: DiskLruCache, size: Int): File {
+        return cache.createTempFile().apply { writeBytes(ByteArray(size)) }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+ * <p>
+ * THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+ * AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+ * UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+ * This notice may not be removed from this file.
+ */
+
+package com.pspdfkit.flutter.pspdfkit.util
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+internal class PageRangeHelperTest {
+
+    @Test
+    fun parsePageRanges_withoutSpec_selectsAllPages() {
+        assertEquals(listOf(0, 1, 2), PageRangeHelper.parsePageRanges(null, 3))
+        assertEquals(listOf(0, 1, 2), PageRangeHelper.parsePageRanges("  ", 3))
+    }
+
+    @Test
+    fun parsePageRanges_keepsListedOrder() {
+        assertEquals(listOf(4, 0, 1, 2, 4), PageRangeHelper.parsePageRanges("5, 1-3,5", 5))
+    }
+
+    @Test
+    fun parsePageRanges_openEndedRangeRunsToLastPage() {
+        assertEquals(listOf(7, 8, 9), PageRangeHelper.parsePageRanges("8-", 10))
+    }
+
+    @Test
+    fun parsePageRanges_ignoresEmptyParts() {
+        assertEquals(listOf(1, 2), PageRangeHelper.parsePageRanges("2,,3,", 3))
+    }
+
+    @Test
+    fun parsePageRanges_rejectsPagesOutsideOfDocument() {
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges("0", 3) }
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges("2-4", 3) }
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges("3-2", 3) }
+    }
+
+    @Test
+    fun parsePageRanges_rejectsMalformedSpecs() {
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges("a-b", 3) }
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges("1;2", 3) }
+        assertFailsWith<IllegalArgumentException> { PageRangeHelper.parsePageRanges(",", 3) }
+    }
+}
@@ -0,0 +1,127 @@
+// Benchmarks random page rendering in headless documents opened through the
+// default stream based data provider and through memory mapping, and prints
+// both providers side by side.
+//
+// The bundled sample document is small, so the numbers mostly show the
+// overhead of each provider. To benchmark a large archival scan, push it to the
+// device and pass its path:
+//
+//   flutter test integration_test/document_provider_benchmark_test.dart \
+//     --dart-define=BENCHMARK_DOCUMENT=/sdcard/Download/scan.pdf
+
+import 'dart:io';
+import 'dart:math';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:integration_test/integration_test.dart';
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+
+const _documentOverride = String.fromEnvironment('BENCHMARK_DOCUMENT');
+const _pageAccesses = 200;
+
+Future<String> _benchmarkDocumentPath() async {
+  if (_documentOverride.isNotEmpty) {
+    return _documentOverride;
+  }
+  final bytes = await rootBundle.load('PDFs/Measurements.pdf');
+  final tempDir = await Nutrient.getTemporaryDirectory();
+  final file = File('${tempDir.path}/benchmark_document.pdf');
+  await file.writeAsBytes(bytes.buffer.asUint8List(), flush: true);
+  return file.path;
+}
+
+/// Native render times of the sampled pages, in milliseconds.
+class _ProviderRun {
+  final String provider;
+  final int openMs;
+  final List<int> renderMs;
+  final List<String> pageSizes;
+
+  _ProviderRun(this.provider, this.openMs, this.renderMs, this.pageSizes);
+
+  int percentile(double fraction) {
+    final sorted = List<int>.of(renderMs)..sort();
+    return sorted[min((sorted.length * fraction).floor(), sorted.length - 1)];
+  }
+
+  int get total => renderMs.fold(0, (sum, ms) => sum + ms);
+}
+
+/// Opens the document and renders randomly chosen pages with the page cache
+/// disabled, which forces the page data to be read from the data provider.
+///
+/// Only the render time measured on the native side is recorded, so the
+/// platform channel round trip does not hide the difference between the
+/// providers. The images are written to files to keep them off the channel.
+Future<_ProviderRun> _measure(String path, {required bool memoryMapped}) async {
+  final openWatch = Stopwatch()..start();
+  final document =
+      await Nutrient.openDocument(path, memoryMapped: memoryMapped);
+  openWatch.stop();
+  try {
+    final pageCount = await document.getPageCount();
+    // Same seed for both runs, so both providers render the same pages.
+    final random = Random(42);
+    final renderMs = <int>[];
+    final pageSizes = <String>[];
+    for (var i = 0; i < _pageAccesses; i++) {
+      final page = await document.renderPage(
+          random.nextInt(pageCount), 256, 256,
+          options: PageRenderOptions(
+              format: 'jpeg', asFile: true, useCache: false));
+      expect(page.fromCache, isFalse);
+      renderMs.add(page.durationMs);
+      pageSizes.add('${page.pageIndex}:${page.width}x${page.height}');
+      await File(page.filePath!).delete();
+    }
+    return _ProviderRun(memoryMapped ? 'memory mapped' : 'default',
+        openWatch.elapsedMilliseconds, renderMs, pageSizes);
+  } finally {
+    await document.close();
+  }
+}
+
+void _report(List<_ProviderRun> runs) {
+  debugPrint('provider        open ms   p50 ms   p95 ms   max ms   total ms');
+  for (final run in runs) {
+    debugPrint('${run.provider.padRight(14)}'
+        '${run.openMs.toString().padLeft(9)}'
+        '${run.percentile(0.5).toString().padLeft(9)}'
+        '${run.percentile(0.95).toString().padLeft(9)}'
+        '${run.percentile(1).toString().padLeft(9)}'
+        '${run.total.toString().padLeft(11)}');
+  }
+}
+
+void main() {
+  IntegrationTestWidgetsFlutterBinding.ensureInitialized();
+
+  testWidgets('random page rendering: default vs memory mapped provider',
+      (WidgetTester tester) async {
+    if (kIsWeb || !Platform.isAndroid) {
+      return;
+    }
+    final path = await _benchmarkDocumentPath();
+
+    // Warm up the file system cache and the renderer for both providers, so
+    // neither measured run is penalized by going first.
+    await _measure(path, memoryMapped: false);
+    await _measure(path, memoryMapped: true);
+
+    final defaultRun = await _measure(path, memoryMapped: false);
+    final mappedRun = await _measure(path, memoryMapped: true);
+    _report([defaultRun, mappedRun]);
+
+    // Both providers must read the same pages.
+    expect(mappedRun.pageSizes, defaultRun.pageSizes);
+    expect(defaultRun.renderMs.length, _pageAccesses);
+    expect(mappedRun.renderMs.length, _pageAccesses);
+    // Memory mapping exists to speed up random access, it must not make
+    // typical page reads noticeably slower. The slack absorbs timer noise on
+    // small documents.
+    expect(mappedRun.percentile(0.5),
+        lessThanOrEqualTo(defaultRun.percentile(0.5) * 1.5 + 5));
+  });
+}
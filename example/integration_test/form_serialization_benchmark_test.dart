@@ -0,0 +1,91 @@
+// Benchmarks the serialization of form field metadata with and without the
+// Instant JSON of the widget annotations.
+//
+// Every run opens the document again, so the native form metadata cache starts
+// empty and each field is serialized once. Runs are repeated until at least
+// 1,000 fields were serialized, and the results are reported per 1,000 fields.
+// To benchmark a real large form, push it to the device and pass its path:
+//
+//   flutter test integration_test/form_serialization_benchmark_test.dart \
+//     --dart-define=BENCHMARK_FORM=/sdcard/Download/large_form.pdf
+
+import 'dart:convert';
+import 'dart:io';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:integration_test/integration_test.dart';
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+
+const _formOverride = String.fromEnvironment('BENCHMARK_FORM');
+const _fieldsPerMeasurement = 1000;
+
+Future<String> _benchmarkFormPath() async {
+  if (_formOverride.isNotEmpty) {
+    return _formOverride;
+  }
+  final bytes = await rootBundle.load('PDFs/Form_example.pdf');
+  final tempDir = await Nutrient.getTemporaryDirectory();
+  final file = File('${tempDir.path}/benchmark_form.pdf');
+  await file.writeAsBytes(bytes.buffer.asUint8List(), flush: true);
+  return file.path;
+}
+
+/// Serializes all form fields of freshly opened documents until at least
+/// [_fieldsPerMeasurement] fields were serialized. Returns the microseconds
+/// spent per 1,000 fields and the JSON bytes per field.
+Future<(double, double)> _measure(String path, {required bool lean}) async {
+  var fieldCount = 0;
+  var jsonLength = 0;
+  var elapsedMicroseconds = 0;
+  while (fieldCount < _fieldsPerMeasurement) {
+    final document = await Nutrient.openDocument(path);
+    try {
+      final api = PdfDocumentApi(messageChannelSuffix: document.documentId);
+      final watch = Stopwatch()..start();
+      final json = lean
+          ? await api.getLeanFormFieldsJson()
+          : await api.getFormFieldsJson();
+      watch.stop();
+      final fields = jsonDecode(json) as List<dynamic>;
+      expect(fields, isNotEmpty);
+      fieldCount += fields.length;
+      jsonLength += json.length;
+      elapsedMicroseconds += watch.elapsedMicroseconds;
+    } finally {
+      await document.close();
+    }
+  }
+  final perThousandFields =
+      elapsedMicroseconds * _fieldsPerMeasurement / fieldCount;
+  final bytesPerField = jsonLength / fieldCount;
+  debugPrint('${lean ? 'lean' : 'full'}: '
+      '${(perThousandFields / 1000).toStringAsFixed(1)} ms per 1000 fields, '
+      '${bytesPerField.toStringAsFixed(0)} bytes per field '
+      'over $fieldCount fields');
+  return (perThousandFields, bytesPerField);
+}
+
+void main() {
+  IntegrationTestWidgetsFlutterBinding.ensureInitialized();
+
+  testWidgets('form field serialization: full vs lean',
+      (WidgetTester tester) async {
+    if (kIsWeb || !Platform.isAndroid) {
+      return;
+    }
+    final path = await _benchmarkFormPath();
+
+    // Warm up document loading so the first run is not penalized.
+    await _measure(path, lean: false);
+
+    final (fullTime, fullBytes) = await _measure(path, lean: false);
+    final (leanTime, leanBytes) = await _measure(path, lean: true);
+    debugPrint('lean serialization takes '
+        '${(leanTime / fullTime * 100).toStringAsFixed(0)}% of the time and '
+        '${(leanBytes / fullBytes * 100).toStringAsFixed(0)}% of the bytes');
+
+    expect(leanBytes, lessThan(fullBytes));
+  });
+}
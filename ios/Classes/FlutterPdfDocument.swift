@@ -92,6 +92,11 @@ public class FlutterPdfDocument: NSObject, PdfDocumentApi {
         }
     }
 
+    func getLeanFormFieldsJson(completion: @escaping (Result<String, any Error>) -> Void) {
+        // The iOS form field JSON has no separate widget annotation members to leave out.
+        getFormFieldsJson(completion: completion)
+    }
+
     func getFormFieldJson(fieldName: String, completion: @escaping (Result<String, any Error>) -> Void) {
         do {
             guard let document else {
@@ -428,6 +433,111 @@ public class FlutterPdfDocument: NSObject, PdfDocumentApi {
         }
     }
 
+    func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "processAnnotationsOnPages is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func exportArtifacts(request: DocumentExportRequest, completion: @escaping (Result<[DocumentExportResult], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "exportArtifacts is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func redactPatterns(request: RedactionRequest, completion: @escaping (Result<RedactionResult, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "redactPatterns is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getWarmUpResult(completion: @escaping (Result<DocumentWarmUpResult, any Error>) -> Void) {
+        // Warm-up options are ignored on iOS, so there are never any phases to report.
+        completion(.success(DocumentWarmUpResult(phases: [], totalDurationMs: 0)))
+    }
+
+    func renderPage(pageIndex: Int64, width: Int64, height: Int64, options: PageRenderOptions?, completion: @escaping (Result<RenderedPage, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "renderPage is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getThumbnail(pageIndex: Int64, maxSize: Int64, completion: @escaping (Result<ThumbnailResult, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getThumbnail is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func prefetchThumbnails(pageIndexes: [Int64], maxSize: Int64, completion: @escaping (Result<Void, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "prefetchThumbnails is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getPageText(pageIndex: Int64, completion: @escaping (Result<String, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getPageText is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func extractAllText(extractionId: String, maxConcurrency: Int64?, pagesPerChunk: Int64?, completion: @escaping (Result<TextExtractionSummary, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "extractAllText is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func searchText(searchId: String, query: String, options: TextSearchOptions?, completion: @escaping (Result<TextSearchSummary, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "searchText is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getDirtyFormFieldsJson(completion: @escaping (Result<String, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getDirtyFormFieldsJson is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func setFormFieldValues(values: [String: String], completion: @escaping (Result<[FormFieldWriteError], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "setFormFieldValues is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getFormFieldValues(fullyQualifiedNames: [String]?, completion: @escaping (Result<[FormFieldValue], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getFormFieldValues is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func setFormValidationRules(rules: [FormValidationRule], completion: @escaping (Result<Void, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "setFormValidationRules is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func validateFormFields(completion: @escaping (Result<[FormValidationViolation], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "validateFormFields is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getFormFieldsJsonByPrefix(prefix: String, completion: @escaping (Result<String, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getFormFieldsJsonByPrefix is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getFormFieldValuesByPrefix(prefix: String, completion: @escaping (Result<[FormFieldValue], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getFormFieldValuesByPrefix is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func setFormFieldValuesByPrefix(prefix: String, values: [String: String], completion: @escaping (Result<[FormFieldWriteError], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "setFormFieldValuesByPrefix is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getFormFieldAnnotationsJson(fullyQualifiedName: String, completion: @escaping (Result<String, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getFormFieldAnnotationsJson is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func importFormData(transferId: String, path: String, format: String?, chunkSize: Int64?, completion: @escaping (Result<FormDataTransferResult, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "importFormData is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func exportFormData(transferId: String, path: String, format: String?, chunkSize: Int64?, completion: @escaping (Result<FormDataTransferResult, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "exportFormData is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
     func closeDocument(completion: @escaping (Result<Bool, any Error>) -> Void) {
         guard document != nil else {
             let error = NutrientApiError(code: "", message: "Document is already closed or was never opened.", details: nil)
@@ -53,6 +53,52 @@ public class HeadlessDocumentApiImpl: NSObject, HeadlessDocumentApi {
             return
         }
 
+        register(document: document, options: options, completion: completion)
+    }
+
+    func openDocumentFromBytes(data: FlutterStandardTypedData, options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<String, Error>) -> Void) {
+        guard !data.data.isEmpty else {
+            let error = NutrientApiError(
+                code: "invalid_argument",
+                message: "Document data cannot be empty",
+                details: nil
+            )
+            completion(.failure(error))
+            return
+        }
+
+        // Read the document straight from memory, without writing it to disk first
+        let document = Document(dataProviders: [DataContainerProvider(data: data.data)])
+        register(document: document, options: options, completion: completion)
+    }
+
+    /// Opens the documents one after another. Documents are parsed lazily on iOS, so opening
+    /// them in parallel would not be faster and `maxConcurrency` is ignored.
+    func openDocuments(batchId: String, requests: [DocumentOpenRequest], maxConcurrency: Int64?, completion: @escaping (Result<[DocumentOpenResult], Error>) -> Void) {
+        let openCallbacks = HeadlessDocumentOpenCallbacks(binaryMessenger: binaryMessenger, messageChannelSuffix: batchId)
+        var results: [DocumentOpenResult] = []
+        for (index, request) in requests.enumerated() {
+            let start = Date()
+            var documentResult = DocumentOpenResult(index: Int64(index), documentPath: request.documentPath, durationMs: 0)
+            openDocument(documentPath: request.documentPath, options: request.options) { result in
+                switch result {
+                case .success(let documentId):
+                    documentResult.documentId = documentId
+                case .failure(let error):
+                    let apiError = error as? NutrientApiError
+                    documentResult.errorCode = apiError?.code ?? "document_load_error"
+                    documentResult.errorMessage = apiError?.message ?? error.localizedDescription
+                }
+            }
+            documentResult.durationMs = Int64(Date().timeIntervalSince(start) * 1000)
+            results.append(documentResult)
+            openCallbacks.onDocumentOpened(result: documentResult) { _ in }
+        }
+        completion(.success(results))
+    }
+
+    /// Unlocks and validates a loaded document, then registers it with a new document ID.
+    private func register(document: Document, options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<String, Error>) -> Void) {
         // Handle password-protected documents
         if let password = options?.password {
             PspdfkitFlutterHelper.unlock(document: document, dictionary: ["password": password])
@@ -97,6 +143,53 @@ public class HeadlessDocumentApiImpl: NSObject, HeadlessDocumentApi {
         completion(.success(documentId))
     }
 
+    // MARK: - Page Processing APIs (Not supported on iOS)
+
+    func mergeDocuments(sources: [DocumentMergeSource], outputPath: String, completion: @escaping (Result<Int64, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "mergeDocuments is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func splitDocument(documentPath: String, targets: [DocumentSplitTarget], options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<[String], Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "splitDocument is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func configureThumbnailCache(maxBytes: Int64, completion: @escaping (Result<Void, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "configureThumbnailCache is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func clearThumbnailCache(completion: @escaping (Result<Void, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "clearThumbnailCache is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func mailMerge(request: MailMergeRequest, completion: @escaping (Result<MailMergeResult, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "mailMerge is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func configureDocumentPool(configuration: DocumentPoolConfiguration, completion: @escaping (Result<Void, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "configureDocumentPool is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func getDocumentPoolStatistics(completion: @escaping (Result<DocumentPoolStatistics, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "getDocumentPoolStatistics is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func pinDocument(documentId: String, completion: @escaping (Result<Void, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "pinDocument is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func unpinDocument(documentId: String, completion: @escaping (Result<Void, Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "unpinDocument is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
     // MARK: - Document Registry Management
 
     /// Closes and removes a document from the registry
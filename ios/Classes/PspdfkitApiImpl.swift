@@ -307,6 +307,11 @@ public class PspdfkitApiImpl: NSObject, NutrientApi, PDFViewControllerDelegate,
         }
     }
     
+    func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool?, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "processAnnotationsOnPages is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+    
     func importXfdf(xfdfString: String, completion: @escaping (Result<Bool?, any Error>) -> Void) {
         do {
             guard let document = pdfViewController?.document, document.isValid else {
@@ -244,6 +244,16 @@ public class PspdfkitPlatformViewImpl: NSObject, NutrientViewControllerApi, PDFV
         }
     }
     
+    func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool, any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "processAnnotationsOnPages is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+
+    func setFormFieldValues(values: [String: String], completion: @escaping (Result<[FormFieldWriteError], any Error>) -> Void) {
+        let error = NutrientApiError(code: "PlatformNotSupported", message: "setFormFieldValues is only available on Android.", details: nil)
+        completion(.failure(error))
+    }
+    
     func importXfdf(xfdfString: String, completion: @escaping (Result<Bool, any Error>) -> Void) {
         do {
             guard let document = pdfViewController?.document, document.isValid else {
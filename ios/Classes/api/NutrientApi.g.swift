@@ -502,19 +502,32 @@ struct FormFieldData {
 struct HeadlessDocumentOpenOptions {
   /// Password for encrypted documents.
   var password: String? = nil
+  /// Reads a local document file through memory mapping instead of streams,
+  /// which speeds up random page access in very large documents. Only applies
+  /// to file paths and is currently only supported on Android.
+  var memoryMapped: Bool? = nil
+  /// Data to preload in the background after the document was opened.
+  /// Currently only supported on Android.
+  var warmUp: DocumentWarmUpOptions? = nil
 
 
   // swift-format-ignore: AlwaysUseLowerCamelCase
   static func fromList(_ pigeonVar_list: [Any?]) -> HeadlessDocumentOpenOptions? {
     let password: String? = nilOrValue(pigeonVar_list[0])
+    let memoryMapped: Bool? = nilOrValue(pigeonVar_list[1])
+    let warmUp: DocumentWarmUpOptions? = nilOrValue(pigeonVar_list[2])
 
     return HeadlessDocumentOpenOptions(
-      password: password
+      password: password,
+      memoryMapped: memoryMapped,
+      warmUp: warmUp
     )
   }
   func toList() -> [Any?] {
     return [
-      password
+      password,
+      memoryMapped,
+      warmUp,
     ]
   }
 }
@@ -832,248 +845,2380 @@ struct Bookmark {
   }
 }
 
-private class NutrientApiPigeonCodecReader: FlutterStandardReader {
-  override func readValue(ofType type: UInt8) -> Any? {
-    switch type {
-    case 129:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AndroidPermissionStatus(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 130:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AnnotationType(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 131:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AnnotationTool(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 132:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AnnotationToolVariant(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 133:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AnnotationProcessingMode(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 134:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return DocumentPermissions(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 135:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return PdfVersion(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 136:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return PdfFormFieldTypes(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 137:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return NutrientEvent(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 138:
-      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
-      if let enumResultAsInt = enumResultAsInt {
-        return AnnotationMenuAction(rawValue: enumResultAsInt)
-      }
-      return nil
-    case 139:
-      return PdfRect.fromList(self.readValue() as! [Any?])
-    case 140:
-      return PageInfo.fromList(self.readValue() as! [Any?])
-    case 141:
-      return DocumentSaveOptions.fromList(self.readValue() as! [Any?])
-    case 142:
-      return PdfFormOption.fromList(self.readValue() as! [Any?])
-    case 143:
-      return FormFieldData.fromList(self.readValue() as! [Any?])
-    case 144:
-      return HeadlessDocumentOpenOptions.fromList(self.readValue() as! [Any?])
-    case 145:
-      return PointF.fromList(self.readValue() as! [Any?])
-    case 146:
-      return AnnotationMenuConfigurationData.fromList(self.readValue() as! [Any?])
-    case 147:
-      return AnnotationProperties.fromList(self.readValue() as! [Any?])
-    case 148:
-      return Bookmark.fromList(self.readValue() as! [Any?])
-    default:
-      return super.readValue(ofType: type)
-    }
+/// A document and the pages to take from it when merging documents.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentMergeSource {
+  /// Path to the PDF document (file path or content:// URI).
+  var documentPath: String
+  /// Pages to take from the document, e.g. `1-3,5,8-`. Page numbers are
+  /// one-based and pages are added in the order listed. All pages when null.
+  var pageRanges: String? = nil
+  /// Password for encrypted documents.
+  var password: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentMergeSource? {
+    let documentPath = pigeonVar_list[0] as! String
+    let pageRanges: String? = nilOrValue(pigeonVar_list[1])
+    let password: String? = nilOrValue(pigeonVar_list[2])
+
+    return DocumentMergeSource(
+      documentPath: documentPath,
+      pageRanges: pageRanges,
+      password: password
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      documentPath,
+      pageRanges,
+      password,
+    ]
   }
 }
 
-private class NutrientApiPigeonCodecWriter: FlutterStandardWriter {
-  override func writeValue(_ value: Any) {
-    if let value = value as? AndroidPermissionStatus {
-      super.writeByte(129)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? AnnotationType {
-      super.writeByte(130)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? AnnotationTool {
-      super.writeByte(131)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? AnnotationToolVariant {
-      super.writeByte(132)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? AnnotationProcessingMode {
-      super.writeByte(133)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? DocumentPermissions {
-      super.writeByte(134)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? PdfVersion {
-      super.writeByte(135)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? PdfFormFieldTypes {
-      super.writeByte(136)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? NutrientEvent {
-      super.writeByte(137)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? AnnotationMenuAction {
-      super.writeByte(138)
-      super.writeValue(value.rawValue)
-    } else if let value = value as? PdfRect {
-      super.writeByte(139)
-      super.writeValue(value.toList())
-    } else if let value = value as? PageInfo {
-      super.writeByte(140)
-      super.writeValue(value.toList())
-    } else if let value = value as? DocumentSaveOptions {
-      super.writeByte(141)
-      super.writeValue(value.toList())
-    } else if let value = value as? PdfFormOption {
-      super.writeByte(142)
-      super.writeValue(value.toList())
-    } else if let value = value as? FormFieldData {
-      super.writeByte(143)
-      super.writeValue(value.toList())
-    } else if let value = value as? HeadlessDocumentOpenOptions {
-      super.writeByte(144)
-      super.writeValue(value.toList())
-    } else if let value = value as? PointF {
-      super.writeByte(145)
-      super.writeValue(value.toList())
-    } else if let value = value as? AnnotationMenuConfigurationData {
-      super.writeByte(146)
-      super.writeValue(value.toList())
-    } else if let value = value as? AnnotationProperties {
-      super.writeByte(147)
-      super.writeValue(value.toList())
-    } else if let value = value as? Bookmark {
-      super.writeByte(148)
-      super.writeValue(value.toList())
-    } else {
-      super.writeValue(value)
-    }
+/// A single output document produced when splitting a document.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentSplitTarget {
+  /// Pages to write to this output, e.g. `1-3,5`. Page numbers are one-based.
+  var pageRanges: String
+  /// Path where the output document will be written.
+  var outputPath: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentSplitTarget? {
+    let pageRanges = pigeonVar_list[0] as! String
+    let outputPath = pigeonVar_list[1] as! String
+
+    return DocumentSplitTarget(
+      pageRanges: pageRanges,
+      outputPath: outputPath
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageRanges,
+      outputPath,
+    ]
   }
 }
 
-private class NutrientApiPigeonCodecReaderWriter: FlutterStandardReaderWriter {
-  override func reader(with data: Data) -> FlutterStandardReader {
-    return NutrientApiPigeonCodecReader(data: data)
+/// Limits annotation processing to a set of pages and annotation types.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct AnnotationProcessingScope {
+  /// Pages to process, e.g. `1-3,5,8-`. Page numbers are one-based.
+  var pageRanges: String
+  /// Annotation types to process on these pages. All annotation types are
+  /// processed when null or when the list contains [AnnotationType.all].
+  /// [AnnotationType.none] selects no annotations.
+  var types: [AnnotationType]? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> AnnotationProcessingScope? {
+    let pageRanges = pigeonVar_list[0] as! String
+    let types: [AnnotationType]? = nilOrValue(pigeonVar_list[1])
+
+    return AnnotationProcessingScope(
+      pageRanges: pageRanges,
+      types: types
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageRanges,
+      types,
+    ]
   }
+}
 
-  override func writer(with data: NSMutableData) -> FlutterStandardWriter {
-    return NutrientApiPigeonCodecWriter(data: data)
+/// The artifacts to produce with [PdfDocumentApi.exportArtifacts].
+/// An artifact is skipped when its path is null.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentExportRequest {
+  /// Path for a copy of the document with all annotations flattened.
+  var flattenedPdfPath: String? = nil
+  /// Path for an XFDF file containing the annotations and form fields.
+  var xfdfPath: String? = nil
+  /// Path for an Instant JSON snapshot of the document changes.
+  var instantJsonPath: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentExportRequest? {
+    let flattenedPdfPath: String? = nilOrValue(pigeonVar_list[0])
+    let xfdfPath: String? = nilOrValue(pigeonVar_list[1])
+    let instantJsonPath: String? = nilOrValue(pigeonVar_list[2])
+
+    return DocumentExportRequest(
+      flattenedPdfPath: flattenedPdfPath,
+      xfdfPath: xfdfPath,
+      instantJsonPath: instantJsonPath
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      flattenedPdfPath,
+      xfdfPath,
+      instantJsonPath,
+    ]
   }
 }
 
-class NutrientApiPigeonCodec: FlutterStandardMessageCodec, @unchecked Sendable {
-  static let shared = NutrientApiPigeonCodec(readerWriter: NutrientApiPigeonCodecReaderWriter())
+/// An artifact written by [PdfDocumentApi.exportArtifacts].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentExportResult {
+  /// The kind of artifact: `flattenedPdf`, `xfdf` or `instantJson`.
+  var artifact: String
+  /// Path the artifact was written to.
+  var outputPath: String
+  /// Time spent writing the artifact, in milliseconds.
+  var durationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentExportResult? {
+    let artifact = pigeonVar_list[0] as! String
+    let outputPath = pigeonVar_list[1] as! String
+    let durationMs = pigeonVar_list[2] as! Int64
+
+    return DocumentExportResult(
+      artifact: artifact,
+      outputPath: outputPath,
+      durationMs: durationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      artifact,
+      outputPath,
+      durationMs,
+    ]
+  }
 }
 
+/// Describes a pattern based redaction run by [PdfDocumentApi.redactPatterns].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct RedactionRequest {
+  /// Regular expressions to search for, e.g. `\d{3}-\d{2}-\d{4}` for SSNs.
+  var patterns: [String]
+  /// Whether the patterns are case sensitive. Defaults to true.
+  var caseSensitive: Bool? = nil
+  /// Pages to scan, e.g. `1-3,5`. Page numbers are one-based. All pages when null.
+  var pageRanges: String? = nil
+  /// When set, the redactions are applied and the redacted document is written
+  /// to this path, leaving the document itself unchanged. Otherwise the
+  /// redaction annotations are only added.
+  var outputPath: String? = nil
+
 
-/// The API for interacting with a PDF document.
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> RedactionRequest? {
+    let patterns = pigeonVar_list[0] as! [String]
+    let caseSensitive: Bool? = nilOrValue(pigeonVar_list[1])
+    let pageRanges: String? = nilOrValue(pigeonVar_list[2])
+    let outputPath: String? = nilOrValue(pigeonVar_list[3])
+
+    return RedactionRequest(
+      patterns: patterns,
+      caseSensitive: caseSensitive,
+      pageRanges: pageRanges,
+      outputPath: outputPath
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      patterns,
+      caseSensitive,
+      pageRanges,
+      outputPath,
+    ]
+  }
+}
+
+/// Number of redaction matches found on a page.
 ///
-/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
-protocol NutrientApi {
-  func getFrameworkVersion(completion: @escaping (Result<String?, Error>) -> Void)
-  func setLicenseKey(licenseKey: String?, completion: @escaping (Result<Void, Error>) -> Void)
-  func setLicenseKeys(androidLicenseKey: String?, iOSLicenseKey: String?, webLicenseKey: String?, completion: @escaping (Result<Void, Error>) -> Void)
-  func present(document: String, configuration: [String: Any]?, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func presentInstant(serverUrl: String, jwt: String, configuration: [String: Any]?, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func setFormFieldValue(value: String, fullyQualifiedName: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func getFormFieldValue(fullyQualifiedName: String, completion: @escaping (Result<String?, Error>) -> Void)
-  func applyInstantJson(annotationsJson: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func exportInstantJson(completion: @escaping (Result<String?, Error>) -> Void)
-  func addAnnotation(annotation: String, attachment: String?, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func removeAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  func getAnnotationsJson(pageIndex: Int64, type: String, completion: @escaping (Result<String?, Error>) -> Void)
-  /// Returns a JSON string containing all unsaved annotations in the presented document.
-  /// The JSON string can be decoded to the appropriate type on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  func getAllUnsavedAnnotationsJson(completion: @escaping (Result<String?, Error>) -> Void)
-  func updateAnnotation(annotation: String, completion: @escaping (Result<Void, Error>) -> Void)
-  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func importXfdf(xfdfString: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func exportXfdf(xfdfPath: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func save(completion: @escaping (Result<Bool?, Error>) -> Void)
-  func setDelayForSyncingLocalChanges(delay: Double, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func setListenToServerChanges(listen: Bool, completion: @escaping (Result<Bool?, Error>) -> Void)
-  func syncAnnotations(completion: @escaping (Result<Bool?, Error>) -> Void)
-  func checkAndroidWriteExternalStoragePermission(completion: @escaping (Result<Bool?, Error>) -> Void)
-  func requestAndroidWriteExternalStoragePermission(completion: @escaping (Result<AndroidPermissionStatus, Error>) -> Void)
-  func openAndroidSettings(completion: @escaping (Result<Void, Error>) -> Void)
-  func setAnnotationPresetConfigurations(configurations: [String: Any?], completion: @escaping (Result<Bool?, Error>) -> Void)
-  func getTemporaryDirectory(completion: @escaping (Result<String, Error>) -> Void)
-  func setAuthorName(name: String, completion: @escaping (Result<Void, Error>) -> Void)
-  func getAuthorName(completion: @escaping (Result<String, Error>) -> Void)
-  /// Generate PDF from Images, Template, and Patterns.
-  /// [pages]: [NewPage]s to be added to the PDF.
-  /// [outputPath]: The path to the output file.
-  /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
-  func generatePdf(pages: [[String: Any]], outputPath: String, completion: @escaping (Result<String?, Error>) -> Void)
-  /// Generates a PDF from HTML string.
-  ///
-  /// [html]: The HTML string to be converted to PDF.
-  /// [outPutFile]: The path to the output file.
-  /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
-  func generatePdfFromHtmlString(html: String, outPutFile: String, options: [String: Any]?, completion: @escaping (Result<String?, Error>) -> Void)
-  func generatePdfFromHtmlUri(htmlUri: String, outPutFile: String, options: [String: Any]?, completion: @escaping (Result<String?, Error>) -> Void)
-  /// Configure Nutrient Analytics events.
-  func enableAnalyticsEvents(enable: Bool) throws
-  /// Sets the annotation menu configuration for the global presenter.
-  /// This configuration applies to all annotation menus in presented documents.
-  ///
-  /// @param configuration The annotation menu configuration to apply.
-  /// @return True if the configuration was set successfully, false otherwise.
-  func setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, completion: @escaping (Result<Bool?, Error>) -> Void)
+/// Generated class from Pigeon that represents data sent in messages.
+struct RedactionPageResult {
+  /// Zero-based page index.
+  var pageIndex: Int64
+  /// Number of matches found on the page.
+  var matchCount: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> RedactionPageResult? {
+    let pageIndex = pigeonVar_list[0] as! Int64
+    let matchCount = pigeonVar_list[1] as! Int64
+
+    return RedactionPageResult(
+      pageIndex: pageIndex,
+      matchCount: matchCount
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageIndex,
+      matchCount,
+    ]
+  }
 }
 
-/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
-class NutrientApiSetup {
-  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
-  /// Sets up an instance of `NutrientApi` to handle messages through the `binaryMessenger`.
-  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: NutrientApi?, messageChannelSuffix: String = "") {
-    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
-    let getFrameworkVersionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+/// Result of [PdfDocumentApi.redactPatterns].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct RedactionResult {
+  /// Pages that contained at least one match, in page order.
+  var pages: [RedactionPageResult]
+  /// Total number of matches across all pages.
+  var totalMatches: Int64
+  /// Number of pages that were scanned.
+  var pagesScanned: Int64
+  /// Total time spent scanning, redacting and writing, in milliseconds.
+  var durationMs: Int64
+  /// Scan throughput in pages per second, excluding redacting and writing.
+  var pagesPerSecond: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> RedactionResult? {
+    let pages = pigeonVar_list[0] as! [RedactionPageResult]
+    let totalMatches = pigeonVar_list[1] as! Int64
+    let pagesScanned = pigeonVar_list[2] as! Int64
+    let durationMs = pigeonVar_list[3] as! Int64
+    let pagesPerSecond = pigeonVar_list[4] as! Double
+
+    return RedactionResult(
+      pages: pages,
+      totalMatches: totalMatches,
+      pagesScanned: pagesScanned,
+      durationMs: durationMs,
+      pagesPerSecond: pagesPerSecond
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pages,
+      totalMatches,
+      pagesScanned,
+      durationMs,
+      pagesPerSecond,
+    ]
+  }
+}
+
+/// Budget for the pool of resident headless documents. Null values keep the
+/// current setting.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentPoolConfiguration {
+  /// Maximum number of documents kept loaded at the same time. Defaults to 16.
+  var maxResidentDocuments: Int64? = nil
+  /// Maximum estimated memory of loaded documents, based on their file size.
+  /// Defaults to 256 MB, 0 disables the memory budget.
+  var maxResidentBytes: Int64? = nil
+  /// Time after which an unused document is released, in milliseconds.
+  /// Defaults to 5 minutes, 0 disables the idle timeout.
+  var idleTimeoutMs: Int64? = nil
+  /// Time after which an unused document is closed as if
+  /// [PdfDocumentApi.closeDocument] was called, in milliseconds. Its ID
+  /// becomes invalid. Pinned documents and documents with unsaved changes are
+  /// never closed. Defaults to 0, which disables the close timeout.
+  var closeTimeoutMs: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentPoolConfiguration? {
+    let maxResidentDocuments: Int64? = nilOrValue(pigeonVar_list[0])
+    let maxResidentBytes: Int64? = nilOrValue(pigeonVar_list[1])
+    let idleTimeoutMs: Int64? = nilOrValue(pigeonVar_list[2])
+    let closeTimeoutMs: Int64? = nilOrValue(pigeonVar_list[3])
+
+    return DocumentPoolConfiguration(
+      maxResidentDocuments: maxResidentDocuments,
+      maxResidentBytes: maxResidentBytes,
+      idleTimeoutMs: idleTimeoutMs,
+      closeTimeoutMs: closeTimeoutMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      maxResidentDocuments,
+      maxResidentBytes,
+      idleTimeoutMs,
+      closeTimeoutMs,
+    ]
+  }
+}
+
+/// Gauges of the pool of headless documents.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentPoolStatistics {
+  /// Number of open headless documents, including released ones.
+  var registeredDocuments: Int64
+  /// Number of loaded documents. Handles sharing a document count once.
+  var residentDocuments: Int64
+  /// Number of pinned documents.
+  var pinnedDocuments: Int64
+  /// Estimated memory of the loaded documents, based on their file or data
+  /// size. Handles sharing a document count once.
+  var residentBytes: Int64
+  /// Number of handles released to stay within budget or after being idle.
+  var evictions: Int64
+  /// Number of times a released document was reopened on access.
+  var reopens: Int64
+  /// Number of documents closed after being unused for the close timeout.
+  var closes: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentPoolStatistics? {
+    let registeredDocuments = pigeonVar_list[0] as! Int64
+    let residentDocuments = pigeonVar_list[1] as! Int64
+    let pinnedDocuments = pigeonVar_list[2] as! Int64
+    let residentBytes = pigeonVar_list[3] as! Int64
+    let evictions = pigeonVar_list[4] as! Int64
+    let reopens = pigeonVar_list[5] as! Int64
+    let closes = pigeonVar_list[6] as! Int64
+
+    return DocumentPoolStatistics(
+      registeredDocuments: registeredDocuments,
+      residentDocuments: residentDocuments,
+      pinnedDocuments: pinnedDocuments,
+      residentBytes: residentBytes,
+      evictions: evictions,
+      reopens: reopens,
+      closes: closes
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      registeredDocuments,
+      residentDocuments,
+      pinnedDocuments,
+      residentBytes,
+      evictions,
+      reopens,
+      closes,
+    ]
+  }
+}
+
+/// Data to preload in the background right after a headless document was
+/// opened, so the first call that needs it does not pay the loading cost.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentWarmUpOptions {
+  /// Preloads the form fields.
+  var formFields: Bool? = nil
+  /// Preloads the size, rotation and label of every page.
+  var pageInfo: Bool? = nil
+  /// Preloads the document outline and the bookmarks.
+  var outline: Bool? = nil
+  /// Preloads the annotations of every page.
+  var annotations: Bool? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentWarmUpOptions? {
+    let formFields: Bool? = nilOrValue(pigeonVar_list[0])
+    let pageInfo: Bool? = nilOrValue(pigeonVar_list[1])
+    let outline: Bool? = nilOrValue(pigeonVar_list[2])
+    let annotations: Bool? = nilOrValue(pigeonVar_list[3])
+
+    return DocumentWarmUpOptions(
+      formFields: formFields,
+      pageInfo: pageInfo,
+      outline: outline,
+      annotations: annotations
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      formFields,
+      pageInfo,
+      outline,
+      annotations,
+    ]
+  }
+}
+
+/// Timing of a single warm-up phase.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct WarmUpPhaseTiming {
+  /// The phase: `formFields`, `pageInfo`, `outline` or `annotations`.
+  var phase: String
+  /// Time the phase took, in milliseconds.
+  var durationMs: Int64
+  /// Error message if the phase failed, null otherwise.
+  var error: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> WarmUpPhaseTiming? {
+    let phase = pigeonVar_list[0] as! String
+    let durationMs = pigeonVar_list[1] as! Int64
+    let error: String? = nilOrValue(pigeonVar_list[2])
+
+    return WarmUpPhaseTiming(
+      phase: phase,
+      durationMs: durationMs,
+      error: error
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      phase,
+      durationMs,
+      error,
+    ]
+  }
+}
+
+/// Result of the warm-up requested with [DocumentWarmUpOptions].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentWarmUpResult {
+  /// The requested phases, in the order formFields, pageInfo, outline,
+  /// annotations. Empty if no warm-up was requested.
+  var phases: [WarmUpPhaseTiming]
+  /// Wall clock time of the whole warm-up, in milliseconds. Phases run
+  /// concurrently, so this can be less than the sum of the phases.
+  var totalDurationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentWarmUpResult? {
+    let phases = pigeonVar_list[0] as! [WarmUpPhaseTiming]
+    let totalDurationMs = pigeonVar_list[1] as! Int64
+
+    return DocumentWarmUpResult(
+      phases: phases,
+      totalDurationMs: totalDurationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      phases,
+      totalDurationMs,
+    ]
+  }
+}
+
+/// A document to open with [HeadlessDocumentApi.openDocuments].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentOpenRequest {
+  /// Path to the PDF document (file path or content:// URI).
+  var documentPath: String
+  /// Optional settings like password for encrypted documents.
+  var options: HeadlessDocumentOpenOptions? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentOpenRequest? {
+    let documentPath = pigeonVar_list[0] as! String
+    let options: HeadlessDocumentOpenOptions? = nilOrValue(pigeonVar_list[1])
+
+    return DocumentOpenRequest(
+      documentPath: documentPath,
+      options: options
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      documentPath,
+      options,
+    ]
+  }
+}
+
+/// Outcome of opening one document of [HeadlessDocumentApi.openDocuments].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct DocumentOpenResult {
+  /// Index of the document in the requested list.
+  var index: Int64
+  /// Path of the requested document.
+  var documentPath: String
+  /// Document ID for use with PdfDocumentApi, null if opening failed.
+  var documentId: String? = nil
+  /// Error code if opening failed, e.g. `InvalidDocumentPath`.
+  var errorCode: String? = nil
+  /// Error message if opening failed.
+  var errorMessage: String? = nil
+  /// Time from starting to load the document until it was registered, in
+  /// milliseconds.
+  var durationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> DocumentOpenResult? {
+    let index = pigeonVar_list[0] as! Int64
+    let documentPath = pigeonVar_list[1] as! String
+    let documentId: String? = nilOrValue(pigeonVar_list[2])
+    let errorCode: String? = nilOrValue(pigeonVar_list[3])
+    let errorMessage: String? = nilOrValue(pigeonVar_list[4])
+    let durationMs = pigeonVar_list[5] as! Int64
+
+    return DocumentOpenResult(
+      index: index,
+      documentPath: documentPath,
+      documentId: documentId,
+      errorCode: errorCode,
+      errorMessage: errorMessage,
+      durationMs: durationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      index,
+      documentPath,
+      documentId,
+      errorCode,
+      errorMessage,
+      durationMs,
+    ]
+  }
+}
+
+/// Options for [PdfDocumentApi.renderPage].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PageRenderOptions {
+  /// Image format: `png`, `jpeg` or `webp`. Defaults to `png`.
+  var format: String? = nil
+  /// Compression quality from 0 to 100 for `jpeg` and `webp`. Defaults to 90.
+  var quality: Int64? = nil
+  /// Writes the image to this path instead of returning its bytes.
+  var outputPath: String? = nil
+  /// Writes the image to a temporary file in the app cache directory instead
+  /// of returning its bytes.
+  /// Ignored if [outputPath] is set.
+  var asFile: Bool? = nil
+  /// Whether annotations are rendered. Defaults to true.
+  var renderAnnotations: Bool? = nil
+  /// Page background color as ARGB integer. Defaults to the paper color.
+  var backgroundColor: Int64? = nil
+  /// Whether the rendered page may be served from and stored in the in-memory
+  /// page cache. Defaults to true.
+  var useCache: Bool? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PageRenderOptions? {
+    let format: String? = nilOrValue(pigeonVar_list[0])
+    let quality: Int64? = nilOrValue(pigeonVar_list[1])
+    let outputPath: String? = nilOrValue(pigeonVar_list[2])
+    let asFile: Bool? = nilOrValue(pigeonVar_list[3])
+    let renderAnnotations: Bool? = nilOrValue(pigeonVar_list[4])
+    let backgroundColor: Int64? = nilOrValue(pigeonVar_list[5])
+    let useCache: Bool? = nilOrValue(pigeonVar_list[6])
+
+    return PageRenderOptions(
+      format: format,
+      quality: quality,
+      outputPath: outputPath,
+      asFile: asFile,
+      renderAnnotations: renderAnnotations,
+      backgroundColor: backgroundColor,
+      useCache: useCache
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      format,
+      quality,
+      outputPath,
+      asFile,
+      renderAnnotations,
+      backgroundColor,
+      useCache,
+    ]
+  }
+}
+
+/// A page image rendered by [PdfDocumentApi.renderPage].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct RenderedPage {
+  /// Zero-based index of the rendered page.
+  var pageIndex: Int64
+  /// Width of the image in pixels.
+  var width: Int64
+  /// Height of the image in pixels.
+  var height: Int64
+  /// Image format of the encoded image.
+  var format: String
+  /// The encoded image, null if it was written to a file.
+  var imageData: FlutterStandardTypedData? = nil
+  /// Path of the image file, null if the image bytes are returned.
+  var filePath: String? = nil
+  /// Whether the page was served from the page cache without rendering.
+  var fromCache: Bool
+  /// Time to render and encode the page, in milliseconds.
+  var durationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> RenderedPage? {
+    let pageIndex = pigeonVar_list[0] as! Int64
+    let width = pigeonVar_list[1] as! Int64
+    let height = pigeonVar_list[2] as! Int64
+    let format = pigeonVar_list[3] as! String
+    let imageData: FlutterStandardTypedData? = nilOrValue(pigeonVar_list[4])
+    let filePath: String? = nilOrValue(pigeonVar_list[5])
+    let fromCache = pigeonVar_list[6] as! Bool
+    let durationMs = pigeonVar_list[7] as! Int64
+
+    return RenderedPage(
+      pageIndex: pageIndex,
+      width: width,
+      height: height,
+      format: format,
+      imageData: imageData,
+      filePath: filePath,
+      fromCache: fromCache,
+      durationMs: durationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageIndex,
+      width,
+      height,
+      format,
+      imageData,
+      filePath,
+      fromCache,
+      durationMs,
+    ]
+  }
+}
+
+/// A page thumbnail from the thumbnail cache.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct ThumbnailResult {
+  /// Zero-based index of the page.
+  var pageIndex: Int64
+  /// Path of the PNG image in the thumbnail cache. The file may be deleted when
+  /// the cache is trimmed, copy it to keep it.
+  var filePath: String
+  /// Width of the thumbnail in pixels.
+  var width: Int64
+  /// Height of the thumbnail in pixels.
+  var height: Int64
+  /// Whether the thumbnail was already cached on disk.
+  var fromCache: Bool
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> ThumbnailResult? {
+    let pageIndex = pigeonVar_list[0] as! Int64
+    let filePath = pigeonVar_list[1] as! String
+    let width = pigeonVar_list[2] as! Int64
+    let height = pigeonVar_list[3] as! Int64
+    let fromCache = pigeonVar_list[4] as! Bool
+
+    return ThumbnailResult(
+      pageIndex: pageIndex,
+      filePath: filePath,
+      width: width,
+      height: height,
+      fromCache: fromCache
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageIndex,
+      filePath,
+      width,
+      height,
+      fromCache,
+    ]
+  }
+}
+
+/// The text of one page.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PageText {
+  /// Zero-based index of the page.
+  var pageIndex: Int64
+  /// The extracted text, in reading order.
+  var text: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PageText? {
+    let pageIndex = pigeonVar_list[0] as! Int64
+    let text = pigeonVar_list[1] as! String
+
+    return PageText(
+      pageIndex: pageIndex,
+      text: text
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageIndex,
+      text,
+    ]
+  }
+}
+
+/// A group of consecutive pages sent by [PdfDocumentApi.extractAllText].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PageTextChunk {
+  /// Zero-based index of the chunk.
+  var chunkIndex: Int64
+  /// The pages of the chunk, in page order.
+  var pages: [PageText]
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PageTextChunk? {
+    let chunkIndex = pigeonVar_list[0] as! Int64
+    let pages = pigeonVar_list[1] as! [PageText]
+
+    return PageTextChunk(
+      chunkIndex: chunkIndex,
+      pages: pages
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      chunkIndex,
+      pages,
+    ]
+  }
+}
+
+/// Totals of a finished [PdfDocumentApi.extractAllText] run.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct TextExtractionSummary {
+  /// Number of pages extracted.
+  var pageCount: Int64
+  /// Number of chunks sent.
+  var chunkCount: Int64
+  /// Total number of characters extracted.
+  var characterCount: Int64
+  /// Time the extraction took, in milliseconds.
+  var durationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TextExtractionSummary? {
+    let pageCount = pigeonVar_list[0] as! Int64
+    let chunkCount = pigeonVar_list[1] as! Int64
+    let characterCount = pigeonVar_list[2] as! Int64
+    let durationMs = pigeonVar_list[3] as! Int64
+
+    return TextExtractionSummary(
+      pageCount: pageCount,
+      chunkCount: chunkCount,
+      characterCount: characterCount,
+      durationMs: durationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageCount,
+      chunkCount,
+      characterCount,
+      durationMs,
+    ]
+  }
+}
+
+/// Options for [PdfDocumentApi.searchText].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct TextSearchOptions {
+  /// Whether letter case must match. Defaults to false.
+  var caseSensitive: Bool? = nil
+  /// Stops the search after this many hits. Unlimited by default.
+  var maxResults: Int64? = nil
+  /// Number of characters before and after a hit included in its preview.
+  /// Defaults to 40.
+  var contextLength: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TextSearchOptions? {
+    let caseSensitive: Bool? = nilOrValue(pigeonVar_list[0])
+    let maxResults: Int64? = nilOrValue(pigeonVar_list[1])
+    let contextLength: Int64? = nilOrValue(pigeonVar_list[2])
+
+    return TextSearchOptions(
+      caseSensitive: caseSensitive,
+      maxResults: maxResults,
+      contextLength: contextLength
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      caseSensitive,
+      maxResults,
+      contextLength,
+    ]
+  }
+}
+
+/// One occurrence of the search query.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct TextSearchHit {
+  /// Offset of the hit in the page text, see [PdfDocumentApi.getPageText].
+  var offset: Int64
+  /// Length of the hit in characters.
+  var length: Int64
+  /// The hit and the text around it, with line breaks replaced by spaces.
+  var preview: String
+  /// Offset of the hit in [preview].
+  var previewOffset: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TextSearchHit? {
+    let offset = pigeonVar_list[0] as! Int64
+    let length = pigeonVar_list[1] as! Int64
+    let preview = pigeonVar_list[2] as! String
+    let previewOffset = pigeonVar_list[3] as! Int64
+
+    return TextSearchHit(
+      offset: offset,
+      length: length,
+      preview: preview,
+      previewOffset: previewOffset
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      offset,
+      length,
+      preview,
+      previewOffset,
+    ]
+  }
+}
+
+/// The hits of [PdfDocumentApi.searchText] on one page.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct TextSearchPageResult {
+  /// Zero-based index of the page.
+  var pageIndex: Int64
+  /// The hits on the page, in reading order.
+  var hits: [TextSearchHit]
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TextSearchPageResult? {
+    let pageIndex = pigeonVar_list[0] as! Int64
+    let hits = pigeonVar_list[1] as! [TextSearchHit]
+
+    return TextSearchPageResult(
+      pageIndex: pageIndex,
+      hits: hits
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      pageIndex,
+      hits,
+    ]
+  }
+}
+
+/// Totals of a finished [PdfDocumentApi.searchText] run.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct TextSearchSummary {
+  /// Number of hits found.
+  var hitCount: Int64
+  /// Number of pages with hits.
+  var pageCount: Int64
+  /// Whether hits were left out because of [TextSearchOptions.maxResults].
+  var truncated: Bool
+  /// Time the search took, including building the index if needed, in
+  /// milliseconds.
+  var durationMs: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TextSearchSummary? {
+    let hitCount = pigeonVar_list[0] as! Int64
+    let pageCount = pigeonVar_list[1] as! Int64
+    let truncated = pigeonVar_list[2] as! Bool
+    let durationMs = pigeonVar_list[3] as! Int64
+
+    return TextSearchSummary(
+      hitCount: hitCount,
+      pageCount: pageCount,
+      truncated: truncated,
+      durationMs: durationMs
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      hitCount,
+      pageCount,
+      truncated,
+      durationMs,
+    ]
+  }
+}
+
+/// A form field value that could not be set by a batch write.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormFieldWriteError {
+  /// Fully qualified name of the field.
+  var fullyQualifiedName: String
+  /// Error code, e.g. `FormFieldNotFound` or `InvalidValue`.
+  var errorCode: String
+  /// Description of the error.
+  var message: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormFieldWriteError? {
+    let fullyQualifiedName = pigeonVar_list[0] as! String
+    let errorCode = pigeonVar_list[1] as! String
+    let message = pigeonVar_list[2] as! String
+
+    return FormFieldWriteError(
+      fullyQualifiedName: fullyQualifiedName,
+      errorCode: errorCode,
+      message: message
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fullyQualifiedName,
+      errorCode,
+      message,
+    ]
+  }
+}
+
+/// The typed value of a form field.
+///
+/// Only the members that apply to [type] are set.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormFieldValue {
+  /// Fully qualified name of the field.
+  var fullyQualifiedName: String
+  /// Type of the field.
+  var type: PdfFormFieldTypes
+  /// Text of a text field, or the custom text of an editable combo box.
+  var text: String? = nil
+  /// Whether a checkbox is checked, or whether any button of a radio group is
+  /// selected.
+  var isSelected: Bool? = nil
+  /// Selected option indexes of a list or combo box, or the index of the
+  /// selected button of a radio group.
+  var selectedIndexes: [Int64]? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormFieldValue? {
+    let fullyQualifiedName = pigeonVar_list[0] as! String
+    let type = pigeonVar_list[1] as! PdfFormFieldTypes
+    let text: String? = nilOrValue(pigeonVar_list[2])
+    let isSelected: Bool? = nilOrValue(pigeonVar_list[3])
+    let selectedIndexes: [Int64]? = nilOrValue(pigeonVar_list[4])
+
+    return FormFieldValue(
+      fullyQualifiedName: fullyQualifiedName,
+      type: type,
+      text: text,
+      isSelected: isSelected,
+      selectedIndexes: selectedIndexes
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fullyQualifiedName,
+      type,
+      text,
+      isSelected,
+      selectedIndexes,
+    ]
+  }
+}
+
+/// Describes a mail merge run with [HeadlessDocumentApi.mailMerge].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct MailMergeRequest {
+  /// Path to the PDF form used as template (file path or content:// URI).
+  var templatePath: String
+  /// Password of the template, if it is encrypted.
+  var templatePassword: String? = nil
+  /// Path to the dataset, a CSV file with a header row or a JSON array of
+  /// objects. Column names and object keys are fully qualified form field names.
+  var dataPath: String
+  /// Format of the dataset, `csv` or `json`. Inferred from the extension of
+  /// [dataPath] when null.
+  var dataFormat: String? = nil
+  /// Directory where the filled documents are written. Created if needed.
+  var outputDirectory: String
+  /// Name of each output file. `{row}` is replaced by the one-based row number
+  /// and `{<column>}` by the value of that column. `row-{row}.pdf` when null.
+  var fileNamePattern: String? = nil
+  /// Whether to flatten the form fields of the outputs.
+  var flatten: Bool? = nil
+  /// Maximum number of rows processed at the same time. 4 when null.
+  var maxConcurrency: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> MailMergeRequest? {
+    let templatePath = pigeonVar_list[0] as! String
+    let templatePassword: String? = nilOrValue(pigeonVar_list[1])
+    let dataPath = pigeonVar_list[2] as! String
+    let dataFormat: String? = nilOrValue(pigeonVar_list[3])
+    let outputDirectory = pigeonVar_list[4] as! String
+    let fileNamePattern: String? = nilOrValue(pigeonVar_list[5])
+    let flatten: Bool? = nilOrValue(pigeonVar_list[6])
+    let maxConcurrency: Int64? = nilOrValue(pigeonVar_list[7])
+
+    return MailMergeRequest(
+      templatePath: templatePath,
+      templatePassword: templatePassword,
+      dataPath: dataPath,
+      dataFormat: dataFormat,
+      outputDirectory: outputDirectory,
+      fileNamePattern: fileNamePattern,
+      flatten: flatten,
+      maxConcurrency: maxConcurrency
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      templatePath,
+      templatePassword,
+      dataPath,
+      dataFormat,
+      outputDirectory,
+      fileNamePattern,
+      flatten,
+      maxConcurrency,
+    ]
+  }
+}
+
+/// A dataset row that could not be written by a mail merge.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct MailMergeRowError {
+  /// Zero-based index of the row in the dataset, not counting the CSV header.
+  var rowIndex: Int64
+  /// Error code, e.g. `InvalidValue` or `MailMergeError`.
+  var errorCode: String
+  /// Description of the error.
+  var message: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> MailMergeRowError? {
+    let rowIndex = pigeonVar_list[0] as! Int64
+    let errorCode = pigeonVar_list[1] as! String
+    let message = pigeonVar_list[2] as! String
+
+    return MailMergeRowError(
+      rowIndex: rowIndex,
+      errorCode: errorCode,
+      message: message
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      rowIndex,
+      errorCode,
+      message,
+    ]
+  }
+}
+
+/// Outcome of [HeadlessDocumentApi.mailMerge].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct MailMergeResult {
+  /// Number of rows in the dataset.
+  var rowCount: Int64
+  /// Path of the document written for each row, null for failed rows.
+  var outputPaths: [String?]
+  /// Rows that failed, in row order.
+  var errors: [MailMergeRowError]
+  /// Duration of the whole run in milliseconds.
+  var durationMs: Int64
+  /// Number of rows processed per second.
+  var rowsPerSecond: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> MailMergeResult? {
+    let rowCount = pigeonVar_list[0] as! Int64
+    let outputPaths = pigeonVar_list[1] as! [String?]
+    let errors = pigeonVar_list[2] as! [MailMergeRowError]
+    let durationMs = pigeonVar_list[3] as! Int64
+    let rowsPerSecond = pigeonVar_list[4] as! Double
+
+    return MailMergeResult(
+      rowCount: rowCount,
+      outputPaths: outputPaths,
+      errors: errors,
+      durationMs: durationMs,
+      rowsPerSecond: rowsPerSecond
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      rowCount,
+      outputPaths,
+      errors,
+      durationMs,
+      rowsPerSecond,
+    ]
+  }
+}
+
+/// A validation rule for one form field, see [PdfDocumentApi.setFormValidationRules].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormValidationRule {
+  /// Fully qualified name of the validated field.
+  var fullyQualifiedName: String
+  /// Kind of rule: `required`, `pattern`, `range` or `equals`.
+  var ruleType: String
+  /// Regular expression the whole value must match, for `pattern` rules.
+  var pattern: String? = nil
+  /// Smallest allowed number, for `range` rules.
+  var minimum: Double? = nil
+  /// Largest allowed number, for `range` rules.
+  var maximum: Double? = nil
+  /// Fully qualified name of the field the value must equal, for `equals`
+  /// rules.
+  var otherFieldName: String? = nil
+  /// Message reported when the rule is violated. A default message is used
+  /// when null.
+  var message: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormValidationRule? {
+    let fullyQualifiedName = pigeonVar_list[0] as! String
+    let ruleType = pigeonVar_list[1] as! String
+    let pattern: String? = nilOrValue(pigeonVar_list[2])
+    let minimum: Double? = nilOrValue(pigeonVar_list[3])
+    let maximum: Double? = nilOrValue(pigeonVar_list[4])
+    let otherFieldName: String? = nilOrValue(pigeonVar_list[5])
+    let message: String? = nilOrValue(pigeonVar_list[6])
+
+    return FormValidationRule(
+      fullyQualifiedName: fullyQualifiedName,
+      ruleType: ruleType,
+      pattern: pattern,
+      minimum: minimum,
+      maximum: maximum,
+      otherFieldName: otherFieldName,
+      message: message
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fullyQualifiedName,
+      ruleType,
+      pattern,
+      minimum,
+      maximum,
+      otherFieldName,
+      message,
+    ]
+  }
+}
+
+/// A violated [FormValidationRule].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormValidationViolation {
+  /// Fully qualified name of the invalid field.
+  var fullyQualifiedName: String
+  /// Kind of the violated rule.
+  var ruleType: String
+  /// Message of the violated rule.
+  var message: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormValidationViolation? {
+    let fullyQualifiedName = pigeonVar_list[0] as! String
+    let ruleType = pigeonVar_list[1] as! String
+    let message = pigeonVar_list[2] as! String
+
+    return FormValidationViolation(
+      fullyQualifiedName: fullyQualifiedName,
+      ruleType: ruleType,
+      message: message
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fullyQualifiedName,
+      ruleType,
+      message,
+    ]
+  }
+}
+
+/// Progress of a form data import or export, sent after every chunk.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormDataTransferProgress {
+  /// Number of fields processed so far.
+  var fieldCount: Int64
+  /// Number of fields that could not be imported so far.
+  var errorCount: Int64
+  /// Time since the transfer started, in milliseconds.
+  var elapsedMs: Int64
+  /// Fields processed per second so far.
+  var fieldsPerSecond: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormDataTransferProgress? {
+    let fieldCount = pigeonVar_list[0] as! Int64
+    let errorCount = pigeonVar_list[1] as! Int64
+    let elapsedMs = pigeonVar_list[2] as! Int64
+    let fieldsPerSecond = pigeonVar_list[3] as! Double
+
+    return FormDataTransferProgress(
+      fieldCount: fieldCount,
+      errorCount: errorCount,
+      elapsedMs: elapsedMs,
+      fieldsPerSecond: fieldsPerSecond
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fieldCount,
+      errorCount,
+      elapsedMs,
+      fieldsPerSecond,
+    ]
+  }
+}
+
+/// Outcome of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct FormDataTransferResult {
+  /// Number of fields that were imported or exported, including failed ones.
+  var fieldCount: Int64
+  /// The fields that could not be imported. Always empty for exports.
+  var errors: [FormFieldWriteError]
+  /// Duration of the whole transfer, in milliseconds.
+  var durationMs: Int64
+  /// Fields processed per second.
+  var fieldsPerSecond: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FormDataTransferResult? {
+    let fieldCount = pigeonVar_list[0] as! Int64
+    let errors = pigeonVar_list[1] as! [FormFieldWriteError]
+    let durationMs = pigeonVar_list[2] as! Int64
+    let fieldsPerSecond = pigeonVar_list[3] as! Double
+
+    return FormDataTransferResult(
+      fieldCount: fieldCount,
+      errors: errors,
+      durationMs: durationMs,
+      fieldsPerSecond: fieldsPerSecond
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      fieldCount,
+      errors,
+      durationMs,
+      fieldsPerSecond,
+    ]
+  }
+}
+
+/// Events of native PDF activities and Instant documents, in firing order.
+///
+/// The events are stored column by column, the i-th event is described by
+/// the i-th entry of every list, so the sender can reuse the same lists for
+/// every batch.
+///
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlatformEventBatch {
+  /// Kind of every event: `activityPaused`, `fragmentAdded`,
+  /// `documentLoaded`, `instantSyncStarted`, `instantSyncFinished`,
+  /// `instantSyncFailed`, `instantAuthenticationFinished` or
+  /// `instantAuthenticationFailed`.
+  var types: [String]
+  /// Document ID of every event, null for activity and fragment events.
+  var documentIds: [String?]
+  /// Error message of failure events and JWT of
+  /// `instantAuthenticationFinished` events, null for all other events.
+  var details: [String?]
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlatformEventBatch? {
+    let types = pigeonVar_list[0] as! [String]
+    let documentIds = pigeonVar_list[1] as! [String?]
+    let details = pigeonVar_list[2] as! [String?]
+
+    return PlatformEventBatch(
+      types: types,
+      documentIds: documentIds,
+      details: details
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      types,
+      documentIds,
+      details,
+    ]
+  }
+}
+
+private class NutrientApiPigeonCodecReader: FlutterStandardReader {
+  override func readValue(ofType type: UInt8) -> Any? {
+    switch type {
+    case 129:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AndroidPermissionStatus(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 130:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AnnotationType(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 131:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AnnotationTool(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 132:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AnnotationToolVariant(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 133:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AnnotationProcessingMode(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 134:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return DocumentPermissions(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 135:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return PdfVersion(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 136:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return PdfFormFieldTypes(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 137:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return NutrientEvent(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 138:
+      let enumResultAsInt: Int? = nilOrValue(self.readValue() as! Int?)
+      if let enumResultAsInt = enumResultAsInt {
+        return AnnotationMenuAction(rawValue: enumResultAsInt)
+      }
+      return nil
+    case 139:
+      return PdfRect.fromList(self.readValue() as! [Any?])
+    case 140:
+      return PageInfo.fromList(self.readValue() as! [Any?])
+    case 141:
+      return DocumentSaveOptions.fromList(self.readValue() as! [Any?])
+    case 142:
+      return PdfFormOption.fromList(self.readValue() as! [Any?])
+    case 143:
+      return FormFieldData.fromList(self.readValue() as! [Any?])
+    case 144:
+      return HeadlessDocumentOpenOptions.fromList(self.readValue() as! [Any?])
+    case 145:
+      return PointF.fromList(self.readValue() as! [Any?])
+    case 146:
+      return AnnotationMenuConfigurationData.fromList(self.readValue() as! [Any?])
+    case 147:
+      return AnnotationProperties.fromList(self.readValue() as! [Any?])
+    case 148:
+      return Bookmark.fromList(self.readValue() as! [Any?])
+    case 149:
+      return DocumentMergeSource.fromList(self.readValue() as! [Any?])
+    case 150:
+      return DocumentSplitTarget.fromList(self.readValue() as! [Any?])
+    case 151:
+      return AnnotationProcessingScope.fromList(self.readValue() as! [Any?])
+    case 152:
+      return DocumentExportRequest.fromList(self.readValue() as! [Any?])
+    case 153:
+      return DocumentExportResult.fromList(self.readValue() as! [Any?])
+    case 154:
+      return RedactionRequest.fromList(self.readValue() as! [Any?])
+    case 155:
+      return RedactionPageResult.fromList(self.readValue() as! [Any?])
+    case 156:
+      return RedactionResult.fromList(self.readValue() as! [Any?])
+    case 157:
+      return DocumentPoolConfiguration.fromList(self.readValue() as! [Any?])
+    case 158:
+      return DocumentPoolStatistics.fromList(self.readValue() as! [Any?])
+    case 159:
+      return DocumentWarmUpOptions.fromList(self.readValue() as! [Any?])
+    case 160:
+      return WarmUpPhaseTiming.fromList(self.readValue() as! [Any?])
+    case 161:
+      return DocumentWarmUpResult.fromList(self.readValue() as! [Any?])
+    case 162:
+      return DocumentOpenRequest.fromList(self.readValue() as! [Any?])
+    case 163:
+      return DocumentOpenResult.fromList(self.readValue() as! [Any?])
+    case 164:
+      return PageRenderOptions.fromList(self.readValue() as! [Any?])
+    case 165:
+      return RenderedPage.fromList(self.readValue() as! [Any?])
+    case 166:
+      return ThumbnailResult.fromList(self.readValue() as! [Any?])
+    case 167:
+      return PageText.fromList(self.readValue() as! [Any?])
+    case 168:
+      return PageTextChunk.fromList(self.readValue() as! [Any?])
+    case 169:
+      return TextExtractionSummary.fromList(self.readValue() as! [Any?])
+    case 170:
+      return TextSearchOptions.fromList(self.readValue() as! [Any?])
+    case 171:
+      return TextSearchHit.fromList(self.readValue() as! [Any?])
+    case 172:
+      return TextSearchPageResult.fromList(self.readValue() as! [Any?])
+    case 173:
+      return TextSearchSummary.fromList(self.readValue() as! [Any?])
+    case 174:
+      return FormFieldWriteError.fromList(self.readValue() as! [Any?])
+    case 175:
+      return FormFieldValue.fromList(self.readValue() as! [Any?])
+    case 176:
+      return MailMergeRequest.fromList(self.readValue() as! [Any?])
+    case 177:
+      return MailMergeRowError.fromList(self.readValue() as! [Any?])
+    case 178:
+      return MailMergeResult.fromList(self.readValue() as! [Any?])
+    case 179:
+      return FormValidationRule.fromList(self.readValue() as! [Any?])
+    case 180:
+      return FormValidationViolation.fromList(self.readValue() as! [Any?])
+    case 181:
+      return FormDataTransferProgress.fromList(self.readValue() as! [Any?])
+    case 182:
+      return FormDataTransferResult.fromList(self.readValue() as! [Any?])
+    case 183:
+      return PlatformEventBatch.fromList(self.readValue() as! [Any?])
+    default:
+      return super.readValue(ofType: type)
+    }
+  }
+}
+
+private class NutrientApiPigeonCodecWriter: FlutterStandardWriter {
+  override func writeValue(_ value: Any) {
+    if let value = value as? AndroidPermissionStatus {
+      super.writeByte(129)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? AnnotationType {
+      super.writeByte(130)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? AnnotationTool {
+      super.writeByte(131)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? AnnotationToolVariant {
+      super.writeByte(132)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? AnnotationProcessingMode {
+      super.writeByte(133)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? DocumentPermissions {
+      super.writeByte(134)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? PdfVersion {
+      super.writeByte(135)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? PdfFormFieldTypes {
+      super.writeByte(136)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? NutrientEvent {
+      super.writeByte(137)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? AnnotationMenuAction {
+      super.writeByte(138)
+      super.writeValue(value.rawValue)
+    } else if let value = value as? PdfRect {
+      super.writeByte(139)
+      super.writeValue(value.toList())
+    } else if let value = value as? PageInfo {
+      super.writeByte(140)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentSaveOptions {
+      super.writeByte(141)
+      super.writeValue(value.toList())
+    } else if let value = value as? PdfFormOption {
+      super.writeByte(142)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormFieldData {
+      super.writeByte(143)
+      super.writeValue(value.toList())
+    } else if let value = value as? HeadlessDocumentOpenOptions {
+      super.writeByte(144)
+      super.writeValue(value.toList())
+    } else if let value = value as? PointF {
+      super.writeByte(145)
+      super.writeValue(value.toList())
+    } else if let value = value as? AnnotationMenuConfigurationData {
+      super.writeByte(146)
+      super.writeValue(value.toList())
+    } else if let value = value as? AnnotationProperties {
+      super.writeByte(147)
+      super.writeValue(value.toList())
+    } else if let value = value as? Bookmark {
+      super.writeByte(148)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentMergeSource {
+      super.writeByte(149)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentSplitTarget {
+      super.writeByte(150)
+      super.writeValue(value.toList())
+    } else if let value = value as? AnnotationProcessingScope {
+      super.writeByte(151)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentExportRequest {
+      super.writeByte(152)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentExportResult {
+      super.writeByte(153)
+      super.writeValue(value.toList())
+    } else if let value = value as? RedactionRequest {
+      super.writeByte(154)
+      super.writeValue(value.toList())
+    } else if let value = value as? RedactionPageResult {
+      super.writeByte(155)
+      super.writeValue(value.toList())
+    } else if let value = value as? RedactionResult {
+      super.writeByte(156)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentPoolConfiguration {
+      super.writeByte(157)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentPoolStatistics {
+      super.writeByte(158)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentWarmUpOptions {
+      super.writeByte(159)
+      super.writeValue(value.toList())
+    } else if let value = value as? WarmUpPhaseTiming {
+      super.writeByte(160)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentWarmUpResult {
+      super.writeByte(161)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentOpenRequest {
+      super.writeByte(162)
+      super.writeValue(value.toList())
+    } else if let value = value as? DocumentOpenResult {
+      super.writeByte(163)
+      super.writeValue(value.toList())
+    } else if let value = value as? PageRenderOptions {
+      super.writeByte(164)
+      super.writeValue(value.toList())
+    } else if let value = value as? RenderedPage {
+      super.writeByte(165)
+      super.writeValue(value.toList())
+    } else if let value = value as? ThumbnailResult {
+      super.writeByte(166)
+      super.writeValue(value.toList())
+    } else if let value = value as? PageText {
+      super.writeByte(167)
+      super.writeValue(value.toList())
+    } else if let value = value as? PageTextChunk {
+      super.writeByte(168)
+      super.writeValue(value.toList())
+    } else if let value = value as? TextExtractionSummary {
+      super.writeByte(169)
+      super.writeValue(value.toList())
+    } else if let value = value as? TextSearchOptions {
+      super.writeByte(170)
+      super.writeValue(value.toList())
+    } else if let value = value as? TextSearchHit {
+      super.writeByte(171)
+      super.writeValue(value.toList())
+    } else if let value = value as? TextSearchPageResult {
+      super.writeByte(172)
+      super.writeValue(value.toList())
+    } else if let value = value as? TextSearchSummary {
+      super.writeByte(173)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormFieldWriteError {
+      super.writeByte(174)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormFieldValue {
+      super.writeByte(175)
+      super.writeValue(value.toList())
+    } else if let value = value as? MailMergeRequest {
+      super.writeByte(176)
+      super.writeValue(value.toList())
+    } else if let value = value as? MailMergeRowError {
+      super.writeByte(177)
+      super.writeValue(value.toList())
+    } else if let value = value as? MailMergeResult {
+      super.writeByte(178)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormValidationRule {
+      super.writeByte(179)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormValidationViolation {
+      super.writeByte(180)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormDataTransferProgress {
+      super.writeByte(181)
+      super.writeValue(value.toList())
+    } else if let value = value as? FormDataTransferResult {
+      super.writeByte(182)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlatformEventBatch {
+      super.writeByte(183)
+      super.writeValue(value.toList())
+    } else {
+      super.writeValue(value)
+    }
+  }
+}
+
+private class NutrientApiPigeonCodecReaderWriter: FlutterStandardReaderWriter {
+  override func reader(with data: Data) -> FlutterStandardReader {
+    return NutrientApiPigeonCodecReader(data: data)
+  }
+
+  override func writer(with data: NSMutableData) -> FlutterStandardWriter {
+    return NutrientApiPigeonCodecWriter(data: data)
+  }
+}
+
+class NutrientApiPigeonCodec: FlutterStandardMessageCodec, @unchecked Sendable {
+  static let shared = NutrientApiPigeonCodec(readerWriter: NutrientApiPigeonCodecReaderWriter())
+}
+
+
+/// The API for interacting with a PDF document.
+///
+/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
+protocol NutrientApi {
+  func getFrameworkVersion(completion: @escaping (Result<String?, Error>) -> Void)
+  func setLicenseKey(licenseKey: String?, completion: @escaping (Result<Void, Error>) -> Void)
+  func setLicenseKeys(androidLicenseKey: String?, iOSLicenseKey: String?, webLicenseKey: String?, completion: @escaping (Result<Void, Error>) -> Void)
+  func present(document: String, configuration: [String: Any]?, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func presentInstant(serverUrl: String, jwt: String, configuration: [String: Any]?, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func setFormFieldValue(value: String, fullyQualifiedName: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func getFormFieldValue(fullyQualifiedName: String, completion: @escaping (Result<String?, Error>) -> Void)
+  func applyInstantJson(annotationsJson: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func exportInstantJson(completion: @escaping (Result<String?, Error>) -> Void)
+  func addAnnotation(annotation: String, attachment: String?, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func removeAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  func getAnnotationsJson(pageIndex: Int64, type: String, completion: @escaping (Result<String?, Error>) -> Void)
+  /// Returns a JSON string containing all unsaved annotations in the presented document.
+  /// The JSON string can be decoded to the appropriate type on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  func getAllUnsavedAnnotationsJson(completion: @escaping (Result<String?, Error>) -> Void)
+  func updateAnnotation(annotation: String, completion: @escaping (Result<Void, Error>) -> Void)
+  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func importXfdf(xfdfString: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func exportXfdf(xfdfPath: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func save(completion: @escaping (Result<Bool?, Error>) -> Void)
+  func setDelayForSyncingLocalChanges(delay: Double, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func setListenToServerChanges(listen: Bool, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func syncAnnotations(completion: @escaping (Result<Bool?, Error>) -> Void)
+  func checkAndroidWriteExternalStoragePermission(completion: @escaping (Result<Bool?, Error>) -> Void)
+  func requestAndroidWriteExternalStoragePermission(completion: @escaping (Result<AndroidPermissionStatus, Error>) -> Void)
+  func openAndroidSettings(completion: @escaping (Result<Void, Error>) -> Void)
+  func setAnnotationPresetConfigurations(configurations: [String: Any?], completion: @escaping (Result<Bool?, Error>) -> Void)
+  func getTemporaryDirectory(completion: @escaping (Result<String, Error>) -> Void)
+  func setAuthorName(name: String, completion: @escaping (Result<Void, Error>) -> Void)
+  func getAuthorName(completion: @escaping (Result<String, Error>) -> Void)
+  /// Generate PDF from Images, Template, and Patterns.
+  /// [pages]: [NewPage]s to be added to the PDF.
+  /// [outputPath]: The path to the output file.
+  /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
+  func generatePdf(pages: [[String: Any]], outputPath: String, completion: @escaping (Result<String?, Error>) -> Void)
+  /// Generates a PDF from HTML string.
+  ///
+  /// [html]: The HTML string to be converted to PDF.
+  /// [outPutFile]: The path to the output file.
+  /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
+  func generatePdfFromHtmlString(html: String, outPutFile: String, options: [String: Any]?, completion: @escaping (Result<String?, Error>) -> Void)
+  func generatePdfFromHtmlUri(htmlUri: String, outPutFile: String, options: [String: Any]?, completion: @escaping (Result<String?, Error>) -> Void)
+  /// Configure Nutrient Analytics events.
+  func enableAnalyticsEvents(enable: Bool) throws
+  /// Sets the annotation menu configuration for the global presenter.
+  /// This configuration applies to all annotation menus in presented documents.
+  ///
+  /// @param configuration The annotation menu configuration to apply.
+  /// @return True if the configuration was set successfully, false otherwise.
+  func setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool?, Error>) -> Void)
+}
+
+/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
+class NutrientApiSetup {
+  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
+  /// Sets up an instance of `NutrientApi` to handle messages through the `binaryMessenger`.
+  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: NutrientApi?, messageChannelSuffix: String = "") {
+    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+    let getFrameworkVersionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getFrameworkVersionChannel.setMessageHandler { _, reply in
+        api.getFrameworkVersion { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getFrameworkVersionChannel.setMessageHandler(nil)
+    }
+    let setLicenseKeyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setLicenseKeyChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let licenseKeyArg: String? = nilOrValue(args[0])
+        api.setLicenseKey(licenseKey: licenseKeyArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setLicenseKeyChannel.setMessageHandler(nil)
+    }
+    let setLicenseKeysChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setLicenseKeysChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let androidLicenseKeyArg: String? = nilOrValue(args[0])
+        let iOSLicenseKeyArg: String? = nilOrValue(args[1])
+        let webLicenseKeyArg: String? = nilOrValue(args[2])
+        api.setLicenseKeys(androidLicenseKey: androidLicenseKeyArg, iOSLicenseKey: iOSLicenseKeyArg, webLicenseKey: webLicenseKeyArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setLicenseKeysChannel.setMessageHandler(nil)
+    }
+    let presentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.present\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      presentChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let documentArg = args[0] as! String
+        let configurationArg: [String: Any]? = nilOrValue(args[1])
+        api.present(document: documentArg, configuration: configurationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      presentChannel.setMessageHandler(nil)
+    }
+    let presentInstantChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      presentInstantChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let serverUrlArg = args[0] as! String
+        let jwtArg = args[1] as! String
+        let configurationArg: [String: Any]? = nilOrValue(args[2])
+        api.presentInstant(serverUrl: serverUrlArg, jwt: jwtArg, configuration: configurationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      presentInstantChannel.setMessageHandler(nil)
+    }
+    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setFormFieldValueChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let valueArg = args[0] as! String
+        let fullyQualifiedNameArg = args[1] as! String
+        api.setFormFieldValue(value: valueArg, fullyQualifiedName: fullyQualifiedNameArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setFormFieldValueChannel.setMessageHandler(nil)
+    }
+    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getFormFieldValueChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let fullyQualifiedNameArg = args[0] as! String
+        api.getFormFieldValue(fullyQualifiedName: fullyQualifiedNameArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getFormFieldValueChannel.setMessageHandler(nil)
+    }
+    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      applyInstantJsonChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let annotationsJsonArg = args[0] as! String
+        api.applyInstantJson(annotationsJson: annotationsJsonArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      applyInstantJsonChannel.setMessageHandler(nil)
+    }
+    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      exportInstantJsonChannel.setMessageHandler { _, reply in
+        api.exportInstantJson { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      exportInstantJsonChannel.setMessageHandler(nil)
+    }
+    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      addAnnotationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let annotationArg = args[0] as! String
+        let attachmentArg: String? = nilOrValue(args[1])
+        api.addAnnotation(annotation: annotationArg, attachment: attachmentArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      addAnnotationChannel.setMessageHandler(nil)
+    }
+    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      removeAnnotationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let annotationArg = args[0] as! String
+        api.removeAnnotation(annotation: annotationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      removeAnnotationChannel.setMessageHandler(nil)
+    }
+    /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+    /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+    /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getAnnotationsJsonChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        let typeArg = args[1] as! String
+        api.getAnnotationsJson(pageIndex: pageIndexArg, type: typeArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getAnnotationsJsonChannel.setMessageHandler(nil)
+    }
+    /// Returns a JSON string containing all unsaved annotations in the presented document.
+    /// The JSON string can be decoded to the appropriate type on the Dart side.
+    /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getAllUnsavedAnnotationsJsonChannel.setMessageHandler { _, reply in
+        api.getAllUnsavedAnnotationsJson { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getAllUnsavedAnnotationsJsonChannel.setMessageHandler(nil)
+    }
+    let updateAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.updateAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      updateAnnotationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let annotationArg = args[0] as! String
+        api.updateAnnotation(annotation: annotationArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      updateAnnotationChannel.setMessageHandler(nil)
+    }
+    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      processAnnotationsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let typeArg = args[0] as! AnnotationType
+        let processingModeArg = args[1] as! AnnotationProcessingMode
+        let destinationPathArg = args[2] as! String
+        api.processAnnotations(type: typeArg, processingMode: processingModeArg, destinationPath: destinationPathArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      processAnnotationsChannel.setMessageHandler(nil)
+    }
+    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      importXfdfChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let xfdfStringArg = args[0] as! String
+        api.importXfdf(xfdfString: xfdfStringArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      importXfdfChannel.setMessageHandler(nil)
+    }
+    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      exportXfdfChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let xfdfPathArg = args[0] as! String
+        api.exportXfdf(xfdfPath: xfdfPathArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      exportXfdfChannel.setMessageHandler(nil)
+    }
+    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      saveChannel.setMessageHandler { _, reply in
+        api.save { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      saveChannel.setMessageHandler(nil)
+    }
+    let setDelayForSyncingLocalChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setDelayForSyncingLocalChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setDelayForSyncingLocalChangesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let delayArg = args[0] as! Double
+        api.setDelayForSyncingLocalChanges(delay: delayArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setDelayForSyncingLocalChangesChannel.setMessageHandler(nil)
+    }
+    let setListenToServerChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setListenToServerChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setListenToServerChangesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let listenArg = args[0] as! Bool
+        api.setListenToServerChanges(listen: listenArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setListenToServerChangesChannel.setMessageHandler(nil)
+    }
+    let syncAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.syncAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      syncAnnotationsChannel.setMessageHandler { _, reply in
+        api.syncAnnotations { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      syncAnnotationsChannel.setMessageHandler(nil)
+    }
+    let checkAndroidWriteExternalStoragePermissionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.checkAndroidWriteExternalStoragePermission\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      checkAndroidWriteExternalStoragePermissionChannel.setMessageHandler { _, reply in
+        api.checkAndroidWriteExternalStoragePermission { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      checkAndroidWriteExternalStoragePermissionChannel.setMessageHandler(nil)
+    }
+    let requestAndroidWriteExternalStoragePermissionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.requestAndroidWriteExternalStoragePermission\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      requestAndroidWriteExternalStoragePermissionChannel.setMessageHandler { _, reply in
+        api.requestAndroidWriteExternalStoragePermission { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      requestAndroidWriteExternalStoragePermissionChannel.setMessageHandler(nil)
+    }
+    let openAndroidSettingsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.openAndroidSettings\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      openAndroidSettingsChannel.setMessageHandler { _, reply in
+        api.openAndroidSettings { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      openAndroidSettingsChannel.setMessageHandler(nil)
+    }
+    let setAnnotationPresetConfigurationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationPresetConfigurations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setAnnotationPresetConfigurationsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let configurationsArg = args[0] as! [String: Any?]
+        api.setAnnotationPresetConfigurations(configurations: configurationsArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setAnnotationPresetConfigurationsChannel.setMessageHandler(nil)
+    }
+    let getTemporaryDirectoryChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getTemporaryDirectory\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getTemporaryDirectoryChannel.setMessageHandler { _, reply in
+        api.getTemporaryDirectory { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getTemporaryDirectoryChannel.setMessageHandler(nil)
+    }
+    let setAuthorNameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAuthorName\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setAuthorNameChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let nameArg = args[0] as! String
+        api.setAuthorName(name: nameArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setAuthorNameChannel.setMessageHandler(nil)
+    }
+    let getAuthorNameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAuthorName\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getAuthorNameChannel.setMessageHandler { _, reply in
+        api.getAuthorName { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getAuthorNameChannel.setMessageHandler(nil)
+    }
+    /// Generate PDF from Images, Template, and Patterns.
+    /// [pages]: [NewPage]s to be added to the PDF.
+    /// [outputPath]: The path to the output file.
+    /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
+    let generatePdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      generatePdfChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pagesArg = args[0] as! [[String: Any]]
+        let outputPathArg = args[1] as! String
+        api.generatePdf(pages: pagesArg, outputPath: outputPathArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      generatePdfChannel.setMessageHandler(nil)
+    }
+    /// Generates a PDF from HTML string.
+    ///
+    /// [html]: The HTML string to be converted to PDF.
+    /// [outPutFile]: The path to the output file.
+    /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
+    let generatePdfFromHtmlStringChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlString\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      generatePdfFromHtmlStringChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let htmlArg = args[0] as! String
+        let outPutFileArg = args[1] as! String
+        let optionsArg: [String: Any]? = nilOrValue(args[2])
+        api.generatePdfFromHtmlString(html: htmlArg, outPutFile: outPutFileArg, options: optionsArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      generatePdfFromHtmlStringChannel.setMessageHandler(nil)
+    }
+    let generatePdfFromHtmlUriChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlUri\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getFrameworkVersionChannel.setMessageHandler { _, reply in
-        api.getFrameworkVersion { result in
+      generatePdfFromHtmlUriChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let htmlUriArg = args[0] as! String
+        let outPutFileArg = args[1] as! String
+        let optionsArg: [String: Any]? = nilOrValue(args[2])
+        api.generatePdfFromHtmlUri(htmlUri: htmlUriArg, outPutFile: outPutFileArg, options: optionsArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      generatePdfFromHtmlUriChannel.setMessageHandler(nil)
+    }
+    /// Configure Nutrient Analytics events.
+    let enableAnalyticsEventsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.enableAnalyticsEvents\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      enableAnalyticsEventsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let enableArg = args[0] as! Bool
+        do {
+          try api.enableAnalyticsEvents(enable: enableArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      enableAnalyticsEventsChannel.setMessageHandler(nil)
+    }
+    /// Sets the annotation menu configuration for the global presenter.
+    /// This configuration applies to all annotation menus in presented documents.
+    ///
+    /// @param configuration The annotation menu configuration to apply.
+    /// @return True if the configuration was set successfully, false otherwise.
+    let setAnnotationMenuConfigurationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationMenuConfiguration\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setAnnotationMenuConfigurationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let configurationArg = args[0] as! AnnotationMenuConfigurationData
+        api.setAnnotationMenuConfiguration(configuration: configurationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setAnnotationMenuConfigurationChannel.setMessageHandler(nil)
+    }
+    /// Processes annotations only on the pages selected by [scopes] and stores
+    /// the PDF at the given destination path. Pages outside of the scopes are
+    /// copied unchanged, so the work scales with the number of pages processed.
+    ///
+    /// @param processingMode The processing mode (flatten, embed, remove, print)
+    /// @param destinationPath The path where the processed PDF should be saved
+    /// @param scopes The page ranges and annotation types to process
+    /// @return true if processing succeeded, false otherwise
+    let processAnnotationsOnPagesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotationsOnPages\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      processAnnotationsOnPagesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let processingModeArg = args[0] as! AnnotationProcessingMode
+        let destinationPathArg = args[1] as! String
+        let scopesArg = args[2] as! [AnnotationProcessingScope]
+        api.processAnnotationsOnPages(processingMode: processingModeArg, destinationPath: destinationPathArg, scopes: scopesArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -1082,83 +3227,393 @@ class NutrientApiSetup {
           }
         }
       }
-    } else {
-      getFrameworkVersionChannel.setMessageHandler(nil)
+    } else {
+      processAnnotationsOnPagesChannel.setMessageHandler(nil)
+    }
+  }
+}
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol NutrientApiCallbacksProtocol {
+  /// onPAuse callback for FlutterPdfActivity
+  func onPdfActivityOnPause(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  func onPdfFragmentAdded(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  func onDocumentLoaded(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// ViewControllerWillDismiss callback for PDFViewController
+  func onPdfViewControllerWillDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// ViewControllerDidDismiss callback for PDFViewController
+  func onPdfViewControllerDidDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Called when instant synchronization starts.
+  func onInstantSyncStarted(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Called when instant synchronization ends.
+  func onInstantSyncFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Called when instant synchronization fails.
+  func onInstantSyncFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Called when instant authentication is done.
+  func onInstantAuthenticationFinished(documentId documentIdArg: String, validJWT validJWTArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Called when instant authentication fails.
+  func onInstantAuthenticationFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Only available on iOS.
+  /// Called when instant document download is done.
+  func onInstantDownloadFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+  /// Only available on iOS.
+  /// Called when instant document download fails.
+  func onInstantDownloadFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class NutrientApiCallbacks: NutrientApiCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  /// onPAuse callback for FlutterPdfActivity
+  func onPdfActivityOnPause(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfActivityOnPause\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage(nil) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  func onPdfFragmentAdded(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfFragmentAdded\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage(nil) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  func onDocumentLoaded(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  /// ViewControllerWillDismiss callback for PDFViewController
+  func onPdfViewControllerWillDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerWillDismiss\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage(nil) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  /// ViewControllerDidDismiss callback for PDFViewController
+  func onPdfViewControllerDidDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerDidDismiss\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage(nil) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  /// Called when instant synchronization starts.
+  func onInstantSyncStarted(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  /// Called when instant synchronization ends.
+  func onInstantSyncFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+  /// Called when instant synchronization fails.
+  func onInstantSyncFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
     }
-    let setLicenseKeyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setLicenseKeyChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let licenseKeyArg: String? = nilOrValue(args[0])
-        api.setLicenseKey(licenseKey: licenseKeyArg) { result in
-          switch result {
-          case .success:
-            reply(wrapResult(nil))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
+  }
+  /// Called when instant authentication is done.
+  func onInstantAuthenticationFinished(documentId documentIdArg: String, validJWT validJWTArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg, validJWTArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
       }
-    } else {
-      setLicenseKeyChannel.setMessageHandler(nil)
     }
-    let setLicenseKeysChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setLicenseKeysChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let androidLicenseKeyArg: String? = nilOrValue(args[0])
-        let iOSLicenseKeyArg: String? = nilOrValue(args[1])
-        let webLicenseKeyArg: String? = nilOrValue(args[2])
-        api.setLicenseKeys(androidLicenseKey: androidLicenseKeyArg, iOSLicenseKey: iOSLicenseKeyArg, webLicenseKey: webLicenseKeyArg) { result in
-          switch result {
-          case .success:
-            reply(wrapResult(nil))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
+  }
+  /// Called when instant authentication fails.
+  func onInstantAuthenticationFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
       }
-    } else {
-      setLicenseKeysChannel.setMessageHandler(nil)
     }
-    let presentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.present\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      presentChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let documentArg = args[0] as! String
-        let configurationArg: [String: Any]? = nilOrValue(args[1])
-        api.present(document: documentArg, configuration: configurationArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
+  }
+  /// Only available on iOS.
+  /// Called when instant document download is done.
+  func onInstantDownloadFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
       }
-    } else {
-      presentChannel.setMessageHandler(nil)
     }
-    let presentInstantChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      presentInstantChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let serverUrlArg = args[0] as! String
-        let jwtArg = args[1] as! String
-        let configurationArg: [String: Any]? = nilOrValue(args[2])
-        api.presentInstant(serverUrl: serverUrlArg, jwt: jwtArg, configuration: configurationArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
+  }
+  /// Only available on iOS.
+  /// Called when instant document download fails.
+  func onInstantDownloadFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
       }
-    } else {
-      presentInstantChannel.setMessageHandler(nil)
     }
-    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+  }
+}
+/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
+protocol NutrientViewControllerApi {
+  /// Sets the value of a form field by specifying its fully qualified field name.
+  /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
+  func setFormFieldValue(value: String, fullyQualifiedName: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Gets the form field value by specifying its fully qualified name.
+  func getFormFieldValue(fullyQualifiedName: String, completion: @escaping (Result<String?, Error>) -> Void)
+  /// Applies Instant document JSON to the presented document.
+  func applyInstantJson(annotationsJson: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Exports Instant document JSON from the presented document.
+  func exportInstantJson(completion: @escaping (Result<String?, Error>) -> Void)
+  /// Adds the given annotation to the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  func addAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Removes the given annotation from the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  func removeAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  func getAnnotationsJson(pageIndex: Int64, type: String, completion: @escaping (Result<String, Error>) -> Void)
+  /// Returns a JSON string containing all unsaved annotations in the presented document.
+  /// The JSON string can be decoded to the appropriate type on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  func getAllUnsavedAnnotationsJson(completion: @escaping (Result<String, Error>) -> Void)
+  /// Processes annotations of the given type with the provided processing
+  /// mode and stores the PDF at the given destination path.
+  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Imports annotations from the XFDF file at the given path.
+  func importXfdf(xfdfString: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Exports annotations to the XFDF file at the given path.
+  func exportXfdf(xfdfPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Saves the document back to its original location if it has been changed.
+  /// If there were no changes to the document, the document file will not be modified.
+  func save(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Sets the annotation preset configurations for the given annotation tools.
+  /// @param configurations A map of annotation tools and their corresponding configurations.
+  /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
+  /// @return True if the configurations were set successfully, false otherwise.
+  func setAnnotationConfigurations(configurations: [String: [String: Any]], completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Gets the visible rect of the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// Returns a [Future] that completes with the visible rect of the given page.
+  func getVisibleRect(pageIndex: Int64, completion: @escaping (Result<PdfRect, Error>) -> Void)
+  /// Zooms to the given rect on the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// rect The rect to zoom to.
+  /// Returns a [Future] that completes when the zoom operation is done.
+  func zoomToRect(pageIndex: Int64, rect: PdfRect, animated: Bool?, duration: Double?, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Gets the zoom scale of the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// Returns a [Future] that completes with the zoom scale of the given page.
+  func getZoomScale(pageIndex: Int64, completion: @escaping (Result<Double, Error>) -> Void)
+  func addEventListener(event: NutrientEvent) throws
+  func removeEventListener(event: NutrientEvent) throws
+  /// Enters annotation creation mode.
+  ///
+  /// If [annotationTool] is provided, that specific tool will be activated.
+  /// If no tool is provided, the default annotation tool will be used.
+  ///
+  /// Returns a [Future] that completes with a boolean indicating whether
+  /// entering annotation creation mode was successful.
+  func enterAnnotationCreationMode(annotationTool: AnnotationTool?, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Exits annotation creation mode.
+  ///
+  /// Returns a [Future] that completes with a boolean indicating whether
+  /// exiting annotation creation mode was successful.
+  func exitAnnotationCreationMode(completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Sets the annotation menu configuration for the current view controller.
+  /// This configuration applies only to annotation menus in the current document view.
+  ///
+  /// @param configuration The annotation menu configuration to apply.
+  /// @return True if the configuration was set successfully, false otherwise.
+  func setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Converts a point from the page view's coordinate space to PDF page coordinates.
+  ///
+  /// [point] must be in logical view coordinates (UIKit points on iOS /
+  /// Flutter logical pixels on Android), relative to the top-left corner of
+  /// the page view that renders [pageIndex]. This corresponds to the coordinates
+  /// reported by gesture or tap callbacks on the page view widget.
+  /// [pageIndex] is zero-based.
+  func convertViewPointToPdfPoint(pageIndex: Int64, point: PointF, completion: @escaping (Result<PointF, Error>) -> Void)
+  /// Converts a point from PDF page coordinates to the page view's coordinate space.
+  ///
+  /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
+  /// Flutter logical pixels on Android), relative to the top-left corner of
+  /// the page view that renders [pageIndex].
+  /// [pageIndex] is zero-based.
+  func convertPdfPointToViewPoint(pageIndex: Int64, point: PointF, completion: @escaping (Result<PointF, Error>) -> Void)
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Sets the values of several form fields of the presented document at once.
+  ///
+  /// See [PdfDocumentApi.setFormFieldValues].
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  func setFormFieldValues(values: [String: String], completion: @escaping (Result<[FormFieldWriteError], Error>) -> Void)
+}
+
+/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
+class NutrientViewControllerApiSetup {
+  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
+  /// Sets up an instance of `NutrientViewControllerApi` to handle messages through the `binaryMessenger`.
+  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: NutrientViewControllerApi?, messageChannelSuffix: String = "") {
+    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+    /// Sets the value of a form field by specifying its fully qualified field name.
+    /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
+    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       setFormFieldValueChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1176,7 +3631,8 @@ class NutrientApiSetup {
     } else {
       setFormFieldValueChannel.setMessageHandler(nil)
     }
-    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Gets the form field value by specifying its fully qualified name.
+    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getFormFieldValueChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1193,7 +3649,8 @@ class NutrientApiSetup {
     } else {
       getFormFieldValueChannel.setMessageHandler(nil)
     }
-    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Applies Instant document JSON to the presented document.
+    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       applyInstantJsonChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1210,7 +3667,8 @@ class NutrientApiSetup {
     } else {
       applyInstantJsonChannel.setMessageHandler(nil)
     }
-    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Exports Instant document JSON from the presented document.
+    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       exportInstantJsonChannel.setMessageHandler { _, reply in
         api.exportInstantJson { result in
@@ -1225,13 +3683,14 @@ class NutrientApiSetup {
     } else {
       exportInstantJsonChannel.setMessageHandler(nil)
     }
-    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Adds the given annotation to the presented document.
+    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       addAnnotationChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
         let annotationArg = args[0] as! String
-        let attachmentArg: String? = nilOrValue(args[1])
-        api.addAnnotation(annotation: annotationArg, attachment: attachmentArg) { result in
+        api.addAnnotation(annotation: annotationArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -1243,7 +3702,9 @@ class NutrientApiSetup {
     } else {
       addAnnotationChannel.setMessageHandler(nil)
     }
-    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Removes the given annotation from the presented document.
+    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       removeAnnotationChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1263,7 +3724,7 @@ class NutrientApiSetup {
     /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
     /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
     /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getAnnotationsJsonChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1284,7 +3745,7 @@ class NutrientApiSetup {
     /// Returns a JSON string containing all unsaved annotations in the presented document.
     /// The JSON string can be decoded to the appropriate type on the Dart side.
     /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getAllUnsavedAnnotationsJsonChannel.setMessageHandler { _, reply in
         api.getAllUnsavedAnnotationsJson { result in
@@ -1299,24 +3760,9 @@ class NutrientApiSetup {
     } else {
       getAllUnsavedAnnotationsJsonChannel.setMessageHandler(nil)
     }
-    let updateAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.updateAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      updateAnnotationChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let annotationArg = args[0] as! String
-        api.updateAnnotation(annotation: annotationArg) { result in
-          switch result {
-          case .success:
-            reply(wrapResult(nil))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      updateAnnotationChannel.setMessageHandler(nil)
-    }
-    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Processes annotations of the given type with the provided processing
+    /// mode and stores the PDF at the given destination path.
+    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       processAnnotationsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1335,7 +3781,8 @@ class NutrientApiSetup {
     } else {
       processAnnotationsChannel.setMessageHandler(nil)
     }
-    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Imports annotations from the XFDF file at the given path.
+    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       importXfdfChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1352,7 +3799,8 @@ class NutrientApiSetup {
     } else {
       importXfdfChannel.setMessageHandler(nil)
     }
-    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Exports annotations to the XFDF file at the given path.
+    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       exportXfdfChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1369,214 +3817,12 @@ class NutrientApiSetup {
     } else {
       exportXfdfChannel.setMessageHandler(nil)
     }
-    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      saveChannel.setMessageHandler { _, reply in
-        api.save { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      saveChannel.setMessageHandler(nil)
-    }
-    let setDelayForSyncingLocalChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setDelayForSyncingLocalChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setDelayForSyncingLocalChangesChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let delayArg = args[0] as! Double
-        api.setDelayForSyncingLocalChanges(delay: delayArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      setDelayForSyncingLocalChangesChannel.setMessageHandler(nil)
-    }
-    let setListenToServerChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setListenToServerChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setListenToServerChangesChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let listenArg = args[0] as! Bool
-        api.setListenToServerChanges(listen: listenArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      setListenToServerChangesChannel.setMessageHandler(nil)
-    }
-    let syncAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.syncAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      syncAnnotationsChannel.setMessageHandler { _, reply in
-        api.syncAnnotations { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      syncAnnotationsChannel.setMessageHandler(nil)
-    }
-    let checkAndroidWriteExternalStoragePermissionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.checkAndroidWriteExternalStoragePermission\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      checkAndroidWriteExternalStoragePermissionChannel.setMessageHandler { _, reply in
-        api.checkAndroidWriteExternalStoragePermission { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      checkAndroidWriteExternalStoragePermissionChannel.setMessageHandler(nil)
-    }
-    let requestAndroidWriteExternalStoragePermissionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.requestAndroidWriteExternalStoragePermission\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      requestAndroidWriteExternalStoragePermissionChannel.setMessageHandler { _, reply in
-        api.requestAndroidWriteExternalStoragePermission { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      requestAndroidWriteExternalStoragePermissionChannel.setMessageHandler(nil)
-    }
-    let openAndroidSettingsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.openAndroidSettings\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      openAndroidSettingsChannel.setMessageHandler { _, reply in
-        api.openAndroidSettings { result in
-          switch result {
-          case .success:
-            reply(wrapResult(nil))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      openAndroidSettingsChannel.setMessageHandler(nil)
-    }
-    let setAnnotationPresetConfigurationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationPresetConfigurations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setAnnotationPresetConfigurationsChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let configurationsArg = args[0] as! [String: Any?]
-        api.setAnnotationPresetConfigurations(configurations: configurationsArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      setAnnotationPresetConfigurationsChannel.setMessageHandler(nil)
-    }
-    let getTemporaryDirectoryChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getTemporaryDirectory\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      getTemporaryDirectoryChannel.setMessageHandler { _, reply in
-        api.getTemporaryDirectory { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      getTemporaryDirectoryChannel.setMessageHandler(nil)
-    }
-    let setAuthorNameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAuthorName\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      setAuthorNameChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let nameArg = args[0] as! String
-        api.setAuthorName(name: nameArg) { result in
-          switch result {
-          case .success:
-            reply(wrapResult(nil))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      setAuthorNameChannel.setMessageHandler(nil)
-    }
-    let getAuthorNameChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAuthorName\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      getAuthorNameChannel.setMessageHandler { _, reply in
-        api.getAuthorName { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      getAuthorNameChannel.setMessageHandler(nil)
-    }
-    /// Generate PDF from Images, Template, and Patterns.
-    /// [pages]: [NewPage]s to be added to the PDF.
-    /// [outputPath]: The path to the output file.
-    /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
-    let generatePdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      generatePdfChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let pagesArg = args[0] as! [[String: Any]]
-        let outputPathArg = args[1] as! String
-        api.generatePdf(pages: pagesArg, outputPath: outputPathArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      generatePdfChannel.setMessageHandler(nil)
-    }
-    /// Generates a PDF from HTML string.
-    ///
-    /// [html]: The HTML string to be converted to PDF.
-    /// [outPutFile]: The path to the output file.
-    /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
-    let generatePdfFromHtmlStringChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlString\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      generatePdfFromHtmlStringChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let htmlArg = args[0] as! String
-        let outPutFileArg = args[1] as! String
-        let optionsArg: [String: Any]? = nilOrValue(args[2])
-        api.generatePdfFromHtmlString(html: htmlArg, outPutFile: outPutFileArg, options: optionsArg) { result in
+    /// Saves the document back to its original location if it has been changed.
+    /// If there were no changes to the document, the document file will not be modified.
+    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      saveChannel.setMessageHandler { _, reply in
+        api.save { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -1586,16 +3832,18 @@ class NutrientApiSetup {
         }
       }
     } else {
-      generatePdfFromHtmlStringChannel.setMessageHandler(nil)
+      saveChannel.setMessageHandler(nil)
     }
-    let generatePdfFromHtmlUriChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlUri\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Sets the annotation preset configurations for the given annotation tools.
+    /// @param configurations A map of annotation tools and their corresponding configurations.
+    /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
+    /// @return True if the configurations were set successfully, false otherwise.
+    let setAnnotationConfigurationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationConfigurations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      generatePdfFromHtmlUriChannel.setMessageHandler { message, reply in
+      setAnnotationConfigurationsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let htmlUriArg = args[0] as! String
-        let outPutFileArg = args[1] as! String
-        let optionsArg: [String: Any]? = nilOrValue(args[2])
-        api.generatePdfFromHtmlUri(htmlUri: htmlUriArg, outPutFile: outPutFileArg, options: optionsArg) { result in
+        let configurationsArg = args[0] as! [String: [String: Any]]
+        api.setAnnotationConfigurations(configurations: configurationsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -1605,35 +3853,41 @@ class NutrientApiSetup {
         }
       }
     } else {
-      generatePdfFromHtmlUriChannel.setMessageHandler(nil)
+      setAnnotationConfigurationsChannel.setMessageHandler(nil)
     }
-    /// Configure Nutrient Analytics events.
-    let enableAnalyticsEventsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.enableAnalyticsEvents\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Gets the visible rect of the given page.
+    /// pageIndex The index of the page. This is a zero-based index.
+    /// Returns a [Future] that completes with the visible rect of the given page.
+    let getVisibleRectChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getVisibleRect\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      enableAnalyticsEventsChannel.setMessageHandler { message, reply in
+      getVisibleRectChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let enableArg = args[0] as! Bool
-        do {
-          try api.enableAnalyticsEvents(enable: enableArg)
-          reply(wrapResult(nil))
-        } catch {
-          reply(wrapError(error))
+        let pageIndexArg = args[0] as! Int64
+        api.getVisibleRect(pageIndex: pageIndexArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
         }
       }
     } else {
-      enableAnalyticsEventsChannel.setMessageHandler(nil)
+      getVisibleRectChannel.setMessageHandler(nil)
     }
-    /// Sets the annotation menu configuration for the global presenter.
-    /// This configuration applies to all annotation menus in presented documents.
-    ///
-    /// @param configuration The annotation menu configuration to apply.
-    /// @return True if the configuration was set successfully, false otherwise.
-    let setAnnotationMenuConfigurationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationMenuConfiguration\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Zooms to the given rect on the given page.
+    /// pageIndex The index of the page. This is a zero-based index.
+    /// rect The rect to zoom to.
+    /// Returns a [Future] that completes when the zoom operation is done.
+    let zoomToRectChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.zoomToRect\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      setAnnotationMenuConfigurationChannel.setMessageHandler { message, reply in
+      zoomToRectChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let configurationArg = args[0] as! AnnotationMenuConfigurationData
-        api.setAnnotationMenuConfiguration(configuration: configurationArg) { result in
+        let pageIndexArg = args[0] as! Int64
+        let rectArg = args[1] as! PdfRect
+        let animatedArg: Bool? = nilOrValue(args[2])
+        let durationArg: Double? = nilOrValue(args[3])
+        api.zoomToRect(pageIndex: pageIndexArg, rect: rectArg, animated: animatedArg, duration: durationArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -1643,280 +3897,244 @@ class NutrientApiSetup {
         }
       }
     } else {
-      setAnnotationMenuConfigurationChannel.setMessageHandler(nil)
-    }
-  }
-}
-/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
-protocol NutrientApiCallbacksProtocol {
-  /// onPAuse callback for FlutterPdfActivity
-  func onPdfActivityOnPause(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  func onPdfFragmentAdded(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  func onDocumentLoaded(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// ViewControllerWillDismiss callback for PDFViewController
-  func onPdfViewControllerWillDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// ViewControllerDidDismiss callback for PDFViewController
-  func onPdfViewControllerDidDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Called when instant synchronization starts.
-  func onInstantSyncStarted(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Called when instant synchronization ends.
-  func onInstantSyncFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Called when instant synchronization fails.
-  func onInstantSyncFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Called when instant authentication is done.
-  func onInstantAuthenticationFinished(documentId documentIdArg: String, validJWT validJWTArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Called when instant authentication fails.
-  func onInstantAuthenticationFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Only available on iOS.
-  /// Called when instant document download is done.
-  func onInstantDownloadFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-  /// Only available on iOS.
-  /// Called when instant document download fails.
-  func onInstantDownloadFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
-}
-class NutrientApiCallbacks: NutrientApiCallbacksProtocol {
-  private let binaryMessenger: FlutterBinaryMessenger
-  private let messageChannelSuffix: String
-  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
-    self.binaryMessenger = binaryMessenger
-    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
-  }
-  var codec: NutrientApiPigeonCodec {
-    return NutrientApiPigeonCodec.shared
-  }
-  /// onPAuse callback for FlutterPdfActivity
-  func onPdfActivityOnPause(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfActivityOnPause\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage(nil) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  func onPdfFragmentAdded(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfFragmentAdded\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage(nil) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  func onDocumentLoaded(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  /// ViewControllerWillDismiss callback for PDFViewController
-  func onPdfViewControllerWillDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerWillDismiss\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage(nil) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  /// ViewControllerDidDismiss callback for PDFViewController
-  func onPdfViewControllerDidDismiss(completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerDidDismiss\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage(nil) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  /// Called when instant synchronization starts.
-  func onInstantSyncStarted(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
-    }
-  }
-  /// Called when instant synchronization ends.
-  func onInstantSyncFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
-      }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
-      }
+      zoomToRectChannel.setMessageHandler(nil)
     }
-  }
-  /// Called when instant synchronization fails.
-  func onInstantSyncFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
+    /// Gets the zoom scale of the given page.
+    /// pageIndex The index of the page. This is a zero-based index.
+    /// Returns a [Future] that completes with the zoom scale of the given page.
+    let getZoomScaleChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getZoomScale\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getZoomScaleChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        api.getZoomScale(pageIndex: pageIndexArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
+    } else {
+      getZoomScaleChannel.setMessageHandler(nil)
+    }
+    let addEventListenerChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addEventListener\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      addEventListenerChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let eventArg = args[0] as! NutrientEvent
+        do {
+          try api.addEventListener(event: eventArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
       }
+    } else {
+      addEventListenerChannel.setMessageHandler(nil)
     }
-  }
-  /// Called when instant authentication is done.
-  func onInstantAuthenticationFinished(documentId documentIdArg: String, validJWT validJWTArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg, validJWTArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
+    let removeEventListenerChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeEventListener\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      removeEventListenerChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let eventArg = args[0] as! NutrientEvent
+        do {
+          try api.removeEventListener(event: eventArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
       }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
+    } else {
+      removeEventListenerChannel.setMessageHandler(nil)
+    }
+    /// Enters annotation creation mode.
+    ///
+    /// If [annotationTool] is provided, that specific tool will be activated.
+    /// If no tool is provided, the default annotation tool will be used.
+    ///
+    /// Returns a [Future] that completes with a boolean indicating whether
+    /// entering annotation creation mode was successful.
+    let enterAnnotationCreationModeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.enterAnnotationCreationMode\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      enterAnnotationCreationModeChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let annotationToolArg: AnnotationTool? = nilOrValue(args[0])
+        api.enterAnnotationCreationMode(annotationTool: annotationToolArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
+    } else {
+      enterAnnotationCreationModeChannel.setMessageHandler(nil)
     }
-  }
-  /// Called when instant authentication fails.
-  func onInstantAuthenticationFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
+    /// Exits annotation creation mode.
+    ///
+    /// Returns a [Future] that completes with a boolean indicating whether
+    /// exiting annotation creation mode was successful.
+    let exitAnnotationCreationModeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exitAnnotationCreationMode\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      exitAnnotationCreationModeChannel.setMessageHandler { _, reply in
+        api.exitAnnotationCreationMode { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
+    } else {
+      exitAnnotationCreationModeChannel.setMessageHandler(nil)
+    }
+    /// Sets the annotation menu configuration for the current view controller.
+    /// This configuration applies only to annotation menus in the current document view.
+    ///
+    /// @param configuration The annotation menu configuration to apply.
+    /// @return True if the configuration was set successfully, false otherwise.
+    let setAnnotationMenuConfigurationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationMenuConfiguration\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setAnnotationMenuConfigurationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let configurationArg = args[0] as! AnnotationMenuConfigurationData
+        api.setAnnotationMenuConfiguration(configuration: configurationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
+    } else {
+      setAnnotationMenuConfigurationChannel.setMessageHandler(nil)
     }
-  }
-  /// Only available on iOS.
-  /// Called when instant document download is done.
-  func onInstantDownloadFinished(documentId documentIdArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
+    /// Converts a point from the page view's coordinate space to PDF page coordinates.
+    ///
+    /// [point] must be in logical view coordinates (UIKit points on iOS /
+    /// Flutter logical pixels on Android), relative to the top-left corner of
+    /// the page view that renders [pageIndex]. This corresponds to the coordinates
+    /// reported by gesture or tap callbacks on the page view widget.
+    /// [pageIndex] is zero-based.
+    let convertViewPointToPdfPointChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertViewPointToPdfPoint\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      convertViewPointToPdfPointChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        let pointArg = args[1] as! PointF
+        api.convertViewPointToPdfPoint(pageIndex: pageIndexArg, point: pointArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
+    } else {
+      convertViewPointToPdfPointChannel.setMessageHandler(nil)
+    }
+    /// Converts a point from PDF page coordinates to the page view's coordinate space.
+    ///
+    /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
+    /// Flutter logical pixels on Android), relative to the top-left corner of
+    /// the page view that renders [pageIndex].
+    /// [pageIndex] is zero-based.
+    let convertPdfPointToViewPointChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertPdfPointToViewPoint\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      convertPdfPointToViewPointChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        let pointArg = args[1] as! PointF
+        api.convertPdfPointToViewPoint(pageIndex: pageIndexArg, point: pointArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
+    } else {
+      convertPdfPointToViewPointChannel.setMessageHandler(nil)
     }
-  }
-  /// Only available on iOS.
-  /// Called when instant document download fails.
-  func onInstantDownloadFailed(documentId documentIdArg: String, error errorArg: String, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
-    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed\(messageChannelSuffix)"
-    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
-    channel.sendMessage([documentIdArg, errorArg] as [Any?]) { response in
-      guard let listResponse = response as? [Any?] else {
-        completion(.failure(createConnectionError(withChannelName: channelName)))
-        return
+    /// Processes annotations only on the pages selected by [scopes] and stores
+    /// the PDF at the given destination path. Pages outside of the scopes are
+    /// copied unchanged, so the work scales with the number of pages processed.
+    ///
+    /// @param processingMode The processing mode (flatten, embed, remove, print)
+    /// @param destinationPath The path where the processed PDF should be saved
+    /// @param scopes The page ranges and annotation types to process
+    /// @return true if processing succeeded, false otherwise
+    let processAnnotationsOnPagesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotationsOnPages\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      processAnnotationsOnPagesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let processingModeArg = args[0] as! AnnotationProcessingMode
+        let destinationPathArg = args[1] as! String
+        let scopesArg = args[2] as! [AnnotationProcessingScope]
+        api.processAnnotationsOnPages(processingMode: processingModeArg, destinationPath: destinationPathArg, scopes: scopesArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
-      if listResponse.count > 1 {
-        let code: String = listResponse[0] as! String
-        let message: String? = nilOrValue(listResponse[1])
-        let details: String? = nilOrValue(listResponse[2])
-        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
-      } else {
-        completion(.success(()))
+    } else {
+      processAnnotationsOnPagesChannel.setMessageHandler(nil)
+    }
+    /// Sets the values of several form fields of the presented document at once.
+    ///
+    /// See [PdfDocumentApi.setFormFieldValues].
+    ///
+    /// @param values Values by fully qualified field name
+    /// @return The fields that could not be set, empty if all were set
+    let setFormFieldValuesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValues\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setFormFieldValuesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let valuesArg = args[0] as! [String: String]
+        api.setFormFieldValues(values: valuesArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
       }
+    } else {
+      setFormFieldValuesChannel.setMessageHandler(nil)
     }
   }
 }
 /// Generated protocol from Pigeon that represents a handler of messages from Flutter.
-protocol NutrientViewControllerApi {
+protocol PdfDocumentApi {
+  /// Returns the page info for the given page index.
+  /// pageIndex The index of the page. This is a zero-based index.
+  func getPageInfo(pageIndex: Int64, completion: @escaping (Result<PageInfo, Error>) -> Void)
+  /// Exports the document as a PDF.
+  /// options:[DocumentSaveOptions] The options to use when exporting the document.
+  /// Returns a [Uint8List] containing the exported PDF data.
+  func exportPdf(options: DocumentSaveOptions?, completion: @escaping (Result<FlutterStandardTypedData, Error>) -> Void)
+  /// Returns the form field with the given name as a JSON string.
+  /// The JSON string contains the form field data that can be decoded
+  /// to a Map<String, dynamic> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types.
+  func getFormFieldJson(fieldName: String, completion: @escaping (Result<String, Error>) -> Void)
+  /// Returns a list of all form fields in the document as a JSON string.
+  /// The JSON string contains an array of form field objects that can be
+  /// decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types.
+  func getFormFieldsJson(completion: @escaping (Result<String, Error>) -> Void)
   /// Sets the value of a form field by specifying its fully qualified field name.
-  /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
   func setFormFieldValue(value: String, fullyQualifiedName: String, completion: @escaping (Result<Bool?, Error>) -> Void)
   /// Gets the form field value by specifying its fully qualified name.
   func getFormFieldValue(fullyQualifiedName: String, completion: @escaping (Result<String?, Error>) -> Void)
@@ -1926,93 +4144,502 @@ protocol NutrientViewControllerApi {
   func exportInstantJson(completion: @escaping (Result<String?, Error>) -> Void)
   /// Adds the given annotation to the presented document.
   /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  func addAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func addAnnotation(jsonAnnotation: String, attachment: Any?, completion: @escaping (Result<Bool?, Error>) -> Void)
+  /// Updates the given annotation in the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  ///
+  /// @deprecated Use setAnnotationProperties() or specific property setters instead.
+  /// This method has a critical bug that causes data loss for annotations with attachments.
+  /// It will be removed in version 7.0.0.
+  ///
+  /// Migration:
+  /// - For single property updates: Use specific setters like setAnnotationColor()
+  /// - For multiple property updates: Use setAnnotationProperties()
+  func updateAnnotation(jsonAnnotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
   /// Removes the given annotation from the presented document.
   /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  func removeAnnotation(annotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
+  func removeAnnotation(jsonAnnotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
   /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
   /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
   /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  ///
+  /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
+  /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
   func getAnnotationsJson(pageIndex: Int64, type: String, completion: @escaping (Result<String, Error>) -> Void)
   /// Returns a JSON string containing all unsaved annotations in the presented document.
   /// The JSON string can be decoded to the appropriate type on the Dart side.
   /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
   func getAllUnsavedAnnotationsJson(completion: @escaping (Result<String, Error>) -> Void)
-  /// Processes annotations of the given type with the provided processing
-  /// mode and stores the PDF at the given destination path.
-  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
   /// Imports annotations from the XFDF file at the given path.
   func importXfdf(xfdfString: String, completion: @escaping (Result<Bool, Error>) -> Void)
   /// Exports annotations to the XFDF file at the given path.
   func exportXfdf(xfdfPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
   /// Saves the document back to its original location if it has been changed.
   /// If there were no changes to the document, the document file will not be modified.
-  func save(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Sets the annotation preset configurations for the given annotation tools.
-  /// @param configurations A map of annotation tools and their corresponding configurations.
-  /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
-  /// @return True if the configurations were set successfully, false otherwise.
-  func setAnnotationConfigurations(configurations: [String: [String: Any]], completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Gets the visible rect of the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// Returns a [Future] that completes with the visible rect of the given page.
-  func getVisibleRect(pageIndex: Int64, completion: @escaping (Result<PdfRect, Error>) -> Void)
-  /// Zooms to the given rect on the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// rect The rect to zoom to.
-  /// Returns a [Future] that completes when the zoom operation is done.
-  func zoomToRect(pageIndex: Int64, rect: PdfRect, animated: Bool?, duration: Double?, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Gets the zoom scale of the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// Returns a [Future] that completes with the zoom scale of the given page.
-  func getZoomScale(pageIndex: Int64, completion: @escaping (Result<Double, Error>) -> Void)
-  func addEventListener(event: NutrientEvent) throws
-  func removeEventListener(event: NutrientEvent) throws
-  /// Enters annotation creation mode.
+  func save(outputPath: String?, options: DocumentSaveOptions?, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Get the total number of pages in the document.
+  func getPageCount(completion: @escaping (Result<Int64, Error>) -> Void)
+  /// Processes annotations of the given type with the provided processing
+  /// mode and stores the PDF at the given destination path.
   ///
-  /// If [annotationTool] is provided, that specific tool will be activated.
-  /// If no tool is provided, the default annotation tool will be used.
+  /// This method works for both viewer-bound and headless documents.
+  ///
+  /// @param type The type of annotations to process (e.g., all, ink, highlight)
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @return true if processing succeeded, false otherwise
+  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Closes the document and releases all native resources.
+  ///
+  /// This must be called when a headless document is no longer needed
+  /// to free memory and file handles. For viewer-bound documents,
+  /// this is handled automatically by the view lifecycle.
+  ///
+  /// @return true if the document was closed successfully
+  func closeDocument(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
+  ///
+  /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
+  /// Returns true if any annotations have been added, modified, or deleted
+  /// since the document was loaded or last saved.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
+  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+  ///
+  /// @return true if there are dirty annotations
+  /// @throws On Android/Web
+  func iOSHasDirtyAnnotations(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **iOS only.** Gets the dirty state of a specific annotation.
+  ///
+  /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
+  /// An annotation is dirty if it has been modified since the document
+  /// was loaded or last saved.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available (no annotation-level isDirty)
+  /// - Web: ❌ Not available
+  ///
+  /// @param pageIndex Zero-based page index
+  /// @param annotationId The annotation's unique identifier
+  /// @return true if the annotation is dirty
+  /// @throws On Android/Web, or if annotation not found
+  func iOSGetAnnotationIsDirty(pageIndex: Int64, annotationId: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **iOS only.** Sets the dirty state of a specific annotation.
+  ///
+  /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
+  /// This can be used to manually mark an annotation as needing save,
+  /// or to clear its dirty state.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available
+  /// - Web: ❌ Not available
+  ///
+  /// @param pageIndex Zero-based page index
+  /// @param annotationId The annotation's unique identifier
+  /// @param isDirty The dirty state to set
+  /// @return true if successfully set
+  /// @throws On Android/Web, or if annotation not found
+  func iOSSetAnnotationIsDirty(pageIndex: Int64, annotationId: String, isDirty: Bool, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **iOS only.** Clears the needs-save flag on all annotation providers.
+  ///
+  /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
+  /// This resets the modification tracking without saving to disk.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available (was removed from SDK)
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if successfully cleared
+  /// @throws On Android/Web
+  func iOSClearNeedsSaveFlag(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Checks if the annotation provider has unsaved changes.
+  ///
+  /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+  ///
+  /// @return true if there are unsaved annotation changes
+  /// @throws On iOS/Web
+  func androidHasUnsavedAnnotationChanges(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Checks if the form provider has unsaved changes.
+  ///
+  /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available at provider level
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if there are unsaved form field changes
+  /// @throws On iOS/Web
+  func androidHasUnsavedFormChanges(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Checks if the bookmark provider has unsaved changes.
+  ///
+  /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available at provider level
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if there are unsaved bookmark changes
+  /// @throws On iOS/Web
+  func androidHasUnsavedBookmarkChanges(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Gets the dirty state of a specific bookmark.
+  ///
+  /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+  /// @return true if the bookmark is dirty
+  /// @throws On iOS/Web, or if bookmark not found
+  func androidGetBookmarkIsDirty(bookmarkId: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Clears the dirty state of a specific bookmark.
+  ///
+  /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+  /// @return true if successfully cleared
+  /// @throws On iOS/Web, or if bookmark not found
+  func androidClearBookmarkDirtyState(bookmarkId: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Android only.** Gets the dirty state of a form field.
+  ///
+  /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available (use formField.dirty property differently)
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param fullyQualifiedName The form field's fully qualified name
+  /// @return true if the form field is dirty
+  /// @throws On iOS/Web, or if form field not found
+  func androidGetFormFieldIsDirty(fullyQualifiedName: String, completion: @escaping (Result<Bool, Error>) -> Void)
+  /// **Web only.** Checks if the instance has unsaved changes.
+  ///
+  /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
+  /// This is a combined check that includes annotations, forms, and other changes.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
+  /// - Web: ✅ Supported
+  ///
+  /// @return true if there are unsaved changes
+  /// @throws On iOS/Android
+  func webHasUnsavedChanges(completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  func processAnnotationsOnPages(processingMode: AnnotationProcessingMode, destinationPath: String, scopes: [AnnotationProcessingScope], completion: @escaping (Result<Bool, Error>) -> Void)
+  /// Exports any combination of a flattened PDF, an XFDF file and an Instant
+  /// JSON snapshot in a single call.
+  ///
+  /// The annotations are collected once and shared by the flattened PDF and
+  /// the XFDF file. The Instant JSON snapshot collects them again, as the
+  /// SDK formatter cannot take a list of annotations. All artifacts are
+  /// written concurrently.
+  ///
+  /// @param request The artifacts to export and their output paths
+  /// @return One result with timing per exported artifact, in request order
+  func exportArtifacts(request: DocumentExportRequest, completion: @escaping (Result<[DocumentExportResult], Error>) -> Void)
+  /// Searches the page text for the given regular expressions and covers
+  /// every match with a redaction annotation.
+  ///
+  /// Pages are scanned in parallel. When [RedactionRequest.outputPath] is
+  /// set, the redactions are also applied and the redacted document is
+  /// written to that path.
+  ///
+  /// @param request The patterns, pages and output of the redaction
+  /// @return The matches per page and the scan throughput
+  func redactPatterns(request: RedactionRequest, completion: @escaping (Result<RedactionResult, Error>) -> Void)
+  /// Waits for the warm-up requested in [HeadlessDocumentOpenOptions.warmUp]
+  /// and returns the timing of each phase.
+  ///
+  /// @return The warm-up timings, with no phases if no warm-up was requested
+  func getWarmUpResult(completion: @escaping (Result<DocumentWarmUpResult, Error>) -> Void)
+  /// Renders a page to an encoded image without a viewer.
+  ///
+  /// Rendered pages are kept in an in-memory cache, so rendering the same page
+  /// at the same size again only encodes it. Different pages can be rendered
+  /// concurrently.
+  ///
+  /// @param pageIndex Zero-based index of the page to render
+  /// @param width Width of the image in pixels
+  /// @param height Height of the image in pixels
+  /// @param options Format, output and cache options
+  /// @return The encoded image or the path of the image file
+  func renderPage(pageIndex: Int64, width: Int64, height: Int64, options: PageRenderOptions?, completion: @escaping (Result<RenderedPage, Error>) -> Void)
+  /// Returns a thumbnail of a page from the persistent thumbnail cache, rendering
+  /// it first if needed.
+  ///
+  /// Thumbnails are rendered at the smallest size bucket of 64, 128, 256, 512,
+  /// 1024 or 2048 pixels that is at least [maxSize], so the longer side of the
+  /// thumbnail may be larger than requested.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @param maxSize Minimum length of the longer side in pixels
+  /// @return The cached thumbnail file and its size
+  func getThumbnail(pageIndex: Int64, maxSize: Int64, completion: @escaping (Result<ThumbnailResult, Error>) -> Void)
+  /// Renders the thumbnails of the given pages into the thumbnail cache in the
+  /// background. Completes once all thumbnails are cached.
+  ///
+  /// @param pageIndexes Zero-based indexes of the pages
+  /// @param maxSize Minimum length of the longer side in pixels
+  func prefetchThumbnails(pageIndexes: [Int64], maxSize: Int64, completion: @escaping (Result<Void, Error>) -> Void)
+  /// Returns the text of a page.
+  ///
+  /// The text is cached until the document is saved.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @return The text of the page
+  func getPageText(pageIndex: Int64, completion: @escaping (Result<String, Error>) -> Void)
+  /// Extracts the text of all pages.
+  ///
+  /// Up to [maxConcurrency] pages are extracted at the same time. The pages
+  /// are sent in order, [pagesPerChunk] at a time, to
+  /// [PageTextExtractionCallbacks.onPageTextChunk] on the channel suffixed with
+  /// [extractionId]. All chunks are sent before this method completes.
+  ///
+  /// @param extractionId Message channel suffix for the chunk callbacks
+  /// @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+  /// @param pagesPerChunk Number of pages per chunk, defaults to 16
+  /// @return Totals of the extraction
+  func extractAllText(extractionId: String, maxConcurrency: Int64?, pagesPerChunk: Int64?, completion: @escaping (Result<TextExtractionSummary, Error>) -> Void)
+  /// Searches the text of all pages using the search index of the document.
+  ///
+  /// The index is stored on disk and reused for the same document file. Documents
+  /// shown in a view start loading or building it in the background once they are
+  /// loaded, other documents on their first search. The index is only updated
+  /// when the document is saved in place, so unsaved changes are not found. The
+  /// hits of each page are sent in page order to
+  /// [TextSearchCallbacks.onPageResult] on the channel suffixed with [searchId].
+  /// All pages are sent before this method completes.
+  ///
+  /// @param searchId Message channel suffix for the page callbacks
+  /// @param query The text to search for
+  /// @param options Optional search settings
+  /// @return Totals of the search
+  func searchText(searchId: String, query: String, options: TextSearchOptions?, completion: @escaping (Result<TextSearchSummary, Error>) -> Void)
+  /// Returns the form fields that changed since the previous call as a JSON string.
+  ///
+  /// Changes are collected from the first form field request on the document,
+  /// so the first call after [getFormFieldsJson] returns the fields changed
+  /// since then. The JSON has the same format as [getFormFieldsJson]. Removed
+  /// fields are not included.
+  func getDirtyFormFieldsJson(completion: @escaping (Result<String, Error>) -> Void)
+  /// Sets the values of several form fields at once.
+  ///
+  /// Values use the same format as [setFormFieldValue]. All fields are looked
+  /// up in one pass over the form and the values are applied together, so
+  /// the viewer refreshes once for the whole batch. Fields that cannot be set
+  /// are skipped and reported.
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  func setFormFieldValues(values: [String: String], completion: @escaping (Result<[FormFieldWriteError], Error>) -> Void)
+  /// Returns the typed values of several form fields in one call.
+  ///
+  /// @param fullyQualifiedNames Names of the fields to read, or null for all fields
+  /// @return The values in form order. Names without a matching field are left out.
+  func getFormFieldValues(fullyQualifiedNames: [String]?, completion: @escaping (Result<[FormFieldValue], Error>) -> Void)
+  /// Replaces the form validation rules of the document.
+  ///
+  /// Rules are checked natively. After this call every field is validated once,
+  /// afterwards only fields changed since the previous validation are checked
+  /// again. Pass an empty list to remove all rules.
+  ///
+  /// @param rules The rules, checked in this order
+  /// @throws NutrientApiError if a field does not exist or a rule is invalid
+  func setFormValidationRules(rules: [FormValidationRule], completion: @escaping (Result<Void, Error>) -> Void)
+  /// Returns the violations of the form validation rules.
+  ///
+  /// Only fields whose value changed since the previous call are checked again,
+  /// together with fields that must equal them, so calling this on every
+  /// `formFieldValuesUpdated` event stays cheap.
+  ///
+  /// @return All current violations, in the order of the rules
+  func validateFormFields(completion: @escaping (Result<[FormValidationViolation], Error>) -> Void)
+  /// Returns the JSON of the form fields in the subtree named by [prefix].
+  ///
+  /// Names are matched per dot separated segment, so `applicant.address`
+  /// matches the field `applicant.address` and every field below it, but not
+  /// `applicant.addressee`. An empty prefix matches all fields.
+  ///
+  /// @param prefix Fully qualified name of the subtree
+  /// @return A JSON array of the fields, in form order
+  func getFormFieldsJsonByPrefix(prefix: String, completion: @escaping (Result<String, Error>) -> Void)
+  /// Returns the typed values of the form fields in the subtree named by [prefix].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @return The values in form order
+  func getFormFieldValuesByPrefix(prefix: String, completion: @escaping (Result<[FormFieldValue], Error>) -> Void)
+  /// Sets the values of several form fields in the subtree named by [prefix].
+  ///
+  /// Keys of [values] are names relative to [prefix], e.g. `street` for the
+  /// field `applicant.address.street` when the prefix is `applicant.address`.
+  /// Values use the format of [setFormFieldValue].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @param values Relative field names mapped to their new values
+  /// @return The fields that could not be set, with fully qualified names
+  func setFormFieldValuesByPrefix(prefix: String, values: [String: String], completion: @escaping (Result<[FormFieldWriteError], Error>) -> Void)
+  /// Returns the JSON of all form fields without their widget annotations.
+  ///
+  /// Same as [getFormFieldsJson] without the `annotation` and `annotations`
+  /// members, which hold the Instant JSON of the widget annotation and are the
+  /// most expensive part of the serialization. Use
+  /// [getFormFieldAnnotationsJson] to load them for single fields when needed.
+  ///
+  /// @return A JSON array of the fields, in form order
+  func getLeanFormFieldsJson(completion: @escaping (Result<String, Error>) -> Void)
+  /// Returns the Instant JSON of the widget annotations of a form field.
   ///
-  /// Returns a [Future] that completes with a boolean indicating whether
-  /// entering annotation creation mode was successful.
-  func enterAnnotationCreationMode(annotationTool: AnnotationTool?, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Exits annotation creation mode.
+  /// @param fullyQualifiedName Fully qualified name of the field
+  /// @return A JSON array with one Instant JSON object per widget
+  /// @throws NutrientApiError if there is no field with this name
+  func getFormFieldAnnotationsJson(fullyQualifiedName: String, completion: @escaping (Result<String, Error>) -> Void)
+  /// Imports form field values from an XFDF or FDF file.
   ///
-  /// Returns a [Future] that completes with a boolean indicating whether
-  /// exiting annotation creation mode was successful.
-  func exitAnnotationCreationMode(completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Sets the annotation menu configuration for the current view controller.
-  /// This configuration applies only to annotation menus in the current document view.
+  /// The file is parsed as a stream in the background, annotations and other
+  /// non-form data are ignored. Values are applied [chunkSize] fields at a
+  /// time, each chunk in its own short main thread task, so a viewer stays
+  /// responsive while a large form is filled. After every chunk, the
+  /// progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId]. Fields that cannot be set are
+  /// reported in the result and do not stop the import.
   ///
-  /// @param configuration The annotation menu configuration to apply.
-  /// @return True if the configuration was set successfully, false otherwise.
-  func setAnnotationMenuConfiguration(configuration: AnnotationMenuConfigurationData, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Converts a point from the page view's coordinate space to PDF page coordinates.
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the XFDF or FDF file
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields applied per main thread task, defaults to 250
+  /// @return Totals and failed fields of the import
+  func importFormData(transferId: String, path: String, format: String?, chunkSize: Int64?, completion: @escaping (Result<FormDataTransferResult, Error>) -> Void)
+  /// Exports the values of all form fields to an XFDF or FDF file.
   ///
-  /// [point] must be in logical view coordinates (UIKit points on iOS /
-  /// Flutter logical pixels on Android), relative to the top-left corner of
-  /// the page view that renders [pageIndex]. This corresponds to the coordinates
-  /// reported by gesture or tap callbacks on the page view widget.
-  /// [pageIndex] is zero-based.
-  func convertViewPointToPdfPoint(pageIndex: Int64, point: PointF, completion: @escaping (Result<PointF, Error>) -> Void)
-  /// Converts a point from PDF page coordinates to the page view's coordinate space.
+  /// Values are read and written [chunkSize] fields at a time in the
+  /// background and streamed to the file, without building the whole
+  /// document in memory. Annotations are not exported. After every chunk,
+  /// the progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId].
   ///
-  /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
-  /// Flutter logical pixels on Android), relative to the top-left corner of
-  /// the page view that renders [pageIndex].
-  /// [pageIndex] is zero-based.
-  func convertPdfPointToViewPoint(pageIndex: Int64, point: PointF, completion: @escaping (Result<PointF, Error>) -> Void)
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the file to write, an existing file is replaced
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields written per chunk, defaults to 250
+  /// @return Totals of the export
+  func exportFormData(transferId: String, path: String, format: String?, chunkSize: Int64?, completion: @escaping (Result<FormDataTransferResult, Error>) -> Void)
 }
 
 /// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
-class NutrientViewControllerApiSetup {
+class PdfDocumentApiSetup {
   static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
-  /// Sets up an instance of `NutrientViewControllerApi` to handle messages through the `binaryMessenger`.
-  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: NutrientViewControllerApi?, messageChannelSuffix: String = "") {
+  /// Sets up an instance of `PdfDocumentApi` to handle messages through the `binaryMessenger`.
+  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: PdfDocumentApi?, messageChannelSuffix: String = "") {
     let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+    /// Returns the page info for the given page index.
+    /// pageIndex The index of the page. This is a zero-based index.
+    let getPageInfoChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPageInfoChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        api.getPageInfo(pageIndex: pageIndexArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getPageInfoChannel.setMessageHandler(nil)
+    }
+    /// Exports the document as a PDF.
+    /// options:[DocumentSaveOptions] The options to use when exporting the document.
+    /// Returns a [Uint8List] containing the exported PDF data.
+    let exportPdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      exportPdfChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let optionsArg: DocumentSaveOptions? = nilOrValue(args[0])
+        api.exportPdf(options: optionsArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      exportPdfChannel.setMessageHandler(nil)
+    }
+    /// Returns the form field with the given name as a JSON string.
+    /// The JSON string contains the form field data that can be decoded
+    /// to a Map<String, dynamic> on the Dart side.
+    /// Using JSON string avoids Pigeon's CastList issues with nested types.
+    let getFormFieldJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getFormFieldJsonChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let fieldNameArg = args[0] as! String
+        api.getFormFieldJson(fieldName: fieldNameArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getFormFieldJsonChannel.setMessageHandler(nil)
+    }
+    /// Returns a list of all form fields in the document as a JSON string.
+    /// The JSON string contains an array of form field objects that can be
+    /// decoded to List<Map<String, dynamic>> on the Dart side.
+    /// Using JSON string avoids Pigeon's CastList issues with nested types.
+    let getFormFieldsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getFormFieldsJsonChannel.setMessageHandler { _, reply in
+        api.getFormFieldsJson { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getFormFieldsJsonChannel.setMessageHandler(nil)
+    }
     /// Sets the value of a form field by specifying its fully qualified field name.
-    /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
-    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       setFormFieldValueChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2031,7 +4658,7 @@ class NutrientViewControllerApiSetup {
       setFormFieldValueChannel.setMessageHandler(nil)
     }
     /// Gets the form field value by specifying its fully qualified name.
-    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getFormFieldValueChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2049,7 +4676,7 @@ class NutrientViewControllerApiSetup {
       getFormFieldValueChannel.setMessageHandler(nil)
     }
     /// Applies Instant document JSON to the presented document.
-    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       applyInstantJsonChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2067,7 +4694,7 @@ class NutrientViewControllerApiSetup {
       applyInstantJsonChannel.setMessageHandler(nil)
     }
     /// Exports Instant document JSON from the presented document.
-    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       exportInstantJsonChannel.setMessageHandler { _, reply in
         api.exportInstantJson { result in
@@ -2084,12 +4711,13 @@ class NutrientViewControllerApiSetup {
     }
     /// Adds the given annotation to the presented document.
     /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       addAnnotationChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let annotationArg = args[0] as! String
-        api.addAnnotation(annotation: annotationArg) { result in
+        let jsonAnnotationArg = args[0] as! String
+        let attachmentArg: Any? = args[1]
+        api.addAnnotation(jsonAnnotation: jsonAnnotationArg, attachment: attachmentArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2101,14 +4729,41 @@ class NutrientViewControllerApiSetup {
     } else {
       addAnnotationChannel.setMessageHandler(nil)
     }
+    /// Updates the given annotation in the presented document.
+    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+    ///
+    /// @deprecated Use setAnnotationProperties() or specific property setters instead.
+    /// This method has a critical bug that causes data loss for annotations with attachments.
+    /// It will be removed in version 7.0.0.
+    ///
+    /// Migration:
+    /// - For single property updates: Use specific setters like setAnnotationColor()
+    /// - For multiple property updates: Use setAnnotationProperties()
+    let updateAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      updateAnnotationChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let jsonAnnotationArg = args[0] as! String
+        api.updateAnnotation(jsonAnnotation: jsonAnnotationArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      updateAnnotationChannel.setMessageHandler(nil)
+    }
     /// Removes the given annotation from the presented document.
     /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       removeAnnotationChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let annotationArg = args[0] as! String
-        api.removeAnnotation(annotation: annotationArg) { result in
+        let jsonAnnotationArg = args[0] as! String
+        api.removeAnnotation(jsonAnnotation: jsonAnnotationArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2123,7 +4778,10 @@ class NutrientViewControllerApiSetup {
     /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
     /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
     /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    ///
+    /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
+    /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
+    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getAnnotationsJsonChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2144,7 +4802,7 @@ class NutrientViewControllerApiSetup {
     /// Returns a JSON string containing all unsaved annotations in the presented document.
     /// The JSON string can be decoded to the appropriate type on the Dart side.
     /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getAllUnsavedAnnotationsJsonChannel.setMessageHandler { _, reply in
         api.getAllUnsavedAnnotationsJson { result in
@@ -2159,29 +4817,8 @@ class NutrientViewControllerApiSetup {
     } else {
       getAllUnsavedAnnotationsJsonChannel.setMessageHandler(nil)
     }
-    /// Processes annotations of the given type with the provided processing
-    /// mode and stores the PDF at the given destination path.
-    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      processAnnotationsChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let typeArg = args[0] as! AnnotationType
-        let processingModeArg = args[1] as! AnnotationProcessingMode
-        let destinationPathArg = args[2] as! String
-        api.processAnnotations(type: typeArg, processingMode: processingModeArg, destinationPath: destinationPathArg) { result in
-          switch result {
-          case .success(let res):
-            reply(wrapResult(res))
-          case .failure(let error):
-            reply(wrapError(error))
-          }
-        }
-      }
-    } else {
-      processAnnotationsChannel.setMessageHandler(nil)
-    }
     /// Imports annotations from the XFDF file at the given path.
-    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       importXfdfChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2199,7 +4836,7 @@ class NutrientViewControllerApiSetup {
       importXfdfChannel.setMessageHandler(nil)
     }
     /// Exports annotations to the XFDF file at the given path.
-    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       exportXfdfChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -2218,10 +4855,13 @@ class NutrientViewControllerApiSetup {
     }
     /// Saves the document back to its original location if it has been changed.
     /// If there were no changes to the document, the document file will not be modified.
-    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      saveChannel.setMessageHandler { _, reply in
-        api.save { result in
+      saveChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let outputPathArg: String? = nilOrValue(args[0])
+        let optionsArg: DocumentSaveOptions? = nilOrValue(args[1])
+        api.save(outputPath: outputPathArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2233,16 +4873,61 @@ class NutrientViewControllerApiSetup {
     } else {
       saveChannel.setMessageHandler(nil)
     }
-    /// Sets the annotation preset configurations for the given annotation tools.
-    /// @param configurations A map of annotation tools and their corresponding configurations.
-    /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
-    /// @return True if the configurations were set successfully, false otherwise.
-    let setAnnotationConfigurationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationConfigurations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Get the total number of pages in the document.
+    let getPageCountChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPageCountChannel.setMessageHandler { _, reply in
+        api.getPageCount { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getPageCountChannel.setMessageHandler(nil)
+    }
+    /// Processes annotations of the given type with the provided processing
+    /// mode and stores the PDF at the given destination path.
+    ///
+    /// This method works for both viewer-bound and headless documents.
+    ///
+    /// @param type The type of annotations to process (e.g., all, ink, highlight)
+    /// @param processingMode The processing mode (flatten, embed, remove, print)
+    /// @param destinationPath The path where the processed PDF should be saved
+    /// @return true if processing succeeded, false otherwise
+    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      processAnnotationsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let typeArg = args[0] as! AnnotationType
+        let processingModeArg = args[1] as! AnnotationProcessingMode
+        let destinationPathArg = args[2] as! String
+        api.processAnnotations(type: typeArg, processingMode: processingModeArg, destinationPath: destinationPathArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      processAnnotationsChannel.setMessageHandler(nil)
+    }
+    /// Closes the document and releases all native resources.
+    ///
+    /// This must be called when a headless document is no longer needed
+    /// to free memory and file handles. For viewer-bound documents,
+    /// this is handled automatically by the view lifecycle.
+    ///
+    /// @return true if the document was closed successfully
+    let closeDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      setAnnotationConfigurationsChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let configurationsArg = args[0] as! [String: [String: Any]]
-        api.setAnnotationConfigurations(configurations: configurationsArg) { result in
+      closeDocumentChannel.setMessageHandler { _, reply in
+        api.closeDocument { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2252,17 +4937,25 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      setAnnotationConfigurationsChannel.setMessageHandler(nil)
+      closeDocumentChannel.setMessageHandler(nil)
     }
-    /// Gets the visible rect of the given page.
-    /// pageIndex The index of the page. This is a zero-based index.
-    /// Returns a [Future] that completes with the visible rect of the given page.
-    let getVisibleRectChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getVisibleRect\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
+    ///
+    /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
+    /// Returns true if any annotations have been added, modified, or deleted
+    /// since the document was loaded or last saved.
+    ///
+    /// **Platform support:**
+    /// - iOS: ✅ Supported
+    /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
+    /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+    ///
+    /// @return true if there are dirty annotations
+    /// @throws On Android/Web
+    let iOSHasDirtyAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getVisibleRectChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        api.getVisibleRect(pageIndex: pageIndexArg) { result in
+      iOSHasDirtyAnnotationsChannel.setMessageHandler { _, reply in
+        api.iOSHasDirtyAnnotations { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2272,21 +4965,30 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      getVisibleRectChannel.setMessageHandler(nil)
+      iOSHasDirtyAnnotationsChannel.setMessageHandler(nil)
     }
-    /// Zooms to the given rect on the given page.
-    /// pageIndex The index of the page. This is a zero-based index.
-    /// rect The rect to zoom to.
-    /// Returns a [Future] that completes when the zoom operation is done.
-    let zoomToRectChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.zoomToRect\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **iOS only.** Gets the dirty state of a specific annotation.
+    ///
+    /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
+    /// An annotation is dirty if it has been modified since the document
+    /// was loaded or last saved.
+    ///
+    /// **Platform support:**
+    /// - iOS: ✅ Supported
+    /// - Android: ❌ Not available (no annotation-level isDirty)
+    /// - Web: ❌ Not available
+    ///
+    /// @param pageIndex Zero-based page index
+    /// @param annotationId The annotation's unique identifier
+    /// @return true if the annotation is dirty
+    /// @throws On Android/Web, or if annotation not found
+    let iOSGetAnnotationIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      zoomToRectChannel.setMessageHandler { message, reply in
+      iOSGetAnnotationIsDirtyChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
         let pageIndexArg = args[0] as! Int64
-        let rectArg = args[1] as! PdfRect
-        let animatedArg: Bool? = nilOrValue(args[2])
-        let durationArg: Double? = nilOrValue(args[3])
-        api.zoomToRect(pageIndex: pageIndexArg, rect: rectArg, animated: animatedArg, duration: durationArg) { result in
+        let annotationIdArg = args[1] as! String
+        api.iOSGetAnnotationIsDirty(pageIndex: pageIndexArg, annotationId: annotationIdArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2296,17 +4998,32 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      zoomToRectChannel.setMessageHandler(nil)
+      iOSGetAnnotationIsDirtyChannel.setMessageHandler(nil)
     }
-    /// Gets the zoom scale of the given page.
-    /// pageIndex The index of the page. This is a zero-based index.
-    /// Returns a [Future] that completes with the zoom scale of the given page.
-    let getZoomScaleChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getZoomScale\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **iOS only.** Sets the dirty state of a specific annotation.
+    ///
+    /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
+    /// This can be used to manually mark an annotation as needing save,
+    /// or to clear its dirty state.
+    ///
+    /// **Platform support:**
+    /// - iOS: ✅ Supported
+    /// - Android: ❌ Not available
+    /// - Web: ❌ Not available
+    ///
+    /// @param pageIndex Zero-based page index
+    /// @param annotationId The annotation's unique identifier
+    /// @param isDirty The dirty state to set
+    /// @return true if successfully set
+    /// @throws On Android/Web, or if annotation not found
+    let iOSSetAnnotationIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getZoomScaleChannel.setMessageHandler { message, reply in
+      iOSSetAnnotationIsDirtyChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
         let pageIndexArg = args[0] as! Int64
-        api.getZoomScale(pageIndex: pageIndexArg) { result in
+        let annotationIdArg = args[1] as! String
+        let isDirtyArg = args[2] as! Bool
+        api.iOSSetAnnotationIsDirty(pageIndex: pageIndexArg, annotationId: annotationIdArg, isDirty: isDirtyArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2316,51 +5033,50 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      getZoomScaleChannel.setMessageHandler(nil)
-    }
-    let addEventListenerChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addEventListener\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
-    if let api = api {
-      addEventListenerChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let eventArg = args[0] as! NutrientEvent
-        do {
-          try api.addEventListener(event: eventArg)
-          reply(wrapResult(nil))
-        } catch {
-          reply(wrapError(error))
-        }
-      }
-    } else {
-      addEventListenerChannel.setMessageHandler(nil)
+      iOSSetAnnotationIsDirtyChannel.setMessageHandler(nil)
     }
-    let removeEventListenerChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeEventListener\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **iOS only.** Clears the needs-save flag on all annotation providers.
+    ///
+    /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
+    /// This resets the modification tracking without saving to disk.
+    ///
+    /// **Platform support:**
+    /// - iOS: ✅ Supported
+    /// - Android: ❌ Not available (was removed from SDK)
+    /// - Web: ❌ Not available
+    ///
+    /// @return true if successfully cleared
+    /// @throws On Android/Web
+    let iOSClearNeedsSaveFlagChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      removeEventListenerChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let eventArg = args[0] as! NutrientEvent
-        do {
-          try api.removeEventListener(event: eventArg)
-          reply(wrapResult(nil))
-        } catch {
-          reply(wrapError(error))
+      iOSClearNeedsSaveFlagChannel.setMessageHandler { _, reply in
+        api.iOSClearNeedsSaveFlag { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
         }
       }
     } else {
-      removeEventListenerChannel.setMessageHandler(nil)
+      iOSClearNeedsSaveFlagChannel.setMessageHandler(nil)
     }
-    /// Enters annotation creation mode.
+    /// **Android only.** Checks if the annotation provider has unsaved changes.
     ///
-    /// If [annotationTool] is provided, that specific tool will be activated.
-    /// If no tool is provided, the default annotation tool will be used.
+    /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
     ///
-    /// Returns a [Future] that completes with a boolean indicating whether
-    /// entering annotation creation mode was successful.
-    let enterAnnotationCreationModeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.enterAnnotationCreationMode\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **Platform support:**
+    /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+    ///
+    /// @return true if there are unsaved annotation changes
+    /// @throws On iOS/Web
+    let androidHasUnsavedAnnotationChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      enterAnnotationCreationModeChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let annotationToolArg: AnnotationTool? = nilOrValue(args[0])
-        api.enterAnnotationCreationMode(annotationTool: annotationToolArg) { result in
+      androidHasUnsavedAnnotationChangesChannel.setMessageHandler { _, reply in
+        api.androidHasUnsavedAnnotationChanges { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2370,16 +5086,23 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      enterAnnotationCreationModeChannel.setMessageHandler(nil)
+      androidHasUnsavedAnnotationChangesChannel.setMessageHandler(nil)
     }
-    /// Exits annotation creation mode.
+    /// **Android only.** Checks if the form provider has unsaved changes.
     ///
-    /// Returns a [Future] that completes with a boolean indicating whether
-    /// exiting annotation creation mode was successful.
-    let exitAnnotationCreationModeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exitAnnotationCreationMode\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Not available at provider level
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Not available
+    ///
+    /// @return true if there are unsaved form field changes
+    /// @throws On iOS/Web
+    let androidHasUnsavedFormChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      exitAnnotationCreationModeChannel.setMessageHandler { _, reply in
-        api.exitAnnotationCreationMode { result in
+      androidHasUnsavedFormChangesChannel.setMessageHandler { _, reply in
+        api.androidHasUnsavedFormChanges { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2389,19 +5112,23 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      exitAnnotationCreationModeChannel.setMessageHandler(nil)
+      androidHasUnsavedFormChangesChannel.setMessageHandler(nil)
     }
-    /// Sets the annotation menu configuration for the current view controller.
-    /// This configuration applies only to annotation menus in the current document view.
+    /// **Android only.** Checks if the bookmark provider has unsaved changes.
     ///
-    /// @param configuration The annotation menu configuration to apply.
-    /// @return True if the configuration was set successfully, false otherwise.
-    let setAnnotationMenuConfigurationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationMenuConfiguration\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Not available at provider level
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Not available
+    ///
+    /// @return true if there are unsaved bookmark changes
+    /// @throws On iOS/Web
+    let androidHasUnsavedBookmarkChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      setAnnotationMenuConfigurationChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let configurationArg = args[0] as! AnnotationMenuConfigurationData
-        api.setAnnotationMenuConfiguration(configuration: configurationArg) { result in
+      androidHasUnsavedBookmarkChangesChannel.setMessageHandler { _, reply in
+        api.androidHasUnsavedBookmarkChanges { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2411,22 +5138,26 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      setAnnotationMenuConfigurationChannel.setMessageHandler(nil)
+      androidHasUnsavedBookmarkChangesChannel.setMessageHandler(nil)
     }
-    /// Converts a point from the page view's coordinate space to PDF page coordinates.
+    /// **Android only.** Gets the dirty state of a specific bookmark.
     ///
-    /// [point] must be in logical view coordinates (UIKit points on iOS /
-    /// Flutter logical pixels on Android), relative to the top-left corner of
-    /// the page view that renders [pageIndex]. This corresponds to the coordinates
-    /// reported by gesture or tap callbacks on the page view widget.
-    /// [pageIndex] is zero-based.
-    let convertViewPointToPdfPointChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertViewPointToPdfPoint\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Not available
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Not available
+    ///
+    /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+    /// @return true if the bookmark is dirty
+    /// @throws On iOS/Web, or if bookmark not found
+    let androidGetBookmarkIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      convertViewPointToPdfPointChannel.setMessageHandler { message, reply in
+      androidGetBookmarkIsDirtyChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        let pointArg = args[1] as! PointF
-        api.convertViewPointToPdfPoint(pageIndex: pageIndexArg, point: pointArg) { result in
+        let bookmarkIdArg = args[0] as! String
+        api.androidGetBookmarkIsDirty(bookmarkId: bookmarkIdArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2436,280 +5167,55 @@ class NutrientViewControllerApiSetup {
         }
       }
     } else {
-      convertViewPointToPdfPointChannel.setMessageHandler(nil)
+      androidGetBookmarkIsDirtyChannel.setMessageHandler(nil)
     }
-    /// Converts a point from PDF page coordinates to the page view's coordinate space.
+    /// **Android only.** Clears the dirty state of a specific bookmark.
     ///
-    /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
-    /// Flutter logical pixels on Android), relative to the top-left corner of
-    /// the page view that renders [pageIndex].
-    /// [pageIndex] is zero-based.
-    let convertPdfPointToViewPointChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertPdfPointToViewPoint\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Not available
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Not available
+    ///
+    /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+    /// @return true if successfully cleared
+    /// @throws On iOS/Web, or if bookmark not found
+    let androidClearBookmarkDirtyStateChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      convertPdfPointToViewPointChannel.setMessageHandler { message, reply in
+      androidClearBookmarkDirtyStateChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        let pointArg = args[1] as! PointF
-        api.convertPdfPointToViewPoint(pageIndex: pageIndexArg, point: pointArg) { result in
+        let bookmarkIdArg = args[0] as! String
+        api.androidClearBookmarkDirtyState(bookmarkId: bookmarkIdArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
           case .failure(let error):
             reply(wrapError(error))
           }
-        }
-      }
-    } else {
-      convertPdfPointToViewPointChannel.setMessageHandler(nil)
-    }
-  }
-}
-/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
-protocol PdfDocumentApi {
-  /// Returns the page info for the given page index.
-  /// pageIndex The index of the page. This is a zero-based index.
-  func getPageInfo(pageIndex: Int64, completion: @escaping (Result<PageInfo, Error>) -> Void)
-  /// Exports the document as a PDF.
-  /// options:[DocumentSaveOptions] The options to use when exporting the document.
-  /// Returns a [Uint8List] containing the exported PDF data.
-  func exportPdf(options: DocumentSaveOptions?, completion: @escaping (Result<FlutterStandardTypedData, Error>) -> Void)
-  /// Returns the form field with the given name as a JSON string.
-  /// The JSON string contains the form field data that can be decoded
-  /// to a Map<String, dynamic> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types.
-  func getFormFieldJson(fieldName: String, completion: @escaping (Result<String, Error>) -> Void)
-  /// Returns a list of all form fields in the document as a JSON string.
-  /// The JSON string contains an array of form field objects that can be
-  /// decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types.
-  func getFormFieldsJson(completion: @escaping (Result<String, Error>) -> Void)
-  /// Sets the value of a form field by specifying its fully qualified field name.
-  func setFormFieldValue(value: String, fullyQualifiedName: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Gets the form field value by specifying its fully qualified name.
-  func getFormFieldValue(fullyQualifiedName: String, completion: @escaping (Result<String?, Error>) -> Void)
-  /// Applies Instant document JSON to the presented document.
-  func applyInstantJson(annotationsJson: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Exports Instant document JSON from the presented document.
-  func exportInstantJson(completion: @escaping (Result<String?, Error>) -> Void)
-  /// Adds the given annotation to the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  func addAnnotation(jsonAnnotation: String, attachment: Any?, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Updates the given annotation in the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  ///
-  /// @deprecated Use setAnnotationProperties() or specific property setters instead.
-  /// This method has a critical bug that causes data loss for annotations with attachments.
-  /// It will be removed in version 7.0.0.
-  ///
-  /// Migration:
-  /// - For single property updates: Use specific setters like setAnnotationColor()
-  /// - For multiple property updates: Use setAnnotationProperties()
-  func updateAnnotation(jsonAnnotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Removes the given annotation from the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  func removeAnnotation(jsonAnnotation: String, completion: @escaping (Result<Bool?, Error>) -> Void)
-  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  ///
-  /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
-  /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
-  func getAnnotationsJson(pageIndex: Int64, type: String, completion: @escaping (Result<String, Error>) -> Void)
-  /// Returns a JSON string containing all unsaved annotations in the presented document.
-  /// The JSON string can be decoded to the appropriate type on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  func getAllUnsavedAnnotationsJson(completion: @escaping (Result<String, Error>) -> Void)
-  /// Imports annotations from the XFDF file at the given path.
-  func importXfdf(xfdfString: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Exports annotations to the XFDF file at the given path.
-  func exportXfdf(xfdfPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Saves the document back to its original location if it has been changed.
-  /// If there were no changes to the document, the document file will not be modified.
-  func save(outputPath: String?, options: DocumentSaveOptions?, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Get the total number of pages in the document.
-  func getPageCount(completion: @escaping (Result<Int64, Error>) -> Void)
-  /// Processes annotations of the given type with the provided processing
-  /// mode and stores the PDF at the given destination path.
-  ///
-  /// This method works for both viewer-bound and headless documents.
-  ///
-  /// @param type The type of annotations to process (e.g., all, ink, highlight)
-  /// @param processingMode The processing mode (flatten, embed, remove, print)
-  /// @param destinationPath The path where the processed PDF should be saved
-  /// @return true if processing succeeded, false otherwise
-  func processAnnotations(type: AnnotationType, processingMode: AnnotationProcessingMode, destinationPath: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// Closes the document and releases all native resources.
-  ///
-  /// This must be called when a headless document is no longer needed
-  /// to free memory and file handles. For viewer-bound documents,
-  /// this is handled automatically by the view lifecycle.
-  ///
-  /// @return true if the document was closed successfully
-  func closeDocument(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
-  ///
-  /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
-  /// Returns true if any annotations have been added, modified, or deleted
-  /// since the document was loaded or last saved.
-  ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
-  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
-  ///
-  /// @return true if there are dirty annotations
-  /// @throws On Android/Web
-  func iOSHasDirtyAnnotations(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **iOS only.** Gets the dirty state of a specific annotation.
-  ///
-  /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
-  /// An annotation is dirty if it has been modified since the document
-  /// was loaded or last saved.
-  ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available (no annotation-level isDirty)
-  /// - Web: ❌ Not available
-  ///
-  /// @param pageIndex Zero-based page index
-  /// @param annotationId The annotation's unique identifier
-  /// @return true if the annotation is dirty
-  /// @throws On Android/Web, or if annotation not found
-  func iOSGetAnnotationIsDirty(pageIndex: Int64, annotationId: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **iOS only.** Sets the dirty state of a specific annotation.
-  ///
-  /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
-  /// This can be used to manually mark an annotation as needing save,
-  /// or to clear its dirty state.
-  ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available
-  /// - Web: ❌ Not available
-  ///
-  /// @param pageIndex Zero-based page index
-  /// @param annotationId The annotation's unique identifier
-  /// @param isDirty The dirty state to set
-  /// @return true if successfully set
-  /// @throws On Android/Web, or if annotation not found
-  func iOSSetAnnotationIsDirty(pageIndex: Int64, annotationId: String, isDirty: Bool, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **iOS only.** Clears the needs-save flag on all annotation providers.
-  ///
-  /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
-  /// This resets the modification tracking without saving to disk.
-  ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available (was removed from SDK)
-  /// - Web: ❌ Not available
-  ///
-  /// @return true if successfully cleared
-  /// @throws On Android/Web
-  func iOSClearNeedsSaveFlag(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Checks if the annotation provider has unsaved changes.
-  ///
-  /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
-  ///
-  /// @return true if there are unsaved annotation changes
-  /// @throws On iOS/Web
-  func androidHasUnsavedAnnotationChanges(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Checks if the form provider has unsaved changes.
-  ///
-  /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available at provider level
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @return true if there are unsaved form field changes
-  /// @throws On iOS/Web
-  func androidHasUnsavedFormChanges(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Checks if the bookmark provider has unsaved changes.
-  ///
-  /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available at provider level
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @return true if there are unsaved bookmark changes
-  /// @throws On iOS/Web
-  func androidHasUnsavedBookmarkChanges(completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Gets the dirty state of a specific bookmark.
-  ///
-  /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-  /// @return true if the bookmark is dirty
-  /// @throws On iOS/Web, or if bookmark not found
-  func androidGetBookmarkIsDirty(bookmarkId: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Clears the dirty state of a specific bookmark.
-  ///
-  /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-  /// @return true if successfully cleared
-  /// @throws On iOS/Web, or if bookmark not found
-  func androidClearBookmarkDirtyState(bookmarkId: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Android only.** Gets the dirty state of a form field.
-  ///
-  /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available (use formField.dirty property differently)
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @param fullyQualifiedName The form field's fully qualified name
-  /// @return true if the form field is dirty
-  /// @throws On iOS/Web, or if form field not found
-  func androidGetFormFieldIsDirty(fullyQualifiedName: String, completion: @escaping (Result<Bool, Error>) -> Void)
-  /// **Web only.** Checks if the instance has unsaved changes.
-  ///
-  /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
-  /// This is a combined check that includes annotations, forms, and other changes.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
-  /// - Web: ✅ Supported
-  ///
-  /// @return true if there are unsaved changes
-  /// @throws On iOS/Android
-  func webHasUnsavedChanges(completion: @escaping (Result<Bool, Error>) -> Void)
-}
-
-/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
-class PdfDocumentApiSetup {
-  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
-  /// Sets up an instance of `PdfDocumentApi` to handle messages through the `binaryMessenger`.
-  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: PdfDocumentApi?, messageChannelSuffix: String = "") {
-    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
-    /// Returns the page info for the given page index.
-    /// pageIndex The index of the page. This is a zero-based index.
-    let getPageInfoChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+        }
+      }
+    } else {
+      androidClearBookmarkDirtyStateChannel.setMessageHandler(nil)
+    }
+    /// **Android only.** Gets the dirty state of a form field.
+    ///
+    /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Not available (use formField.dirty property differently)
+    /// - Android: ✅ Supported
+    /// - Web: ❌ Not available
+    ///
+    /// @param fullyQualifiedName The form field's fully qualified name
+    /// @return true if the form field is dirty
+    /// @throws On iOS/Web, or if form field not found
+    let androidGetFormFieldIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getPageInfoChannel.setMessageHandler { message, reply in
+      androidGetFormFieldIsDirtyChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        api.getPageInfo(pageIndex: pageIndexArg) { result in
+        let fullyQualifiedNameArg = args[0] as! String
+        api.androidGetFormFieldIsDirty(fullyQualifiedName: fullyQualifiedNameArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2719,17 +5225,24 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getPageInfoChannel.setMessageHandler(nil)
+      androidGetFormFieldIsDirtyChannel.setMessageHandler(nil)
     }
-    /// Exports the document as a PDF.
-    /// options:[DocumentSaveOptions] The options to use when exporting the document.
-    /// Returns a [Uint8List] containing the exported PDF data.
-    let exportPdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// **Web only.** Checks if the instance has unsaved changes.
+    ///
+    /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
+    /// This is a combined check that includes annotations, forms, and other changes.
+    ///
+    /// **Platform support:**
+    /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+    /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
+    /// - Web: ✅ Supported
+    ///
+    /// @return true if there are unsaved changes
+    /// @throws On iOS/Android
+    let webHasUnsavedChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      exportPdfChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let optionsArg: DocumentSaveOptions? = nilOrValue(args[0])
-        api.exportPdf(options: optionsArg) { result in
+      webHasUnsavedChangesChannel.setMessageHandler { _, reply in
+        api.webHasUnsavedChanges { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2739,18 +5252,24 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      exportPdfChannel.setMessageHandler(nil)
+      webHasUnsavedChangesChannel.setMessageHandler(nil)
     }
-    /// Returns the form field with the given name as a JSON string.
-    /// The JSON string contains the form field data that can be decoded
-    /// to a Map<String, dynamic> on the Dart side.
-    /// Using JSON string avoids Pigeon's CastList issues with nested types.
-    let getFormFieldJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Processes annotations only on the pages selected by [scopes] and stores
+    /// the PDF at the given destination path. Pages outside of the scopes are
+    /// copied unchanged, so the work scales with the number of pages processed.
+    ///
+    /// @param processingMode The processing mode (flatten, embed, remove, print)
+    /// @param destinationPath The path where the processed PDF should be saved
+    /// @param scopes The page ranges and annotation types to process
+    /// @return true if processing succeeded, false otherwise
+    let processAnnotationsOnPagesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotationsOnPages\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getFormFieldJsonChannel.setMessageHandler { message, reply in
+      processAnnotationsOnPagesChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let fieldNameArg = args[0] as! String
-        api.getFormFieldJson(fieldName: fieldNameArg) { result in
+        let processingModeArg = args[0] as! AnnotationProcessingMode
+        let destinationPathArg = args[1] as! String
+        let scopesArg = args[2] as! [AnnotationProcessingScope]
+        api.processAnnotationsOnPages(processingMode: processingModeArg, destinationPath: destinationPathArg, scopes: scopesArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2760,16 +5279,24 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getFormFieldJsonChannel.setMessageHandler(nil)
+      processAnnotationsOnPagesChannel.setMessageHandler(nil)
     }
-    /// Returns a list of all form fields in the document as a JSON string.
-    /// The JSON string contains an array of form field objects that can be
-    /// decoded to List<Map<String, dynamic>> on the Dart side.
-    /// Using JSON string avoids Pigeon's CastList issues with nested types.
-    let getFormFieldsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Exports any combination of a flattened PDF, an XFDF file and an Instant
+    /// JSON snapshot in a single call.
+    ///
+    /// The annotations are collected once and shared by the flattened PDF and
+    /// the XFDF file. The Instant JSON snapshot collects them again, as the
+    /// SDK formatter cannot take a list of annotations. All artifacts are
+    /// written concurrently.
+    ///
+    /// @param request The artifacts to export and their output paths
+    /// @return One result with timing per exported artifact, in request order
+    let exportArtifactsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportArtifacts\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getFormFieldsJsonChannel.setMessageHandler { _, reply in
-        api.getFormFieldsJson { result in
+      exportArtifactsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let requestArg = args[0] as! DocumentExportRequest
+        api.exportArtifacts(request: requestArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2779,16 +5306,23 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getFormFieldsJsonChannel.setMessageHandler(nil)
+      exportArtifactsChannel.setMessageHandler(nil)
     }
-    /// Sets the value of a form field by specifying its fully qualified field name.
-    let setFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Searches the page text for the given regular expressions and covers
+    /// every match with a redaction annotation.
+    ///
+    /// Pages are scanned in parallel. When [RedactionRequest.outputPath] is
+    /// set, the redactions are also applied and the redacted document is
+    /// written to that path.
+    ///
+    /// @param request The patterns, pages and output of the redaction
+    /// @return The matches per page and the scan throughput
+    let redactPatternsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.redactPatterns\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      setFormFieldValueChannel.setMessageHandler { message, reply in
+      redactPatternsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let valueArg = args[0] as! String
-        let fullyQualifiedNameArg = args[1] as! String
-        api.setFormFieldValue(value: valueArg, fullyQualifiedName: fullyQualifiedNameArg) { result in
+        let requestArg = args[0] as! RedactionRequest
+        api.redactPatterns(request: requestArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2798,15 +5332,16 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      setFormFieldValueChannel.setMessageHandler(nil)
+      redactPatternsChannel.setMessageHandler(nil)
     }
-    /// Gets the form field value by specifying its fully qualified name.
-    let getFormFieldValueChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Waits for the warm-up requested in [HeadlessDocumentOpenOptions.warmUp]
+    /// and returns the timing of each phase.
+    ///
+    /// @return The warm-up timings, with no phases if no warm-up was requested
+    let getWarmUpResultChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getWarmUpResult\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getFormFieldValueChannel.setMessageHandler { message, reply in
-        let args = message as! [Any?]
-        let fullyQualifiedNameArg = args[0] as! String
-        api.getFormFieldValue(fullyQualifiedName: fullyQualifiedNameArg) { result in
+      getWarmUpResultChannel.setMessageHandler { _, reply in
+        api.getWarmUpResult { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2816,15 +5351,28 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getFormFieldValueChannel.setMessageHandler(nil)
+      getWarmUpResultChannel.setMessageHandler(nil)
     }
-    /// Applies Instant document JSON to the presented document.
-    let applyInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Renders a page to an encoded image without a viewer.
+    ///
+    /// Rendered pages are kept in an in-memory cache, so rendering the same page
+    /// at the same size again only encodes it. Different pages can be rendered
+    /// concurrently.
+    ///
+    /// @param pageIndex Zero-based index of the page to render
+    /// @param width Width of the image in pixels
+    /// @param height Height of the image in pixels
+    /// @param options Format, output and cache options
+    /// @return The encoded image or the path of the image file
+    let renderPageChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.renderPage\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      applyInstantJsonChannel.setMessageHandler { message, reply in
+      renderPageChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let annotationsJsonArg = args[0] as! String
-        api.applyInstantJson(annotationsJson: annotationsJsonArg) { result in
+        let pageIndexArg = args[0] as! Int64
+        let widthArg = args[1] as! Int64
+        let heightArg = args[2] as! Int64
+        let optionsArg: PageRenderOptions? = nilOrValue(args[3])
+        api.renderPage(pageIndex: pageIndexArg, width: widthArg, height: heightArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2834,13 +5382,25 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      applyInstantJsonChannel.setMessageHandler(nil)
+      renderPageChannel.setMessageHandler(nil)
     }
-    /// Exports Instant document JSON from the presented document.
-    let exportInstantJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Returns a thumbnail of a page from the persistent thumbnail cache, rendering
+    /// it first if needed.
+    ///
+    /// Thumbnails are rendered at the smallest size bucket of 64, 128, 256, 512,
+    /// 1024 or 2048 pixels that is at least [maxSize], so the longer side of the
+    /// thumbnail may be larger than requested.
+    ///
+    /// @param pageIndex Zero-based index of the page
+    /// @param maxSize Minimum length of the longer side in pixels
+    /// @return The cached thumbnail file and its size
+    let getThumbnailChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getThumbnail\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      exportInstantJsonChannel.setMessageHandler { _, reply in
-        api.exportInstantJson { result in
+      getThumbnailChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        let maxSizeArg = args[1] as! Int64
+        api.getThumbnail(pageIndex: pageIndexArg, maxSize: maxSizeArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2850,17 +5410,43 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      exportInstantJsonChannel.setMessageHandler(nil)
+      getThumbnailChannel.setMessageHandler(nil)
     }
-    /// Adds the given annotation to the presented document.
-    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-    let addAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Renders the thumbnails of the given pages into the thumbnail cache in the
+    /// background. Completes once all thumbnails are cached.
+    ///
+    /// @param pageIndexes Zero-based indexes of the pages
+    /// @param maxSize Minimum length of the longer side in pixels
+    let prefetchThumbnailsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.prefetchThumbnails\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      addAnnotationChannel.setMessageHandler { message, reply in
+      prefetchThumbnailsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let jsonAnnotationArg = args[0] as! String
-        let attachmentArg: Any? = args[1]
-        api.addAnnotation(jsonAnnotation: jsonAnnotationArg, attachment: attachmentArg) { result in
+        let pageIndexesArg = args[0] as! [Int64]
+        let maxSizeArg = args[1] as! Int64
+        api.prefetchThumbnails(pageIndexes: pageIndexesArg, maxSize: maxSizeArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      prefetchThumbnailsChannel.setMessageHandler(nil)
+    }
+    /// Returns the text of a page.
+    ///
+    /// The text is cached until the document is saved.
+    ///
+    /// @param pageIndex Zero-based index of the page
+    /// @return The text of the page
+    let getPageTextChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageText\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPageTextChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let pageIndexArg = args[0] as! Int64
+        api.getPageText(pageIndex: pageIndexArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2870,24 +5456,27 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      addAnnotationChannel.setMessageHandler(nil)
+      getPageTextChannel.setMessageHandler(nil)
     }
-    /// Updates the given annotation in the presented document.
-    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+    /// Extracts the text of all pages.
     ///
-    /// @deprecated Use setAnnotationProperties() or specific property setters instead.
-    /// This method has a critical bug that causes data loss for annotations with attachments.
-    /// It will be removed in version 7.0.0.
+    /// Up to [maxConcurrency] pages are extracted at the same time. The pages
+    /// are sent in order, [pagesPerChunk] at a time, to
+    /// [PageTextExtractionCallbacks.onPageTextChunk] on the channel suffixed with
+    /// [extractionId]. All chunks are sent before this method completes.
     ///
-    /// Migration:
-    /// - For single property updates: Use specific setters like setAnnotationColor()
-    /// - For multiple property updates: Use setAnnotationProperties()
-    let updateAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param extractionId Message channel suffix for the chunk callbacks
+    /// @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+    /// @param pagesPerChunk Number of pages per chunk, defaults to 16
+    /// @return Totals of the extraction
+    let extractAllTextChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.extractAllText\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      updateAnnotationChannel.setMessageHandler { message, reply in
+      extractAllTextChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let jsonAnnotationArg = args[0] as! String
-        api.updateAnnotation(jsonAnnotation: jsonAnnotationArg) { result in
+        let extractionIdArg = args[0] as! String
+        let maxConcurrencyArg: Int64? = nilOrValue(args[1])
+        let pagesPerChunkArg: Int64? = nilOrValue(args[2])
+        api.extractAllText(extractionId: extractionIdArg, maxConcurrency: maxConcurrencyArg, pagesPerChunk: pagesPerChunkArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2897,16 +5486,30 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      updateAnnotationChannel.setMessageHandler(nil)
+      extractAllTextChannel.setMessageHandler(nil)
     }
-    /// Removes the given annotation from the presented document.
-    /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-    let removeAnnotationChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Searches the text of all pages using the search index of the document.
+    ///
+    /// The index is stored on disk and reused for the same document file. Documents
+    /// shown in a view start loading or building it in the background once they are
+    /// loaded, other documents on their first search. The index is only updated
+    /// when the document is saved in place, so unsaved changes are not found. The
+    /// hits of each page are sent in page order to
+    /// [TextSearchCallbacks.onPageResult] on the channel suffixed with [searchId].
+    /// All pages are sent before this method completes.
+    ///
+    /// @param searchId Message channel suffix for the page callbacks
+    /// @param query The text to search for
+    /// @param options Optional search settings
+    /// @return Totals of the search
+    let searchTextChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.searchText\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      removeAnnotationChannel.setMessageHandler { message, reply in
+      searchTextChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let jsonAnnotationArg = args[0] as! String
-        api.removeAnnotation(jsonAnnotation: jsonAnnotationArg) { result in
+        let searchIdArg = args[0] as! String
+        let queryArg = args[1] as! String
+        let optionsArg: TextSearchOptions? = nilOrValue(args[2])
+        api.searchText(searchId: searchIdArg, query: queryArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2916,21 +5519,44 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      removeAnnotationChannel.setMessageHandler(nil)
+      searchTextChannel.setMessageHandler(nil)
     }
-    /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-    /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-    /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+    /// Returns the form fields that changed since the previous call as a JSON string.
     ///
-    /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
-    /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
-    let getAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Changes are collected from the first form field request on the document,
+    /// so the first call after [getFormFieldsJson] returns the fields changed
+    /// since then. The JSON has the same format as [getFormFieldsJson]. Removed
+    /// fields are not included.
+    let getDirtyFormFieldsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getDirtyFormFieldsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getAnnotationsJsonChannel.setMessageHandler { message, reply in
+      getDirtyFormFieldsJsonChannel.setMessageHandler { _, reply in
+        api.getDirtyFormFieldsJson { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getDirtyFormFieldsJsonChannel.setMessageHandler(nil)
+    }
+    /// Sets the values of several form fields at once.
+    ///
+    /// Values use the same format as [setFormFieldValue]. All fields are looked
+    /// up in one pass over the form and the values are applied together, so
+    /// the viewer refreshes once for the whole batch. Fields that cannot be set
+    /// are skipped and reported.
+    ///
+    /// @param values Values by fully qualified field name
+    /// @return The fields that could not be set, empty if all were set
+    let setFormFieldValuesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValues\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      setFormFieldValuesChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        let typeArg = args[1] as! String
-        api.getAnnotationsJson(pageIndex: pageIndexArg, type: typeArg) { result in
+        let valuesArg = args[0] as! [String: String]
+        api.setFormFieldValues(values: valuesArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2940,15 +5566,18 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getAnnotationsJsonChannel.setMessageHandler(nil)
+      setFormFieldValuesChannel.setMessageHandler(nil)
     }
-    /// Returns a JSON string containing all unsaved annotations in the presented document.
-    /// The JSON string can be decoded to the appropriate type on the Dart side.
-    /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-    let getAllUnsavedAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Returns the typed values of several form fields in one call.
+    ///
+    /// @param fullyQualifiedNames Names of the fields to read, or null for all fields
+    /// @return The values in form order. Names without a matching field are left out.
+    let getFormFieldValuesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValues\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getAllUnsavedAnnotationsJsonChannel.setMessageHandler { _, reply in
-        api.getAllUnsavedAnnotationsJson { result in
+      getFormFieldValuesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let fullyQualifiedNamesArg: [String]? = nilOrValue(args[0])
+        api.getFormFieldValues(fullyQualifiedNames: fullyQualifiedNamesArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2958,15 +5587,44 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getAllUnsavedAnnotationsJsonChannel.setMessageHandler(nil)
+      getFormFieldValuesChannel.setMessageHandler(nil)
     }
-    /// Imports annotations from the XFDF file at the given path.
-    let importXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Replaces the form validation rules of the document.
+    ///
+    /// Rules are checked natively. After this call every field is validated once,
+    /// afterwards only fields changed since the previous validation are checked
+    /// again. Pass an empty list to remove all rules.
+    ///
+    /// @param rules The rules, checked in this order
+    /// @throws NutrientApiError if a field does not exist or a rule is invalid
+    let setFormValidationRulesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormValidationRules\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      importXfdfChannel.setMessageHandler { message, reply in
+      setFormValidationRulesChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let xfdfStringArg = args[0] as! String
-        api.importXfdf(xfdfString: xfdfStringArg) { result in
+        let rulesArg = args[0] as! [FormValidationRule]
+        api.setFormValidationRules(rules: rulesArg) { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      setFormValidationRulesChannel.setMessageHandler(nil)
+    }
+    /// Returns the violations of the form validation rules.
+    ///
+    /// Only fields whose value changed since the previous call are checked again,
+    /// together with fields that must equal them, so calling this on every
+    /// `formFieldValuesUpdated` event stays cheap.
+    ///
+    /// @return All current violations, in the order of the rules
+    let validateFormFieldsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.validateFormFields\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      validateFormFieldsChannel.setMessageHandler { _, reply in
+        api.validateFormFields { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2976,15 +5634,22 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      importXfdfChannel.setMessageHandler(nil)
+      validateFormFieldsChannel.setMessageHandler(nil)
     }
-    /// Exports annotations to the XFDF file at the given path.
-    let exportXfdfChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Returns the JSON of the form fields in the subtree named by [prefix].
+    ///
+    /// Names are matched per dot separated segment, so `applicant.address`
+    /// matches the field `applicant.address` and every field below it, but not
+    /// `applicant.addressee`. An empty prefix matches all fields.
+    ///
+    /// @param prefix Fully qualified name of the subtree
+    /// @return A JSON array of the fields, in form order
+    let getFormFieldsJsonByPrefixChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJsonByPrefix\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      exportXfdfChannel.setMessageHandler { message, reply in
+      getFormFieldsJsonByPrefixChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let xfdfPathArg = args[0] as! String
-        api.exportXfdf(xfdfPath: xfdfPathArg) { result in
+        let prefixArg = args[0] as! String
+        api.getFormFieldsJsonByPrefix(prefix: prefixArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -2994,17 +5659,18 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      exportXfdfChannel.setMessageHandler(nil)
+      getFormFieldsJsonByPrefixChannel.setMessageHandler(nil)
     }
-    /// Saves the document back to its original location if it has been changed.
-    /// If there were no changes to the document, the document file will not be modified.
-    let saveChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Returns the typed values of the form fields in the subtree named by [prefix].
+    ///
+    /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+    /// @return The values in form order
+    let getFormFieldValuesByPrefixChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValuesByPrefix\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      saveChannel.setMessageHandler { message, reply in
+      getFormFieldValuesByPrefixChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let outputPathArg: String? = nilOrValue(args[0])
-        let optionsArg: DocumentSaveOptions? = nilOrValue(args[1])
-        api.save(outputPath: outputPathArg, options: optionsArg) { result in
+        let prefixArg = args[0] as! String
+        api.getFormFieldValuesByPrefix(prefix: prefixArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3014,13 +5680,24 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      saveChannel.setMessageHandler(nil)
+      getFormFieldValuesByPrefixChannel.setMessageHandler(nil)
     }
-    /// Get the total number of pages in the document.
-    let getPageCountChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Sets the values of several form fields in the subtree named by [prefix].
+    ///
+    /// Keys of [values] are names relative to [prefix], e.g. `street` for the
+    /// field `applicant.address.street` when the prefix is `applicant.address`.
+    /// Values use the format of [setFormFieldValue].
+    ///
+    /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+    /// @param values Relative field names mapped to their new values
+    /// @return The fields that could not be set, with fully qualified names
+    let setFormFieldValuesByPrefixChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValuesByPrefix\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      getPageCountChannel.setMessageHandler { _, reply in
-        api.getPageCount { result in
+      setFormFieldValuesByPrefixChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let prefixArg = args[0] as! String
+        let valuesArg = args[1] as! [String: String]
+        api.setFormFieldValuesByPrefix(prefix: prefixArg, values: valuesArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3030,25 +5707,42 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      getPageCountChannel.setMessageHandler(nil)
+      setFormFieldValuesByPrefixChannel.setMessageHandler(nil)
     }
-    /// Processes annotations of the given type with the provided processing
-    /// mode and stores the PDF at the given destination path.
+    /// Returns the JSON of all form fields without their widget annotations.
     ///
-    /// This method works for both viewer-bound and headless documents.
+    /// Same as [getFormFieldsJson] without the `annotation` and `annotations`
+    /// members, which hold the Instant JSON of the widget annotation and are the
+    /// most expensive part of the serialization. Use
+    /// [getFormFieldAnnotationsJson] to load them for single fields when needed.
     ///
-    /// @param type The type of annotations to process (e.g., all, ink, highlight)
-    /// @param processingMode The processing mode (flatten, embed, remove, print)
-    /// @param destinationPath The path where the processed PDF should be saved
-    /// @return true if processing succeeded, false otherwise
-    let processAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @return A JSON array of the fields, in form order
+    let getLeanFormFieldsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getLeanFormFieldsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      processAnnotationsChannel.setMessageHandler { message, reply in
+      getLeanFormFieldsJsonChannel.setMessageHandler { _, reply in
+        api.getLeanFormFieldsJson { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      getLeanFormFieldsJsonChannel.setMessageHandler(nil)
+    }
+    /// Returns the Instant JSON of the widget annotations of a form field.
+    ///
+    /// @param fullyQualifiedName Fully qualified name of the field
+    /// @return A JSON array with one Instant JSON object per widget
+    /// @throws NutrientApiError if there is no field with this name
+    let getFormFieldAnnotationsJsonChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldAnnotationsJson\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getFormFieldAnnotationsJsonChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let typeArg = args[0] as! AnnotationType
-        let processingModeArg = args[1] as! AnnotationProcessingMode
-        let destinationPathArg = args[2] as! String
-        api.processAnnotations(type: typeArg, processingMode: processingModeArg, destinationPath: destinationPathArg) { result in
+        let fullyQualifiedNameArg = args[0] as! String
+        api.getFormFieldAnnotationsJson(fullyQualifiedName: fullyQualifiedNameArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3058,19 +5752,32 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      processAnnotationsChannel.setMessageHandler(nil)
+      getFormFieldAnnotationsJsonChannel.setMessageHandler(nil)
     }
-    /// Closes the document and releases all native resources.
+    /// Imports form field values from an XFDF or FDF file.
     ///
-    /// This must be called when a headless document is no longer needed
-    /// to free memory and file handles. For viewer-bound documents,
-    /// this is handled automatically by the view lifecycle.
+    /// The file is parsed as a stream in the background, annotations and other
+    /// non-form data are ignored. Values are applied [chunkSize] fields at a
+    /// time, each chunk in its own short main thread task, so a viewer stays
+    /// responsive while a large form is filled. After every chunk, the
+    /// progress is sent to [FormDataTransferCallbacks.onProgress] on the
+    /// channel suffixed with [transferId]. Fields that cannot be set are
+    /// reported in the result and do not stop the import.
     ///
-    /// @return true if the document was closed successfully
-    let closeDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param transferId Message channel suffix for the progress callbacks
+    /// @param path Path of the XFDF or FDF file
+    /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+    /// @param chunkSize Number of fields applied per main thread task, defaults to 250
+    /// @return Totals and failed fields of the import
+    let importFormDataChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importFormData\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      closeDocumentChannel.setMessageHandler { _, reply in
-        api.closeDocument { result in
+      importFormDataChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let transferIdArg = args[0] as! String
+        let pathArg = args[1] as! String
+        let formatArg: String? = nilOrValue(args[2])
+        let chunkSizeArg: Int64? = nilOrValue(args[3])
+        api.importFormData(transferId: transferIdArg, path: pathArg, format: formatArg, chunkSize: chunkSizeArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3080,25 +5787,30 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      closeDocumentChannel.setMessageHandler(nil)
+      importFormDataChannel.setMessageHandler(nil)
     }
-    /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
-    ///
-    /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
-    /// Returns true if any annotations have been added, modified, or deleted
-    /// since the document was loaded or last saved.
+    /// Exports the values of all form fields to an XFDF or FDF file.
     ///
-    /// **Platform support:**
-    /// - iOS: ✅ Supported
-    /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
-    /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+    /// Values are read and written [chunkSize] fields at a time in the
+    /// background and streamed to the file, without building the whole
+    /// document in memory. Annotations are not exported. After every chunk,
+    /// the progress is sent to [FormDataTransferCallbacks.onProgress] on the
+    /// channel suffixed with [transferId].
     ///
-    /// @return true if there are dirty annotations
-    /// @throws On Android/Web
-    let iOSHasDirtyAnnotationsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param transferId Message channel suffix for the progress callbacks
+    /// @param path Path of the file to write, an existing file is replaced
+    /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+    /// @param chunkSize Number of fields written per chunk, defaults to 250
+    /// @return Totals of the export
+    let exportFormDataChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportFormData\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      iOSHasDirtyAnnotationsChannel.setMessageHandler { _, reply in
-        api.iOSHasDirtyAnnotations { result in
+      exportFormDataChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let transferIdArg = args[0] as! String
+        let pathArg = args[1] as! String
+        let formatArg: String? = nilOrValue(args[2])
+        let chunkSizeArg: Int64? = nilOrValue(args[3])
+        api.exportFormData(transferId: transferIdArg, path: pathArg, format: formatArg, chunkSize: chunkSizeArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3108,30 +5820,161 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      iOSHasDirtyAnnotationsChannel.setMessageHandler(nil)
+      exportFormDataChannel.setMessageHandler(nil)
     }
-    /// **iOS only.** Gets the dirty state of a specific annotation.
-    ///
-    /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
-    /// An annotation is dirty if it has been modified since the document
-    /// was loaded or last saved.
+  }
+}
+/// API for opening and managing PDF documents without displaying a viewer.
+///
+/// This API enables programmatic access to PDF documents for operations like:
+/// - Reading and modifying annotations
+/// - Processing annotations (flatten, embed, remove)
+/// - Exporting/importing XFDF
+/// - Form field manipulation
+///
+/// Documents opened through this API must be explicitly closed using
+/// [PdfDocumentApi.closeDocument] when no longer needed to free resources.
+///
+/// **Usage Example**:
+/// ```dart
+/// final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
+/// // Use PdfDocumentApi with the documentId for operations
+/// final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
+/// await pdfDocumentApi.processAnnotations(
+///   AnnotationType.all,
+///   AnnotationProcessingMode.flatten,
+///   '/path/to/output.pdf',
+/// );
+/// await pdfDocumentApi.closeDocument();
+/// ```
+///
+/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
+protocol HeadlessDocumentApi {
+  /// Opens a document from the given path without displaying a viewer.
+  ///
+  /// Returns a unique document ID that can be used to interact with the
+  /// document via [PdfDocumentApi]. The document ID is used as a channel
+  /// suffix to create isolated API instances for each document.
+  ///
+  /// @param documentPath Path to the PDF document (file path or content:// URI)
+  /// @param options Optional settings like password for encrypted documents
+  /// @return Unique document ID for use with PdfDocumentApi
+  /// @throws NutrientApiError if the document cannot be opened
+  func openDocument(documentPath: String, options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<String, Error>) -> Void)
+  /// Merges pages from several documents into a single new document.
+  ///
+  /// Sources are opened and written in batches, so large merges never keep
+  /// every input document open at the same time.
+  ///
+  /// @param sources The documents and page ranges to merge, in output order
+  /// @param outputPath Path where the merged document will be written
+  /// @return The number of pages written to the merged document
+  /// @throws NutrientApiError if a source cannot be opened or a range is invalid
+  func mergeDocuments(sources: [DocumentMergeSource], outputPath: String, completion: @escaping (Result<Int64, Error>) -> Void)
+  /// Splits a document into several new documents, one per target.
+  ///
+  /// The source document is opened once and the targets are written in
+  /// parallel, since each output is independent of the others.
+  ///
+  /// @param documentPath Path to the PDF document to split
+  /// @param targets The page ranges and output paths to write
+  /// @param options Optional settings like password for encrypted documents
+  /// @return The output paths that were written, in the order of [targets]
+  /// @throws NutrientApiError if the document cannot be opened or a range is invalid
+  func splitDocument(documentPath: String, targets: [DocumentSplitTarget], options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<[String], Error>) -> Void)
+  /// Configures the budget of the pool of resident headless documents.
+  ///
+  /// When the pool is over budget, the least recently used documents are
+  /// released. A released document keeps its ID and is reopened
+  /// transparently the next time it is used. Documents that stay unused for
+  /// the close timeout are closed and their ID becomes invalid.
+  ///
+  /// @param configuration The new budget, null values keep the current setting
+  /// @throws NutrientApiError if a value is out of range
+  func configureDocumentPool(configuration: DocumentPoolConfiguration, completion: @escaping (Result<Void, Error>) -> Void)
+  /// Returns gauges of the pool of resident headless documents.
+  func getDocumentPoolStatistics(completion: @escaping (Result<DocumentPoolStatistics, Error>) -> Void)
+  /// Pins a headless document so it is never released by the pool.
+  ///
+  /// Pins are counted, every call needs a matching [unpinDocument].
+  ///
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  func pinDocument(documentId: String, completion: @escaping (Result<Void, Error>) -> Void)
+  /// Removes a pin added with [pinDocument].
+  ///
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  func unpinDocument(documentId: String, completion: @escaping (Result<Void, Error>) -> Void)
+  /// Opens a document from bytes in memory without displaying a viewer.
+  ///
+  /// The bytes are read directly from memory, so a downloaded document does
+  /// not have to be written to disk first. The returned document ID works
+  /// like one returned by [openDocument].
+  ///
+  /// @param data The PDF document bytes
+  /// @param options Optional settings like password for encrypted documents
+  /// @return Unique document ID for use with PdfDocumentApi
+  /// @throws NutrientApiError if the document cannot be opened
+  func openDocumentFromBytes(data: FlutterStandardTypedData, options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<String, Error>) -> Void)
+  /// Opens several documents without displaying a viewer.
+  ///
+  /// At most [maxConcurrency] documents are loaded at the same time. Each
+  /// result is sent to [HeadlessDocumentOpenCallbacks.onDocumentOpened] on the
+  /// channel suffixed with [batchId] as soon as its document is opened. A
+  /// document that fails to open is reported in its result and does not
+  /// affect the rest of the batch.
+  ///
+  /// @param batchId Message channel suffix for the per-document callbacks
+  /// @param requests The documents to open
+  /// @param maxConcurrency Maximum number of parallel loads, defaults to 4
+  /// @return The results of all documents, in the order they completed
+  func openDocuments(batchId: String, requests: [DocumentOpenRequest], maxConcurrency: Int64?, completion: @escaping (Result<[DocumentOpenResult], Error>) -> Void)
+  /// Sets the maximum size of the persistent thumbnail cache, 64 MB by default.
+  /// Least recently used thumbnails are deleted to stay within the limit.
+  ///
+  /// @param maxBytes Maximum total size of the cached thumbnails in bytes
+  func configureThumbnailCache(maxBytes: Int64, completion: @escaping (Result<Void, Error>) -> Void)
+  /// Deletes all thumbnails from the persistent thumbnail cache.
+  func clearThumbnailCache(completion: @escaping (Result<Void, Error>) -> Void)
+  /// Fills the template form once per dataset row and writes one document per row.
+  ///
+  /// The template is read once and every row works on its own copy-on-write
+  /// document over the shared template bytes, so rows are processed in parallel.
+  /// Values use the format of [PdfDocumentApi.setFormFieldValue]. Columns that
+  /// match no form field are ignored, so they can be used in file names. A row
+  /// with an invalid value is reported in [MailMergeResult.errors] and does not
+  /// abort the run.
+  ///
+  /// @param request The template, dataset and output settings
+  /// @return The written paths, the failed rows and the throughput
+  /// @throws NutrientApiError if the template or the dataset cannot be read
+  func mailMerge(request: MailMergeRequest, completion: @escaping (Result<MailMergeResult, Error>) -> Void)
+}
+
+/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
+class HeadlessDocumentApiSetup {
+  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
+  /// Sets up an instance of `HeadlessDocumentApi` to handle messages through the `binaryMessenger`.
+  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: HeadlessDocumentApi?, messageChannelSuffix: String = "") {
+    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+    /// Opens a document from the given path without displaying a viewer.
     ///
-    /// **Platform support:**
-    /// - iOS: ✅ Supported
-    /// - Android: ❌ Not available (no annotation-level isDirty)
-    /// - Web: ❌ Not available
+    /// Returns a unique document ID that can be used to interact with the
+    /// document via [PdfDocumentApi]. The document ID is used as a channel
+    /// suffix to create isolated API instances for each document.
     ///
-    /// @param pageIndex Zero-based page index
-    /// @param annotationId The annotation's unique identifier
-    /// @return true if the annotation is dirty
-    /// @throws On Android/Web, or if annotation not found
-    let iOSGetAnnotationIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param documentPath Path to the PDF document (file path or content:// URI)
+    /// @param options Optional settings like password for encrypted documents
+    /// @return Unique document ID for use with PdfDocumentApi
+    /// @throws NutrientApiError if the document cannot be opened
+    let openDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      iOSGetAnnotationIsDirtyChannel.setMessageHandler { message, reply in
+      openDocumentChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        let annotationIdArg = args[1] as! String
-        api.iOSGetAnnotationIsDirty(pageIndex: pageIndexArg, annotationId: annotationIdArg) { result in
+        let documentPathArg = args[0] as! String
+        let optionsArg: HeadlessDocumentOpenOptions? = nilOrValue(args[1])
+        api.openDocument(documentPath: documentPathArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3141,32 +5984,24 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      iOSGetAnnotationIsDirtyChannel.setMessageHandler(nil)
+      openDocumentChannel.setMessageHandler(nil)
     }
-    /// **iOS only.** Sets the dirty state of a specific annotation.
-    ///
-    /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
-    /// This can be used to manually mark an annotation as needing save,
-    /// or to clear its dirty state.
+    /// Merges pages from several documents into a single new document.
     ///
-    /// **Platform support:**
-    /// - iOS: ✅ Supported
-    /// - Android: ❌ Not available
-    /// - Web: ❌ Not available
+    /// Sources are opened and written in batches, so large merges never keep
+    /// every input document open at the same time.
     ///
-    /// @param pageIndex Zero-based page index
-    /// @param annotationId The annotation's unique identifier
-    /// @param isDirty The dirty state to set
-    /// @return true if successfully set
-    /// @throws On Android/Web, or if annotation not found
-    let iOSSetAnnotationIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param sources The documents and page ranges to merge, in output order
+    /// @param outputPath Path where the merged document will be written
+    /// @return The number of pages written to the merged document
+    /// @throws NutrientApiError if a source cannot be opened or a range is invalid
+    let mergeDocumentsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mergeDocuments\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      iOSSetAnnotationIsDirtyChannel.setMessageHandler { message, reply in
+      mergeDocumentsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let pageIndexArg = args[0] as! Int64
-        let annotationIdArg = args[1] as! String
-        let isDirtyArg = args[2] as! Bool
-        api.iOSSetAnnotationIsDirty(pageIndex: pageIndexArg, annotationId: annotationIdArg, isDirty: isDirtyArg) { result in
+        let sourcesArg = args[0] as! [DocumentMergeSource]
+        let outputPathArg = args[1] as! String
+        api.mergeDocuments(sources: sourcesArg, outputPath: outputPathArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3176,24 +6011,26 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      iOSSetAnnotationIsDirtyChannel.setMessageHandler(nil)
+      mergeDocumentsChannel.setMessageHandler(nil)
     }
-    /// **iOS only.** Clears the needs-save flag on all annotation providers.
-    ///
-    /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
-    /// This resets the modification tracking without saving to disk.
+    /// Splits a document into several new documents, one per target.
     ///
-    /// **Platform support:**
-    /// - iOS: ✅ Supported
-    /// - Android: ❌ Not available (was removed from SDK)
-    /// - Web: ❌ Not available
+    /// The source document is opened once and the targets are written in
+    /// parallel, since each output is independent of the others.
     ///
-    /// @return true if successfully cleared
-    /// @throws On Android/Web
-    let iOSClearNeedsSaveFlagChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param documentPath Path to the PDF document to split
+    /// @param targets The page ranges and output paths to write
+    /// @param options Optional settings like password for encrypted documents
+    /// @return The output paths that were written, in the order of [targets]
+    /// @throws NutrientApiError if the document cannot be opened or a range is invalid
+    let splitDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.splitDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      iOSClearNeedsSaveFlagChannel.setMessageHandler { _, reply in
-        api.iOSClearNeedsSaveFlag { result in
+      splitDocumentChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let documentPathArg = args[0] as! String
+        let targetsArg = args[1] as! [DocumentSplitTarget]
+        let optionsArg: HeadlessDocumentOpenOptions? = nilOrValue(args[2])
+        api.splitDocument(documentPath: documentPathArg, targets: targetsArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3203,49 +6040,39 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      iOSClearNeedsSaveFlagChannel.setMessageHandler(nil)
+      splitDocumentChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Checks if the annotation provider has unsaved changes.
+    /// Configures the budget of the pool of resident headless documents.
     ///
-    /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-    ///
-    /// **Platform support:**
-    /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+    /// When the pool is over budget, the least recently used documents are
+    /// released. A released document keeps its ID and is reopened
+    /// transparently the next time it is used. Documents that stay unused for
+    /// the close timeout are closed and their ID becomes invalid.
     ///
-    /// @return true if there are unsaved annotation changes
-    /// @throws On iOS/Web
-    let androidHasUnsavedAnnotationChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param configuration The new budget, null values keep the current setting
+    /// @throws NutrientApiError if a value is out of range
+    let configureDocumentPoolChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureDocumentPool\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidHasUnsavedAnnotationChangesChannel.setMessageHandler { _, reply in
-        api.androidHasUnsavedAnnotationChanges { result in
+      configureDocumentPoolChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let configurationArg = args[0] as! DocumentPoolConfiguration
+        api.configureDocumentPool(configuration: configurationArg) { result in
           switch result {
-          case .success(let res):
-            reply(wrapResult(res))
+          case .success:
+            reply(wrapResult(nil))
           case .failure(let error):
             reply(wrapError(error))
           }
         }
       }
     } else {
-      androidHasUnsavedAnnotationChangesChannel.setMessageHandler(nil)
+      configureDocumentPoolChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Checks if the form provider has unsaved changes.
-    ///
-    /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-    ///
-    /// **Platform support:**
-    /// - iOS: ❌ Not available at provider level
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Not available
-    ///
-    /// @return true if there are unsaved form field changes
-    /// @throws On iOS/Web
-    let androidHasUnsavedFormChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// Returns gauges of the pool of resident headless documents.
+    let getDocumentPoolStatisticsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.getDocumentPoolStatistics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidHasUnsavedFormChangesChannel.setMessageHandler { _, reply in
-        api.androidHasUnsavedFormChanges { result in
+      getDocumentPoolStatisticsChannel.setMessageHandler { _, reply in
+        api.getDocumentPoolStatistics { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3255,81 +6082,69 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      androidHasUnsavedFormChangesChannel.setMessageHandler(nil)
+      getDocumentPoolStatisticsChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Checks if the bookmark provider has unsaved changes.
-    ///
-    /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+    /// Pins a headless document so it is never released by the pool.
     ///
-    /// **Platform support:**
-    /// - iOS: ❌ Not available at provider level
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Not available
+    /// Pins are counted, every call needs a matching [unpinDocument].
     ///
-    /// @return true if there are unsaved bookmark changes
-    /// @throws On iOS/Web
-    let androidHasUnsavedBookmarkChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param documentId The ID returned by [openDocument]
+    /// @throws NutrientApiError if no document with this ID is open
+    let pinDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.pinDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidHasUnsavedBookmarkChangesChannel.setMessageHandler { _, reply in
-        api.androidHasUnsavedBookmarkChanges { result in
+      pinDocumentChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let documentIdArg = args[0] as! String
+        api.pinDocument(documentId: documentIdArg) { result in
           switch result {
-          case .success(let res):
-            reply(wrapResult(res))
+          case .success:
+            reply(wrapResult(nil))
           case .failure(let error):
             reply(wrapError(error))
           }
         }
       }
     } else {
-      androidHasUnsavedBookmarkChangesChannel.setMessageHandler(nil)
+      pinDocumentChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Gets the dirty state of a specific bookmark.
+    /// Removes a pin added with [pinDocument].
     ///
-    /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
-    ///
-    /// **Platform support:**
-    /// - iOS: ❌ Not available
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Not available
-    ///
-    /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-    /// @return true if the bookmark is dirty
-    /// @throws On iOS/Web, or if bookmark not found
-    let androidGetBookmarkIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param documentId The ID returned by [openDocument]
+    /// @throws NutrientApiError if no document with this ID is open
+    let unpinDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.unpinDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidGetBookmarkIsDirtyChannel.setMessageHandler { message, reply in
+      unpinDocumentChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let bookmarkIdArg = args[0] as! String
-        api.androidGetBookmarkIsDirty(bookmarkId: bookmarkIdArg) { result in
+        let documentIdArg = args[0] as! String
+        api.unpinDocument(documentId: documentIdArg) { result in
           switch result {
-          case .success(let res):
-            reply(wrapResult(res))
+          case .success:
+            reply(wrapResult(nil))
           case .failure(let error):
             reply(wrapError(error))
           }
         }
       }
     } else {
-      androidGetBookmarkIsDirtyChannel.setMessageHandler(nil)
+      unpinDocumentChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Clears the dirty state of a specific bookmark.
-    ///
-    /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
-    ///
-    /// **Platform support:**
-    /// - iOS: ❌ Not available
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Not available
+    /// Opens a document from bytes in memory without displaying a viewer.
     ///
-    /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-    /// @return true if successfully cleared
-    /// @throws On iOS/Web, or if bookmark not found
-    let androidClearBookmarkDirtyStateChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// The bytes are read directly from memory, so a downloaded document does
+    /// not have to be written to disk first. The returned document ID works
+    /// like one returned by [openDocument].
+    ///
+    /// @param data The PDF document bytes
+    /// @param options Optional settings like password for encrypted documents
+    /// @return Unique document ID for use with PdfDocumentApi
+    /// @throws NutrientApiError if the document cannot be opened
+    let openDocumentFromBytesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocumentFromBytes\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidClearBookmarkDirtyStateChannel.setMessageHandler { message, reply in
+      openDocumentFromBytesChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let bookmarkIdArg = args[0] as! String
-        api.androidClearBookmarkDirtyState(bookmarkId: bookmarkIdArg) { result in
+        let dataArg = args[0] as! FlutterStandardTypedData
+        let optionsArg: HeadlessDocumentOpenOptions? = nilOrValue(args[1])
+        api.openDocumentFromBytes(data: dataArg, options: optionsArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3339,26 +6154,28 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      androidClearBookmarkDirtyStateChannel.setMessageHandler(nil)
+      openDocumentFromBytesChannel.setMessageHandler(nil)
     }
-    /// **Android only.** Gets the dirty state of a form field.
-    ///
-    /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
+    /// Opens several documents without displaying a viewer.
     ///
-    /// **Platform support:**
-    /// - iOS: ❌ Not available (use formField.dirty property differently)
-    /// - Android: ✅ Supported
-    /// - Web: ❌ Not available
+    /// At most [maxConcurrency] documents are loaded at the same time. Each
+    /// result is sent to [HeadlessDocumentOpenCallbacks.onDocumentOpened] on the
+    /// channel suffixed with [batchId] as soon as its document is opened. A
+    /// document that fails to open is reported in its result and does not
+    /// affect the rest of the batch.
     ///
-    /// @param fullyQualifiedName The form field's fully qualified name
-    /// @return true if the form field is dirty
-    /// @throws On iOS/Web, or if form field not found
-    let androidGetFormFieldIsDirtyChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param batchId Message channel suffix for the per-document callbacks
+    /// @param requests The documents to open
+    /// @param maxConcurrency Maximum number of parallel loads, defaults to 4
+    /// @return The results of all documents, in the order they completed
+    let openDocumentsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocuments\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      androidGetFormFieldIsDirtyChannel.setMessageHandler { message, reply in
+      openDocumentsChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let fullyQualifiedNameArg = args[0] as! String
-        api.androidGetFormFieldIsDirty(fullyQualifiedName: fullyQualifiedNameArg) { result in
+        let batchIdArg = args[0] as! String
+        let requestsArg = args[1] as! [DocumentOpenRequest]
+        let maxConcurrencyArg: Int64? = nilOrValue(args[2])
+        api.openDocuments(batchId: batchIdArg, requests: requestsArg, maxConcurrency: maxConcurrencyArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3368,99 +6185,63 @@ class PdfDocumentApiSetup {
         }
       }
     } else {
-      androidGetFormFieldIsDirtyChannel.setMessageHandler(nil)
+      openDocumentsChannel.setMessageHandler(nil)
     }
-    /// **Web only.** Checks if the instance has unsaved changes.
-    ///
-    /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
-    /// This is a combined check that includes annotations, forms, and other changes.
-    ///
-    /// **Platform support:**
-    /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-    /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
-    /// - Web: ✅ Supported
+    /// Sets the maximum size of the persistent thumbnail cache, 64 MB by default.
+    /// Least recently used thumbnails are deleted to stay within the limit.
     ///
-    /// @return true if there are unsaved changes
-    /// @throws On iOS/Android
-    let webHasUnsavedChangesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param maxBytes Maximum total size of the cached thumbnails in bytes
+    let configureThumbnailCacheChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureThumbnailCache\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      webHasUnsavedChangesChannel.setMessageHandler { _, reply in
-        api.webHasUnsavedChanges { result in
+      configureThumbnailCacheChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let maxBytesArg = args[0] as! Int64
+        api.configureThumbnailCache(maxBytes: maxBytesArg) { result in
           switch result {
-          case .success(let res):
-            reply(wrapResult(res))
+          case .success:
+            reply(wrapResult(nil))
           case .failure(let error):
             reply(wrapError(error))
           }
         }
       }
     } else {
-      webHasUnsavedChangesChannel.setMessageHandler(nil)
+      configureThumbnailCacheChannel.setMessageHandler(nil)
     }
-  }
-}
-/// API for opening and managing PDF documents without displaying a viewer.
-///
-/// This API enables programmatic access to PDF documents for operations like:
-/// - Reading and modifying annotations
-/// - Processing annotations (flatten, embed, remove)
-/// - Exporting/importing XFDF
-/// - Form field manipulation
-///
-/// Documents opened through this API must be explicitly closed using
-/// [PdfDocumentApi.closeDocument] when no longer needed to free resources.
-///
-/// **Usage Example**:
-/// ```dart
-/// final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
-/// // Use PdfDocumentApi with the documentId for operations
-/// final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
-/// await pdfDocumentApi.processAnnotations(
-///   AnnotationType.all,
-///   AnnotationProcessingMode.flatten,
-///   '/path/to/output.pdf',
-/// );
-/// await pdfDocumentApi.closeDocument();
-/// ```
-///
-/// Generated protocol from Pigeon that represents a handler of messages from Flutter.
-protocol HeadlessDocumentApi {
-  /// Opens a document from the given path without displaying a viewer.
-  ///
-  /// Returns a unique document ID that can be used to interact with the
-  /// document via [PdfDocumentApi]. The document ID is used as a channel
-  /// suffix to create isolated API instances for each document.
-  ///
-  /// @param documentPath Path to the PDF document (file path or content:// URI)
-  /// @param options Optional settings like password for encrypted documents
-  /// @return Unique document ID for use with PdfDocumentApi
-  /// @throws NutrientApiError if the document cannot be opened
-  func openDocument(documentPath: String, options: HeadlessDocumentOpenOptions?, completion: @escaping (Result<String, Error>) -> Void)
-}
-
-/// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
-class HeadlessDocumentApiSetup {
-  static var codec: FlutterStandardMessageCodec { NutrientApiPigeonCodec.shared }
-  /// Sets up an instance of `HeadlessDocumentApi` to handle messages through the `binaryMessenger`.
-  static func setUp(binaryMessenger: FlutterBinaryMessenger, api: HeadlessDocumentApi?, messageChannelSuffix: String = "") {
-    let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
-    /// Opens a document from the given path without displaying a viewer.
+    /// Deletes all thumbnails from the persistent thumbnail cache.
+    let clearThumbnailCacheChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.clearThumbnailCache\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      clearThumbnailCacheChannel.setMessageHandler { _, reply in
+        api.clearThumbnailCache { result in
+          switch result {
+          case .success:
+            reply(wrapResult(nil))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      clearThumbnailCacheChannel.setMessageHandler(nil)
+    }
+    /// Fills the template form once per dataset row and writes one document per row.
     ///
-    /// Returns a unique document ID that can be used to interact with the
-    /// document via [PdfDocumentApi]. The document ID is used as a channel
-    /// suffix to create isolated API instances for each document.
+    /// The template is read once and every row works on its own copy-on-write
+    /// document over the shared template bytes, so rows are processed in parallel.
+    /// Values use the format of [PdfDocumentApi.setFormFieldValue]. Columns that
+    /// match no form field are ignored, so they can be used in file names. A row
+    /// with an invalid value is reported in [MailMergeResult.errors] and does not
+    /// abort the run.
     ///
-    /// @param documentPath Path to the PDF document (file path or content:// URI)
-    /// @param options Optional settings like password for encrypted documents
-    /// @return Unique document ID for use with PdfDocumentApi
-    /// @throws NutrientApiError if the document cannot be opened
-    let openDocumentChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    /// @param request The template, dataset and output settings
+    /// @return The written paths, the failed rows and the throughput
+    /// @throws NutrientApiError if the template or the dataset cannot be read
+    let mailMergeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mailMerge\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
-      openDocumentChannel.setMessageHandler { message, reply in
+      mailMergeChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
-        let documentPathArg = args[0] as! String
-        let optionsArg: HeadlessDocumentOpenOptions? = nilOrValue(args[1])
-        api.openDocument(documentPath: documentPathArg, options: optionsArg) { result in
+        let requestArg = args[0] as! MailMergeRequest
+        api.mailMerge(request: requestArg) { result in
           switch result {
           case .success(let res):
             reply(wrapResult(res))
@@ -3470,7 +6251,7 @@ class HeadlessDocumentApiSetup {
         }
       }
     } else {
-      openDocumentChannel.setMessageHandler(nil)
+      mailMergeChannel.setMessageHandler(nil)
     }
   }
 }
@@ -4191,3 +6972,185 @@ class BookmarkManagerApiSetup {
     }
   }
 }
+/// Progress of [HeadlessDocumentApi.openDocuments].
+///
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol HeadlessDocumentOpenCallbacksProtocol {
+  /// Called for every document of the batch once it was opened or failed to open.
+  func onDocumentOpened(result resultArg: DocumentOpenResult, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class HeadlessDocumentOpenCallbacks: HeadlessDocumentOpenCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  func onDocumentOpened(result resultArg: DocumentOpenResult, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentOpenCallbacks.onDocumentOpened\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([resultArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+}
+/// Progress of [PdfDocumentApi.extractAllText].
+///
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol PageTextExtractionCallbacksProtocol {
+  /// Called for every chunk of extracted pages, in chunk order.
+  func onPageTextChunk(chunk chunkArg: PageTextChunk, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class PageTextExtractionCallbacks: PageTextExtractionCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  func onPageTextChunk(chunk chunkArg: PageTextChunk, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.PageTextExtractionCallbacks.onPageTextChunk\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([chunkArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+}
+/// Results of [PdfDocumentApi.searchText].
+///
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol TextSearchCallbacksProtocol {
+  /// Called for every page with hits, in page order.
+  func onPageResult(result resultArg: TextSearchPageResult, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class TextSearchCallbacks: TextSearchCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  func onPageResult(result resultArg: TextSearchPageResult, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.TextSearchCallbacks.onPageResult\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([resultArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+}
+/// Progress of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+///
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol FormDataTransferCallbacksProtocol {
+  /// Called after every chunk of fields.
+  func onProgress(progress progressArg: FormDataTransferProgress, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class FormDataTransferCallbacks: FormDataTransferCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  func onProgress(progress progressArg: FormDataTransferProgress, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.FormDataTransferCallbacks.onProgress\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([progressArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+}
+/// Events of native PDF activities and Instant documents on Android,
+/// batched once per frame.
+///
+/// Generated protocol from Pigeon that represents Flutter messages that can be called from Swift.
+protocol PlatformEventCallbacksProtocol {
+  /// Called with all events fired since the previous batch.
+  func onEvents(batch batchArg: PlatformEventBatch, completion: @escaping (Result<Void, NutrientApiError>) -> Void)
+}
+class PlatformEventCallbacks: PlatformEventCallbacksProtocol {
+  private let binaryMessenger: FlutterBinaryMessenger
+  private let messageChannelSuffix: String
+  init(binaryMessenger: FlutterBinaryMessenger, messageChannelSuffix: String = "") {
+    self.binaryMessenger = binaryMessenger
+    self.messageChannelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+  }
+  var codec: NutrientApiPigeonCodec {
+    return NutrientApiPigeonCodec.shared
+  }
+  func onEvents(batch batchArg: PlatformEventBatch, completion: @escaping (Result<Void, NutrientApiError>) -> Void) {
+    let channelName: String = "dev.flutter.pigeon.nutrient_flutter.PlatformEventCallbacks.onEvents\(messageChannelSuffix)"
+    let channel = FlutterBasicMessageChannel(name: channelName, binaryMessenger: binaryMessenger, codec: codec)
+    channel.sendMessage([batchArg] as [Any?]) { response in
+      guard let listResponse = response as? [Any?] else {
+        completion(.failure(createConnectionError(withChannelName: channelName)))
+        return
+      }
+      if listResponse.count > 1 {
+        let code: String = listResponse[0] as! String
+        let message: String? = nilOrValue(listResponse[1])
+        let details: String? = nilOrValue(listResponse[2])
+        completion(.failure(NutrientApiError(code: code, message: message, details: details)))
+      } else {
+        completion(.success(()))
+      }
+    }
+  }
+}
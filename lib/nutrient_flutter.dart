@@ -41,6 +41,7 @@ export 'src/measurements/measurements.dart';
 export 'src/processor/processor.dart';
 export 'src/document/pdf_document.dart';
 export 'src/document/headless_pdf_document_native.dart';
+export 'src/document/document_batch_open_result.dart';
 // Deprecated: AnnotationManager is no longer exposed as a user-facing API.
 // Use annotation management methods directly on PdfDocument instead.
 export 'src/document/annotation_manager.dart';
@@ -511,14 +511,27 @@ class FormFieldData {
 class HeadlessDocumentOpenOptions {
   HeadlessDocumentOpenOptions({
     this.password,
+    this.memoryMapped,
+    this.warmUp,
   });
 
   /// Password for encrypted documents.
   String? password;
 
+  /// Reads a local document file through memory mapping instead of streams,
+  /// which speeds up random page access in very large documents. Only applies
+  /// to file paths and is currently only supported on Android.
+  bool? memoryMapped;
+
+  /// Data to preload in the background after the document was opened.
+  /// Currently only supported on Android.
+  DocumentWarmUpOptions? warmUp;
+
   Object encode() {
     return <Object?>[
       password,
+      memoryMapped,
+      warmUp,
     ];
   }
 
@@ -526,6 +539,8 @@ class HeadlessDocumentOpenOptions {
     result as List<Object?>;
     return HeadlessDocumentOpenOptions(
       password: result[0] as String?,
+      memoryMapped: result[1] as bool?,
+      warmUp: result[2] as DocumentWarmUpOptions?,
     );
   }
 }
@@ -869,1111 +884,3100 @@ class Bookmark {
   }
 }
 
-class _PigeonCodec extends StandardMessageCodec {
-  const _PigeonCodec();
-  @override
-  void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is int) {
-      buffer.putUint8(4);
-      buffer.putInt64(value);
-    } else if (value is AndroidPermissionStatus) {
-      buffer.putUint8(129);
-      writeValue(buffer, value.index);
-    } else if (value is AnnotationType) {
-      buffer.putUint8(130);
-      writeValue(buffer, value.index);
-    } else if (value is AnnotationTool) {
-      buffer.putUint8(131);
-      writeValue(buffer, value.index);
-    } else if (value is AnnotationToolVariant) {
-      buffer.putUint8(132);
-      writeValue(buffer, value.index);
-    } else if (value is AnnotationProcessingMode) {
-      buffer.putUint8(133);
-      writeValue(buffer, value.index);
-    } else if (value is DocumentPermissions) {
-      buffer.putUint8(134);
-      writeValue(buffer, value.index);
-    } else if (value is PdfVersion) {
-      buffer.putUint8(135);
-      writeValue(buffer, value.index);
-    } else if (value is PdfFormFieldTypes) {
-      buffer.putUint8(136);
-      writeValue(buffer, value.index);
-    } else if (value is NutrientEvent) {
-      buffer.putUint8(137);
-      writeValue(buffer, value.index);
-    } else if (value is AnnotationMenuAction) {
-      buffer.putUint8(138);
-      writeValue(buffer, value.index);
-    } else if (value is PdfRect) {
-      buffer.putUint8(139);
-      writeValue(buffer, value.encode());
-    } else if (value is PageInfo) {
-      buffer.putUint8(140);
-      writeValue(buffer, value.encode());
-    } else if (value is DocumentSaveOptions) {
-      buffer.putUint8(141);
-      writeValue(buffer, value.encode());
-    } else if (value is PdfFormOption) {
-      buffer.putUint8(142);
-      writeValue(buffer, value.encode());
-    } else if (value is FormFieldData) {
-      buffer.putUint8(143);
-      writeValue(buffer, value.encode());
-    } else if (value is HeadlessDocumentOpenOptions) {
-      buffer.putUint8(144);
-      writeValue(buffer, value.encode());
-    } else if (value is PointF) {
-      buffer.putUint8(145);
-      writeValue(buffer, value.encode());
-    } else if (value is AnnotationMenuConfigurationData) {
-      buffer.putUint8(146);
-      writeValue(buffer, value.encode());
-    } else if (value is AnnotationProperties) {
-      buffer.putUint8(147);
-      writeValue(buffer, value.encode());
-    } else if (value is Bookmark) {
-      buffer.putUint8(148);
-      writeValue(buffer, value.encode());
-    } else {
-      super.writeValue(buffer, value);
-    }
+/// A document and the pages to take from it when merging documents.
+class DocumentMergeSource {
+  DocumentMergeSource({
+    required this.documentPath,
+    this.pageRanges,
+    this.password,
+  });
+
+  /// Path to the PDF document (file path or content:// URI).
+  String documentPath;
+
+  /// Pages to take from the document, e.g. `1-3,5,8-`. Page numbers are
+  /// one-based and pages are added in the order listed. All pages when null.
+  String? pageRanges;
+
+  /// Password for encrypted documents.
+  String? password;
+
+  Object encode() {
+    return <Object?>[
+      documentPath,
+      pageRanges,
+      password,
+    ];
   }
 
-  @override
-  Object? readValueOfType(int type, ReadBuffer buffer) {
-    switch (type) {
-      case 129:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AndroidPermissionStatus.values[value];
-      case 130:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AnnotationType.values[value];
-      case 131:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AnnotationTool.values[value];
-      case 132:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AnnotationToolVariant.values[value];
-      case 133:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AnnotationProcessingMode.values[value];
-      case 134:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : DocumentPermissions.values[value];
-      case 135:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : PdfVersion.values[value];
-      case 136:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : PdfFormFieldTypes.values[value];
-      case 137:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : NutrientEvent.values[value];
-      case 138:
-        final int? value = readValue(buffer) as int?;
-        return value == null ? null : AnnotationMenuAction.values[value];
-      case 139:
-        return PdfRect.decode(readValue(buffer)!);
-      case 140:
-        return PageInfo.decode(readValue(buffer)!);
-      case 141:
-        return DocumentSaveOptions.decode(readValue(buffer)!);
-      case 142:
-        return PdfFormOption.decode(readValue(buffer)!);
-      case 143:
-        return FormFieldData.decode(readValue(buffer)!);
-      case 144:
-        return HeadlessDocumentOpenOptions.decode(readValue(buffer)!);
-      case 145:
-        return PointF.decode(readValue(buffer)!);
-      case 146:
-        return AnnotationMenuConfigurationData.decode(readValue(buffer)!);
-      case 147:
-        return AnnotationProperties.decode(readValue(buffer)!);
-      case 148:
-        return Bookmark.decode(readValue(buffer)!);
-      default:
-        return super.readValueOfType(type, buffer);
-    }
+  static DocumentMergeSource decode(Object result) {
+    result as List<Object?>;
+    return DocumentMergeSource(
+      documentPath: result[0]! as String,
+      pageRanges: result[1] as String?,
+      password: result[2] as String?,
+    );
   }
 }
 
-/// The API for interacting with a PDF document.
-class NutrientApi {
-  /// Constructor for [NutrientApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  NutrientApi(
-      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
-      : pigeonVar_binaryMessenger = binaryMessenger,
-        pigeonVar_messageChannelSuffix =
-            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
+/// A single output document produced when splitting a document.
+class DocumentSplitTarget {
+  DocumentSplitTarget({
+    required this.pageRanges,
+    required this.outputPath,
+  });
 
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+  /// Pages to write to this output, e.g. `1-3,5`. Page numbers are one-based.
+  String pageRanges;
 
-  final String pigeonVar_messageChannelSuffix;
+  /// Path where the output document will be written.
+  String outputPath;
 
-  Future<String?> getFrameworkVersion() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  Object encode() {
+    return <Object?>[
+      pageRanges,
+      outputPath,
+    ];
+  }
+
+  static DocumentSplitTarget decode(Object result) {
+    result as List<Object?>;
+    return DocumentSplitTarget(
+      pageRanges: result[0]! as String,
+      outputPath: result[1]! as String,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
   }
+}
 
-  Future<void> setLicenseKey(String? licenseKey) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// Limits annotation processing to a set of pages and annotation types.
+class AnnotationProcessingScope {
+  AnnotationProcessingScope({
+    required this.pageRanges,
+    this.types,
+  });
+
+  /// Pages to process, e.g. `1-3,5,8-`. Page numbers are one-based.
+  String pageRanges;
+
+  /// Annotation types to process on these pages. All annotation types are
+  /// processed when null or when the list contains [AnnotationType.all].
+  /// [AnnotationType.none] selects no annotations.
+  List<AnnotationType>? types;
+
+  Object encode() {
+    return <Object?>[
+      pageRanges,
+      types,
+    ];
+  }
+
+  static AnnotationProcessingScope decode(Object result) {
+    result as List<Object?>;
+    return AnnotationProcessingScope(
+      pageRanges: result[0]! as String,
+      types: (result[1] as List<Object?>?)?.cast<AnnotationType>(),
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[licenseKey]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
   }
+}
 
-  Future<void> setLicenseKeys(String? androidLicenseKey, String? iOSLicenseKey,
-      String? webLicenseKey) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// The artifacts to produce with [PdfDocumentApi.exportArtifacts].
+/// An artifact is skipped when its path is null.
+class DocumentExportRequest {
+  DocumentExportRequest({
+    this.flattenedPdfPath,
+    this.xfdfPath,
+    this.instantJsonPath,
+  });
+
+  /// Path for a copy of the document with all annotations flattened.
+  String? flattenedPdfPath;
+
+  /// Path for an XFDF file containing the annotations and form fields.
+  String? xfdfPath;
+
+  /// Path for an Instant JSON snapshot of the document changes.
+  String? instantJsonPath;
+
+  Object encode() {
+    return <Object?>[
+      flattenedPdfPath,
+      xfdfPath,
+      instantJsonPath,
+    ];
+  }
+
+  static DocumentExportRequest decode(Object result) {
+    result as List<Object?>;
+    return DocumentExportRequest(
+      flattenedPdfPath: result[0] as String?,
+      xfdfPath: result[1] as String?,
+      instantJsonPath: result[2] as String?,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
-        .send(<Object?>[androidLicenseKey, iOSLicenseKey, webLicenseKey]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
   }
+}
 
-  Future<bool?> present(String document,
-      {Map<String, Object>? configuration}) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.present$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[document, configuration]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// An artifact written by [PdfDocumentApi.exportArtifacts].
+class DocumentExportResult {
+  DocumentExportResult({
+    required this.artifact,
+    required this.outputPath,
+    required this.durationMs,
+  });
+
+  /// The kind of artifact: `flattenedPdf`, `xfdf` or `instantJson`.
+  String artifact;
+
+  /// Path the artifact was written to.
+  String outputPath;
+
+  /// Time spent writing the artifact, in milliseconds.
+  int durationMs;
+
+  Object encode() {
+    return <Object?>[
+      artifact,
+      outputPath,
+      durationMs,
+    ];
   }
 
-  Future<bool?> presentInstant(
-    String serverUrl,
-    String jwt, {
-    Map<String, Object>? configuration,
-  }) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static DocumentExportResult decode(Object result) {
+    result as List<Object?>;
+    return DocumentExportResult(
+      artifact: result[0]! as String,
+      outputPath: result[1]! as String,
+      durationMs: result[2]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[serverUrl, jwt, configuration]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> setFormFieldValue(
-      String value, String fullyQualifiedName) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// Describes a pattern based redaction run by [PdfDocumentApi.redactPatterns].
+class RedactionRequest {
+  RedactionRequest({
+    required this.patterns,
+    this.caseSensitive,
+    this.pageRanges,
+    this.outputPath,
+  });
+
+  /// Regular expressions to search for, e.g. `\d{3}-\d{2}-\d{4}` for SSNs.
+  List<String> patterns;
+
+  /// Whether the patterns are case sensitive. Defaults to true.
+  bool? caseSensitive;
+
+  /// Pages to scan, e.g. `1-3,5`. Page numbers are one-based. All pages when null.
+  String? pageRanges;
+
+  /// When set, the redactions are applied and the redacted document is written
+  /// to this path, leaving the document itself unchanged. Otherwise the
+  /// redaction annotations are only added.
+  String? outputPath;
+
+  Object encode() {
+    return <Object?>[
+      patterns,
+      caseSensitive,
+      pageRanges,
+      outputPath,
+    ];
   }
 
-  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static RedactionRequest decode(Object result) {
+    result as List<Object?>;
+    return RedactionRequest(
+      patterns: (result[0] as List<Object?>?)!.cast<String>(),
+      caseSensitive: result[1] as bool?,
+      pageRanges: result[2] as String?,
+      outputPath: result[3] as String?,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
   }
+}
 
-  Future<bool?> applyInstantJson(String annotationsJson) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.applyInstantJson$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotationsJson]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// Number of redaction matches found on a page.
+class RedactionPageResult {
+  RedactionPageResult({
+    required this.pageIndex,
+    required this.matchCount,
+  });
+
+  /// Zero-based page index.
+  int pageIndex;
+
+  /// Number of matches found on the page.
+  int matchCount;
+
+  Object encode() {
+    return <Object?>[
+      pageIndex,
+      matchCount,
+    ];
   }
 
-  Future<String?> exportInstantJson() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportInstantJson$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static RedactionPageResult decode(Object result) {
+    result as List<Object?>;
+    return RedactionPageResult(
+      pageIndex: result[0]! as int,
+      matchCount: result[1]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
   }
+}
 
-  Future<bool?> addAnnotation(String annotation, String? attachment) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.addAnnotation$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// Result of [PdfDocumentApi.redactPatterns].
+class RedactionResult {
+  RedactionResult({
+    required this.pages,
+    required this.totalMatches,
+    required this.pagesScanned,
+    required this.durationMs,
+    required this.pagesPerSecond,
+  });
+
+  /// Pages that contained at least one match, in page order.
+  List<RedactionPageResult> pages;
+
+  /// Total number of matches across all pages.
+  int totalMatches;
+
+  /// Number of pages that were scanned.
+  int pagesScanned;
+
+  /// Total time spent scanning, redacting and writing, in milliseconds.
+  int durationMs;
+
+  /// Scan throughput in pages per second, excluding redacting and writing.
+  double pagesPerSecond;
+
+  Object encode() {
+    return <Object?>[
+      pages,
+      totalMatches,
+      pagesScanned,
+      durationMs,
+      pagesPerSecond,
+    ];
+  }
+
+  static RedactionResult decode(Object result) {
+    result as List<Object?>;
+    return RedactionResult(
+      pages: (result[0] as List<Object?>?)!.cast<RedactionPageResult>(),
+      totalMatches: result[1]! as int,
+      pagesScanned: result[2]! as int,
+      durationMs: result[3]! as int,
+      pagesPerSecond: result[4]! as double,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotation, attachment]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> removeAnnotation(String annotation) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.removeAnnotation$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// Budget for the pool of resident headless documents. Null values keep the
+/// current setting.
+class DocumentPoolConfiguration {
+  DocumentPoolConfiguration({
+    this.maxResidentDocuments,
+    this.maxResidentBytes,
+    this.idleTimeoutMs,
+    this.closeTimeoutMs,
+  });
+
+  /// Maximum number of documents kept loaded at the same time. Defaults to 16.
+  int? maxResidentDocuments;
+
+  /// Maximum estimated memory of loaded documents, based on their file size.
+  /// Defaults to 256 MB, 0 disables the memory budget.
+  int? maxResidentBytes;
+
+  /// Time after which an unused document is released, in milliseconds.
+  /// Defaults to 5 minutes, 0 disables the idle timeout.
+  int? idleTimeoutMs;
+
+  /// Time after which an unused document is closed as if
+  /// [PdfDocumentApi.closeDocument] was called, in milliseconds. Its ID
+  /// becomes invalid. Pinned documents and documents with unsaved changes are
+  /// never closed. Defaults to 0, which disables the close timeout.
+  int? closeTimeoutMs;
+
+  Object encode() {
+    return <Object?>[
+      maxResidentDocuments,
+      maxResidentBytes,
+      idleTimeoutMs,
+      closeTimeoutMs,
+    ];
+  }
+
+  static DocumentPoolConfiguration decode(Object result) {
+    result as List<Object?>;
+    return DocumentPoolConfiguration(
+      maxResidentDocuments: result[0] as int?,
+      maxResidentBytes: result[1] as int?,
+      idleTimeoutMs: result[2] as int?,
+      closeTimeoutMs: result[3] as int?,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotation]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  Future<String?> getAnnotationsJson(int pageIndex, String type) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, type]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
+/// Gauges of the pool of headless documents.
+class DocumentPoolStatistics {
+  DocumentPoolStatistics({
+    required this.registeredDocuments,
+    required this.residentDocuments,
+    required this.pinnedDocuments,
+    required this.residentBytes,
+    required this.evictions,
+    required this.reopens,
+    required this.closes,
+  });
+
+  /// Number of open headless documents, including released ones.
+  int registeredDocuments;
+
+  /// Number of loaded documents. Handles sharing a document count once.
+  int residentDocuments;
+
+  /// Number of pinned documents.
+  int pinnedDocuments;
+
+  /// Estimated memory of the loaded documents, based on their file or data
+  /// size. Handles sharing a document count once.
+  int residentBytes;
+
+  /// Number of handles released to stay within budget or after being idle.
+  int evictions;
+
+  /// Number of times a released document was reopened on access.
+  int reopens;
+
+  /// Number of documents closed after being unused for the close timeout.
+  int closes;
+
+  Object encode() {
+    return <Object?>[
+      registeredDocuments,
+      residentDocuments,
+      pinnedDocuments,
+      residentBytes,
+      evictions,
+      reopens,
+      closes,
+    ];
   }
 
-  /// Returns a JSON string containing all unsaved annotations in the presented document.
-  /// The JSON string can be decoded to the appropriate type on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  Future<String?> getAllUnsavedAnnotationsJson() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static DocumentPoolStatistics decode(Object result) {
+    result as List<Object?>;
+    return DocumentPoolStatistics(
+      registeredDocuments: result[0]! as int,
+      residentDocuments: result[1]! as int,
+      pinnedDocuments: result[2]! as int,
+      residentBytes: result[3]! as int,
+      evictions: result[4]! as int,
+      reopens: result[5]! as int,
+      closes: result[6]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
   }
+}
 
-  Future<void> updateAnnotation(String annotation) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.updateAnnotation$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotation]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
+/// Data to preload in the background right after a headless document was
+/// opened, so the first call that needs it does not pay the loading cost.
+class DocumentWarmUpOptions {
+  DocumentWarmUpOptions({
+    this.formFields,
+    this.pageInfo,
+    this.outline,
+    this.annotations,
+  });
+
+  /// Preloads the form fields.
+  bool? formFields;
+
+  /// Preloads the size, rotation and label of every page.
+  bool? pageInfo;
+
+  /// Preloads the document outline and the bookmarks.
+  bool? outline;
+
+  /// Preloads the annotations of every page.
+  bool? annotations;
+
+  Object encode() {
+    return <Object?>[
+      formFields,
+      pageInfo,
+      outline,
+      annotations,
+    ];
   }
 
-  Future<bool?> processAnnotations(AnnotationType type,
-      AnnotationProcessingMode processingMode, String destinationPath) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotations$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static DocumentWarmUpOptions decode(Object result) {
+    result as List<Object?>;
+    return DocumentWarmUpOptions(
+      formFields: result[0] as bool?,
+      pageInfo: result[1] as bool?,
+      outline: result[2] as bool?,
+      annotations: result[3] as bool?,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
-        .send(<Object?>[type, processingMode, destinationPath]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> importXfdf(String xfdfString) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.importXfdf$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfString]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// Timing of a single warm-up phase.
+class WarmUpPhaseTiming {
+  WarmUpPhaseTiming({
+    required this.phase,
+    required this.durationMs,
+    this.error,
+  });
+
+  /// The phase: `formFields`, `pageInfo`, `outline` or `annotations`.
+  String phase;
+
+  /// Time the phase took, in milliseconds.
+  int durationMs;
+
+  /// Error message if the phase failed, null otherwise.
+  String? error;
+
+  Object encode() {
+    return <Object?>[
+      phase,
+      durationMs,
+      error,
+    ];
   }
 
-  Future<bool?> exportXfdf(String xfdfPath) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportXfdf$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static WarmUpPhaseTiming decode(Object result) {
+    result as List<Object?>;
+    return WarmUpPhaseTiming(
+      phase: result[0]! as String,
+      durationMs: result[1]! as int,
+      error: result[2] as String?,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfPath]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> save() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.save$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// Result of the warm-up requested with [DocumentWarmUpOptions].
+class DocumentWarmUpResult {
+  DocumentWarmUpResult({
+    required this.phases,
+    required this.totalDurationMs,
+  });
+
+  /// The requested phases, in the order formFields, pageInfo, outline,
+  /// annotations. Empty if no warm-up was requested.
+  List<WarmUpPhaseTiming> phases;
+
+  /// Wall clock time of the whole warm-up, in milliseconds. Phases run
+  /// concurrently, so this can be less than the sum of the phases.
+  int totalDurationMs;
+
+  Object encode() {
+    return <Object?>[
+      phases,
+      totalDurationMs,
+    ];
   }
 
-  Future<bool?> setDelayForSyncingLocalChanges(double delay) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setDelayForSyncingLocalChanges$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static DocumentWarmUpResult decode(Object result) {
+    result as List<Object?>;
+    return DocumentWarmUpResult(
+      phases: (result[0] as List<Object?>?)!.cast<WarmUpPhaseTiming>(),
+      totalDurationMs: result[1]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[delay]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> setListenToServerChanges(bool listen) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setListenToServerChanges$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// A document to open with [HeadlessDocumentApi.openDocuments].
+class DocumentOpenRequest {
+  DocumentOpenRequest({
+    required this.documentPath,
+    this.options,
+  });
+
+  /// Path to the PDF document (file path or content:// URI).
+  String documentPath;
+
+  /// Optional settings like password for encrypted documents.
+  HeadlessDocumentOpenOptions? options;
+
+  Object encode() {
+    return <Object?>[
+      documentPath,
+      options,
+    ];
+  }
+
+  static DocumentOpenRequest decode(Object result) {
+    result as List<Object?>;
+    return DocumentOpenRequest(
+      documentPath: result[0]! as String,
+      options: result[1] as HeadlessDocumentOpenOptions?,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[listen]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<bool?> syncAnnotations() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.syncAnnotations$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// Outcome of opening one document of [HeadlessDocumentApi.openDocuments].
+class DocumentOpenResult {
+  DocumentOpenResult({
+    required this.index,
+    required this.documentPath,
+    this.documentId,
+    this.errorCode,
+    this.errorMessage,
+    required this.durationMs,
+  });
+
+  /// Index of the document in the requested list.
+  int index;
+
+  /// Path of the requested document.
+  String documentPath;
+
+  /// Document ID for use with PdfDocumentApi, null if opening failed.
+  String? documentId;
+
+  /// Error code if opening failed, e.g. `InvalidDocumentPath`.
+  String? errorCode;
+
+  /// Error message if opening failed.
+  String? errorMessage;
+
+  /// Time from starting to load the document until it was registered, in
+  /// milliseconds.
+  int durationMs;
+
+  Object encode() {
+    return <Object?>[
+      index,
+      documentPath,
+      documentId,
+      errorCode,
+      errorMessage,
+      durationMs,
+    ];
   }
 
-  Future<bool?> checkAndroidWriteExternalStoragePermission() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.checkAndroidWriteExternalStoragePermission$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static DocumentOpenResult decode(Object result) {
+    result as List<Object?>;
+    return DocumentOpenResult(
+      index: result[0]! as int,
+      documentPath: result[1]! as String,
+      documentId: result[2] as String?,
+      errorCode: result[3] as String?,
+      errorMessage: result[4] as String?,
+      durationMs: result[5]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
+}
 
-  Future<AndroidPermissionStatus>
-      requestAndroidWriteExternalStoragePermission() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.requestAndroidWriteExternalStoragePermission$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
-    } else {
-      return (pigeonVar_replyList[0] as AndroidPermissionStatus?)!;
-    }
+/// Options for [PdfDocumentApi.renderPage].
+class PageRenderOptions {
+  PageRenderOptions({
+    this.format,
+    this.quality,
+    this.outputPath,
+    this.asFile,
+    this.renderAnnotations,
+    this.backgroundColor,
+    this.useCache,
+  });
+
+  /// Image format: `png`, `jpeg` or `webp`. Defaults to `png`.
+  String? format;
+
+  /// Compression quality from 0 to 100 for `jpeg` and `webp`. Defaults to 90.
+  int? quality;
+
+  /// Writes the image to this path instead of returning its bytes.
+  String? outputPath;
+
+  /// Writes the image to a temporary file in the app cache directory instead
+  /// of returning its bytes.
+  /// Ignored if [outputPath] is set.
+  bool? asFile;
+
+  /// Whether annotations are rendered. Defaults to true.
+  bool? renderAnnotations;
+
+  /// Page background color as ARGB integer. Defaults to the paper color.
+  int? backgroundColor;
+
+  /// Whether the rendered page may be served from and stored in the in-memory
+  /// page cache. Defaults to true.
+  bool? useCache;
+
+  Object encode() {
+    return <Object?>[
+      format,
+      quality,
+      outputPath,
+      asFile,
+      renderAnnotations,
+      backgroundColor,
+      useCache,
+    ];
   }
 
-  Future<void> openAndroidSettings() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.openAndroidSettings$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static PageRenderOptions decode(Object result) {
+    result as List<Object?>;
+    return PageRenderOptions(
+      format: result[0] as String?,
+      quality: result[1] as int?,
+      outputPath: result[2] as String?,
+      asFile: result[3] as bool?,
+      renderAnnotations: result[4] as bool?,
+      backgroundColor: result[5] as int?,
+      useCache: result[6] as bool?,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
   }
+}
 
-  Future<bool?> setAnnotationPresetConfigurations(
-      Map<String, Object?> configurations) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationPresetConfigurations$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[configurations]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
+/// A page image rendered by [PdfDocumentApi.renderPage].
+class RenderedPage {
+  RenderedPage({
+    required this.pageIndex,
+    required this.width,
+    required this.height,
+    required this.format,
+    this.imageData,
+    this.filePath,
+    required this.fromCache,
+    required this.durationMs,
+  });
+
+  /// Zero-based index of the rendered page.
+  int pageIndex;
+
+  /// Width of the image in pixels.
+  int width;
+
+  /// Height of the image in pixels.
+  int height;
+
+  /// Image format of the encoded image.
+  String format;
+
+  /// The encoded image, null if it was written to a file.
+  Uint8List? imageData;
+
+  /// Path of the image file, null if the image bytes are returned.
+  String? filePath;
+
+  /// Whether the page was served from the page cache without rendering.
+  bool fromCache;
+
+  /// Time to render and encode the page, in milliseconds.
+  int durationMs;
+
+  Object encode() {
+    return <Object?>[
+      pageIndex,
+      width,
+      height,
+      format,
+      imageData,
+      filePath,
+      fromCache,
+      durationMs,
+    ];
   }
 
-  Future<String> getTemporaryDirectory() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getTemporaryDirectory$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static RenderedPage decode(Object result) {
+    result as List<Object?>;
+    return RenderedPage(
+      pageIndex: result[0]! as int,
+      width: result[1]! as int,
+      height: result[2]! as int,
+      format: result[3]! as String,
+      imageData: result[4] as Uint8List?,
+      filePath: result[5] as String?,
+      fromCache: result[6]! as bool,
+      durationMs: result[7]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?)!;
-    }
   }
+}
 
-  Future<void> setAuthorName(String name) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAuthorName$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[name]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
+/// A page thumbnail from the thumbnail cache.
+class ThumbnailResult {
+  ThumbnailResult({
+    required this.pageIndex,
+    required this.filePath,
+    required this.width,
+    required this.height,
+    required this.fromCache,
+  });
+
+  /// Zero-based index of the page.
+  int pageIndex;
+
+  /// Path of the PNG image in the thumbnail cache. The file may be deleted when
+  /// the cache is trimmed, copy it to keep it.
+  String filePath;
+
+  /// Width of the thumbnail in pixels.
+  int width;
+
+  /// Height of the thumbnail in pixels.
+  int height;
+
+  /// Whether the thumbnail was already cached on disk.
+  bool fromCache;
+
+  Object encode() {
+    return <Object?>[
+      pageIndex,
+      filePath,
+      width,
+      height,
+      fromCache,
+    ];
   }
 
-  Future<String> getAuthorName() async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAuthorName$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static ThumbnailResult decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailResult(
+      pageIndex: result[0]! as int,
+      filePath: result[1]! as String,
+      width: result[2]! as int,
+      height: result[3]! as int,
+      fromCache: result[4]! as bool,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?)!;
-    }
   }
+}
 
-  /// Generate PDF from Images, Template, and Patterns.
-  /// [pages]: [NewPage]s to be added to the PDF.
-  /// [outputPath]: The path to the output file.
-  /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
-  Future<String?> generatePdf(
-      List<Map<String, Object>> pages, String outputPath) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdf$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pages, outputPath]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
+/// The text of one page.
+class PageText {
+  PageText({
+    required this.pageIndex,
+    required this.text,
+  });
+
+  /// Zero-based index of the page.
+  int pageIndex;
+
+  /// The extracted text, in reading order.
+  String text;
+
+  Object encode() {
+    return <Object?>[
+      pageIndex,
+      text,
+    ];
   }
 
-  /// Generates a PDF from HTML string.
-  ///
-  /// [html]: The HTML string to be converted to PDF.
-  /// [outPutFile]: The path to the output file.
-  /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
-  Future<String?> generatePdfFromHtmlString(
-      String html, String outPutFile, Map<String, Object>? options) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlString$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static PageText decode(Object result) {
+    result as List<Object?>;
+    return PageText(
+      pageIndex: result[0]! as int,
+      text: result[1]! as String,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[html, outPutFile, options]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
   }
+}
 
-  Future<String?> generatePdfFromHtmlUri(
-      String htmlUri, String outPutFile, Map<String, Object>? options) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlUri$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[htmlUri, outPutFile, options]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as String?);
-    }
+/// A group of consecutive pages sent by [PdfDocumentApi.extractAllText].
+class PageTextChunk {
+  PageTextChunk({
+    required this.chunkIndex,
+    required this.pages,
+  });
+
+  /// Zero-based index of the chunk.
+  int chunkIndex;
+
+  /// The pages of the chunk, in page order.
+  List<PageText> pages;
+
+  Object encode() {
+    return <Object?>[
+      chunkIndex,
+      pages,
+    ];
   }
 
-  /// Configure Nutrient Analytics events.
-  Future<void> enableAnalyticsEvents(bool enable) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.enableAnalyticsEvents$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+  static PageTextChunk decode(Object result) {
+    result as List<Object?>;
+    return PageTextChunk(
+      chunkIndex: result[0]! as int,
+      pages: (result[1] as List<Object?>?)!.cast<PageText>(),
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[enable]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return;
-    }
   }
+}
 
-  /// Sets the annotation menu configuration for the global presenter.
-  /// This configuration applies to all annotation menus in presented documents.
-  ///
-  /// @param configuration The annotation menu configuration to apply.
-  /// @return True if the configuration was set successfully, false otherwise.
-  Future<bool?> setAnnotationMenuConfiguration(
-      AnnotationMenuConfigurationData configuration) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationMenuConfiguration$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
+/// Totals of a finished [PdfDocumentApi.extractAllText] run.
+class TextExtractionSummary {
+  TextExtractionSummary({
+    required this.pageCount,
+    required this.chunkCount,
+    required this.characterCount,
+    required this.durationMs,
+  });
+
+  /// Number of pages extracted.
+  int pageCount;
+
+  /// Number of chunks sent.
+  int chunkCount;
+
+  /// Total number of characters extracted.
+  int characterCount;
+
+  /// Time the extraction took, in milliseconds.
+  int durationMs;
+
+  Object encode() {
+    return <Object?>[
+      pageCount,
+      chunkCount,
+      characterCount,
+      durationMs,
+    ];
+  }
+
+  static TextExtractionSummary decode(Object result) {
+    result as List<Object?>;
+    return TextExtractionSummary(
+      pageCount: result[0]! as int,
+      chunkCount: result[1]! as int,
+      characterCount: result[2]! as int,
+      durationMs: result[3]! as int,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[configuration]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
-      );
-    } else {
-      return (pigeonVar_replyList[0] as bool?);
-    }
   }
 }
 
-abstract class NutrientApiCallbacks {
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+/// Options for [PdfDocumentApi.searchText].
+class TextSearchOptions {
+  TextSearchOptions({
+    this.caseSensitive,
+    this.maxResults,
+    this.contextLength,
+  });
 
-  /// onPAuse callback for FlutterPdfActivity
-  void onPdfActivityOnPause();
+  /// Whether letter case must match. Defaults to false.
+  bool? caseSensitive;
 
-  void onPdfFragmentAdded();
+  /// Stops the search after this many hits. Unlimited by default.
+  int? maxResults;
 
-  void onDocumentLoaded(String documentId);
+  /// Number of characters before and after a hit included in its preview.
+  /// Defaults to 40.
+  int? contextLength;
 
-  /// ViewControllerWillDismiss callback for PDFViewController
-  void onPdfViewControllerWillDismiss();
+  Object encode() {
+    return <Object?>[
+      caseSensitive,
+      maxResults,
+      contextLength,
+    ];
+  }
 
-  /// ViewControllerDidDismiss callback for PDFViewController
-  void onPdfViewControllerDidDismiss();
+  static TextSearchOptions decode(Object result) {
+    result as List<Object?>;
+    return TextSearchOptions(
+      caseSensitive: result[0] as bool?,
+      maxResults: result[1] as int?,
+      contextLength: result[2] as int?,
+    );
+  }
+}
 
-  /// Called when instant synchronization starts.
-  void onInstantSyncStarted(String documentId);
+/// One occurrence of the search query.
+class TextSearchHit {
+  TextSearchHit({
+    required this.offset,
+    required this.length,
+    required this.preview,
+    required this.previewOffset,
+  });
 
-  /// Called when instant synchronization ends.
-  void onInstantSyncFinished(String documentId);
+  /// Offset of the hit in the page text, see [PdfDocumentApi.getPageText].
+  int offset;
 
-  /// Called when instant synchronization fails.
-  void onInstantSyncFailed(String documentId, String error);
+  /// Length of the hit in characters.
+  int length;
 
-  /// Called when instant authentication is done.
-  void onInstantAuthenticationFinished(String documentId, String validJWT);
+  /// The hit and the text around it, with line breaks replaced by spaces.
+  String preview;
 
-  /// Called when instant authentication fails.
-  void onInstantAuthenticationFailed(String documentId, String error);
+  /// Offset of the hit in [preview].
+  int previewOffset;
 
-  /// Only available on iOS.
-  /// Called when instant document download is done.
-  void onInstantDownloadFinished(String documentId);
+  Object encode() {
+    return <Object?>[
+      offset,
+      length,
+      preview,
+      previewOffset,
+    ];
+  }
 
-  /// Only available on iOS.
-  /// Called when instant document download fails.
-  void onInstantDownloadFailed(String documentId, String error);
+  static TextSearchHit decode(Object result) {
+    result as List<Object?>;
+    return TextSearchHit(
+      offset: result[0]! as int,
+      length: result[1]! as int,
+      preview: result[2]! as String,
+      previewOffset: result[3]! as int,
+    );
+  }
+}
 
-  static void setUp(
-    NutrientApiCallbacks? api, {
-    BinaryMessenger? binaryMessenger,
-    String messageChannelSuffix = '',
-  }) {
-    messageChannelSuffix =
-        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfActivityOnPause$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
+/// The hits of [PdfDocumentApi.searchText] on one page.
+class TextSearchPageResult {
+  TextSearchPageResult({
+    required this.pageIndex,
+    required this.hits,
+  });
+
+  /// Zero-based index of the page.
+  int pageIndex;
+
+  /// The hits on the page, in reading order.
+  List<TextSearchHit> hits;
+
+  Object encode() {
+    return <Object?>[
+      pageIndex,
+      hits,
+    ];
+  }
+
+  static TextSearchPageResult decode(Object result) {
+    result as List<Object?>;
+    return TextSearchPageResult(
+      pageIndex: result[0]! as int,
+      hits: (result[1] as List<Object?>?)!.cast<TextSearchHit>(),
+    );
+  }
+}
+
+/// Totals of a finished [PdfDocumentApi.searchText] run.
+class TextSearchSummary {
+  TextSearchSummary({
+    required this.hitCount,
+    required this.pageCount,
+    required this.truncated,
+    required this.durationMs,
+  });
+
+  /// Number of hits found.
+  int hitCount;
+
+  /// Number of pages with hits.
+  int pageCount;
+
+  /// Whether hits were left out because of [TextSearchOptions.maxResults].
+  bool truncated;
+
+  /// Time the search took, including building the index if needed, in
+  /// milliseconds.
+  int durationMs;
+
+  Object encode() {
+    return <Object?>[
+      hitCount,
+      pageCount,
+      truncated,
+      durationMs,
+    ];
+  }
+
+  static TextSearchSummary decode(Object result) {
+    result as List<Object?>;
+    return TextSearchSummary(
+      hitCount: result[0]! as int,
+      pageCount: result[1]! as int,
+      truncated: result[2]! as bool,
+      durationMs: result[3]! as int,
+    );
+  }
+}
+
+/// A form field value that could not be set by a batch write.
+class FormFieldWriteError {
+  FormFieldWriteError({
+    required this.fullyQualifiedName,
+    required this.errorCode,
+    required this.message,
+  });
+
+  /// Fully qualified name of the field.
+  String fullyQualifiedName;
+
+  /// Error code, e.g. `FormFieldNotFound` or `InvalidValue`.
+  String errorCode;
+
+  /// Description of the error.
+  String message;
+
+  Object encode() {
+    return <Object?>[
+      fullyQualifiedName,
+      errorCode,
+      message,
+    ];
+  }
+
+  static FormFieldWriteError decode(Object result) {
+    result as List<Object?>;
+    return FormFieldWriteError(
+      fullyQualifiedName: result[0]! as String,
+      errorCode: result[1]! as String,
+      message: result[2]! as String,
+    );
+  }
+}
+
+/// The typed value of a form field.
+///
+/// Only the members that apply to [type] are set.
+class FormFieldValue {
+  FormFieldValue({
+    required this.fullyQualifiedName,
+    required this.type,
+    this.text,
+    this.isSelected,
+    this.selectedIndexes,
+  });
+
+  /// Fully qualified name of the field.
+  String fullyQualifiedName;
+
+  /// Type of the field.
+  PdfFormFieldTypes type;
+
+  /// Text of a text field, or the custom text of an editable combo box.
+  String? text;
+
+  /// Whether a checkbox is checked, or whether any button of a radio group is
+  /// selected.
+  bool? isSelected;
+
+  /// Selected option indexes of a list or combo box, or the index of the
+  /// selected button of a radio group.
+  List<int>? selectedIndexes;
+
+  Object encode() {
+    return <Object?>[
+      fullyQualifiedName,
+      type,
+      text,
+      isSelected,
+      selectedIndexes,
+    ];
+  }
+
+  static FormFieldValue decode(Object result) {
+    result as List<Object?>;
+    return FormFieldValue(
+      fullyQualifiedName: result[0]! as String,
+      type: result[1]! as PdfFormFieldTypes,
+      text: result[2] as String?,
+      isSelected: result[3] as bool?,
+      selectedIndexes: (result[4] as List<Object?>?)?.cast<int>(),
+    );
+  }
+}
+
+/// Describes a mail merge run with [HeadlessDocumentApi.mailMerge].
+class MailMergeRequest {
+  MailMergeRequest({
+    required this.templatePath,
+    this.templatePassword,
+    required this.dataPath,
+    this.dataFormat,
+    required this.outputDirectory,
+    this.fileNamePattern,
+    this.flatten,
+    this.maxConcurrency,
+  });
+
+  /// Path to the PDF form used as template (file path or content:// URI).
+  String templatePath;
+
+  /// Password of the template, if it is encrypted.
+  String? templatePassword;
+
+  /// Path to the dataset, a CSV file with a header row or a JSON array of
+  /// objects. Column names and object keys are fully qualified form field names.
+  String dataPath;
+
+  /// Format of the dataset, `csv` or `json`. Inferred from the extension of
+  /// [dataPath] when null.
+  String? dataFormat;
+
+  /// Directory where the filled documents are written. Created if needed.
+  String outputDirectory;
+
+  /// Name of each output file. `{row}` is replaced by the one-based row number
+  /// and `{<column>}` by the value of that column. `row-{row}.pdf` when null.
+  String? fileNamePattern;
+
+  /// Whether to flatten the form fields of the outputs.
+  bool? flatten;
+
+  /// Maximum number of rows processed at the same time. 4 when null.
+  int? maxConcurrency;
+
+  Object encode() {
+    return <Object?>[
+      templatePath,
+      templatePassword,
+      dataPath,
+      dataFormat,
+      outputDirectory,
+      fileNamePattern,
+      flatten,
+      maxConcurrency,
+    ];
+  }
+
+  static MailMergeRequest decode(Object result) {
+    result as List<Object?>;
+    return MailMergeRequest(
+      templatePath: result[0]! as String,
+      templatePassword: result[1] as String?,
+      dataPath: result[2]! as String,
+      dataFormat: result[3] as String?,
+      outputDirectory: result[4]! as String,
+      fileNamePattern: result[5] as String?,
+      flatten: result[6] as bool?,
+      maxConcurrency: result[7] as int?,
+    );
+  }
+}
+
+/// A dataset row that could not be written by a mail merge.
+class MailMergeRowError {
+  MailMergeRowError({
+    required this.rowIndex,
+    required this.errorCode,
+    required this.message,
+  });
+
+  /// Zero-based index of the row in the dataset, not counting the CSV header.
+  int rowIndex;
+
+  /// Error code, e.g. `InvalidValue` or `MailMergeError`.
+  String errorCode;
+
+  /// Description of the error.
+  String message;
+
+  Object encode() {
+    return <Object?>[
+      rowIndex,
+      errorCode,
+      message,
+    ];
+  }
+
+  static MailMergeRowError decode(Object result) {
+    result as List<Object?>;
+    return MailMergeRowError(
+      rowIndex: result[0]! as int,
+      errorCode: result[1]! as String,
+      message: result[2]! as String,
+    );
+  }
+}
+
+/// Outcome of [HeadlessDocumentApi.mailMerge].
+class MailMergeResult {
+  MailMergeResult({
+    required this.rowCount,
+    required this.outputPaths,
+    required this.errors,
+    required this.durationMs,
+    required this.rowsPerSecond,
+  });
+
+  /// Number of rows in the dataset.
+  int rowCount;
+
+  /// Path of the document written for each row, null for failed rows.
+  List<String?> outputPaths;
+
+  /// Rows that failed, in row order.
+  List<MailMergeRowError> errors;
+
+  /// Duration of the whole run in milliseconds.
+  int durationMs;
+
+  /// Number of rows processed per second.
+  double rowsPerSecond;
+
+  Object encode() {
+    return <Object?>[
+      rowCount,
+      outputPaths,
+      errors,
+      durationMs,
+      rowsPerSecond,
+    ];
+  }
+
+  static MailMergeResult decode(Object result) {
+    result as List<Object?>;
+    return MailMergeResult(
+      rowCount: result[0]! as int,
+      outputPaths: (result[1] as List<Object?>?)!.cast<String?>(),
+      errors: (result[2] as List<Object?>?)!.cast<MailMergeRowError>(),
+      durationMs: result[3]! as int,
+      rowsPerSecond: result[4]! as double,
+    );
+  }
+}
+
+/// A validation rule for one form field, see [PdfDocumentApi.setFormValidationRules].
+class FormValidationRule {
+  FormValidationRule({
+    required this.fullyQualifiedName,
+    required this.ruleType,
+    this.pattern,
+    this.minimum,
+    this.maximum,
+    this.otherFieldName,
+    this.message,
+  });
+
+  /// Fully qualified name of the validated field.
+  String fullyQualifiedName;
+
+  /// Kind of rule: `required`, `pattern`, `range` or `equals`.
+  String ruleType;
+
+  /// Regular expression the whole value must match, for `pattern` rules.
+  String? pattern;
+
+  /// Smallest allowed number, for `range` rules.
+  double? minimum;
+
+  /// Largest allowed number, for `range` rules.
+  double? maximum;
+
+  /// Fully qualified name of the field the value must equal, for `equals`
+  /// rules.
+  String? otherFieldName;
+
+  /// Message reported when the rule is violated. A default message is used
+  /// when null.
+  String? message;
+
+  Object encode() {
+    return <Object?>[
+      fullyQualifiedName,
+      ruleType,
+      pattern,
+      minimum,
+      maximum,
+      otherFieldName,
+      message,
+    ];
+  }
+
+  static FormValidationRule decode(Object result) {
+    result as List<Object?>;
+    return FormValidationRule(
+      fullyQualifiedName: result[0]! as String,
+      ruleType: result[1]! as String,
+      pattern: result[2] as String?,
+      minimum: result[3] as double?,
+      maximum: result[4] as double?,
+      otherFieldName: result[5] as String?,
+      message: result[6] as String?,
+    );
+  }
+}
+
+/// A violated [FormValidationRule].
+class FormValidationViolation {
+  FormValidationViolation({
+    required this.fullyQualifiedName,
+    required this.ruleType,
+    required this.message,
+  });
+
+  /// Fully qualified name of the invalid field.
+  String fullyQualifiedName;
+
+  /// Kind of the violated rule.
+  String ruleType;
+
+  /// Message of the violated rule.
+  String message;
+
+  Object encode() {
+    return <Object?>[
+      fullyQualifiedName,
+      ruleType,
+      message,
+    ];
+  }
+
+  static FormValidationViolation decode(Object result) {
+    result as List<Object?>;
+    return FormValidationViolation(
+      fullyQualifiedName: result[0]! as String,
+      ruleType: result[1]! as String,
+      message: result[2]! as String,
+    );
+  }
+}
+
+/// Progress of a form data import or export, sent after every chunk.
+class FormDataTransferProgress {
+  FormDataTransferProgress({
+    required this.fieldCount,
+    required this.errorCount,
+    required this.elapsedMs,
+    required this.fieldsPerSecond,
+  });
+
+  /// Number of fields processed so far.
+  int fieldCount;
+
+  /// Number of fields that could not be imported so far.
+  int errorCount;
+
+  /// Time since the transfer started, in milliseconds.
+  int elapsedMs;
+
+  /// Fields processed per second so far.
+  double fieldsPerSecond;
+
+  Object encode() {
+    return <Object?>[
+      fieldCount,
+      errorCount,
+      elapsedMs,
+      fieldsPerSecond,
+    ];
+  }
+
+  static FormDataTransferProgress decode(Object result) {
+    result as List<Object?>;
+    return FormDataTransferProgress(
+      fieldCount: result[0]! as int,
+      errorCount: result[1]! as int,
+      elapsedMs: result[2]! as int,
+      fieldsPerSecond: result[3]! as double,
+    );
+  }
+}
+
+/// Outcome of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+class FormDataTransferResult {
+  FormDataTransferResult({
+    required this.fieldCount,
+    required this.errors,
+    required this.durationMs,
+    required this.fieldsPerSecond,
+  });
+
+  /// Number of fields that were imported or exported, including failed ones.
+  int fieldCount;
+
+  /// The fields that could not be imported. Always empty for exports.
+  List<FormFieldWriteError> errors;
+
+  /// Duration of the whole transfer, in milliseconds.
+  int durationMs;
+
+  /// Fields processed per second.
+  double fieldsPerSecond;
+
+  Object encode() {
+    return <Object?>[
+      fieldCount,
+      errors,
+      durationMs,
+      fieldsPerSecond,
+    ];
+  }
+
+  static FormDataTransferResult decode(Object result) {
+    result as List<Object?>;
+    return FormDataTransferResult(
+      fieldCount: result[0]! as int,
+      errors: (result[1] as List<Object?>?)!.cast<FormFieldWriteError>(),
+      durationMs: result[2]! as int,
+      fieldsPerSecond: result[3]! as double,
+    );
+  }
+}
+
+/// Events of native PDF activities and Instant documents, in firing order.
+///
+/// The events are stored column by column, the i-th event is described by
+/// the i-th entry of every list, so the sender can reuse the same lists for
+/// every batch.
+class PlatformEventBatch {
+  PlatformEventBatch({
+    required this.types,
+    required this.documentIds,
+    required this.details,
+  });
+
+  /// Kind of every event: `activityPaused`, `fragmentAdded`,
+  /// `documentLoaded`, `instantSyncStarted`, `instantSyncFinished`,
+  /// `instantSyncFailed`, `instantAuthenticationFinished` or
+  /// `instantAuthenticationFailed`.
+  List<String> types;
+
+  /// Document ID of every event, null for activity and fragment events.
+  List<String?> documentIds;
+
+  /// Error message of failure events and JWT of
+  /// `instantAuthenticationFinished` events, null for all other events.
+  List<String?> details;
+
+  Object encode() {
+    return <Object?>[
+      types,
+      documentIds,
+      details,
+    ];
+  }
+
+  static PlatformEventBatch decode(Object result) {
+    result as List<Object?>;
+    return PlatformEventBatch(
+      types: (result[0] as List<Object?>?)!.cast<String>(),
+      documentIds: (result[1] as List<Object?>?)!.cast<String?>(),
+      details: (result[2] as List<Object?>?)!.cast<String?>(),
+    );
+  }
+}
+
+class _PigeonCodec extends StandardMessageCodec {
+  const _PigeonCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is int) {
+      buffer.putUint8(4);
+      buffer.putInt64(value);
+    } else if (value is AndroidPermissionStatus) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.index);
+    } else if (value is AnnotationType) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.index);
+    } else if (value is AnnotationTool) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.index);
+    } else if (value is AnnotationToolVariant) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.index);
+    } else if (value is AnnotationProcessingMode) {
+      buffer.putUint8(133);
+      writeValue(buffer, value.index);
+    } else if (value is DocumentPermissions) {
+      buffer.putUint8(134);
+      writeValue(buffer, value.index);
+    } else if (value is PdfVersion) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.index);
+    } else if (value is PdfFormFieldTypes) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.index);
+    } else if (value is NutrientEvent) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.index);
+    } else if (value is AnnotationMenuAction) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.index);
+    } else if (value is PdfRect) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is PageInfo) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentSaveOptions) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PdfFormOption) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is FormFieldData) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is HeadlessDocumentOpenOptions) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is PointF) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is AnnotationMenuConfigurationData) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is AnnotationProperties) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is Bookmark) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentMergeSource) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentSplitTarget) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else if (value is AnnotationProcessingScope) {
+      buffer.putUint8(151);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentExportRequest) {
+      buffer.putUint8(152);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentExportResult) {
+      buffer.putUint8(153);
+      writeValue(buffer, value.encode());
+    } else if (value is RedactionRequest) {
+      buffer.putUint8(154);
+      writeValue(buffer, value.encode());
+    } else if (value is RedactionPageResult) {
+      buffer.putUint8(155);
+      writeValue(buffer, value.encode());
+    } else if (value is RedactionResult) {
+      buffer.putUint8(156);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentPoolConfiguration) {
+      buffer.putUint8(157);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentPoolStatistics) {
+      buffer.putUint8(158);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentWarmUpOptions) {
+      buffer.putUint8(159);
+      writeValue(buffer, value.encode());
+    } else if (value is WarmUpPhaseTiming) {
+      buffer.putUint8(160);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentWarmUpResult) {
+      buffer.putUint8(161);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentOpenRequest) {
+      buffer.putUint8(162);
+      writeValue(buffer, value.encode());
+    } else if (value is DocumentOpenResult) {
+      buffer.putUint8(163);
+      writeValue(buffer, value.encode());
+    } else if (value is PageRenderOptions) {
+      buffer.putUint8(164);
+      writeValue(buffer, value.encode());
+    } else if (value is RenderedPage) {
+      buffer.putUint8(165);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailResult) {
+      buffer.putUint8(166);
+      writeValue(buffer, value.encode());
+    } else if (value is PageText) {
+      buffer.putUint8(167);
+      writeValue(buffer, value.encode());
+    } else if (value is PageTextChunk) {
+      buffer.putUint8(168);
+      writeValue(buffer, value.encode());
+    } else if (value is TextExtractionSummary) {
+      buffer.putUint8(169);
+      writeValue(buffer, value.encode());
+    } else if (value is TextSearchOptions) {
+      buffer.putUint8(170);
+      writeValue(buffer, value.encode());
+    } else if (value is TextSearchHit) {
+      buffer.putUint8(171);
+      writeValue(buffer, value.encode());
+    } else if (value is TextSearchPageResult) {
+      buffer.putUint8(172);
+      writeValue(buffer, value.encode());
+    } else if (value is TextSearchSummary) {
+      buffer.putUint8(173);
+      writeValue(buffer, value.encode());
+    } else if (value is FormFieldWriteError) {
+      buffer.putUint8(174);
+      writeValue(buffer, value.encode());
+    } else if (value is FormFieldValue) {
+      buffer.putUint8(175);
+      writeValue(buffer, value.encode());
+    } else if (value is MailMergeRequest) {
+      buffer.putUint8(176);
+      writeValue(buffer, value.encode());
+    } else if (value is MailMergeRowError) {
+      buffer.putUint8(177);
+      writeValue(buffer, value.encode());
+    } else if (value is MailMergeResult) {
+      buffer.putUint8(178);
+      writeValue(buffer, value.encode());
+    } else if (value is FormValidationRule) {
+      buffer.putUint8(179);
+      writeValue(buffer, value.encode());
+    } else if (value is FormValidationViolation) {
+      buffer.putUint8(180);
+      writeValue(buffer, value.encode());
+    } else if (value is FormDataTransferProgress) {
+      buffer.putUint8(181);
+      writeValue(buffer, value.encode());
+    } else if (value is FormDataTransferResult) {
+      buffer.putUint8(182);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformEventBatch) {
+      buffer.putUint8(183);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 129:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AndroidPermissionStatus.values[value];
+      case 130:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AnnotationType.values[value];
+      case 131:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AnnotationTool.values[value];
+      case 132:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AnnotationToolVariant.values[value];
+      case 133:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AnnotationProcessingMode.values[value];
+      case 134:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : DocumentPermissions.values[value];
+      case 135:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : PdfVersion.values[value];
+      case 136:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : PdfFormFieldTypes.values[value];
+      case 137:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : NutrientEvent.values[value];
+      case 138:
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : AnnotationMenuAction.values[value];
+      case 139:
+        return PdfRect.decode(readValue(buffer)!);
+      case 140:
+        return PageInfo.decode(readValue(buffer)!);
+      case 141:
+        return DocumentSaveOptions.decode(readValue(buffer)!);
+      case 142:
+        return PdfFormOption.decode(readValue(buffer)!);
+      case 143:
+        return FormFieldData.decode(readValue(buffer)!);
+      case 144:
+        return HeadlessDocumentOpenOptions.decode(readValue(buffer)!);
+      case 145:
+        return PointF.decode(readValue(buffer)!);
+      case 146:
+        return AnnotationMenuConfigurationData.decode(readValue(buffer)!);
+      case 147:
+        return AnnotationProperties.decode(readValue(buffer)!);
+      case 148:
+        return Bookmark.decode(readValue(buffer)!);
+      case 149:
+        return DocumentMergeSource.decode(readValue(buffer)!);
+      case 150:
+        return DocumentSplitTarget.decode(readValue(buffer)!);
+      case 151:
+        return AnnotationProcessingScope.decode(readValue(buffer)!);
+      case 152:
+        return DocumentExportRequest.decode(readValue(buffer)!);
+      case 153:
+        return DocumentExportResult.decode(readValue(buffer)!);
+      case 154:
+        return RedactionRequest.decode(readValue(buffer)!);
+      case 155:
+        return RedactionPageResult.decode(readValue(buffer)!);
+      case 156:
+        return RedactionResult.decode(readValue(buffer)!);
+      case 157:
+        return DocumentPoolConfiguration.decode(readValue(buffer)!);
+      case 158:
+        return DocumentPoolStatistics.decode(readValue(buffer)!);
+      case 159:
+        return DocumentWarmUpOptions.decode(readValue(buffer)!);
+      case 160:
+        return WarmUpPhaseTiming.decode(readValue(buffer)!);
+      case 161:
+        return DocumentWarmUpResult.decode(readValue(buffer)!);
+      case 162:
+        return DocumentOpenRequest.decode(readValue(buffer)!);
+      case 163:
+        return DocumentOpenResult.decode(readValue(buffer)!);
+      case 164:
+        return PageRenderOptions.decode(readValue(buffer)!);
+      case 165:
+        return RenderedPage.decode(readValue(buffer)!);
+      case 166:
+        return ThumbnailResult.decode(readValue(buffer)!);
+      case 167:
+        return PageText.decode(readValue(buffer)!);
+      case 168:
+        return PageTextChunk.decode(readValue(buffer)!);
+      case 169:
+        return TextExtractionSummary.decode(readValue(buffer)!);
+      case 170:
+        return TextSearchOptions.decode(readValue(buffer)!);
+      case 171:
+        return TextSearchHit.decode(readValue(buffer)!);
+      case 172:
+        return TextSearchPageResult.decode(readValue(buffer)!);
+      case 173:
+        return TextSearchSummary.decode(readValue(buffer)!);
+      case 174:
+        return FormFieldWriteError.decode(readValue(buffer)!);
+      case 175:
+        return FormFieldValue.decode(readValue(buffer)!);
+      case 176:
+        return MailMergeRequest.decode(readValue(buffer)!);
+      case 177:
+        return MailMergeRowError.decode(readValue(buffer)!);
+      case 178:
+        return MailMergeResult.decode(readValue(buffer)!);
+      case 179:
+        return FormValidationRule.decode(readValue(buffer)!);
+      case 180:
+        return FormValidationViolation.decode(readValue(buffer)!);
+      case 181:
+        return FormDataTransferProgress.decode(readValue(buffer)!);
+      case 182:
+        return FormDataTransferResult.decode(readValue(buffer)!);
+      case 183:
+        return PlatformEventBatch.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// The API for interacting with a PDF document.
+class NutrientApi {
+  /// Constructor for [NutrientApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  NutrientApi(
+      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
+      : pigeonVar_binaryMessenger = binaryMessenger,
+        pigeonVar_messageChannelSuffix =
+            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  Future<String?> getFrameworkVersion() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFrameworkVersion$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<void> setLicenseKey(String? licenseKey) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKey$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[licenseKey]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setLicenseKeys(String? androidLicenseKey, String? iOSLicenseKey,
+      String? webLicenseKey) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setLicenseKeys$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[androidLicenseKey, iOSLicenseKey, webLicenseKey]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<bool?> present(String document,
+      {Map<String, Object>? configuration}) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.present$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[document, configuration]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> presentInstant(
+    String serverUrl,
+    String jwt, {
+    Map<String, Object>? configuration,
+  }) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.presentInstant$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[serverUrl, jwt, configuration]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> setFormFieldValue(
+      String value, String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<bool?> applyInstantJson(String annotationsJson) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.applyInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotationsJson]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<String?> exportInstantJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<bool?> addAnnotation(String annotation, String? attachment) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.addAnnotation$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotation, attachment]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> removeAnnotation(String annotation) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.removeAnnotation$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotation]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  Future<String?> getAnnotationsJson(int pageIndex, String type) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, type]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  /// Returns a JSON string containing all unsaved annotations in the presented document.
+  /// The JSON string can be decoded to the appropriate type on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  Future<String?> getAllUnsavedAnnotationsJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<void> updateAnnotation(String annotation) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.updateAnnotation$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotation]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<bool?> processAnnotations(AnnotationType type,
+      AnnotationProcessingMode processingMode, String destinationPath) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[type, processingMode, destinationPath]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> importXfdf(String xfdfString) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.importXfdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[xfdfString]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> exportXfdf(String xfdfPath) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.exportXfdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[xfdfPath]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> save() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.save$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> setDelayForSyncingLocalChanges(double delay) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setDelayForSyncingLocalChanges$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[delay]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> setListenToServerChanges(bool listen) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setListenToServerChanges$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[listen]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> syncAnnotations() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.syncAnnotations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<bool?> checkAndroidWriteExternalStoragePermission() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.checkAndroidWriteExternalStoragePermission$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<AndroidPermissionStatus>
+      requestAndroidWriteExternalStoragePermission() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.requestAndroidWriteExternalStoragePermission$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as AndroidPermissionStatus?)!;
+    }
+  }
+
+  Future<void> openAndroidSettings() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.openAndroidSettings$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<bool?> setAnnotationPresetConfigurations(
+      Map<String, Object?> configurations) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationPresetConfigurations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[configurations]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  Future<String> getTemporaryDirectory() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getTemporaryDirectory$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  Future<void> setAuthorName(String name) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAuthorName$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[name]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<String> getAuthorName() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.getAuthorName$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  /// Generate PDF from Images, Template, and Patterns.
+  /// [pages]: [NewPage]s to be added to the PDF.
+  /// [outputPath]: The path to the output file.
+  /// Returns the path to the generated PDF path or null if the input is invalid or if the PDF generation fails.
+  Future<String?> generatePdf(
+      List<Map<String, Object>> pages, String outputPath) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pages, outputPath]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  /// Generates a PDF from HTML string.
+  ///
+  /// [html]: The HTML string to be converted to PDF.
+  /// [outPutFile]: The path to the output file.
+  /// Returns the path to the generated PDF file or null if the input is invalid or if the PDF generation fails.
+  Future<String?> generatePdfFromHtmlString(
+      String html, String outPutFile, Map<String, Object>? options) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlString$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[html, outPutFile, options]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  Future<String?> generatePdfFromHtmlUri(
+      String htmlUri, String outPutFile, Map<String, Object>? options) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.generatePdfFromHtmlUri$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[htmlUri, outPutFile, options]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  /// Configure Nutrient Analytics events.
+  Future<void> enableAnalyticsEvents(bool enable) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.enableAnalyticsEvents$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[enable]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Sets the annotation menu configuration for the global presenter.
+  /// This configuration applies to all annotation menus in presented documents.
+  ///
+  /// @param configuration The annotation menu configuration to apply.
+  /// @return True if the configuration was set successfully, false otherwise.
+  Future<bool?> setAnnotationMenuConfiguration(
+      AnnotationMenuConfigurationData configuration) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.setAnnotationMenuConfiguration$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[configuration]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  Future<bool?> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientApi.processAnnotationsOnPages$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[processingMode, destinationPath, scopes]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+}
+
+abstract class NutrientApiCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// onPAuse callback for FlutterPdfActivity
+  void onPdfActivityOnPause();
+
+  void onPdfFragmentAdded();
+
+  void onDocumentLoaded(String documentId);
+
+  /// ViewControllerWillDismiss callback for PDFViewController
+  void onPdfViewControllerWillDismiss();
+
+  /// ViewControllerDidDismiss callback for PDFViewController
+  void onPdfViewControllerDidDismiss();
+
+  /// Called when instant synchronization starts.
+  void onInstantSyncStarted(String documentId);
+
+  /// Called when instant synchronization ends.
+  void onInstantSyncFinished(String documentId);
+
+  /// Called when instant synchronization fails.
+  void onInstantSyncFailed(String documentId, String error);
+
+  /// Called when instant authentication is done.
+  void onInstantAuthenticationFinished(String documentId, String validJWT);
+
+  /// Called when instant authentication fails.
+  void onInstantAuthenticationFailed(String documentId, String error);
+
+  /// Only available on iOS.
+  /// Called when instant document download is done.
+  void onInstantDownloadFinished(String documentId);
+
+  /// Only available on iOS.
+  /// Called when instant document download fails.
+  void onInstantDownloadFailed(String documentId, String error);
+
+  static void setUp(
+    NutrientApiCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfActivityOnPause$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          try {
+            api.onPdfActivityOnPause();
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfFragmentAdded$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          try {
+            api.onPdfFragmentAdded();
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded was null, expected non-null String.');
+          try {
+            api.onDocumentLoaded(arg_documentId!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerWillDismiss$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          try {
+            api.onPdfViewControllerWillDismiss();
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerDidDismiss$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          try {
+            api.onPdfViewControllerDidDismiss();
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
       if (api == null) {
         pigeonVar_channel.setMessageHandler(null);
       } else {
         pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted was null, expected non-null String.');
           try {
-            api.onPdfActivityOnPause();
+            api.onInstantSyncStarted(arg_documentId!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished was null, expected non-null String.');
+          try {
+            api.onInstantSyncFinished(arg_documentId!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null, expected non-null String.');
+          final String? arg_error = (args[1] as String?);
+          assert(arg_error != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null, expected non-null String.');
+          try {
+            api.onInstantSyncFailed(arg_documentId!, arg_error!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null, expected non-null String.');
+          final String? arg_validJWT = (args[1] as String?);
+          assert(arg_validJWT != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null, expected non-null String.');
+          try {
+            api.onInstantAuthenticationFinished(arg_documentId!, arg_validJWT!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null, expected non-null String.');
+          final String? arg_error = (args[1] as String?);
+          assert(arg_error != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null, expected non-null String.');
+          try {
+            api.onInstantAuthenticationFailed(arg_documentId!, arg_error!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished was null, expected non-null String.');
+          try {
+            api.onInstantDownloadFinished(arg_documentId!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_documentId = (args[0] as String?);
+          assert(arg_documentId != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null, expected non-null String.');
+          final String? arg_error = (args[1] as String?);
+          assert(arg_error != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null, expected non-null String.');
+          try {
+            api.onInstantDownloadFailed(arg_documentId!, arg_error!);
             return wrapResponse(empty: true);
           } on PlatformException catch (e) {
             return wrapResponse(error: e);
@@ -1984,343 +3988,1088 @@ abstract class NutrientApiCallbacks {
         });
       }
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfFragmentAdded$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          try {
-            api.onPdfFragmentAdded();
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+}
+
+class NutrientViewControllerApi {
+  /// Constructor for [NutrientViewControllerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  NutrientViewControllerApi(
+      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
+      : pigeonVar_binaryMessenger = binaryMessenger,
+        pigeonVar_messageChannelSuffix =
+            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  /// Sets the value of a form field by specifying its fully qualified field name.
+  /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
+  Future<bool?> setFormFieldValue(
+      String value, String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Gets the form field value by specifying its fully qualified name.
+  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  /// Applies Instant document JSON to the presented document.
+  Future<bool?> applyInstantJson(String annotationsJson) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.applyInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotationsJson]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Exports Instant document JSON from the presented document.
+  Future<String?> exportInstantJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
+    }
+  }
+
+  /// Adds the given annotation to the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  Future<bool?> addAnnotation(String annotation) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addAnnotation$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotation]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Removes the given annotation from the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  Future<bool?> removeAnnotation(String annotation) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeAnnotation$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotation]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  Future<String> getAnnotationsJson(int pageIndex, String type) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, type]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  /// Returns a JSON string containing all unsaved annotations in the presented document.
+  /// The JSON string can be decoded to the appropriate type on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  Future<String> getAllUnsavedAnnotationsJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  /// Processes annotations of the given type with the provided processing
+  /// mode and stores the PDF at the given destination path.
+  Future<bool> processAnnotations(AnnotationType type,
+      AnnotationProcessingMode processingMode, String destinationPath) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[type, processingMode, destinationPath]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Imports annotations from the XFDF file at the given path.
+  Future<bool> importXfdf(String xfdfString) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.importXfdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[xfdfString]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Exports annotations to the XFDF file at the given path.
+  Future<bool> exportXfdf(String xfdfPath) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportXfdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[xfdfPath]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Saves the document back to its original location if it has been changed.
+  /// If there were no changes to the document, the document file will not be modified.
+  Future<bool> save() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.save$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Sets the annotation preset configurations for the given annotation tools.
+  /// @param configurations A map of annotation tools and their corresponding configurations.
+  /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
+  /// @return True if the configurations were set successfully, false otherwise.
+  Future<bool?> setAnnotationConfigurations(
+      Map<String, Map<String, Object>> configurations) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationConfigurations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[configurations]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Gets the visible rect of the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// Returns a [Future] that completes with the visible rect of the given page.
+  Future<PdfRect> getVisibleRect(int pageIndex) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getVisibleRect$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PdfRect?)!;
+    }
+  }
+
+  /// Zooms to the given rect on the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// rect The rect to zoom to.
+  /// Returns a [Future] that completes when the zoom operation is done.
+  Future<bool> zoomToRect(
+      int pageIndex, PdfRect rect, bool? animated, double? duration) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.zoomToRect$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, rect, animated, duration]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Gets the zoom scale of the given page.
+  /// pageIndex The index of the page. This is a zero-based index.
+  /// Returns a [Future] that completes with the zoom scale of the given page.
+  Future<double> getZoomScale(int pageIndex) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getZoomScale$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as double?)!;
+    }
+  }
+
+  Future<void> addEventListener(NutrientEvent event) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addEventListener$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[event]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeEventListener(NutrientEvent event) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeEventListener$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[event]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Enters annotation creation mode.
+  ///
+  /// If [annotationTool] is provided, that specific tool will be activated.
+  /// If no tool is provided, the default annotation tool will be used.
+  ///
+  /// Returns a [Future] that completes with a boolean indicating whether
+  /// entering annotation creation mode was successful.
+  Future<bool?> enterAnnotationCreationMode(
+      AnnotationTool? annotationTool) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.enterAnnotationCreationMode$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotationTool]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Exits annotation creation mode.
+  ///
+  /// Returns a [Future] that completes with a boolean indicating whether
+  /// exiting annotation creation mode was successful.
+  Future<bool?> exitAnnotationCreationMode() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exitAnnotationCreationMode$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onDocumentLoaded was null, expected non-null String.');
-          try {
-            api.onDocumentLoaded(arg_documentId!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Sets the annotation menu configuration for the current view controller.
+  /// This configuration applies only to annotation menus in the current document view.
+  ///
+  /// @param configuration The annotation menu configuration to apply.
+  /// @return True if the configuration was set successfully, false otherwise.
+  Future<bool?> setAnnotationMenuConfiguration(
+      AnnotationMenuConfigurationData configuration) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationMenuConfiguration$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[configuration]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerWillDismiss$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          try {
-            api.onPdfViewControllerWillDismiss();
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Converts a point from the page view's coordinate space to PDF page coordinates.
+  ///
+  /// [point] must be in logical view coordinates (UIKit points on iOS /
+  /// Flutter logical pixels on Android), relative to the top-left corner of
+  /// the page view that renders [pageIndex]. This corresponds to the coordinates
+  /// reported by gesture or tap callbacks on the page view widget.
+  /// [pageIndex] is zero-based.
+  Future<PointF> convertViewPointToPdfPoint(int pageIndex, PointF point) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertViewPointToPdfPoint$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, point]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PointF?)!;
+    }
+  }
+
+  /// Converts a point from PDF page coordinates to the page view's coordinate space.
+  ///
+  /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
+  /// Flutter logical pixels on Android), relative to the top-left corner of
+  /// the page view that renders [pageIndex].
+  /// [pageIndex] is zero-based.
+  Future<PointF> convertPdfPointToViewPoint(int pageIndex, PointF point) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertPdfPointToViewPoint$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, point]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PointF?)!;
+    }
+  }
+
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  Future<bool> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotationsOnPages$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[processingMode, destinationPath, scopes]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onPdfViewControllerDidDismiss$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          try {
-            api.onPdfViewControllerDidDismiss();
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Sets the values of several form fields of the presented document at once.
+  ///
+  /// See [PdfDocumentApi.setFormFieldValues].
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValues$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[values]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormFieldWriteError>();
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncStarted was null, expected non-null String.');
-          try {
-            api.onInstantSyncStarted(arg_documentId!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+}
+
+class PdfDocumentApi {
+  /// Constructor for [PdfDocumentApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  PdfDocumentApi(
+      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
+      : pigeonVar_binaryMessenger = binaryMessenger,
+        pigeonVar_messageChannelSuffix =
+            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  /// Returns the page info for the given page index.
+  /// pageIndex The index of the page. This is a zero-based index.
+  Future<PageInfo> getPageInfo(int pageIndex) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PageInfo?)!;
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFinished was null, expected non-null String.');
-          try {
-            api.onInstantSyncFinished(arg_documentId!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Exports the document as a PDF.
+  /// options:[DocumentSaveOptions] The options to use when exporting the document.
+  /// Returns a [Uint8List] containing the exported PDF data.
+  Future<Uint8List> exportPdf(DocumentSaveOptions? options) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[options]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Uint8List?)!;
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null, expected non-null String.');
-          final String? arg_error = (args[1] as String?);
-          assert(arg_error != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantSyncFailed was null, expected non-null String.');
-          try {
-            api.onInstantSyncFailed(arg_documentId!, arg_error!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Returns the form field with the given name as a JSON string.
+  /// The JSON string contains the form field data that can be decoded
+  /// to a Map<String, dynamic> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types.
+  Future<String> getFormFieldJson(String fieldName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[fieldName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null, expected non-null String.');
-          final String? arg_validJWT = (args[1] as String?);
-          assert(arg_validJWT != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFinished was null, expected non-null String.');
-          try {
-            api.onInstantAuthenticationFinished(arg_documentId!, arg_validJWT!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Returns a list of all form fields in the document as a JSON string.
+  /// The JSON string contains an array of form field objects that can be
+  /// decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types.
+  Future<String> getFormFieldsJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null, expected non-null String.');
-          final String? arg_error = (args[1] as String?);
-          assert(arg_error != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantAuthenticationFailed was null, expected non-null String.');
-          try {
-            api.onInstantAuthenticationFailed(arg_documentId!, arg_error!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Sets the value of a form field by specifying its fully qualified field name.
+  Future<bool?> setFormFieldValue(
+      String value, String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFinished was null, expected non-null String.');
-          try {
-            api.onInstantDownloadFinished(arg_documentId!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Gets the form field value by specifying its fully qualified name.
+  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
     }
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed$messageChannelSuffix',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (api == null) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final String? arg_documentId = (args[0] as String?);
-          assert(arg_documentId != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null, expected non-null String.');
-          final String? arg_error = (args[1] as String?);
-          assert(arg_error != null,
-              'Argument for dev.flutter.pigeon.nutrient_flutter.NutrientApiCallbacks.onInstantDownloadFailed was null, expected non-null String.');
-          try {
-            api.onInstantDownloadFailed(arg_documentId!, arg_error!);
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
+  }
+
+  /// Applies Instant document JSON to the presented document.
+  Future<bool?> applyInstantJson(String annotationsJson) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[annotationsJson]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?);
+    }
+  }
+
+  /// Exports Instant document JSON from the presented document.
+  Future<String?> exportInstantJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?);
     }
   }
-}
-
-class NutrientViewControllerApi {
-  /// Constructor for [NutrientViewControllerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  NutrientViewControllerApi(
-      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
-      : pigeonVar_binaryMessenger = binaryMessenger,
-        pigeonVar_messageChannelSuffix =
-            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
-
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
 
-  final String pigeonVar_messageChannelSuffix;
-
-  /// Sets the value of a form field by specifying its fully qualified field name.
-  /// This method is deprecated. Use [PdfDocument.setFormFieldValue] instead.
-  Future<bool?> setFormFieldValue(
-      String value, String fullyQualifiedName) async {
+  /// Adds the given annotation to the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  Future<bool?> addAnnotation(String jsonAnnotation, Object? attachment) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2328,7 +5077,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
+        pigeonVar_channel.send(<Object?>[jsonAnnotation, attachment]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2344,10 +5093,19 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Gets the form field value by specifying its fully qualified name.
-  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
+  /// Updates the given annotation in the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  ///
+  /// @deprecated Use setAnnotationProperties() or specific property setters instead.
+  /// This method has a critical bug that causes data loss for annotations with attachments.
+  /// It will be removed in version 7.0.0.
+  ///
+  /// Migration:
+  /// - For single property updates: Use specific setters like setAnnotationColor()
+  /// - For multiple property updates: Use setAnnotationProperties()
+  Future<bool?> updateAnnotation(String jsonAnnotation) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2355,7 +5113,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+        pigeonVar_channel.send(<Object?>[jsonAnnotation]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2367,14 +5125,15 @@ class NutrientViewControllerApi {
         details: pigeonVar_replyList[2],
       );
     } else {
-      return (pigeonVar_replyList[0] as String?);
+      return (pigeonVar_replyList[0] as bool?);
     }
   }
 
-  /// Applies Instant document JSON to the presented document.
-  Future<bool?> applyInstantJson(String annotationsJson) async {
+  /// Removes the given annotation from the presented document.
+  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
+  Future<bool?> removeAnnotation(String jsonAnnotation) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.applyInstantJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2382,7 +5141,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotationsJson]);
+        pigeonVar_channel.send(<Object?>[jsonAnnotation]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2398,10 +5157,49 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Exports Instant document JSON from the presented document.
-  Future<String?> exportInstantJson() async {
+  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
+  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  ///
+  /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
+  /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
+  Future<String> getAnnotationsJson(int pageIndex, String type) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportInstantJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndex, type]);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  /// Returns a JSON string containing all unsaved annotations in the presented document.
+  /// The JSON string can be decoded to the appropriate type on the Dart side.
+  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  Future<String> getAllUnsavedAnnotationsJson() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2419,16 +5217,20 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as String?);
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// Adds the given annotation to the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  Future<bool?> addAnnotation(String annotation) async {
+  /// Imports annotations from the XFDF file at the given path.
+  Future<bool> importXfdf(String xfdfString) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addAnnotation$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2436,7 +5238,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotation]);
+        pigeonVar_channel.send(<Object?>[xfdfString]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2447,16 +5249,20 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Removes the given annotation from the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  Future<bool?> removeAnnotation(String annotation) async {
+  /// Exports annotations to the XFDF file at the given path.
+  Future<bool> exportXfdf(String xfdfPath) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeAnnotation$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2464,7 +5270,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotation]);
+        pigeonVar_channel.send(<Object?>[xfdfPath]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2475,17 +5281,21 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  Future<String> getAnnotationsJson(int pageIndex, String type) async {
+  /// Saves the document back to its original location if it has been changed.
+  /// If there were no changes to the document, the document file will not be modified.
+  Future<bool> save(String? outputPath, DocumentSaveOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2493,7 +5303,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, type]);
+        pigeonVar_channel.send(<Object?>[outputPath, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2510,16 +5320,14 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Returns a JSON string containing all unsaved annotations in the presented document.
-  /// The JSON string can be decoded to the appropriate type on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  Future<String> getAllUnsavedAnnotationsJson() async {
+  /// Get the total number of pages in the document.
+  Future<int> getPageCount() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2543,16 +5351,23 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
   /// Processes annotations of the given type with the provided processing
   /// mode and stores the PDF at the given destination path.
+  ///
+  /// This method works for both viewer-bound and headless documents.
+  ///
+  /// @param type The type of annotations to process (e.g., all, ink, highlight)
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @return true if processing succeeded, false otherwise
   Future<bool> processAnnotations(AnnotationType type,
       AnnotationProcessingMode processingMode, String destinationPath) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.processAnnotations$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2581,10 +5396,105 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Imports annotations from the XFDF file at the given path.
-  Future<bool> importXfdf(String xfdfString) async {
+  /// Closes the document and releases all native resources.
+  ///
+  /// This must be called when a headless document is no longer needed
+  /// to free memory and file handles. For viewer-bound documents,
+  /// this is handled automatically by the view lifecycle.
+  ///
+  /// @return true if the document was closed successfully
+  Future<bool> closeDocument() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
+  ///
+  /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
+  /// Returns true if any annotations have been added, modified, or deleted
+  /// since the document was loaded or last saved.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
+  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+  ///
+  /// @return true if there are dirty annotations
+  /// @throws On Android/Web
+  Future<bool> iOSHasDirtyAnnotations() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// **iOS only.** Gets the dirty state of a specific annotation.
+  ///
+  /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
+  /// An annotation is dirty if it has been modified since the document
+  /// was loaded or last saved.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available (no annotation-level isDirty)
+  /// - Web: ❌ Not available
+  ///
+  /// @param pageIndex Zero-based page index
+  /// @param annotationId The annotation's unique identifier
+  /// @return true if the annotation is dirty
+  /// @throws On Android/Web, or if annotation not found
+  Future<bool> iOSGetAnnotationIsDirty(
+      int pageIndex, String annotationId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.importXfdf$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2592,7 +5502,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfString]);
+        pigeonVar_channel.send(<Object?>[pageIndex, annotationId]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2613,10 +5523,26 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Exports annotations to the XFDF file at the given path.
-  Future<bool> exportXfdf(String xfdfPath) async {
+  /// **iOS only.** Sets the dirty state of a specific annotation.
+  ///
+  /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
+  /// This can be used to manually mark an annotation as needing save,
+  /// or to clear its dirty state.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available
+  /// - Web: ❌ Not available
+  ///
+  /// @param pageIndex Zero-based page index
+  /// @param annotationId The annotation's unique identifier
+  /// @param isDirty The dirty state to set
+  /// @return true if successfully set
+  /// @throws On Android/Web, or if annotation not found
+  Future<bool> iOSSetAnnotationIsDirty(
+      int pageIndex, String annotationId, bool isDirty) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exportXfdf$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2624,7 +5550,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfPath]);
+        pigeonVar_channel.send(<Object?>[pageIndex, annotationId, isDirty]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2645,11 +5571,21 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Saves the document back to its original location if it has been changed.
-  /// If there were no changes to the document, the document file will not be modified.
-  Future<bool> save() async {
+  /// **iOS only.** Clears the needs-save flag on all annotation providers.
+  ///
+  /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
+  /// This resets the modification tracking without saving to disk.
+  ///
+  /// **Platform support:**
+  /// - iOS: ✅ Supported
+  /// - Android: ❌ Not available (was removed from SDK)
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if successfully cleared
+  /// @throws On Android/Web
+  Future<bool> iOSClearNeedsSaveFlag() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.save$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2677,22 +5613,27 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Sets the annotation preset configurations for the given annotation tools.
-  /// @param configurations A map of annotation tools and their corresponding configurations.
-  /// @param modifyAssociatedAnnotations Whether to modify the annotations associated with the old configuration. Only used for Android.
-  /// @return True if the configurations were set successfully, false otherwise.
-  Future<bool?> setAnnotationConfigurations(
-      Map<String, Map<String, Object>> configurations) async {
+  /// **Android only.** Checks if the annotation provider has unsaved changes.
+  ///
+  /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+  ///
+  /// @return true if there are unsaved annotation changes
+  /// @throws On iOS/Web
+  Future<bool> androidHasUnsavedAnnotationChanges() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationConfigurations$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[configurations]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2703,25 +5644,37 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Gets the visible rect of the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// Returns a [Future] that completes with the visible rect of the given page.
-  Future<PdfRect> getVisibleRect(int pageIndex) async {
+  /// **Android only.** Checks if the form provider has unsaved changes.
+  ///
+  /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available at provider level
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if there are unsaved form field changes
+  /// @throws On iOS/Web
+  Future<bool> androidHasUnsavedFormChanges() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getVisibleRect$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2738,26 +5691,31 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as PdfRect?)!;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Zooms to the given rect on the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// rect The rect to zoom to.
-  /// Returns a [Future] that completes when the zoom operation is done.
-  Future<bool> zoomToRect(
-      int pageIndex, PdfRect rect, bool? animated, double? duration) async {
+  /// **Android only.** Checks if the bookmark provider has unsaved changes.
+  ///
+  /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available at provider level
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @return true if there are unsaved bookmark changes
+  /// @throws On iOS/Web
+  Future<bool> androidHasUnsavedBookmarkChanges() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.zoomToRect$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, rect, animated, duration]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2778,12 +5736,21 @@ class NutrientViewControllerApi {
     }
   }
 
-  /// Gets the zoom scale of the given page.
-  /// pageIndex The index of the page. This is a zero-based index.
-  /// Returns a [Future] that completes with the zoom scale of the given page.
-  Future<double> getZoomScale(int pageIndex) async {
+  /// **Android only.** Gets the dirty state of a specific bookmark.
+  ///
+  /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+  /// @return true if the bookmark is dirty
+  /// @throws On iOS/Web, or if bookmark not found
+  Future<bool> androidGetBookmarkIsDirty(String bookmarkId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.getZoomScale$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2791,7 +5758,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex]);
+        pigeonVar_channel.send(<Object?>[bookmarkId]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2808,13 +5775,25 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as double?)!;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  Future<void> addEventListener(NutrientEvent event) async {
+  /// **Android only.** Clears the dirty state of a specific bookmark.
+  ///
+  /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Not available
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
+  /// @return true if successfully cleared
+  /// @throws On iOS/Web, or if bookmark not found
+  Future<bool> androidClearBookmarkDirtyState(String bookmarkId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.addEventListener$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2822,7 +5801,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[event]);
+        pigeonVar_channel.send(<Object?>[bookmarkId]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2833,48 +5812,31 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else {
-      return;
-    }
-  }
-
-  Future<void> removeEventListener(NutrientEvent event) async {
-    final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.removeEventListener$pigeonVar_messageChannelSuffix';
-    final BasicMessageChannel<Object?> pigeonVar_channel =
-        BasicMessageChannel<Object?>(
-      pigeonVar_channelName,
-      pigeonChannelCodec,
-      binaryMessenger: pigeonVar_binaryMessenger,
-    );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[event]);
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
+    } else if (pigeonVar_replyList[0] == null) {
       throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Enters annotation creation mode.
+  /// **Android only.** Gets the dirty state of a form field.
   ///
-  /// If [annotationTool] is provided, that specific tool will be activated.
-  /// If no tool is provided, the default annotation tool will be used.
+  /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
   ///
-  /// Returns a [Future] that completes with a boolean indicating whether
-  /// entering annotation creation mode was successful.
-  Future<bool?> enterAnnotationCreationMode(
-      AnnotationTool? annotationTool) async {
+  /// **Platform support:**
+  /// - iOS: ❌ Not available (use formField.dirty property differently)
+  /// - Android: ✅ Supported
+  /// - Web: ❌ Not available
+  ///
+  /// @param fullyQualifiedName The form field's fully qualified name
+  /// @return true if the form field is dirty
+  /// @throws On iOS/Web, or if form field not found
+  Future<bool> androidGetFormFieldIsDirty(String fullyQualifiedName) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.enterAnnotationCreationMode$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2882,7 +5844,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotationTool]);
+        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2893,18 +5855,31 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Exits annotation creation mode.
+  /// **Web only.** Checks if the instance has unsaved changes.
   ///
-  /// Returns a [Future] that completes with a boolean indicating whether
-  /// exiting annotation creation mode was successful.
-  Future<bool?> exitAnnotationCreationMode() async {
+  /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
+  /// This is a combined check that includes annotations, forms, and other changes.
+  ///
+  /// **Platform support:**
+  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
+  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
+  /// - Web: ✅ Supported
+  ///
+  /// @return true if there are unsaved changes
+  /// @throws On iOS/Android
+  Future<bool> webHasUnsavedChanges() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.exitAnnotationCreationMode$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2922,28 +5897,38 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Sets the annotation menu configuration for the current view controller.
-  /// This configuration applies only to annotation menus in the current document view.
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
   ///
-  /// @param configuration The annotation menu configuration to apply.
-  /// @return True if the configuration was set successfully, false otherwise.
-  Future<bool?> setAnnotationMenuConfiguration(
-      AnnotationMenuConfigurationData configuration) async {
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  Future<bool> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.setAnnotationMenuConfiguration$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotationsOnPages$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[configuration]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[processingMode, destinationPath, scopes]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2954,21 +5939,30 @@ class NutrientViewControllerApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as bool?)!;
     }
   }
 
-  /// Converts a point from the page view's coordinate space to PDF page coordinates.
+  /// Exports any combination of a flattened PDF, an XFDF file and an Instant
+  /// JSON snapshot in a single call.
   ///
-  /// [point] must be in logical view coordinates (UIKit points on iOS /
-  /// Flutter logical pixels on Android), relative to the top-left corner of
-  /// the page view that renders [pageIndex]. This corresponds to the coordinates
-  /// reported by gesture or tap callbacks on the page view widget.
-  /// [pageIndex] is zero-based.
-  Future<PointF> convertViewPointToPdfPoint(int pageIndex, PointF point) async {
+  /// The annotations are collected once and shared by the flattened PDF and
+  /// the XFDF file. The Instant JSON snapshot collects them again, as the
+  /// SDK formatter cannot take a list of annotations. All artifacts are
+  /// written concurrently.
+  ///
+  /// @param request The artifacts to export and their output paths
+  /// @return One result with timing per exported artifact, in request order
+  Future<List<DocumentExportResult>> exportArtifacts(
+      DocumentExportRequest request) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertViewPointToPdfPoint$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportArtifacts$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2976,7 +5970,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, point]);
+        pigeonVar_channel.send(<Object?>[request]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -2993,19 +5987,22 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as PointF?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<DocumentExportResult>();
     }
   }
 
-  /// Converts a point from PDF page coordinates to the page view's coordinate space.
+  /// Searches the page text for the given regular expressions and covers
+  /// every match with a redaction annotation.
   ///
-  /// The returned [PointF] is in logical view coordinates (UIKit points on iOS /
-  /// Flutter logical pixels on Android), relative to the top-left corner of
-  /// the page view that renders [pageIndex].
-  /// [pageIndex] is zero-based.
-  Future<PointF> convertPdfPointToViewPoint(int pageIndex, PointF point) async {
+  /// Pages are scanned in parallel. When [RedactionRequest.outputPath] is
+  /// set, the redactions are also applied and the redacted document is
+  /// written to that path.
+  ///
+  /// @param request The patterns, pages and output of the redaction
+  /// @return The matches per page and the scan throughput
+  Future<RedactionResult> redactPatterns(RedactionRequest request) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.NutrientViewControllerApi.convertPdfPointToViewPoint$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.redactPatterns$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3013,7 +6010,7 @@ class NutrientViewControllerApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, point]);
+        pigeonVar_channel.send(<Object?>[request]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3030,39 +6027,24 @@ class NutrientViewControllerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as PointF?)!;
+      return (pigeonVar_replyList[0] as RedactionResult?)!;
     }
   }
-}
-
-class PdfDocumentApi {
-  /// Constructor for [PdfDocumentApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  PdfDocumentApi(
-      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
-      : pigeonVar_binaryMessenger = binaryMessenger,
-        pigeonVar_messageChannelSuffix =
-            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
-
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
-
-  final String pigeonVar_messageChannelSuffix;
 
-  /// Returns the page info for the given page index.
-  /// pageIndex The index of the page. This is a zero-based index.
-  Future<PageInfo> getPageInfo(int pageIndex) async {
+  /// Waits for the warm-up requested in [HeadlessDocumentOpenOptions.warmUp]
+  /// and returns the timing of each phase.
+  ///
+  /// @return The warm-up timings, with no phases if no warm-up was requested
+  Future<DocumentWarmUpResult> getWarmUpResult() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageInfo$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getWarmUpResult$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3079,16 +6061,25 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as PageInfo?)!;
+      return (pigeonVar_replyList[0] as DocumentWarmUpResult?)!;
     }
   }
 
-  /// Exports the document as a PDF.
-  /// options:[DocumentSaveOptions] The options to use when exporting the document.
-  /// Returns a [Uint8List] containing the exported PDF data.
-  Future<Uint8List> exportPdf(DocumentSaveOptions? options) async {
+  /// Renders a page to an encoded image without a viewer.
+  ///
+  /// Rendered pages are kept in an in-memory cache, so rendering the same page
+  /// at the same size again only encodes it. Different pages can be rendered
+  /// concurrently.
+  ///
+  /// @param pageIndex Zero-based index of the page to render
+  /// @param width Width of the image in pixels
+  /// @param height Height of the image in pixels
+  /// @param options Format, output and cache options
+  /// @return The encoded image or the path of the image file
+  Future<RenderedPage> renderPage(
+      int pageIndex, int width, int height, PageRenderOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportPdf$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.renderPage$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3096,7 +6087,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[options]);
+        pigeonVar_channel.send(<Object?>[pageIndex, width, height, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3113,17 +6104,23 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as Uint8List?)!;
+      return (pigeonVar_replyList[0] as RenderedPage?)!;
     }
   }
 
-  /// Returns the form field with the given name as a JSON string.
-  /// The JSON string contains the form field data that can be decoded
-  /// to a Map<String, dynamic> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types.
-  Future<String> getFormFieldJson(String fieldName) async {
+  /// Returns a thumbnail of a page from the persistent thumbnail cache, rendering
+  /// it first if needed.
+  ///
+  /// Thumbnails are rendered at the smallest size bucket of 64, 128, 256, 512,
+  /// 1024 or 2048 pixels that is at least [maxSize], so the longer side of the
+  /// thumbnail may be larger than requested.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @param maxSize Minimum length of the longer side in pixels
+  /// @return The cached thumbnail file and its size
+  Future<ThumbnailResult> getThumbnail(int pageIndex, int maxSize) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getThumbnail$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3131,7 +6128,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[fieldName]);
+        pigeonVar_channel.send(<Object?>[pageIndex, maxSize]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3148,24 +6145,26 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as ThumbnailResult?)!;
     }
   }
 
-  /// Returns a list of all form fields in the document as a JSON string.
-  /// The JSON string contains an array of form field objects that can be
-  /// decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types.
-  Future<String> getFormFieldsJson() async {
+  /// Renders the thumbnails of the given pages into the thumbnail cache in the
+  /// background. Completes once all thumbnails are cached.
+  ///
+  /// @param pageIndexes Zero-based indexes of the pages
+  /// @param maxSize Minimum length of the longer side in pixels
+  Future<void> prefetchThumbnails(List<int> pageIndexes, int maxSize) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.prefetchThumbnails$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[pageIndexes, maxSize]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3176,21 +6175,20 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return;
     }
   }
 
-  /// Sets the value of a form field by specifying its fully qualified field name.
-  Future<bool?> setFormFieldValue(
-      String value, String fullyQualifiedName) async {
+  /// Returns the text of a page.
+  ///
+  /// The text is cached until the document is saved.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @return The text of the page
+  Future<String> getPageText(int pageIndex) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValue$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageText$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3198,7 +6196,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[value, fullyQualifiedName]);
+        pigeonVar_channel.send(<Object?>[pageIndex]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3209,23 +6207,39 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// Gets the form field value by specifying its fully qualified name.
-  Future<String?> getFormFieldValue(String fullyQualifiedName) async {
+  /// Extracts the text of all pages.
+  ///
+  /// Up to [maxConcurrency] pages are extracted at the same time. The pages
+  /// are sent in order, [pagesPerChunk] at a time, to
+  /// [PageTextExtractionCallbacks.onPageTextChunk] on the channel suffixed with
+  /// [extractionId]. All chunks are sent before this method completes.
+  ///
+  /// @param extractionId Message channel suffix for the chunk callbacks
+  /// @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+  /// @param pagesPerChunk Number of pages per chunk, defaults to 16
+  /// @return Totals of the extraction
+  Future<TextExtractionSummary> extractAllText(
+      String extractionId, int? maxConcurrency, int? pagesPerChunk) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValue$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.extractAllText$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[extractionId, maxConcurrency, pagesPerChunk]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3236,15 +6250,34 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as String?);
+      return (pigeonVar_replyList[0] as TextExtractionSummary?)!;
     }
   }
 
-  /// Applies Instant document JSON to the presented document.
-  Future<bool?> applyInstantJson(String annotationsJson) async {
+  /// Searches the text of all pages using the search index of the document.
+  ///
+  /// The index is stored on disk and reused for the same document file. Documents
+  /// shown in a view start loading or building it in the background once they are
+  /// loaded, other documents on their first search. The index is only updated
+  /// when the document is saved in place, so unsaved changes are not found. The
+  /// hits of each page are sent in page order to
+  /// [TextSearchCallbacks.onPageResult] on the channel suffixed with [searchId].
+  /// All pages are sent before this method completes.
+  ///
+  /// @param searchId Message channel suffix for the page callbacks
+  /// @param query The text to search for
+  /// @param options Optional search settings
+  /// @return Totals of the search
+  Future<TextSearchSummary> searchText(
+      String searchId, String query, TextSearchOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.applyInstantJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.searchText$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3252,7 +6285,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[annotationsJson]);
+        pigeonVar_channel.send(<Object?>[searchId, query, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3263,15 +6296,25 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as TextSearchSummary?)!;
     }
   }
 
-  /// Exports Instant document JSON from the presented document.
-  Future<String?> exportInstantJson() async {
+  /// Returns the form fields that changed since the previous call as a JSON string.
+  ///
+  /// Changes are collected from the first form field request on the document,
+  /// so the first call after [getFormFieldsJson] returns the fields changed
+  /// since then. The JSON has the same format as [getFormFieldsJson]. Removed
+  /// fields are not included.
+  Future<String> getDirtyFormFieldsJson() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportInstantJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getDirtyFormFieldsJson$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3289,16 +6332,29 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as String?);
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// Adds the given annotation to the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  Future<bool?> addAnnotation(String jsonAnnotation, Object? attachment) async {
+  /// Sets the values of several form fields at once.
+  ///
+  /// Values use the same format as [setFormFieldValue]. All fields are looked
+  /// up in one pass over the form and the values are applied together, so
+  /// the viewer refreshes once for the whole batch. Fields that cannot be set
+  /// are skipped and reported.
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.addAnnotation$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValues$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3306,7 +6362,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[jsonAnnotation, attachment]);
+        pigeonVar_channel.send(<Object?>[values]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3317,24 +6373,24 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormFieldWriteError>();
     }
   }
 
-  /// Updates the given annotation in the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  ///
-  /// @deprecated Use setAnnotationProperties() or specific property setters instead.
-  /// This method has a critical bug that causes data loss for annotations with attachments.
-  /// It will be removed in version 7.0.0.
+  /// Returns the typed values of several form fields in one call.
   ///
-  /// Migration:
-  /// - For single property updates: Use specific setters like setAnnotationColor()
-  /// - For multiple property updates: Use setAnnotationProperties()
-  Future<bool?> updateAnnotation(String jsonAnnotation) async {
+  /// @param fullyQualifiedNames Names of the fields to read, or null for all fields
+  /// @return The values in form order. Names without a matching field are left out.
+  Future<List<FormFieldValue>> getFormFieldValues(
+      List<String>? fullyQualifiedNames) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.updateAnnotation$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValues$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3342,7 +6398,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[jsonAnnotation]);
+        pigeonVar_channel.send(<Object?>[fullyQualifiedNames]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3353,16 +6409,27 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormFieldValue>();
     }
   }
 
-  /// Removes the given annotation from the presented document.
-  /// `jsonAnnotation` can either be a JSON string or a valid JSON Dictionary (iOS) / HashMap (Android).
-  Future<bool?> removeAnnotation(String jsonAnnotation) async {
+  /// Replaces the form validation rules of the document.
+  ///
+  /// Rules are checked natively. After this call every field is validated once,
+  /// afterwards only fields changed since the previous validation are checked
+  /// again. Pass an empty list to remove all rules.
+  ///
+  /// @param rules The rules, checked in this order
+  /// @throws NutrientApiError if a field does not exist or a rule is invalid
+  Future<void> setFormValidationRules(List<FormValidationRule> rules) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.removeAnnotation$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormValidationRules$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3370,7 +6437,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[jsonAnnotation]);
+        pigeonVar_channel.send(<Object?>[rules]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3382,27 +6449,27 @@ class PdfDocumentApi {
         details: pigeonVar_replyList[2],
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?);
+      return;
     }
   }
 
-  /// Returns a JSON string containing an array of annotation objects for the given `type` on the given `pageIndex`.
-  /// The JSON string can be decoded to List<Map<String, dynamic>> on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
+  /// Returns the violations of the form validation rules.
   ///
-  /// For annotations with attachments (image, stamp, file), the response includes an `attachment` object
-  /// containing `binary` (base64-encoded) and `contentType` fields, enabling complete annotation copying.
-  Future<String> getAnnotationsJson(int pageIndex, String type) async {
+  /// Only fields whose value changed since the previous call are checked again,
+  /// together with fields that must equal them, so calling this on every
+  /// `formFieldValuesUpdated` event stays cheap.
+  ///
+  /// @return All current violations, in the order of the rules
+  Future<List<FormValidationViolation>> validateFormFields() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAnnotationsJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.validateFormFields$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, type]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3419,23 +6486,29 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormValidationViolation>();
     }
   }
 
-  /// Returns a JSON string containing all unsaved annotations in the presented document.
-  /// The JSON string can be decoded to the appropriate type on the Dart side.
-  /// Using JSON string avoids Pigeon's CastList issues with nested types in release mode.
-  Future<String> getAllUnsavedAnnotationsJson() async {
+  /// Returns the JSON of the form fields in the subtree named by [prefix].
+  ///
+  /// Names are matched per dot separated segment, so `applicant.address`
+  /// matches the field `applicant.address` and every field below it, but not
+  /// `applicant.addressee`. An empty prefix matches all fields.
+  ///
+  /// @param prefix Fully qualified name of the subtree
+  /// @return A JSON array of the fields, in form order
+  Future<String> getFormFieldsJsonByPrefix(String prefix) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getAllUnsavedAnnotationsJson$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldsJsonByPrefix$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[prefix]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3456,10 +6529,13 @@ class PdfDocumentApi {
     }
   }
 
-  /// Imports annotations from the XFDF file at the given path.
-  Future<bool> importXfdf(String xfdfString) async {
+  /// Returns the typed values of the form fields in the subtree named by [prefix].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @return The values in form order
+  Future<List<FormFieldValue>> getFormFieldValuesByPrefix(String prefix) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importXfdf$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldValuesByPrefix$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3467,7 +6543,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfString]);
+        pigeonVar_channel.send(<Object?>[prefix]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3484,14 +6560,23 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormFieldValue>();
     }
   }
 
-  /// Exports annotations to the XFDF file at the given path.
-  Future<bool> exportXfdf(String xfdfPath) async {
+  /// Sets the values of several form fields in the subtree named by [prefix].
+  ///
+  /// Keys of [values] are names relative to [prefix], e.g. `street` for the
+  /// field `applicant.address.street` when the prefix is `applicant.address`.
+  /// Values use the format of [setFormFieldValue].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @param values Relative field names mapped to their new values
+  /// @return The fields that could not be set, with fully qualified names
+  Future<List<FormFieldWriteError>> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportXfdf$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.setFormFieldValuesByPrefix$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3499,7 +6584,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[xfdfPath]);
+        pigeonVar_channel.send(<Object?>[prefix, values]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3516,23 +6601,28 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<FormFieldWriteError>();
     }
   }
 
-  /// Saves the document back to its original location if it has been changed.
-  /// If there were no changes to the document, the document file will not be modified.
-  Future<bool> save(String? outputPath, DocumentSaveOptions? options) async {
+  /// Returns the JSON of all form fields without their widget annotations.
+  ///
+  /// Same as [getFormFieldsJson] without the `annotation` and `annotations`
+  /// members, which hold the Instant JSON of the widget annotation and are the
+  /// most expensive part of the serialization. Use
+  /// [getFormFieldAnnotationsJson] to load them for single fields when needed.
+  ///
+  /// @return A JSON array of the fields, in form order
+  Future<String> getLeanFormFieldsJson() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.save$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getLeanFormFieldsJson$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[outputPath, options]);
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3549,21 +6639,26 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// Get the total number of pages in the document.
-  Future<int> getPageCount() async {
+  /// Returns the Instant JSON of the widget annotations of a form field.
+  ///
+  /// @param fullyQualifiedName Fully qualified name of the field
+  /// @return A JSON array with one Instant JSON object per widget
+  /// @throws NutrientApiError if there is no field with this name
+  Future<String> getFormFieldAnnotationsJson(String fullyQualifiedName) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getPageCount$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.getFormFieldAnnotationsJson$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3580,31 +6675,37 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as int?)!;
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// Processes annotations of the given type with the provided processing
-  /// mode and stores the PDF at the given destination path.
+  /// Imports form field values from an XFDF or FDF file.
   ///
-  /// This method works for both viewer-bound and headless documents.
+  /// The file is parsed as a stream in the background, annotations and other
+  /// non-form data are ignored. Values are applied [chunkSize] fields at a
+  /// time, each chunk in its own short main thread task, so a viewer stays
+  /// responsive while a large form is filled. After every chunk, the
+  /// progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId]. Fields that cannot be set are
+  /// reported in the result and do not stop the import.
   ///
-  /// @param type The type of annotations to process (e.g., all, ink, highlight)
-  /// @param processingMode The processing mode (flatten, embed, remove, print)
-  /// @param destinationPath The path where the processed PDF should be saved
-  /// @return true if processing succeeded, false otherwise
-  Future<bool> processAnnotations(AnnotationType type,
-      AnnotationProcessingMode processingMode, String destinationPath) async {
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the XFDF or FDF file
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields applied per main thread task, defaults to 250
+  /// @return Totals and failed fields of the import
+  Future<FormDataTransferResult> importFormData(
+      String transferId, String path, String? format, int? chunkSize) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.processAnnotations$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.importFormData$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
-        .send(<Object?>[type, processingMode, destinationPath]);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[transferId, path, format, chunkSize]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3621,27 +6722,35 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as FormDataTransferResult?)!;
     }
   }
 
-  /// Closes the document and releases all native resources.
+  /// Exports the values of all form fields to an XFDF or FDF file.
   ///
-  /// This must be called when a headless document is no longer needed
-  /// to free memory and file handles. For viewer-bound documents,
-  /// this is handled automatically by the view lifecycle.
+  /// Values are read and written [chunkSize] fields at a time in the
+  /// background and streamed to the file, without building the whole
+  /// document in memory. Annotations are not exported. After every chunk,
+  /// the progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId].
   ///
-  /// @return true if the document was closed successfully
-  Future<bool> closeDocument() async {
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the file to write, an existing file is replaced
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields written per chunk, defaults to 250
+  /// @return Totals of the export
+  Future<FormDataTransferResult> exportFormData(
+      String transferId, String path, String? format, int? chunkSize) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.closeDocument$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.exportFormData$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[transferId, path, format, chunkSize]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3658,33 +6767,71 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as FormDataTransferResult?)!;
     }
   }
+}
 
-  /// **iOS only.** Checks if the document has any dirty (unsaved) annotations.
-  ///
-  /// Maps directly to `document.hasDirtyAnnotations` in PSPDFKit iOS SDK.
-  /// Returns true if any annotations have been added, modified, or deleted
-  /// since the document was loaded or last saved.
+/// API for opening and managing PDF documents without displaying a viewer.
+///
+/// This API enables programmatic access to PDF documents for operations like:
+/// - Reading and modifying annotations
+/// - Processing annotations (flatten, embed, remove)
+/// - Exporting/importing XFDF
+/// - Form field manipulation
+///
+/// Documents opened through this API must be explicitly closed using
+/// [PdfDocumentApi.closeDocument] when no longer needed to free resources.
+///
+/// **Usage Example**:
+/// ```dart
+/// final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
+/// // Use PdfDocumentApi with the documentId for operations
+/// final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
+/// await pdfDocumentApi.processAnnotations(
+///   AnnotationType.all,
+///   AnnotationProcessingMode.flatten,
+///   '/path/to/output.pdf',
+/// );
+/// await pdfDocumentApi.closeDocument();
+/// ```
+class HeadlessDocumentApi {
+  /// Constructor for [HeadlessDocumentApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  HeadlessDocumentApi(
+      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
+      : pigeonVar_binaryMessenger = binaryMessenger,
+        pigeonVar_messageChannelSuffix =
+            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+  final BinaryMessenger? pigeonVar_binaryMessenger;
+
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  final String pigeonVar_messageChannelSuffix;
+
+  /// Opens a document from the given path without displaying a viewer.
   ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` instead
-  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
+  /// Returns a unique document ID that can be used to interact with the
+  /// document via [PdfDocumentApi]. The document ID is used as a channel
+  /// suffix to create isolated API instances for each document.
   ///
-  /// @return true if there are dirty annotations
-  /// @throws On Android/Web
-  Future<bool> iOSHasDirtyAnnotations() async {
+  /// @param documentPath Path to the PDF document (file path or content:// URI)
+  /// @param options Optional settings like password for encrypted documents
+  /// @return Unique document ID for use with PdfDocumentApi
+  /// @throws NutrientApiError if the document cannot be opened
+  Future<String> openDocument(
+      String documentPath, HeadlessDocumentOpenOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSHasDirtyAnnotations$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[documentPath, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3701,29 +6848,23 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// **iOS only.** Gets the dirty state of a specific annotation.
-  ///
-  /// Maps directly to `annotation.isDirty` property in PSPDFKit iOS SDK.
-  /// An annotation is dirty if it has been modified since the document
-  /// was loaded or last saved.
+  /// Merges pages from several documents into a single new document.
   ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available (no annotation-level isDirty)
-  /// - Web: ❌ Not available
+  /// Sources are opened and written in batches, so large merges never keep
+  /// every input document open at the same time.
   ///
-  /// @param pageIndex Zero-based page index
-  /// @param annotationId The annotation's unique identifier
-  /// @return true if the annotation is dirty
-  /// @throws On Android/Web, or if annotation not found
-  Future<bool> iOSGetAnnotationIsDirty(
-      int pageIndex, String annotationId) async {
+  /// @param sources The documents and page ranges to merge, in output order
+  /// @param outputPath Path where the merged document will be written
+  /// @return The number of pages written to the merged document
+  /// @throws NutrientApiError if a source cannot be opened or a range is invalid
+  Future<int> mergeDocuments(
+      List<DocumentMergeSource> sources, String outputPath) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSGetAnnotationIsDirty$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mergeDocuments$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3731,7 +6872,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, annotationId]);
+        pigeonVar_channel.send(<Object?>[sources, outputPath]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3748,30 +6889,25 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  /// **iOS only.** Sets the dirty state of a specific annotation.
-  ///
-  /// Maps directly to setting `annotation.isDirty` property in PSPDFKit iOS SDK.
-  /// This can be used to manually mark an annotation as needing save,
-  /// or to clear its dirty state.
+  /// Splits a document into several new documents, one per target.
   ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available
-  /// - Web: ❌ Not available
+  /// The source document is opened once and the targets are written in
+  /// parallel, since each output is independent of the others.
   ///
-  /// @param pageIndex Zero-based page index
-  /// @param annotationId The annotation's unique identifier
-  /// @param isDirty The dirty state to set
-  /// @return true if successfully set
-  /// @throws On Android/Web, or if annotation not found
-  Future<bool> iOSSetAnnotationIsDirty(
-      int pageIndex, String annotationId, bool isDirty) async {
+  /// @param documentPath Path to the PDF document to split
+  /// @param targets The page ranges and output paths to write
+  /// @param options Optional settings like password for encrypted documents
+  /// @return The output paths that were written, in the order of [targets]
+  /// @throws NutrientApiError if the document cannot be opened or a range is invalid
+  Future<List<String>> splitDocument(String documentPath,
+      List<DocumentSplitTarget> targets,
+      HeadlessDocumentOpenOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSSetAnnotationIsDirty$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.splitDocument$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3779,7 +6915,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[pageIndex, annotationId, isDirty]);
+        pigeonVar_channel.send(<Object?>[documentPath, targets, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3796,32 +6932,31 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String>();
     }
   }
 
-  /// **iOS only.** Clears the needs-save flag on all annotation providers.
-  ///
-  /// Maps directly to `containerProvider.clearNeedsSaveFlag()` in PSPDFKit iOS SDK.
-  /// This resets the modification tracking without saving to disk.
+  /// Configures the budget of the pool of resident headless documents.
   ///
-  /// **Platform support:**
-  /// - iOS: ✅ Supported
-  /// - Android: ❌ Not available (was removed from SDK)
-  /// - Web: ❌ Not available
+  /// When the pool is over budget, the least recently used documents are
+  /// released. A released document keeps its ID and is reopened
+  /// transparently the next time it is used. Documents that stay unused for
+  /// the close timeout are closed and their ID becomes invalid.
   ///
-  /// @return true if successfully cleared
-  /// @throws On Android/Web
-  Future<bool> iOSClearNeedsSaveFlag() async {
+  /// @param configuration The new budget, null values keep the current setting
+  /// @throws NutrientApiError if a value is out of range
+  Future<void> configureDocumentPool(
+      DocumentPoolConfiguration configuration) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.iOSClearNeedsSaveFlag$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureDocumentPool$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[configuration]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3832,30 +6967,15 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return;
     }
   }
 
-  /// **Android only.** Checks if the annotation provider has unsaved changes.
-  ///
-  /// Maps directly to `annotationProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Use `webHasUnsavedChanges()` instead
-  ///
-  /// @return true if there are unsaved annotation changes
-  /// @throws On iOS/Web
-  Future<bool> androidHasUnsavedAnnotationChanges() async {
+  /// Returns gauges of the pool of resident headless documents.
+  Future<DocumentPoolStatistics> getDocumentPoolStatistics() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedAnnotationChanges$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.getDocumentPoolStatistics$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3879,31 +6999,27 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as DocumentPoolStatistics?)!;
     }
   }
 
-  /// **Android only.** Checks if the form provider has unsaved changes.
-  ///
-  /// Maps directly to `formProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  /// Pins a headless document so it is never released by the pool.
   ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available at provider level
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
+  /// Pins are counted, every call needs a matching [unpinDocument].
   ///
-  /// @return true if there are unsaved form field changes
-  /// @throws On iOS/Web
-  Future<bool> androidHasUnsavedFormChanges() async {
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  Future<void> pinDocument(String documentId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedFormChanges$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.pinDocument$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[documentId]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3914,37 +7030,26 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return;
     }
   }
 
-  /// **Android only.** Checks if the bookmark provider has unsaved changes.
-  ///
-  /// Maps directly to `bookmarkProvider.hasUnsavedChanges()` in PSPDFKit Android SDK.
+  /// Removes a pin added with [pinDocument].
   ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available at provider level
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
-  ///
-  /// @return true if there are unsaved bookmark changes
-  /// @throws On iOS/Web
-  Future<bool> androidHasUnsavedBookmarkChanges() async {
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  Future<void> unpinDocument(String documentId) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidHasUnsavedBookmarkChanges$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.unpinDocument$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
       pigeonChannelCodec,
       binaryMessenger: pigeonVar_binaryMessenger,
     );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final Future<Object?> pigeonVar_sendFuture =
+        pigeonVar_channel.send(<Object?>[documentId]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -3955,31 +7060,25 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return;
     }
   }
 
-  /// **Android only.** Gets the dirty state of a specific bookmark.
+  /// Opens a document from bytes in memory without displaying a viewer.
   ///
-  /// Maps directly to `bookmark.isDirty()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
+  /// The bytes are read directly from memory, so a downloaded document does
+  /// not have to be written to disk first. The returned document ID works
+  /// like one returned by [openDocument].
   ///
-  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-  /// @return true if the bookmark is dirty
-  /// @throws On iOS/Web, or if bookmark not found
-  Future<bool> androidGetBookmarkIsDirty(String bookmarkId) async {
+  /// @param data The PDF document bytes
+  /// @param options Optional settings like password for encrypted documents
+  /// @return Unique document ID for use with PdfDocumentApi
+  /// @throws NutrientApiError if the document cannot be opened
+  Future<String> openDocumentFromBytes(
+      Uint8List data, HeadlessDocumentOpenOptions? options) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetBookmarkIsDirty$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocumentFromBytes$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3987,7 +7086,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[bookmarkId]);
+        pigeonVar_channel.send(<Object?>[data, options]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -4004,25 +7103,26 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as String?)!;
     }
   }
 
-  /// **Android only.** Clears the dirty state of a specific bookmark.
-  ///
-  /// Maps directly to `bookmark.clearDirty()` in PSPDFKit Android SDK.
+  /// Opens several documents without displaying a viewer.
   ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
+  /// At most [maxConcurrency] documents are loaded at the same time. Each
+  /// result is sent to [HeadlessDocumentOpenCallbacks.onDocumentOpened] on the
+  /// channel suffixed with [batchId] as soon as its document is opened. A
+  /// document that fails to open is reported in its result and does not
+  /// affect the rest of the batch.
   ///
-  /// @param bookmarkId The bookmark's identifier (pdfBookmarkId or name)
-  /// @return true if successfully cleared
-  /// @throws On iOS/Web, or if bookmark not found
-  Future<bool> androidClearBookmarkDirtyState(String bookmarkId) async {
+  /// @param batchId Message channel suffix for the per-document callbacks
+  /// @param requests The documents to open
+  /// @param maxConcurrency Maximum number of parallel loads, defaults to 4
+  /// @return The results of all documents, in the order they completed
+  Future<List<DocumentOpenResult>> openDocuments(String batchId,
+      List<DocumentOpenRequest> requests, int? maxConcurrency) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidClearBookmarkDirtyState$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocuments$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -4030,7 +7130,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[bookmarkId]);
+        pigeonVar_channel.send(<Object?>[batchId, requests, maxConcurrency]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -4047,25 +7147,17 @@ class PdfDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<DocumentOpenResult>();
     }
   }
 
-  /// **Android only.** Gets the dirty state of a form field.
-  ///
-  /// Maps directly to `formField.isDirty()` in PSPDFKit Android SDK.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Not available (use formField.dirty property differently)
-  /// - Android: ✅ Supported
-  /// - Web: ❌ Not available
+  /// Sets the maximum size of the persistent thumbnail cache, 64 MB by default.
+  /// Least recently used thumbnails are deleted to stay within the limit.
   ///
-  /// @param fullyQualifiedName The form field's fully qualified name
-  /// @return true if the form field is dirty
-  /// @throws On iOS/Web, or if form field not found
-  Future<bool> androidGetFormFieldIsDirty(String fullyQualifiedName) async {
+  /// @param maxBytes Maximum total size of the cached thumbnails in bytes
+  Future<void> configureThumbnailCache(int maxBytes) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.androidGetFormFieldIsDirty$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.configureThumbnailCache$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -4073,7 +7165,7 @@ class PdfDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[fullyQualifiedName]);
+        pigeonVar_channel.send(<Object?>[maxBytes]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -4084,31 +7176,15 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return;
     }
   }
 
-  /// **Web only.** Checks if the instance has unsaved changes.
-  ///
-  /// Maps directly to `instance.hasUnsavedChanges()` in Nutrient Web SDK.
-  /// This is a combined check that includes annotations, forms, and other changes.
-  ///
-  /// **Platform support:**
-  /// - iOS: ❌ Use `iOSHasDirtyAnnotations()` instead
-  /// - Android: ❌ Use `androidHasUnsavedAnnotationChanges()` etc. instead
-  /// - Web: ✅ Supported
-  ///
-  /// @return true if there are unsaved changes
-  /// @throws On iOS/Android
-  Future<bool> webHasUnsavedChanges() async {
+  /// Deletes all thumbnails from the persistent thumbnail cache.
+  Future<void> clearThumbnailCache() async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.PdfDocumentApi.webHasUnsavedChanges$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.clearThumbnailCache$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -4126,69 +7202,26 @@ class PdfDocumentApi {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as bool?)!;
+      return;
     }
   }
-}
-
-/// API for opening and managing PDF documents without displaying a viewer.
-///
-/// This API enables programmatic access to PDF documents for operations like:
-/// - Reading and modifying annotations
-/// - Processing annotations (flatten, embed, remove)
-/// - Exporting/importing XFDF
-/// - Form field manipulation
-///
-/// Documents opened through this API must be explicitly closed using
-/// [PdfDocumentApi.closeDocument] when no longer needed to free resources.
-///
-/// **Usage Example**:
-/// ```dart
-/// final documentId = await HeadlessDocumentApi.openDocument('/path/to/doc.pdf');
-/// // Use PdfDocumentApi with the documentId for operations
-/// final annotations = await pdfDocumentApi.getAnnotations(0, 'all');
-/// await pdfDocumentApi.processAnnotations(
-///   AnnotationType.all,
-///   AnnotationProcessingMode.flatten,
-///   '/path/to/output.pdf',
-/// );
-/// await pdfDocumentApi.closeDocument();
-/// ```
-class HeadlessDocumentApi {
-  /// Constructor for [HeadlessDocumentApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  HeadlessDocumentApi(
-      {BinaryMessenger? binaryMessenger, String messageChannelSuffix = ''})
-      : pigeonVar_binaryMessenger = binaryMessenger,
-        pigeonVar_messageChannelSuffix =
-            messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
-  final BinaryMessenger? pigeonVar_binaryMessenger;
 
-  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
-
-  final String pigeonVar_messageChannelSuffix;
-
-  /// Opens a document from the given path without displaying a viewer.
+  /// Fills the template form once per dataset row and writes one document per row.
   ///
-  /// Returns a unique document ID that can be used to interact with the
-  /// document via [PdfDocumentApi]. The document ID is used as a channel
-  /// suffix to create isolated API instances for each document.
+  /// The template is read once and every row works on its own copy-on-write
+  /// document over the shared template bytes, so rows are processed in parallel.
+  /// Values use the format of [PdfDocumentApi.setFormFieldValue]. Columns that
+  /// match no form field are ignored, so they can be used in file names. A row
+  /// with an invalid value is reported in [MailMergeResult.errors] and does not
+  /// abort the run.
   ///
-  /// @param documentPath Path to the PDF document (file path or content:// URI)
-  /// @param options Optional settings like password for encrypted documents
-  /// @return Unique document ID for use with PdfDocumentApi
-  /// @throws NutrientApiError if the document cannot be opened
-  Future<String> openDocument(
-      String documentPath, HeadlessDocumentOpenOptions? options) async {
+  /// @param request The template, dataset and output settings
+  /// @return The written paths, the failed rows and the throughput
+  /// @throws NutrientApiError if the template or the dataset cannot be read
+  Future<MailMergeResult> mailMerge(MailMergeRequest request) async {
     final String pigeonVar_channelName =
-        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.openDocument$pigeonVar_messageChannelSuffix';
+        'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentApi.mailMerge$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -4196,7 +7229,7 @@ class HeadlessDocumentApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final Future<Object?> pigeonVar_sendFuture =
-        pigeonVar_channel.send(<Object?>[documentPath, options]);
+        pigeonVar_channel.send(<Object?>[request]);
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
     if (pigeonVar_replyList == null) {
@@ -4213,7 +7246,7 @@ class HeadlessDocumentApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return (pigeonVar_replyList[0] as MailMergeResult?)!;
     }
   }
 }
@@ -5181,3 +8214,239 @@ class BookmarkManagerApi {
     }
   }
 }
+
+/// Progress of [HeadlessDocumentApi.openDocuments].
+abstract class HeadlessDocumentOpenCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// Called for every document of the batch once it was opened or failed to open.
+  void onDocumentOpened(DocumentOpenResult result);
+
+  static void setUp(
+    HeadlessDocumentOpenCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentOpenCallbacks.onDocumentOpened$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentOpenCallbacks.onDocumentOpened was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DocumentOpenResult? arg_result =
+              (args[0] as DocumentOpenResult?);
+          assert(arg_result != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.HeadlessDocumentOpenCallbacks.onDocumentOpened was null, expected non-null DocumentOpenResult.');
+          try {
+            api.onDocumentOpened(arg_result!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
+
+/// Progress of [PdfDocumentApi.extractAllText].
+abstract class PageTextExtractionCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// Called for every chunk of extracted pages, in chunk order.
+  void onPageTextChunk(PageTextChunk chunk);
+
+  static void setUp(
+    PageTextExtractionCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.PageTextExtractionCallbacks.onPageTextChunk$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.PageTextExtractionCallbacks.onPageTextChunk was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PageTextChunk? arg_chunk = (args[0] as PageTextChunk?);
+          assert(arg_chunk != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.PageTextExtractionCallbacks.onPageTextChunk was null, expected non-null PageTextChunk.');
+          try {
+            api.onPageTextChunk(arg_chunk!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
+
+/// Results of [PdfDocumentApi.searchText].
+abstract class TextSearchCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// Called for every page with hits, in page order.
+  void onPageResult(TextSearchPageResult result);
+
+  static void setUp(
+    TextSearchCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.TextSearchCallbacks.onPageResult$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.TextSearchCallbacks.onPageResult was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextSearchPageResult? arg_result =
+              (args[0] as TextSearchPageResult?);
+          assert(arg_result != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.TextSearchCallbacks.onPageResult was null, expected non-null TextSearchPageResult.');
+          try {
+            api.onPageResult(arg_result!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
+
+/// Progress of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+abstract class FormDataTransferCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// Called after every chunk of fields.
+  void onProgress(FormDataTransferProgress progress);
+
+  static void setUp(
+    FormDataTransferCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.FormDataTransferCallbacks.onProgress$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.FormDataTransferCallbacks.onProgress was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FormDataTransferProgress? arg_progress =
+              (args[0] as FormDataTransferProgress?);
+          assert(arg_progress != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.FormDataTransferCallbacks.onProgress was null, expected non-null FormDataTransferProgress.');
+          try {
+            api.onProgress(arg_progress!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
+
+/// Events of native PDF activities and Instant documents on Android,
+/// batched once per frame.
+abstract class PlatformEventCallbacks {
+  static const MessageCodec<Object?> pigeonChannelCodec = _PigeonCodec();
+
+  /// Called with all events fired since the previous batch.
+  void onEvents(PlatformEventBatch batch);
+
+  static void setUp(
+    PlatformEventCallbacks? api, {
+    BinaryMessenger? binaryMessenger,
+    String messageChannelSuffix = '',
+  }) {
+    messageChannelSuffix =
+        messageChannelSuffix.isNotEmpty ? '.$messageChannelSuffix' : '';
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.nutrient_flutter.PlatformEventCallbacks.onEvents$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.PlatformEventCallbacks.onEvents was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlatformEventBatch? arg_batch =
+              (args[0] as PlatformEventBatch?);
+          assert(arg_batch != null,
+              'Argument for dev.flutter.pigeon.nutrient_flutter.PlatformEventCallbacks.onEvents was null, expected non-null PlatformEventBatch.');
+          try {
+            api.onEvents(arg_batch!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+///  Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+///
+///  THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+///  AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+///  UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+///  This notice may not be removed from this file.
+
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+
+/// Outcome of opening one document with [Nutrient.openDocuments].
+class DocumentBatchOpenResult {
+  /// Index of the document in the requested list.
+  final int index;
+
+  /// Path of the requested document.
+  final String documentPath;
+
+  /// The opened document, or null if opening failed. Must be closed with
+  /// [PdfDocument.close] when no longer needed.
+  final PdfDocument? document;
+
+  /// Error code if opening failed, e.g. `InvalidDocumentPath`.
+  final String? errorCode;
+
+  /// Error message if opening failed.
+  final String? errorMessage;
+
+  /// Time it took to open the document.
+  final Duration duration;
+
+  const DocumentBatchOpenResult({
+    required this.index,
+    required this.documentPath,
+    this.document,
+    this.errorCode,
+    this.errorMessage,
+    required this.duration,
+  });
+
+  /// Whether the document was opened.
+  bool get isSuccess => document != null;
+
+  @override
+  String toString() => isSuccess
+      ? 'DocumentBatchOpenResult($index, $documentPath, ${duration.inMilliseconds} ms)'
+      : 'DocumentBatchOpenResult($index, $documentPath, $errorCode: $errorMessage)';
+}
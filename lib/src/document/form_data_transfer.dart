@@ -0,0 +1,77 @@
+///  Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+///
+///  THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+///  AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+///  UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+///  This notice may not be removed from this file.
+
+import 'dart:async';
+
+import 'package:flutter/services.dart';
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+
+/// Channel suffix counter for the progress callbacks of form data transfers.
+int _nextTransferId = 0;
+
+/// Runs [PdfDocumentApi.importFormData] and forwards its progress to
+/// [onProgress].
+Future<FormDataTransferResult> importFormDataFile(
+  PdfDocumentApi api,
+  String documentId,
+  String path, {
+  String? format,
+  int? chunkSize,
+  void Function(FormDataTransferProgress progress)? onProgress,
+}) {
+  return _transfer(documentId, onProgress, (transferId) {
+    return api.importFormData(transferId, path, format, chunkSize);
+  });
+}
+
+/// Runs [PdfDocumentApi.exportFormData] and forwards its progress to
+/// [onProgress].
+Future<FormDataTransferResult> exportFormDataFile(
+  PdfDocumentApi api,
+  String documentId,
+  String path, {
+  String? format,
+  int? chunkSize,
+  void Function(FormDataTransferProgress progress)? onProgress,
+}) {
+  return _transfer(documentId, onProgress, (transferId) {
+    return api.exportFormData(transferId, path, format, chunkSize);
+  });
+}
+
+Future<FormDataTransferResult> _transfer(
+  String documentId,
+  void Function(FormDataTransferProgress progress)? onProgress,
+  Future<FormDataTransferResult> Function(String transferId) transfer,
+) {
+  final transferId = '$documentId-form-data-${_nextTransferId++}';
+  if (onProgress == null) {
+    return transfer(transferId);
+  }
+  final binaryMessenger =
+      const MethodChannel('com.nutrient.global').binaryMessenger;
+  FormDataTransferCallbacks.setUp(
+    _FormDataTransferCallbacks(onProgress),
+    binaryMessenger: binaryMessenger,
+    messageChannelSuffix: transferId,
+  );
+  // All progress updates are sent before the transfer completes.
+  return transfer(transferId).whenComplete(() {
+    FormDataTransferCallbacks.setUp(null,
+        binaryMessenger: binaryMessenger, messageChannelSuffix: transferId);
+  });
+}
+
+/// Forwards the progress of [importFormDataFile] and [exportFormDataFile].
+class _FormDataTransferCallbacks implements FormDataTransferCallbacks {
+  final void Function(FormDataTransferProgress progress) _onProgress;
+
+  _FormDataTransferCallbacks(this._onProgress);
+
+  @override
+  void onProgress(FormDataTransferProgress progress) => _onProgress(progress);
+}
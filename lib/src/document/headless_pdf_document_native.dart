@@ -12,6 +12,8 @@ import 'package:nutrient_flutter/nutrient_flutter.dart';
 import 'package:nutrient_flutter/src/annotations/annotation_utils.dart';
 import 'package:nutrient_flutter/src/document/annotation_json_converter.dart';
 import 'package:nutrient_flutter/src/document/annotation_manager_native.dart';
+import 'package:nutrient_flutter/src/document/form_data_transfer.dart';
+import 'package:nutrient_flutter/src/document/page_text_extraction.dart';
 import 'package:nutrient_flutter/src/bookmarks/bookmark_manager_native.dart';
 
 /// A headless PDF document implementation that doesn't require a viewer.
@@ -94,7 +96,7 @@ class HeadlessPdfDocumentNative extends PdfDocument
   @override
   Future<List<PdfFormField>> getFormFields() {
     _ensureNotClosed();
-    return _api.getFormFieldsJson().then((jsonString) {
+    return _api.getLeanFormFieldsJson().then((jsonString) {
       final results = jsonDecode(jsonString) as List<dynamic>;
       return results
           .map((result) =>
@@ -105,6 +107,59 @@ class HeadlessPdfDocumentNative extends PdfDocument
     });
   }
 
+  @override
+  Future<List<Map<String, dynamic>>> getFormFieldAnnotations(
+      String fullyQualifiedName) {
+    _ensureNotClosed();
+    return _api
+        .getFormFieldAnnotationsJson(fullyQualifiedName)
+        .then((jsonString) => (jsonDecode(jsonString) as List<dynamic>)
+            .map((annotation) =>
+                Map<String, dynamic>.from(annotation as Map))
+            .toList());
+  }
+
+  @override
+  Future<List<PdfFormField>> getDirtyFormFields() {
+    _ensureNotClosed();
+    return _api.getDirtyFormFieldsJson().then((jsonString) {
+      final results = jsonDecode(jsonString) as List<dynamic>;
+      return results
+          .map((result) =>
+              PdfFormField.fromMap(Map<String, dynamic>.from(result as Map)))
+          .toList();
+    }).catchError((error) {
+      throw Exception('Error getting dirty form fields: $error');
+    });
+  }
+
+  @override
+  Future<List<PdfFormField>> getFormFieldsByPrefix(String prefix) {
+    _ensureNotClosed();
+    return _api.getFormFieldsJsonByPrefix(prefix).then((jsonString) {
+      final results = jsonDecode(jsonString) as List<dynamic>;
+      return results
+          .map((result) =>
+              PdfFormField.fromMap(Map<String, dynamic>.from(result as Map)))
+          .toList();
+    }).catchError((error) {
+      throw Exception('Error getting form fields: $error');
+    });
+  }
+
+  @override
+  Future<List<FormFieldValue>> getFormFieldValuesByPrefix(String prefix) {
+    _ensureNotClosed();
+    return _api.getFormFieldValuesByPrefix(prefix);
+  }
+
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values) {
+    _ensureNotClosed();
+    return _api.setFormFieldValuesByPrefix(prefix, values);
+  }
+
   @override
   Future<bool?> addAnnotation(dynamic annotation,
       [Map<String, dynamic>? attachment]) {
@@ -140,6 +195,26 @@ class HeadlessPdfDocumentNative extends PdfDocument
     return _api.exportXfdf(xfdfPath);
   }
 
+  @override
+  Future<FormDataTransferResult> importFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) {
+    _ensureNotClosed();
+    return importFormDataFile(_api, documentId, path,
+        format: format, chunkSize: chunkSize, onProgress: onProgress);
+  }
+
+  @override
+  Future<FormDataTransferResult> exportFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) {
+    _ensureNotClosed();
+    return exportFormDataFile(_api, documentId, path,
+        format: format, chunkSize: chunkSize, onProgress: onProgress);
+  }
+
   @override
   Future<Object> getAllUnsavedAnnotations() {
     _ensureNotClosed();
@@ -178,6 +253,25 @@ class HeadlessPdfDocumentNative extends PdfDocument
     return _api.getFormFieldValue(fullyQualifiedName);
   }
 
+  @override
+  Future<List<FormFieldValue>> getFormFieldValues(
+      {List<String>? fullyQualifiedNames}) {
+    _ensureNotClosed();
+    return _api.getFormFieldValues(fullyQualifiedNames);
+  }
+
+  @override
+  Future<void> setFormValidationRules(List<FormValidationRule> rules) {
+    _ensureNotClosed();
+    return _api.setFormValidationRules(rules);
+  }
+
+  @override
+  Future<List<FormValidationViolation>> validateFormFields() {
+    _ensureNotClosed();
+    return _api.validateFormFields();
+  }
+
   @override
   Future<bool> importXfdf(String xfdfString) {
     _ensureNotClosed();
@@ -196,6 +290,13 @@ class HeadlessPdfDocumentNative extends PdfDocument
     return _api.setFormFieldValue(value, fullyQualifiedName);
   }
 
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) {
+    _ensureNotClosed();
+    return _api.setFormFieldValues(values);
+  }
+
   @override
   Future<bool?> updateAnnotation(Annotation annotation) {
     _ensureNotClosed();
@@ -296,6 +397,119 @@ class HeadlessPdfDocumentNative extends PdfDocument
     }
   }
 
+  @override
+  Future<bool> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  ) async {
+    _ensureNotClosed();
+    try {
+      return await _api.processAnnotationsOnPages(
+          processingMode, destinationPath, scopes);
+    } catch (e) {
+      debugPrint('Error processing annotations: $e');
+      throw Exception('Error processing annotations: $e');
+    }
+  }
+
+  @override
+  Future<List<DocumentExportResult>> exportArtifacts(
+    DocumentExportRequest request,
+  ) async {
+    _ensureNotClosed();
+    try {
+      return await _api.exportArtifacts(request);
+    } catch (e) {
+      debugPrint('Error exporting document artifacts: $e');
+      throw Exception('Error exporting document artifacts: $e');
+    }
+  }
+
+  @override
+  Future<RedactionResult> redactPatterns(RedactionRequest request) async {
+    _ensureNotClosed();
+    try {
+      return await _api.redactPatterns(request);
+    } catch (e) {
+      debugPrint('Error redacting document: $e');
+      throw Exception('Error redacting document: $e');
+    }
+  }
+
+  @override
+  Future<DocumentWarmUpResult> getWarmUpResult() async {
+    _ensureNotClosed();
+    try {
+      return await _api.getWarmUpResult();
+    } catch (e) {
+      debugPrint('Error getting warm-up result: $e');
+      throw Exception('Error getting warm-up result: $e');
+    }
+  }
+
+  @override
+  Future<RenderedPage> renderPage(int pageIndex, int width, int height,
+      {PageRenderOptions? options}) async {
+    _ensureNotClosed();
+    try {
+      return await _api.renderPage(pageIndex, width, height, options);
+    } catch (e) {
+      debugPrint('Error rendering page: $e');
+      throw Exception('Error rendering page: $e');
+    }
+  }
+
+  @override
+  Future<ThumbnailResult> getThumbnail(int pageIndex,
+      {int maxSize = 256}) async {
+    _ensureNotClosed();
+    try {
+      return await _api.getThumbnail(pageIndex, maxSize);
+    } catch (e) {
+      debugPrint('Error getting thumbnail: $e');
+      throw Exception('Error getting thumbnail: $e');
+    }
+  }
+
+  @override
+  Future<void> prefetchThumbnails(List<int> pageIndexes,
+      {int maxSize = 256}) async {
+    _ensureNotClosed();
+    try {
+      await _api.prefetchThumbnails(pageIndexes, maxSize);
+    } catch (e) {
+      debugPrint('Error prefetching thumbnails: $e');
+      throw Exception('Error prefetching thumbnails: $e');
+    }
+  }
+
+  @override
+  Future<String> getPageText(int pageIndex) async {
+    _ensureNotClosed();
+    try {
+      return await _api.getPageText(pageIndex);
+    } catch (e) {
+      debugPrint('Error getting page text: $e');
+      throw Exception('Error getting page text: $e');
+    }
+  }
+
+  @override
+  Stream<PageTextChunk> extractAllText(
+      {int? maxConcurrency, int? pagesPerChunk}) {
+    _ensureNotClosed();
+    return extractPageText(_api, documentId,
+        maxConcurrency: maxConcurrency, pagesPerChunk: pagesPerChunk);
+  }
+
+  @override
+  Stream<TextSearchPageResult> searchText(String query,
+      {TextSearchOptions? options}) {
+    _ensureNotClosed();
+    return searchPageText(_api, documentId, query, options: options);
+  }
+
   // ============================
   // Document Lifecycle Methods
   // ============================
@@ -0,0 +1,106 @@
+///  Copyright © 2024-2026 PSPDFKit GmbH. All rights reserved.
+///
+///  THIS SOURCE CODE AND ANY ACCOMPANYING DOCUMENTATION ARE PROTECTED BY INTERNATIONAL COPYRIGHT LAW
+///  AND MAY NOT BE RESOLD OR REDISTRIBUTED. USAGE IS BOUND TO THE PSPDFKIT LICENSE AGREEMENT.
+///  UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
+///  This notice may not be removed from this file.
+
+import 'dart:async';
+
+import 'package:flutter/services.dart';
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+
+/// Channel suffix counter for the callbacks of [extractPageText] and
+/// [searchPageText] runs.
+int _nextExtractionId = 0;
+
+/// Runs [PdfDocumentApi.extractAllText] and forwards its chunks as a stream.
+///
+/// The stream closes once the extraction completed, or reports its error.
+Stream<PageTextChunk> extractPageText(
+  PdfDocumentApi api,
+  String documentId, {
+  int? maxConcurrency,
+  int? pagesPerChunk,
+}) {
+  final extractionId = '$documentId-text-${_nextExtractionId++}';
+  final binaryMessenger =
+      const MethodChannel('com.nutrient.global').binaryMessenger;
+  final controller = StreamController<PageTextChunk>();
+
+  PageTextExtractionCallbacks.setUp(
+    _PageTextCallbacks((chunk) {
+      if (!controller.isClosed) {
+        controller.add(chunk);
+      }
+    }),
+    binaryMessenger: binaryMessenger,
+    messageChannelSuffix: extractionId,
+  );
+  api
+      .extractAllText(extractionId, maxConcurrency, pagesPerChunk)
+      // All chunks are sent before the extraction completes.
+      .then<void>((_) {}, onError: controller.addError)
+      .whenComplete(() {
+    PageTextExtractionCallbacks.setUp(null,
+        binaryMessenger: binaryMessenger, messageChannelSuffix: extractionId);
+    controller.close();
+  });
+  return controller.stream;
+}
+
+/// Runs [PdfDocumentApi.searchText] and forwards the pages with hits as a
+/// stream.
+///
+/// The stream closes once the search completed, or reports its error.
+Stream<TextSearchPageResult> searchPageText(
+  PdfDocumentApi api,
+  String documentId,
+  String query, {
+  TextSearchOptions? options,
+}) {
+  final searchId = '$documentId-search-${_nextExtractionId++}';
+  final binaryMessenger =
+      const MethodChannel('com.nutrient.global').binaryMessenger;
+  final controller = StreamController<TextSearchPageResult>();
+
+  TextSearchCallbacks.setUp(
+    _TextSearchCallbacks((result) {
+      if (!controller.isClosed) {
+        controller.add(result);
+      }
+    }),
+    binaryMessenger: binaryMessenger,
+    messageChannelSuffix: searchId,
+  );
+  api
+      .searchText(searchId, query, options)
+      // All pages are sent before the search completes.
+      .then<void>((_) {}, onError: controller.addError)
+      .whenComplete(() {
+    TextSearchCallbacks.setUp(null,
+        binaryMessenger: binaryMessenger, messageChannelSuffix: searchId);
+    controller.close();
+  });
+  return controller.stream;
+}
+
+/// Forwards the chunks of [extractPageText].
+class _PageTextCallbacks implements PageTextExtractionCallbacks {
+  final void Function(PageTextChunk chunk) _onChunk;
+
+  _PageTextCallbacks(this._onChunk);
+
+  @override
+  void onPageTextChunk(PageTextChunk chunk) => _onChunk(chunk);
+}
+
+/// Forwards the pages of [searchPageText].
+class _TextSearchCallbacks implements TextSearchCallbacks {
+  final void Function(TextSearchPageResult result) _onResult;
+
+  _TextSearchCallbacks(this._onResult);
+
+  @override
+  void onPageResult(TextSearchPageResult result) => _onResult(result);
+}
@@ -26,14 +26,88 @@ abstract class PdfDocument {
   Future<PdfFormField> getFormField(String fieldName);
 
   /// Returns a list of all form fields in the document.
+  ///
+  /// The fields are loaded without the Instant JSON of their widget
+  /// annotations, use [getFormFieldAnnotations] to load it for a single field.
   Future<List<PdfFormField>> getFormFields();
 
+  /// Returns the Instant JSON of the widget annotations of the form field
+  /// named [fullyQualifiedName], one entry per widget.
+  Future<List<Map<String, dynamic>>> getFormFieldAnnotations(
+      String fullyQualifiedName);
+
+  /// Returns the form fields that changed since the previous call.
+  ///
+  /// Changes are collected from the first form field request on the document,
+  /// so a full sync with [getFormFields] followed by periodic calls to this
+  /// method keeps a copy of the form up to date without transferring every
+  /// field again. Removed fields are not included.
+  Future<List<PdfFormField>> getDirtyFormFields();
+
+  /// Returns the form field named [prefix] and all fields below it, in form
+  /// order.
+  ///
+  /// Names are matched per dot separated segment, so `applicant.address`
+  /// matches `applicant.address.street` but not `applicant.addressee`. An
+  /// empty prefix returns all fields.
+  Future<List<PdfFormField>> getFormFieldsByPrefix(String prefix);
+
+  /// Returns the typed values of the form fields below [prefix], see
+  /// [getFormFieldsByPrefix] and [getFormFieldValues].
+  Future<List<FormFieldValue>> getFormFieldValuesByPrefix(String prefix);
+
+  /// Sets the values of several form fields below [prefix] at once.
+  ///
+  /// Keys of [values] are names relative to [prefix], e.g. `street` for
+  /// `applicant.address.street` when [prefix] is `applicant.address`.
+  /// Returns the fields that could not be set, see [setFormFieldValues].
+  Future<List<FormFieldWriteError>> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values);
+
   /// Sets the value of a form field by specifying its fully qualified field name.
   Future<bool?> setFormFieldValue(String value, String fullyQualifiedName);
 
+  /// Sets the values of several form fields at once, keyed by their fully
+  /// qualified names.
+  ///
+  /// Values use the same format as [setFormFieldValue]. The fields are looked
+  /// up and updated in one batch, which is much faster than setting them one
+  /// by one when pre-filling large forms. Fields that cannot be set are
+  /// skipped.
+  ///
+  /// Returns the fields that could not be set, empty if all were set.
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values);
+
   /// Gets the form field value by specifying its fully qualified name.
   Future<String?> getFormFieldValue(String fullyQualifiedName);
 
+  /// Returns the typed values of the fields named in [fullyQualifiedNames],
+  /// or of all fields if null, in one call.
+  ///
+  /// Unlike [getFormFieldValue], values are not encoded as strings: text
+  /// fields set [FormFieldValue.text], checkboxes [FormFieldValue.isSelected]
+  /// and choice fields [FormFieldValue.selectedIndexes]. Names without a
+  /// matching field are left out.
+  Future<List<FormFieldValue>> getFormFieldValues(
+      {List<String>? fullyQualifiedNames});
+
+  /// Replaces the form validation rules of this document.
+  ///
+  /// Rules are checked natively by [validateFormFields]. Supported rule types
+  /// are `required`, `pattern` (a regular expression matching the whole
+  /// value), `range` (a number between [FormValidationRule.minimum] and
+  /// [FormValidationRule.maximum]) and `equals` (the same value as
+  /// [FormValidationRule.otherFieldName]). Pass an empty list to remove all
+  /// rules.
+  Future<void> setFormValidationRules(List<FormValidationRule> rules);
+
+  /// Returns the violations of the rules set with [setFormValidationRules].
+  ///
+  /// Only fields changed since the previous call are checked again, so this
+  /// can be called on every [NutrientEvent.formFieldValuesUpdated] event.
+  Future<List<FormValidationViolation>> validateFormFields();
+
   /// Applies Instant document JSON to the presented document.
   Future<bool?> applyInstantJson(String annotationsJson);
 
@@ -112,6 +186,44 @@ abstract class PdfDocument {
   /// Exports annotations to the XFDF file at the given path.
   Future<bool> exportXfdf(String xfdfPath);
 
+  /// Imports form field values from the XFDF or FDF file at [path].
+  ///
+  /// Unlike [importXfdf], only form field values are imported and the file is
+  /// streamed instead of loaded as a whole. Values are applied [chunkSize]
+  /// fields at a time, so a viewer stays responsive while large forms are
+  /// filled. [onProgress] is called after every chunk. Fields that cannot be
+  /// set are returned in [FormDataTransferResult.errors].
+  ///
+  /// Buttons are matched by their export value, radio groups without export
+  /// values by the index of the selected button, and choice fields by option
+  /// value or label, as written by [exportFormData].
+  ///
+  /// @param path Path of the XFDF or FDF file
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields applied at a time, defaults to 250
+  /// @param onProgress Called with the progress after every chunk
+  /// @return Totals and failed fields of the import
+  Future<FormDataTransferResult> importFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress});
+
+  /// Exports the values of all form fields to an XFDF or FDF file at [path].
+  ///
+  /// Unlike [exportXfdf], annotations are not exported and the values are
+  /// streamed to the file [chunkSize] fields at a time. [onProgress] is called
+  /// after every chunk.
+  ///
+  /// @param path Path of the file to write, an existing file is replaced
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields written at a time, defaults to 250
+  /// @param onProgress Called with the progress after every chunk
+  /// @return Totals of the export
+  Future<FormDataTransferResult> exportFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress});
+
   /// Saves the document back to its original location if it has been changed.
   /// If there were no changes to the document, the document file will not be modified.
   Future<bool> save({String? outputPath, DocumentSaveOptions? options});
@@ -199,6 +311,188 @@ abstract class PdfDocument {
     String destinationPath,
   );
 
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path.
+  ///
+  /// Pages outside of the scopes are copied unchanged, so processing the
+  /// signature page of a long contract only touches that page.
+  ///
+  /// **Example - Flatten signatures on the last page:**
+  /// ```dart
+  /// await document.processAnnotationsOnPages(
+  ///   AnnotationProcessingMode.flatten,
+  ///   '/path/to/output.pdf',
+  ///   [
+  ///     AnnotationProcessingScope(
+  ///       pageRanges: '400',
+  ///       types: [AnnotationType.ink, AnnotationType.widget],
+  ///     ),
+  ///   ],
+  /// );
+  /// ```
+  ///
+  /// @param processingMode The processing mode to apply
+  /// @param destinationPath Path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  Future<bool> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  );
+
+  /// Exports any combination of a flattened PDF, an XFDF file and an Instant
+  /// JSON snapshot in a single call.
+  ///
+  /// The annotations are collected once for the flattened PDF and the XFDF
+  /// file; the Instant JSON snapshot collects them again. The artifacts are
+  /// written concurrently. Artifacts whose path is null are skipped.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final results = await document.exportArtifacts(DocumentExportRequest(
+  ///   flattenedPdfPath: '/path/to/flattened.pdf',
+  ///   xfdfPath: '/path/to/annotations.xfdf',
+  ///   instantJsonPath: '/path/to/snapshot.json',
+  /// ));
+  /// for (final result in results) {
+  ///   print('${result.artifact}: ${result.durationMs} ms');
+  /// }
+  /// ```
+  ///
+  /// @param request The artifacts to export and their output paths
+  /// @return One result with timing per exported artifact
+  Future<List<DocumentExportResult>> exportArtifacts(
+    DocumentExportRequest request,
+  );
+
+  /// Redacts all text matching any of the given regular expressions.
+  ///
+  /// Pages are scanned in parallel and a redaction annotation is added for
+  /// every match. When [RedactionRequest.outputPath] is set, the redactions
+  /// are applied to a copy that is written to that path, and this document
+  /// is left unchanged.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final result = await document.redactPatterns(RedactionRequest(
+  ///   patterns: [r'\d{3}-\d{2}-\d{4}', r'[\w.]+@[\w.]+'],
+  ///   caseSensitive: false,
+  ///   outputPath: '/path/to/redacted.pdf',
+  /// ));
+  /// print('${result.totalMatches} matches on ${result.pages.length} pages');
+  /// ```
+  ///
+  /// @param request The patterns, pages and output path for the redaction
+  /// @return The matches per page and scan throughput
+  Future<RedactionResult> redactPatterns(RedactionRequest request);
+
+  /// Waits for the warm-up requested when opening the document with
+  /// [Nutrient.openDocument] and returns how long each phase took.
+  ///
+  /// Returns a result without phases if no warm-up was requested, or on
+  /// platforms that don't support warm-up.
+  ///
+  /// @return The timing of each warm-up phase
+  Future<DocumentWarmUpResult> getWarmUpResult();
+
+  /// Renders a page to an image without displaying a viewer.
+  ///
+  /// Rendered pages are cached in memory, so rendering the same page at the
+  /// same size again is cheap, and different pages can be rendered
+  /// concurrently. This makes it suitable for thumbnail grids.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final thumbnail = await document.renderPage(0, 200, 260,
+  ///     options: PageRenderOptions(format: 'jpeg', quality: 80));
+  /// final image = Image.memory(thumbnail.imageData!);
+  /// ```
+  ///
+  /// @param pageIndex Zero-based index of the page to render
+  /// @param width Width of the image in pixels
+  /// @param height Height of the image in pixels
+  /// @param options Image format, output file and cache options
+  /// @return The encoded image, or the path of the image file
+  Future<RenderedPage> renderPage(int pageIndex, int width, int height,
+      {PageRenderOptions? options});
+
+  /// Returns a thumbnail of a page from the persistent thumbnail cache,
+  /// rendering it first if it is not cached yet.
+  ///
+  /// Thumbnails survive app restarts and are invalidated when the document
+  /// file changes or the document is saved. The longer side of the thumbnail
+  /// is rounded up to a size bucket of 64, 128, 256, 512, 1024 or 2048 pixels.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final thumbnail = await document.getThumbnail(0, maxSize: 256);
+  /// final image = Image.file(File(thumbnail.filePath));
+  /// ```
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @param maxSize Minimum length of the longer side in pixels
+  /// @return The cached PNG file and its size
+  Future<ThumbnailResult> getThumbnail(int pageIndex, {int maxSize = 256});
+
+  /// Renders the thumbnails of the given pages into the thumbnail cache in the
+  /// background, e.g. for the pages about to scroll into view. Completes once
+  /// all thumbnails are cached.
+  ///
+  /// @param pageIndexes Zero-based indexes of the pages
+  /// @param maxSize Minimum length of the longer side in pixels
+  Future<void> prefetchThumbnails(List<int> pageIndexes, {int maxSize = 256});
+
+  /// Returns the text of a page, in reading order.
+  ///
+  /// The text is cached until the document is saved, so repeated calls for
+  /// the same page are cheap.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @return The text of the page
+  Future<String> getPageText(int pageIndex);
+
+  /// Extracts the text of all pages.
+  ///
+  /// Up to [maxConcurrency] pages are extracted in parallel. Pages are emitted
+  /// in order, [pagesPerChunk] at a time, so large documents never have to be
+  /// held as a single string. Pages extracted before are served from the
+  /// cache used by [getPageText].
+  ///
+  /// ```dart
+  /// await for (final chunk in document.extractAllText()) {
+  ///   for (final page in chunk.pages) {
+  ///     index.add(page.pageIndex, page.text);
+  ///   }
+  /// }
+  /// ```
+  ///
+  /// @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+  /// @param pagesPerChunk Number of pages per chunk, defaults to 16
+  /// @return A stream of chunks that closes once all pages were extracted
+  Stream<PageTextChunk> extractAllText({int? maxConcurrency, int? pagesPerChunk});
+
+  /// Searches the text of all pages and emits the hits page by page.
+  ///
+  /// Searches use a full-text index that is stored on disk and reused the
+  /// next time the same document file is opened. Documents shown in a view
+  /// start loading or building it once they are loaded, other documents on
+  /// their first search. The index is only updated when [save] writes the
+  /// document in place, which re-indexes the changed pages, so unsaved changes
+  /// are not found.
+  ///
+  /// ```dart
+  /// await for (final result in document.searchText('warranty')) {
+  ///   print('Page ${result.pageIndex}: ${result.hits.length} hits');
+  /// }
+  /// ```
+  ///
+  /// @param query The text to search for, must not be empty
+  /// @param options Optional settings like case sensitivity and a hit limit
+  /// @return A stream of the pages with hits that closes once the search is done
+  Stream<TextSearchPageResult> searchText(String query,
+      {TextSearchOptions? options});
+
   // ============================
   // Document Lifecycle Methods
   // ============================
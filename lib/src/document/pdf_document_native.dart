@@ -13,6 +13,8 @@ import 'package:nutrient_flutter/src/annotations/annotation_utils.dart';
 import 'package:nutrient_flutter/src/bookmarks/bookmark_manager_native.dart';
 import 'package:nutrient_flutter/src/document/annotation_json_converter.dart';
 import 'package:nutrient_flutter/src/document/annotation_manager_native.dart';
+import 'package:nutrient_flutter/src/document/form_data_transfer.dart';
+import 'package:nutrient_flutter/src/document/page_text_extraction.dart';
 
 class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
   late final PdfDocumentApi _api;
@@ -66,7 +68,7 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
 
   @override
   Future<List<PdfFormField>> getFormFields() {
-    return _api.getFormFieldsJson().then((jsonString) {
+    return _api.getLeanFormFieldsJson().then((jsonString) {
       final results = jsonDecode(jsonString) as List<dynamic>;
       return results
           .map((result) =>
@@ -77,6 +79,54 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
     });
   }
 
+  @override
+  Future<List<Map<String, dynamic>>> getFormFieldAnnotations(
+      String fullyQualifiedName) {
+    return _api
+        .getFormFieldAnnotationsJson(fullyQualifiedName)
+        .then((jsonString) => (jsonDecode(jsonString) as List<dynamic>)
+            .map((annotation) =>
+                Map<String, dynamic>.from(annotation as Map))
+            .toList());
+  }
+
+  @override
+  Future<List<PdfFormField>> getDirtyFormFields() {
+    return _api.getDirtyFormFieldsJson().then((jsonString) {
+      final results = jsonDecode(jsonString) as List<dynamic>;
+      return results
+          .map((result) =>
+              PdfFormField.fromMap(Map<String, dynamic>.from(result as Map)))
+          .toList();
+    }).catchError((error) {
+      throw Exception('Error getting dirty form fields: $error');
+    });
+  }
+
+  @override
+  Future<List<PdfFormField>> getFormFieldsByPrefix(String prefix) {
+    return _api.getFormFieldsJsonByPrefix(prefix).then((jsonString) {
+      final results = jsonDecode(jsonString) as List<dynamic>;
+      return results
+          .map((result) =>
+              PdfFormField.fromMap(Map<String, dynamic>.from(result as Map)))
+          .toList();
+    }).catchError((error) {
+      throw Exception('Error getting form fields: $error');
+    });
+  }
+
+  @override
+  Future<List<FormFieldValue>> getFormFieldValuesByPrefix(String prefix) {
+    return _api.getFormFieldValuesByPrefix(prefix);
+  }
+
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values) {
+    return _api.setFormFieldValuesByPrefix(prefix, values);
+  }
+
   @override
   Future<bool?> addAnnotation(dynamic annotation,
       [Map<String, dynamic>? attachment]) {
@@ -108,6 +158,24 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
     return _api.exportXfdf(xfdfPath);
   }
 
+  @override
+  Future<FormDataTransferResult> importFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) {
+    return importFormDataFile(_api, documentId, path,
+        format: format, chunkSize: chunkSize, onProgress: onProgress);
+  }
+
+  @override
+  Future<FormDataTransferResult> exportFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) {
+    return exportFormDataFile(_api, documentId, path,
+        format: format, chunkSize: chunkSize, onProgress: onProgress);
+  }
+
   @override
   Future<Object> getAllUnsavedAnnotations() {
     return _api.getAllUnsavedAnnotationsJson();
@@ -137,6 +205,22 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
     return _api.getFormFieldValue(fullyQualifiedName);
   }
 
+  @override
+  Future<List<FormFieldValue>> getFormFieldValues(
+      {List<String>? fullyQualifiedNames}) {
+    return _api.getFormFieldValues(fullyQualifiedNames);
+  }
+
+  @override
+  Future<void> setFormValidationRules(List<FormValidationRule> rules) {
+    return _api.setFormValidationRules(rules);
+  }
+
+  @override
+  Future<List<FormValidationViolation>> validateFormFields() {
+    return _api.validateFormFields();
+  }
+
   @override
   Future<bool> importXfdf(String xfdfString) {
     return _api.importXfdf(xfdfString);
@@ -152,6 +236,12 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
     return _api.setFormFieldValue(value, fullyQualifiedName);
   }
 
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) {
+    return _api.setFormFieldValues(values);
+  }
+
   @override
   Future<bool?> updateAnnotation(Annotation annotation) {
     var annotationJSON = jsonEncode(annotation.toJson());
@@ -242,6 +332,109 @@ class PdfDocumentNative extends PdfDocument with AnnotationJsonConverter {
     }
   }
 
+  @override
+  Future<bool> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  ) async {
+    try {
+      return await _api.processAnnotationsOnPages(
+          processingMode, destinationPath, scopes);
+    } catch (e) {
+      debugPrint('Error processing annotations: $e');
+      throw Exception('Error processing annotations: $e');
+    }
+  }
+
+  @override
+  Future<List<DocumentExportResult>> exportArtifacts(
+    DocumentExportRequest request,
+  ) async {
+    try {
+      return await _api.exportArtifacts(request);
+    } catch (e) {
+      debugPrint('Error exporting document artifacts: $e');
+      throw Exception('Error exporting document artifacts: $e');
+    }
+  }
+
+  @override
+  Future<RedactionResult> redactPatterns(RedactionRequest request) async {
+    try {
+      return await _api.redactPatterns(request);
+    } catch (e) {
+      debugPrint('Error redacting document: $e');
+      throw Exception('Error redacting document: $e');
+    }
+  }
+
+  @override
+  Future<DocumentWarmUpResult> getWarmUpResult() async {
+    try {
+      return await _api.getWarmUpResult();
+    } catch (e) {
+      debugPrint('Error getting warm-up result: $e');
+      throw Exception('Error getting warm-up result: $e');
+    }
+  }
+
+  @override
+  Future<RenderedPage> renderPage(int pageIndex, int width, int height,
+      {PageRenderOptions? options}) async {
+    try {
+      return await _api.renderPage(pageIndex, width, height, options);
+    } catch (e) {
+      debugPrint('Error rendering page: $e');
+      throw Exception('Error rendering page: $e');
+    }
+  }
+
+  @override
+  Future<ThumbnailResult> getThumbnail(int pageIndex,
+      {int maxSize = 256}) async {
+    try {
+      return await _api.getThumbnail(pageIndex, maxSize);
+    } catch (e) {
+      debugPrint('Error getting thumbnail: $e');
+      throw Exception('Error getting thumbnail: $e');
+    }
+  }
+
+  @override
+  Future<void> prefetchThumbnails(List<int> pageIndexes,
+      {int maxSize = 256}) async {
+    try {
+      await _api.prefetchThumbnails(pageIndexes, maxSize);
+    } catch (e) {
+      debugPrint('Error prefetching thumbnails: $e');
+      throw Exception('Error prefetching thumbnails: $e');
+    }
+  }
+
+  @override
+  Future<String> getPageText(int pageIndex) async {
+    try {
+      return await _api.getPageText(pageIndex);
+    } catch (e) {
+      debugPrint('Error getting page text: $e');
+      throw Exception('Error getting page text: $e');
+    }
+  }
+
+  @override
+  Stream<PageTextChunk> extractAllText(
+      {int? maxConcurrency, int? pagesPerChunk}) {
+    return extractPageText(_api, documentId,
+        maxConcurrency: maxConcurrency, pagesPerChunk: pagesPerChunk);
+  }
+
+  @override
+  Stream<TextSearchPageResult> searchText(String query,
+      {TextSearchOptions? options}) {
+    return searchPageText(_api, documentId, query, options: options);
+  }
+
   // ============================
   // Document Lifecycle Methods
   // ============================
@@ -51,6 +51,44 @@ class PdfDocumentWeb extends PdfDocument with AnnotationJsonConverter {
     return _instance.getFormFields();
   }
 
+  @override
+  Future<List<Map<String, dynamic>>> getFormFieldAnnotations(
+      String fullyQualifiedName) async {
+    throw UnimplementedError(
+        'getFormFieldAnnotations is not yet supported on web platform');
+  }
+
+  @override
+  Future<List<PdfFormField>> getDirtyFormFields() async {
+    throw UnimplementedError(
+        'getDirtyFormFields is not yet supported on web platform');
+  }
+
+  @override
+  Future<List<PdfFormField>> getFormFieldsByPrefix(String prefix) async {
+    final formFields = await _instance.getFormFields();
+    return formFields.where((formField) {
+      final name = formField.fullyQualifiedName;
+      return prefix.isEmpty ||
+          name == prefix ||
+          (name != null && name.startsWith('$prefix.'));
+    }).toList();
+  }
+
+  @override
+  Future<List<FormFieldValue>> getFormFieldValuesByPrefix(
+      String prefix) async {
+    throw UnimplementedError(
+        'getFormFieldValuesByPrefix is not yet supported on web platform');
+  }
+
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values) async {
+    throw UnimplementedError(
+        'setFormFieldValuesByPrefix is not yet supported on web platform');
+  }
+
   @override
   Future<bool?> applyInstantJson(String annotationsJson) {
     return _instance
@@ -68,6 +106,24 @@ class PdfDocumentWeb extends PdfDocument with AnnotationJsonConverter {
     return _instance.exportXfdf(xfdfPath).then((value) => true);
   }
 
+  @override
+  Future<FormDataTransferResult> importFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) async {
+    throw UnimplementedError(
+        'importFormData is not yet supported on web platform');
+  }
+
+  @override
+  Future<FormDataTransferResult> exportFormData(String path,
+      {String? format,
+      int? chunkSize,
+      void Function(FormDataTransferProgress progress)? onProgress}) async {
+    throw UnimplementedError(
+        'exportFormData is not yet supported on web platform');
+  }
+
   @Deprecated('User getUnsavedAnnotations instead.')
   @override
   Future<Object> getAllUnsavedAnnotations() async {
@@ -94,6 +150,25 @@ class PdfDocumentWeb extends PdfDocument with AnnotationJsonConverter {
     return _instance.getFormFieldValue(fullyQualifiedName);
   }
 
+  @override
+  Future<List<FormFieldValue>> getFormFieldValues(
+      {List<String>? fullyQualifiedNames}) async {
+    throw UnimplementedError(
+        'getFormFieldValues is not yet supported on web platform');
+  }
+
+  @override
+  Future<void> setFormValidationRules(List<FormValidationRule> rules) async {
+    throw UnimplementedError(
+        'setFormValidationRules is not yet supported on web platform');
+  }
+
+  @override
+  Future<List<FormValidationViolation>> validateFormFields() async {
+    throw UnimplementedError(
+        'validateFormFields is not yet supported on web platform');
+  }
+
   @override
   Future<bool> importXfdf(String xfdfString) {
     return _instance.importXfdf(xfdfString).then((value) => true);
@@ -111,6 +186,29 @@ class PdfDocumentWeb extends PdfDocument with AnnotationJsonConverter {
         .then((value) => true);
   }
 
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) async {
+    // The web SDK sets all fields in one call, but only reports that one of them
+    // failed. Only then each field is set on its own to find the failing ones.
+    try {
+      await _instance.setFormFieldValues(values);
+      return [];
+    } catch (_) {}
+    final errors = <FormFieldWriteError>[];
+    for (final entry in values.entries) {
+      try {
+        await _instance.setFormFieldValue(entry.value, entry.key);
+      } catch (e) {
+        errors.add(FormFieldWriteError(
+            fullyQualifiedName: entry.key,
+            errorCode: 'InvalidValue',
+            message: '$e'));
+      }
+    }
+    return errors;
+  }
+
   @override
   @override
   Future<bool?> updateAnnotation(Annotation annotation) {
@@ -201,6 +299,75 @@ class PdfDocumentWeb extends PdfDocument with AnnotationJsonConverter {
         'processAnnotations is not yet supported on web platform in headless mode');
   }
 
+  @override
+  Future<bool> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  ) async {
+    throw UnimplementedError(
+        'processAnnotationsOnPages is not yet supported on web platform');
+  }
+
+  @override
+  Future<List<DocumentExportResult>> exportArtifacts(
+    DocumentExportRequest request,
+  ) async {
+    throw UnimplementedError(
+        'exportArtifacts is not yet supported on web platform');
+  }
+
+  @override
+  Future<RedactionResult> redactPatterns(RedactionRequest request) async {
+    throw UnimplementedError(
+        'redactPatterns is not yet supported on web platform');
+  }
+
+  @override
+  Future<DocumentWarmUpResult> getWarmUpResult() async {
+    throw UnimplementedError(
+        'getWarmUpResult is not yet supported on web platform');
+  }
+
+  @override
+  Future<RenderedPage> renderPage(int pageIndex, int width, int height,
+      {PageRenderOptions? options}) async {
+    throw UnimplementedError('renderPage is not yet supported on web platform');
+  }
+
+  @override
+  Future<ThumbnailResult> getThumbnail(int pageIndex,
+      {int maxSize = 256}) async {
+    throw UnimplementedError(
+        'getThumbnail is not yet supported on web platform');
+  }
+
+  @override
+  Future<void> prefetchThumbnails(List<int> pageIndexes,
+      {int maxSize = 256}) async {
+    throw UnimplementedError(
+        'prefetchThumbnails is not yet supported on web platform');
+  }
+
+  @override
+  Future<String> getPageText(int pageIndex) async {
+    throw UnimplementedError(
+        'getPageText is not yet supported on web platform');
+  }
+
+  @override
+  Stream<PageTextChunk> extractAllText(
+      {int? maxConcurrency, int? pagesPerChunk}) {
+    throw UnimplementedError(
+        'extractAllText is not yet supported on web platform');
+  }
+
+  @override
+  Stream<TextSearchPageResult> searchText(String query,
+      {TextSearchOptions? options}) {
+    throw UnimplementedError('searchText is not yet supported on web platform');
+  }
+
   // ============================
   // Document Lifecycle Methods
   // ============================
@@ -91,6 +91,18 @@ class Nutrient {
       NutrientFlutterPlatform.instance
           .processAnnotations(type, processingMode, destinationPath);
 
+  /// Processes annotations only on the pages selected by [scopes] of the
+  /// presented document and stores the PDF at the given destination path.
+  /// Pages outside of the scopes are copied unchanged. Only available on
+  /// Android.
+  static Future<bool?> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  ) async =>
+      NutrientFlutterPlatform.instance
+          .processAnnotationsOnPages(processingMode, destinationPath, scopes);
+
   /// Imports annotations from the XFDF file at the given path.
   static Future<bool?> importXfdf(String xfdfPath) async =>
       NutrientFlutterPlatform.instance.importXfdf(xfdfPath);
@@ -280,6 +292,10 @@ class Nutrient {
   /// The returned [PdfDocument] must be closed when no longer needed by
   /// calling [PdfDocument.close] to release native resources.
   ///
+  /// On Android, opening a local file that is already open, for example from
+  /// two widgets, reuses the parsed document and returns almost immediately.
+  /// Each call still returns its own [PdfDocument] that must be closed.
+  ///
   /// **Example - Basic usage:**
   /// ```dart
   /// final document = await Nutrient.openDocument('/path/to/document.pdf');
@@ -326,17 +342,285 @@ class Nutrient {
   /// );
   /// ```
   ///
+  /// **Example - Large local document:**
+  /// ```dart
+  /// // Memory mapping speeds up random page access in very large files.
+  /// final document = await Nutrient.openDocument(
+  ///   '/path/to/archive_scan.pdf',
+  ///   memoryMapped: true,
+  /// );
+  /// ```
+  ///
+  /// **Example - Warm-up:**
+  /// ```dart
+  /// // Form fields and annotations are loaded in the background right away.
+  /// final document = await Nutrient.openDocument(
+  ///   '/path/to/form.pdf',
+  ///   warmUp: DocumentWarmUpOptions(formFields: true, annotations: true),
+  /// );
+  /// final warmUp = await document.getWarmUpResult();
+  /// ```
+  ///
   /// @param documentPath Path to the PDF document (file path or content:// URI)
   /// @param password Optional password for encrypted documents
+  /// @param memoryMapped Read a local file through memory mapping instead of
+  /// streams. Only applies to file paths and is currently Android only.
+  /// @param warmUp Data to preload in the background after opening, see
+  /// [PdfDocument.getWarmUpResult]. Currently Android only.
   /// @return A [PdfDocument] instance for programmatic access
   /// @throws Exception if the document cannot be opened
   static Future<PdfDocument> openDocument(
     String documentPath, {
     String? password,
+    bool memoryMapped = false,
+    DocumentWarmUpOptions? warmUp,
   }) async {
     return NutrientFlutterPlatform.instance.openDocument(
       documentPath,
       password: password,
+      memoryMapped: memoryMapped,
+      warmUp: warmUp,
+    );
+  }
+
+  /// Opens several PDF documents without displaying a viewer.
+  ///
+  /// Up to [maxConcurrency] documents are loaded in parallel. The returned
+  /// stream emits a [DocumentBatchOpenResult] for every document as soon as
+  /// it was opened, in completion order, and closes once all documents were
+  /// handled. A document that fails to open is reported in its result and
+  /// does not affect the rest of the batch.
+  ///
+  /// Every opened document must be closed when no longer needed by calling
+  /// [PdfDocument.close].
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final documents = <PdfDocument>[];
+  /// await for (final result in Nutrient.openDocuments([
+  ///   DocumentOpenRequest(documentPath: '/path/to/report.pdf'),
+  ///   DocumentOpenRequest(documentPath: '/path/to/invoice.pdf'),
+  /// ])) {
+  ///   if (result.isSuccess) {
+  ///     documents.add(result.document!);
+  ///   } else {
+  ///     print('${result.documentPath}: ${result.errorMessage}');
+  ///   }
+  /// }
+  /// ```
+  ///
+  /// @param requests The documents to open
+  /// @param maxConcurrency Maximum number of documents loaded in parallel,
+  /// defaults to 4. Ignored on iOS, where documents are loaded lazily.
+  /// @return A stream with one result per requested document
+  static Stream<DocumentBatchOpenResult> openDocuments(
+    List<DocumentOpenRequest> requests, {
+    int? maxConcurrency,
+  }) {
+    return NutrientFlutterPlatform.instance.openDocuments(
+      requests,
+      maxConcurrency: maxConcurrency,
+    );
+  }
+
+  /// Opens a PDF document from bytes in memory without displaying a viewer.
+  ///
+  /// Use this for documents that are already in memory, e.g. a finished
+  /// download, so they don't have to be written to disk and read back first.
+  /// The bytes are read directly from memory by the native document loader.
+  ///
+  /// The returned [PdfDocument] must be closed when no longer needed by
+  /// calling [PdfDocument.close] to release native resources.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final response = await http.get(Uri.parse('https://example.com/invoice.pdf'));
+  /// final document = await Nutrient.openDocumentFromBytes(response.bodyBytes);
+  /// try {
+  ///   final formFields = await document.getFormFields();
+  /// } finally {
+  ///   await document.close();
+  /// }
+  /// ```
+  ///
+  /// @param data The PDF document bytes
+  /// @param password Optional password for encrypted documents
+  /// @param warmUp Data to preload in the background after opening, see
+  /// [PdfDocument.getWarmUpResult]. Currently Android only.
+  /// @return A [PdfDocument] instance for programmatic access
+  /// @throws Exception if the document cannot be opened
+  static Future<PdfDocument> openDocumentFromBytes(
+    Uint8List data, {
+    String? password,
+    DocumentWarmUpOptions? warmUp,
+  }) async {
+    return NutrientFlutterPlatform.instance.openDocumentFromBytes(
+      data,
+      password: password,
+      warmUp: warmUp,
+    );
+  }
+
+  /// Merges pages from several documents into a single new document without
+  /// displaying a viewer.
+  ///
+  /// Page ranges use one-based page numbers, e.g. `1-3,5,8-`. Sources are
+  /// processed natively in batches, so large merges don't need to hold every
+  /// input document open at the same time. Currently only supported on Android.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final pageCount = await Nutrient.mergeDocuments(
+  ///   [
+  ///     DocumentMergeSource(documentPath: '/path/to/cover.pdf'),
+  ///     DocumentMergeSource(documentPath: '/path/to/report.pdf', pageRanges: '2-10'),
+  ///   ],
+  ///   '/path/to/packet.pdf',
+  /// );
+  /// ```
+  ///
+  /// @param sources The documents and page ranges to merge, in output order
+  /// @param outputPath Path where the merged document will be written
+  /// @return The number of pages written to the merged document
+  /// @throws Exception if a source cannot be opened or a range is invalid
+  static Future<int> mergeDocuments(
+    List<DocumentMergeSource> sources,
+    String outputPath,
+  ) async {
+    return NutrientFlutterPlatform.instance.mergeDocuments(sources, outputPath);
+  }
+
+  /// Splits a document into several new documents without displaying a viewer.
+  ///
+  /// Each [DocumentSplitTarget] selects one-based page ranges and an output
+  /// path. The outputs are written natively in parallel. Currently only
+  /// supported on Android.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// await Nutrient.splitDocument('/path/to/scan.pdf', [
+  ///   DocumentSplitTarget(pageRanges: '1-2', outputPath: '/path/to/invoice1.pdf'),
+  ///   DocumentSplitTarget(pageRanges: '3-5', outputPath: '/path/to/invoice2.pdf'),
+  /// ]);
+  /// ```
+  ///
+  /// @param documentPath Path to the PDF document to split
+  /// @param targets The page ranges and output paths to write
+  /// @param password Optional password for encrypted documents
+  /// @return The output paths that were written, in the order of [targets]
+  /// @throws Exception if the document cannot be opened or a range is invalid
+  static Future<List<String>> splitDocument(
+    String documentPath,
+    List<DocumentSplitTarget> targets, {
+    String? password,
+  }) async {
+    return NutrientFlutterPlatform.instance.splitDocument(
+      documentPath,
+      targets,
+      password: password,
     );
   }
+
+  /// Fills a form template once per row of a dataset and writes one document
+  /// per row, without displaying a viewer.
+  ///
+  /// The dataset is a CSV file with a header row or a JSON array of objects,
+  /// keyed by fully qualified form field names. Values use the format of
+  /// [PdfDocument.setFormFieldValue]. Rows are filled and written natively in
+  /// parallel, and rows that fail are reported in [MailMergeResult.errors]
+  /// without aborting the run. Currently only supported on Android.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// final result = await Nutrient.mailMerge(MailMergeRequest(
+  ///   templatePath: '/path/to/certificate.pdf',
+  ///   dataPath: '/path/to/attendees.csv',
+  ///   outputDirectory: '/path/to/certificates',
+  ///   fileNamePattern: '{Name}.pdf',
+  ///   flatten: true,
+  /// ));
+  /// print('${result.rowsPerSecond} rows/s, ${result.errors.length} failed');
+  /// ```
+  ///
+  /// @param request The template, dataset and output settings
+  /// @return The written paths, the failed rows and the throughput
+  /// @throws Exception if the template or the dataset cannot be read
+  static Future<MailMergeResult> mailMerge(MailMergeRequest request) async {
+    return NutrientFlutterPlatform.instance.mailMerge(request);
+  }
+
+  /// Configures the budget of the pool of resident headless documents.
+  ///
+  /// Documents opened with [openDocument] stay resident until they are closed.
+  /// To bound memory use, the least recently used documents are released when
+  /// the pool exceeds [DocumentPoolConfiguration.maxResidentDocuments] or
+  /// [DocumentPoolConfiguration.maxResidentBytes], and documents that were not
+  /// used for [DocumentPoolConfiguration.idleTimeoutMs] are released as well.
+  /// A released document keeps working: it is reopened transparently the next
+  /// time it is used. Documents with unsaved changes are never released.
+  ///
+  /// If [DocumentPoolConfiguration.closeTimeoutMs] is set, documents that were
+  /// not used for that long are closed, which frees their
+  /// handle as well, e.g. after the Dart side lost its reference without
+  /// calling [PdfDocument.close]. Calls on a closed document fail.
+  /// Pinned documents and documents with unsaved changes are never closed.
+  /// Currently only supported on Android.
+  ///
+  /// **Example:**
+  /// ```dart
+  /// await Nutrient.configureDocumentPool(DocumentPoolConfiguration(
+  ///   maxResidentDocuments: 4,
+  ///   idleTimeoutMs: 60000,
+  /// ));
+  /// ```
+  ///
+  /// @param configuration The new budget, null values keep the current setting
+  /// @throws Exception if a value is out of range
+  static Future<void> configureDocumentPool(
+    DocumentPoolConfiguration configuration,
+  ) async {
+    return NutrientFlutterPlatform.instance
+        .configureDocumentPool(configuration);
+  }
+
+  /// Returns gauges of the pool of resident headless documents, such as the
+  /// number of loaded documents and how often documents were released.
+  /// Currently only supported on Android.
+  static Future<DocumentPoolStatistics> getDocumentPoolStatistics() async {
+    return NutrientFlutterPlatform.instance.getDocumentPoolStatistics();
+  }
+
+  /// Pins a headless document so it is never released by the pool, e.g. while
+  /// a latency sensitive batch is running. Pins are counted, every call needs
+  /// a matching [unpinDocument]. Currently only supported on Android.
+  ///
+  /// @param document A document returned by [openDocument]
+  /// @throws Exception if the document is not open
+  static Future<void> pinDocument(PdfDocument document) async {
+    return NutrientFlutterPlatform.instance.pinDocument(document.documentId);
+  }
+
+  /// Removes a pin added with [pinDocument].
+  ///
+  /// @param document A document returned by [openDocument]
+  /// @throws Exception if the document is not open
+  static Future<void> unpinDocument(PdfDocument document) async {
+    return NutrientFlutterPlatform.instance.unpinDocument(document.documentId);
+  }
+
+  /// Sets the maximum size of the persistent thumbnail cache used by
+  /// [PdfDocument.getThumbnail], 64 MB by default. Least recently used
+  /// thumbnails are deleted to stay within the limit. Currently only
+  /// supported on Android.
+  ///
+  /// @param maxBytes Maximum total size of the cached thumbnails in bytes
+  static Future<void> configureThumbnailCache(int maxBytes) async {
+    return NutrientFlutterPlatform.instance.configureThumbnailCache(maxBytes);
+  }
+
+  /// Deletes all thumbnails from the persistent thumbnail cache. Currently
+  /// only supported on Android.
+  static Future<void> clearThumbnailCache() async {
+    return NutrientFlutterPlatform.instance.clearThumbnailCache();
+  }
 }
@@ -6,8 +6,10 @@
 ///  UNAUTHORIZED REPRODUCTION OR DISTRIBUTION IS SUBJECT TO CIVIL AND CRIMINAL PENALTIES.
 ///  This notice may not be removed from this file.
 ///
+import 'dart:async';
 import 'dart:convert';
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:flutter/services.dart';
 import 'package:nutrient_flutter/nutrient_flutter.dart';
@@ -22,6 +24,7 @@ class NutrientFlutterApiImpl
     implements
         NutrientFlutterPlatform,
         NutrientApiCallbacks,
+        PlatformEventCallbacks,
         AnalyticsEventsCallback {
   late NutrientApi _nutrientApi = NutrientApi();
   NutrientFlutterApiImpl() {
@@ -35,6 +38,12 @@ class NutrientFlutterApiImpl
         binaryMessenger: messageChannel.binaryMessenger,
         messageChannelSuffix: 'nutrient');
 
+    // Android sends its activity and Instant events in batches, iOS through
+    // NutrientApiCallbacks.
+    PlatformEventCallbacks.setUp(this,
+        binaryMessenger: messageChannel.binaryMessenger,
+        messageChannelSuffix: 'nutrient');
+
     AnalyticsEventsCallback.setUp(this,
         binaryMessenger: messageChannel.binaryMessenger,
         messageChannelSuffix: 'nutrient');
@@ -234,6 +243,15 @@ class NutrientFlutterApiImpl
         type, processingMode, destinationPath);
   }
 
+  @override
+  Future<bool?> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) {
+    return _nutrientApi.processAnnotationsOnPages(
+        processingMode, destinationPath, scopes);
+  }
+
   @override
   Future<bool?> removeAnnotation(dynamic annotation) {
     try {
@@ -342,6 +360,11 @@ class NutrientFlutterApiImpl
     flutterPdfFragmentAdded?.call();
   }
 
+  @override
+  void onEvents(PlatformEventBatch batch) {
+    dispatchPlatformEvents(batch);
+  }
+
   @override
   void onPdfViewControllerDidDismiss() {
     pdfViewControllerDidDismiss?.call();
@@ -404,18 +427,90 @@ class NutrientFlutterApiImpl
     messageChannelSuffix: 'nutrient',
   );
 
+  /// Channel suffix counter for the callbacks of [openDocuments] batches.
+  int _nextBatchId = 0;
+
   @override
   Future<PdfDocument> openDocument(
     String documentPath, {
     String? password,
+    bool memoryMapped = false,
+    DocumentWarmUpOptions? warmUp,
   }) async {
-    final options = password != null
-        ? HeadlessDocumentOpenOptions(password: password)
+    final options = password != null || memoryMapped || warmUp != null
+        ? HeadlessDocumentOpenOptions(
+            password: password, memoryMapped: memoryMapped, warmUp: warmUp)
         : null;
 
     final documentId =
         await _headlessDocumentApi.openDocument(documentPath, options);
+    return _headlessDocument(documentId);
+  }
+
+  @override
+  Future<PdfDocument> openDocumentFromBytes(
+    Uint8List data, {
+    String? password,
+    DocumentWarmUpOptions? warmUp,
+  }) async {
+    final options = password != null || warmUp != null
+        ? HeadlessDocumentOpenOptions(password: password, warmUp: warmUp)
+        : null;
+
+    final documentId =
+        await _headlessDocumentApi.openDocumentFromBytes(data, options);
+    return _headlessDocument(documentId);
+  }
+
+  @override
+  Stream<DocumentBatchOpenResult> openDocuments(
+    List<DocumentOpenRequest> requests, {
+    int? maxConcurrency,
+  }) {
+    final batchId = 'batch-${_nextBatchId++}';
+    final binaryMessenger =
+        const MethodChannel('com.nutrient.global').binaryMessenger;
+    final controller = StreamController<DocumentBatchOpenResult>();
+    final delivered = <int>{};
+
+    void deliver(DocumentOpenResult result) {
+      if (delivered.add(result.index) && !controller.isClosed) {
+        controller.add(_batchOpenResult(result));
+      }
+    }
 
+    HeadlessDocumentOpenCallbacks.setUp(
+      _DocumentOpenCallbacks(deliver),
+      binaryMessenger: binaryMessenger,
+      messageChannelSuffix: batchId,
+    );
+    _headlessDocumentApi
+        .openDocuments(batchId, requests, maxConcurrency)
+        // The returned list also covers results whose callback was not
+        // received before the batch completed.
+        .then((results) => results.forEach(deliver))
+        .catchError(controller.addError)
+        .whenComplete(() {
+      HeadlessDocumentOpenCallbacks.setUp(null,
+          binaryMessenger: binaryMessenger, messageChannelSuffix: batchId);
+      controller.close();
+    });
+    return controller.stream;
+  }
+
+  DocumentBatchOpenResult _batchOpenResult(DocumentOpenResult result) {
+    final documentId = result.documentId;
+    return DocumentBatchOpenResult(
+      index: result.index,
+      documentPath: result.documentPath,
+      document: documentId != null ? _headlessDocument(documentId) : null,
+      errorCode: result.errorCode,
+      errorMessage: result.errorMessage,
+      duration: Duration(milliseconds: result.durationMs),
+    );
+  }
+
+  PdfDocument _headlessDocument(String documentId) {
     // Create a PdfDocumentApi for this specific document using the documentId as channel suffix
     final documentApi = PdfDocumentApi(
       binaryMessenger:
@@ -428,4 +523,69 @@ class NutrientFlutterApiImpl
       api: documentApi,
     );
   }
+
+  @override
+  Future<int> mergeDocuments(
+    List<DocumentMergeSource> sources,
+    String outputPath,
+  ) {
+    return _headlessDocumentApi.mergeDocuments(sources, outputPath);
+  }
+
+  @override
+  Future<List<String>> splitDocument(
+    String documentPath,
+    List<DocumentSplitTarget> targets, {
+    String? password,
+  }) {
+    final options = password != null
+        ? HeadlessDocumentOpenOptions(password: password)
+        : null;
+    return _headlessDocumentApi.splitDocument(documentPath, targets, options);
+  }
+
+  @override
+  Future<MailMergeResult> mailMerge(MailMergeRequest request) {
+    return _headlessDocumentApi.mailMerge(request);
+  }
+
+  @override
+  Future<void> configureDocumentPool(DocumentPoolConfiguration configuration) {
+    return _headlessDocumentApi.configureDocumentPool(configuration);
+  }
+
+  @override
+  Future<DocumentPoolStatistics> getDocumentPoolStatistics() {
+    return _headlessDocumentApi.getDocumentPoolStatistics();
+  }
+
+  @override
+  Future<void> pinDocument(String documentId) {
+    return _headlessDocumentApi.pinDocument(documentId);
+  }
+
+  @override
+  Future<void> unpinDocument(String documentId) {
+    return _headlessDocumentApi.unpinDocument(documentId);
+  }
+
+  @override
+  Future<void> configureThumbnailCache(int maxBytes) {
+    return _headlessDocumentApi.configureThumbnailCache(maxBytes);
+  }
+
+  @override
+  Future<void> clearThumbnailCache() {
+    return _headlessDocumentApi.clearThumbnailCache();
+  }
+}
+
+/// Forwards the per-document results of [NutrientFlutterApiImpl.openDocuments].
+class _DocumentOpenCallbacks implements HeadlessDocumentOpenCallbacks {
+  final void Function(DocumentOpenResult result) _onResult;
+
+  _DocumentOpenCallbacks(this._onResult);
+
+  @override
+  void onDocumentOpened(DocumentOpenResult result) => _onResult(result);
 }
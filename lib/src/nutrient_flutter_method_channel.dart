@@ -20,7 +20,14 @@ const String _notSupportedInLegacyMode = 'Not supported in legacy mode';
 @Deprecated(
     'This class is deprecated and will be removed in the future, Use [PspdfkitFlutterApiImpl] instead')
 class MethodChannelNutrientFlutter extends NutrientFlutterPlatform
-    with AnnotationJsonConverter {
+    with AnnotationJsonConverter
+    implements PlatformEventCallbacks {
+  MethodChannelNutrientFlutter() {
+    // Android reports its activity and Instant events in typed batches
+    // instead of calls on [methodChannel].
+    PlatformEventCallbacks.setUp(this, messageChannelSuffix: 'nutrient');
+  }
+
   /// The method channel used to interact with the native platform.
   @visibleForTesting
   late final methodChannel = const MethodChannel('com.pspdfkit.global')
@@ -172,6 +179,14 @@ class MethodChannelNutrientFlutter extends NutrientFlutterPlatform
         'destinationPath': destinationPath
       });
 
+  @override
+  Future<bool?> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
   /// Imports annotations from the XFDF file at the given path.
   @override
   Future<bool?> importXfdf(String xfdfString) async => methodChannel
@@ -371,6 +386,11 @@ class MethodChannelNutrientFlutter extends NutrientFlutterPlatform
   set instantDownloadFailed(
       InstantDownloadFailedCallback? instantDownloadFailed);
 
+  @override
+  void onEvents(PlatformEventBatch batch) {
+    dispatchPlatformEvents(batch);
+  }
+
   Future<void> _platformCallHandler(MethodCall call) {
     try {
       switch (call.method) {
@@ -477,7 +497,71 @@ class MethodChannelNutrientFlutter extends NutrientFlutterPlatform
   }
 
   @override
-  Future<PdfDocument> openDocument(String documentPath, {String? password}) {
+  Future<PdfDocument> openDocument(String documentPath,
+      {String? password,
+      bool memoryMapped = false,
+      DocumentWarmUpOptions? warmUp}) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<int> mergeDocuments(
+      List<DocumentMergeSource> sources, String outputPath) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<List<String>> splitDocument(
+      String documentPath, List<DocumentSplitTarget> targets,
+      {String? password}) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<MailMergeResult> mailMerge(MailMergeRequest request) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<void> configureDocumentPool(DocumentPoolConfiguration configuration) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<DocumentPoolStatistics> getDocumentPoolStatistics() {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<void> pinDocument(String documentId) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<void> unpinDocument(String documentId) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<void> configureThumbnailCache(int maxBytes) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<void> clearThumbnailCache() {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Stream<DocumentBatchOpenResult> openDocuments(
+      List<DocumentOpenRequest> requests,
+      {int? maxConcurrency}) {
+    throw UnimplementedError(_notSupportedInLegacyMode);
+  }
+
+  @override
+  Future<PdfDocument> openDocumentFromBytes(Uint8List data,
+      {String? password, DocumentWarmUpOptions? warmUp}) {
     throw UnimplementedError(_notSupportedInLegacyMode);
   }
 }
@@ -144,6 +144,14 @@ abstract class NutrientFlutterPlatform extends PlatformInterface {
     String destinationPath,
   );
 
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path.
+  Future<bool?> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  );
+
   /// Imports annotations from the XFDF file at the given path.
   Future<bool?> importXfdf(String xfdfString);
 
@@ -259,6 +267,42 @@ abstract class NutrientFlutterPlatform extends PlatformInterface {
   /// Called when instant document download fails.
   InstantDownloadFailedCallback? instantDownloadFailed;
 
+  /// Calls the listeners above for each event of an Android [batch], in the
+  /// order the events were fired.
+  @protected
+  void dispatchPlatformEvents(PlatformEventBatch batch) {
+    for (var i = 0; i < batch.types.length; i++) {
+      final documentId = batch.documentIds[i] ?? '';
+      final detail = batch.details[i] ?? '';
+      switch (batch.types[i]) {
+        case 'activityPaused':
+          flutterPdfActivityOnPause?.call();
+          break;
+        case 'fragmentAdded':
+          flutterPdfFragmentAdded?.call();
+          break;
+        case 'documentLoaded':
+          flutterPdfDocumentLoaded?.call(documentId);
+          break;
+        case 'instantSyncStarted':
+          instantSyncStarted?.call(documentId);
+          break;
+        case 'instantSyncFinished':
+          instantSyncFinished?.call(documentId);
+          break;
+        case 'instantSyncFailed':
+          instantSyncFailed?.call(documentId, detail);
+          break;
+        case 'instantAuthenticationFinished':
+          instantAuthenticationFinished?.call(documentId, detail);
+          break;
+        case 'instantAuthenticationFailed':
+          instantAuthenticationFailed?.call(documentId, detail);
+          break;
+      }
+    }
+  }
+
   AnalyticsEventsListener? analyticsEventsListener;
 
   /// Gets the annotation author name.
@@ -286,10 +330,102 @@ abstract class NutrientFlutterPlatform extends PlatformInterface {
   ///
   /// @param documentPath Path to the PDF document (file path or content:// URI)
   /// @param password Optional password for encrypted documents
+  /// @param memoryMapped Read a local file through memory mapping
+  /// @param warmUp Data to preload in the background after opening
   /// @return A [PdfDocument] instance for programmatic access
   /// @throws Exception if the document cannot be opened
   Future<PdfDocument> openDocument(
     String documentPath, {
     String? password,
+    bool memoryMapped = false,
+    DocumentWarmUpOptions? warmUp,
+  });
+
+  /// Opens several documents without displaying a viewer, loading up to
+  /// [maxConcurrency] of them in parallel.
+  ///
+  /// @param requests The documents to open
+  /// @param maxConcurrency Maximum number of documents loaded in parallel
+  /// @return A stream with one result per document, in completion order
+  Stream<DocumentBatchOpenResult> openDocuments(
+    List<DocumentOpenRequest> requests, {
+    int? maxConcurrency,
+  });
+
+  /// Opens a document from bytes in memory without displaying a viewer.
+  ///
+  /// The returned [PdfDocument] must be closed when no longer needed by
+  /// calling [PdfDocument.close] to release native resources.
+  ///
+  /// @param data The PDF document bytes
+  /// @param password Optional password for encrypted documents
+  /// @param warmUp Data to preload in the background after opening
+  /// @return A [PdfDocument] instance for programmatic access
+  /// @throws Exception if the document cannot be opened
+  Future<PdfDocument> openDocumentFromBytes(
+    Uint8List data, {
+    String? password,
+    DocumentWarmUpOptions? warmUp,
   });
+
+  /// Merges the pages selected by each [DocumentMergeSource] into a new
+  /// document at [outputPath], without displaying a viewer.
+  ///
+  /// @param sources The documents and page ranges to merge, in output order
+  /// @param outputPath Path where the merged document will be written
+  /// @return The number of pages written to the merged document
+  /// @throws Exception if a source cannot be opened or a range is invalid
+  Future<int> mergeDocuments(
+    List<DocumentMergeSource> sources,
+    String outputPath,
+  );
+
+  /// Splits the document at [documentPath] into one new document per
+  /// [DocumentSplitTarget], without displaying a viewer.
+  ///
+  /// @param documentPath Path to the PDF document to split
+  /// @param targets The page ranges and output paths to write
+  /// @param password Optional password for encrypted documents
+  /// @return The output paths that were written, in the order of [targets]
+  /// @throws Exception if the document cannot be opened or a range is invalid
+  Future<List<String>> splitDocument(
+    String documentPath,
+    List<DocumentSplitTarget> targets, {
+    String? password,
+  });
+
+  /// Fills a form template once per row of a CSV or JSON dataset and writes
+  /// one document per row, without displaying a viewer.
+  ///
+  /// @param request The template, dataset and output settings
+  /// @return The written paths, the failed rows and the throughput
+  /// @throws Exception if the template or the dataset cannot be read
+  Future<MailMergeResult> mailMerge(MailMergeRequest request);
+
+  /// Configures the budget of the pool of resident headless documents.
+  ///
+  /// @param configuration The new budget, null values keep the current setting
+  /// @throws Exception if a value is out of range
+  Future<void> configureDocumentPool(DocumentPoolConfiguration configuration);
+
+  /// Returns gauges of the pool of resident headless documents.
+  Future<DocumentPoolStatistics> getDocumentPoolStatistics();
+
+  /// Pins a headless document so it is never released by the pool.
+  ///
+  /// @param documentId The [PdfDocument.documentId] of a headless document
+  /// @throws Exception if no document with this ID is open
+  Future<void> pinDocument(String documentId);
+
+  /// Removes a pin added with [pinDocument].
+  ///
+  /// @param documentId The [PdfDocument.documentId] of a headless document
+  /// @throws Exception if no document with this ID is open
+  Future<void> unpinDocument(String documentId);
+
+  /// Sets the maximum size of the persistent thumbnail cache in bytes.
+  Future<void> configureThumbnailCache(int maxBytes);
+
+  /// Deletes all thumbnails from the persistent thumbnail cache.
+  Future<void> clearThumbnailCache();
 }
@@ -8,6 +8,7 @@
 ///
 
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:flutter_web_plugins/flutter_web_plugins.dart';
 import 'package:nutrient_flutter/nutrient_flutter.dart';
@@ -109,6 +110,14 @@ class NutrientFlutterWeb extends NutrientFlutterPlatform {
     throw UnimplementedError(_notSupportedOnWebMessage);
   }
 
+  @override
+  Future<bool?> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) {
+    throw UnimplementedError(_notSupportedOnWebMessage);
+  }
+
   @override
   Future<bool?> removeAnnotation(annotation) {
     throw UnimplementedError(_notSupportedOnWebMessage);
@@ -269,7 +278,82 @@ class NutrientFlutterWeb extends NutrientFlutterPlatform {
   }
 
   @override
-  Future<PdfDocument> openDocument(String documentPath, {String? password}) {
+  Future<PdfDocument> openDocument(String documentPath,
+      {String? password,
+      bool memoryMapped = false,
+      DocumentWarmUpOptions? warmUp}) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform. Use NutrientView instead.');
+  }
+
+  @override
+  Future<int> mergeDocuments(
+      List<DocumentMergeSource> sources, String outputPath) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<List<String>> splitDocument(
+      String documentPath, List<DocumentSplitTarget> targets,
+      {String? password}) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<MailMergeResult> mailMerge(MailMergeRequest request) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<void> configureDocumentPool(DocumentPoolConfiguration configuration) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<DocumentPoolStatistics> getDocumentPoolStatistics() {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<void> pinDocument(String documentId) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<void> unpinDocument(String documentId) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<void> configureThumbnailCache(int maxBytes) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Future<void> clearThumbnailCache() {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform.');
+  }
+
+  @override
+  Stream<DocumentBatchOpenResult> openDocuments(
+      List<DocumentOpenRequest> requests,
+      {int? maxConcurrency}) {
+    throw UnimplementedError(
+        'Headless document API is not yet supported on web platform. Use NutrientView instead.');
+  }
+
+  @override
+  Future<PdfDocument> openDocumentFromBytes(Uint8List data,
+      {String? password, DocumentWarmUpOptions? warmUp}) {
     throw UnimplementedError(
         'Headless document API is not yet supported on web platform. Use NutrientView instead.');
   }
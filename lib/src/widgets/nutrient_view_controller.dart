@@ -20,6 +20,20 @@ abstract class NutrientViewController {
     String destinationPath,
   );
 
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged.
+  Future<bool?> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  );
+
+  /// Sets the values of several form fields of the presented document at once.
+  /// Returns the fields that could not be set, empty if all were set.
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values);
+
   /// Imports annotations from the XFDF file at the given path.
   Future<bool?> importXfdf(String xfdfPath);
 
@@ -80,6 +80,21 @@ class NutrientViewControllerNative
         type, processingMode, destinationPath);
   }
 
+  @override
+  Future<bool?> processAnnotationsOnPages(
+      AnnotationProcessingMode processingMode,
+      String destinationPath,
+      List<AnnotationProcessingScope> scopes) {
+    return _pspdfkitWidgetControllerApi.processAnnotationsOnPages(
+        processingMode, destinationPath, scopes);
+  }
+
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) {
+    return _pspdfkitWidgetControllerApi.setFormFieldValues(values);
+  }
+
   @override
   Future<bool?> save() {
     return _pspdfkitWidgetControllerApi.save();
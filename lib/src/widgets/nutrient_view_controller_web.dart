@@ -57,6 +57,21 @@ class NutrientViewControllerWeb extends NutrientViewController
     throw UnimplementedError('This method is not supported on the web!');
   }
 
+  @override
+  Future<bool?> processAnnotationsOnPages(
+    AnnotationProcessingMode processingMode,
+    String destinationPath,
+    List<AnnotationProcessingScope> scopes,
+  ) {
+    throw UnimplementedError('This method is not supported on the web!');
+  }
+
+  @override
+  Future<List<FormFieldWriteError>> setFormFieldValues(
+      Map<String, String> values) {
+    throw UnimplementedError('This method is not supported on the web!');
+  }
+
   @override
   Future<bool?> save() async {
     await instance.save().toDart;
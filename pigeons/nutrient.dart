@@ -432,6 +432,18 @@ abstract class NutrientApi {
   @async
   bool? setAnnotationMenuConfiguration(
       AnnotationMenuConfigurationData configuration);
+
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  @async
+  bool? processAnnotationsOnPages(AnnotationProcessingMode processingMode,
+      String destinationPath, List<AnnotationProcessingScope> scopes);
 }
 
 @FlutterApi()
@@ -473,6 +485,14 @@ abstract class NutrientApiCallbacks {
   void onInstantDownloadFailed(String documentId, String error);
 }
 
+/// Events of native PDF activities and Instant documents on Android,
+/// batched once per frame.
+@FlutterApi()
+abstract class PlatformEventCallbacks {
+  /// Called with all events fired since the previous batch.
+  void onEvents(PlatformEventBatch batch);
+}
+
 @HostApi()
 abstract class NutrientViewControllerApi {
   /// Sets the value of a form field by specifying its fully qualified field name.
@@ -613,6 +633,27 @@ abstract class NutrientViewControllerApi {
   /// [pageIndex] is zero-based.
   @async
   PointF convertPdfPointToViewPoint(int pageIndex, PointF point);
+
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  @async
+  bool processAnnotationsOnPages(AnnotationProcessingMode processingMode,
+      String destinationPath, List<AnnotationProcessingScope> scopes);
+
+  /// Sets the values of several form fields of the presented document at once.
+  ///
+  /// See [PdfDocumentApi.setFormFieldValues].
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  @async
+  List<FormFieldWriteError> setFormFieldValues(Map<String, String> values);
 }
 
 @HostApi()
@@ -924,6 +965,285 @@ abstract class PdfDocumentApi {
   /// @throws On iOS/Android
   @async
   bool webHasUnsavedChanges();
+
+  /// Processes annotations only on the pages selected by [scopes] and stores
+  /// the PDF at the given destination path. Pages outside of the scopes are
+  /// copied unchanged, so the work scales with the number of pages processed.
+  ///
+  /// @param processingMode The processing mode (flatten, embed, remove, print)
+  /// @param destinationPath The path where the processed PDF should be saved
+  /// @param scopes The page ranges and annotation types to process
+  /// @return true if processing succeeded, false otherwise
+  @async
+  bool processAnnotationsOnPages(AnnotationProcessingMode processingMode,
+      String destinationPath, List<AnnotationProcessingScope> scopes);
+
+  /// Exports any combination of a flattened PDF, an XFDF file and an Instant
+  /// JSON snapshot in a single call.
+  ///
+  /// The annotations are collected once and shared by the flattened PDF and
+  /// the XFDF file. The Instant JSON snapshot collects them again, as the
+  /// SDK formatter cannot take a list of annotations. All artifacts are
+  /// written concurrently.
+  ///
+  /// @param request The artifacts to export and their output paths
+  /// @return One result with timing per exported artifact, in request order
+  @async
+  List<DocumentExportResult> exportArtifacts(DocumentExportRequest request);
+
+  /// Searches the page text for the given regular expressions and covers
+  /// every match with a redaction annotation.
+  ///
+  /// Pages are scanned in parallel. When [RedactionRequest.outputPath] is
+  /// set, the redactions are also applied and the redacted document is
+  /// written to that path.
+  ///
+  /// @param request The patterns, pages and output of the redaction
+  /// @return The matches per page and the scan throughput
+  @async
+  RedactionResult redactPatterns(RedactionRequest request);
+
+  /// Waits for the warm-up requested in [HeadlessDocumentOpenOptions.warmUp]
+  /// and returns the timing of each phase.
+  ///
+  /// @return The warm-up timings, with no phases if no warm-up was requested
+  @async
+  DocumentWarmUpResult getWarmUpResult();
+
+  /// Renders a page to an encoded image without a viewer.
+  ///
+  /// Rendered pages are kept in an in-memory cache, so rendering the same page
+  /// at the same size again only encodes it. Different pages can be rendered
+  /// concurrently.
+  ///
+  /// @param pageIndex Zero-based index of the page to render
+  /// @param width Width of the image in pixels
+  /// @param height Height of the image in pixels
+  /// @param options Format, output and cache options
+  /// @return The encoded image or the path of the image file
+  @async
+  RenderedPage renderPage(
+      int pageIndex, int width, int height, PageRenderOptions? options);
+
+  /// Returns a thumbnail of a page from the persistent thumbnail cache, rendering
+  /// it first if needed.
+  ///
+  /// Thumbnails are rendered at the smallest size bucket of 64, 128, 256, 512,
+  /// 1024 or 2048 pixels that is at least [maxSize], so the longer side of the
+  /// thumbnail may be larger than requested.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @param maxSize Minimum length of the longer side in pixels
+  /// @return The cached thumbnail file and its size
+  @async
+  ThumbnailResult getThumbnail(int pageIndex, int maxSize);
+
+  /// Renders the thumbnails of the given pages into the thumbnail cache in the
+  /// background. Completes once all thumbnails are cached.
+  ///
+  /// @param pageIndexes Zero-based indexes of the pages
+  /// @param maxSize Minimum length of the longer side in pixels
+  @async
+  void prefetchThumbnails(List<int> pageIndexes, int maxSize);
+
+  /// Returns the text of a page.
+  ///
+  /// The text is cached until the document is saved.
+  ///
+  /// @param pageIndex Zero-based index of the page
+  /// @return The text of the page
+  @async
+  String getPageText(int pageIndex);
+
+  /// Extracts the text of all pages.
+  ///
+  /// Up to [maxConcurrency] pages are extracted at the same time. The pages
+  /// are sent in order, [pagesPerChunk] at a time, to
+  /// [PageTextExtractionCallbacks.onPageTextChunk] on the channel suffixed with
+  /// [extractionId]. All chunks are sent before this method completes.
+  ///
+  /// @param extractionId Message channel suffix for the chunk callbacks
+  /// @param maxConcurrency Maximum number of pages extracted in parallel, defaults to 4
+  /// @param pagesPerChunk Number of pages per chunk, defaults to 16
+  /// @return Totals of the extraction
+  @async
+  TextExtractionSummary extractAllText(
+      String extractionId, int? maxConcurrency, int? pagesPerChunk);
+
+  /// Searches the text of all pages using the search index of the document.
+  ///
+  /// The index is stored on disk and reused for the same document file. Documents
+  /// shown in a view start loading or building it in the background once they are
+  /// loaded, other documents on their first search. The index is only updated
+  /// when the document is saved in place, so unsaved changes are not found. The
+  /// hits of each page are sent in page order to
+  /// [TextSearchCallbacks.onPageResult] on the channel suffixed with [searchId].
+  /// All pages are sent before this method completes.
+  ///
+  /// @param searchId Message channel suffix for the page callbacks
+  /// @param query The text to search for
+  /// @param options Optional search settings
+  /// @return Totals of the search
+  @async
+  TextSearchSummary searchText(
+      String searchId, String query, TextSearchOptions? options);
+
+  /// Returns the form fields that changed since the previous call as a JSON string.
+  ///
+  /// Changes are collected from the first form field request on the document,
+  /// so the first call after [getFormFieldsJson] returns the fields changed
+  /// since then. The JSON has the same format as [getFormFieldsJson]. Removed
+  /// fields are not included.
+  @async
+  String getDirtyFormFieldsJson();
+
+  /// Sets the values of several form fields at once.
+  ///
+  /// Values use the same format as [setFormFieldValue]. All fields are looked
+  /// up in one pass over the form and the values are applied together, so
+  /// the viewer refreshes once for the whole batch. Fields that cannot be set
+  /// are skipped and reported.
+  ///
+  /// @param values Values by fully qualified field name
+  /// @return The fields that could not be set, empty if all were set
+  @async
+  List<FormFieldWriteError> setFormFieldValues(Map<String, String> values);
+
+  /// Returns the typed values of several form fields in one call.
+  ///
+  /// @param fullyQualifiedNames Names of the fields to read, or null for all fields
+  /// @return The values in form order. Names without a matching field are left out.
+  @async
+  List<FormFieldValue> getFormFieldValues(List<String>? fullyQualifiedNames);
+
+  /// Replaces the form validation rules of the document.
+  ///
+  /// Rules are checked natively. After this call every field is validated once,
+  /// afterwards only fields changed since the previous validation are checked
+  /// again. Pass an empty list to remove all rules.
+  ///
+  /// @param rules The rules, checked in this order
+  /// @throws NutrientApiError if a field does not exist or a rule is invalid
+  @async
+  void setFormValidationRules(List<FormValidationRule> rules);
+
+  /// Returns the violations of the form validation rules.
+  ///
+  /// Only fields whose value changed since the previous call are checked again,
+  /// together with fields that must equal them, so calling this on every
+  /// `formFieldValuesUpdated` event stays cheap.
+  ///
+  /// @return All current violations, in the order of the rules
+  @async
+  List<FormValidationViolation> validateFormFields();
+
+  /// Returns the JSON of the form fields in the subtree named by [prefix].
+  ///
+  /// Names are matched per dot separated segment, so `applicant.address`
+  /// matches the field `applicant.address` and every field below it, but not
+  /// `applicant.addressee`. An empty prefix matches all fields.
+  ///
+  /// @param prefix Fully qualified name of the subtree
+  /// @return A JSON array of the fields, in form order
+  @async
+  String getFormFieldsJsonByPrefix(String prefix);
+
+  /// Returns the typed values of the form fields in the subtree named by [prefix].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @return The values in form order
+  @async
+  List<FormFieldValue> getFormFieldValuesByPrefix(String prefix);
+
+  /// Sets the values of several form fields in the subtree named by [prefix].
+  ///
+  /// Keys of [values] are names relative to [prefix], e.g. `street` for the
+  /// field `applicant.address.street` when the prefix is `applicant.address`.
+  /// Values use the format of [setFormFieldValue].
+  ///
+  /// @param prefix Fully qualified name of the subtree, see [getFormFieldsJsonByPrefix]
+  /// @param values Relative field names mapped to their new values
+  /// @return The fields that could not be set, with fully qualified names
+  @async
+  List<FormFieldWriteError> setFormFieldValuesByPrefix(
+      String prefix, Map<String, String> values);
+
+  /// Returns the JSON of all form fields without their widget annotations.
+  ///
+  /// Same as [getFormFieldsJson] without the `annotation` and `annotations`
+  /// members, which hold the Instant JSON of the widget annotation and are the
+  /// most expensive part of the serialization. Use
+  /// [getFormFieldAnnotationsJson] to load them for single fields when needed.
+  ///
+  /// @return A JSON array of the fields, in form order
+  @async
+  String getLeanFormFieldsJson();
+
+  /// Returns the Instant JSON of the widget annotations of a form field.
+  ///
+  /// @param fullyQualifiedName Fully qualified name of the field
+  /// @return A JSON array with one Instant JSON object per widget
+  /// @throws NutrientApiError if there is no field with this name
+  @async
+  String getFormFieldAnnotationsJson(String fullyQualifiedName);
+
+  /// Imports form field values from an XFDF or FDF file.
+  ///
+  /// The file is parsed as a stream in the background, annotations and other
+  /// non-form data are ignored. Values are applied [chunkSize] fields at a
+  /// time, each chunk in its own short main thread task, so a viewer stays
+  /// responsive while a large form is filled. After every chunk, the
+  /// progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId]. Fields that cannot be set are
+  /// reported in the result and do not stop the import.
+  ///
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the XFDF or FDF file
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields applied per main thread task, defaults to 250
+  /// @return Totals and failed fields of the import
+  @async
+  FormDataTransferResult importFormData(
+      String transferId, String path, String? format, int? chunkSize);
+
+  /// Exports the values of all form fields to an XFDF or FDF file.
+  ///
+  /// Values are read and written [chunkSize] fields at a time in the
+  /// background and streamed to the file, without building the whole
+  /// document in memory. Annotations are not exported. After every chunk,
+  /// the progress is sent to [FormDataTransferCallbacks.onProgress] on the
+  /// channel suffixed with [transferId].
+  ///
+  /// @param transferId Message channel suffix for the progress callbacks
+  /// @param path Path of the file to write, an existing file is replaced
+  /// @param format `xfdf` or `fdf`, inferred from the file extension when null
+  /// @param chunkSize Number of fields written per chunk, defaults to 250
+  /// @return Totals of the export
+  @async
+  FormDataTransferResult exportFormData(
+      String transferId, String path, String? format, int? chunkSize);
+}
+
+/// Progress of [PdfDocumentApi.extractAllText].
+@FlutterApi()
+abstract class PageTextExtractionCallbacks {
+  /// Called for every chunk of extracted pages, in chunk order.
+  void onPageTextChunk(PageTextChunk chunk);
+}
+
+/// Results of [PdfDocumentApi.searchText].
+@FlutterApi()
+abstract class TextSearchCallbacks {
+  /// Called for every page with hits, in page order.
+  void onPageResult(TextSearchPageResult result);
+}
+
+/// Progress of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+@FlutterApi()
+abstract class FormDataTransferCallbacks {
+  /// Called after every chunk of fields.
+  void onProgress(FormDataTransferProgress progress);
 }
 
 /// Options for opening a document without a viewer (headless mode).
@@ -931,7 +1251,16 @@ class HeadlessDocumentOpenOptions {
   /// Password for encrypted documents.
   final String? password;
 
-  HeadlessDocumentOpenOptions({this.password});
+  /// Reads a local document file through memory mapping instead of streams,
+  /// which speeds up random page access in very large documents. Only applies
+  /// to file paths and is currently only supported on Android.
+  final bool? memoryMapped;
+
+  /// Data to preload in the background after the document was opened.
+  /// Currently only supported on Android.
+  final DocumentWarmUpOptions? warmUp;
+
+  HeadlessDocumentOpenOptions({this.password, this.memoryMapped, this.warmUp});
 }
 
 /// API for opening and managing PDF documents without displaying a viewer.
@@ -972,6 +1301,127 @@ abstract class HeadlessDocumentApi {
   @async
   String openDocument(
       String documentPath, HeadlessDocumentOpenOptions? options);
+
+  /// Merges pages from several documents into a single new document.
+  ///
+  /// Sources are opened and written in batches, so large merges never keep
+  /// every input document open at the same time.
+  ///
+  /// @param sources The documents and page ranges to merge, in output order
+  /// @param outputPath Path where the merged document will be written
+  /// @return The number of pages written to the merged document
+  /// @throws NutrientApiError if a source cannot be opened or a range is invalid
+  @async
+  int mergeDocuments(List<DocumentMergeSource> sources, String outputPath);
+
+  /// Splits a document into several new documents, one per target.
+  ///
+  /// The source document is opened once and the targets are written in
+  /// parallel, since each output is independent of the others.
+  ///
+  /// @param documentPath Path to the PDF document to split
+  /// @param targets The page ranges and output paths to write
+  /// @param options Optional settings like password for encrypted documents
+  /// @return The output paths that were written, in the order of [targets]
+  /// @throws NutrientApiError if the document cannot be opened or a range is invalid
+  @async
+  List<String> splitDocument(String documentPath,
+      List<DocumentSplitTarget> targets, HeadlessDocumentOpenOptions? options);
+
+  /// Configures the budget of the pool of resident headless documents.
+  ///
+  /// When the pool is over budget, the least recently used documents are
+  /// released. A released document keeps its ID and is reopened
+  /// transparently the next time it is used. Documents that stay unused for
+  /// the close timeout are closed and their ID becomes invalid.
+  ///
+  /// @param configuration The new budget, null values keep the current setting
+  /// @throws NutrientApiError if a value is out of range
+  @async
+  void configureDocumentPool(DocumentPoolConfiguration configuration);
+
+  /// Returns gauges of the pool of resident headless documents.
+  @async
+  DocumentPoolStatistics getDocumentPoolStatistics();
+
+  /// Pins a headless document so it is never released by the pool.
+  ///
+  /// Pins are counted, every call needs a matching [unpinDocument].
+  ///
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  @async
+  void pinDocument(String documentId);
+
+  /// Removes a pin added with [pinDocument].
+  ///
+  /// @param documentId The ID returned by [openDocument]
+  /// @throws NutrientApiError if no document with this ID is open
+  @async
+  void unpinDocument(String documentId);
+
+  /// Opens a document from bytes in memory without displaying a viewer.
+  ///
+  /// The bytes are read directly from memory, so a downloaded document does
+  /// not have to be written to disk first. The returned document ID works
+  /// like one returned by [openDocument].
+  ///
+  /// @param data The PDF document bytes
+  /// @param options Optional settings like password for encrypted documents
+  /// @return Unique document ID for use with PdfDocumentApi
+  /// @throws NutrientApiError if the document cannot be opened
+  @async
+  String openDocumentFromBytes(
+      Uint8List data, HeadlessDocumentOpenOptions? options);
+
+  /// Opens several documents without displaying a viewer.
+  ///
+  /// At most [maxConcurrency] documents are loaded at the same time. Each
+  /// result is sent to [HeadlessDocumentOpenCallbacks.onDocumentOpened] on the
+  /// channel suffixed with [batchId] as soon as its document is opened. A
+  /// document that fails to open is reported in its result and does not
+  /// affect the rest of the batch.
+  ///
+  /// @param batchId Message channel suffix for the per-document callbacks
+  /// @param requests The documents to open
+  /// @param maxConcurrency Maximum number of parallel loads, defaults to 4
+  /// @return The results of all documents, in the order they completed
+  @async
+  List<DocumentOpenResult> openDocuments(String batchId,
+      List<DocumentOpenRequest> requests, int? maxConcurrency);
+
+  /// Sets the maximum size of the persistent thumbnail cache, 64 MB by default.
+  /// Least recently used thumbnails are deleted to stay within the limit.
+  ///
+  /// @param maxBytes Maximum total size of the cached thumbnails in bytes
+  @async
+  void configureThumbnailCache(int maxBytes);
+
+  /// Deletes all thumbnails from the persistent thumbnail cache.
+  @async
+  void clearThumbnailCache();
+
+  /// Fills the template form once per dataset row and writes one document per row.
+  ///
+  /// The template is read once and every row works on its own copy-on-write
+  /// document over the shared template bytes, so rows are processed in parallel.
+  /// Values use the format of [PdfDocumentApi.setFormFieldValue]. Columns that
+  /// match no form field are ignored, so they can be used in file names. A row
+  /// with an invalid value is reported in [MailMergeResult.errors] and does not
+  /// abort the run.
+  ///
+  /// @param request The template, dataset and output settings
+  /// @return The written paths, the failed rows and the throughput
+  /// @throws NutrientApiError if the template or the dataset cannot be read
+  @async
+  MailMergeResult mailMerge(MailMergeRequest request);
+}
+
+/// Progress of [HeadlessDocumentApi.openDocuments].
+@FlutterApi()
+abstract class HeadlessDocumentOpenCallbacks {
+  /// Called for every document of the batch once it was opened or failed to open.
+  void onDocumentOpened(DocumentOpenResult result);
 }
 
 @FlutterApi()
@@ -1467,3 +1917,739 @@ abstract class BookmarkManagerApi {
   @async
   bool hasBookmarkForPage(int pageIndex);
 }
+
+/// A document and the pages to take from it when merging documents.
+class DocumentMergeSource {
+  /// Path to the PDF document (file path or content:// URI).
+  final String documentPath;
+
+  /// Pages to take from the document, e.g. `1-3,5,8-`. Page numbers are
+  /// one-based and pages are added in the order listed. All pages when null.
+  final String? pageRanges;
+
+  /// Password for encrypted documents.
+  final String? password;
+
+  DocumentMergeSource(
+      {required this.documentPath, this.pageRanges, this.password});
+}
+
+/// A single output document produced when splitting a document.
+class DocumentSplitTarget {
+  /// Pages to write to this output, e.g. `1-3,5`. Page numbers are one-based.
+  final String pageRanges;
+
+  /// Path where the output document will be written.
+  final String outputPath;
+
+  DocumentSplitTarget({required this.pageRanges, required this.outputPath});
+}
+
+/// Limits annotation processing to a set of pages and annotation types.
+class AnnotationProcessingScope {
+  /// Pages to process, e.g. `1-3,5,8-`. Page numbers are one-based.
+  final String pageRanges;
+
+  /// Annotation types to process on these pages. All annotation types are
+  /// processed when null or when the list contains [AnnotationType.all].
+  /// [AnnotationType.none] selects no annotations.
+  final List<AnnotationType>? types;
+
+  AnnotationProcessingScope({required this.pageRanges, this.types});
+}
+
+/// The artifacts to produce with [PdfDocumentApi.exportArtifacts].
+/// An artifact is skipped when its path is null.
+class DocumentExportRequest {
+  /// Path for a copy of the document with all annotations flattened.
+  final String? flattenedPdfPath;
+
+  /// Path for an XFDF file containing the annotations and form fields.
+  final String? xfdfPath;
+
+  /// Path for an Instant JSON snapshot of the document changes.
+  final String? instantJsonPath;
+
+  DocumentExportRequest(
+      {this.flattenedPdfPath, this.xfdfPath, this.instantJsonPath});
+}
+
+/// An artifact written by [PdfDocumentApi.exportArtifacts].
+class DocumentExportResult {
+  /// The kind of artifact: `flattenedPdf`, `xfdf` or `instantJson`.
+  final String artifact;
+
+  /// Path the artifact was written to.
+  final String outputPath;
+
+  /// Time spent writing the artifact, in milliseconds.
+  final int durationMs;
+
+  DocumentExportResult(
+      {required this.artifact,
+      required this.outputPath,
+      required this.durationMs});
+}
+
+/// Describes a pattern based redaction run by [PdfDocumentApi.redactPatterns].
+class RedactionRequest {
+  /// Regular expressions to search for, e.g. `\d{3}-\d{2}-\d{4}` for SSNs.
+  final List<String> patterns;
+
+  /// Whether the patterns are case sensitive. Defaults to true.
+  final bool? caseSensitive;
+
+  /// Pages to scan, e.g. `1-3,5`. Page numbers are one-based. All pages when null.
+  final String? pageRanges;
+
+  /// When set, the redactions are applied and the redacted document is written
+  /// to this path, leaving the document itself unchanged. Otherwise the
+  /// redaction annotations are only added.
+  final String? outputPath;
+
+  RedactionRequest(
+      {required this.patterns,
+      this.caseSensitive,
+      this.pageRanges,
+      this.outputPath});
+}
+
+/// Number of redaction matches found on a page.
+class RedactionPageResult {
+  /// Zero-based page index.
+  final int pageIndex;
+
+  /// Number of matches found on the page.
+  final int matchCount;
+
+  RedactionPageResult({required this.pageIndex, required this.matchCount});
+}
+
+/// Result of [PdfDocumentApi.redactPatterns].
+class RedactionResult {
+  /// Pages that contained at least one match, in page order.
+  final List<RedactionPageResult> pages;
+
+  /// Total number of matches across all pages.
+  final int totalMatches;
+
+  /// Number of pages that were scanned.
+  final int pagesScanned;
+
+  /// Total time spent scanning, redacting and writing, in milliseconds.
+  final int durationMs;
+
+  /// Scan throughput in pages per second, excluding redacting and writing.
+  final double pagesPerSecond;
+
+  RedactionResult(
+      {required this.pages,
+      required this.totalMatches,
+      required this.pagesScanned,
+      required this.durationMs,
+      required this.pagesPerSecond});
+}
+
+/// Budget for the pool of resident headless documents. Null values keep the
+/// current setting.
+class DocumentPoolConfiguration {
+  /// Maximum number of documents kept loaded at the same time. Defaults to 16.
+  final int? maxResidentDocuments;
+
+  /// Maximum estimated memory of loaded documents, based on their file size.
+  /// Defaults to 256 MB, 0 disables the memory budget.
+  final int? maxResidentBytes;
+
+  /// Time after which an unused document is released, in milliseconds.
+  /// Defaults to 5 minutes, 0 disables the idle timeout.
+  final int? idleTimeoutMs;
+
+  /// Time after which an unused document is closed as if
+  /// [PdfDocumentApi.closeDocument] was called, in milliseconds. Its ID
+  /// becomes invalid. Pinned documents and documents with unsaved changes are
+  /// never closed. Defaults to 0, which disables the close timeout.
+  final int? closeTimeoutMs;
+
+  DocumentPoolConfiguration(
+      {this.maxResidentDocuments,
+      this.maxResidentBytes,
+      this.idleTimeoutMs,
+      this.closeTimeoutMs});
+}
+
+/// Gauges of the pool of headless documents.
+class DocumentPoolStatistics {
+  /// Number of open headless documents, including released ones.
+  final int registeredDocuments;
+
+  /// Number of loaded documents. Handles sharing a document count once.
+  final int residentDocuments;
+
+  /// Number of pinned documents.
+  final int pinnedDocuments;
+
+  /// Estimated memory of the loaded documents, based on their file or data
+  /// size. Handles sharing a document count once.
+  final int residentBytes;
+
+  /// Number of handles released to stay within budget or after being idle.
+  final int evictions;
+
+  /// Number of times a released document was reopened on access.
+  final int reopens;
+
+  /// Number of documents closed after being unused for the close timeout.
+  final int closes;
+
+  DocumentPoolStatistics(
+      {required this.registeredDocuments,
+      required this.residentDocuments,
+      required this.pinnedDocuments,
+      required this.residentBytes,
+      required this.evictions,
+      required this.reopens,
+      required this.closes});
+}
+
+/// Data to preload in the background right after a headless document was
+/// opened, so the first call that needs it does not pay the loading cost.
+class DocumentWarmUpOptions {
+  /// Preloads the form fields.
+  final bool? formFields;
+
+  /// Preloads the size, rotation and label of every page.
+  final bool? pageInfo;
+
+  /// Preloads the document outline and the bookmarks.
+  final bool? outline;
+
+  /// Preloads the annotations of every page.
+  final bool? annotations;
+
+  DocumentWarmUpOptions(
+      {this.formFields, this.pageInfo, this.outline, this.annotations});
+}
+
+/// Timing of a single warm-up phase.
+class WarmUpPhaseTiming {
+  /// The phase: `formFields`, `pageInfo`, `outline` or `annotations`.
+  final String phase;
+
+  /// Time the phase took, in milliseconds.
+  final int durationMs;
+
+  /// Error message if the phase failed, null otherwise.
+  final String? error;
+
+  WarmUpPhaseTiming(
+      {required this.phase, required this.durationMs, this.error});
+}
+
+/// Result of the warm-up requested with [DocumentWarmUpOptions].
+class DocumentWarmUpResult {
+  /// The requested phases, in the order formFields, pageInfo, outline,
+  /// annotations. Empty if no warm-up was requested.
+  final List<WarmUpPhaseTiming> phases;
+
+  /// Wall clock time of the whole warm-up, in milliseconds. Phases run
+  /// concurrently, so this can be less than the sum of the phases.
+  final int totalDurationMs;
+
+  DocumentWarmUpResult({required this.phases, required this.totalDurationMs});
+}
+
+/// A document to open with [HeadlessDocumentApi.openDocuments].
+class DocumentOpenRequest {
+  /// Path to the PDF document (file path or content:// URI).
+  final String documentPath;
+
+  /// Optional settings like password for encrypted documents.
+  final HeadlessDocumentOpenOptions? options;
+
+  DocumentOpenRequest({required this.documentPath, this.options});
+}
+
+/// Outcome of opening one document of [HeadlessDocumentApi.openDocuments].
+class DocumentOpenResult {
+  /// Index of the document in the requested list.
+  final int index;
+
+  /// Path of the requested document.
+  final String documentPath;
+
+  /// Document ID for use with PdfDocumentApi, null if opening failed.
+  final String? documentId;
+
+  /// Error code if opening failed, e.g. `InvalidDocumentPath`.
+  final String? errorCode;
+
+  /// Error message if opening failed.
+  final String? errorMessage;
+
+  /// Time from starting to load the document until it was registered, in
+  /// milliseconds.
+  final int durationMs;
+
+  DocumentOpenResult(
+      {required this.index,
+      required this.documentPath,
+      this.documentId,
+      this.errorCode,
+      this.errorMessage,
+      required this.durationMs});
+}
+
+/// Options for [PdfDocumentApi.renderPage].
+class PageRenderOptions {
+  /// Image format: `png`, `jpeg` or `webp`. Defaults to `png`.
+  final String? format;
+
+  /// Compression quality from 0 to 100 for `jpeg` and `webp`. Defaults to 90.
+  final int? quality;
+
+  /// Writes the image to this path instead of returning its bytes.
+  final String? outputPath;
+
+  /// Writes the image to a temporary file in the app cache directory instead
+  /// of returning its bytes.
+  /// Ignored if [outputPath] is set.
+  final bool? asFile;
+
+  /// Whether annotations are rendered. Defaults to true.
+  final bool? renderAnnotations;
+
+  /// Page background color as ARGB integer. Defaults to the paper color.
+  final int? backgroundColor;
+
+  /// Whether the rendered page may be served from and stored in the in-memory
+  /// page cache. Defaults to true.
+  final bool? useCache;
+
+  PageRenderOptions(
+      {this.format,
+      this.quality,
+      this.outputPath,
+      this.asFile,
+      this.renderAnnotations,
+      this.backgroundColor,
+      this.useCache});
+}
+
+/// A page image rendered by [PdfDocumentApi.renderPage].
+class RenderedPage {
+  /// Zero-based index of the rendered page.
+  final int pageIndex;
+
+  /// Width of the image in pixels.
+  final int width;
+
+  /// Height of the image in pixels.
+  final int height;
+
+  /// Image format of the encoded image.
+  final String format;
+
+  /// The encoded image, null if it was written to a file.
+  final Uint8List? imageData;
+
+  /// Path of the image file, null if the image bytes are returned.
+  final String? filePath;
+
+  /// Whether the page was served from the page cache without rendering.
+  final bool fromCache;
+
+  /// Time to render and encode the page, in milliseconds.
+  final int durationMs;
+
+  RenderedPage(
+      {required this.pageIndex,
+      required this.width,
+      required this.height,
+      required this.format,
+      this.imageData,
+      this.filePath,
+      required this.fromCache,
+      required this.durationMs});
+}
+
+/// A page thumbnail from the thumbnail cache.
+class ThumbnailResult {
+  /// Zero-based index of the page.
+  final int pageIndex;
+
+  /// Path of the PNG image in the thumbnail cache. The file may be deleted when
+  /// the cache is trimmed, copy it to keep it.
+  final String filePath;
+
+  /// Width of the thumbnail in pixels.
+  final int width;
+
+  /// Height of the thumbnail in pixels.
+  final int height;
+
+  /// Whether the thumbnail was already cached on disk.
+  final bool fromCache;
+
+  ThumbnailResult(
+      {required this.pageIndex,
+      required this.filePath,
+      required this.width,
+      required this.height,
+      required this.fromCache});
+}
+
+/// The text of one page.
+class PageText {
+  /// Zero-based index of the page.
+  final int pageIndex;
+
+  /// The extracted text, in reading order.
+  final String text;
+
+  PageText({required this.pageIndex, required this.text});
+}
+
+/// A group of consecutive pages sent by [PdfDocumentApi.extractAllText].
+class PageTextChunk {
+  /// Zero-based index of the chunk.
+  final int chunkIndex;
+
+  /// The pages of the chunk, in page order.
+  final List<PageText> pages;
+
+  PageTextChunk({required this.chunkIndex, required this.pages});
+}
+
+/// Totals of a finished [PdfDocumentApi.extractAllText] run.
+class TextExtractionSummary {
+  /// Number of pages extracted.
+  final int pageCount;
+
+  /// Number of chunks sent.
+  final int chunkCount;
+
+  /// Total number of characters extracted.
+  final int characterCount;
+
+  /// Time the extraction took, in milliseconds.
+  final int durationMs;
+
+  TextExtractionSummary(
+      {required this.pageCount,
+      required this.chunkCount,
+      required this.characterCount,
+      required this.durationMs});
+}
+
+/// Options for [PdfDocumentApi.searchText].
+class TextSearchOptions {
+  /// Whether letter case must match. Defaults to false.
+  final bool? caseSensitive;
+
+  /// Stops the search after this many hits. Unlimited by default.
+  final int? maxResults;
+
+  /// Number of characters before and after a hit included in its preview.
+  /// Defaults to 40.
+  final int? contextLength;
+
+  TextSearchOptions({this.caseSensitive, this.maxResults, this.contextLength});
+}
+
+/// One occurrence of the search query.
+class TextSearchHit {
+  /// Offset of the hit in the page text, see [PdfDocumentApi.getPageText].
+  final int offset;
+
+  /// Length of the hit in characters.
+  final int length;
+
+  /// The hit and the text around it, with line breaks replaced by spaces.
+  final String preview;
+
+  /// Offset of the hit in [preview].
+  final int previewOffset;
+
+  TextSearchHit(
+      {required this.offset,
+      required this.length,
+      required this.preview,
+      required this.previewOffset});
+}
+
+/// The hits of [PdfDocumentApi.searchText] on one page.
+class TextSearchPageResult {
+  /// Zero-based index of the page.
+  final int pageIndex;
+
+  /// The hits on the page, in reading order.
+  final List<TextSearchHit> hits;
+
+  TextSearchPageResult({required this.pageIndex, required this.hits});
+}
+
+/// Totals of a finished [PdfDocumentApi.searchText] run.
+class TextSearchSummary {
+  /// Number of hits found.
+  final int hitCount;
+
+  /// Number of pages with hits.
+  final int pageCount;
+
+  /// Whether hits were left out because of [TextSearchOptions.maxResults].
+  final bool truncated;
+
+  /// Time the search took, including building the index if needed, in
+  /// milliseconds.
+  final int durationMs;
+
+  TextSearchSummary(
+      {required this.hitCount,
+      required this.pageCount,
+      required this.truncated,
+      required this.durationMs});
+}
+
+/// A form field value that could not be set by a batch write.
+class FormFieldWriteError {
+  /// Fully qualified name of the field.
+  final String fullyQualifiedName;
+
+  /// Error code, e.g. `FormFieldNotFound` or `InvalidValue`.
+  final String errorCode;
+
+  /// Description of the error.
+  final String message;
+
+  FormFieldWriteError(
+      {required this.fullyQualifiedName,
+      required this.errorCode,
+      required this.message});
+}
+
+/// The typed value of a form field.
+///
+/// Only the members that apply to [type] are set.
+class FormFieldValue {
+  /// Fully qualified name of the field.
+  final String fullyQualifiedName;
+
+  /// Type of the field.
+  final PdfFormFieldTypes type;
+
+  /// Text of a text field, or the custom text of an editable combo box.
+  final String? text;
+
+  /// Whether a checkbox is checked, or whether any button of a radio group is
+  /// selected.
+  final bool? isSelected;
+
+  /// Selected option indexes of a list or combo box, or the index of the
+  /// selected button of a radio group.
+  final List<int>? selectedIndexes;
+
+  FormFieldValue(
+      {required this.fullyQualifiedName,
+      required this.type,
+      this.text,
+      this.isSelected,
+      this.selectedIndexes});
+}
+
+/// Describes a mail merge run with [HeadlessDocumentApi.mailMerge].
+class MailMergeRequest {
+  /// Path to the PDF form used as template (file path or content:// URI).
+  final String templatePath;
+
+  /// Password of the template, if it is encrypted.
+  final String? templatePassword;
+
+  /// Path to the dataset, a CSV file with a header row or a JSON array of
+  /// objects. Column names and object keys are fully qualified form field names.
+  final String dataPath;
+
+  /// Format of the dataset, `csv` or `json`. Inferred from the extension of
+  /// [dataPath] when null.
+  final String? dataFormat;
+
+  /// Directory where the filled documents are written. Created if needed.
+  final String outputDirectory;
+
+  /// Name of each output file. `{row}` is replaced by the one-based row number
+  /// and `{<column>}` by the value of that column. `row-{row}.pdf` when null.
+  final String? fileNamePattern;
+
+  /// Whether to flatten the form fields of the outputs.
+  final bool? flatten;
+
+  /// Maximum number of rows processed at the same time. 4 when null.
+  final int? maxConcurrency;
+
+  MailMergeRequest(
+      {required this.templatePath,
+      this.templatePassword,
+      required this.dataPath,
+      this.dataFormat,
+      required this.outputDirectory,
+      this.fileNamePattern,
+      this.flatten,
+      this.maxConcurrency});
+}
+
+/// A dataset row that could not be written by a mail merge.
+class MailMergeRowError {
+  /// Zero-based index of the row in the dataset, not counting the CSV header.
+  final int rowIndex;
+
+  /// Error code, e.g. `InvalidValue` or `MailMergeError`.
+  final String errorCode;
+
+  /// Description of the error.
+  final String message;
+
+  MailMergeRowError(
+      {required this.rowIndex, required this.errorCode, required this.message});
+}
+
+/// Outcome of [HeadlessDocumentApi.mailMerge].
+class MailMergeResult {
+  /// Number of rows in the dataset.
+  final int rowCount;
+
+  /// Path of the document written for each row, null for failed rows.
+  final List<String?> outputPaths;
+
+  /// Rows that failed, in row order.
+  final List<MailMergeRowError> errors;
+
+  /// Duration of the whole run in milliseconds.
+  final int durationMs;
+
+  /// Number of rows processed per second.
+  final double rowsPerSecond;
+
+  MailMergeResult(
+      {required this.rowCount,
+      required this.outputPaths,
+      required this.errors,
+      required this.durationMs,
+      required this.rowsPerSecond});
+}
+
+/// A validation rule for one form field, see [PdfDocumentApi.setFormValidationRules].
+class FormValidationRule {
+  /// Fully qualified name of the validated field.
+  final String fullyQualifiedName;
+
+  /// Kind of rule: `required`, `pattern`, `range` or `equals`.
+  final String ruleType;
+
+  /// Regular expression the whole value must match, for `pattern` rules.
+  final String? pattern;
+
+  /// Smallest allowed number, for `range` rules.
+  final double? minimum;
+
+  /// Largest allowed number, for `range` rules.
+  final double? maximum;
+
+  /// Fully qualified name of the field the value must equal, for `equals`
+  /// rules.
+  final String? otherFieldName;
+
+  /// Message reported when the rule is violated. A default message is used
+  /// when null.
+  final String? message;
+
+  FormValidationRule(
+      {required this.fullyQualifiedName,
+      required this.ruleType,
+      this.pattern,
+      this.minimum,
+      this.maximum,
+      this.otherFieldName,
+      this.message});
+}
+
+/// A violated [FormValidationRule].
+class FormValidationViolation {
+  /// Fully qualified name of the invalid field.
+  final String fullyQualifiedName;
+
+  /// Kind of the violated rule.
+  final String ruleType;
+
+  /// Message of the violated rule.
+  final String message;
+
+  FormValidationViolation(
+      {required this.fullyQualifiedName,
+      required this.ruleType,
+      required this.message});
+}
+
+/// Progress of a form data import or export, sent after every chunk.
+class FormDataTransferProgress {
+  /// Number of fields processed so far.
+  final int fieldCount;
+
+  /// Number of fields that could not be imported so far.
+  final int errorCount;
+
+  /// Time since the transfer started, in milliseconds.
+  final int elapsedMs;
+
+  /// Fields processed per second so far.
+  final double fieldsPerSecond;
+
+  FormDataTransferProgress(
+      {required this.fieldCount,
+      required this.errorCount,
+      required this.elapsedMs,
+      required this.fieldsPerSecond});
+}
+
+/// Outcome of [PdfDocumentApi.importFormData] and
+/// [PdfDocumentApi.exportFormData].
+class FormDataTransferResult {
+  /// Number of fields that were imported or exported, including failed ones.
+  final int fieldCount;
+
+  /// The fields that could not be imported. Always empty for exports.
+  final List<FormFieldWriteError> errors;
+
+  /// Duration of the whole transfer, in milliseconds.
+  final int durationMs;
+
+  /// Fields processed per second.
+  final double fieldsPerSecond;
+
+  FormDataTransferResult(
+      {required this.fieldCount,
+      required this.errors,
+      required this.durationMs,
+      required this.fieldsPerSecond});
+}
+
+/// Events of native PDF activities and Instant documents, in firing order.
+///
+/// The events are stored column by column, the i-th event is described by
+/// the i-th entry of every list, so the sender can reuse the same lists for
+/// every batch.
+class PlatformEventBatch {
+  /// Kind of every event: `activityPaused`, `fragmentAdded`,
+  /// `documentLoaded`, `instantSyncStarted`, `instantSyncFinished`,
+  /// `instantSyncFailed`, `instantAuthenticationFinished` or
+  /// `instantAuthenticationFailed`.
+  final List<String> types;
+
+  /// Document ID of every event, null for activity and fragment events.
+  final List<String?> documentIds;
+
+  /// Error message of failure events and JWT of
+  /// `instantAuthenticationFinished` events, null for all other events.
+  final List<String?> details;
+
+  PlatformEventBatch(
+      {required this.types, required this.documentIds, required this.details});
+}
@@ -0,0 +1,56 @@
+// ignore_for_file: deprecated_member_use_from_same_package
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:nutrient_flutter/nutrient_flutter.dart';
+import 'package:nutrient_flutter/src/nutrient_flutter_method_channel.dart';
+
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  group('Platform event batches', () {
+    test('Should call the legacy listeners in firing order', () {
+      final platform = MethodChannelNutrientFlutter();
+      final received = <String>[];
+      platform.flutterPdfActivityOnPause = () => received.add('paused');
+      platform.instantSyncStarted =
+          (documentId) => received.add('syncStarted $documentId');
+      platform.instantSyncFailed =
+          (documentId, error) => received.add('syncFailed $documentId $error');
+      platform.instantAuthenticationFinished = (documentId, validJWT) =>
+          received.add('authenticated $documentId $validJWT');
+
+      platform.onEvents(PlatformEventBatch(
+        types: [
+          'instantSyncStarted',
+          'instantAuthenticationFinished',
+          'instantSyncFailed',
+          'activityPaused',
+        ],
+        documentIds: ['doc', 'doc', 'doc', null],
+        details: [null, 'jwt', 'offline', null],
+      ));
+
+      expect(received, [
+        'syncStarted doc',
+        'authenticated doc jwt',
+        'syncFailed doc offline',
+        'paused',
+      ]);
+    });
+
+    test('Should skip events without a listener', () {
+      final platform = MethodChannelNutrientFlutter();
+      String? loadedDocumentId;
+      platform.flutterPdfDocumentLoaded =
+          (documentId) => loadedDocumentId = documentId;
+
+      platform.onEvents(PlatformEventBatch(
+        types: ['fragmentAdded', 'documentLoaded'],
+        documentIds: [null, 'doc'],
+        details: [null, null],
+      ));
+
+      expect(loadedDocumentId, 'doc');
+    });
+  });
+}